@@ -0,0 +1,14 @@
+plugins {
+  id("me.champeau.jmh") version "0.7.3"
+}
+
+testModuleInfo {
+  requires("org.junit.jupiter.api")
+  runtimeOnly("org.junit.jupiter.engine")
+}
+
+jmh {
+  // Reports gc.alloc.rate.norm, the bytes allocated per benchmark op.
+  profilers = listOf("gc")
+  resultFormat = "JSON"
+}
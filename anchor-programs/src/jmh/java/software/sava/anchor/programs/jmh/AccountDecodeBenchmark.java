@@ -0,0 +1,59 @@
+package software.sava.anchor.programs.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import software.sava.anchor.programs.jmh.Fixtures.ProgramAccount;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.BankView;
+import software.sava.core.borsh.Borsh;
+
+import java.util.concurrent.TimeUnit;
+
+import static software.sava.anchor.programs.jmh.Fixtures.KEY_A;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountDecodeBenchmark {
+
+  // Benchmarks taking this state run once per program.
+  @State(Scope.Thread)
+  public static class ProgramAccountData {
+
+    @Param
+    public ProgramAccount account;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() {
+      data = account.accountData();
+    }
+  }
+
+  private byte[] bank;
+  private BankView bankView;
+
+  @Setup
+  public void setup() {
+    bank = ProgramAccount.MARGINFI.accountData();
+    bankView = BankView.wrap(bank);
+  }
+
+  @Benchmark
+  public Borsh read(final ProgramAccountData state) {
+    return state.account.reader.read(KEY_A, state.data, 0);
+  }
+
+  // Through the program's Accounts.decode, which dispatches on the discriminator or data length.
+  @Benchmark
+  public Borsh decode(final ProgramAccountData state) {
+    return state.account.decoder.apply(KEY_A, state.data);
+  }
+
+  @Benchmark
+  public long bankViewField() {
+    return bankView.rewrap(bank).lastUpdate();
+  }
+}
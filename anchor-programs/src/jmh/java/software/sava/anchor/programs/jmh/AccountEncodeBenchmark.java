@@ -0,0 +1,54 @@
+package software.sava.anchor.programs.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import software.sava.anchor.programs.jmh.Fixtures.ProgramAccount;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.Bank;
+import software.sava.core.borsh.Borsh;
+
+import java.util.concurrent.TimeUnit;
+
+import static software.sava.anchor.programs.jmh.Fixtures.populated;
+
+// Writes into a preallocated buffer, so bytes per op reflect only the encoding itself.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountEncodeBenchmark {
+
+  // Benchmarks taking this state run once per program.
+  @State(Scope.Thread)
+  public static class ProgramAccountRecord {
+
+    @Param
+    public ProgramAccount account;
+
+    private Borsh record;
+    private byte[] buffer;
+
+    @Setup
+    public void setup() {
+      record = account.populated();
+      buffer = new byte[record.l()];
+    }
+  }
+
+  private Bank bank;
+
+  @Setup
+  public void setup() {
+    bank = populated(Bank::read, Bank.BYTES);
+  }
+
+  @Benchmark
+  public int write(final ProgramAccountRecord state) {
+    return state.record.write(state.buffer, 0);
+  }
+
+  @Benchmark
+  public byte[] bankWriteNew() {
+    return bank.write();
+  }
+}
@@ -0,0 +1,250 @@
+package software.sava.anchor.programs.jmh;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil.AccountReader;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.Ocr2Accounts;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.State;
+import software.sava.anchor.programs.chainlink.store.anchor.StoreAccounts;
+import software.sava.anchor.programs.chainlink.store.anchor.types.Transmissions;
+import software.sava.anchor.programs.flash.perpetuals.anchor.PerpetualsAccounts;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Position;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.JitoTipDistributionAccounts;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.TipDistributionAccount;
+import software.sava.anchor.programs.jito.tip_router.anchor.JitoTipRouterAccounts;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.BallotBox;
+import software.sava.anchor.programs.jupiter.dca.anchor.DcaAccounts;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.Dca;
+import software.sava.anchor.programs.jupiter.limit.anchor.LimitOrderAccounts;
+import software.sava.anchor.programs.jupiter.limit.anchor.types.Order;
+import software.sava.anchor.programs.loopscale.anchor.LoopscaleAccounts;
+import software.sava.anchor.programs.loopscale.anchor.types.Loan;
+import software.sava.anchor.programs.marginfi.v2.anchor.MarginfiAccounts;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.Bank;
+import software.sava.anchor.programs.metadao.amm.anchor.AmmAccounts;
+import software.sava.anchor.programs.metadao.amm.anchor.types.Amm;
+import software.sava.anchor.programs.metadao.autocrat.anchor.AutocratAccounts;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.Proposal;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.ConditionalVaultAccounts;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.Question;
+import software.sava.anchor.programs.metadao.launchpad.anchor.LaunchpadAccounts;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.Launch;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.AlphaVaultAccounts;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.Vault;
+import software.sava.anchor.programs.moonshot.anchor.TokenLaunchpadAccounts;
+import software.sava.anchor.programs.moonshot.anchor.types.CurveAccount;
+import software.sava.anchor.programs.raydium.launchpad.anchor.RaydiumLaunchpadAccounts;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.PoolState;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiFunction;
+
+// Deterministic account data serialized from populated records: every key, number and padding byte is set, fixed
+// length arrays are full, vectors and strings are non-empty, nested structs are non-zero and enums are past their
+// first variant, so decoding does the same work as it would for a live account.
+final class Fixtures {
+
+  static final PublicKey KEY_A = PublicKey.fromBase58Encoded("11111111111111111111111111111111");
+  static final PublicKey KEY_B = PublicKey.fromBase58Encoded("TokenkegQfeZyiNwAJbNbGKPFXCWuBvf9Ss623VQ5DA");
+  static final PublicKey KEY_C = PublicKey.fromBase58Encoded("So11111111111111111111111111111111111111112");
+
+  static final int VECTOR_LENGTH = 8;
+  static final String NAME = "benchmark.fixture";
+
+  // Decodes zeroed data of length bytes, which gives every fixed length array its length, and rebuilds the record
+  // with every value populated.
+  @SuppressWarnings("unchecked")
+  static <T extends Borsh> T populated(final AccountReader<T> reader, final int length) {
+    final T template = reader.read(KEY_A, new byte[length], 0);
+    return (T) new Populator().populate(template.getClass(), template);
+  }
+
+  // The most read account of each program, variable length accounts are given a template length past their fixed
+  // fields. JMH expands a @Param of this type to every constant.
+  enum ProgramAccount {
+
+    CHAINLINK_OCR2(Ocr2Accounts.STATE_ACCOUNT_DISCRIMINATOR, State::read, State.BYTES, Ocr2Accounts::decode),
+    CHAINLINK_STORE(
+        StoreAccounts.TRANSMISSIONS_ACCOUNT_DISCRIMINATOR,
+        Transmissions::read, Transmissions.BYTES,
+        StoreAccounts::decode
+    ),
+    FLASH_PERPETUALS(
+        PerpetualsAccounts.POSITION_ACCOUNT_DISCRIMINATOR,
+        Position::read, Position.BYTES,
+        PerpetualsAccounts::decode
+    ),
+    JITO_TIP_DISTRIBUTION(
+        TipDistributionAccount.DISCRIMINATOR,
+        TipDistributionAccount::read, 1_024,
+        JitoTipDistributionAccounts::decode
+    ),
+    // tip router accounts are told apart by length
+    JITO_TIP_ROUTER(null, BallotBox::read, BallotBox.BYTES, JitoTipRouterAccounts::decode),
+    JUPITER_DCA(DcaAccounts.DCA_ACCOUNT_DISCRIMINATOR, Dca::read, Dca.BYTES, DcaAccounts::decode),
+    JUPITER_LIMIT(LimitOrderAccounts.ORDER_ACCOUNT_DISCRIMINATOR, Order::read, 1_024, LimitOrderAccounts::decode),
+    LOOPSCALE(Loan.DISCRIMINATOR, Loan::read, Loan.BYTES, LoopscaleAccounts::decode),
+    MARGINFI(Bank.DISCRIMINATOR, Bank::read, Bank.BYTES, MarginfiAccounts::decode),
+    METADAO_AMM(AmmAccounts.AMM_ACCOUNT_DISCRIMINATOR, Amm::read, Amm.BYTES, AmmAccounts::decode),
+    METADAO_AUTOCRAT(AutocratAccounts.PROPOSAL_ACCOUNT_DISCRIMINATOR, Proposal::read, 1_024, AutocratAccounts::decode),
+    METADAO_CONDITIONAL_VAULT(
+        ConditionalVaultAccounts.QUESTION_ACCOUNT_DISCRIMINATOR,
+        Question::read, 1_024,
+        ConditionalVaultAccounts::decode
+    ),
+    METADAO_LAUNCHPAD(LaunchpadAccounts.LAUNCH_ACCOUNT_DISCRIMINATOR, Launch::read, 1_024, LaunchpadAccounts::decode),
+    METEORA_ALPHA_VAULT(Vault.DISCRIMINATOR, Vault::read, Vault.BYTES, AlphaVaultAccounts::decode),
+    MOONSHOT(
+        TokenLaunchpadAccounts.CURVE_ACCOUNT_ACCOUNT_DISCRIMINATOR,
+        CurveAccount::read, CurveAccount.BYTES,
+        TokenLaunchpadAccounts::decode
+    ),
+    RAYDIUM_LAUNCHPAD(PoolState.DISCRIMINATOR, PoolState::read, PoolState.BYTES, RaydiumLaunchpadAccounts::decode);
+
+    final Discriminator discriminator;
+    final AccountReader<? extends Borsh> reader;
+    final int templateLength;
+    final BiFunction<PublicKey, byte[], Borsh> decoder;
+
+    ProgramAccount(final Discriminator discriminator,
+                   final AccountReader<? extends Borsh> reader,
+                   final int templateLength,
+                   final BiFunction<PublicKey, byte[], Borsh> decoder) {
+      this.discriminator = discriminator;
+      this.reader = reader;
+      this.templateLength = templateLength;
+      this.decoder = decoder;
+    }
+
+    Borsh populated() {
+      return Fixtures.populated(reader, templateLength);
+    }
+
+    byte[] accountData() {
+      return Fixtures.accountData(discriminator, populated());
+    }
+  }
+
+  static byte[] accountData(final Discriminator discriminator, final Borsh account) {
+    final byte[] data = account.write();
+    if (discriminator != null) {
+      discriminator.write(data, 0);
+    }
+    return data;
+  }
+
+  private static final class Populator {
+
+    private long seed = 0x5EED;
+
+    private long next() {
+      seed = seed * 6364136223846793005L + 1442695040888963407L;
+      return seed >>> 1;
+    }
+
+    // Small enough for any unsigned 8 bit field and never zero.
+    private int nextSmall() {
+      return 1 + (int) (next() % 0x7F);
+    }
+
+    private Object populate(final Class<?> type, final Object template) {
+      if (type == long.class) {
+        return next();
+      } else if (type == int.class) {
+        return nextSmall();
+      } else if (type == short.class) {
+        return (short) nextSmall();
+      } else if (type == byte.class) {
+        return (byte) nextSmall();
+      } else if (type == boolean.class) {
+        return Boolean.TRUE;
+      } else if (type == BigInteger.class) {
+        return BigInteger.valueOf(next());
+      } else if (type == String.class) {
+        return NAME;
+      } else if (type == PublicKey.class) {
+        final byte[] key = new byte[PublicKey.PUBLIC_KEY_LENGTH];
+        fill(key);
+        return PublicKey.createPubKey(key);
+      } else if (type.isEnum()) {
+        final var constants = type.getEnumConstants();
+        return constants[constants.length - 1];
+      } else if (type.isArray()) {
+        return populateArray(type.getComponentType(), template);
+      } else if (type.isRecord() && template != null) {
+        return populateRecord(type, template);
+      } else {
+        // discriminators, options left empty and tagged unions keep their template value
+        return template;
+      }
+    }
+
+    private void fill(final byte[] bytes) {
+      for (int i = 0; i < bytes.length; ++i) {
+        bytes[i] = (byte) next();
+      }
+    }
+
+    // Fixed length arrays keep their decoded length, vectors decode as empty and are given VECTOR_LENGTH elements.
+    private Object populateArray(final Class<?> componentType, final Object template) {
+      final int templateLength = template == null ? 0 : Array.getLength(template);
+      final int length = templateLength == 0 ? VECTOR_LENGTH : templateLength;
+      if (componentType == byte.class) {
+        final byte[] bytes = new byte[length];
+        fill(bytes);
+        return bytes;
+      }
+      final Object array = Array.newInstance(componentType, length);
+      for (int i = 0; i < length; ++i) {
+        final Object element = i < templateLength ? Array.get(template, i) : elementTemplate(componentType);
+        Array.set(array, i, populate(componentType, element));
+      }
+      return array;
+    }
+
+    // Vector elements have no template, decode one from zeroed data.
+    private static Object elementTemplate(final Class<?> type) {
+      if (!type.isRecord()) {
+        return null;
+      }
+      try {
+        final int length = type.getField("BYTES").getInt(null);
+        return type.getMethod("read", byte[].class, int.class).invoke(null, new byte[length], 0);
+      } catch (final ReflectiveOperationException e) {
+        throw new IllegalStateException("No fixed length reader for " + type.getName(), e);
+      }
+    }
+
+    private Object populateRecord(final Class<?> type, final Object template) {
+      final var components = type.getRecordComponents();
+      final var types = new Class<?>[components.length];
+      final var values = new Object[components.length];
+      try {
+        for (int i = 0; i < components.length; ++i) {
+          final RecordComponent component = components[i];
+          types[i] = component.getType();
+          final Object value = component.getAccessor().invoke(template);
+          // strings are decoded along with their utf-8 bytes, which are what gets written
+          if (i > 0 && types[i] == byte[].class && values[i - 1] instanceof String string
+              && component.getName().equals('_' + components[i - 1].getName())) {
+            values[i] = string.getBytes(StandardCharsets.UTF_8);
+          } else if (component.getName().equals("_address")) {
+            values[i] = value;
+          } else {
+            values[i] = populate(types[i], value);
+          }
+        }
+        return type.getDeclaredConstructor(types).newInstance(values);
+      } catch (final ReflectiveOperationException e) {
+        throw new IllegalStateException("Failed to populate " + type.getName(), e);
+      }
+    }
+  }
+
+  private Fixtures() {
+  }
+}
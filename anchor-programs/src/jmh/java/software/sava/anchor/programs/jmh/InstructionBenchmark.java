@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import software.sava.anchor.programs.MainNetPrograms;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Position;
+import software.sava.anchor.programs.marginfi.v2.MarginfiInstructionDecoder;
+import software.sava.anchor.programs.marginfi.v2.anchor.MarginfiProgram;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiAccount;
+import software.sava.core.accounts.meta.AccountMeta;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.tx.Instruction;
+import software.sava.core.rpc.Filter;
+
+import java.util.concurrent.TimeUnit;
+
+import static software.sava.anchor.programs.jmh.Fixtures.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstructionBenchmark {
+
+  private AccountMeta invokedMarginfi;
+  private Instruction deposit;
+
+  @Setup
+  public void setup() {
+    invokedMarginfi = AccountMeta.createInvoked(MainNetPrograms.MARGINFI_V2);
+    deposit = lendingAccountDeposit();
+  }
+
+  @Benchmark
+  public Instruction lendingAccountDeposit() {
+    return MarginfiProgram.lendingAccountDeposit(
+        invokedMarginfi,
+        KEY_A, KEY_B, KEY_C, KEY_A, KEY_B, KEY_C, KEY_B,
+        1_000_000L, Boolean.TRUE
+    );
+  }
+
+  @Benchmark
+  public Borsh decodeInstruction() {
+    return MarginfiInstructionDecoder.decodeInstruction(deposit);
+  }
+
+  @Benchmark
+  public Borsh decodeMainNetInstruction() {
+    return MainNetPrograms.decodeInstruction(deposit);
+  }
+
+  @Benchmark
+  public Filter ownerFilter() {
+    return Position.createOwnerFilter(KEY_A);
+  }
+
+  @Benchmark
+  public Filter authorityFilter() {
+    return MarginfiAccount.createAuthorityFilter(KEY_B);
+  }
+}
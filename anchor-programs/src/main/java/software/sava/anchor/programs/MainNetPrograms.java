@@ -0,0 +1,106 @@
+package software.sava.anchor.programs;
+
+import software.sava.anchor.programs.chainlink.ocr2.Ocr2InstructionDecoder;
+import software.sava.anchor.programs.chainlink.store.StoreInstructionDecoder;
+import software.sava.anchor.programs.flash.perpetuals.PerpetualsInstructionDecoder;
+import software.sava.anchor.programs.jito.tip_distribution.JitoTipDistributionInstructionDecoder;
+import software.sava.anchor.programs.jito.tip_router.JitoTipRouterInstructionDecoder;
+import software.sava.anchor.programs.jupiter.dca.DcaInstructionDecoder;
+import software.sava.anchor.programs.jupiter.limit.LimitOrderInstructionDecoder;
+import software.sava.anchor.programs.loopscale.LoopscaleInstructionDecoder;
+import software.sava.anchor.programs.marginfi.v2.MarginfiInstructionDecoder;
+import software.sava.anchor.programs.metadao.amm.AmmInstructionDecoder;
+import software.sava.anchor.programs.metadao.autocrat.AutocratInstructionDecoder;
+import software.sava.anchor.programs.metadao.conditional_vault.ConditionalVaultInstructionDecoder;
+import software.sava.anchor.programs.metadao.launchpad.LaunchpadInstructionDecoder;
+import software.sava.anchor.programs.meteora.alpha_vault.AlphaVaultInstructionDecoder;
+import software.sava.anchor.programs.moonshot.TokenLaunchpadInstructionDecoder;
+import software.sava.anchor.programs.raydium.launchpad.RaydiumLaunchpadInstructionDecoder;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.tx.Instruction;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Map.entry;
+
+// Main net program ids, see main_net_programs.json, and the instruction decoder of each program.
+public final class MainNetPrograms {
+
+  // Chainlink OCR 2
+  public static final PublicKey CHAINLINK_OCR2 = PublicKey.fromBase58Encoded("cjg3oHmg9uuPsP8D6g29NWvhySJkdYdAo9D25PRbKXJ");
+
+  // Chainlink Store
+  public static final PublicKey CHAINLINK_STORE = PublicKey.fromBase58Encoded("HEvSKofvBgfaexv23kMabbYqxasxU3mQ4ibBMEmJWHny");
+
+  // Flash Trade Perpetuals
+  public static final PublicKey FLASH_PERPETUALS = PublicKey.fromBase58Encoded("FLASH6Lo6h3iasJKWDs2F8TkW2UKf3s15C8PMGuVfgBn");
+
+  // Jito Tip Distribution
+  public static final PublicKey JITO_TIP_DISTRIBUTION = PublicKey.fromBase58Encoded("4R3gSG8BpU4t19KYj8CfnbtRpnT8gtk4dvTHxVRwc2r7");
+
+  // Jito Tip Router
+  public static final PublicKey JITO_TIP_ROUTER = PublicKey.fromBase58Encoded("RouterBmuRBkPUbgEDMtdvTZ75GBdSREZR5uGUxxxpb");
+
+  // Jupiter DCA
+  public static final PublicKey JUPITER_DCA = PublicKey.fromBase58Encoded("DCA265Vj8a9CEuX1eb1LWRnDT7uK6q1xMipnNyatn23M");
+
+  // Jupiter Limit Order
+  public static final PublicKey JUPITER_LIMIT = PublicKey.fromBase58Encoded("jupoNjAxXgZ4rjzxzPMP4oxduvQsQtZzyknqvzYNrNu");
+
+  // Loopscale
+  public static final PublicKey LOOPSCALE = PublicKey.fromBase58Encoded("1oopBoJG58DgkUVKkEzKgyG9dvRmpgeEm1AVjoHkF78");
+
+  // Marginfi v2, not listed in main_net_programs.json
+  public static final PublicKey MARGINFI_V2 = PublicKey.fromBase58Encoded("MFv2hWf31Z9kbCa1snEPYctwafyhdvnV7FDnsc3QZKx");
+
+  // metaDAO AMM
+  public static final PublicKey METADAO_AMM = PublicKey.fromBase58Encoded("AMMJdEiCCa8mdugg6JPF7gFirmmxisTfDJoSNSUi5zDJ");
+
+  // metaDAO Autocrat
+  public static final PublicKey METADAO_AUTOCRAT = PublicKey.fromBase58Encoded("auToUr3CQza3D4qreT6Std2MTomfzvrEeCC5qh7ivW5");
+
+  // metaDAO Conditional Vault
+  public static final PublicKey METADAO_CONDITIONAL_VAULT = PublicKey.fromBase58Encoded("VLTX1ishMBbcX3rdBWGssxawAo1Q2X2qxYFYqiGodVg");
+
+  // metaDAO Launchpad
+  public static final PublicKey METADAO_LAUNCHPAD = PublicKey.fromBase58Encoded("mooNhciQJi1LqHDmse2JPic2NqG2PXCanbE3ZYzP3qA");
+
+  // Meteora Alpha Vault
+  public static final PublicKey METEORA_ALPHA_VAULT = PublicKey.fromBase58Encoded("vaU6kP7iNEGkbmPkLmZfGwiGxd4Mob24QQCie5R9kd2");
+
+  // Moonshot
+  public static final PublicKey MOONSHOT = PublicKey.fromBase58Encoded("MoonCVVNZFSYkqNXP6bxHLPL6QQJiMagDL3qcqUQTrG");
+
+  // Raydium Launchpad
+  public static final PublicKey RAYDIUM_LAUNCHPAD = PublicKey.fromBase58Encoded("LanMV9sAd7wArD4vJFi2qDdfnVhFxYSUg6eADduJ3uj");
+
+  public static final Map<PublicKey, Function<Instruction, Borsh>> INSTRUCTION_DECODERS = Map.ofEntries(
+      entry(CHAINLINK_OCR2, Ocr2InstructionDecoder::decodeInstruction),
+      entry(CHAINLINK_STORE, StoreInstructionDecoder::decodeInstruction),
+      entry(FLASH_PERPETUALS, PerpetualsInstructionDecoder::decodeInstruction),
+      entry(JITO_TIP_DISTRIBUTION, JitoTipDistributionInstructionDecoder::decodeInstruction),
+      entry(JITO_TIP_ROUTER, JitoTipRouterInstructionDecoder::decodeInstruction),
+      entry(JUPITER_DCA, DcaInstructionDecoder::decodeInstruction),
+      entry(JUPITER_LIMIT, LimitOrderInstructionDecoder::decodeInstruction),
+      entry(LOOPSCALE, LoopscaleInstructionDecoder::decodeInstruction),
+      entry(MARGINFI_V2, MarginfiInstructionDecoder::decodeInstruction),
+      entry(METADAO_AMM, AmmInstructionDecoder::decodeInstruction),
+      entry(METADAO_AUTOCRAT, AutocratInstructionDecoder::decodeInstruction),
+      entry(METADAO_CONDITIONAL_VAULT, ConditionalVaultInstructionDecoder::decodeInstruction),
+      entry(METADAO_LAUNCHPAD, LaunchpadInstructionDecoder::decodeInstruction),
+      entry(METEORA_ALPHA_VAULT, AlphaVaultInstructionDecoder::decodeInstruction),
+      entry(MOONSHOT, TokenLaunchpadInstructionDecoder::decodeInstruction),
+      entry(RAYDIUM_LAUNCHPAD, RaydiumLaunchpadInstructionDecoder::decodeInstruction)
+  );
+
+  // Decoded instruction data, or null if the program is unknown or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    final var decoder = INSTRUCTION_DECODERS.get(instruction.programId().publicKey());
+    return decoder == null ? null : decoder.apply(instruction);
+  }
+
+  private MainNetPrograms() {
+  }
+}
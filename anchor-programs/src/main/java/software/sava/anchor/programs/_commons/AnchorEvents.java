@@ -0,0 +1,83 @@
+package software.sava.anchor.programs._commons;
+
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+// Extracts Anchor event payloads from `Program data: <base64>` log lines and from self-CPI emit_cpi instruction data.
+// The base64 payload is decoded straight from the log line characters, without an intermediate substring or byte copy.
+public final class AnchorEvents {
+
+  public static final String PROGRAM_DATA_PREFIX = "Program data: ";
+
+  // Anchor's EVENT_IX_TAG in little-endian byte order, prefixed to the instruction data of events emitted with emit_cpi.
+  public static final Discriminator EVENT_IX_TAG = toDiscriminator(228, 69, 165, 46, 81, 203, 154, 29);
+  public static final long EVENT_IX_TAG_LONG = getInt64LE(EVENT_IX_TAG.data(), 0);
+  public static final int EVENT_IX_TAG_LENGTH = 8;
+
+  private static final byte[] DECODE = new byte[128];
+
+  static {
+    Arrays.fill(DECODE, (byte) -1);
+    final var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    for (int i = 0; i < alphabet.length(); ++i) {
+      DECODE[alphabet.charAt(i)] = (byte) i;
+    }
+  }
+
+  public static boolean isProgramData(final String logLine) {
+    return logLine != null && logLine.startsWith(PROGRAM_DATA_PREFIX);
+  }
+
+  // Decoded payload of a `Program data:` log line, or null if the line is not program data or is not valid base64.
+  public static byte[] decodeProgramData(final String logLine) {
+    if (!isProgramData(logLine)) {
+      return null;
+    }
+    return decodeBase64(logLine, PROGRAM_DATA_PREFIX.length(), logLine.length());
+  }
+
+  public static boolean isEventCpi(final byte[] ixData) {
+    return ixData != null
+        && ixData.length >= EVENT_IX_TAG_LENGTH + 8
+        && getInt64LE(ixData, 0) == EVENT_IX_TAG_LONG;
+  }
+
+  // Standard alphabet base64 of chars [from, to), trailing whitespace and padding are optional.
+  public static byte[] decodeBase64(final CharSequence chars, final int from, int to) {
+    while (to > from && Character.isWhitespace(chars.charAt(to - 1))) {
+      --to;
+    }
+    while (to > from && chars.charAt(to - 1) == '=') {
+      --to;
+    }
+    final int numChars = to - from;
+    if ((numChars & 3) == 1) {
+      return null;
+    }
+    final byte[] out = new byte[(numChars * 3) >> 2];
+    int o = 0;
+    int bits = 0;
+    int numBits = 0;
+    for (int i = from; i < to; ++i) {
+      final char c = chars.charAt(i);
+      final int val = c < 128 ? DECODE[c] : -1;
+      if (val < 0) {
+        return null;
+      }
+      bits = ((bits << 6) | val) & 0xFFFFFF;
+      numBits += 6;
+      if (numBits >= 8) {
+        numBits -= 8;
+        out[o++] = (byte) (bits >> numBits);
+      }
+    }
+    return out;
+  }
+
+  private AnchorEvents() {
+  }
+}
@@ -0,0 +1,152 @@
+package software.sava.anchor.programs._commons;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.accounts.meta.AccountMeta;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// Reusable arena for the XxxBufferedInstructions builders, e.g. MarginfiBufferedInstructions.
+// Instruction data is serialized into a shared byte array and account metas are appended to a shared array, the
+// metas themselves are cached per key and role, so after warm up building an instruction only allocates the
+// Instruction and a view over its account metas.
+//
+// Instructions remain valid until reset() is called, typically once their transaction has been serialized.
+// When an arena fills up it is replaced with a larger one, instructions already built keep referencing the old one.
+// Not thread safe, use one buffer per thread.
+public final class InstructionBuffer {
+
+  private final Map<PublicKey, AccountMeta> readMetas;
+  private final Map<PublicKey, AccountMeta> writeMetas;
+  private final Map<PublicKey, AccountMeta> readOnlySignerMetas;
+  private final Map<PublicKey, AccountMeta> writableSignerMetas;
+  private byte[] data;
+  private int position;
+  private AccountMeta[] keys;
+  private int numKeys;
+
+  private InstructionBuffer(final int dataCapacity, final int keysCapacity) {
+    this.readMetas = new HashMap<>();
+    this.writeMetas = new HashMap<>();
+    this.readOnlySignerMetas = new HashMap<>();
+    this.writableSignerMetas = new HashMap<>();
+    this.data = new byte[Math.max(dataCapacity, 64)];
+    this.keys = new AccountMeta[Math.max(keysCapacity, 16)];
+  }
+
+  public static InstructionBuffer createBuffer(final int dataCapacity, final int keysCapacity) {
+    return new InstructionBuffer(dataCapacity, keysCapacity);
+  }
+
+  public static InstructionBuffer createBuffer() {
+    return new InstructionBuffer(1 << 14, 1 << 10);
+  }
+
+  // Recycles the arenas, invalidating the data of every instruction built since the last reset.
+  public void reset() {
+    position = 0;
+    Arrays.fill(keys, 0, numKeys, null);
+    numKeys = 0;
+  }
+
+  public void clearMetaCache() {
+    readMetas.clear();
+    writeMetas.clear();
+    readOnlySignerMetas.clear();
+    writableSignerMetas.clear();
+  }
+
+  public int keysMark() {
+    return numKeys;
+  }
+
+  public void read(final PublicKey key) {
+    append(readMetas.computeIfAbsent(key, AccountMeta::createRead));
+  }
+
+  public void write(final PublicKey key) {
+    append(writeMetas.computeIfAbsent(key, AccountMeta::createWrite));
+  }
+
+  public void readOnlySigner(final PublicKey key) {
+    append(readOnlySignerMetas.computeIfAbsent(key, AccountMeta::createReadOnlySigner));
+  }
+
+  public void writableSigner(final PublicKey key) {
+    append(writableSignerMetas.computeIfAbsent(key, AccountMeta::createWritableSigner));
+  }
+
+  public void append(final AccountMeta meta) {
+    if (numKeys == keys.length) {
+      keys = Arrays.copyOf(keys, keys.length << 1);
+    }
+    keys[numKeys++] = meta;
+  }
+
+  // Reserves len bytes and returns their offset within data().
+  // If the arena cannot fit len more bytes a new, larger data array is swapped in and the offset is into that array,
+  // so data() must be read after allocate. Instructions already built keep referencing the previous array.
+  public int allocate(final int len) {
+    if (position + len > data.length) {
+      data = new byte[Math.max(data.length << 1, len)];
+      position = 0;
+    }
+    final int offset = position;
+    position += len;
+    return offset;
+  }
+
+  // The current data arena, only valid for offsets returned by the latest allocate call.
+  public byte[] data() {
+    return data;
+  }
+
+  // Each call allocates the Instruction and a KeySlice, the list view over the account metas appended since keysMark.
+  // The metas and data bytes themselves are not copied.
+  public Instruction createInstruction(final AccountMeta programId,
+                                       final int keysMark,
+                                       final int offset,
+                                       final int len) {
+    return Instruction.createInstruction(programId, keys(keysMark), data, offset, len);
+  }
+
+  // Same allocations as above, for instructions whose data is only their discriminator.
+  public Instruction createInstruction(final AccountMeta programId,
+                                       final int keysMark,
+                                       final Discriminator discriminator) {
+    return Instruction.createInstruction(programId, keys(keysMark), discriminator);
+  }
+
+  private KeySlice keys(final int keysMark) {
+    return new KeySlice(keys, keysMark, numKeys - keysMark);
+  }
+
+  private static final class KeySlice extends AbstractList<AccountMeta> implements RandomAccess {
+
+    private final AccountMeta[] keys;
+    private final int from;
+    private final int size;
+
+    private KeySlice(final AccountMeta[] keys, final int from, final int size) {
+      this.keys = keys;
+      this.from = from;
+      this.size = size;
+    }
+
+    @Override
+    public AccountMeta get(final int index) {
+      return keys[from + Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package software.sava.anchor.programs._commons;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.encoding.ByteUtil;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+// Little-endian Borsh primitives over off-heap memory, mirroring ByteUtil for byte[].
+// Primitive reads go straight to the segment. Composite types which only expose a byte[] based read are decoded in
+// place when the segment is backed by a byte[], and otherwise from a per thread scratch buffer holding only their own
+// bytes, so neither path allocates beyond the decoded value itself. Decoders must not retain the array they are given.
+public final class MemorySegmentUtil {
+
+  @FunctionalInterface
+  public interface Reader<T> {
+
+    T read(final byte[] data, final int offset);
+  }
+
+  @FunctionalInterface
+  public interface AccountReader<T> {
+
+    T read(final PublicKey address, final byte[] data, final int offset);
+  }
+
+  private static final ValueLayout.OfShort SHORT_LE = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+  private static final ValueLayout.OfInt INT_LE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+  private static final ValueLayout.OfLong LONG_LE = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private static final int INITIAL_SCRATCH_LENGTH = 1_024;
+  private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[INITIAL_SCRATCH_LENGTH]);
+
+  // Returns a per thread buffer of at least length bytes, only valid until the next call on the same thread.
+  private static byte[] scratch(final int length) {
+    final byte[] scratch = SCRATCH.get();
+    if (scratch.length >= length) {
+      return scratch;
+    }
+    final byte[] grown = new byte[Math.max(length, scratch.length << 1)];
+    SCRATCH.set(grown);
+    return grown;
+  }
+
+  // The backing array of a writable heap segment, null for native or read-only segments.
+  private static byte[] heapArray(final MemorySegment segment) {
+    return segment.heapBase().orElse(null) instanceof byte[] array ? array : null;
+  }
+
+  private static int heapOffset(final MemorySegment segment, final long offset) {
+    return Math.toIntExact(segment.address() + offset);
+  }
+
+  public static short getInt16LE(final MemorySegment segment, final long offset) {
+    return segment.get(SHORT_LE, offset);
+  }
+
+  public static int getInt32LE(final MemorySegment segment, final long offset) {
+    return segment.get(INT_LE, offset);
+  }
+
+  public static long getInt64LE(final MemorySegment segment, final long offset) {
+    return segment.get(LONG_LE, offset);
+  }
+
+  // Low and high halves of a little-endian 128 bit integer, read without materializing a BigInteger.
+  public static long getInt128Low(final MemorySegment segment, final long offset) {
+    return segment.get(LONG_LE, offset);
+  }
+
+  public static long getInt128High(final MemorySegment segment, final long offset) {
+    return segment.get(LONG_LE, offset + Long.BYTES);
+  }
+
+  public static BigInteger getInt128LE(final MemorySegment segment, final long offset) {
+    final byte[] scratch = scratch(16);
+    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, scratch, 0, 16);
+    return ByteUtil.getInt128LE(scratch, 0);
+  }
+
+  // The key owns the one copy of its 32 bytes.
+  public static PublicKey readPubKey(final MemorySegment segment, final long offset) {
+    return PublicKey.createPubKey(copy(segment, offset, PublicKey.PUBLIC_KEY_LENGTH));
+  }
+
+  public static byte[] copy(final MemorySegment segment, final long offset, final int length) {
+    final byte[] bytes = new byte[length];
+    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+    return bytes;
+  }
+
+  public static <T> T read(final MemorySegment segment,
+                           final long offset,
+                           final int length,
+                           final Reader<T> reader) {
+    final byte[] array = heapArray(segment);
+    if (array != null) {
+      Objects.checkFromIndexSize(offset, length, segment.byteSize());
+      return reader.read(array, heapOffset(segment, offset));
+    }
+    final byte[] scratch = scratch(length);
+    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, scratch, 0, length);
+    return reader.read(scratch, 0);
+  }
+
+  public static <T> T read(final PublicKey address,
+                           final MemorySegment segment,
+                           final long offset,
+                           final int length,
+                           final AccountReader<T> reader) {
+    final byte[] array = heapArray(segment);
+    if (array != null) {
+      Objects.checkFromIndexSize(offset, length, segment.byteSize());
+      return reader.read(address, array, heapOffset(segment, offset));
+    }
+    final byte[] scratch = scratch(length);
+    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, scratch, 0, length);
+    return reader.read(address, scratch, 0);
+  }
+
+  public static <T> T read(final ByteBuffer buffer,
+                           final int offset,
+                           final int length,
+                           final Reader<T> reader) {
+    return read(MemorySegment.ofBuffer(buffer), offset, length, reader);
+  }
+
+  public static void putInt16LE(final MemorySegment segment, final long offset, final int val) {
+    segment.set(SHORT_LE, offset, (short) val);
+  }
+
+  public static void putInt32LE(final MemorySegment segment, final long offset, final int val) {
+    segment.set(INT_LE, offset, val);
+  }
+
+  public static void putInt64LE(final MemorySegment segment, final long offset, final long val) {
+    segment.set(LONG_LE, offset, val);
+  }
+
+  public static void putInt128LE(final MemorySegment segment, final long offset, final long high, final long low) {
+    segment.set(LONG_LE, offset, low);
+    segment.set(LONG_LE, offset + Long.BYTES, high);
+  }
+
+  public static void putPubKey(final MemorySegment segment, final long offset, final PublicKey publicKey) {
+    MemorySegment.copy(publicKey.toByteArray(), 0, segment, ValueLayout.JAVA_BYTE, offset, PublicKey.PUBLIC_KEY_LENGTH);
+  }
+
+  // Serializes in place when the segment is backed by a byte[], otherwise through the scratch buffer.
+  public static int write(final Borsh borsh, final MemorySegment segment, final long offset) {
+    final int length = borsh.l();
+    final byte[] array = heapArray(segment);
+    if (array != null) {
+      Objects.checkFromIndexSize(offset, length, segment.byteSize());
+      return borsh.write(array, heapOffset(segment, offset));
+    }
+    final byte[] scratch = scratch(length);
+    final int written = borsh.write(scratch, 0);
+    MemorySegment.copy(scratch, 0, segment, ValueLayout.JAVA_BYTE, offset, written);
+    return written;
+  }
+
+  public static int write(final Borsh borsh, final ByteBuffer buffer, final int offset) {
+    return write(borsh, MemorySegment.ofBuffer(buffer), offset);
+  }
+
+  private MemorySegmentUtil() {
+  }
+}
@@ -0,0 +1,141 @@
+package software.sava.anchor.programs._commons;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.rpc.Filter;
+import software.sava.rpc.json.http.client.SolanaRpcClient;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+
+// Bulk loads every account of the given types owned by a program, e.g. all Flash Positions or marginfi accounts.
+//
+// Each account type contributes one getProgramAccounts call filtered by its discriminator and size filters. Types
+// with too many accounts for a single response are split by memcmp on a key field, either on each possible first
+// byte of the field, or on a known set of values such as the markets or groups the accounts belong to.
+// Calls are issued concurrently on virtual threads, bounded by maxConcurrentRequests, and the responses are decoded
+// in parallel.
+public final class ProgramAccountLoader {
+
+  public record AccountType<T>(List<Filter> filters,
+                               BiFunction<PublicKey, byte[], T> factory,
+                               int partitionOffset,
+                               List<byte[]> partitionPrefixes) {
+
+    public static <T> AccountType<T> createType(final List<Filter> filters,
+                                                final BiFunction<PublicKey, byte[], T> factory) {
+      return new AccountType<>(List.copyOf(filters), factory, -1, List.of());
+    }
+
+    // Splits into 256 calls, one per value of the byte at offset, e.g. the first byte of an owner key.
+    public AccountType<T> partitionByFirstByte(final int offset) {
+      final var prefixes = new ArrayList<byte[]>(256);
+      for (int b = 0; b < 256; ++b) {
+        prefixes.add(new byte[]{(byte) b});
+      }
+      return new AccountType<>(filters, factory, offset, List.copyOf(prefixes));
+    }
+
+    // Splits into one call per key expected at offset, accounts with any other key are not loaded.
+    public AccountType<T> partitionByKeys(final int offset, final Collection<PublicKey> keys) {
+      return new AccountType<>(
+          filters, factory, offset,
+          keys.stream().map(PublicKey::toByteArray).toList()
+      );
+    }
+
+    public List<List<Filter>> plan() {
+      if (partitionPrefixes.isEmpty()) {
+        return List.of(filters);
+      }
+      final var plan = new ArrayList<List<Filter>>(partitionPrefixes.size());
+      for (final var prefix : partitionPrefixes) {
+        final var partitionFilters = new ArrayList<Filter>(filters.size() + 1);
+        partitionFilters.addAll(filters);
+        partitionFilters.add(Filter.createMemCompFilter(partitionOffset, prefix));
+        plan.add(List.copyOf(partitionFilters));
+      }
+      return plan;
+    }
+  }
+
+  private record Call<T>(AccountType<? extends T> type, List<Filter> filters) {
+  }
+
+  private record Response<T>(AccountType<? extends T> type, List<AccountInfo<byte[]>> accounts) {
+  }
+
+  public static <T> List<List<Filter>> plan(final Collection<AccountType<? extends T>> types) {
+    return types.stream().flatMap(type -> type.plan().stream()).toList();
+  }
+
+  // Blocks until every call has completed, accounts the factory decodes to null are dropped.
+  public static <T> List<T> load(final SolanaRpcClient rpcClient,
+                                 final PublicKey program,
+                                 final Collection<AccountType<? extends T>> types,
+                                 final int maxConcurrentRequests) {
+    final var calls = new ArrayList<Call<T>>();
+    for (final var type : types) {
+      for (final var filters : type.plan()) {
+        calls.add(new Call<>(type, filters));
+      }
+    }
+
+    final var permits = new Semaphore(maxConcurrentRequests);
+    final var responses = new ArrayList<Response<T>>(calls.size());
+    try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var futures = new ArrayList<Future<Response<T>>>(calls.size());
+      for (final var call : calls) {
+        futures.add(executor.submit(() -> {
+          permits.acquire();
+          try {
+            return new Response<T>(call.type(), rpcClient.getProgramAccounts(program, call.filters()).join());
+          } finally {
+            permits.release();
+          }
+        }));
+      }
+      for (final var future : futures) {
+        responses.add(future.get());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while loading program accounts", e);
+    } catch (final ExecutionException e) {
+      final var cause = e.getCause() instanceof CompletionException completion ? completion.getCause() : e.getCause();
+      throw new IllegalStateException("Failed to load program accounts for " + program, cause);
+    }
+
+    final var decoded = new ArrayList<T>(responses.stream().mapToInt(response -> response.accounts().size()).sum());
+    for (final var response : responses) {
+      decoded.addAll(decode(response.type(), response.accounts()));
+    }
+    return decoded;
+  }
+
+  private static <T> List<T> decode(final AccountType<T> type, final List<AccountInfo<byte[]>> accounts) {
+    final var factory = type.factory();
+    return accounts.parallelStream()
+        .map(accountInfo -> factory.apply(accountInfo.pubKey(), accountInfo.data()))
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  public static <T> List<T> load(final SolanaRpcClient rpcClient,
+                                 final PublicKey program,
+                                 final AccountType<T> type,
+                                 final int maxConcurrentRequests) {
+    return load(rpcClient, program, List.<AccountType<? extends T>>of(type), maxConcurrentRequests);
+  }
+
+  private ProgramAccountLoader() {
+  }
+}
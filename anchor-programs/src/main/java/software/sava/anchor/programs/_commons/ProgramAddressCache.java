@@ -0,0 +1,598 @@
+package software.sava.anchor.programs._commons;
+
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+// Bounded, concurrent memo of program derived addresses keyed on the program and seeds.
+// findProgramAddress runs up to 255 SHA-256 and curve checks, so repeated derivations, e.g. the vaults of every bank
+// on every rebalance, only pay for it once. When the bump is already known, e.g. from Bank.liquidityVaultBump,
+// createProgramAddress derives the address with a single hash.
+//
+// Lookups serialize the key into a thread local scratch buffer, and the fixed arity overloads take keys and seed
+// constants as they are, so a cache hit through them does not allocate. Once full, an arbitrary entry is evicted per
+// insert. The size defaults to 65536 entries and may be set with the software.sava.anchor.programs.pdaCacheSize
+// system property. Cached addresses share the seed arrays of the call which first derived them, seeds must not be
+// mutated after being passed in.
+public final class ProgramAddressCache {
+
+  private static final int MAX_ENTRIES = Integer.getInteger("software.sava.anchor.programs.pdaCacheSize", 1 << 16);
+
+  private static final byte FIND = 0;
+  private static final byte CREATE = 1;
+
+  private static final byte[] PDA_MARKER = "ProgramDerivedAddress".getBytes(US_ASCII);
+
+  private static final ConcurrentHashMap<Key, ProgramDerivedAddress> CACHE = new ConcurrentHashMap<>();
+  private static final ThreadLocal<Key> LOOKUP_KEY = ThreadLocal.withInitial(Key::new);
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  });
+
+  private static final class Key {
+
+    private byte[] bytes;
+    private int len;
+    private int hash;
+
+    private Key() {
+      this.bytes = new byte[128];
+    }
+
+    private Key(final byte[] bytes, final int hash) {
+      this.bytes = bytes;
+      this.len = bytes.length;
+      this.hash = hash;
+    }
+
+    Key set(final byte kind, final List<byte[]> seeds, final PublicKey program, final int bump) {
+      begin(kind, program, bump);
+      for (final var seed : seeds) {
+        seed(seed);
+      }
+      return end();
+    }
+
+    Key begin(final byte kind, final PublicKey program, final int bump) {
+      bytes[0] = kind;
+      bytes[1] = (byte) bump;
+      program.write(bytes, 2);
+      this.len = 2 + PublicKey.PUBLIC_KEY_LENGTH;
+      return this;
+    }
+
+    // Seeds are length prefixed, a key seed is written the same as its 32 bytes would be.
+    Key seed(final byte[] seed) {
+      ensureCapacity(1 + seed.length);
+      bytes[len++] = (byte) seed.length;
+      System.arraycopy(seed, 0, bytes, len, seed.length);
+      len += seed.length;
+      return this;
+    }
+
+    Key seed(final PublicKey seed) {
+      ensureCapacity(1 + PublicKey.PUBLIC_KEY_LENGTH);
+      bytes[len++] = (byte) PublicKey.PUBLIC_KEY_LENGTH;
+      len += seed.write(bytes, len);
+      return this;
+    }
+
+    // A one byte seed, e.g. an enum or index.
+    Key seed(final byte seed) {
+      ensureCapacity(2);
+      bytes[len++] = 1;
+      bytes[len++] = seed;
+      return this;
+    }
+
+    // A u64 seed, written as its 8 little endian bytes.
+    Key seed(final long seed) {
+      ensureCapacity(1 + Long.BYTES);
+      bytes[len++] = Long.BYTES;
+      putInt64LE(bytes, len, seed);
+      len += Long.BYTES;
+      return this;
+    }
+
+    // A UTF-8 string seed, only strings with non ASCII characters are encoded to a new array.
+    Key seed(final String seed) {
+      final int length = seed.length();
+      for (int i = 0; i < length; ++i) {
+        if (seed.charAt(i) >= 0x80) {
+          return seed(seed.getBytes(UTF_8));
+        }
+      }
+      ensureCapacity(1 + length);
+      bytes[len++] = (byte) length;
+      for (int i = 0; i < length; ++i) {
+        bytes[len++] = (byte) seed.charAt(i);
+      }
+      return this;
+    }
+
+    private void ensureCapacity(final int n) {
+      if (len + n > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, len + n));
+      }
+    }
+
+    Key end() {
+      int hash = 1;
+      for (int i = 0; i < len; ++i) {
+        hash = 31 * hash + bytes[i];
+      }
+      this.hash = hash;
+      return this;
+    }
+
+    Key copy() {
+      return new Key(Arrays.copyOf(bytes, len), hash);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof Key key && hash == key.hash && Arrays.equals(bytes, 0, len, key.bytes, 0, key.len);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final List<byte[]> seeds, final PublicKey program) {
+    final var key = LOOKUP_KEY.get().set(FIND, seeds, program, 0);
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, seeds, program);
+  }
+
+  // Derives the address with a known bump, throws like PublicKey.createProgramAddress if it is not a valid program
+  // address. Non-canonical bumps are cached separately from findProgramAddress results.
+  public static ProgramDerivedAddress createProgramAddress(final List<byte[]> seeds,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().set(CREATE, seeds, program, bump);
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, seeds, bump, program);
+  }
+
+  // Fixed arity overloads for the seed layouts of the PDA helpers. Seeds are written straight into the lookup key, the
+  // seed list and key bytes are only materialized on a miss. Entries are shared with the List overloads. byte seeds
+  // are written as one byte, long seeds as their 8 little endian bytes and String seeds as their UTF-8 bytes.
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0, final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final byte[] seed1,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final byte[] seed1,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0, seed1), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1.toByteArray()), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0, seed1.toByteArray()), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final PublicKey seed0,
+                                                         final PublicKey seed1,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0.toByteArray(), seed1.toByteArray()), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final PublicKey seed0,
+                                                           final PublicKey seed1,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0.toByteArray(), seed1.toByteArray()), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final byte[] seed2,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1.toByteArray(), seed2), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final byte[] seed2,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0, seed1.toByteArray(), seed2), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final PublicKey seed2,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1.toByteArray(), seed2.toByteArray()), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final PublicKey seed2,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : create(key, List.of(seed0, seed1.toByteArray(), seed2.toByteArray()), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final PublicKey seed0,
+                                                         final PublicKey seed1,
+                                                         final byte[] seed2,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0.toByteArray(), seed1.toByteArray(), seed2), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final PublicKey seed0,
+                                                           final PublicKey seed1,
+                                                           final byte[] seed2,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : create(key, List.of(seed0.toByteArray(), seed1.toByteArray(), seed2), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final PublicKey seed0,
+                                                         final PublicKey seed1,
+                                                         final PublicKey seed2,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : find(key, List.of(seed0.toByteArray(), seed1.toByteArray(), seed2.toByteArray()), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final PublicKey seed0,
+                                                           final PublicKey seed1,
+                                                           final PublicKey seed2,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : create(key, List.of(seed0.toByteArray(), seed1.toByteArray(), seed2.toByteArray()), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final byte[] seed2,
+                                                         final byte[] seed3,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1.toByteArray(), seed2, seed3), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final byte[] seed2,
+                                                           final byte[] seed3,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0, seed1.toByteArray(), seed2, seed3), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final String seed1,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1.getBytes(UTF_8)), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final String seed1,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0, seed1.getBytes(UTF_8)), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final byte seed2,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1.toByteArray(), new byte[]{seed2}), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final byte seed2,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0, seed1.toByteArray(), new byte[]{seed2}), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final long seed2,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1.toByteArray(), int64LE(seed2)), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final long seed2,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(seed0, seed1.toByteArray(), int64LE(seed2)), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final byte[] seed1,
+                                                         final PublicKey seed2,
+                                                         final byte seed3,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(seed0, seed1, seed2.toByteArray(), new byte[]{seed3}), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final byte[] seed1,
+                                                           final PublicKey seed2,
+                                                           final byte seed3,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : create(key, List.of(seed0, seed1, seed2.toByteArray(), new byte[]{seed3}), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final PublicKey seed2,
+                                                         final byte seed3,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : find(key, List.of(seed0, seed1.toByteArray(), seed2.toByteArray(), new byte[]{seed3}), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final PublicKey seed2,
+                                                           final byte seed3,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : create(key, List.of(seed0, seed1.toByteArray(), seed2.toByteArray(), new byte[]{seed3}), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final PublicKey seed2,
+                                                         final long seed3,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : find(key, List.of(seed0, seed1.toByteArray(), seed2.toByteArray(), int64LE(seed3)), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final PublicKey seed2,
+                                                           final long seed3,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump).seed(seed0).seed(seed1).seed(seed2).seed(seed3).end();
+    final var cached = CACHE.get(key);
+    return cached != null
+        ? cached
+        : create(key, List.of(seed0, seed1.toByteArray(), seed2.toByteArray(), int64LE(seed3)), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final byte seed1,
+                                                         final PublicKey seed2,
+                                                         final PublicKey seed3,
+                                                         final long seed4,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0)
+        .seed(seed0).seed(seed1).seed(seed2).seed(seed3).seed(seed4).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(
+        seed0, new byte[]{seed1}, seed2.toByteArray(), seed3.toByteArray(), int64LE(seed4)
+    ), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final byte seed1,
+                                                           final PublicKey seed2,
+                                                           final PublicKey seed3,
+                                                           final long seed4,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump)
+        .seed(seed0).seed(seed1).seed(seed2).seed(seed3).seed(seed4).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(
+        seed0, new byte[]{seed1}, seed2.toByteArray(), seed3.toByteArray(), int64LE(seed4)
+    ), bump, program);
+  }
+
+  public static ProgramDerivedAddress findProgramAddress(final byte[] seed0,
+                                                         final PublicKey seed1,
+                                                         final PublicKey seed2,
+                                                         final PublicKey seed3,
+                                                         final long seed4,
+                                                         final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(FIND, program, 0)
+        .seed(seed0).seed(seed1).seed(seed2).seed(seed3).seed(seed4).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : find(key, List.of(
+        seed0, seed1.toByteArray(), seed2.toByteArray(), seed3.toByteArray(), int64LE(seed4)
+    ), program);
+  }
+
+  public static ProgramDerivedAddress createProgramAddress(final byte[] seed0,
+                                                           final PublicKey seed1,
+                                                           final PublicKey seed2,
+                                                           final PublicKey seed3,
+                                                           final long seed4,
+                                                           final int bump,
+                                                           final PublicKey program) {
+    final var key = LOOKUP_KEY.get().begin(CREATE, program, bump)
+        .seed(seed0).seed(seed1).seed(seed2).seed(seed3).seed(seed4).end();
+    final var cached = CACHE.get(key);
+    return cached != null ? cached : create(key, List.of(
+        seed0, seed1.toByteArray(), seed2.toByteArray(), seed3.toByteArray(), int64LE(seed4)
+    ), bump, program);
+  }
+
+  private static ProgramDerivedAddress find(final Key key, final List<byte[]> seeds, final PublicKey program) {
+    return put(key.copy(), PublicKey.findProgramAddress(seeds, program));
+  }
+
+  private static ProgramDerivedAddress create(final Key key,
+                                              final List<byte[]> seeds,
+                                              final int bump,
+                                              final PublicKey program) {
+    final var bumpedSeeds = new ArrayList<byte[]>(seeds.size() + 1);
+    bumpedSeeds.addAll(seeds);
+    bumpedSeeds.add(new byte[]{(byte) bump});
+    final var address = PublicKey.createProgramAddress(bumpedSeeds, program);
+    return put(key.copy(), ProgramDerivedAddress.createPDA(seeds, address, bump & 0xFF));
+  }
+
+  // Writes sha256(seeds || bump || program || "ProgramDerivedAddress") to out, bypassing the cache.
+  // The on-curve check is skipped, so the bump must be one the program itself derived, e.g. read from its account.
+  public static void writeProgramAddress(final byte[] out,
+                                         final int offset,
+                                         final PublicKey program,
+                                         final int bump,
+                                         final byte[]... seeds) {
+    final var digest = SHA_256.get();
+    for (final var seed : seeds) {
+      digest.update(seed);
+    }
+    digest.update((byte) bump);
+    digest.update(program.toByteArray());
+    digest.update(PDA_MARKER);
+    try {
+      digest.digest(out, offset, PublicKey.PUBLIC_KEY_LENGTH);
+    } catch (final DigestException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] int64LE(final long seed) {
+    final byte[] bytes = new byte[Long.BYTES];
+    putInt64LE(bytes, 0, seed);
+    return bytes;
+  }
+
+  private static ProgramDerivedAddress put(final Key key, final ProgramDerivedAddress pda) {
+    if (CACHE.size() >= MAX_ENTRIES) {
+      final var iterator = CACHE.keySet().iterator();
+      if (iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+      }
+    }
+    final var previous = CACHE.putIfAbsent(key, pda);
+    return previous == null ? pda : previous;
+  }
+
+  public static int size() {
+    return CACHE.size();
+  }
+
+  public static void clear() {
+    CACHE.clear();
+  }
+
+  private ProgramAddressCache() {
+  }
+}
@@ -0,0 +1,281 @@
+package software.sava.anchor.programs._commons;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.accounts.meta.AccountMeta;
+import software.sava.core.tx.Instruction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+// Greedily packs a stream of independent instructions, e.g. tip distribution claims or alpha vault token claims,
+// into as few transactions as fit the wire size, account lock and compute unit limits.
+//
+// Account metas shared between instructions are counted once per transaction, with signer and writable flags merged.
+// If a lookup table is given, non-signer accounts it contains, other than program ids, are addressed through it in a
+// v0 message. Room is optionally reserved for ComputeBudget set limit and set price instructions, the compute units
+// of each batch are the sum of the per instruction estimates.
+//
+// Sizes are computed from the message wire format, the packer does not serialize anything. Not thread safe.
+public final class TransactionPacker {
+
+  public static final int MAX_TRANSACTION_SIZE = 1232;
+  public static final int MAX_ACCOUNT_LOCKS = 64;
+  public static final int MAX_COMPUTE_UNITS = 1_400_000;
+  public static final int SIGNATURE_LENGTH = 64;
+  public static final int BLOCK_HASH_LENGTH = 32;
+
+  public static final PublicKey COMPUTE_BUDGET_PROGRAM = PublicKey.fromBase58Encoded("ComputeBudget111111111111111111111111111111");
+  // program index, account count, data length and data of SetComputeUnitLimit(u32) and SetComputeUnitPrice(u64).
+  private static final int COMPUTE_BUDGET_IXS_LEN = (3 + 5) + (3 + 9);
+
+  private static final int SIGNER = 1;
+  private static final int WRITE = 1 << 1;
+  private static final int INVOKED = 1 << 2;
+
+  public record Batch(List<Instruction> instructions, int size, int numSignatures, int numAccounts, int computeUnits) {
+  }
+
+  private final PublicKey feePayer;
+  private final ToIntFunction<Instruction> computeUnits;
+  private final boolean reserveComputeBudget;
+  private final Set<PublicKey> lookupTableKeys;
+  private final int maxComputeUnits;
+
+  private final Map<PublicKey, Integer> accounts;
+  private final List<Instruction> instructions;
+  private final List<Batch> batches;
+  private int numSignatures;
+  private int numStatic;
+  private int numLookupWrite;
+  private int numLookupRead;
+  private int ixBytes;
+  private int batchComputeUnits;
+
+  private TransactionPacker(final PublicKey feePayer,
+                            final ToIntFunction<Instruction> computeUnits,
+                            final boolean reserveComputeBudget,
+                            final Set<PublicKey> lookupTableKeys,
+                            final int maxComputeUnits) {
+    this.feePayer = feePayer;
+    this.computeUnits = computeUnits;
+    this.reserveComputeBudget = reserveComputeBudget;
+    this.lookupTableKeys = lookupTableKeys;
+    this.maxComputeUnits = maxComputeUnits;
+    this.accounts = new HashMap<>(MAX_ACCOUNT_LOCKS << 1);
+    this.instructions = new ArrayList<>();
+    this.batches = new ArrayList<>();
+    reset();
+  }
+
+  // lookupTableKeys may be null to pack legacy transactions.
+  public static TransactionPacker createPacker(final PublicKey feePayer,
+                                               final ToIntFunction<Instruction> computeUnits,
+                                               final boolean reserveComputeBudget,
+                                               final Set<PublicKey> lookupTableKeys,
+                                               final int maxComputeUnits) {
+    return new TransactionPacker(feePayer, computeUnits, reserveComputeBudget, lookupTableKeys, maxComputeUnits);
+  }
+
+  public static TransactionPacker createPacker(final PublicKey feePayer, final int computeUnitsPerInstruction) {
+    return new TransactionPacker(feePayer, _ -> computeUnitsPerInstruction, true, null, MAX_COMPUTE_UNITS);
+  }
+
+  public static List<Batch> pack(final TransactionPacker packer, final Iterable<Instruction> instructions) {
+    for (final var instruction : instructions) {
+      packer.add(instruction);
+    }
+    packer.flush();
+    return packer.drain();
+  }
+
+  // Adds the instruction to the open batch, or closes the batch and starts a new one if it does not fit.
+  // Throws an IllegalArgumentException if the instruction does not fit in a transaction on its own.
+  public void add(final Instruction instruction) {
+    final int cu = computeUnits.applyAsInt(instruction);
+    if (!tryAdd(instruction, cu)) {
+      flush();
+      if (!tryAdd(instruction, cu)) {
+        throw new IllegalArgumentException("Instruction does not fit in a single transaction");
+      }
+    }
+  }
+
+  // Closes the open batch, if it has any instructions.
+  public void flush() {
+    if (!instructions.isEmpty()) {
+      batches.add(new Batch(
+          List.copyOf(instructions),
+          size(numSignatures, numStatic, numLookupWrite, numLookupRead, ixBytes, instructions.size()),
+          numSignatures,
+          accounts.size(),
+          batchComputeUnits
+      ));
+      reset();
+    }
+  }
+
+  // Returns and clears the completed batches.
+  public List<Batch> drain() {
+    final var drained = List.copyOf(batches);
+    batches.clear();
+    return drained;
+  }
+
+  private boolean tryAdd(final Instruction instruction, final int cu) {
+    if ((long) batchComputeUnits + cu > maxComputeUnits) {
+      return false;
+    }
+    int numSignatures = this.numSignatures;
+    int numStatic = this.numStatic;
+    int numLookupWrite = this.numLookupWrite;
+    int numLookupRead = this.numLookupRead;
+    int numAccounts = accounts.size();
+
+    final var metas = instruction.accounts();
+    final int numMetas = metas.size() + 1;
+    final var keys = new PublicKey[numMetas];
+    final var flags = new int[numMetas];
+    int numChanged = 0;
+    for (int m = 0; m < numMetas; ++m) {
+      final var meta = m == 0 ? instruction.programId() : metas.get(m - 1);
+      final var key = meta.publicKey();
+      final int metaFlags = m == 0 ? INVOKED : flags(meta);
+      final var current = accounts.get(key);
+      int previous = current == null ? -1 : current;
+      for (int c = 0; c < numChanged; ++c) {
+        if (keys[c].equals(key)) {
+          previous = flags[c];
+          break;
+        }
+      }
+      final int merged = previous < 0 ? metaFlags : previous | metaFlags;
+      if (merged == previous) {
+        continue;
+      }
+      if (previous < 0) {
+        ++numAccounts;
+      } else {
+        switch (category(key, previous)) {
+          case 0 -> --numStatic;
+          case 1 -> --numLookupWrite;
+          default -> --numLookupRead;
+        }
+        if ((previous & SIGNER) != 0) {
+          --numSignatures;
+        }
+      }
+      switch (category(key, merged)) {
+        case 0 -> ++numStatic;
+        case 1 -> ++numLookupWrite;
+        default -> ++numLookupRead;
+      }
+      if ((merged & SIGNER) != 0) {
+        ++numSignatures;
+      }
+      int c = 0;
+      while (c < numChanged && !keys[c].equals(key)) {
+        ++c;
+      }
+      keys[c] = key;
+      flags[c] = merged;
+      if (c == numChanged) {
+        ++numChanged;
+      }
+    }
+
+    final int ixLen = instructionLength(instruction);
+    if (numAccounts > MAX_ACCOUNT_LOCKS
+        || size(numSignatures, numStatic, numLookupWrite, numLookupRead, ixBytes + ixLen, instructions.size() + 1) > MAX_TRANSACTION_SIZE) {
+      return false;
+    }
+    for (int c = 0; c < numChanged; ++c) {
+      accounts.put(keys[c], flags[c]);
+    }
+    this.numSignatures = numSignatures;
+    this.numStatic = numStatic;
+    this.numLookupWrite = numLookupWrite;
+    this.numLookupRead = numLookupRead;
+    this.ixBytes += ixLen;
+    this.batchComputeUnits += cu;
+    instructions.add(instruction);
+    return true;
+  }
+
+  private void reset() {
+    accounts.clear();
+    instructions.clear();
+    accounts.put(feePayer, SIGNER | WRITE);
+    numSignatures = 1;
+    numStatic = 1;
+    numLookupWrite = 0;
+    numLookupRead = 0;
+    ixBytes = 0;
+    batchComputeUnits = 0;
+    if (reserveComputeBudget) {
+      accounts.put(COMPUTE_BUDGET_PROGRAM, INVOKED);
+      ++numStatic;
+    }
+  }
+
+  // 0: static account key, 1: writable lookup table index, 2: read-only lookup table index.
+  private int category(final PublicKey key, final int flags) {
+    if (lookupTableKeys == null || (flags & (SIGNER | INVOKED)) != 0 || !lookupTableKeys.contains(key)) {
+      return 0;
+    }
+    return (flags & WRITE) != 0 ? 1 : 2;
+  }
+
+  private int size(final int numSignatures,
+                   final int numStatic,
+                   final int numLookupWrite,
+                   final int numLookupRead,
+                   final int ixBytes,
+                   final int numInstructions) {
+    int size = compactLength(numSignatures) + (numSignatures * SIGNATURE_LENGTH)
+        + 3
+        + compactLength(numStatic) + (numStatic * PublicKey.PUBLIC_KEY_LENGTH)
+        + BLOCK_HASH_LENGTH;
+    int totalInstructions = numInstructions;
+    int totalIxBytes = ixBytes;
+    if (reserveComputeBudget) {
+      totalInstructions += 2;
+      totalIxBytes += COMPUTE_BUDGET_IXS_LEN;
+    }
+    size += compactLength(totalInstructions) + totalIxBytes;
+    if (lookupTableKeys != null) {
+      // version prefix and the table lookup count
+      size += 2;
+      if (numLookupWrite + numLookupRead > 0) {
+        size += PublicKey.PUBLIC_KEY_LENGTH
+            + compactLength(numLookupWrite) + numLookupWrite
+            + compactLength(numLookupRead) + numLookupRead;
+      }
+    }
+    return size;
+  }
+
+  static int instructionLength(final Instruction instruction) {
+    final int numAccounts = instruction.accounts().size();
+    final int dataLen = instruction.len();
+    return 1 + compactLength(numAccounts) + numAccounts + compactLength(dataLen) + dataLen;
+  }
+
+  static int compactLength(final int val) {
+    return val < 0x80 ? 1 : val < 0x4000 ? 2 : 3;
+  }
+
+  private static int flags(final AccountMeta meta) {
+    int flags = 0;
+    if (meta.signer()) {
+      flags |= SIGNER;
+    }
+    if (meta.write()) {
+      flags |= WRITE;
+    }
+    return flags;
+  }
+}
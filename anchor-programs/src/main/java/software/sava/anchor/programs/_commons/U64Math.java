@@ -0,0 +1,86 @@
+package software.sava.anchor.programs._commons;
+
+// Exact multiply then divide for on-chain fee and curve math, without allocating.
+// The 128 bit product is divided with a two-word long division, so reserves products such as
+// virtualTokenReserves * virtualCollateralReserves never go through BigInteger.
+// Arguments must be non-negative, an ArithmeticException is thrown if a result does not fit in a long.
+public final class U64Math {
+
+  private static final long HALF_BASE = 1L << 32;
+  private static final long HALF_MASK = HALF_BASE - 1;
+
+  public static long mulDiv(final long a, final long b, final long denominator) {
+    final long lo = a * b;
+    final long hi = Math.multiplyHigh(a, b);
+    if (hi == 0 && lo >= 0 && denominator > 0) {
+      return lo / denominator;
+    }
+    return divide(hi, lo, denominator);
+  }
+
+  public static long mulDivCeil(final long a, final long b, final long denominator) {
+    final long lo = a * b;
+    final long hi = Math.multiplyHigh(a, b);
+    if (hi == 0 && lo >= 0 && denominator > 0) {
+      final long quotient = lo / denominator;
+      return quotient * denominator == lo ? quotient : quotient + 1;
+    }
+    final long quotient = divide(hi, lo, denominator);
+    return quotient * denominator == lo && Math.multiplyHigh(quotient, denominator) == hi
+        ? quotient
+        : Math.incrementExact(quotient);
+  }
+
+  private static long divide(final long hi, final long lo, final long denominator) {
+    if (denominator <= 0) {
+      throw new ArithmeticException(denominator == 0 ? "/ by zero" : "negative denominator");
+    }
+    if (Long.compareUnsigned(hi, denominator) >= 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    final long quotient = divideUnsigned(hi, lo, denominator);
+    if (quotient < 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    return quotient;
+  }
+
+  // Unsigned (hi, lo) / denominator, Hacker's Delight divlu.
+  // The caller must ensure hi < denominator, unsigned, so that the quotient fits in 64 bits.
+  public static long divideUnsigned(final long hi, final long lo, final long denominator) {
+    final int s = Long.numberOfLeadingZeros(denominator);
+    final long v = denominator << s;
+    final long vn1 = v >>> 32;
+    final long vn0 = v & HALF_MASK;
+    final long un32 = s == 0 ? hi : (hi << s) | (lo >>> (64 - s));
+    final long un10 = lo << s;
+    final long un1 = un10 >>> 32;
+    final long un0 = un10 & HALF_MASK;
+
+    long q1 = Long.divideUnsigned(un32, vn1);
+    long rhat = Long.remainderUnsigned(un32, vn1);
+    while (Long.compareUnsigned(q1, HALF_BASE) >= 0 || Long.compareUnsigned(q1 * vn0, (rhat << 32) + un1) > 0) {
+      --q1;
+      rhat += vn1;
+      if (Long.compareUnsigned(rhat, HALF_BASE) >= 0) {
+        break;
+      }
+    }
+
+    final long un21 = (un32 << 32) + un1 - q1 * v;
+    long q0 = Long.divideUnsigned(un21, vn1);
+    rhat = Long.remainderUnsigned(un21, vn1);
+    while (Long.compareUnsigned(q0, HALF_BASE) >= 0 || Long.compareUnsigned(q0 * vn0, (rhat << 32) + un0) > 0) {
+      --q0;
+      rhat += vn1;
+      if (Long.compareUnsigned(rhat, HALF_BASE) >= 0) {
+        break;
+      }
+    }
+
+    return (q1 << 32) + q0;
+  }
+
+  private U64Math() {
+  }
+}
@@ -0,0 +1,363 @@
+package software.sava.anchor.programs.chainlink.ocr2;
+
+import software.sava.anchor.programs.chainlink.ocr2.anchor.Ocr2Program;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Chainlink OCR 2 instruction data decoded into the Ocr2Program IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class Ocr2InstructionDecoder {
+
+  public record AcceptOwnershipIxData(Discriminator discriminator) implements Borsh {
+
+    public static AcceptOwnershipIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static AcceptOwnershipIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new AcceptOwnershipIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record AcceptPayeeshipIxData(Discriminator discriminator) implements Borsh {
+
+    public static AcceptPayeeshipIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static AcceptPayeeshipIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new AcceptPayeeshipIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseProposalIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseProposalIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseProposalIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseProposalIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record FinalizeProposalIxData(Discriminator discriminator) implements Borsh {
+
+    public static FinalizeProposalIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static FinalizeProposalIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new FinalizeProposalIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record PayOraclesIxData(Discriminator discriminator) implements Borsh {
+
+    public static PayOraclesIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static PayOraclesIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new PayOraclesIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record RequestNewRoundIxData(Discriminator discriminator) implements Borsh {
+
+    public static RequestNewRoundIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static RequestNewRoundIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new RequestNewRoundIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record SetBillingAccessControllerIxData(Discriminator discriminator) implements Borsh {
+
+    public static SetBillingAccessControllerIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static SetBillingAccessControllerIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new SetBillingAccessControllerIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record SetRequesterAccessControllerIxData(Discriminator discriminator) implements Borsh {
+
+    public static SetRequesterAccessControllerIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static SetRequesterAccessControllerIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new SetRequesterAccessControllerIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record TransferPayeeshipIxData(Discriminator discriminator) implements Borsh {
+
+    public static TransferPayeeshipIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static TransferPayeeshipIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new TransferPayeeshipIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record WithdrawPaymentIxData(Discriminator discriminator) implements Borsh {
+
+    public static WithdrawPaymentIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static WithdrawPaymentIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new WithdrawPaymentIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(Ocr2Program.ACCEPT_OWNERSHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.PROPOSE_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.FINALIZE_PROPOSAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.WRITE_OFFCHAIN_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.TRANSFER_PAYEESHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.WITHDRAW_FUNDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.PROPOSE_PAYEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.SET_REQUESTER_ACCESS_CONTROLLER_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.INITIALIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.ACCEPT_PROPOSAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.CLOSE_PROPOSAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.CREATE_PROPOSAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.SET_BILLING_ACCESS_CONTROLLER_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.TRANSFER_OWNERSHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.REQUEST_NEW_ROUND_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.ACCEPT_PAYEESHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.PAY_ORACLES_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.SET_BILLING_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.WITHDRAW_PAYMENT_DISCRIMINATOR.data(), 0),
+      getInt64LE(Ocr2Program.CLOSE_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> AcceptOwnershipIxData.read(_data, offset);
+      case 1 -> Ocr2Program.ProposeConfigIxData.read(_data, offset);
+      case 2 -> FinalizeProposalIxData.read(_data, offset);
+      case 3 -> Ocr2Program.WriteOffchainConfigIxData.read(_data, offset);
+      case 4 -> TransferPayeeshipIxData.read(_data, offset);
+      case 5 -> Ocr2Program.WithdrawFundsIxData.read(_data, offset);
+      case 6 -> Ocr2Program.ProposePayeesIxData.read(_data, offset);
+      case 7 -> SetRequesterAccessControllerIxData.read(_data, offset);
+      case 8 -> Ocr2Program.InitializeIxData.read(_data, offset);
+      case 9 -> Ocr2Program.AcceptProposalIxData.read(_data, offset);
+      case 10 -> CloseProposalIxData.read(_data, offset);
+      case 11 -> Ocr2Program.CreateProposalIxData.read(_data, offset);
+      case 12 -> SetBillingAccessControllerIxData.read(_data, offset);
+      case 13 -> Ocr2Program.TransferOwnershipIxData.read(_data, offset);
+      case 14 -> RequestNewRoundIxData.read(_data, offset);
+      case 15 -> AcceptPayeeshipIxData.read(_data, offset);
+      case 16 -> PayOraclesIxData.read(_data, offset);
+      case 17 -> Ocr2Program.SetBillingIxData.read(_data, offset);
+      case 18 -> WithdrawPaymentIxData.read(_data, offset);
+      case 19 -> CloseIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private Ocr2InstructionDecoder() {
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateProposalIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Ocr2Program.CREATE_PROPOSAL_DISCRIMINATOR.data(), 0);
+
+  private static final int OFFCHAIN_CONFIG_VERSION_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateProposalIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateProposalIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateProposalIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateProposalIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateProposalIxDataSegmentView(segment, 0);
+  }
+
+  public CreateProposalIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateProposalIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Ocr2Program.CreateProposalIxData read() {
+    return MemorySegmentUtil.read(segment, offset, Ocr2Program.CreateProposalIxData.BYTES, Ocr2Program.CreateProposalIxData::read);
+  }
+
+  public long offchainConfigVersion() {
+    return getInt64LE(segment, offset + OFFCHAIN_CONFIG_VERSION_OFFSET);
+  }
+}
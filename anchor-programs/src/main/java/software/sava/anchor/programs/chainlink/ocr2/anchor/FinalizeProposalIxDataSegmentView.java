@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.chainlink.ocr2.Ocr2InstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class FinalizeProposalIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Ocr2Program.FINALIZE_PROPOSAL_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FinalizeProposalIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FinalizeProposalIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FinalizeProposalIxDataSegmentView(segment, offset);
+  }
+
+  public static FinalizeProposalIxDataSegmentView wrap(final MemorySegment segment) {
+    return new FinalizeProposalIxDataSegmentView(segment, 0);
+  }
+
+  public FinalizeProposalIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FinalizeProposalIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Ocr2InstructionDecoder.FinalizeProposalIxData read() {
+    return MemorySegmentUtil.read(segment, offset, Ocr2InstructionDecoder.FinalizeProposalIxData.BYTES, Ocr2InstructionDecoder.FinalizeProposalIxData::read);
+  }
+}
@@ -0,0 +1,87 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Ocr2Program.INITIALIZE_DISCRIMINATOR.data(), 0);
+
+  private static final int MIN_ANSWER_OFFSET = 8;
+  private static final int MAX_ANSWER_OFFSET = MIN_ANSWER_OFFSET + 16;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Ocr2Program.InitializeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, Ocr2Program.InitializeIxData.BYTES, Ocr2Program.InitializeIxData::read);
+  }
+
+  public BigInteger minAnswer() {
+    return getInt128LE(segment, offset + MIN_ANSWER_OFFSET);
+  }
+
+  public long minAnswerHigh() {
+    return getInt128High(segment, offset + MIN_ANSWER_OFFSET);
+  }
+
+  public long minAnswerLow() {
+    return getInt128Low(segment, offset + MIN_ANSWER_OFFSET);
+  }
+
+  public BigInteger maxAnswer() {
+    return getInt128LE(segment, offset + MAX_ANSWER_OFFSET);
+  }
+
+  public long maxAnswerHigh() {
+    return getInt128High(segment, offset + MAX_ANSWER_OFFSET);
+  }
+
+  public long maxAnswerLow() {
+    return getInt128Low(segment, offset + MAX_ANSWER_OFFSET);
+  }
+}
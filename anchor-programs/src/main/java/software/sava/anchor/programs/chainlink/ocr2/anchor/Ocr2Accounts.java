@@ -0,0 +1,56 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.LatestConfig;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.LinkAvailableForPayment;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.OracleObservationCount;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.Proposal;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.State;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class Ocr2Accounts {
+
+  public static final Discriminator LATEST_CONFIG_ACCOUNT_DISCRIMINATOR = toDiscriminator(108, 67, 202, 204, 245, 72, 177, 226);
+  public static final Discriminator LINK_AVAILABLE_FOR_PAYMENT_ACCOUNT_DISCRIMINATOR = toDiscriminator(28, 101, 118, 52, 192, 247, 251, 134);
+  public static final Discriminator ORACLE_OBSERVATION_COUNT_ACCOUNT_DISCRIMINATOR = toDiscriminator(239, 168, 10, 2, 150, 165, 77, 107);
+  public static final Discriminator PROPOSAL_ACCOUNT_DISCRIMINATOR = toDiscriminator(26, 94, 189, 187, 116, 136, 53, 33);
+  public static final Discriminator STATE_ACCOUNT_DISCRIMINATOR = toDiscriminator(216, 146, 107, 94, 104, 75, 182, 177);
+
+  public static final long LATEST_CONFIG_DISCRIMINATOR = getInt64LE(LATEST_CONFIG_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long LINK_AVAILABLE_FOR_PAYMENT_DISCRIMINATOR = getInt64LE(LINK_AVAILABLE_FOR_PAYMENT_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long ORACLE_OBSERVATION_COUNT_DISCRIMINATOR = getInt64LE(ORACLE_OBSERVATION_COUNT_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long PROPOSAL_DISCRIMINATOR = getInt64LE(PROPOSAL_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long STATE_DISCRIMINATOR = getInt64LE(STATE_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == LATEST_CONFIG_DISCRIMINATOR) {
+      return LatestConfig.read(_address, _data, 0);
+    } else if (discriminator == LINK_AVAILABLE_FOR_PAYMENT_DISCRIMINATOR) {
+      return LinkAvailableForPayment.read(_address, _data, 0);
+    } else if (discriminator == ORACLE_OBSERVATION_COUNT_DISCRIMINATOR) {
+      return OracleObservationCount.read(_address, _data, 0);
+    } else if (discriminator == PROPOSAL_DISCRIMINATOR) {
+      return Proposal.read(_address, _data, 0);
+    } else if (discriminator == STATE_DISCRIMINATOR) {
+      return State.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private Ocr2Accounts() {
+  }
+}
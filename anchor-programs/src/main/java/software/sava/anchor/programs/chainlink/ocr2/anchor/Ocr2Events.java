@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.NewTransmission;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.RoundRequested;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.SetBilling;
+import software.sava.anchor.programs.chainlink.ocr2.anchor.types.SetConfig;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class Ocr2Events {
+
+  public static final Discriminator NEW_TRANSMISSION_DISCRIMINATOR = toDiscriminator(130, 54, 203, 77, 30, 107, 79, 168);
+  public static final Discriminator ROUND_REQUESTED_DISCRIMINATOR = toDiscriminator(150, 253, 124, 52, 139, 236, 253, 190);
+  public static final Discriminator SET_BILLING_DISCRIMINATOR = toDiscriminator(106, 169, 81, 142, 129, 95, 169, 126);
+  public static final Discriminator SET_CONFIG_DISCRIMINATOR = toDiscriminator(53, 251, 147, 143, 51, 240, 23, 95);
+
+  public static final long NEW_TRANSMISSION_DISCRIMINATOR_LONG = getInt64LE(NEW_TRANSMISSION_DISCRIMINATOR.data(), 0);
+  public static final long ROUND_REQUESTED_DISCRIMINATOR_LONG = getInt64LE(ROUND_REQUESTED_DISCRIMINATOR.data(), 0);
+  public static final long SET_BILLING_DISCRIMINATOR_LONG = getInt64LE(SET_BILLING_DISCRIMINATOR.data(), 0);
+  public static final long SET_CONFIG_DISCRIMINATOR_LONG = getInt64LE(SET_CONFIG_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      NEW_TRANSMISSION_DISCRIMINATOR_LONG,
+      ROUND_REQUESTED_DISCRIMINATOR_LONG,
+      SET_CONFIG_DISCRIMINATOR_LONG,
+      SET_BILLING_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> NewTransmission.read(_data, i);
+      case 1 -> RoundRequested.read(_data, i);
+      case 2 -> SetConfig.read(_data, i);
+      case 3 -> SetBilling.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private Ocr2Events() {
+  }
+}
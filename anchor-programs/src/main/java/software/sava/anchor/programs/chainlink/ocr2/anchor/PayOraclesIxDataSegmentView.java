@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.chainlink.ocr2.Ocr2InstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class PayOraclesIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Ocr2Program.PAY_ORACLES_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PayOraclesIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PayOraclesIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PayOraclesIxDataSegmentView(segment, offset);
+  }
+
+  public static PayOraclesIxDataSegmentView wrap(final MemorySegment segment) {
+    return new PayOraclesIxDataSegmentView(segment, 0);
+  }
+
+  public PayOraclesIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PayOraclesIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Ocr2InstructionDecoder.PayOraclesIxData read() {
+    return MemorySegmentUtil.read(segment, offset, Ocr2InstructionDecoder.PayOraclesIxData.BYTES, Ocr2InstructionDecoder.PayOraclesIxData::read);
+  }
+}
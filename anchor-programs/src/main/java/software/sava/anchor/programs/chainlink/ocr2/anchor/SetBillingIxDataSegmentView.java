@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetBillingIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Ocr2Program.SET_BILLING_DISCRIMINATOR.data(), 0);
+
+  private static final int OBSERVATION_PAYMENT_GJUELS_OFFSET = 8;
+  private static final int TRANSMISSION_PAYMENT_GJUELS_OFFSET = OBSERVATION_PAYMENT_GJUELS_OFFSET + 4;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetBillingIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetBillingIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetBillingIxDataSegmentView(segment, offset);
+  }
+
+  public static SetBillingIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetBillingIxDataSegmentView(segment, 0);
+  }
+
+  public SetBillingIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetBillingIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Ocr2Program.SetBillingIxData read() {
+    return MemorySegmentUtil.read(segment, offset, Ocr2Program.SetBillingIxData.BYTES, Ocr2Program.SetBillingIxData::read);
+  }
+
+  public int observationPaymentGjuels() {
+    return getInt32LE(segment, offset + OBSERVATION_PAYMENT_GJUELS_OFFSET);
+  }
+
+  public int transmissionPaymentGjuels() {
+    return getInt32LE(segment, offset + TRANSMISSION_PAYMENT_GJUELS_OFFSET);
+  }
+}
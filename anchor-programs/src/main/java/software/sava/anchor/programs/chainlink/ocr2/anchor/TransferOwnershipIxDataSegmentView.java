@@ -0,0 +1,64 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class TransferOwnershipIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Ocr2Program.TRANSFER_OWNERSHIP_DISCRIMINATOR.data(), 0);
+
+  private static final int PROPOSED_OWNER_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TransferOwnershipIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TransferOwnershipIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TransferOwnershipIxDataSegmentView(segment, offset);
+  }
+
+  public static TransferOwnershipIxDataSegmentView wrap(final MemorySegment segment) {
+    return new TransferOwnershipIxDataSegmentView(segment, 0);
+  }
+
+  public TransferOwnershipIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TransferOwnershipIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Ocr2Program.TransferOwnershipIxData read() {
+    return MemorySegmentUtil.read(segment, offset, Ocr2Program.TransferOwnershipIxData.BYTES, Ocr2Program.TransferOwnershipIxData::read);
+  }
+
+  public PublicKey proposedOwner() {
+    return readPubKey(segment, offset + PROPOSED_OWNER_OFFSET);
+  }
+}
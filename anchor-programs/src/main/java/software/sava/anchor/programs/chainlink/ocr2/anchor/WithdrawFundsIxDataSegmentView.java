@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawFundsIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Ocr2Program.WITHDRAW_FUNDS_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_GJUELS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawFundsIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawFundsIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawFundsIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawFundsIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawFundsIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawFundsIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawFundsIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Ocr2Program.WithdrawFundsIxData read() {
+    return MemorySegmentUtil.read(segment, offset, Ocr2Program.WithdrawFundsIxData.BYTES, Ocr2Program.WithdrawFundsIxData::read);
+  }
+
+  public long amountGjuels() {
+    return getInt64LE(segment, offset + AMOUNT_GJUELS_OFFSET);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+public final class LatestConfigSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LatestConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LatestConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LatestConfigSegmentView(segment, offset);
+  }
+
+  public static LatestConfigSegmentView wrap(final MemorySegment segment) {
+    return new LatestConfigSegmentView(segment, 0);
+  }
+
+  public LatestConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LatestConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public LatestConfig read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, LatestConfig.BYTES, LatestConfig::read);
+  }
+
+  public int configCount() {
+    return getInt32LE(segment, offset + LatestConfig.CONFIG_COUNT_OFFSET);
+  }
+
+  public byte[] configDigest() {
+    return copy(segment, offset + LatestConfig.CONFIG_DIGEST_OFFSET, 32);
+  }
+
+  public long blockNumber() {
+    return getInt64LE(segment, offset + LatestConfig.BLOCK_NUMBER_OFFSET);
+  }
+}
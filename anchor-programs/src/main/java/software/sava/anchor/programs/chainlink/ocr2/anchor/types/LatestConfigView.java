@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.util.Arrays;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class LatestConfigView {
+
+  private byte[] _data;
+  private int offset;
+
+  private LatestConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static LatestConfigView wrap(final byte[] _data, final int offset) {
+    return new LatestConfigView(_data, offset);
+  }
+
+  public static LatestConfigView wrap(final byte[] _data) {
+    return new LatestConfigView(_data, 0);
+  }
+
+  public LatestConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public LatestConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public LatestConfig read(final PublicKey _address) {
+    return LatestConfig.read(_address, _data, offset);
+  }
+
+  public int configCount() {
+    return getInt32LE(_data, offset + LatestConfig.CONFIG_COUNT_OFFSET);
+  }
+
+  public byte[] configDigest() {
+    final int from = offset + LatestConfig.CONFIG_DIGEST_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 32);
+  }
+
+  public long blockNumber() {
+    return getInt64LE(_data, offset + LatestConfig.BLOCK_NUMBER_OFFSET);
+  }
+}
@@ -0,0 +1,53 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+public final class LinkAvailableForPaymentSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LinkAvailableForPaymentSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LinkAvailableForPaymentSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LinkAvailableForPaymentSegmentView(segment, offset);
+  }
+
+  public static LinkAvailableForPaymentSegmentView wrap(final MemorySegment segment) {
+    return new LinkAvailableForPaymentSegmentView(segment, 0);
+  }
+
+  public LinkAvailableForPaymentSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LinkAvailableForPaymentSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public LinkAvailableForPayment read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, LinkAvailableForPayment.BYTES, LinkAvailableForPayment::read);
+  }
+
+  public long availableBalance() {
+    return getInt64LE(segment, offset + LinkAvailableForPayment.AVAILABLE_BALANCE_OFFSET);
+  }
+}
@@ -0,0 +1,50 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class LinkAvailableForPaymentView {
+
+  private byte[] _data;
+  private int offset;
+
+  private LinkAvailableForPaymentView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static LinkAvailableForPaymentView wrap(final byte[] _data, final int offset) {
+    return new LinkAvailableForPaymentView(_data, offset);
+  }
+
+  public static LinkAvailableForPaymentView wrap(final byte[] _data) {
+    return new LinkAvailableForPaymentView(_data, 0);
+  }
+
+  public LinkAvailableForPaymentView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public LinkAvailableForPaymentView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public LinkAvailableForPayment read(final PublicKey _address) {
+    return LinkAvailableForPayment.read(_address, _data, offset);
+  }
+
+  public long availableBalance() {
+    return getInt64LE(_data, offset + LinkAvailableForPayment.AVAILABLE_BALANCE_OFFSET);
+  }
+}
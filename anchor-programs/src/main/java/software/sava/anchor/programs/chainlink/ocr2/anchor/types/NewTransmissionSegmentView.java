@@ -0,0 +1,110 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Event fields following the event discriminator.
+public final class NewTransmissionSegmentView {
+
+  private static final int ROUND_ID_OFFSET = 0;
+  private static final int CONFIG_DIGEST_OFFSET = ROUND_ID_OFFSET + 4;
+  private static final int ANSWER_OFFSET = CONFIG_DIGEST_OFFSET + 32;
+  private static final int TRANSMITTER_OFFSET = ANSWER_OFFSET + 16;
+  private static final int OBSERVATIONS_TIMESTAMP_OFFSET = TRANSMITTER_OFFSET + 1;
+  private static final int OBSERVER_COUNT_OFFSET = OBSERVATIONS_TIMESTAMP_OFFSET + 4;
+  private static final int OBSERVERS_OFFSET = OBSERVER_COUNT_OFFSET + 1;
+  private static final int JUELS_PER_LAMPORT_OFFSET = OBSERVERS_OFFSET + 19;
+  private static final int REIMBURSEMENT_GJUELS_OFFSET = JUELS_PER_LAMPORT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private NewTransmissionSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static NewTransmissionSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new NewTransmissionSegmentView(segment, offset);
+  }
+
+  public static NewTransmissionSegmentView wrap(final MemorySegment segment) {
+    return new NewTransmissionSegmentView(segment, 0);
+  }
+
+  public NewTransmissionSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public NewTransmissionSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public NewTransmission read() {
+    return MemorySegmentUtil.read(segment, offset, NewTransmission.BYTES, NewTransmission::read);
+  }
+
+  public int roundId() {
+    return getInt32LE(segment, offset + ROUND_ID_OFFSET);
+  }
+
+  public byte[] configDigest() {
+    return copy(segment, offset + CONFIG_DIGEST_OFFSET, 32);
+  }
+
+  public BigInteger answer() {
+    return getInt128LE(segment, offset + ANSWER_OFFSET);
+  }
+
+  public long answerHigh() {
+    return getInt128High(segment, offset + ANSWER_OFFSET);
+  }
+
+  public long answerLow() {
+    return getInt128Low(segment, offset + ANSWER_OFFSET);
+  }
+
+  public int transmitter() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TRANSMITTER_OFFSET) & 0xFF;
+  }
+
+  public int observationsTimestamp() {
+    return getInt32LE(segment, offset + OBSERVATIONS_TIMESTAMP_OFFSET);
+  }
+
+  public int observerCount() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + OBSERVER_COUNT_OFFSET) & 0xFF;
+  }
+
+  public byte[] observers() {
+    return copy(segment, offset + OBSERVERS_OFFSET, 19);
+  }
+
+  public long juelsPerLamport() {
+    return getInt64LE(segment, offset + JUELS_PER_LAMPORT_OFFSET);
+  }
+
+  public long reimbursementGjuels() {
+    return getInt64LE(segment, offset + REIMBURSEMENT_GJUELS_OFFSET);
+  }
+}
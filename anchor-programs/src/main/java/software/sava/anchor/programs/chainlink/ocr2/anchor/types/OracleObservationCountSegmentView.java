@@ -0,0 +1,53 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+
+public final class OracleObservationCountSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private OracleObservationCountSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static OracleObservationCountSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new OracleObservationCountSegmentView(segment, offset);
+  }
+
+  public static OracleObservationCountSegmentView wrap(final MemorySegment segment) {
+    return new OracleObservationCountSegmentView(segment, 0);
+  }
+
+  public OracleObservationCountSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public OracleObservationCountSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public OracleObservationCount read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, OracleObservationCount.BYTES, OracleObservationCount::read);
+  }
+
+  public int count() {
+    return getInt32LE(segment, offset + OracleObservationCount.COUNT_OFFSET);
+  }
+}
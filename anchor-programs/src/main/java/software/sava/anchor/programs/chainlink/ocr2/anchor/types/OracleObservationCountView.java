@@ -0,0 +1,50 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+
+public final class OracleObservationCountView {
+
+  private byte[] _data;
+  private int offset;
+
+  private OracleObservationCountView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static OracleObservationCountView wrap(final byte[] _data, final int offset) {
+    return new OracleObservationCountView(_data, offset);
+  }
+
+  public static OracleObservationCountView wrap(final byte[] _data) {
+    return new OracleObservationCountView(_data, 0);
+  }
+
+  public OracleObservationCountView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public OracleObservationCountView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public OracleObservationCount read(final PublicKey _address) {
+    return OracleObservationCount.read(_address, _data, offset);
+  }
+
+  public int count() {
+    return getInt32LE(_data, offset + OracleObservationCount.COUNT_OFFSET);
+  }
+}
@@ -0,0 +1,78 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ProposalSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ProposalSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ProposalSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ProposalSegmentView(segment, offset);
+  }
+
+  public static ProposalSegmentView wrap(final MemorySegment segment) {
+    return new ProposalSegmentView(segment, 0);
+  }
+
+  public ProposalSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProposalSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Proposal read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Proposal.BYTES, Proposal::read);
+  }
+
+  public int version() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Proposal.VERSION_OFFSET) & 0xFF;
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Proposal.OWNER_OFFSET);
+  }
+
+  public int state() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Proposal.STATE_OFFSET) & 0xFF;
+  }
+
+  public int f() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Proposal.F_OFFSET) & 0xFF;
+  }
+
+  public PublicKey tokenMint() {
+    return readPubKey(segment, offset + Proposal.TOKEN_MINT_OFFSET);
+  }
+
+  public ProposedOracles oracles() {
+    return MemorySegmentUtil.read(segment, offset + Proposal.ORACLES_OFFSET, ProposedOracles.BYTES, ProposedOracles::read);
+  }
+
+  public OffchainConfig offchainConfig() {
+    return MemorySegmentUtil.read(segment, offset + Proposal.OFFCHAIN_CONFIG_OFFSET, OffchainConfig.BYTES, OffchainConfig::read);
+  }
+}
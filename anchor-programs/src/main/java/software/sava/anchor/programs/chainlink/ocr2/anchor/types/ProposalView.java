@@ -0,0 +1,74 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class ProposalView {
+
+  private byte[] _data;
+  private int offset;
+
+  private ProposalView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ProposalView wrap(final byte[] _data, final int offset) {
+    return new ProposalView(_data, offset);
+  }
+
+  public static ProposalView wrap(final byte[] _data) {
+    return new ProposalView(_data, 0);
+  }
+
+  public ProposalView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProposalView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Proposal read(final PublicKey _address) {
+    return Proposal.read(_address, _data, offset);
+  }
+
+  public int version() {
+    return _data[offset + Proposal.VERSION_OFFSET] & 0xFF;
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Proposal.OWNER_OFFSET);
+  }
+
+  public int state() {
+    return _data[offset + Proposal.STATE_OFFSET] & 0xFF;
+  }
+
+  public int f() {
+    return _data[offset + Proposal.F_OFFSET] & 0xFF;
+  }
+
+  public PublicKey tokenMint() {
+    return readPubKey(_data, offset + Proposal.TOKEN_MINT_OFFSET);
+  }
+
+  public ProposedOracles oracles() {
+    return ProposedOracles.read(_data, offset + Proposal.ORACLES_OFFSET);
+  }
+
+  public OffchainConfig offchainConfig() {
+    return OffchainConfig.read(_data, offset + Proposal.OFFCHAIN_CONFIG_OFFSET);
+  }
+}
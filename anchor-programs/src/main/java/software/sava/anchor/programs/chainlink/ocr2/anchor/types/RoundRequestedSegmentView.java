@@ -0,0 +1,74 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class RoundRequestedSegmentView {
+
+  private static final int CONFIG_DIGEST_OFFSET = 0;
+  private static final int REQUESTER_OFFSET = CONFIG_DIGEST_OFFSET + 32;
+  private static final int EPOCH_OFFSET = REQUESTER_OFFSET + 32;
+  private static final int ROUND_OFFSET = EPOCH_OFFSET + 4;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RoundRequestedSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RoundRequestedSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RoundRequestedSegmentView(segment, offset);
+  }
+
+  public static RoundRequestedSegmentView wrap(final MemorySegment segment) {
+    return new RoundRequestedSegmentView(segment, 0);
+  }
+
+  public RoundRequestedSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RoundRequestedSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public RoundRequested read() {
+    return MemorySegmentUtil.read(segment, offset, RoundRequested.BYTES, RoundRequested::read);
+  }
+
+  public byte[] configDigest() {
+    return copy(segment, offset + CONFIG_DIGEST_OFFSET, 32);
+  }
+
+  public PublicKey requester() {
+    return readPubKey(segment, offset + REQUESTER_OFFSET);
+  }
+
+  public int epoch() {
+    return getInt32LE(segment, offset + EPOCH_OFFSET);
+  }
+
+  public int round() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ROUND_OFFSET) & 0xFF;
+  }
+}
@@ -0,0 +1,60 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+
+// Event fields following the event discriminator.
+public final class SetBillingSegmentView {
+
+  private static final int OBSERVATION_PAYMENT_GJUELS_OFFSET = 0;
+  private static final int TRANSMISSION_PAYMENT_GJUELS_OFFSET = OBSERVATION_PAYMENT_GJUELS_OFFSET + 4;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetBillingSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetBillingSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetBillingSegmentView(segment, offset);
+  }
+
+  public static SetBillingSegmentView wrap(final MemorySegment segment) {
+    return new SetBillingSegmentView(segment, 0);
+  }
+
+  public SetBillingSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetBillingSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public SetBilling read() {
+    return MemorySegmentUtil.read(segment, offset, SetBilling.BYTES, SetBilling::read);
+  }
+
+  public int observationPaymentGjuels() {
+    return getInt32LE(segment, offset + OBSERVATION_PAYMENT_GJUELS_OFFSET);
+  }
+
+  public int transmissionPaymentGjuels() {
+    return getInt32LE(segment, offset + TRANSMISSION_PAYMENT_GJUELS_OFFSET);
+  }
+}
@@ -0,0 +1,74 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class StateSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private StateSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static StateSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new StateSegmentView(segment, offset);
+  }
+
+  public static StateSegmentView wrap(final MemorySegment segment) {
+    return new StateSegmentView(segment, 0);
+  }
+
+  public StateSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public StateSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public State read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, State.BYTES, State::read);
+  }
+
+  public int version() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + State.VERSION_OFFSET) & 0xFF;
+  }
+
+  public int vaultNonce() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + State.VAULT_NONCE_OFFSET) & 0xFF;
+  }
+
+  public PublicKey feed() {
+    return readPubKey(segment, offset + State.FEED_OFFSET);
+  }
+
+  public Config config() {
+    return MemorySegmentUtil.read(segment, offset + State.CONFIG_OFFSET, Config.BYTES, Config::read);
+  }
+
+  public OffchainConfig offchainConfig() {
+    return MemorySegmentUtil.read(segment, offset + State.OFFCHAIN_CONFIG_OFFSET, OffchainConfig.BYTES, OffchainConfig::read);
+  }
+
+  public Oracles oracles() {
+    return MemorySegmentUtil.read(segment, offset + State.ORACLES_OFFSET, Oracles.BYTES, Oracles::read);
+  }
+}
@@ -0,0 +1,70 @@
+package software.sava.anchor.programs.chainlink.ocr2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class StateView {
+
+  private byte[] _data;
+  private int offset;
+
+  private StateView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static StateView wrap(final byte[] _data, final int offset) {
+    return new StateView(_data, offset);
+  }
+
+  public static StateView wrap(final byte[] _data) {
+    return new StateView(_data, 0);
+  }
+
+  public StateView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public StateView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public State read(final PublicKey _address) {
+    return State.read(_address, _data, offset);
+  }
+
+  public int version() {
+    return _data[offset + State.VERSION_OFFSET] & 0xFF;
+  }
+
+  public int vaultNonce() {
+    return _data[offset + State.VAULT_NONCE_OFFSET] & 0xFF;
+  }
+
+  public PublicKey feed() {
+    return readPubKey(_data, offset + State.FEED_OFFSET);
+  }
+
+  public Config config() {
+    return Config.read(_data, offset + State.CONFIG_OFFSET);
+  }
+
+  public OffchainConfig offchainConfig() {
+    return OffchainConfig.read(_data, offset + State.OFFCHAIN_CONFIG_OFFSET);
+  }
+
+  public Oracles oracles() {
+    return Oracles.read(_data, offset + State.ORACLES_OFFSET);
+  }
+}
@@ -0,0 +1,219 @@
+package software.sava.anchor.programs.chainlink.store;
+
+import software.sava.anchor.programs.chainlink.store.anchor.StoreProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Chainlink store instruction data decoded into the StoreProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class StoreInstructionDecoder {
+
+  public record AcceptFeedOwnershipIxData(Discriminator discriminator) implements Borsh {
+
+    public static AcceptFeedOwnershipIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static AcceptFeedOwnershipIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new AcceptFeedOwnershipIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record AcceptStoreOwnershipIxData(Discriminator discriminator) implements Borsh {
+
+    public static AcceptStoreOwnershipIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static AcceptStoreOwnershipIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new AcceptStoreOwnershipIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseFeedIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseFeedIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseFeedIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseFeedIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record InitializeIxData(Discriminator discriminator) implements Borsh {
+
+    public static InitializeIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static InitializeIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new InitializeIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LowerFlagIxData(Discriminator discriminator) implements Borsh {
+
+    public static LowerFlagIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LowerFlagIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LowerFlagIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record SetLoweringAccessControllerIxData(Discriminator discriminator) implements Borsh {
+
+    public static SetLoweringAccessControllerIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static SetLoweringAccessControllerIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new SetLoweringAccessControllerIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(StoreProgram.ACCEPT_FEED_OWNERSHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.QUERY_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.CREATE_FEED_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.TRANSFER_FEED_OWNERSHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.ACCEPT_STORE_OWNERSHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.INITIALIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.SET_VALIDATOR_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.CLOSE_FEED_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.SUBMIT_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.SET_WRITER_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.TRANSFER_STORE_OWNERSHIP_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.LOWER_FLAG_DISCRIMINATOR.data(), 0),
+      getInt64LE(StoreProgram.SET_LOWERING_ACCESS_CONTROLLER_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> AcceptFeedOwnershipIxData.read(_data, offset);
+      case 1 -> StoreProgram.QueryIxData.read(_data, offset);
+      case 2 -> StoreProgram.CreateFeedIxData.read(_data, offset);
+      case 3 -> StoreProgram.TransferFeedOwnershipIxData.read(_data, offset);
+      case 4 -> AcceptStoreOwnershipIxData.read(_data, offset);
+      case 5 -> InitializeIxData.read(_data, offset);
+      case 6 -> StoreProgram.SetValidatorConfigIxData.read(_data, offset);
+      case 7 -> CloseFeedIxData.read(_data, offset);
+      case 8 -> StoreProgram.SubmitIxData.read(_data, offset);
+      case 9 -> StoreProgram.SetWriterIxData.read(_data, offset);
+      case 10 -> StoreProgram.TransferStoreOwnershipIxData.read(_data, offset);
+      case 11 -> LowerFlagIxData.read(_data, offset);
+      case 12 -> SetLoweringAccessControllerIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private StoreInstructionDecoder() {
+  }
+}
@@ -19,6 +19,10 @@ public record Transmission(long slot,
 
   public static final int BYTES = 40;
 
+  public static final int SLOT_OFFSET = 0;
+  public static final int TIMESTAMP_OFFSET = 8;
+  public static final int ANSWER_OFFSET = 16;
+
   public static final Discriminator TRANSMISSIONS_DISCRIMINATOR = toDiscriminator(96, 179, 69, 66, 128, 129, 73, 117);
 
   public static Filter discriminatorFilter() {
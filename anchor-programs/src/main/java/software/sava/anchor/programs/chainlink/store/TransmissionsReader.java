@@ -0,0 +1,259 @@
+package software.sava.anchor.programs.chainlink.store;
+
+import software.sava.anchor.programs.chainlink.store.anchor.StoreConstants;
+import software.sava.anchor.programs.chainlink.store.anchor.types.Transmissions;
+import software.sava.core.programs.Discriminator;
+
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// Ring buffer aware reader over the raw data of a store Transmissions account.
+//
+// After the header the account holds two rings of Transmission entries. The live ring keeps the latest liveLength
+// rounds, liveCursor being the slot the next round is written to. The historical ring fills the rest of the account
+// and keeps every round whose id is a multiple of granularity, historicalCursor being its next slot.
+// Rounds are addressed by id, as in the store program's fetch, and resolved to the byte offset of their entry, only the
+// entries asked for are read. Answers are i128 and exposed as high and low longs.
+//
+// Like the generated views, a reader may be rewrapped over new account data to avoid allocating per update.
+public final class TransmissionsReader {
+
+  public static final int RINGS_OFFSET = Discriminator.ANCHOR_DISCRIMINATOR_LENGTH
+      + Math.toIntExact(StoreConstants.HEADER_SIZE);
+
+  private byte[] _data;
+  private int latestRoundId;
+  private int granularity;
+  private int liveLength;
+  private int liveCursor;
+  private int historicalLength;
+  private int historicalCursor;
+
+  private TransmissionsReader() {
+  }
+
+  public static TransmissionsReader wrap(final byte[] _data) {
+    return new TransmissionsReader().rewrap(_data);
+  }
+
+  public TransmissionsReader rewrap(final byte[] _data) {
+    this._data = _data;
+    this.latestRoundId = getInt32LE(_data, Transmissions.LATEST_ROUND_ID_OFFSET);
+    this.granularity = _data[Transmissions.GRANULARITY_OFFSET] & 0xFF;
+    this.liveLength = getInt32LE(_data, Transmissions.LIVE_LENGTH_OFFSET);
+    this.liveCursor = getInt32LE(_data, Transmissions.LIVE_CURSOR_OFFSET);
+    this.historicalCursor = getInt32LE(_data, Transmissions.HISTORICAL_CURSOR_OFFSET);
+    this.historicalLength = Math.max(0, (_data.length - RINGS_OFFSET) / Transmission.BYTES - liveLength);
+    return this;
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int latestRoundId() {
+    return latestRoundId;
+  }
+
+  public int decimals() {
+    return _data[Transmissions.DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public int granularity() {
+    return granularity;
+  }
+
+  public int liveLength() {
+    return liveLength;
+  }
+
+  public int historicalLength() {
+    return historicalLength;
+  }
+
+  // Oldest round id held by the live ring, 0 if there are no rounds.
+  public int liveStartRoundId() {
+    return latestRoundId == 0 || liveLength <= 0 ? 0 : Math.max(1, latestRoundId - (liveLength - 1));
+  }
+
+  private int historicalEndRoundId() {
+    return granularity == 0 || historicalLength == 0 ? 0 : latestRoundId - latestRoundId % granularity;
+  }
+
+  private int historicalStartRoundId() {
+    final int end = historicalEndRoundId();
+    if (end == 0) {
+      return 0;
+    }
+    final int start = end - Math.min(end, granularity * (historicalLength - 1));
+    return Math.max(granularity, start);
+  }
+
+  private int liveOffset(final int index) {
+    return RINGS_OFFSET + index * Transmission.BYTES;
+  }
+
+  private int historicalOffset(final int index) {
+    return RINGS_OFFSET + (liveLength + index) * Transmission.BYTES;
+  }
+
+  // Byte offset of the entry of the latest round, -1 if there are no rounds.
+  public int latestOffset() {
+    if (latestRoundId == 0 || liveLength == 0) {
+      return -1;
+    }
+    return liveOffset((liveCursor + liveLength - 1) % liveLength);
+  }
+
+  // Byte offset of the entry for roundId, from the live ring if still held there and otherwise the historical ring.
+  // As in fetch, a round before the live window resolves to the closest historical round at or before it.
+  // -1 if the round is not retained.
+  public int offset(final int roundId) {
+    if (roundId <= 0 || roundId > latestRoundId) {
+      return -1;
+    }
+    final int liveStart = liveStartRoundId();
+    if (liveStart != 0 && roundId >= liveStart) {
+      final int back = latestRoundId - roundId + 1;
+      return liveOffset(liveCursor >= back ? liveCursor - back : liveLength - (back - liveCursor));
+    }
+    final int historicalEnd = historicalEndRoundId();
+    if (historicalEnd != 0 && roundId >= historicalStartRoundId() && roundId <= historicalEnd) {
+      final int back = (historicalEnd - (roundId - roundId % granularity)) / granularity + 1;
+      return historicalOffset(historicalCursor >= back
+          ? historicalCursor - back
+          : historicalLength - (back - historicalCursor));
+    }
+    return -1;
+  }
+
+  // Writes the offsets of up to the latest n live rounds to out, oldest first, returning the number written.
+  // At most out.length offsets are written.
+  public int latestOffsets(final int n, final int[] out) {
+    final int liveStart = liveStartRoundId();
+    if (liveStart == 0) {
+      return 0;
+    }
+    final int count = Math.min(Math.min(n, out.length), latestRoundId - liveStart + 1);
+    final int first = latestRoundId - count + 1;
+    for (int i = 0; i < count; ++i) {
+      out[i] = offset(first + i);
+    }
+    return count;
+  }
+
+  // The latest n live rounds, oldest first.
+  public Transmission[] latest(final int n) {
+    final var offsets = new int[Math.max(0, Math.min(n, liveLength))];
+    final int count = latestOffsets(offsets.length, offsets);
+    final var transmissions = new Transmission[count];
+    for (int i = 0; i < count; ++i) {
+      transmissions[i] = Transmission.read(_data, offsets[i]);
+    }
+    return transmissions;
+  }
+
+  // Latest retained round whose slot is at or before slot, 0 if none. Binary searches the live ring, then the
+  // historical ring for slots before the live window.
+  public int roundAtSlot(final long slot) {
+    return search(slot, Transmission.SLOT_OFFSET, true);
+  }
+
+  // Latest retained round whose timestamp is at or before timestamp, 0 if none.
+  public int roundAtTimestamp(final long timestamp) {
+    return search(timestamp, Transmission.TIMESTAMP_OFFSET, false);
+  }
+
+  private long key(final int roundId, final int fieldOffset, final boolean slot) {
+    final int offset = offset(roundId);
+    return slot ? getInt64LE(_data, offset + fieldOffset) : getInt32LE(_data, offset + fieldOffset) & 0xFFFF_FFFFL;
+  }
+
+  private int search(final long target, final int fieldOffset, final boolean slot) {
+    final int liveStart = liveStartRoundId();
+    if (liveStart == 0) {
+      return 0;
+    }
+    if (key(liveStart, fieldOffset, slot) <= target) {
+      int lo = liveStart;
+      int hi = latestRoundId;
+      while (lo < hi) {
+        final int mid = (lo + hi + 1) >>> 1;
+        if (key(mid, fieldOffset, slot) <= target) {
+          lo = mid;
+        } else {
+          hi = mid - 1;
+        }
+      }
+      return lo;
+    }
+    final int historicalStart = historicalStartRoundId();
+    if (historicalStart == 0) {
+      return 0;
+    }
+    // historical rounds are every granularity rounds, only search those before the live window
+    int lo = 0;
+    int hi = Math.min((liveStart - 1) / granularity * granularity, historicalEndRoundId());
+    if (hi < historicalStart) {
+      return 0;
+    }
+    hi = (hi - historicalStart) / granularity;
+    int found = -1;
+    while (lo <= hi) {
+      final int mid = (lo + hi) >>> 1;
+      final long key = key(historicalStart + mid * granularity, fieldOffset, slot);
+      // unwritten entries are zeroed
+      if (key != 0 && key <= target) {
+        found = mid;
+        lo = mid + 1;
+      } else if (key == 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid - 1;
+      }
+    }
+    return found < 0 ? 0 : historicalStart + found * granularity;
+  }
+
+  // The field accessors below take an entry offset from latestOffset, offset or latestOffsets. Check those for -1
+  // first, an offset before the rings would otherwise read the header as an entry, so it throws instead.
+  private static int entryOffset(final int offset) {
+    if (offset < RINGS_OFFSET) {
+      throw new IndexOutOfBoundsException("Not a transmission entry offset: " + offset);
+    }
+    return offset;
+  }
+
+  public long slot(final int offset) {
+    return getInt64LE(_data, entryOffset(offset) + Transmission.SLOT_OFFSET);
+  }
+
+  public long timestamp(final int offset) {
+    return getInt32LE(_data, entryOffset(offset) + Transmission.TIMESTAMP_OFFSET) & 0xFFFF_FFFFL;
+  }
+
+  public long answerHigh(final int offset) {
+    return getInt64LE(_data, entryOffset(offset) + Transmission.ANSWER_OFFSET + Long.BYTES);
+  }
+
+  public long answerLow(final int offset) {
+    return getInt64LE(_data, entryOffset(offset) + Transmission.ANSWER_OFFSET);
+  }
+
+  // Throws an ArithmeticException if the answer does not fit in a long.
+  public long answer(final int offset) {
+    final long low = answerLow(offset);
+    if (answerHigh(offset) != low >> 63) {
+      throw new ArithmeticException("long overflow");
+    }
+    return low;
+  }
+
+  public Transmission transmission(final int offset) {
+    return offset < 0 ? null : Transmission.read(_data, offset);
+  }
+
+  public Transmission latestTransmission() {
+    return transmission(latestOffset());
+  }
+}
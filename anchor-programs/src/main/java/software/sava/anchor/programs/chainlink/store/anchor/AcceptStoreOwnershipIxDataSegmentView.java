@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.chainlink.store.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.chainlink.store.StoreInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class AcceptStoreOwnershipIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(StoreProgram.ACCEPT_STORE_OWNERSHIP_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AcceptStoreOwnershipIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AcceptStoreOwnershipIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AcceptStoreOwnershipIxDataSegmentView(segment, offset);
+  }
+
+  public static AcceptStoreOwnershipIxDataSegmentView wrap(final MemorySegment segment) {
+    return new AcceptStoreOwnershipIxDataSegmentView(segment, 0);
+  }
+
+  public AcceptStoreOwnershipIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AcceptStoreOwnershipIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StoreInstructionDecoder.AcceptStoreOwnershipIxData read() {
+    return MemorySegmentUtil.read(segment, offset, StoreInstructionDecoder.AcceptStoreOwnershipIxData.BYTES, StoreInstructionDecoder.AcceptStoreOwnershipIxData::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.chainlink.store.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.chainlink.store.StoreInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseFeedIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(StoreProgram.CLOSE_FEED_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseFeedIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseFeedIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseFeedIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseFeedIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseFeedIxDataSegmentView(segment, 0);
+  }
+
+  public CloseFeedIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseFeedIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StoreInstructionDecoder.CloseFeedIxData read() {
+    return MemorySegmentUtil.read(segment, offset, StoreInstructionDecoder.CloseFeedIxData.BYTES, StoreInstructionDecoder.CloseFeedIxData::read);
+  }
+}
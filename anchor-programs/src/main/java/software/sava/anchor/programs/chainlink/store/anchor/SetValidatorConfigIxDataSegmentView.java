@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.chainlink.store.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetValidatorConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(StoreProgram.SET_VALIDATOR_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int FLAGGING_THRESHOLD_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetValidatorConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetValidatorConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetValidatorConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static SetValidatorConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetValidatorConfigIxDataSegmentView(segment, 0);
+  }
+
+  public SetValidatorConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetValidatorConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StoreProgram.SetValidatorConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, StoreProgram.SetValidatorConfigIxData.BYTES, StoreProgram.SetValidatorConfigIxData::read);
+  }
+
+  public int flaggingThreshold() {
+    return getInt32LE(segment, offset + FLAGGING_THRESHOLD_OFFSET);
+  }
+}
@@ -0,0 +1,64 @@
+package software.sava.anchor.programs.chainlink.store.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetWriterIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(StoreProgram.SET_WRITER_DISCRIMINATOR.data(), 0);
+
+  private static final int WRITER_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetWriterIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetWriterIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetWriterIxDataSegmentView(segment, offset);
+  }
+
+  public static SetWriterIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetWriterIxDataSegmentView(segment, 0);
+  }
+
+  public SetWriterIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetWriterIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StoreProgram.SetWriterIxData read() {
+    return MemorySegmentUtil.read(segment, offset, StoreProgram.SetWriterIxData.BYTES, StoreProgram.SetWriterIxData::read);
+  }
+
+  public PublicKey writer() {
+    return readPubKey(segment, offset + WRITER_OFFSET);
+  }
+}
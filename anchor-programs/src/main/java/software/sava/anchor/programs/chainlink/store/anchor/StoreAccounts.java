@@ -0,0 +1,41 @@
+package software.sava.anchor.programs.chainlink.store.anchor;
+
+import software.sava.anchor.programs.chainlink.store.anchor.types.Store;
+import software.sava.anchor.programs.chainlink.store.anchor.types.Transmissions;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class StoreAccounts {
+
+  public static final Discriminator STORE_ACCOUNT_DISCRIMINATOR = toDiscriminator(130, 48, 247, 244, 182, 191, 30, 26);
+  public static final Discriminator TRANSMISSIONS_ACCOUNT_DISCRIMINATOR = toDiscriminator(96, 179, 69, 66, 128, 129, 73, 117);
+
+  public static final long STORE_DISCRIMINATOR = getInt64LE(STORE_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long TRANSMISSIONS_DISCRIMINATOR = getInt64LE(TRANSMISSIONS_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == STORE_DISCRIMINATOR) {
+      return Store.read(_address, _data, 0);
+    } else if (discriminator == TRANSMISSIONS_DISCRIMINATOR) {
+      return Transmissions.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private StoreAccounts() {
+  }
+}
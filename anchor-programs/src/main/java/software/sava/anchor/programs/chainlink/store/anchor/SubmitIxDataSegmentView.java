@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.chainlink.store.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.chainlink.store.anchor.types.NewTransmission;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SubmitIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(StoreProgram.SUBMIT_DISCRIMINATOR.data(), 0);
+
+  private static final int ROUND_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SubmitIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SubmitIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SubmitIxDataSegmentView(segment, offset);
+  }
+
+  public static SubmitIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SubmitIxDataSegmentView(segment, 0);
+  }
+
+  public SubmitIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SubmitIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StoreProgram.SubmitIxData read() {
+    return MemorySegmentUtil.read(segment, offset, StoreProgram.SubmitIxData.BYTES, StoreProgram.SubmitIxData::read);
+  }
+
+  public NewTransmission round() {
+    return MemorySegmentUtil.read(segment, offset + ROUND_OFFSET, NewTransmission.BYTES, NewTransmission::read);
+  }
+}
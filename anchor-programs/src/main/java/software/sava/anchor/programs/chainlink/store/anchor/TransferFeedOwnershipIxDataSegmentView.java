@@ -0,0 +1,64 @@
+package software.sava.anchor.programs.chainlink.store.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class TransferFeedOwnershipIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(StoreProgram.TRANSFER_FEED_OWNERSHIP_DISCRIMINATOR.data(), 0);
+
+  private static final int PROPOSED_OWNER_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TransferFeedOwnershipIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TransferFeedOwnershipIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TransferFeedOwnershipIxDataSegmentView(segment, offset);
+  }
+
+  public static TransferFeedOwnershipIxDataSegmentView wrap(final MemorySegment segment) {
+    return new TransferFeedOwnershipIxDataSegmentView(segment, 0);
+  }
+
+  public TransferFeedOwnershipIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TransferFeedOwnershipIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StoreProgram.TransferFeedOwnershipIxData read() {
+    return MemorySegmentUtil.read(segment, offset, StoreProgram.TransferFeedOwnershipIxData.BYTES, StoreProgram.TransferFeedOwnershipIxData::read);
+  }
+
+  public PublicKey proposedOwner() {
+    return readPubKey(segment, offset + PROPOSED_OWNER_OFFSET);
+  }
+}
@@ -0,0 +1,61 @@
+package software.sava.anchor.programs.chainlink.store.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class StoreSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private StoreSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static StoreSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new StoreSegmentView(segment, offset);
+  }
+
+  public static StoreSegmentView wrap(final MemorySegment segment) {
+    return new StoreSegmentView(segment, 0);
+  }
+
+  public StoreSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public StoreSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Store read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Store.BYTES, Store::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Store.OWNER_OFFSET);
+  }
+
+  public PublicKey proposedOwner() {
+    return readPubKey(segment, offset + Store.PROPOSED_OWNER_OFFSET);
+  }
+
+  public PublicKey loweringAccessController() {
+    return readPubKey(segment, offset + Store.LOWERING_ACCESS_CONTROLLER_OFFSET);
+  }
+}
@@ -0,0 +1,58 @@
+package software.sava.anchor.programs.chainlink.store.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class StoreView {
+
+  private byte[] _data;
+  private int offset;
+
+  private StoreView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static StoreView wrap(final byte[] _data, final int offset) {
+    return new StoreView(_data, offset);
+  }
+
+  public static StoreView wrap(final byte[] _data) {
+    return new StoreView(_data, 0);
+  }
+
+  public StoreView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public StoreView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Store read(final PublicKey _address) {
+    return Store.read(_address, _data, offset);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Store.OWNER_OFFSET);
+  }
+
+  public PublicKey proposedOwner() {
+    return readPubKey(_data, offset + Store.PROPOSED_OWNER_OFFSET);
+  }
+
+  public PublicKey loweringAccessController() {
+    return readPubKey(_data, offset + Store.LOWERING_ACCESS_CONTROLLER_OFFSET);
+  }
+}
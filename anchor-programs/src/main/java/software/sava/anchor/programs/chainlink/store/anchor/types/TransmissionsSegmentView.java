@@ -0,0 +1,104 @@
+package software.sava.anchor.programs.chainlink.store.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class TransmissionsSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TransmissionsSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TransmissionsSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TransmissionsSegmentView(segment, offset);
+  }
+
+  public static TransmissionsSegmentView wrap(final MemorySegment segment) {
+    return new TransmissionsSegmentView(segment, 0);
+  }
+
+  public TransmissionsSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TransmissionsSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Transmissions read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Transmissions.BYTES, Transmissions::read);
+  }
+
+  public int version() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Transmissions.VERSION_OFFSET) & 0xFF;
+  }
+
+  public int state() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Transmissions.STATE_OFFSET) & 0xFF;
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Transmissions.OWNER_OFFSET);
+  }
+
+  public PublicKey proposedOwner() {
+    return readPubKey(segment, offset + Transmissions.PROPOSED_OWNER_OFFSET);
+  }
+
+  public PublicKey writer() {
+    return readPubKey(segment, offset + Transmissions.WRITER_OFFSET);
+  }
+
+  public byte[] description() {
+    return copy(segment, offset + Transmissions.DESCRIPTION_OFFSET, 32);
+  }
+
+  public int decimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Transmissions.DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public int flaggingThreshold() {
+    return getInt32LE(segment, offset + Transmissions.FLAGGING_THRESHOLD_OFFSET);
+  }
+
+  public int latestRoundId() {
+    return getInt32LE(segment, offset + Transmissions.LATEST_ROUND_ID_OFFSET);
+  }
+
+  public int granularity() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Transmissions.GRANULARITY_OFFSET) & 0xFF;
+  }
+
+  public int liveLength() {
+    return getInt32LE(segment, offset + Transmissions.LIVE_LENGTH_OFFSET);
+  }
+
+  public int liveCursor() {
+    return getInt32LE(segment, offset + Transmissions.LIVE_CURSOR_OFFSET);
+  }
+
+  public int historicalCursor() {
+    return getInt32LE(segment, offset + Transmissions.HISTORICAL_CURSOR_OFFSET);
+  }
+}
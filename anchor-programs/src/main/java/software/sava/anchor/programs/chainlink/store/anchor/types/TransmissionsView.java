@@ -0,0 +1,102 @@
+package software.sava.anchor.programs.chainlink.store.anchor.types;
+
+import java.util.Arrays;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+
+public final class TransmissionsView {
+
+  private byte[] _data;
+  private int offset;
+
+  private TransmissionsView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static TransmissionsView wrap(final byte[] _data, final int offset) {
+    return new TransmissionsView(_data, offset);
+  }
+
+  public static TransmissionsView wrap(final byte[] _data) {
+    return new TransmissionsView(_data, 0);
+  }
+
+  public TransmissionsView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public TransmissionsView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Transmissions read(final PublicKey _address) {
+    return Transmissions.read(_address, _data, offset);
+  }
+
+  public int version() {
+    return _data[offset + Transmissions.VERSION_OFFSET] & 0xFF;
+  }
+
+  public int state() {
+    return _data[offset + Transmissions.STATE_OFFSET] & 0xFF;
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Transmissions.OWNER_OFFSET);
+  }
+
+  public PublicKey proposedOwner() {
+    return readPubKey(_data, offset + Transmissions.PROPOSED_OWNER_OFFSET);
+  }
+
+  public PublicKey writer() {
+    return readPubKey(_data, offset + Transmissions.WRITER_OFFSET);
+  }
+
+  public byte[] description() {
+    final int from = offset + Transmissions.DESCRIPTION_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 32);
+  }
+
+  public int decimals() {
+    return _data[offset + Transmissions.DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public int flaggingThreshold() {
+    return getInt32LE(_data, offset + Transmissions.FLAGGING_THRESHOLD_OFFSET);
+  }
+
+  public int latestRoundId() {
+    return getInt32LE(_data, offset + Transmissions.LATEST_ROUND_ID_OFFSET);
+  }
+
+  public int granularity() {
+    return _data[offset + Transmissions.GRANULARITY_OFFSET] & 0xFF;
+  }
+
+  public int liveLength() {
+    return getInt32LE(_data, offset + Transmissions.LIVE_LENGTH_OFFSET);
+  }
+
+  public int liveCursor() {
+    return getInt32LE(_data, offset + Transmissions.LIVE_CURSOR_OFFSET);
+  }
+
+  public int historicalCursor() {
+    return getInt32LE(_data, offset + Transmissions.HISTORICAL_CURSOR_OFFSET);
+  }
+}
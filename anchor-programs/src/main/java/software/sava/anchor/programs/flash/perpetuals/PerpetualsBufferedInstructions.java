@@ -0,0 +1,3810 @@
+package software.sava.anchor.programs.flash.perpetuals;
+
+import software.sava.anchor.programs._commons.InstructionBuffer;
+import software.sava.anchor.programs.flash.perpetuals.anchor.PerpetualsProgram;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCollateralParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCompoundingLiquidityParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCustodyParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCustodyToken22AccountParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddInternalOracleParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddLiquidityAndStakeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddLiquidityParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddMarketParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddPoolParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CancelTriggerOrderParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CancelUnstakeTokenRequestParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CloseAndSwapParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ClosePositionParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectRevenueParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectStakeRewardParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectTokenRewardParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CompoundFeesParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CreateReferralParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CreateWhitelistParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DecreaseSizeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DepositStakeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DepositTokenStakeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DistributeTokenRewardParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.EditLimitOrderParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.EditTriggerOrderParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitOrderParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitWithSwapParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteTriggerOrderParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteTriggerWithSwapParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetAddCompoundingLiquidityAmountAndFeeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetAddLiquidityAmountAndFeeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetAssetsUnderManagementParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetCompoundingTokenDataParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetCompoundingTokenPriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetEntryPriceAndFeeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetExitPriceAndFeeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetLiquidationPriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetLiquidationStateParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetLpTokenPriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetOraclePriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetPnlParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetPositionDataParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetRemoveCompoundingLiquidityAmountAndFeeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetRemoveLiquidityAmountAndFeeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetSwapAmountAndFeesParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.IncreaseSizeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitCompoundingParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitRebateVaultParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitRevenueTokenAccountParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitStakingParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitTokenVaultParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.LiquidateParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.MigrateFlpParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.MigrateStakeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.OpenPositionParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.PlaceLimitOrderParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.PlaceTriggerOrderParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RefreshStakeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ReimburseParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralAndSwapParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCompoundingLiquidityParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCustodyParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveLiquidityParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveMarketParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemovePoolParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RenameFlpParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ResizeInternalOracleParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetAdminSignersParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetCustodyConfigParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetCustomOraclePriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetFeeShareParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetInternalCurrentPriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetInternalEmaPriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetInternalOraclePriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetLpTokenPriceParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetMarketConfigParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPermissionsParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPerpetualsConfigParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPoolConfigParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPositionPriceImpactParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetProtocolFeeShareParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetTestTimeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetTokenRewardParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetTokenStakeLevelParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetTokenVaultConfigParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetWhitelistConfigParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndAddCollateralParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndOpenParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapFeeInternalParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.TestInitParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeInstantParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeRequestParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeTokenInstantParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeTokenRequestParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawFeesParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawInstantFeesParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawSolFeesParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawStakeParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawTokenParams;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawUnclaimedTokensParams;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.accounts.meta.AccountMeta;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.tx.Instruction;
+
+// InstructionBuffer overloads of the PerpetualsProgram builders, taking the same parameters after the buffer.
+// See InstructionBuffer for how long the built instructions stay valid.
+public final class PerpetualsBufferedInstructions {
+
+  public static Instruction init(final InstructionBuffer _buffer,
+                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                 final PublicKey upgradeAuthorityKey,
+                                 final PublicKey multisigKey,
+                                 final PublicKey transferAuthorityKey,
+                                 final PublicKey perpetualsKey,
+                                 final PublicKey perpetualsProgramKey,
+                                 final PublicKey perpetualsProgramDataKey,
+                                 final PublicKey systemProgramKey,
+                                 final PublicKey tokenProgramKey,
+                                 final InitParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(upgradeAuthorityKey);
+    _buffer.write(multisigKey);
+    _buffer.write(transferAuthorityKey);
+    _buffer.write(perpetualsKey);
+    _buffer.read(perpetualsProgramKey);
+    _buffer.read(perpetualsProgramDataKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.INIT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addPool(final InstructionBuffer _buffer,
+                                    final AccountMeta invokedPerpetualsProgramMeta,
+                                    final PublicKey adminKey,
+                                    final PublicKey oracleAuthorityKey,
+                                    final PublicKey multisigKey,
+                                    final PublicKey transferAuthorityKey,
+                                    final PublicKey perpetualsKey,
+                                    final PublicKey poolKey,
+                                    final PublicKey lpTokenMintKey,
+                                    final PublicKey metadataAccountKey,
+                                    final PublicKey systemProgramKey,
+                                    final PublicKey tokenProgramKey,
+                                    final PublicKey metadataProgramKey,
+                                    final PublicKey rentKey,
+                                    final AddPoolParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.read(oracleAuthorityKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.write(metadataAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(metadataProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_POOL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction removePool(final InstructionBuffer _buffer,
+                                       final AccountMeta invokedPerpetualsProgramMeta,
+                                       final PublicKey adminKey,
+                                       final PublicKey multisigKey,
+                                       final PublicKey transferAuthorityKey,
+                                       final PublicKey perpetualsKey,
+                                       final PublicKey poolKey,
+                                       final PublicKey systemProgramKey,
+                                       final RemovePoolParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(transferAuthorityKey);
+    _buffer.write(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REMOVE_POOL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addCustody(final InstructionBuffer _buffer,
+                                       final AccountMeta invokedPerpetualsProgramMeta,
+                                       final PublicKey adminKey,
+                                       final PublicKey multisigKey,
+                                       final PublicKey transferAuthorityKey,
+                                       final PublicKey perpetualsKey,
+                                       final PublicKey poolKey,
+                                       final PublicKey custodyKey,
+                                       final PublicKey custodyTokenAccountKey,
+                                       final PublicKey custodyTokenMintKey,
+                                       final PublicKey systemProgramKey,
+                                       final PublicKey tokenProgramKey,
+                                       final PublicKey rentKey,
+                                       final AddCustodyParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.write(custodyTokenAccountKey);
+    _buffer.read(custodyTokenMintKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_CUSTODY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addCustodyToken22Account(final InstructionBuffer _buffer,
+                                                     final AccountMeta invokedPerpetualsProgramMeta,
+                                                     final PublicKey adminKey,
+                                                     final PublicKey multisigKey,
+                                                     final PublicKey transferAuthorityKey,
+                                                     final PublicKey perpetualsKey,
+                                                     final PublicKey poolKey,
+                                                     // This account is initialized with the CPI to the token program
+                                                     final PublicKey custodyTokenAccountKey,
+                                                     final PublicKey custodyTokenMintKey,
+                                                     final PublicKey systemProgramKey,
+                                                     final PublicKey tokenProgramKey,
+                                                     final PublicKey rentKey,
+                                                     final AddCustodyToken22AccountParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.read(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.write(custodyTokenAccountKey);
+    _buffer.read(custodyTokenMintKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_CUSTODY_TOKEN_22_ACCOUNT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addInternalOracle(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedPerpetualsProgramMeta,
+                                              final PublicKey adminKey,
+                                              final PublicKey multisigKey,
+                                              final PublicKey custodyTokenMintKey,
+                                              final PublicKey intOracleAccountKey,
+                                              final PublicKey systemProgramKey,
+                                              final PublicKey rentKey,
+                                              final AddInternalOracleParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.read(multisigKey);
+    _buffer.read(custodyTokenMintKey);
+    _buffer.write(intOracleAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_INTERNAL_ORACLE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction removeCustody(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey adminKey,
+                                          final PublicKey receivingAccountKey,
+                                          final PublicKey multisigKey,
+                                          final PublicKey transferAuthorityKey,
+                                          final PublicKey perpetualsKey,
+                                          final PublicKey poolKey,
+                                          final PublicKey custodyKey,
+                                          final PublicKey custodyOracleAccountKey,
+                                          final PublicKey custodyTokenAccountKey,
+                                          final PublicKey systemProgramKey,
+                                          final PublicKey tokenProgramKey,
+                                          final PublicKey ixSysvarKey,
+                                          final PublicKey receivingTokenMintKey,
+                                          final RemoveCustodyParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.write(multisigKey);
+    _buffer.write(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.write(custodyTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingTokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REMOVE_CUSTODY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addMarket(final InstructionBuffer _buffer,
+                                      final AccountMeta invokedPerpetualsProgramMeta,
+                                      final PublicKey adminKey,
+                                      final PublicKey multisigKey,
+                                      final PublicKey transferAuthorityKey,
+                                      final PublicKey perpetualsKey,
+                                      final PublicKey poolKey,
+                                      final PublicKey marketKey,
+                                      final PublicKey targetCustodyKey,
+                                      final PublicKey collateralCustodyKey,
+                                      final PublicKey systemProgramKey,
+                                      final PublicKey rentKey,
+                                      final AddMarketParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_MARKET_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction removeMarket(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey adminKey,
+                                         final PublicKey multisigKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey marketKey,
+                                         final PublicKey targetCustodyKey,
+                                         final PublicKey collateralCustodyKey,
+                                         final PublicKey systemProgramKey,
+                                         final PublicKey tokenProgramKey,
+                                         final RemoveMarketParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REMOVE_MARKET_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction reimburse(final InstructionBuffer _buffer,
+                                      final AccountMeta invokedPerpetualsProgramMeta,
+                                      final PublicKey adminKey,
+                                      final PublicKey multisigKey,
+                                      final PublicKey fundingAccountKey,
+                                      final PublicKey perpetualsKey,
+                                      final PublicKey poolKey,
+                                      final PublicKey custodyKey,
+                                      final PublicKey custodyOracleAccountKey,
+                                      final PublicKey custodyTokenAccountKey,
+                                      final PublicKey tokenProgramKey,
+                                      final PublicKey programKey,
+                                      final PublicKey ixSysvarKey,
+                                      final PublicKey fundingMintKey,
+                                      final ReimburseParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.read(multisigKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.write(custodyTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REIMBURSE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction resizeInternalOracle(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                                 final PublicKey adminKey,
+                                                 final PublicKey multisigKey,
+                                                 final PublicKey custodyTokenMintKey,
+                                                 final PublicKey intOracleAccountKey,
+                                                 final PublicKey systemProgramKey,
+                                                 final ResizeInternalOracleParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(custodyTokenMintKey);
+    _buffer.write(intOracleAccountKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.RESIZE_INTERNAL_ORACLE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setAdminSigners(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey adminKey,
+                                            final PublicKey multisigKey,
+                                            final SetAdminSignersParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_ADMIN_SIGNERS_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setCustodyConfig(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedPerpetualsProgramMeta,
+                                             final PublicKey adminKey,
+                                             final PublicKey multisigKey,
+                                             final PublicKey poolKey,
+                                             final PublicKey custodyKey,
+                                             final PublicKey systemProgramKey,
+                                             final SetCustodyConfigParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_CUSTODY_CONFIG_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setPerpetualsConfig(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey adminKey,
+                                                final PublicKey multisigKey,
+                                                final PublicKey perpetualsKey,
+                                                final SetPerpetualsConfigParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(perpetualsKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_PERPETUALS_CONFIG_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setPermissions(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey adminKey,
+                                           final PublicKey multisigKey,
+                                           final PublicKey perpetualsKey,
+                                           final SetPermissionsParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(perpetualsKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_PERMISSIONS_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setPoolConfig(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey adminKey,
+                                          final PublicKey multisigKey,
+                                          final PublicKey poolKey,
+                                          final PublicKey systemProgramKey,
+                                          final SetPoolConfigParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(poolKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_POOL_CONFIG_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setProtocolFeeShare(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey adminKey,
+                                                final PublicKey multisigKey,
+                                                final PublicKey protocolVaultKey,
+                                                final SetProtocolFeeShareParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(protocolVaultKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_PROTOCOL_FEE_SHARE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setMarketConfig(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey adminKey,
+                                            final PublicKey multisigKey,
+                                            final PublicKey marketKey,
+                                            final PublicKey targetCustodyKey,
+                                            final PublicKey collateralCustodyKey,
+                                            final SetMarketConfigParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(collateralCustodyKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_MARKET_CONFIG_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setTokenReward(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey adminKey,
+                                           final PublicKey multisigKey,
+                                           final PublicKey tokenVaultKey,
+                                           final PublicKey tokenStakeAccountKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final SetTokenRewardParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_TOKEN_REWARD_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setTokenStakeLevel(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedPerpetualsProgramMeta,
+                                               final PublicKey adminKey,
+                                               final PublicKey multisigKey,
+                                               final PublicKey tokenStakeAccountKey,
+                                               final SetTokenStakeLevelParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(tokenStakeAccountKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_TOKEN_STAKE_LEVEL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setTokenVaultConfig(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey adminKey,
+                                                final PublicKey multisigKey,
+                                                final PublicKey tokenVaultKey,
+                                                final PublicKey systemProgramKey,
+                                                final SetTokenVaultConfigParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_TOKEN_VAULT_CONFIG_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawFees(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey adminKey,
+                                         final PublicKey multisigKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey protocolVaultKey,
+                                         final PublicKey protocolTokenAccountKey,
+                                         final PublicKey receivingTokenAccountKey,
+                                         final PublicKey tokenProgramKey,
+                                         final PublicKey receivingMintKey,
+                                         final WithdrawFeesParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(protocolVaultKey);
+    _buffer.write(protocolTokenAccountKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(receivingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.WITHDRAW_FEES_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawInstantFees(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey adminKey,
+                                                final PublicKey multisigKey,
+                                                final PublicKey perpetualsKey,
+                                                final PublicKey transferAuthorityKey,
+                                                final PublicKey tokenVaultKey,
+                                                final PublicKey tokenVaultTokenAccountKey,
+                                                final PublicKey receivingTokenAccountKey,
+                                                final PublicKey tokenProgramKey,
+                                                final PublicKey receivingTokenMintKey,
+                                                final WithdrawInstantFeesParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(receivingTokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.WITHDRAW_INSTANT_FEES_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawUnclaimedTokens(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedPerpetualsProgramMeta,
+                                                    final PublicKey adminKey,
+                                                    final PublicKey multisigKey,
+                                                    final PublicKey perpetualsKey,
+                                                    final PublicKey transferAuthorityKey,
+                                                    final PublicKey tokenVaultKey,
+                                                    final PublicKey tokenVaultTokenAccountKey,
+                                                    final PublicKey receivingTokenAccountKey,
+                                                    final PublicKey tokenProgramKey,
+                                                    final PublicKey receivingTokenMintKey,
+                                                    final WithdrawUnclaimedTokensParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(receivingTokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.WITHDRAW_UNCLAIMED_TOKENS_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawSolFees(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey adminKey,
+                                            final PublicKey multisigKey,
+                                            final PublicKey transferAuthorityKey,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey receivingAccountKey,
+                                            final WithdrawSolFeesParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(receivingAccountKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.WITHDRAW_SOL_FEES_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initStaking(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedPerpetualsProgramMeta,
+                                        final PublicKey adminKey,
+                                        final PublicKey multisigKey,
+                                        final PublicKey transferAuthorityKey,
+                                        final PublicKey perpetualsKey,
+                                        final PublicKey poolKey,
+                                        final PublicKey custodyKey,
+                                        final PublicKey lpTokenMintKey,
+                                        final PublicKey stakedLpTokenAccountKey,
+                                        final PublicKey systemProgramKey,
+                                        final PublicKey tokenProgramKey,
+                                        final PublicKey rentKey,
+                                        final InitStakingParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.write(stakedLpTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.INIT_STAKING_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initCompounding(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey adminKey,
+                                            final PublicKey multisigKey,
+                                            final PublicKey transferAuthorityKey,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey poolKey,
+                                            final PublicKey lpTokenMintKey,
+                                            final PublicKey compoundingVaultKey,
+                                            final PublicKey compoundingTokenMintKey,
+                                            final PublicKey metadataAccountKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey metadataProgramKey,
+                                            final PublicKey rentKey,
+                                            final InitCompoundingParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.write(compoundingVaultKey);
+    _buffer.write(compoundingTokenMintKey);
+    _buffer.write(metadataAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(metadataProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.INIT_COMPOUNDING_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initRebateVault(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey adminKey,
+                                            final PublicKey multisigKey,
+                                            final PublicKey transferAuthorityKey,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey rebateMintKey,
+                                            final PublicKey rebateTokenAccountKey,
+                                            final PublicKey rebateVaultKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey rentKey,
+                                            final InitRebateVaultParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(rebateMintKey);
+    _buffer.write(rebateTokenAccountKey);
+    _buffer.write(rebateVaultKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.INIT_REBATE_VAULT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initRevenueTokenAccount(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedPerpetualsProgramMeta,
+                                                    final PublicKey adminKey,
+                                                    final PublicKey multisigKey,
+                                                    final PublicKey transferAuthorityKey,
+                                                    final PublicKey perpetualsKey,
+                                                    final PublicKey tokenVaultKey,
+                                                    final PublicKey rewardMintKey,
+                                                    final PublicKey revenueTokenAccountKey,
+                                                    final PublicKey protocolVaultKey,
+                                                    final PublicKey protocolTokenAccountKey,
+                                                    final PublicKey systemProgramKey,
+                                                    final PublicKey tokenProgramKey,
+                                                    final PublicKey rentKey,
+                                                    final InitRevenueTokenAccountParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.read(rewardMintKey);
+    _buffer.write(revenueTokenAccountKey);
+    _buffer.write(protocolVaultKey);
+    _buffer.write(protocolTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.INIT_REVENUE_TOKEN_ACCOUNT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initTokenVault(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey adminKey,
+                                           final PublicKey multisigKey,
+                                           final PublicKey perpetualsKey,
+                                           final PublicKey transferAuthorityKey,
+                                           final PublicKey fundingTokenAccountKey,
+                                           final PublicKey tokenMintKey,
+                                           final PublicKey tokenVaultKey,
+                                           final PublicKey tokenVaultTokenAccountKey,
+                                           final PublicKey systemProgramKey,
+                                           final PublicKey tokenProgramKey,
+                                           final PublicKey rentKey,
+                                           final InitTokenVaultParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(fundingTokenAccountKey);
+    _buffer.read(tokenMintKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.INIT_TOKEN_VAULT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setCustomOraclePrice(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                                 final PublicKey adminKey,
+                                                 final PublicKey multisigKey,
+                                                 final PublicKey perpetualsKey,
+                                                 final PublicKey poolKey,
+                                                 final PublicKey custodyKey,
+                                                 final PublicKey oracleAccountKey,
+                                                 final PublicKey systemProgramKey,
+                                                 final SetCustomOraclePriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(custodyKey);
+    _buffer.write(oracleAccountKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_CUSTOM_ORACLE_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setInternalCurrentPrice(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedPerpetualsProgramMeta, final PublicKey authorityKey, final SetInternalCurrentPriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(authorityKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_INTERNAL_CURRENT_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setInternalEmaPrice(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta, final PublicKey authorityKey, final SetInternalEmaPriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(authorityKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_INTERNAL_EMA_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setInternalOraclePrice(final InstructionBuffer _buffer,
+                                                   final AccountMeta invokedPerpetualsProgramMeta,
+                                                   final PublicKey authorityKey,
+                                                   final PublicKey perpetualsKey,
+                                                   final PublicKey poolKey,
+                                                   final PublicKey custodyKey,
+                                                   final PublicKey intOracleAccountKey,
+                                                   final PublicKey extOracleAccountKey,
+                                                   final PublicKey systemProgramKey,
+                                                   final SetInternalOraclePriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(authorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(custodyKey);
+    _buffer.write(intOracleAccountKey);
+    _buffer.read(extOracleAccountKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_INTERNAL_ORACLE_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setPositionPriceImpact(final InstructionBuffer _buffer,
+                                                   final AccountMeta invokedPerpetualsProgramMeta,
+                                                   final PublicKey authorityKey,
+                                                   final PublicKey positionKey,
+                                                   final PublicKey eventAuthorityKey,
+                                                   final PublicKey programKey,
+                                                   final SetPositionPriceImpactParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(positionKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_POSITION_PRICE_IMPACT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setLpTokenPrice(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey poolKey,
+                                            final PublicKey lpTokenMintKey,
+                                            final PublicKey ixSysvarKey,
+                                            final SetLpTokenPriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_LP_TOKEN_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setFeeShare(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedPerpetualsProgramMeta,
+                                        final PublicKey adminKey,
+                                        final PublicKey multisigKey,
+                                        final PublicKey poolKey,
+                                        final SetFeeShareParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(poolKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_FEE_SHARE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction createWhitelist(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey adminKey,
+                                            final PublicKey multisigKey,
+                                            final PublicKey ownerKey,
+                                            final PublicKey whitelistKey,
+                                            final PublicKey systemProgramKey,
+                                            final CreateWhitelistParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(ownerKey);
+    _buffer.write(whitelistKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.CREATE_WHITELIST_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setWhitelistConfig(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedPerpetualsProgramMeta,
+                                               final PublicKey adminKey,
+                                               final PublicKey multisigKey,
+                                               final PublicKey ownerKey,
+                                               final PublicKey whitelistKey,
+                                               final PublicKey systemProgramKey,
+                                               final SetWhitelistConfigParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(ownerKey);
+    _buffer.write(whitelistKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_WHITELIST_CONFIG_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction testInit(final InstructionBuffer _buffer,
+                                     final AccountMeta invokedPerpetualsProgramMeta,
+                                     final PublicKey upgradeAuthorityKey,
+                                     final PublicKey multisigKey,
+                                     final PublicKey transferAuthorityKey,
+                                     final PublicKey perpetualsKey,
+                                     final PublicKey systemProgramKey,
+                                     final PublicKey tokenProgramKey,
+                                     final TestInitParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(upgradeAuthorityKey);
+    _buffer.write(multisigKey);
+    _buffer.write(transferAuthorityKey);
+    _buffer.write(perpetualsKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.TEST_INIT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction setTestTime(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedPerpetualsProgramMeta,
+                                        final PublicKey adminKey,
+                                        final PublicKey multisigKey,
+                                        final PublicKey perpetualsKey,
+                                        final SetTestTimeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.write(perpetualsKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SET_TEST_TIME_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction swapFeeInternal(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey ownerKey,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey poolKey,
+                                            final PublicKey rewardCustodyKey,
+                                            final PublicKey rewardCustodyOracleAccountKey,
+                                            final PublicKey rewardCustodyTokenAccountKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey,
+                                            final PublicKey ixSysvarKey,
+                                            final SwapFeeInternalParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.read(rewardCustodyTokenAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SWAP_FEE_INTERNAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction swap(final InstructionBuffer _buffer,
+                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                 final PublicKey ownerKey,
+                                 final PublicKey fundingAccountKey,
+                                 final PublicKey receivingAccountKey,
+                                 final PublicKey transferAuthorityKey,
+                                 final PublicKey perpetualsKey,
+                                 final PublicKey poolKey,
+                                 final PublicKey receivingCustodyKey,
+                                 final PublicKey receivingCustodyOracleAccountKey,
+                                 final PublicKey receivingCustodyTokenAccountKey,
+                                 final PublicKey dispensingCustodyKey,
+                                 final PublicKey dispensingCustodyOracleAccountKey,
+                                 final PublicKey dispensingCustodyTokenAccountKey,
+                                 final PublicKey eventAuthorityKey,
+                                 final PublicKey programKey,
+                                 final PublicKey ixSysvarKey,
+                                 final PublicKey fundingMintKey,
+                                 final PublicKey fundingTokenProgramKey,
+                                 final PublicKey receivingMintKey,
+                                 final PublicKey receivingTokenProgramKey,
+                                 final SwapParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.write(receivingCustodyKey);
+    _buffer.read(receivingCustodyOracleAccountKey);
+    _buffer.write(receivingCustodyTokenAccountKey);
+    _buffer.write(dispensingCustodyKey);
+    _buffer.read(dispensingCustodyOracleAccountKey);
+    _buffer.write(dispensingCustodyTokenAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+    _buffer.read(fundingTokenProgramKey);
+    _buffer.read(receivingMintKey);
+    _buffer.read(receivingTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SWAP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction settleRebates(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey transferAuthorityKey,
+                                          final PublicKey perpetualsKey,
+                                          final PublicKey poolKey,
+                                          final PublicKey rewardCustodyKey,
+                                          final PublicKey rewardCustodyOracleAccountKey,
+                                          final PublicKey rewardCustodyTokenAccountKey,
+                                          final PublicKey rebateVaultKey,
+                                          final PublicKey rebateTokenAccountKey,
+                                          final PublicKey tokenMintKey,
+                                          final PublicKey tokenProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey,
+                                          final PublicKey ixSysvarKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.write(rewardCustodyTokenAccountKey);
+    _buffer.write(rebateVaultKey);
+    _buffer.write(rebateTokenAccountKey);
+    _buffer.read(tokenMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    return _buffer.createInstruction(
+        invokedPerpetualsProgramMeta, _keys, PerpetualsProgram.SETTLE_REBATES_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction swapAndAddCollateral(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                                 final PublicKey ownerKey,
+                                                 final PublicKey feePayerKey,
+                                                 final PublicKey fundingAccountKey,
+                                                 final PublicKey transferAuthorityKey,
+                                                 final PublicKey perpetualsKey,
+                                                 final PublicKey poolKey,
+                                                 final PublicKey receivingCustodyKey,
+                                                 final PublicKey receivingCustodyOracleAccountKey,
+                                                 final PublicKey receivingCustodyTokenAccountKey,
+                                                 final PublicKey positionKey,
+                                                 final PublicKey marketKey,
+                                                 final PublicKey targetCustodyKey,
+                                                 final PublicKey targetOracleAccountKey,
+                                                 final PublicKey collateralCustodyKey,
+                                                 final PublicKey collateralOracleAccountKey,
+                                                 final PublicKey collateralCustodyTokenAccountKey,
+                                                 final PublicKey fundingTokenProgramKey,
+                                                 final PublicKey eventAuthorityKey,
+                                                 final PublicKey programKey,
+                                                 final PublicKey ixSysvarKey,
+                                                 final PublicKey fundingMintKey,
+                                                 final SwapAndAddCollateralParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(receivingCustodyKey);
+    _buffer.read(receivingCustodyOracleAccountKey);
+    _buffer.write(receivingCustodyTokenAccountKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(fundingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SWAP_AND_ADD_COLLATERAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction swapAndOpen(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedPerpetualsProgramMeta,
+                                        final PublicKey ownerKey,
+                                        final PublicKey feePayerKey,
+                                        final PublicKey fundingAccountKey,
+                                        final PublicKey transferAuthorityKey,
+                                        final PublicKey perpetualsKey,
+                                        final PublicKey poolKey,
+                                        final PublicKey receivingCustodyKey,
+                                        final PublicKey receivingCustodyOracleAccountKey,
+                                        final PublicKey receivingCustodyTokenAccountKey,
+                                        final PublicKey positionKey,
+                                        final PublicKey marketKey,
+                                        final PublicKey targetCustodyKey,
+                                        final PublicKey targetOracleAccountKey,
+                                        final PublicKey collateralCustodyKey,
+                                        final PublicKey collateralOracleAccountKey,
+                                        final PublicKey collateralCustodyTokenAccountKey,
+                                        final PublicKey systemProgramKey,
+                                        final PublicKey fundingTokenProgramKey,
+                                        final PublicKey eventAuthorityKey,
+                                        final PublicKey programKey,
+                                        final PublicKey ixSysvarKey,
+                                        final PublicKey fundingMintKey,
+                                        final PublicKey collateralMintKey,
+                                        final PublicKey collateralTokenProgramKey,
+                                        final SwapAndOpenParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(receivingCustodyKey);
+    _buffer.read(receivingCustodyOracleAccountKey);
+    _buffer.write(receivingCustodyTokenAccountKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(fundingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+    _buffer.read(collateralMintKey);
+    _buffer.read(collateralTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.SWAP_AND_OPEN_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction closeAndSwap(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey ownerKey,
+                                         final PublicKey feePayerKey,
+                                         final PublicKey receivingAccountKey,
+                                         final PublicKey collateralAccountKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey positionKey,
+                                         final PublicKey marketKey,
+                                         final PublicKey targetCustodyKey,
+                                         final PublicKey targetOracleAccountKey,
+                                         final PublicKey collateralCustodyKey,
+                                         final PublicKey collateralOracleAccountKey,
+                                         final PublicKey collateralCustodyTokenAccountKey,
+                                         final PublicKey dispensingCustodyKey,
+                                         final PublicKey dispensingOracleAccountKey,
+                                         final PublicKey dispensingCustodyTokenAccountKey,
+                                         final PublicKey receivingTokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey ixSysvarKey,
+                                         final PublicKey receivingMintKey,
+                                         final PublicKey collateralMintKey,
+                                         final PublicKey collateralTokenProgramKey,
+                                         final CloseAndSwapParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.write(collateralAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.write(dispensingCustodyKey);
+    _buffer.read(dispensingOracleAccountKey);
+    _buffer.write(dispensingCustodyTokenAccountKey);
+    _buffer.read(receivingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+    _buffer.read(collateralMintKey);
+    _buffer.read(collateralTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.CLOSE_AND_SWAP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addLiquidityAndStake(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                                 final PublicKey ownerKey,
+                                                 final PublicKey feePayerKey,
+                                                 final PublicKey fundingAccountKey,
+                                                 final PublicKey transferAuthorityKey,
+                                                 final PublicKey perpetualsKey,
+                                                 final PublicKey poolKey,
+                                                 final PublicKey custodyKey,
+                                                 final PublicKey custodyOracleAccountKey,
+                                                 final PublicKey custodyTokenAccountKey,
+                                                 final PublicKey lpTokenMintKey,
+                                                 final PublicKey flpStakeAccountKey,
+                                                 final PublicKey poolStakedLpVaultKey,
+                                                 final PublicKey systemProgramKey,
+                                                 final PublicKey tokenProgramKey,
+                                                 final PublicKey eventAuthorityKey,
+                                                 final PublicKey programKey,
+                                                 final PublicKey ixSysvarKey,
+                                                 final PublicKey fundingMintKey,
+                                                 final PublicKey fundingTokenProgramKey,
+                                                 final AddLiquidityAndStakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.write(custodyTokenAccountKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.write(poolStakedLpVaultKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+    _buffer.read(fundingTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_LIQUIDITY_AND_STAKE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addLiquidity(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey ownerKey,
+                                         final PublicKey fundingAccountKey,
+                                         final PublicKey lpTokenAccountKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey custodyKey,
+                                         final PublicKey custodyOracleAccountKey,
+                                         final PublicKey custodyTokenAccountKey,
+                                         final PublicKey lpTokenMintKey,
+                                         final PublicKey tokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey ixSysvarKey,
+                                         final PublicKey fundingMintKey,
+                                         final PublicKey fundingTokenProgramKey,
+                                         final AddLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.write(lpTokenAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.write(custodyTokenAccountKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+    _buffer.read(fundingTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addCompoundingLiquidity(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedPerpetualsProgramMeta,
+                                                    final PublicKey ownerKey,
+                                                    final PublicKey fundingAccountKey,
+                                                    final PublicKey compoundingTokenAccountKey,
+                                                    final PublicKey poolCompoundingLpVaultKey,
+                                                    final PublicKey transferAuthorityKey,
+                                                    final PublicKey perpetualsKey,
+                                                    final PublicKey poolKey,
+                                                    final PublicKey inCustodyKey,
+                                                    final PublicKey inCustodyOracleAccountKey,
+                                                    final PublicKey inCustodyTokenAccountKey,
+                                                    final PublicKey rewardCustodyKey,
+                                                    final PublicKey rewardCustodyOracleAccountKey,
+                                                    final PublicKey lpTokenMintKey,
+                                                    final PublicKey compoundingTokenMintKey,
+                                                    final PublicKey tokenProgramKey,
+                                                    final PublicKey eventAuthorityKey,
+                                                    final PublicKey programKey,
+                                                    final PublicKey ixSysvarKey,
+                                                    final PublicKey fundingMintKey,
+                                                    final PublicKey fundingTokenProgramKey,
+                                                    final AddCompoundingLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.write(compoundingTokenAccountKey);
+    _buffer.write(poolCompoundingLpVaultKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(inCustodyKey);
+    _buffer.read(inCustodyOracleAccountKey);
+    _buffer.write(inCustodyTokenAccountKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.write(compoundingTokenMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+    _buffer.read(fundingTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_COMPOUNDING_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction removeLiquidity(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey ownerKey,
+                                            final PublicKey receivingAccountKey,
+                                            final PublicKey lpTokenAccountKey,
+                                            final PublicKey transferAuthorityKey,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey poolKey,
+                                            final PublicKey custodyKey,
+                                            final PublicKey custodyOracleAccountKey,
+                                            final PublicKey custodyTokenAccountKey,
+                                            final PublicKey lpTokenMintKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey,
+                                            final PublicKey ixSysvarKey,
+                                            final PublicKey receivingMintKey,
+                                            final PublicKey receivingTokenProgramKey,
+                                            final RemoveLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.write(lpTokenAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.write(custodyTokenAccountKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+    _buffer.read(receivingTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REMOVE_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction depositTokenStake(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedPerpetualsProgramMeta,
+                                              final PublicKey ownerKey,
+                                              final PublicKey feePayerKey,
+                                              final PublicKey fundingTokenAccountKey,
+                                              final PublicKey perpetualsKey,
+                                              final PublicKey tokenVaultKey,
+                                              final PublicKey tokenVaultTokenAccountKey,
+                                              final PublicKey tokenStakeAccountKey,
+                                              final PublicKey systemProgramKey,
+                                              final PublicKey tokenProgramKey,
+                                              final PublicKey eventAuthorityKey,
+                                              final PublicKey programKey,
+                                              final PublicKey tokenMintKey,
+                                              final DepositTokenStakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(fundingTokenAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(tokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.DEPOSIT_TOKEN_STAKE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction distributeTokenReward(final InstructionBuffer _buffer,
+                                                  final AccountMeta invokedPerpetualsProgramMeta,
+                                                  final PublicKey adminKey,
+                                                  final PublicKey multisigKey,
+                                                  final PublicKey perpetualsKey,
+                                                  final PublicKey transferAuthorityKey,
+                                                  final PublicKey fundingTokenAccountKey,
+                                                  final PublicKey tokenVaultKey,
+                                                  final PublicKey tokenVaultTokenAccountKey,
+                                                  final PublicKey tokenProgramKey,
+                                                  final PublicKey eventAuthorityKey,
+                                                  final PublicKey programKey,
+                                                  final PublicKey tokenMintKey,
+                                                  final DistributeTokenRewardParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(fundingTokenAccountKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(tokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.DISTRIBUTE_TOKEN_REWARD_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction depositStake(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey ownerKey,
+                                         final PublicKey feePayerKey,
+                                         final PublicKey fundingLpTokenAccountKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey flpStakeAccountKey,
+                                         final PublicKey poolStakedLpVaultKey,
+                                         final PublicKey systemProgramKey,
+                                         final PublicKey tokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey lpTokenMintKey,
+                                         final DepositStakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(fundingLpTokenAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.write(poolStakedLpVaultKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(lpTokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.DEPOSIT_STAKE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction refreshStake(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey rewardCustodyKey,
+                                         final PublicKey feeDistributionTokenAccountKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final RefreshStakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(feeDistributionTokenAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REFRESH_STAKE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction unstakeInstant(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey ownerKey,
+                                           final PublicKey perpetualsKey,
+                                           final PublicKey poolKey,
+                                           final PublicKey flpStakeAccountKey,
+                                           final PublicKey rewardCustodyKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final UnstakeInstantParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.UNSTAKE_INSTANT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawStake(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey ownerKey,
+                                          final PublicKey receivingLpTokenAccountKey,
+                                          final PublicKey transferAuthorityKey,
+                                          final PublicKey perpetualsKey,
+                                          final PublicKey poolKey,
+                                          final PublicKey flpStakeAccountKey,
+                                          final PublicKey poolStakedLpVaultKey,
+                                          final PublicKey systemProgramKey,
+                                          final PublicKey tokenProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey,
+                                          final PublicKey lpMintKey,
+                                          final WithdrawStakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingLpTokenAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.write(poolStakedLpVaultKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(lpMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.WITHDRAW_STAKE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawToken(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey ownerKey,
+                                          final PublicKey receivingTokenAccountKey,
+                                          final PublicKey perpetualsKey,
+                                          final PublicKey transferAuthorityKey,
+                                          final PublicKey tokenVaultKey,
+                                          final PublicKey tokenVaultTokenAccountKey,
+                                          final PublicKey tokenStakeAccountKey,
+                                          final PublicKey tokenProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey,
+                                          final PublicKey tokenMintKey,
+                                          final WithdrawTokenParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(tokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.WITHDRAW_TOKEN_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction collectRebate(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey ownerKey,
+                                          final PublicKey receivingTokenAccountKey,
+                                          final PublicKey perpetualsKey,
+                                          final PublicKey transferAuthorityKey,
+                                          final PublicKey rebateVaultKey,
+                                          final PublicKey rebateTokenAccountKey,
+                                          final PublicKey tokenStakeAccountKey,
+                                          final PublicKey tokenProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey,
+                                          final PublicKey receivingTokenMintKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(rebateVaultKey);
+    _buffer.write(rebateTokenAccountKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(receivingTokenMintKey);
+
+    return _buffer.createInstruction(
+        invokedPerpetualsProgramMeta, _keys, PerpetualsProgram.COLLECT_REBATE_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction collectRevenue(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey ownerKey,
+                                           final PublicKey receivingRevenueAccountKey,
+                                           final PublicKey perpetualsKey,
+                                           final PublicKey transferAuthorityKey,
+                                           final PublicKey tokenVaultKey,
+                                           final PublicKey revenueTokenAccountKey,
+                                           final PublicKey tokenStakeAccountKey,
+                                           final PublicKey tokenProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final PublicKey receivingTokenMintKey,
+                                           final CollectRevenueParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingRevenueAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(revenueTokenAccountKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(receivingTokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.COLLECT_REVENUE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction collectStakeFees(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedPerpetualsProgramMeta,
+                                             final PublicKey ownerKey,
+                                             final PublicKey receivingTokenAccountKey,
+                                             final PublicKey transferAuthorityKey,
+                                             final PublicKey perpetualsKey,
+                                             final PublicKey poolKey,
+                                             final PublicKey feeCustodyKey,
+                                             final PublicKey flpStakeAccountKey,
+                                             final PublicKey feeCustodyTokenAccountKey,
+                                             final PublicKey systemProgramKey,
+                                             final PublicKey tokenProgramKey,
+                                             final PublicKey eventAuthorityKey,
+                                             final PublicKey programKey,
+                                             final PublicKey ixSysvarKey,
+                                             final PublicKey receivingMintKey,
+                                             final CollectStakeRewardParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.write(feeCustodyKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.write(feeCustodyTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.COLLECT_STAKE_FEES_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction collectTokenReward(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedPerpetualsProgramMeta,
+                                               final PublicKey ownerKey,
+                                               final PublicKey receivingTokenAccountKey,
+                                               final PublicKey perpetualsKey,
+                                               final PublicKey transferAuthorityKey,
+                                               final PublicKey tokenVaultKey,
+                                               final PublicKey tokenVaultTokenAccountKey,
+                                               final PublicKey tokenStakeAccountKey,
+                                               final PublicKey tokenProgramKey,
+                                               final PublicKey eventAuthorityKey,
+                                               final PublicKey programKey,
+                                               final PublicKey tokenMintKey,
+                                               final CollectTokenRewardParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(tokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.COLLECT_TOKEN_REWARD_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction unstakeRequest(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey ownerKey,
+                                           final PublicKey perpetualsKey,
+                                           final PublicKey poolKey,
+                                           final PublicKey flpStakeAccountKey,
+                                           final PublicKey systemProgramKey,
+                                           final PublicKey tokenProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final UnstakeRequestParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.UNSTAKE_REQUEST_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction unstakeTokenInstant(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey ownerKey,
+                                                final PublicKey receivingTokenAccountKey,
+                                                final PublicKey perpetualsKey,
+                                                final PublicKey transferAuthorityKey,
+                                                final PublicKey tokenVaultKey,
+                                                final PublicKey tokenVaultTokenAccountKey,
+                                                final PublicKey tokenStakeAccountKey,
+                                                final PublicKey tokenProgramKey,
+                                                final PublicKey eventAuthorityKey,
+                                                final PublicKey programKey,
+                                                final PublicKey tokenMintKey,
+                                                final UnstakeTokenInstantParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(receivingTokenAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenVaultTokenAccountKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(tokenMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.UNSTAKE_TOKEN_INSTANT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction unstakeTokenRequest(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey ownerKey,
+                                                final PublicKey tokenVaultKey,
+                                                final PublicKey tokenStakeAccountKey,
+                                                final PublicKey eventAuthorityKey,
+                                                final PublicKey programKey,
+                                                final UnstakeTokenRequestParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.UNSTAKE_TOKEN_REQUEST_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction migrateFlp(final InstructionBuffer _buffer,
+                                       final AccountMeta invokedPerpetualsProgramMeta,
+                                       final PublicKey ownerKey,
+                                       final PublicKey compoundingTokenAccountKey,
+                                       final PublicKey transferAuthorityKey,
+                                       final PublicKey perpetualsKey,
+                                       final PublicKey poolKey,
+                                       final PublicKey flpStakeAccountKey,
+                                       final PublicKey rewardCustodyKey,
+                                       final PublicKey rewardCustodyOracleAccountKey,
+                                       final PublicKey poolStakedLpVaultKey,
+                                       final PublicKey poolCompoundingLpVaultKey,
+                                       final PublicKey lpTokenMintKey,
+                                       final PublicKey compoundingTokenMintKey,
+                                       final PublicKey systemProgramKey,
+                                       final PublicKey tokenProgramKey,
+                                       final PublicKey eventAuthorityKey,
+                                       final PublicKey programKey,
+                                       final PublicKey ixSysvarKey,
+                                       final MigrateFlpParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(compoundingTokenAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.write(poolStakedLpVaultKey);
+    _buffer.write(poolCompoundingLpVaultKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.write(compoundingTokenMintKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.MIGRATE_FLP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction migrateStake(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey ownerKey,
+                                         final PublicKey compoundingTokenAccountKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey flpStakeAccountKey,
+                                         final PublicKey rewardCustodyKey,
+                                         final PublicKey rewardCustodyOracleAccountKey,
+                                         final PublicKey poolStakedLpVaultKey,
+                                         final PublicKey poolCompoundingLpVaultKey,
+                                         final PublicKey lpTokenMintKey,
+                                         final PublicKey compoundingTokenMintKey,
+                                         final PublicKey tokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey ixSysvarKey,
+                                         final MigrateStakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(compoundingTokenAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(flpStakeAccountKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.write(poolStakedLpVaultKey);
+    _buffer.write(poolCompoundingLpVaultKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.write(compoundingTokenMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.MIGRATE_STAKE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction moveProtocolFees(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedPerpetualsProgramMeta,
+                                             final PublicKey transferAuthorityKey,
+                                             final PublicKey perpetualsKey,
+                                             final PublicKey tokenVaultKey,
+                                             final PublicKey poolKey,
+                                             final PublicKey rewardCustodyKey,
+                                             final PublicKey rewardCustodyTokenAccountKey,
+                                             final PublicKey revenueTokenAccountKey,
+                                             final PublicKey protocolVaultKey,
+                                             final PublicKey protocolTokenAccountKey,
+                                             final PublicKey tokenProgramKey,
+                                             final PublicKey eventAuthorityKey,
+                                             final PublicKey programKey,
+                                             final PublicKey tokenMintKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.read(poolKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.write(rewardCustodyTokenAccountKey);
+    _buffer.write(revenueTokenAccountKey);
+    _buffer.write(protocolVaultKey);
+    _buffer.write(protocolTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(tokenMintKey);
+
+    return _buffer.createInstruction(
+        invokedPerpetualsProgramMeta, _keys, PerpetualsProgram.MOVE_PROTOCOL_FEES_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction compoundFees(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey poolCompoundingLpVaultKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey rewardCustodyKey,
+                                         final PublicKey rewardCustodyOracleAccountKey,
+                                         final PublicKey lpTokenMintKey,
+                                         final PublicKey tokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey ixSysvarKey,
+                                         final CompoundFeesParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(poolCompoundingLpVaultKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.COMPOUND_FEES_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction removeCompoundingLiquidity(final InstructionBuffer _buffer,
+                                                       final AccountMeta invokedPerpetualsProgramMeta,
+                                                       final PublicKey ownerKey,
+                                                       final PublicKey receivingAccountKey,
+                                                       final PublicKey compoundingTokenAccountKey,
+                                                       final PublicKey poolCompoundingLpVaultKey,
+                                                       final PublicKey transferAuthorityKey,
+                                                       final PublicKey perpetualsKey,
+                                                       final PublicKey poolKey,
+                                                       final PublicKey outCustodyKey,
+                                                       final PublicKey outCustodyOracleAccountKey,
+                                                       final PublicKey outCustodyTokenAccountKey,
+                                                       final PublicKey rewardCustodyKey,
+                                                       final PublicKey rewardCustodyOracleAccountKey,
+                                                       final PublicKey lpTokenMintKey,
+                                                       final PublicKey compoundingTokenMintKey,
+                                                       final PublicKey tokenProgramKey,
+                                                       final PublicKey eventAuthorityKey,
+                                                       final PublicKey programKey,
+                                                       final PublicKey ixSysvarKey,
+                                                       final PublicKey receivingMintKey,
+                                                       final PublicKey receivingTokenProgramKey,
+                                                       final RemoveCompoundingLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.write(compoundingTokenAccountKey);
+    _buffer.write(poolCompoundingLpVaultKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(outCustodyKey);
+    _buffer.read(outCustodyOracleAccountKey);
+    _buffer.write(outCustodyTokenAccountKey);
+    _buffer.write(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.write(lpTokenMintKey);
+    _buffer.write(compoundingTokenMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+    _buffer.read(receivingTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REMOVE_COMPOUNDING_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction createReferral(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey ownerKey,
+                                           final PublicKey feePayerKey,
+                                           final PublicKey tokenStakeAccountKey,
+                                           final PublicKey referralAccountKey,
+                                           final PublicKey systemProgramKey,
+                                           final CreateReferralParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(tokenStakeAccountKey);
+    _buffer.write(referralAccountKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.CREATE_REFERRAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction openPosition(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey ownerKey,
+                                         final PublicKey feePayerKey,
+                                         final PublicKey fundingAccountKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey positionKey,
+                                         final PublicKey marketKey,
+                                         final PublicKey targetCustodyKey,
+                                         final PublicKey targetOracleAccountKey,
+                                         final PublicKey collateralCustodyKey,
+                                         final PublicKey collateralOracleAccountKey,
+                                         final PublicKey collateralCustodyTokenAccountKey,
+                                         final PublicKey systemProgramKey,
+                                         final PublicKey fundingTokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey ixSysvarKey,
+                                         final PublicKey fundingMintKey,
+                                         final OpenPositionParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(fundingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.OPEN_POSITION_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction addCollateral(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey ownerKey,
+                                          final PublicKey fundingAccountKey,
+                                          final PublicKey perpetualsKey,
+                                          final PublicKey poolKey,
+                                          final PublicKey positionKey,
+                                          final PublicKey marketKey,
+                                          final PublicKey targetCustodyKey,
+                                          final PublicKey targetOracleAccountKey,
+                                          final PublicKey collateralCustodyKey,
+                                          final PublicKey collateralOracleAccountKey,
+                                          final PublicKey collateralCustodyTokenAccountKey,
+                                          final PublicKey fundingTokenProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey,
+                                          final PublicKey ixSysvarKey,
+                                          final PublicKey fundingMintKey,
+                                          final AddCollateralParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(fundingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.ADD_COLLATERAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction removeCollateralAndSwap(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedPerpetualsProgramMeta,
+                                                    final PublicKey ownerKey,
+                                                    final PublicKey feePayerKey,
+                                                    final PublicKey receivingAccountKey,
+                                                    final PublicKey collateralAccountKey,
+                                                    final PublicKey transferAuthorityKey,
+                                                    final PublicKey perpetualsKey,
+                                                    final PublicKey poolKey,
+                                                    final PublicKey positionKey,
+                                                    final PublicKey marketKey,
+                                                    final PublicKey targetCustodyKey,
+                                                    final PublicKey targetOracleAccountKey,
+                                                    final PublicKey collateralCustodyKey,
+                                                    final PublicKey collateralOracleAccountKey,
+                                                    final PublicKey collateralCustodyTokenAccountKey,
+                                                    final PublicKey dispensingCustodyKey,
+                                                    final PublicKey dispensingOracleAccountKey,
+                                                    final PublicKey dispensingCustodyTokenAccountKey,
+                                                    final PublicKey receivingTokenProgramKey,
+                                                    final PublicKey eventAuthorityKey,
+                                                    final PublicKey programKey,
+                                                    final PublicKey ixSysvarKey,
+                                                    final PublicKey receivingMintKey,
+                                                    final PublicKey collateralMintKey,
+                                                    final PublicKey collateralTokenProgramKey,
+                                                    final RemoveCollateralAndSwapParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.write(collateralAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.write(dispensingCustodyKey);
+    _buffer.read(dispensingOracleAccountKey);
+    _buffer.write(dispensingCustodyTokenAccountKey);
+    _buffer.read(receivingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+    _buffer.read(collateralMintKey);
+    _buffer.read(collateralTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REMOVE_COLLATERAL_AND_SWAP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction removeCollateral(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedPerpetualsProgramMeta,
+                                             final PublicKey ownerKey,
+                                             final PublicKey receivingAccountKey,
+                                             final PublicKey transferAuthorityKey,
+                                             final PublicKey perpetualsKey,
+                                             final PublicKey poolKey,
+                                             final PublicKey positionKey,
+                                             final PublicKey marketKey,
+                                             final PublicKey targetCustodyKey,
+                                             final PublicKey targetOracleAccountKey,
+                                             final PublicKey collateralCustodyKey,
+                                             final PublicKey collateralOracleAccountKey,
+                                             final PublicKey collateralCustodyTokenAccountKey,
+                                             final PublicKey receivingTokenProgramKey,
+                                             final PublicKey eventAuthorityKey,
+                                             final PublicKey programKey,
+                                             final PublicKey ixSysvarKey,
+                                             final PublicKey receivingMintKey,
+                                             final RemoveCollateralParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(receivingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.REMOVE_COLLATERAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction increaseSize(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey ownerKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey positionKey,
+                                         final PublicKey marketKey,
+                                         final PublicKey targetCustodyKey,
+                                         final PublicKey targetOracleAccountKey,
+                                         final PublicKey collateralCustodyKey,
+                                         final PublicKey collateralOracleAccountKey,
+                                         final PublicKey collateralCustodyTokenAccountKey,
+                                         final PublicKey collateralTokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey ixSysvarKey,
+                                         final PublicKey collateralMintKey,
+                                         final IncreaseSizeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(collateralTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(collateralMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.INCREASE_SIZE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction decreaseSize(final InstructionBuffer _buffer,
+                                         final AccountMeta invokedPerpetualsProgramMeta,
+                                         final PublicKey ownerKey,
+                                         final PublicKey transferAuthorityKey,
+                                         final PublicKey perpetualsKey,
+                                         final PublicKey poolKey,
+                                         final PublicKey positionKey,
+                                         final PublicKey marketKey,
+                                         final PublicKey targetCustodyKey,
+                                         final PublicKey targetOracleAccountKey,
+                                         final PublicKey collateralCustodyKey,
+                                         final PublicKey collateralOracleAccountKey,
+                                         final PublicKey collateralCustodyTokenAccountKey,
+                                         final PublicKey collateralTokenProgramKey,
+                                         final PublicKey eventAuthorityKey,
+                                         final PublicKey programKey,
+                                         final PublicKey ixSysvarKey,
+                                         final PublicKey collateralMintKey,
+                                         final DecreaseSizeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(collateralTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(collateralMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.DECREASE_SIZE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction cancelAllTriggerOrders(final InstructionBuffer _buffer,
+                                                   final AccountMeta invokedPerpetualsProgramMeta,
+                                                   final PublicKey positionKey,
+                                                   final PublicKey orderKey,
+                                                   final PublicKey eventAuthorityKey,
+                                                   final PublicKey programKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(positionKey);
+    _buffer.write(orderKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    return _buffer.createInstruction(
+        invokedPerpetualsProgramMeta, _keys, PerpetualsProgram.CANCEL_ALL_TRIGGER_ORDERS_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction cancelTriggerOrder(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedPerpetualsProgramMeta,
+                                               final PublicKey ownerKey,
+                                               final PublicKey orderKey,
+                                               final PublicKey eventAuthorityKey,
+                                               final PublicKey programKey,
+                                               final CancelTriggerOrderParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(orderKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.CANCEL_TRIGGER_ORDER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction cancelUnstakeTokenRequest(final InstructionBuffer _buffer,
+                                                      final AccountMeta invokedPerpetualsProgramMeta,
+                                                      final PublicKey ownerKey,
+                                                      final PublicKey tokenVaultKey,
+                                                      final PublicKey tokenStakeAccountKey,
+                                                      final PublicKey eventAuthorityKey,
+                                                      final PublicKey programKey,
+                                                      final CancelUnstakeTokenRequestParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.write(tokenVaultKey);
+    _buffer.write(tokenStakeAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.CANCEL_UNSTAKE_TOKEN_REQUEST_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction closePosition(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedPerpetualsProgramMeta,
+                                          final PublicKey ownerKey,
+                                          final PublicKey feePayerKey,
+                                          final PublicKey receivingAccountKey,
+                                          final PublicKey transferAuthorityKey,
+                                          final PublicKey perpetualsKey,
+                                          final PublicKey poolKey,
+                                          final PublicKey positionKey,
+                                          final PublicKey marketKey,
+                                          final PublicKey targetCustodyKey,
+                                          final PublicKey targetOracleAccountKey,
+                                          final PublicKey collateralCustodyKey,
+                                          final PublicKey collateralOracleAccountKey,
+                                          final PublicKey collateralCustodyTokenAccountKey,
+                                          final PublicKey collateralTokenProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey,
+                                          final PublicKey ixSysvarKey,
+                                          final PublicKey collateralMintKey,
+                                          final ClosePositionParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(collateralTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(collateralMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.CLOSE_POSITION_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction executeLimitWithSwap(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                                 final PublicKey positionOwnerKey,
+                                                 final PublicKey feePayerKey,
+                                                 final PublicKey transferAuthorityKey,
+                                                 final PublicKey perpetualsKey,
+                                                 final PublicKey poolKey,
+                                                 final PublicKey reserveCustodyKey,
+                                                 final PublicKey reserveCustodyOracleAccountKey,
+                                                 final PublicKey positionKey,
+                                                 final PublicKey orderKey,
+                                                 final PublicKey marketKey,
+                                                 final PublicKey targetCustodyKey,
+                                                 final PublicKey targetOracleAccountKey,
+                                                 final PublicKey collateralCustodyKey,
+                                                 final PublicKey collateralOracleAccountKey,
+                                                 final PublicKey collateralCustodyTokenAccountKey,
+                                                 final PublicKey systemProgramKey,
+                                                 final PublicKey collateralTokenProgramKey,
+                                                 final PublicKey eventAuthorityKey,
+                                                 final PublicKey programKey,
+                                                 final PublicKey ixSysvarKey,
+                                                 final PublicKey collateralMintKey,
+                                                 final ExecuteLimitWithSwapParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(positionOwnerKey);
+    _buffer.write(feePayerKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(reserveCustodyKey);
+    _buffer.read(reserveCustodyOracleAccountKey);
+    _buffer.write(positionKey);
+    _buffer.write(orderKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(collateralTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(collateralMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.EXECUTE_LIMIT_WITH_SWAP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction executeLimitOrder(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedPerpetualsProgramMeta,
+                                              final PublicKey positionOwnerKey,
+                                              final PublicKey feePayerKey,
+                                              final PublicKey transferAuthorityKey,
+                                              final PublicKey perpetualsKey,
+                                              final PublicKey poolKey,
+                                              final PublicKey positionKey,
+                                              final PublicKey orderKey,
+                                              final PublicKey marketKey,
+                                              final PublicKey targetCustodyKey,
+                                              final PublicKey targetOracleAccountKey,
+                                              final PublicKey collateralCustodyKey,
+                                              final PublicKey collateralOracleAccountKey,
+                                              final PublicKey collateralCustodyTokenAccountKey,
+                                              final PublicKey systemProgramKey,
+                                              final PublicKey collateralTokenProgramKey,
+                                              final PublicKey eventAuthorityKey,
+                                              final PublicKey programKey,
+                                              final PublicKey ixSysvarKey,
+                                              final PublicKey collateralMintKey,
+                                              final ExecuteLimitOrderParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(positionOwnerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(orderKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(collateralTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(collateralMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.EXECUTE_LIMIT_ORDER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction placeLimitOrder(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey ownerKey,
+                                            final PublicKey feePayerKey,
+                                            final PublicKey fundingAccountKey,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey poolKey,
+                                            final PublicKey positionKey,
+                                            final PublicKey orderKey,
+                                            final PublicKey marketKey,
+                                            final PublicKey targetCustodyKey,
+                                            final PublicKey targetOracleAccountKey,
+                                            final PublicKey reserveCustodyKey,
+                                            final PublicKey reserveOracleAccountKey,
+                                            final PublicKey reserveCustodyTokenAccountKey,
+                                            final PublicKey receiveCustodyKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey fundingTokenProgramKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey,
+                                            final PublicKey ixSysvarKey,
+                                            final PublicKey fundingMintKey,
+                                            final PlaceLimitOrderParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(fundingAccountKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(orderKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(reserveCustodyKey);
+    _buffer.read(reserveOracleAccountKey);
+    _buffer.write(reserveCustodyTokenAccountKey);
+    _buffer.read(receiveCustodyKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(fundingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(fundingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.PLACE_LIMIT_ORDER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction editLimitOrder(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey ownerKey,
+                                           final PublicKey feePayerKey,
+                                           final PublicKey receivingAccountKey,
+                                           final PublicKey transferAuthorityKey,
+                                           final PublicKey perpetualsKey,
+                                           final PublicKey poolKey,
+                                           final PublicKey positionKey,
+                                           final PublicKey orderKey,
+                                           final PublicKey marketKey,
+                                           final PublicKey targetCustodyKey,
+                                           final PublicKey targetOracleAccountKey,
+                                           final PublicKey reserveCustodyKey,
+                                           final PublicKey reserveOracleAccountKey,
+                                           final PublicKey reserveCustodyTokenAccountKey,
+                                           final PublicKey receiveCustodyKey,
+                                           final PublicKey receivingTokenProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final PublicKey ixSysvarKey,
+                                           final PublicKey receivingMintKey,
+                                           final EditLimitOrderParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.write(orderKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(reserveCustodyKey);
+    _buffer.read(reserveOracleAccountKey);
+    _buffer.write(reserveCustodyTokenAccountKey);
+    _buffer.read(receiveCustodyKey);
+    _buffer.read(receivingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.EDIT_LIMIT_ORDER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction editTriggerOrder(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedPerpetualsProgramMeta,
+                                             final PublicKey ownerKey,
+                                             final PublicKey perpetualsKey,
+                                             final PublicKey poolKey,
+                                             final PublicKey positionKey,
+                                             final PublicKey orderKey,
+                                             final PublicKey marketKey,
+                                             final PublicKey targetCustodyKey,
+                                             final PublicKey targetOracleAccountKey,
+                                             final PublicKey collateralCustodyKey,
+                                             final PublicKey collateralOracleAccountKey,
+                                             final PublicKey receiveCustodyKey,
+                                             final PublicKey eventAuthorityKey,
+                                             final PublicKey programKey,
+                                             final PublicKey ixSysvarKey,
+                                             final EditTriggerOrderParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.write(orderKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(receiveCustodyKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.EDIT_TRIGGER_ORDER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction placeTriggerOrder(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedPerpetualsProgramMeta,
+                                              final PublicKey ownerKey,
+                                              final PublicKey feePayerKey,
+                                              final PublicKey perpetualsKey,
+                                              final PublicKey poolKey,
+                                              final PublicKey positionKey,
+                                              final PublicKey orderKey,
+                                              final PublicKey marketKey,
+                                              final PublicKey targetCustodyKey,
+                                              final PublicKey targetOracleAccountKey,
+                                              final PublicKey collateralCustodyKey,
+                                              final PublicKey collateralOracleAccountKey,
+                                              final PublicKey receiveCustodyKey,
+                                              final PublicKey systemProgramKey,
+                                              final PublicKey eventAuthorityKey,
+                                              final PublicKey programKey,
+                                              final PublicKey ixSysvarKey,
+                                              final PlaceTriggerOrderParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(ownerKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.write(orderKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(receiveCustodyKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.PLACE_TRIGGER_ORDER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction executeTriggerWithSwap(final InstructionBuffer _buffer,
+                                                   final AccountMeta invokedPerpetualsProgramMeta,
+                                                   final PublicKey positionOwnerKey,
+                                                   final PublicKey feePayerKey,
+                                                   final PublicKey receivingAccountKey,
+                                                   final PublicKey collateralAccountKey,
+                                                   final PublicKey transferAuthorityKey,
+                                                   final PublicKey perpetualsKey,
+                                                   final PublicKey poolKey,
+                                                   final PublicKey positionKey,
+                                                   final PublicKey orderKey,
+                                                   final PublicKey marketKey,
+                                                   final PublicKey targetCustodyKey,
+                                                   final PublicKey targetOracleAccountKey,
+                                                   final PublicKey collateralCustodyKey,
+                                                   final PublicKey collateralOracleAccountKey,
+                                                   final PublicKey collateralCustodyTokenAccountKey,
+                                                   final PublicKey dispensingCustodyKey,
+                                                   final PublicKey dispensingOracleAccountKey,
+                                                   final PublicKey dispensingCustodyTokenAccountKey,
+                                                   final PublicKey eventAuthorityKey,
+                                                   final PublicKey programKey,
+                                                   final PublicKey ixSysvarKey,
+                                                   final PublicKey receivingMintKey,
+                                                   final PublicKey receivingTokenProgramKey,
+                                                   final PublicKey collateralMintKey,
+                                                   final PublicKey collateralTokenProgramKey,
+                                                   final ExecuteTriggerWithSwapParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(positionOwnerKey);
+    _buffer.write(feePayerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.write(collateralAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(orderKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.write(dispensingCustodyKey);
+    _buffer.read(dispensingOracleAccountKey);
+    _buffer.write(dispensingCustodyTokenAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+    _buffer.read(receivingTokenProgramKey);
+    _buffer.read(collateralMintKey);
+    _buffer.read(collateralTokenProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.EXECUTE_TRIGGER_WITH_SWAP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction executeTriggerOrder(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey positionOwnerKey,
+                                                final PublicKey feePayerKey,
+                                                final PublicKey receivingAccountKey,
+                                                final PublicKey transferAuthorityKey,
+                                                final PublicKey perpetualsKey,
+                                                final PublicKey poolKey,
+                                                final PublicKey positionKey,
+                                                final PublicKey orderKey,
+                                                final PublicKey marketKey,
+                                                final PublicKey targetCustodyKey,
+                                                final PublicKey targetOracleAccountKey,
+                                                final PublicKey collateralCustodyKey,
+                                                final PublicKey collateralOracleAccountKey,
+                                                final PublicKey collateralCustodyTokenAccountKey,
+                                                final PublicKey receivingTokenProgramKey,
+                                                final PublicKey eventAuthorityKey,
+                                                final PublicKey programKey,
+                                                final PublicKey ixSysvarKey,
+                                                final PublicKey receivingMintKey,
+                                                final ExecuteTriggerOrderParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(positionOwnerKey);
+    _buffer.write(feePayerKey);
+    _buffer.write(receivingAccountKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(orderKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.write(collateralCustodyTokenAccountKey);
+    _buffer.read(receivingTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+    _buffer.read(receivingMintKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.EXECUTE_TRIGGER_ORDER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction liquidate(final InstructionBuffer _buffer,
+                                      final AccountMeta invokedPerpetualsProgramMeta,
+                                      final PublicKey signerKey,
+                                      final PublicKey perpetualsKey,
+                                      final PublicKey poolKey,
+                                      final PublicKey positionKey,
+                                      final PublicKey marketKey,
+                                      final PublicKey targetCustodyKey,
+                                      final PublicKey targetOracleAccountKey,
+                                      final PublicKey collateralCustodyKey,
+                                      final PublicKey collateralOracleAccountKey,
+                                      final PublicKey eventAuthorityKey,
+                                      final PublicKey programKey,
+                                      final PublicKey ixSysvarKey,
+                                      final LiquidateParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(signerKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.write(positionKey);
+    _buffer.write(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.write(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.LIQUIDATE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getAddCompoundingLiquidityAmountAndFee(final InstructionBuffer _buffer,
+                                                                   final AccountMeta invokedPerpetualsProgramMeta,
+                                                                   final PublicKey perpetualsKey,
+                                                                   final PublicKey poolKey,
+                                                                   final PublicKey inCustodyKey,
+                                                                   final PublicKey inCustodyOracleAccountKey,
+                                                                   final PublicKey rewardCustodyKey,
+                                                                   final PublicKey rewardCustodyOracleAccountKey,
+                                                                   final PublicKey lpTokenMintKey,
+                                                                   final PublicKey compoundingTokenMintKey,
+                                                                   final PublicKey ixSysvarKey,
+                                                                   final GetAddCompoundingLiquidityAmountAndFeeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(inCustodyKey);
+    _buffer.read(inCustodyOracleAccountKey);
+    _buffer.read(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(compoundingTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_ADD_COMPOUNDING_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getAddLiquidityAmountAndFee(final InstructionBuffer _buffer,
+                                                        final AccountMeta invokedPerpetualsProgramMeta,
+                                                        final PublicKey perpetualsKey,
+                                                        final PublicKey poolKey,
+                                                        final PublicKey custodyKey,
+                                                        final PublicKey custodyOracleAccountKey,
+                                                        final PublicKey lpTokenMintKey,
+                                                        final PublicKey ixSysvarKey,
+                                                        final GetAddLiquidityAmountAndFeeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_ADD_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getRemoveCompoundingLiquidityAmountAndFee(final InstructionBuffer _buffer,
+                                                                      final AccountMeta invokedPerpetualsProgramMeta,
+                                                                      final PublicKey perpetualsKey,
+                                                                      final PublicKey poolKey,
+                                                                      final PublicKey outCustodyKey,
+                                                                      final PublicKey outCustodyOracleAccountKey,
+                                                                      final PublicKey rewardCustodyKey,
+                                                                      final PublicKey rewardCustodyOracleAccountKey,
+                                                                      final PublicKey lpTokenMintKey,
+                                                                      final PublicKey compoundingTokenMintKey,
+                                                                      final PublicKey ixSysvarKey,
+                                                                      final GetRemoveCompoundingLiquidityAmountAndFeeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(outCustodyKey);
+    _buffer.read(outCustodyOracleAccountKey);
+    _buffer.read(rewardCustodyKey);
+    _buffer.read(rewardCustodyOracleAccountKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(compoundingTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_REMOVE_COMPOUNDING_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getRemoveLiquidityAmountAndFee(final InstructionBuffer _buffer,
+                                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                                           final PublicKey perpetualsKey,
+                                                           final PublicKey poolKey,
+                                                           final PublicKey custodyKey,
+                                                           final PublicKey custodyOracleAccountKey,
+                                                           final PublicKey lpTokenMintKey,
+                                                           final PublicKey ixSysvarKey,
+                                                           final GetRemoveLiquidityAmountAndFeeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_REMOVE_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getEntryPriceAndFee(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey perpetualsKey,
+                                                final PublicKey poolKey,
+                                                final PublicKey marketKey,
+                                                final PublicKey targetCustodyKey,
+                                                final PublicKey targetOracleAccountKey,
+                                                final PublicKey collateralCustodyKey,
+                                                final PublicKey collateralOracleAccountKey,
+                                                final PublicKey ixSysvarKey,
+                                                final GetEntryPriceAndFeeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_ENTRY_PRICE_AND_FEE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getExitPriceAndFee(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedPerpetualsProgramMeta,
+                                               final PublicKey perpetualsKey,
+                                               final PublicKey poolKey,
+                                               final PublicKey positionKey,
+                                               final PublicKey marketKey,
+                                               final PublicKey targetCustodyKey,
+                                               final PublicKey targetOracleAccountKey,
+                                               final PublicKey collateralCustodyKey,
+                                               final PublicKey collateralOracleAccountKey,
+                                               final PublicKey ixSysvarKey,
+                                               final GetExitPriceAndFeeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_EXIT_PRICE_AND_FEE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getPnl(final InstructionBuffer _buffer,
+                                   final AccountMeta invokedPerpetualsProgramMeta,
+                                   final PublicKey perpetualsKey,
+                                   final PublicKey poolKey,
+                                   final PublicKey positionKey,
+                                   final PublicKey marketKey,
+                                   final PublicKey targetCustodyKey,
+                                   final PublicKey custodyOracleAccountKey,
+                                   final PublicKey collateralCustodyKey,
+                                   final PublicKey collateralOracleAccountKey,
+                                   final PublicKey ixSysvarKey,
+                                   final GetPnlParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_PNL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getPositionData(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey poolKey,
+                                            final PublicKey positionKey,
+                                            final PublicKey marketKey,
+                                            final PublicKey targetCustodyKey,
+                                            final PublicKey custodyOracleAccountKey,
+                                            final PublicKey collateralCustodyKey,
+                                            final PublicKey collateralOracleAccountKey,
+                                            final PublicKey ixSysvarKey,
+                                            final GetPositionDataParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_POSITION_DATA_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getLiquidationState(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey perpetualsKey,
+                                                final PublicKey poolKey,
+                                                final PublicKey positionKey,
+                                                final PublicKey marketKey,
+                                                final PublicKey targetCustodyKey,
+                                                final PublicKey targetOracleAccountKey,
+                                                final PublicKey collateralCustodyKey,
+                                                final PublicKey collateralOracleAccountKey,
+                                                final PublicKey ixSysvarKey,
+                                                final GetLiquidationStateParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_LIQUIDATION_STATE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getLiquidationPrice(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedPerpetualsProgramMeta,
+                                                final PublicKey perpetualsKey,
+                                                final PublicKey poolKey,
+                                                final PublicKey positionKey,
+                                                final PublicKey marketKey,
+                                                final PublicKey targetCustodyKey,
+                                                final PublicKey targetOracleAccountKey,
+                                                final PublicKey collateralCustodyKey,
+                                                final PublicKey collateralOracleAccountKey,
+                                                final PublicKey ixSysvarKey,
+                                                final GetLiquidationPriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(positionKey);
+    _buffer.read(marketKey);
+    _buffer.read(targetCustodyKey);
+    _buffer.read(targetOracleAccountKey);
+    _buffer.read(collateralCustodyKey);
+    _buffer.read(collateralOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_LIQUIDATION_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getOraclePrice(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedPerpetualsProgramMeta,
+                                           final PublicKey perpetualsKey,
+                                           final PublicKey poolKey,
+                                           final PublicKey custodyKey,
+                                           final PublicKey custodyOracleAccountKey,
+                                           final PublicKey ixSysvarKey,
+                                           final GetOraclePriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(custodyKey);
+    _buffer.read(custodyOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_ORACLE_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getSwapAmountAndFees(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedPerpetualsProgramMeta,
+                                                 final PublicKey perpetualsKey,
+                                                 final PublicKey poolKey,
+                                                 final PublicKey receivingCustodyKey,
+                                                 final PublicKey receivingCustodyOracleAccountKey,
+                                                 final PublicKey dispensingCustodyKey,
+                                                 final PublicKey dispensingCustodyOracleAccountKey,
+                                                 final PublicKey ixSysvarKey,
+                                                 final GetSwapAmountAndFeesParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(receivingCustodyKey);
+    _buffer.read(receivingCustodyOracleAccountKey);
+    _buffer.read(dispensingCustodyKey);
+    _buffer.read(dispensingCustodyOracleAccountKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_SWAP_AMOUNT_AND_FEES_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getAssetsUnderManagement(final InstructionBuffer _buffer,
+                                                     final AccountMeta invokedPerpetualsProgramMeta,
+                                                     final PublicKey perpetualsKey,
+                                                     final PublicKey poolKey,
+                                                     final PublicKey ixSysvarKey,
+                                                     final GetAssetsUnderManagementParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_ASSETS_UNDER_MANAGEMENT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getCompoundingTokenData(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedPerpetualsProgramMeta,
+                                                    final PublicKey perpetualsKey,
+                                                    final PublicKey poolKey,
+                                                    final PublicKey lpTokenMintKey,
+                                                    final PublicKey ixSysvarKey,
+                                                    final GetCompoundingTokenDataParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_COMPOUNDING_TOKEN_DATA_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getLpTokenPrice(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedPerpetualsProgramMeta,
+                                            final PublicKey perpetualsKey,
+                                            final PublicKey poolKey,
+                                            final PublicKey lpTokenMintKey,
+                                            final PublicKey ixSysvarKey,
+                                            final GetLpTokenPriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_LP_TOKEN_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction getCompoundingTokenPrice(final InstructionBuffer _buffer,
+                                                     final AccountMeta invokedPerpetualsProgramMeta,
+                                                     final PublicKey perpetualsKey,
+                                                     final PublicKey poolKey,
+                                                     final PublicKey lpTokenMintKey,
+                                                     final PublicKey ixSysvarKey,
+                                                     final GetCompoundingTokenPriceParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(perpetualsKey);
+    _buffer.read(poolKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.read(ixSysvarKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.GET_COMPOUNDING_TOKEN_PRICE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction renameFlp(final InstructionBuffer _buffer,
+                                      final AccountMeta invokedPerpetualsProgramMeta,
+                                      final PublicKey adminKey,
+                                      final PublicKey multisigKey,
+                                      final PublicKey transferAuthorityKey,
+                                      final PublicKey perpetualsKey,
+                                      final PublicKey poolKey,
+                                      final PublicKey lpTokenMintKey,
+                                      final PublicKey lpMetadataAccountKey,
+                                      final PublicKey systemProgramKey,
+                                      final PublicKey tokenProgramKey,
+                                      final PublicKey metadataProgramKey,
+                                      final PublicKey rentKey,
+                                      final RenameFlpParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.write(multisigKey);
+    _buffer.read(transferAuthorityKey);
+    _buffer.read(perpetualsKey);
+    _buffer.write(poolKey);
+    _buffer.read(lpTokenMintKey);
+    _buffer.write(lpMetadataAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(metadataProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + PerpetualsProgram.RENAME_FLP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedPerpetualsProgramMeta, _keys, _offset, _len);
+  }
+
+  private PerpetualsBufferedInstructions() {
+  }
+}
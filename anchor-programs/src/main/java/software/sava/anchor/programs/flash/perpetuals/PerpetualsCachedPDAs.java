@@ -0,0 +1,172 @@
+package software.sava.anchor.programs.flash.perpetuals;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// Flash perpetuals program addresses derived through ProgramAddressCache, with bump overloads for bumps read from the
+// derived accounts. Seeds follow the program's published source.
+public final class PerpetualsCachedPDAs {
+
+  private static final byte[] COMPOUNDING_TOKEN_MINT_SEED = "compounding_token_mint".getBytes(US_ASCII);
+  private static final byte[] CUSTODY_SEED = "custody".getBytes(US_ASCII);
+  private static final byte[] CUSTODY_TOKEN_ACCOUNT_SEED = "custody_token_account".getBytes(US_ASCII);
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+  private static final byte[] LP_TOKEN_MINT_SEED = "lp_token_mint".getBytes(US_ASCII);
+  private static final byte[] MARKET_SEED = "market".getBytes(US_ASCII);
+  private static final byte[] MULTISIG_SEED = "multisig".getBytes(US_ASCII);
+  private static final byte[] ORDER_SEED = "order".getBytes(US_ASCII);
+  private static final byte[] PERPETUALS_SEED = "perpetuals".getBytes(US_ASCII);
+  private static final byte[] POOL_SEED = "pool".getBytes(US_ASCII);
+  private static final byte[] POSITION_SEED = "position".getBytes(US_ASCII);
+  private static final byte[] TRANSFER_AUTHORITY_SEED = "transfer_authority".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress compoundingTokenMintPDA(final PublicKey program,
+                                                              final PublicKey poolAccount) {
+    return ProgramAddressCache.findProgramAddress(COMPOUNDING_TOKEN_MINT_SEED, poolAccount, program);
+  }
+
+  public static ProgramDerivedAddress compoundingTokenMintPDA(final PublicKey program,
+                                                              final PublicKey poolAccount,
+                                                              final int bump) {
+    return ProgramAddressCache.createProgramAddress(COMPOUNDING_TOKEN_MINT_SEED, poolAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress custodyPDA(final PublicKey program,
+                                                 final PublicKey poolAccount,
+                                                 final PublicKey custodyTokenMintAccount) {
+    return ProgramAddressCache.findProgramAddress(CUSTODY_SEED, poolAccount, custodyTokenMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress custodyPDA(final PublicKey program,
+                                                 final PublicKey poolAccount,
+                                                 final PublicKey custodyTokenMintAccount,
+                                                 final int bump) {
+    return ProgramAddressCache.createProgramAddress(CUSTODY_SEED, poolAccount, custodyTokenMintAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress custodyTokenAccountPDA(final PublicKey program,
+                                                             final PublicKey poolAccount,
+                                                             final PublicKey custodyTokenMintAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        CUSTODY_TOKEN_ACCOUNT_SEED, poolAccount, custodyTokenMintAccount, program
+    );
+  }
+
+  public static ProgramDerivedAddress custodyTokenAccountPDA(final PublicKey program,
+                                                             final PublicKey poolAccount,
+                                                             final PublicKey custodyTokenMintAccount,
+                                                             final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        CUSTODY_TOKEN_ACCOUNT_SEED, poolAccount, custodyTokenMintAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress lpTokenMintPDA(final PublicKey program,
+                                                     final PublicKey poolAccount) {
+    return ProgramAddressCache.findProgramAddress(LP_TOKEN_MINT_SEED, poolAccount, program);
+  }
+
+  public static ProgramDerivedAddress lpTokenMintPDA(final PublicKey program,
+                                                     final PublicKey poolAccount,
+                                                     final int bump) {
+    return ProgramAddressCache.createProgramAddress(LP_TOKEN_MINT_SEED, poolAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress marketPDA(final PublicKey program,
+                                                final PublicKey targetCustodyAccount,
+                                                final PublicKey collateralCustodyAccount,
+                                                final int side) {
+    return ProgramAddressCache.findProgramAddress(
+        MARKET_SEED, targetCustodyAccount, collateralCustodyAccount, (byte) side, program
+    );
+  }
+
+  public static ProgramDerivedAddress marketPDA(final PublicKey program,
+                                                final PublicKey targetCustodyAccount,
+                                                final PublicKey collateralCustodyAccount,
+                                                final int side,
+                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        MARKET_SEED, targetCustodyAccount, collateralCustodyAccount, (byte) side, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress multisigPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(MULTISIG_SEED, program);
+  }
+
+  public static ProgramDerivedAddress multisigPDA(final PublicKey program,
+                                                  final int bump) {
+    return ProgramAddressCache.createProgramAddress(MULTISIG_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress orderPDA(final PublicKey program,
+                                               final PublicKey ownerAccount,
+                                               final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(ORDER_SEED, ownerAccount, marketAccount, program);
+  }
+
+  public static ProgramDerivedAddress orderPDA(final PublicKey program,
+                                               final PublicKey ownerAccount,
+                                               final PublicKey marketAccount,
+                                               final int bump) {
+    return ProgramAddressCache.createProgramAddress(ORDER_SEED, ownerAccount, marketAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress perpetualsPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(PERPETUALS_SEED, program);
+  }
+
+  public static ProgramDerivedAddress perpetualsPDA(final PublicKey program,
+                                                    final int bump) {
+    return ProgramAddressCache.createProgramAddress(PERPETUALS_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress poolPDA(final PublicKey program,
+                                              final String poolName) {
+    return ProgramAddressCache.findProgramAddress(POOL_SEED, poolName, program);
+  }
+
+  public static ProgramDerivedAddress poolPDA(final PublicKey program,
+                                              final String poolName,
+                                              final int bump) {
+    return ProgramAddressCache.createProgramAddress(POOL_SEED, poolName, bump, program);
+  }
+
+  public static ProgramDerivedAddress positionPDA(final PublicKey program,
+                                                  final PublicKey ownerAccount,
+                                                  final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(POSITION_SEED, ownerAccount, marketAccount, program);
+  }
+
+  public static ProgramDerivedAddress positionPDA(final PublicKey program,
+                                                  final PublicKey ownerAccount,
+                                                  final PublicKey marketAccount,
+                                                  final int bump) {
+    return ProgramAddressCache.createProgramAddress(POSITION_SEED, ownerAccount, marketAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress transferAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(TRANSFER_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress transferAuthorityPDA(final PublicKey program,
+                                                           final int bump) {
+    return ProgramAddressCache.createProgramAddress(TRANSFER_AUTHORITY_SEED, bump, program);
+  }
+
+  private PerpetualsCachedPDAs() {
+  }
+}
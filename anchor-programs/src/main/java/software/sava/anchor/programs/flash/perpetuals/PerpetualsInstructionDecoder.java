@@ -0,0 +1,355 @@
+package software.sava.anchor.programs.flash.perpetuals;
+
+import software.sava.anchor.programs.flash.perpetuals.anchor.PerpetualsProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Flash Trade perpetuals instruction data decoded into the PerpetualsProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class PerpetualsInstructionDecoder {
+
+  public record CancelAllTriggerOrdersIxData(Discriminator discriminator) implements Borsh {
+
+    public static CancelAllTriggerOrdersIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CancelAllTriggerOrdersIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CancelAllTriggerOrdersIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CollectRebateIxData(Discriminator discriminator) implements Borsh {
+
+    public static CollectRebateIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CollectRebateIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CollectRebateIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record MoveProtocolFeesIxData(Discriminator discriminator) implements Borsh {
+
+    public static MoveProtocolFeesIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MoveProtocolFeesIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MoveProtocolFeesIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record SettleRebatesIxData(Discriminator discriminator) implements Borsh {
+
+    public static SettleRebatesIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static SettleRebatesIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new SettleRebatesIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(PerpetualsProgram.EDIT_TRIGGER_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.UNSTAKE_REQUEST_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_CUSTOM_ORACLE_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_ADD_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.WITHDRAW_UNCLAIMED_TOKENS_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REMOVE_COMPOUNDING_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.UNSTAKE_TOKEN_INSTANT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_POSITION_DATA_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_ORACLE_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.CANCEL_TRIGGER_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SWAP_AND_ADD_COLLATERAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_PROTOCOL_FEE_SHARE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_PNL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.MIGRATE_STAKE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.INIT_REVENUE_TOKEN_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_ASSETS_UNDER_MANAGEMENT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_INTERNAL_EMA_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.RENAME_FLP_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_INTERNAL_ORACLE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_POOL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.DECREASE_SIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.EXECUTE_TRIGGER_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_CUSTODY_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.INIT_TOKEN_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.COLLECT_STAKE_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.INIT_COMPOUNDING_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REMOVE_CUSTODY_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_ADMIN_SIGNERS_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SETTLE_REBATES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.MIGRATE_FLP_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.PLACE_LIMIT_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.COMPOUND_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SWAP_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.WITHDRAW_INSTANT_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_INTERNAL_ORACLE_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_COLLATERAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_INTERNAL_CURRENT_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.CANCEL_ALL_TRIGGER_ORDERS_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.WITHDRAW_SOL_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_LP_TOKEN_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_POSITION_PRICE_IMPACT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_ADD_COMPOUNDING_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.RESIZE_INTERNAL_ORACLE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.CREATE_REFERRAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.PLACE_TRIGGER_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.UNSTAKE_TOKEN_REQUEST_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_LIQUIDATION_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_LIQUIDITY_AND_STAKE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.CREATE_WHITELIST_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_TOKEN_STAKE_LEVEL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_REMOVE_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.CANCEL_UNSTAKE_TOKEN_REQUEST_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.INIT_STAKING_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_LP_TOKEN_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.DEPOSIT_TOKEN_STAKE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.COLLECT_REBATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.EXECUTE_LIMIT_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_MARKET_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_EXIT_PRICE_AND_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_SWAP_AMOUNT_AND_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.DISTRIBUTE_TOKEN_REWARD_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_PERMISSIONS_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.COLLECT_TOKEN_REWARD_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.TEST_INIT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.DEPOSIT_STAKE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.EXECUTE_LIMIT_WITH_SWAP_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.OPEN_POSITION_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_LIQUIDATION_STATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.EDIT_LIMIT_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_COMPOUNDING_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REMOVE_POOL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_MARKET_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.INIT_REBATE_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REMOVE_COLLATERAL_AND_SWAP_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SWAP_FEE_INTERNAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_COMPOUNDING_TOKEN_PRICE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REMOVE_COLLATERAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.WITHDRAW_STAKE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.UNSTAKE_INSTANT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.LIQUIDATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.WITHDRAW_TOKEN_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.EXECUTE_TRIGGER_WITH_SWAP_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_WHITELIST_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.INCREASE_SIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.COLLECT_REVENUE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REIMBURSE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.WITHDRAW_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_FEE_SHARE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_REMOVE_COMPOUNDING_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.MOVE_PROTOCOL_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.CLOSE_POSITION_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_ENTRY_PRICE_AND_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.INIT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_TOKEN_REWARD_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_TEST_TIME_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REMOVE_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.GET_COMPOUNDING_TOKEN_DATA_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REMOVE_MARKET_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_PERPETUALS_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_CUSTODY_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SWAP_AND_OPEN_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.REFRESH_STAKE_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_TOKEN_VAULT_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.SET_POOL_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.ADD_CUSTODY_TOKEN_22_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(PerpetualsProgram.CLOSE_AND_SWAP_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> PerpetualsProgram.EditTriggerOrderIxData.read(_data, offset);
+      case 1 -> PerpetualsProgram.UnstakeRequestIxData.read(_data, offset);
+      case 2 -> PerpetualsProgram.SetCustomOraclePriceIxData.read(_data, offset);
+      case 3 -> PerpetualsProgram.GetAddLiquidityAmountAndFeeIxData.read(_data, offset);
+      case 4 -> PerpetualsProgram.WithdrawUnclaimedTokensIxData.read(_data, offset);
+      case 5 -> PerpetualsProgram.RemoveCompoundingLiquidityIxData.read(_data, offset);
+      case 6 -> PerpetualsProgram.UnstakeTokenInstantIxData.read(_data, offset);
+      case 7 -> PerpetualsProgram.GetPositionDataIxData.read(_data, offset);
+      case 8 -> PerpetualsProgram.GetOraclePriceIxData.read(_data, offset);
+      case 9 -> PerpetualsProgram.CancelTriggerOrderIxData.read(_data, offset);
+      case 10 -> PerpetualsProgram.SwapAndAddCollateralIxData.read(_data, offset);
+      case 11 -> PerpetualsProgram.SetProtocolFeeShareIxData.read(_data, offset);
+      case 12 -> PerpetualsProgram.GetPnlIxData.read(_data, offset);
+      case 13 -> PerpetualsProgram.MigrateStakeIxData.read(_data, offset);
+      case 14 -> PerpetualsProgram.InitRevenueTokenAccountIxData.read(_data, offset);
+      case 15 -> PerpetualsProgram.GetAssetsUnderManagementIxData.read(_data, offset);
+      case 16 -> PerpetualsProgram.SetInternalEmaPriceIxData.read(_data, offset);
+      case 17 -> PerpetualsProgram.RenameFlpIxData.read(_data, offset);
+      case 18 -> PerpetualsProgram.AddInternalOracleIxData.read(_data, offset);
+      case 19 -> PerpetualsProgram.AddPoolIxData.read(_data, offset);
+      case 20 -> PerpetualsProgram.DecreaseSizeIxData.read(_data, offset);
+      case 21 -> PerpetualsProgram.ExecuteTriggerOrderIxData.read(_data, offset);
+      case 22 -> PerpetualsProgram.SetCustodyConfigIxData.read(_data, offset);
+      case 23 -> PerpetualsProgram.InitTokenVaultIxData.read(_data, offset);
+      case 24 -> PerpetualsProgram.CollectStakeFeesIxData.read(_data, offset);
+      case 25 -> PerpetualsProgram.InitCompoundingIxData.read(_data, offset);
+      case 26 -> PerpetualsProgram.RemoveCustodyIxData.read(_data, offset);
+      case 27 -> PerpetualsProgram.SetAdminSignersIxData.read(_data, offset);
+      case 28 -> SettleRebatesIxData.read(_data, offset);
+      case 29 -> PerpetualsProgram.MigrateFlpIxData.read(_data, offset);
+      case 30 -> PerpetualsProgram.PlaceLimitOrderIxData.read(_data, offset);
+      case 31 -> PerpetualsProgram.CompoundFeesIxData.read(_data, offset);
+      case 32 -> PerpetualsProgram.SwapIxData.read(_data, offset);
+      case 33 -> PerpetualsProgram.WithdrawInstantFeesIxData.read(_data, offset);
+      case 34 -> PerpetualsProgram.SetInternalOraclePriceIxData.read(_data, offset);
+      case 35 -> PerpetualsProgram.AddCollateralIxData.read(_data, offset);
+      case 36 -> PerpetualsProgram.SetInternalCurrentPriceIxData.read(_data, offset);
+      case 37 -> CancelAllTriggerOrdersIxData.read(_data, offset);
+      case 38 -> PerpetualsProgram.WithdrawSolFeesIxData.read(_data, offset);
+      case 39 -> PerpetualsProgram.SetLpTokenPriceIxData.read(_data, offset);
+      case 40 -> PerpetualsProgram.SetPositionPriceImpactIxData.read(_data, offset);
+      case 41 -> PerpetualsProgram.GetAddCompoundingLiquidityAmountAndFeeIxData.read(_data, offset);
+      case 42 -> PerpetualsProgram.ResizeInternalOracleIxData.read(_data, offset);
+      case 43 -> PerpetualsProgram.CreateReferralIxData.read(_data, offset);
+      case 44 -> PerpetualsProgram.PlaceTriggerOrderIxData.read(_data, offset);
+      case 45 -> PerpetualsProgram.UnstakeTokenRequestIxData.read(_data, offset);
+      case 46 -> PerpetualsProgram.GetLiquidationPriceIxData.read(_data, offset);
+      case 47 -> PerpetualsProgram.AddLiquidityAndStakeIxData.read(_data, offset);
+      case 48 -> PerpetualsProgram.CreateWhitelistIxData.read(_data, offset);
+      case 49 -> PerpetualsProgram.SetTokenStakeLevelIxData.read(_data, offset);
+      case 50 -> PerpetualsProgram.GetRemoveLiquidityAmountAndFeeIxData.read(_data, offset);
+      case 51 -> PerpetualsProgram.CancelUnstakeTokenRequestIxData.read(_data, offset);
+      case 52 -> PerpetualsProgram.InitStakingIxData.read(_data, offset);
+      case 53 -> PerpetualsProgram.GetLpTokenPriceIxData.read(_data, offset);
+      case 54 -> PerpetualsProgram.DepositTokenStakeIxData.read(_data, offset);
+      case 55 -> CollectRebateIxData.read(_data, offset);
+      case 56 -> PerpetualsProgram.ExecuteLimitOrderIxData.read(_data, offset);
+      case 57 -> PerpetualsProgram.SetMarketConfigIxData.read(_data, offset);
+      case 58 -> PerpetualsProgram.GetExitPriceAndFeeIxData.read(_data, offset);
+      case 59 -> PerpetualsProgram.GetSwapAmountAndFeesIxData.read(_data, offset);
+      case 60 -> PerpetualsProgram.DistributeTokenRewardIxData.read(_data, offset);
+      case 61 -> PerpetualsProgram.SetPermissionsIxData.read(_data, offset);
+      case 62 -> PerpetualsProgram.CollectTokenRewardIxData.read(_data, offset);
+      case 63 -> PerpetualsProgram.TestInitIxData.read(_data, offset);
+      case 64 -> PerpetualsProgram.DepositStakeIxData.read(_data, offset);
+      case 65 -> PerpetualsProgram.ExecuteLimitWithSwapIxData.read(_data, offset);
+      case 66 -> PerpetualsProgram.OpenPositionIxData.read(_data, offset);
+      case 67 -> PerpetualsProgram.GetLiquidationStateIxData.read(_data, offset);
+      case 68 -> PerpetualsProgram.EditLimitOrderIxData.read(_data, offset);
+      case 69 -> PerpetualsProgram.AddCompoundingLiquidityIxData.read(_data, offset);
+      case 70 -> PerpetualsProgram.RemovePoolIxData.read(_data, offset);
+      case 71 -> PerpetualsProgram.AddMarketIxData.read(_data, offset);
+      case 72 -> PerpetualsProgram.InitRebateVaultIxData.read(_data, offset);
+      case 73 -> PerpetualsProgram.RemoveCollateralAndSwapIxData.read(_data, offset);
+      case 74 -> PerpetualsProgram.SwapFeeInternalIxData.read(_data, offset);
+      case 75 -> PerpetualsProgram.GetCompoundingTokenPriceIxData.read(_data, offset);
+      case 76 -> PerpetualsProgram.RemoveCollateralIxData.read(_data, offset);
+      case 77 -> PerpetualsProgram.WithdrawStakeIxData.read(_data, offset);
+      case 78 -> PerpetualsProgram.UnstakeInstantIxData.read(_data, offset);
+      case 79 -> PerpetualsProgram.AddLiquidityIxData.read(_data, offset);
+      case 80 -> PerpetualsProgram.LiquidateIxData.read(_data, offset);
+      case 81 -> PerpetualsProgram.WithdrawTokenIxData.read(_data, offset);
+      case 82 -> PerpetualsProgram.ExecuteTriggerWithSwapIxData.read(_data, offset);
+      case 83 -> PerpetualsProgram.SetWhitelistConfigIxData.read(_data, offset);
+      case 84 -> PerpetualsProgram.IncreaseSizeIxData.read(_data, offset);
+      case 85 -> PerpetualsProgram.CollectRevenueIxData.read(_data, offset);
+      case 86 -> PerpetualsProgram.ReimburseIxData.read(_data, offset);
+      case 87 -> PerpetualsProgram.WithdrawFeesIxData.read(_data, offset);
+      case 88 -> PerpetualsProgram.SetFeeShareIxData.read(_data, offset);
+      case 89 -> PerpetualsProgram.GetRemoveCompoundingLiquidityAmountAndFeeIxData.read(_data, offset);
+      case 90 -> MoveProtocolFeesIxData.read(_data, offset);
+      case 91 -> PerpetualsProgram.ClosePositionIxData.read(_data, offset);
+      case 92 -> PerpetualsProgram.GetEntryPriceAndFeeIxData.read(_data, offset);
+      case 93 -> PerpetualsProgram.InitIxData.read(_data, offset);
+      case 94 -> PerpetualsProgram.SetTokenRewardIxData.read(_data, offset);
+      case 95 -> PerpetualsProgram.SetTestTimeIxData.read(_data, offset);
+      case 96 -> PerpetualsProgram.RemoveLiquidityIxData.read(_data, offset);
+      case 97 -> PerpetualsProgram.GetCompoundingTokenDataIxData.read(_data, offset);
+      case 98 -> PerpetualsProgram.RemoveMarketIxData.read(_data, offset);
+      case 99 -> PerpetualsProgram.SetPerpetualsConfigIxData.read(_data, offset);
+      case 100 -> PerpetualsProgram.AddCustodyIxData.read(_data, offset);
+      case 101 -> PerpetualsProgram.SwapAndOpenIxData.read(_data, offset);
+      case 102 -> PerpetualsProgram.RefreshStakeIxData.read(_data, offset);
+      case 103 -> PerpetualsProgram.SetTokenVaultConfigIxData.read(_data, offset);
+      case 104 -> PerpetualsProgram.SetPoolConfigIxData.read(_data, offset);
+      case 105 -> PerpetualsProgram.AddCustodyToken22AccountIxData.read(_data, offset);
+      case 106 -> PerpetualsProgram.CloseAndSwapIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private PerpetualsInstructionDecoder() {
+  }
+}
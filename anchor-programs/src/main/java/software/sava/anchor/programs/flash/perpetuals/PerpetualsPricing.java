@@ -0,0 +1,466 @@
+package software.sava.anchor.programs.flash.perpetuals;
+
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.*;
+import software.sava.core.accounts.PublicKey;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
+
+import static software.sava.anchor.programs._commons.U64Math.divideUnsigned;
+import static software.sava.anchor.programs._commons.U64Math.mulDiv;
+
+// Local equivalents of the Perpetuals view instructions getEntryPriceAndFee, getExitPriceAndFee, getPnl,
+// getLiquidationPrice, getPositionData, getSwapAmountAndFees, getAddLiquidityAmountAndFee and
+// getRemoveLiquidityAmountAndFee.
+//
+// Fixed point conventions follow the program: USD values have 6 decimals, spreads, leverage, max payoff and token
+// ratios are in basis points with 4 decimals, fee and borrow rates have 9 decimals. Prices are OraclePrice
+// mantissa/exponent pairs and are normalized to the exponent of the position's entry price. Multiply-divides go
+// through U64Math and throw an ArithmeticException if a result does not fit in a long.
+//
+// Swap and liquidity fees depend on the custody's Fees.mode. Fixed charges the RatioFees targetFee. Linear charges a
+// rate interpolated over the custody's share of the pool AUM after the operation, through (min, minFee),
+// (target, targetFee) and (max, maxFee) of its Pool TokenRatios and held at the end rates outside of [min, max].
+//
+// Positions are liquidatable once their margin, collateral plus unsettled value, profit and loss less the entry price
+// impact, falls below size / max leverage, where degen mode positions use the custody's maxDegenLeverage.
+public final class PerpetualsPricing {
+
+  public static final int USD_DECIMALS = 6;
+  public static final int BPS_DECIMALS = 4;
+  public static final int RATE_DECIMALS = 9;
+  public static final long BPS_POWER = 10_000;
+  public static final long RATE_POWER = 1_000_000_000;
+  public static final int LP_DECIMALS = 6;
+
+  private static final long SECONDS_PER_HOUR = 3_600;
+  private static final long SPREAD_SLOPE_POWER = 10_000_000;
+  private static final long[] POW_10 = new long[19];
+
+  static {
+    POW_10[0] = 1;
+    for (int i = 1; i < POW_10.length; ++i) {
+      POW_10[i] = POW_10[i - 1] * 10;
+    }
+  }
+
+  static long pow10(final int exponent) {
+    return POW_10[exponent];
+  }
+
+  // Rescales the price mantissa to the target exponent, truncating if precision is dropped.
+  public static OraclePrice scaleToExponent(final OraclePrice price, final int targetExponent) {
+    final int delta = price.exponent() - targetExponent;
+    if (delta == 0) {
+      return price;
+    } else if (delta > 0) {
+      return new OraclePrice(Math.multiplyExact(price.price(), pow10(delta)), targetExponent);
+    } else {
+      return new OraclePrice(price.price() / pow10(-delta), targetExponent);
+    }
+  }
+
+  // USD value, with USD_DECIMALS, of a token amount with the given decimals.
+  public static long tokenToUsd(final OraclePrice price, final long amount, final int decimals) {
+    if (amount == 0) {
+      return 0;
+    }
+    final int scale = price.exponent() + USD_DECIMALS - decimals;
+    return scale >= 0
+        ? Math.multiplyExact(Math.multiplyExact(amount, price.price()), pow10(scale))
+        : mulDiv(amount, price.price(), pow10(-scale));
+  }
+
+  // Token amount with the given decimals worth the USD value.
+  public static long usdToToken(final OraclePrice price, final long usd, final int decimals) {
+    if (usd == 0) {
+      return 0;
+    }
+    final int scale = decimals - price.exponent() - USD_DECIMALS;
+    return scale >= 0
+        ? mulDiv(usd, pow10(scale), price.price())
+        : usd / pow10(-scale) / price.price();
+  }
+
+  // Spread in basis points, growing linearly from tradeSpreadMin to tradeSpreadMax at maxPositionSizeUsd.
+  public static long tradeSpread(final PricingParams pricing, final long sizeUsd) {
+    final long spreadRange = pricing.tradeSpreadMax() - pricing.tradeSpreadMin();
+    if (spreadRange == 0 || sizeUsd == 0 || pricing.maxPositionSizeUsd() == 0) {
+      return pricing.tradeSpreadMin();
+    }
+    final long slope = mulDiv(spreadRange, SPREAD_SLOPE_POWER, pricing.maxPositionSizeUsd());
+    return Math.min(pricing.tradeSpreadMax(), pricing.tradeSpreadMin() + mulDiv(slope, sizeUsd, SPREAD_SLOPE_POWER));
+  }
+
+  public static OraclePrice applySpread(final OraclePrice price, final long spreadBps, final boolean up) {
+    final long factor = up ? BPS_POWER + spreadBps : BPS_POWER - spreadBps;
+    return new OraclePrice(mulDiv(price.price(), factor, BPS_POWER), price.exponent());
+  }
+
+  public static long openPositionFee(final Custody targetCustody, final long sizeUsd) {
+    return mulDiv(sizeUsd, targetCustody.fees().openPosition(), RATE_POWER);
+  }
+
+  public static long closePositionFee(final Custody targetCustody, final long sizeUsd) {
+    return mulDiv(sizeUsd, targetCustody.fees().closePosition(), RATE_POWER);
+  }
+
+  // getEntryPriceAndFee: longs enter above and shorts below the oracle price.
+  public static NewPositionPricesAndFee entryPriceAndFee(final Custody targetCustody,
+                                                         final OraclePrice targetPrice,
+                                                         final long sizeAmount,
+                                                         final Side side) {
+    final long sizeUsd = tokenToUsd(targetPrice, sizeAmount, targetCustody.decimals());
+    final long spread = tradeSpread(targetCustody.pricing(), sizeUsd);
+    final var entryPrice = applySpread(targetPrice, spread, side == Side.Long);
+    return new NewPositionPricesAndFee(entryPrice, openPositionFee(targetCustody, sizeUsd));
+  }
+
+  // getExitPriceAndFee: longs exit below and shorts above the oracle price.
+  public static PriceAndFee exitPriceAndFee(final Position position,
+                                            final Side side,
+                                            final Custody targetCustody,
+                                            final OraclePrice targetPrice) {
+    final long spread = tradeSpread(targetCustody.pricing(), position.sizeUsd());
+    final var exitPrice = applySpread(
+        scaleToExponent(targetPrice, position.entryPrice().exponent()),
+        spread,
+        side == Side.Short
+    );
+    return new PriceAndFee(exitPrice, closePositionFee(targetCustody, position.sizeUsd()));
+  }
+
+  // Cumulative lock fee accrued by the custody since its last update, the hourly rate has RATE_DECIMALS.
+  public static long pendingLockFee(final Custody collateralCustody, final long unixTimestamp) {
+    final var state = collateralCustody.borrowRateState();
+    final long elapsed = unixTimestamp - state.lastUpdate();
+    return elapsed <= 0 ? 0 : mulDiv(state.currentRate(), elapsed, SECONDS_PER_HOUR);
+  }
+
+  // Borrow fee accrued by the position's locked USD since its snapshot, including unsettled fees.
+  // The u128 cumulative lock fees are held as high and low longs, only values wider than 64 bits allocate.
+  public static long lockFeeUsd(final Position position, final Custody collateralCustody, final long unixTimestamp) {
+    final var cumulative = collateralCustody.borrowRateState().cumulativeLockFee();
+    final long pending = pendingLockFee(collateralCustody, unixTimestamp);
+    final long low = cumulative.longValue() + pending;
+    final long high = high(cumulative) + (Long.compareUnsigned(low, pending) < 0 ? 1 : 0);
+
+    final var snapshot = position.cumulativeLockFeeSnapshot();
+    final long snapshotLow = snapshot.longValue();
+    final long snapshotHigh = high(snapshot);
+    final int compare = Long.compareUnsigned(high, snapshotHigh);
+    if (compare < 0 || (compare == 0 && Long.compareUnsigned(low, snapshotLow) <= 0)) {
+      return position.unsettledFeesUsd();
+    }
+    final long deltaLow = low - snapshotLow;
+    final long deltaHigh = high - snapshotHigh - (Long.compareUnsigned(low, snapshotLow) < 0 ? 1 : 0);
+    return Math.addExact(accruedLockFee(deltaHigh, deltaLow, position.lockedUsd()), position.unsettledFeesUsd());
+  }
+
+  private static long high(final BigInteger u128) {
+    return u128.bitLength() <= Long.SIZE ? 0 : u128.shiftRight(Long.SIZE).longValue();
+  }
+
+  // (deltaHigh, deltaLow) * lockedUsd / RATE_POWER
+  private static long accruedLockFee(final long deltaHigh, final long deltaLow, final long lockedUsd) {
+    final long productLow = deltaLow * lockedUsd;
+    long productHigh = Math.unsignedMultiplyHigh(deltaLow, lockedUsd);
+    if (deltaHigh != 0) {
+      if (Math.unsignedMultiplyHigh(deltaHigh, lockedUsd) != 0) {
+        throw new ArithmeticException("long overflow");
+      }
+      final long carry = deltaHigh * lockedUsd;
+      productHigh += carry;
+      if (Long.compareUnsigned(productHigh, carry) < 0) {
+        throw new ArithmeticException("long overflow");
+      }
+    }
+    if (Long.compareUnsigned(productHigh, RATE_POWER) >= 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    final long accrued = divideUnsigned(productHigh, productLow, RATE_POWER);
+    if (accrued < 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    return accrued;
+  }
+
+  // getPnl: profit is capped at the market's max payoff of the position size, fees count as a loss.
+  public static ProfitAndLoss pnl(final Position position,
+                                  final Market market,
+                                  final OraclePrice exitPrice,
+                                  final long feesUsd) {
+    final long entry = position.entryPrice().price();
+    final long exit = scaleToExponent(exitPrice, position.entryPrice().exponent()).price();
+    final long sizeUsd = position.sizeUsd();
+    final boolean inProfit = market.side() == Side.Long ? exit > entry : exit < entry;
+    final long priceDelta = Math.abs(exit - entry);
+    final long delta = entry == 0 ? 0 : mulDiv(sizeUsd, priceDelta, entry);
+
+    long profit = 0;
+    long loss = feesUsd;
+    if (inProfit) {
+      final long maxPayoff = market.maxPayoffBps() == 0
+          ? Long.MAX_VALUE
+          : mulDiv(sizeUsd, market.maxPayoffBps(), BPS_POWER);
+      profit = Math.min(delta, maxPayoff);
+    } else {
+      loss = Math.addExact(loss, delta);
+    }
+    final long net = Math.min(profit, loss);
+    return new ProfitAndLoss(profit - net, loss - net);
+  }
+
+  public static ProfitAndLoss pnl(final Position position,
+                                  final Market market,
+                                  final Custody targetCustody,
+                                  final Custody collateralCustody,
+                                  final OraclePrice targetPrice,
+                                  final long unixTimestamp) {
+    final var exit = exitPriceAndFee(position, market.side(), targetCustody, targetPrice);
+    final long fees = Math.addExact(exit.feeUsd(), lockFeeUsd(position, collateralCustody, unixTimestamp));
+    return pnl(position, market, exit.price(), fees);
+  }
+
+  // Positions holding degen size are held to maxDegenLeverage, others to maxLeverage.
+  public static int maxLeverage(final Position position, final PricingParams pricing) {
+    return position.degenSizeUsd() > 0 ? pricing.maxDegenLeverage() : pricing.maxLeverage();
+  }
+
+  // Collateral and unsettled value remaining after profit and loss and the entry price impact, floored at zero.
+  public static long marginUsd(final Position position, final ProfitAndLoss pnl) {
+    final long assets = Math.addExact(
+        Math.addExact(position.collateralUsd(), position.unsettledValueUsd()),
+        pnl.profit()
+    );
+    return Math.max(0, assets - Math.addExact(pnl.loss(), position.priceImpactUsd()));
+  }
+
+  // Leverage in basis points, Long.MAX_VALUE once the margin is exhausted.
+  public static long leverage(final Position position, final ProfitAndLoss pnl) {
+    final long margin = marginUsd(position, pnl);
+    return margin == 0 ? Long.MAX_VALUE : mulDiv(position.sizeUsd(), BPS_POWER, margin);
+  }
+
+  // getLiquidationPrice: the exit price at which the margin, see marginUsd, drops to size / maxLeverage.
+  public static OraclePrice liquidationPrice(final Position position,
+                                             final Market market,
+                                             final Custody targetCustody,
+                                             final long feesUsd) {
+    final var entryPrice = position.entryPrice();
+    final long sizeUsd = position.sizeUsd();
+    if (sizeUsd == 0) {
+      return new OraclePrice(0, entryPrice.exponent());
+    }
+    final int maxLeverage = maxLeverage(position, targetCustody.pricing());
+    final long minMargin = maxLeverage == 0 ? 0 : mulDiv(sizeUsd, BPS_POWER, maxLeverage);
+    final long assets = Math.addExact(position.collateralUsd(), position.unsettledValueUsd());
+    final long liabilities = Math.addExact(Math.addExact(feesUsd, position.priceImpactUsd()), minMargin);
+    final long maxLoss = assets - liabilities;
+    final long priceDelta = mulDiv(Math.abs(maxLoss), entryPrice.price(), sizeUsd);
+    final boolean isLong = market.side() == Side.Long;
+    final long liquidation = (maxLoss >= 0) == isLong
+        ? entryPrice.price() - priceDelta
+        : entryPrice.price() + priceDelta;
+    return new OraclePrice(Math.max(0, liquidation), entryPrice.exponent());
+  }
+
+  public static boolean isLiquidatable(final Position position,
+                                       final Market market,
+                                       final Custody targetCustody,
+                                       final ProfitAndLoss pnl) {
+    final int maxLeverage = maxLeverage(position, targetCustody.pricing());
+    return position.sizeUsd() > 0 && maxLeverage > 0 && leverage(position, pnl) > maxLeverage;
+  }
+
+  // getPositionData
+  public static PositionData positionData(final Position position,
+                                          final Market market,
+                                          final Custody targetCustody,
+                                          final Custody collateralCustody,
+                                          final OraclePrice targetPrice,
+                                          final long unixTimestamp) {
+    final var exit = exitPriceAndFee(position, market.side(), targetCustody, targetPrice);
+    final long feesUsd = Math.addExact(exit.feeUsd(), lockFeeUsd(position, collateralCustody, unixTimestamp));
+    final var pnl = pnl(position, market, exit.price(), feesUsd);
+    return new PositionData(
+        position.collateralUsd(),
+        pnl.profit(),
+        pnl.loss(),
+        feesUsd,
+        leverage(position, pnl),
+        liquidationPrice(position, market, targetCustody, feesUsd)
+    );
+  }
+
+  // Evaluates every open position of the market in parallel, positions belonging to other markets are skipped.
+  public static List<PositionEvaluation> evaluatePositions(final Market market,
+                                                           final Custody targetCustody,
+                                                           final Custody collateralCustody,
+                                                           final OraclePrice targetPrice,
+                                                           final long unixTimestamp,
+                                                           final Collection<Position> positions) {
+    final PublicKey marketKey = market._address();
+    return positions.parallelStream()
+        .filter(position -> position.sizeUsd() > 0 && marketKey.equals(position.market()))
+        .map(position -> {
+          final var data = positionData(position, market, targetCustody, collateralCustody, targetPrice, unixTimestamp);
+          final boolean liquidatable = isLiquidatable(
+              position, market, targetCustody,
+              new ProfitAndLoss(data.profitUsd(), data.lossUsd())
+          );
+          return new PositionEvaluation(position, data, liquidatable);
+        })
+        .toList();
+  }
+
+  // Index of the custody within the pool, which also selects its TokenRatios. -1 if the pool does not hold it.
+  public static int custodyIndex(final Pool pool, final PublicKey custody) {
+    final var custodies = pool.custodies();
+    for (int i = 0; i < custodies.length; ++i) {
+      if (custodies[i].equals(custody)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // Custody share of the pool AUM, in basis points, once amountAdd is added or amountRemove removed.
+  public static long newRatio(final Pool pool,
+                              final Custody custody,
+                              final OraclePrice price,
+                              final long amountAdd,
+                              final long amountRemove) {
+    final long tokenAumUsd = tokenToUsd(price, custody.assets().owned(), custody.decimals());
+    final long poolAumUsd = pool.rawAumUsd();
+    final long newTokenAumUsd;
+    final long newPoolAumUsd;
+    if (amountAdd > 0) {
+      final long addedUsd = tokenToUsd(price, amountAdd, custody.decimals());
+      newTokenAumUsd = Math.addExact(tokenAumUsd, addedUsd);
+      newPoolAumUsd = Math.addExact(poolAumUsd, addedUsd);
+    } else if (amountRemove > 0) {
+      final long removedUsd = tokenToUsd(price, amountRemove, custody.decimals());
+      if (removedUsd >= tokenAumUsd || removedUsd >= poolAumUsd) {
+        return 0;
+      }
+      newTokenAumUsd = tokenAumUsd - removedUsd;
+      newPoolAumUsd = poolAumUsd - removedUsd;
+    } else {
+      newTokenAumUsd = tokenAumUsd;
+      newPoolAumUsd = poolAumUsd;
+    }
+    return newPoolAumUsd == 0 ? 0 : Math.min(BPS_POWER, mulDiv(newTokenAumUsd, BPS_POWER, newPoolAumUsd));
+  }
+
+  // Fee rate, with RATE_DECIMALS, for a custody whose pool share becomes newRatio.
+  public static long ratioFeeRate(final FeesMode mode,
+                                  final RatioFees fees,
+                                  final TokenRatios ratios,
+                                  final long newRatio) {
+    if (mode == FeesMode.Fixed) {
+      return fees.targetFee();
+    }
+    if (newRatio <= ratios.min()) {
+      return fees.minFee();
+    } else if (newRatio >= ratios.max()) {
+      return fees.maxFee();
+    } else if (newRatio <= ratios.target()) {
+      return interpolate(fees.minFee(), fees.targetFee(), newRatio - ratios.min(), ratios.target() - ratios.min());
+    } else {
+      return interpolate(fees.targetFee(), fees.maxFee(), newRatio - ratios.target(), ratios.max() - ratios.target());
+    }
+  }
+
+  private static long interpolate(final long from, final long to, final long step, final long range) {
+    if (range == 0) {
+      return to;
+    }
+    return to >= from
+        ? from + mulDiv(to - from, step, range)
+        : from - mulDiv(from - to, step, range);
+  }
+
+  // Fee, in tokens of the custody, for adding amountAdd or removing amountRemove at the given RatioFees.
+  public static long ratioFee(final Pool pool,
+                              final Custody custody,
+                              final OraclePrice price,
+                              final RatioFees fees,
+                              final long amountAdd,
+                              final long amountRemove) {
+    final long amount = Math.max(amountAdd, amountRemove);
+    if (amount == 0) {
+      return 0;
+    }
+    final long rate;
+    if (custody.fees().mode() == FeesMode.Fixed) {
+      rate = fees.targetFee();
+    } else {
+      final int index = custodyIndex(pool, custody._address());
+      if (index < 0) {
+        throw new IllegalArgumentException("Custody " + custody._address() + " is not held by pool " + pool._address());
+      }
+      final long ratio = newRatio(pool, custody, price, amountAdd, amountRemove);
+      rate = ratioFeeRate(FeesMode.Linear, fees, pool.ratios()[index], ratio);
+    }
+    return mulDiv(amount, rate, RATE_POWER);
+  }
+
+  // getSwapAmountAndFees: the input fee is taken before conversion and the output fee from the converted amount.
+  // Stable swap fees apply when both custodies are stable. The input is valued below and the output above the oracle
+  // price by each custody's swap spread.
+  public static SwapAmountAndFees swapAmountAndFees(final Pool pool,
+                                                    final Custody receivingCustody,
+                                                    final OraclePrice receivingPrice,
+                                                    final Custody dispensingCustody,
+                                                    final OraclePrice dispensingPrice,
+                                                    final long amountIn) {
+    final boolean stable = receivingCustody.isStable() && dispensingCustody.isStable();
+    final var receivingFees = receivingCustody.fees();
+    final var dispensingFees = dispensingCustody.fees();
+    final long feeIn = ratioFee(
+        pool, receivingCustody, receivingPrice,
+        stable ? receivingFees.stableSwapIn() : receivingFees.swapIn(),
+        amountIn, 0
+    );
+    final var inPrice = applySpread(receivingPrice, receivingCustody.pricing().swapSpread(), false);
+    final var outPrice = applySpread(dispensingPrice, dispensingCustody.pricing().swapSpread(), true);
+    final long usd = tokenToUsd(inPrice, amountIn - feeIn, receivingCustody.decimals());
+    final long grossOut = usdToToken(outPrice, usd, dispensingCustody.decimals());
+    final long feeOut = ratioFee(
+        pool, dispensingCustody, dispensingPrice,
+        stable ? dispensingFees.stableSwapOut() : dispensingFees.swapOut(),
+        0, grossOut
+    );
+    return new SwapAmountAndFees(grossOut - feeOut, feeIn, feeOut);
+  }
+
+  // getAddLiquidityAmountAndFee: LP tokens minted for amountIn at the pool lpPrice, and the fee in custody tokens.
+  public static AmountAndFee addLiquidityAmountAndFee(final Pool pool,
+                                                      final Custody custody,
+                                                      final OraclePrice price,
+                                                      final long amountIn) {
+    final long fee = ratioFee(pool, custody, price, custody.fees().addLiquidity(), amountIn, 0);
+    final long usd = tokenToUsd(price, amountIn - fee, custody.decimals());
+    final long lpAmount = pool.lpPrice() == 0 ? 0 : mulDiv(usd, pow10(LP_DECIMALS), pool.lpPrice());
+    return new AmountAndFee(lpAmount, fee);
+  }
+
+  // getRemoveLiquidityAmountAndFee: custody tokens returned for lpAmountIn at the pool lpPrice, net of the fee.
+  public static AmountAndFee removeLiquidityAmountAndFee(final Pool pool,
+                                                         final Custody custody,
+                                                         final OraclePrice price,
+                                                         final long lpAmountIn) {
+    final long usd = mulDiv(lpAmountIn, pool.lpPrice(), pow10(LP_DECIMALS));
+    final long grossOut = usdToToken(price, usd, custody.decimals());
+    final long fee = ratioFee(pool, custody, price, custody.fees().removeLiquidity(), 0, grossOut);
+    return new AmountAndFee(grossOut - fee, fee);
+  }
+
+  public record PositionEvaluation(Position position, PositionData data, boolean liquidatable) {
+  }
+
+  private PerpetualsPricing() {
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddInternalOracleParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class AddInternalOracleIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.ADD_INTERNAL_ORACLE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AddInternalOracleIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AddInternalOracleIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AddInternalOracleIxDataSegmentView(segment, offset);
+  }
+
+  public static AddInternalOracleIxDataSegmentView wrap(final MemorySegment segment) {
+    return new AddInternalOracleIxDataSegmentView(segment, 0);
+  }
+
+  public AddInternalOracleIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AddInternalOracleIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.AddInternalOracleIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.AddInternalOracleIxData.BYTES, PerpetualsProgram.AddInternalOracleIxData::read);
+  }
+
+  public AddInternalOracleParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, AddInternalOracleParams.BYTES, AddInternalOracleParams::read);
+  }
+}
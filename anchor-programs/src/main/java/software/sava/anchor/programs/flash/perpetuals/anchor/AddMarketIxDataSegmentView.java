@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddMarketParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class AddMarketIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.ADD_MARKET_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AddMarketIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AddMarketIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AddMarketIxDataSegmentView(segment, offset);
+  }
+
+  public static AddMarketIxDataSegmentView wrap(final MemorySegment segment) {
+    return new AddMarketIxDataSegmentView(segment, 0);
+  }
+
+  public AddMarketIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AddMarketIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.AddMarketIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.AddMarketIxData.BYTES, PerpetualsProgram.AddMarketIxData::read);
+  }
+
+  public AddMarketParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, AddMarketParams.BYTES, AddMarketParams::read);
+  }
+}
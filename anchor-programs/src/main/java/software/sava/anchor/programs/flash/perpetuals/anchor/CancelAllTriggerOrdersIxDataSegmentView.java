@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.PerpetualsInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CancelAllTriggerOrdersIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.CANCEL_ALL_TRIGGER_ORDERS_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CancelAllTriggerOrdersIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CancelAllTriggerOrdersIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CancelAllTriggerOrdersIxDataSegmentView(segment, offset);
+  }
+
+  public static CancelAllTriggerOrdersIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CancelAllTriggerOrdersIxDataSegmentView(segment, 0);
+  }
+
+  public CancelAllTriggerOrdersIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CancelAllTriggerOrdersIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsInstructionDecoder.CancelAllTriggerOrdersIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsInstructionDecoder.CancelAllTriggerOrdersIxData.BYTES, PerpetualsInstructionDecoder.CancelAllTriggerOrdersIxData::read);
+  }
+}
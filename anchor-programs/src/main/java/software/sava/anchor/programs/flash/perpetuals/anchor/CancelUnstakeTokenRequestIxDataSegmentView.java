@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CancelUnstakeTokenRequestParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CancelUnstakeTokenRequestIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.CANCEL_UNSTAKE_TOKEN_REQUEST_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CancelUnstakeTokenRequestIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CancelUnstakeTokenRequestIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CancelUnstakeTokenRequestIxDataSegmentView(segment, offset);
+  }
+
+  public static CancelUnstakeTokenRequestIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CancelUnstakeTokenRequestIxDataSegmentView(segment, 0);
+  }
+
+  public CancelUnstakeTokenRequestIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CancelUnstakeTokenRequestIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.CancelUnstakeTokenRequestIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.CancelUnstakeTokenRequestIxData.BYTES, PerpetualsProgram.CancelUnstakeTokenRequestIxData::read);
+  }
+
+  public CancelUnstakeTokenRequestParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, CancelUnstakeTokenRequestParams.BYTES, CancelUnstakeTokenRequestParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CloseAndSwapParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseAndSwapIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.CLOSE_AND_SWAP_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseAndSwapIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseAndSwapIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseAndSwapIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseAndSwapIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseAndSwapIxDataSegmentView(segment, 0);
+  }
+
+  public CloseAndSwapIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseAndSwapIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.CloseAndSwapIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.CloseAndSwapIxData.BYTES, PerpetualsProgram.CloseAndSwapIxData::read);
+  }
+
+  public CloseAndSwapParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, CloseAndSwapParams.BYTES, CloseAndSwapParams::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.PerpetualsInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CollectRebateIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.COLLECT_REBATE_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CollectRebateIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CollectRebateIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CollectRebateIxDataSegmentView(segment, offset);
+  }
+
+  public static CollectRebateIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CollectRebateIxDataSegmentView(segment, 0);
+  }
+
+  public CollectRebateIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CollectRebateIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsInstructionDecoder.CollectRebateIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsInstructionDecoder.CollectRebateIxData.BYTES, PerpetualsInstructionDecoder.CollectRebateIxData::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DecreaseSizeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class DecreaseSizeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.DECREASE_SIZE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DecreaseSizeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DecreaseSizeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DecreaseSizeIxDataSegmentView(segment, offset);
+  }
+
+  public static DecreaseSizeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new DecreaseSizeIxDataSegmentView(segment, 0);
+  }
+
+  public DecreaseSizeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DecreaseSizeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.DecreaseSizeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.DecreaseSizeIxData.BYTES, PerpetualsProgram.DecreaseSizeIxData::read);
+  }
+
+  public DecreaseSizeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, DecreaseSizeParams.BYTES, DecreaseSizeParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DepositStakeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class DepositStakeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.DEPOSIT_STAKE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DepositStakeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DepositStakeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DepositStakeIxDataSegmentView(segment, offset);
+  }
+
+  public static DepositStakeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new DepositStakeIxDataSegmentView(segment, 0);
+  }
+
+  public DepositStakeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DepositStakeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.DepositStakeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.DepositStakeIxData.BYTES, PerpetualsProgram.DepositStakeIxData::read);
+  }
+
+  public DepositStakeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, DepositStakeParams.BYTES, DepositStakeParams::read);
+  }
+}
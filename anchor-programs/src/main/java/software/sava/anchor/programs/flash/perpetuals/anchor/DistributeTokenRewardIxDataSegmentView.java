@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DistributeTokenRewardParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class DistributeTokenRewardIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.DISTRIBUTE_TOKEN_REWARD_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DistributeTokenRewardIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DistributeTokenRewardIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DistributeTokenRewardIxDataSegmentView(segment, offset);
+  }
+
+  public static DistributeTokenRewardIxDataSegmentView wrap(final MemorySegment segment) {
+    return new DistributeTokenRewardIxDataSegmentView(segment, 0);
+  }
+
+  public DistributeTokenRewardIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DistributeTokenRewardIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.DistributeTokenRewardIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.DistributeTokenRewardIxData.BYTES, PerpetualsProgram.DistributeTokenRewardIxData::read);
+  }
+
+  public DistributeTokenRewardParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, DistributeTokenRewardParams.BYTES, DistributeTokenRewardParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitOrderParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ExecuteLimitOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.EXECUTE_LIMIT_ORDER_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ExecuteLimitOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ExecuteLimitOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ExecuteLimitOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static ExecuteLimitOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ExecuteLimitOrderIxDataSegmentView(segment, 0);
+  }
+
+  public ExecuteLimitOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ExecuteLimitOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.ExecuteLimitOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.ExecuteLimitOrderIxData.BYTES, PerpetualsProgram.ExecuteLimitOrderIxData::read);
+  }
+
+  public ExecuteLimitOrderParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, ExecuteLimitOrderParams.BYTES, ExecuteLimitOrderParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitWithSwapParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ExecuteLimitWithSwapIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.EXECUTE_LIMIT_WITH_SWAP_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ExecuteLimitWithSwapIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ExecuteLimitWithSwapIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ExecuteLimitWithSwapIxDataSegmentView(segment, offset);
+  }
+
+  public static ExecuteLimitWithSwapIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ExecuteLimitWithSwapIxDataSegmentView(segment, 0);
+  }
+
+  public ExecuteLimitWithSwapIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ExecuteLimitWithSwapIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.ExecuteLimitWithSwapIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.ExecuteLimitWithSwapIxData.BYTES, PerpetualsProgram.ExecuteLimitWithSwapIxData::read);
+  }
+
+  public ExecuteLimitWithSwapParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, ExecuteLimitWithSwapParams.BYTES, ExecuteLimitWithSwapParams::read);
+  }
+}
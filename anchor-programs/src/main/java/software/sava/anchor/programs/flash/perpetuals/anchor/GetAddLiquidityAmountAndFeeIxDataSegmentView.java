@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetAddLiquidityAmountAndFeeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class GetAddLiquidityAmountAndFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.GET_ADD_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private GetAddLiquidityAmountAndFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static GetAddLiquidityAmountAndFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new GetAddLiquidityAmountAndFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static GetAddLiquidityAmountAndFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new GetAddLiquidityAmountAndFeeIxDataSegmentView(segment, 0);
+  }
+
+  public GetAddLiquidityAmountAndFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public GetAddLiquidityAmountAndFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.GetAddLiquidityAmountAndFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.GetAddLiquidityAmountAndFeeIxData.BYTES, PerpetualsProgram.GetAddLiquidityAmountAndFeeIxData::read);
+  }
+
+  public GetAddLiquidityAmountAndFeeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, GetAddLiquidityAmountAndFeeParams.BYTES, GetAddLiquidityAmountAndFeeParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetRemoveCompoundingLiquidityAmountAndFeeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.GET_REMOVE_COMPOUNDING_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView(segment, 0);
+  }
+
+  public GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public GetRemoveCompoundingLiquidityAmountAndFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.GetRemoveCompoundingLiquidityAmountAndFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.GetRemoveCompoundingLiquidityAmountAndFeeIxData.BYTES, PerpetualsProgram.GetRemoveCompoundingLiquidityAmountAndFeeIxData::read);
+  }
+
+  public GetRemoveCompoundingLiquidityAmountAndFeeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, GetRemoveCompoundingLiquidityAmountAndFeeParams.BYTES, GetRemoveCompoundingLiquidityAmountAndFeeParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetRemoveLiquidityAmountAndFeeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class GetRemoveLiquidityAmountAndFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.GET_REMOVE_LIQUIDITY_AMOUNT_AND_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private GetRemoveLiquidityAmountAndFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static GetRemoveLiquidityAmountAndFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new GetRemoveLiquidityAmountAndFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static GetRemoveLiquidityAmountAndFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new GetRemoveLiquidityAmountAndFeeIxDataSegmentView(segment, 0);
+  }
+
+  public GetRemoveLiquidityAmountAndFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public GetRemoveLiquidityAmountAndFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.GetRemoveLiquidityAmountAndFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.GetRemoveLiquidityAmountAndFeeIxData.BYTES, PerpetualsProgram.GetRemoveLiquidityAmountAndFeeIxData::read);
+  }
+
+  public GetRemoveLiquidityAmountAndFeeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, GetRemoveLiquidityAmountAndFeeParams.BYTES, GetRemoveLiquidityAmountAndFeeParams::read);
+  }
+}
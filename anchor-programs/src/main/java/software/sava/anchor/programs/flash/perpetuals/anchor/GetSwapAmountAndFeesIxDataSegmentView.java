@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.GetSwapAmountAndFeesParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class GetSwapAmountAndFeesIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.GET_SWAP_AMOUNT_AND_FEES_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private GetSwapAmountAndFeesIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static GetSwapAmountAndFeesIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new GetSwapAmountAndFeesIxDataSegmentView(segment, offset);
+  }
+
+  public static GetSwapAmountAndFeesIxDataSegmentView wrap(final MemorySegment segment) {
+    return new GetSwapAmountAndFeesIxDataSegmentView(segment, 0);
+  }
+
+  public GetSwapAmountAndFeesIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public GetSwapAmountAndFeesIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.GetSwapAmountAndFeesIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.GetSwapAmountAndFeesIxData.BYTES, PerpetualsProgram.GetSwapAmountAndFeesIxData::read);
+  }
+
+  public GetSwapAmountAndFeesParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, GetSwapAmountAndFeesParams.BYTES, GetSwapAmountAndFeesParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.IncreaseSizeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class IncreaseSizeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.INCREASE_SIZE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private IncreaseSizeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static IncreaseSizeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new IncreaseSizeIxDataSegmentView(segment, offset);
+  }
+
+  public static IncreaseSizeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new IncreaseSizeIxDataSegmentView(segment, 0);
+  }
+
+  public IncreaseSizeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public IncreaseSizeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.IncreaseSizeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.IncreaseSizeIxData.BYTES, PerpetualsProgram.IncreaseSizeIxData::read);
+  }
+
+  public IncreaseSizeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, IncreaseSizeParams.BYTES, IncreaseSizeParams::read);
+  }
+}
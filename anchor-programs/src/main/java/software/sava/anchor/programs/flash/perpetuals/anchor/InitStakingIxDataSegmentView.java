@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitStakingParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitStakingIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.INIT_STAKING_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitStakingIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitStakingIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitStakingIxDataSegmentView(segment, offset);
+  }
+
+  public static InitStakingIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitStakingIxDataSegmentView(segment, 0);
+  }
+
+  public InitStakingIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitStakingIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.InitStakingIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.InitStakingIxData.BYTES, PerpetualsProgram.InitStakingIxData::read);
+  }
+
+  public InitStakingParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, InitStakingParams.BYTES, InitStakingParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.InitTokenVaultParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitTokenVaultIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.INIT_TOKEN_VAULT_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitTokenVaultIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitTokenVaultIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitTokenVaultIxDataSegmentView(segment, offset);
+  }
+
+  public static InitTokenVaultIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitTokenVaultIxDataSegmentView(segment, 0);
+  }
+
+  public InitTokenVaultIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitTokenVaultIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.InitTokenVaultIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.InitTokenVaultIxData.BYTES, PerpetualsProgram.InitTokenVaultIxData::read);
+  }
+
+  public InitTokenVaultParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, InitTokenVaultParams.BYTES, InitTokenVaultParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.MigrateFlpParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MigrateFlpIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.MIGRATE_FLP_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MigrateFlpIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MigrateFlpIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MigrateFlpIxDataSegmentView(segment, offset);
+  }
+
+  public static MigrateFlpIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MigrateFlpIxDataSegmentView(segment, 0);
+  }
+
+  public MigrateFlpIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MigrateFlpIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.MigrateFlpIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.MigrateFlpIxData.BYTES, PerpetualsProgram.MigrateFlpIxData::read);
+  }
+
+  public MigrateFlpParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, MigrateFlpParams.BYTES, MigrateFlpParams::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.PerpetualsInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MoveProtocolFeesIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.MOVE_PROTOCOL_FEES_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MoveProtocolFeesIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MoveProtocolFeesIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MoveProtocolFeesIxDataSegmentView(segment, offset);
+  }
+
+  public static MoveProtocolFeesIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MoveProtocolFeesIxDataSegmentView(segment, 0);
+  }
+
+  public MoveProtocolFeesIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MoveProtocolFeesIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsInstructionDecoder.MoveProtocolFeesIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsInstructionDecoder.MoveProtocolFeesIxData.BYTES, PerpetualsInstructionDecoder.MoveProtocolFeesIxData::read);
+  }
+}
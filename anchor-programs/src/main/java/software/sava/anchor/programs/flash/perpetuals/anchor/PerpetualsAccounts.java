@@ -0,0 +1,111 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Custody;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CustomOracle;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.FlpStake;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Market;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Multisig;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Order;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Perpetuals;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Pool;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Position;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ProtocolVault;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RebateVault;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Referral;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.TokenStake;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.TokenVault;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Trading;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.Whitelist;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class PerpetualsAccounts {
+
+  public static final Discriminator CUSTODY_ACCOUNT_DISCRIMINATOR = toDiscriminator(1, 184, 48, 81, 93, 131, 63, 145);
+  public static final Discriminator CUSTOM_ORACLE_ACCOUNT_DISCRIMINATOR = toDiscriminator(227, 170, 164, 218, 127, 16, 35, 223);
+  public static final Discriminator FLP_STAKE_ACCOUNT_DISCRIMINATOR = toDiscriminator(175, 178, 171, 30, 187, 253, 13, 118);
+  public static final Discriminator MARKET_ACCOUNT_DISCRIMINATOR = toDiscriminator(219, 190, 213, 55, 0, 227, 198, 154);
+  public static final Discriminator MULTISIG_ACCOUNT_DISCRIMINATOR = toDiscriminator(224, 116, 121, 186, 68, 161, 79, 236);
+  public static final Discriminator ORDER_ACCOUNT_DISCRIMINATOR = toDiscriminator(134, 173, 223, 185, 77, 86, 28, 51);
+  public static final Discriminator PERPETUALS_ACCOUNT_DISCRIMINATOR = toDiscriminator(28, 167, 98, 191, 104, 82, 108, 196);
+  public static final Discriminator POOL_ACCOUNT_DISCRIMINATOR = toDiscriminator(241, 154, 109, 4, 17, 177, 109, 188);
+  public static final Discriminator POSITION_ACCOUNT_DISCRIMINATOR = toDiscriminator(170, 188, 143, 228, 122, 64, 247, 208);
+  public static final Discriminator PROTOCOL_VAULT_ACCOUNT_DISCRIMINATOR = toDiscriminator(200, 167, 197, 238, 32, 139, 26, 69);
+  public static final Discriminator REBATE_VAULT_ACCOUNT_DISCRIMINATOR = toDiscriminator(207, 58, 186, 112, 64, 20, 188, 212);
+  public static final Discriminator REFERRAL_ACCOUNT_DISCRIMINATOR = toDiscriminator(30, 235, 136, 224, 106, 107, 49, 64);
+  public static final Discriminator TOKEN_STAKE_ACCOUNT_DISCRIMINATOR = toDiscriminator(229, 123, 21, 243, 246, 164, 57, 239);
+  public static final Discriminator TOKEN_VAULT_ACCOUNT_DISCRIMINATOR = toDiscriminator(121, 7, 84, 254, 151, 228, 43, 144);
+  public static final Discriminator TRADING_ACCOUNT_DISCRIMINATOR = toDiscriminator(81, 30, 163, 174, 140, 242, 239, 104);
+  public static final Discriminator WHITELIST_ACCOUNT_DISCRIMINATOR = toDiscriminator(204, 176, 52, 79, 146, 121, 54, 247);
+
+  public static final long CUSTODY_DISCRIMINATOR = getInt64LE(CUSTODY_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long CUSTOM_ORACLE_DISCRIMINATOR = getInt64LE(CUSTOM_ORACLE_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long FLP_STAKE_DISCRIMINATOR = getInt64LE(FLP_STAKE_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long MARKET_DISCRIMINATOR = getInt64LE(MARKET_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long MULTISIG_DISCRIMINATOR = getInt64LE(MULTISIG_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long ORDER_DISCRIMINATOR = getInt64LE(ORDER_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long PERPETUALS_DISCRIMINATOR = getInt64LE(PERPETUALS_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long POOL_DISCRIMINATOR = getInt64LE(POOL_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long POSITION_DISCRIMINATOR = getInt64LE(POSITION_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long PROTOCOL_VAULT_DISCRIMINATOR = getInt64LE(PROTOCOL_VAULT_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long REBATE_VAULT_DISCRIMINATOR = getInt64LE(REBATE_VAULT_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long REFERRAL_DISCRIMINATOR = getInt64LE(REFERRAL_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long TOKEN_STAKE_DISCRIMINATOR = getInt64LE(TOKEN_STAKE_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long TOKEN_VAULT_DISCRIMINATOR = getInt64LE(TOKEN_VAULT_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long TRADING_DISCRIMINATOR = getInt64LE(TRADING_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long WHITELIST_DISCRIMINATOR = getInt64LE(WHITELIST_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == CUSTODY_DISCRIMINATOR) {
+      return Custody.read(_address, _data, 0);
+    } else if (discriminator == CUSTOM_ORACLE_DISCRIMINATOR) {
+      return CustomOracle.read(_address, _data, 0);
+    } else if (discriminator == FLP_STAKE_DISCRIMINATOR) {
+      return FlpStake.read(_address, _data, 0);
+    } else if (discriminator == MARKET_DISCRIMINATOR) {
+      return Market.read(_address, _data, 0);
+    } else if (discriminator == MULTISIG_DISCRIMINATOR) {
+      return Multisig.read(_address, _data, 0);
+    } else if (discriminator == ORDER_DISCRIMINATOR) {
+      return Order.read(_address, _data, 0);
+    } else if (discriminator == PERPETUALS_DISCRIMINATOR) {
+      return Perpetuals.read(_address, _data, 0);
+    } else if (discriminator == POOL_DISCRIMINATOR) {
+      return Pool.read(_address, _data, 0);
+    } else if (discriminator == POSITION_DISCRIMINATOR) {
+      return Position.read(_address, _data, 0);
+    } else if (discriminator == PROTOCOL_VAULT_DISCRIMINATOR) {
+      return ProtocolVault.read(_address, _data, 0);
+    } else if (discriminator == REBATE_VAULT_DISCRIMINATOR) {
+      return RebateVault.read(_address, _data, 0);
+    } else if (discriminator == REFERRAL_DISCRIMINATOR) {
+      return Referral.read(_address, _data, 0);
+    } else if (discriminator == TOKEN_STAKE_DISCRIMINATOR) {
+      return TokenStake.read(_address, _data, 0);
+    } else if (discriminator == TOKEN_VAULT_DISCRIMINATOR) {
+      return TokenVault.read(_address, _data, 0);
+    } else if (discriminator == TRADING_DISCRIMINATOR) {
+      return Trading.read(_address, _data, 0);
+    } else if (discriminator == WHITELIST_DISCRIMINATOR) {
+      return Whitelist.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private PerpetualsAccounts() {
+  }
+}
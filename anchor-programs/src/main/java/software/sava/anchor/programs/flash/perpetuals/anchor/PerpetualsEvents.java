@@ -0,0 +1,528 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCollateralLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCollateralLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCollateralLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCollateralLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddCompoundingLiquidityLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddLiquidityAndStakeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddLiquidityLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.AddLiquidityLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.BurnAndClaimLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.BurnAndStakeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CancelLimitOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CancelTriggerOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CancelUnstakeTokenRequestLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CloseAndSwapLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CloseAndSwapLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ClosePositionLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ClosePositionLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ClosePositionLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ClosePositionLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectRebateLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectRevenueLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectStakeRewardLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectStakeRewardLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CollectTokenRewardLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.CompoundingFeesLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DecreaseSizeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DecreaseSizeLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DecreaseSizeLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DecreaseSizeLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DepositStakeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DepositTokenStakeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.DistributeTokenRewardLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.EditLimitOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.EditTriggerOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitOrderLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitOrderLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitWithSwapLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitWithSwapLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteLimitWithSwapLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteTriggerOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteTriggerOrderLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteTriggerWithSwapLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ExecuteTriggerWithSwapLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.IncreaseSizeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.IncreaseSizeLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.IncreaseSizeLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.IncreaseSizeLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.IncreaseSizeLogV4;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.LiquidateLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.LiquidateLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.LiquidateLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.LiquidateLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.MigrateFlpLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.MigratePositionLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.MigrateStakeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.MoveProtocolFeesLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.OpenPositionLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.OpenPositionLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.OpenPositionLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.OpenPositionLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.OpenPositionLogV4;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.PlaceLimitOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.PlaceTriggerOrderLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ReferralRebateLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RefreshStakeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RefreshStakeUserLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralAndSwapLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralAndSwapLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCompoundingLiquidityLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveLiquidityLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveLiquidityLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPositionPriceImpactLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetTokenRewardLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SettleRebatesLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndAddCollateralLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndAddCollateralLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndOpenLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndOpenLogUSDv1;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndOpenLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapFeeInternalLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapFeeInternalLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapFeeInternalLogV3;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapLogV2;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeInstantLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeRequestLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeTokenInstantLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeTokenRequestLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.VoltagePointsLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawStakeLog;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawTokenLog;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class PerpetualsEvents {
+
+  public static final Discriminator ADD_COLLATERAL_LOG_DISCRIMINATOR = toDiscriminator(250, 80, 8, 85, 212, 148, 93, 189);
+  public static final Discriminator ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR = toDiscriminator(208, 254, 58, 223, 46, 169, 109, 20);
+  public static final Discriminator ADD_COLLATERAL_LOG_V2_DISCRIMINATOR = toDiscriminator(38, 112, 191, 36, 86, 85, 56, 130);
+  public static final Discriminator ADD_COLLATERAL_LOG_V3_DISCRIMINATOR = toDiscriminator(175, 245, 91, 237, 142, 81, 179, 72);
+  public static final Discriminator ADD_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR = toDiscriminator(149, 197, 30, 77, 47, 199, 118, 121);
+  public static final Discriminator ADD_LIQUIDITY_AND_STAKE_LOG_DISCRIMINATOR = toDiscriminator(174, 206, 97, 67, 145, 186, 208, 146);
+  public static final Discriminator ADD_LIQUIDITY_LOG_DISCRIMINATOR = toDiscriminator(114, 59, 143, 173, 186, 139, 21, 124);
+  public static final Discriminator ADD_LIQUIDITY_LOG_V2_DISCRIMINATOR = toDiscriminator(243, 86, 201, 255, 161, 254, 32, 103);
+  public static final Discriminator BURN_AND_CLAIM_LOG_DISCRIMINATOR = toDiscriminator(31, 202, 163, 228, 156, 84, 62, 195);
+  public static final Discriminator BURN_AND_STAKE_LOG_DISCRIMINATOR = toDiscriminator(56, 0, 133, 199, 93, 2, 193, 89);
+  public static final Discriminator CANCEL_LIMIT_ORDER_LOG_DISCRIMINATOR = toDiscriminator(103, 102, 181, 28, 109, 173, 138, 187);
+  public static final Discriminator CANCEL_TRIGGER_ORDER_LOG_DISCRIMINATOR = toDiscriminator(210, 142, 214, 49, 213, 105, 198, 82);
+  public static final Discriminator CANCEL_UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR = toDiscriminator(175, 88, 47, 153, 222, 43, 242, 106);
+  public static final Discriminator CLOSE_AND_SWAP_LOG_DISCRIMINATOR = toDiscriminator(45, 116, 23, 211, 45, 232, 190, 29);
+  public static final Discriminator CLOSE_AND_SWAP_LOG_USDV1_DISCRIMINATOR = toDiscriminator(139, 57, 75, 40, 212, 107, 110, 19);
+  public static final Discriminator CLOSE_POSITION_LOG_DISCRIMINATOR = toDiscriminator(113, 101, 11, 97, 138, 46, 113, 211);
+  public static final Discriminator CLOSE_POSITION_LOG_USDV1_DISCRIMINATOR = toDiscriminator(44, 100, 67, 33, 255, 1, 117, 100);
+  public static final Discriminator CLOSE_POSITION_LOG_V2_DISCRIMINATOR = toDiscriminator(90, 109, 181, 243, 141, 194, 217, 169);
+  public static final Discriminator CLOSE_POSITION_LOG_V3_DISCRIMINATOR = toDiscriminator(67, 63, 63, 13, 180, 22, 82, 202);
+  public static final Discriminator COLLECT_REBATE_LOG_DISCRIMINATOR = toDiscriminator(15, 135, 219, 64, 131, 128, 116, 46);
+  public static final Discriminator COLLECT_REVENUE_LOG_DISCRIMINATOR = toDiscriminator(73, 175, 8, 200, 124, 185, 139, 238);
+  public static final Discriminator COLLECT_STAKE_REWARD_LOG_DISCRIMINATOR = toDiscriminator(28, 123, 101, 0, 157, 175, 189, 235);
+  public static final Discriminator COLLECT_STAKE_REWARD_LOG_V2_DISCRIMINATOR = toDiscriminator(144, 33, 60, 77, 26, 23, 155, 202);
+  public static final Discriminator COLLECT_TOKEN_REWARD_LOG_DISCRIMINATOR = toDiscriminator(30, 194, 243, 166, 162, 139, 204, 167);
+  public static final Discriminator COMPOUNDING_FEES_LOG_DISCRIMINATOR = toDiscriminator(208, 193, 166, 56, 156, 9, 146, 134);
+  public static final Discriminator DECREASE_SIZE_LOG_DISCRIMINATOR = toDiscriminator(178, 148, 11, 241, 33, 51, 85, 153);
+  public static final Discriminator DECREASE_SIZE_LOG_USDV1_DISCRIMINATOR = toDiscriminator(153, 62, 193, 112, 127, 49, 97, 186);
+  public static final Discriminator DECREASE_SIZE_LOG_V2_DISCRIMINATOR = toDiscriminator(57, 25, 61, 35, 94, 151, 151, 19);
+  public static final Discriminator DECREASE_SIZE_LOG_V3_DISCRIMINATOR = toDiscriminator(217, 82, 1, 138, 33, 131, 35, 70);
+  public static final Discriminator DEPOSIT_STAKE_LOG_DISCRIMINATOR = toDiscriminator(167, 37, 237, 7, 89, 30, 232, 252);
+  public static final Discriminator DEPOSIT_TOKEN_STAKE_LOG_DISCRIMINATOR = toDiscriminator(186, 214, 215, 132, 49, 100, 21, 226);
+  public static final Discriminator DISTRIBUTE_TOKEN_REWARD_LOG_DISCRIMINATOR = toDiscriminator(245, 36, 94, 131, 251, 212, 127, 250);
+  public static final Discriminator EDIT_LIMIT_ORDER_LOG_DISCRIMINATOR = toDiscriminator(253, 67, 224, 184, 212, 129, 80, 202);
+  public static final Discriminator EDIT_TRIGGER_ORDER_LOG_DISCRIMINATOR = toDiscriminator(85, 36, 70, 160, 127, 247, 206, 13);
+  public static final Discriminator EXECUTE_LIMIT_ORDER_LOG_DISCRIMINATOR = toDiscriminator(56, 203, 215, 82, 174, 201, 4, 59);
+  public static final Discriminator EXECUTE_LIMIT_ORDER_LOG_USDV1_DISCRIMINATOR = toDiscriminator(157, 253, 170, 213, 56, 114, 0, 231);
+  public static final Discriminator EXECUTE_LIMIT_ORDER_LOG_V2_DISCRIMINATOR = toDiscriminator(165, 90, 14, 189, 146, 204, 58, 10);
+  public static final Discriminator EXECUTE_LIMIT_WITH_SWAP_LOG_DISCRIMINATOR = toDiscriminator(229, 50, 105, 173, 130, 115, 142, 77);
+  public static final Discriminator EXECUTE_LIMIT_WITH_SWAP_LOG_USDV1_DISCRIMINATOR = toDiscriminator(136, 112, 109, 134, 18, 20, 144, 240);
+  public static final Discriminator EXECUTE_LIMIT_WITH_SWAP_LOG_V2_DISCRIMINATOR = toDiscriminator(164, 130, 158, 95, 142, 77, 238, 250);
+  public static final Discriminator EXECUTE_TRIGGER_ORDER_LOG_DISCRIMINATOR = toDiscriminator(145, 148, 23, 158, 211, 183, 171, 227);
+  public static final Discriminator EXECUTE_TRIGGER_ORDER_LOG_USDV1_DISCRIMINATOR = toDiscriminator(29, 242, 159, 21, 110, 131, 133, 251);
+  public static final Discriminator EXECUTE_TRIGGER_WITH_SWAP_LOG_DISCRIMINATOR = toDiscriminator(63, 205, 64, 135, 62, 252, 44, 38);
+  public static final Discriminator EXECUTE_TRIGGER_WITH_SWAP_LOG_USDV1_DISCRIMINATOR = toDiscriminator(142, 41, 162, 146, 126, 153, 143, 199);
+  public static final Discriminator INCREASE_SIZE_LOG_DISCRIMINATOR = toDiscriminator(186, 190, 64, 113, 120, 194, 84, 179);
+  public static final Discriminator INCREASE_SIZE_LOG_USDV1_DISCRIMINATOR = toDiscriminator(146, 141, 52, 5, 176, 183, 52, 116);
+  public static final Discriminator INCREASE_SIZE_LOG_V2_DISCRIMINATOR = toDiscriminator(34, 185, 17, 69, 7, 87, 98, 214);
+  public static final Discriminator INCREASE_SIZE_LOG_V3_DISCRIMINATOR = toDiscriminator(181, 126, 138, 28, 252, 210, 238, 65);
+  public static final Discriminator INCREASE_SIZE_LOG_V4_DISCRIMINATOR = toDiscriminator(93, 79, 22, 133, 29, 140, 92, 157);
+  public static final Discriminator LIQUIDATE_LOG_DISCRIMINATOR = toDiscriminator(127, 98, 159, 131, 170, 88, 59, 80);
+  public static final Discriminator LIQUIDATE_LOG_USDV1_DISCRIMINATOR = toDiscriminator(58, 111, 108, 15, 244, 203, 107, 70);
+  public static final Discriminator LIQUIDATE_LOG_V2_DISCRIMINATOR = toDiscriminator(133, 114, 231, 231, 2, 30, 148, 240);
+  public static final Discriminator LIQUIDATE_LOG_V3_DISCRIMINATOR = toDiscriminator(193, 180, 21, 172, 48, 171, 179, 139);
+  public static final Discriminator MIGRATE_FLP_LOG_DISCRIMINATOR = toDiscriminator(107, 52, 120, 181, 112, 83, 178, 243);
+  public static final Discriminator MIGRATE_POSITION_LOG_DISCRIMINATOR = toDiscriminator(10, 172, 35, 245, 48, 90, 131, 206);
+  public static final Discriminator MIGRATE_STAKE_LOG_DISCRIMINATOR = toDiscriminator(54, 98, 239, 210, 54, 90, 19, 168);
+  public static final Discriminator MOVE_PROTOCOL_FEES_LOG_DISCRIMINATOR = toDiscriminator(174, 213, 219, 87, 187, 176, 5, 99);
+  public static final Discriminator OPEN_POSITION_LOG_DISCRIMINATOR = toDiscriminator(228, 131, 16, 201, 132, 249, 248, 151);
+  public static final Discriminator OPEN_POSITION_LOG_USDV1_DISCRIMINATOR = toDiscriminator(103, 209, 189, 124, 186, 196, 11, 195);
+  public static final Discriminator OPEN_POSITION_LOG_V2_DISCRIMINATOR = toDiscriminator(87, 9, 35, 100, 127, 162, 168, 24);
+  public static final Discriminator OPEN_POSITION_LOG_V3_DISCRIMINATOR = toDiscriminator(240, 236, 169, 189, 73, 232, 131, 144);
+  public static final Discriminator OPEN_POSITION_LOG_V4_DISCRIMINATOR = toDiscriminator(233, 192, 213, 152, 42, 81, 109, 182);
+  public static final Discriminator PLACE_LIMIT_ORDER_LOG_DISCRIMINATOR = toDiscriminator(36, 71, 20, 70, 138, 237, 173, 179);
+  public static final Discriminator PLACE_TRIGGER_ORDER_LOG_DISCRIMINATOR = toDiscriminator(156, 167, 167, 118, 66, 184, 115, 66);
+  public static final Discriminator REFERRAL_REBATE_LOG_DISCRIMINATOR = toDiscriminator(249, 110, 226, 78, 45, 120, 110, 15);
+  public static final Discriminator REFRESH_STAKE_LOG_DISCRIMINATOR = toDiscriminator(120, 218, 48, 91, 206, 5, 128, 112);
+  public static final Discriminator REFRESH_STAKE_USER_LOG_DISCRIMINATOR = toDiscriminator(175, 239, 119, 123, 254, 57, 129, 245);
+  public static final Discriminator REMOVE_COLLATERAL_AND_SWAP_LOG_DISCRIMINATOR = toDiscriminator(19, 106, 182, 174, 13, 116, 176, 71);
+  public static final Discriminator REMOVE_COLLATERAL_AND_SWAP_LOG_USDV1_DISCRIMINATOR = toDiscriminator(57, 198, 154, 210, 91, 90, 58, 48);
+  public static final Discriminator REMOVE_COLLATERAL_LOG_DISCRIMINATOR = toDiscriminator(43, 111, 136, 87, 50, 25, 78, 169);
+  public static final Discriminator REMOVE_COLLATERAL_LOG_USDV1_DISCRIMINATOR = toDiscriminator(186, 178, 166, 45, 204, 1, 41, 55);
+  public static final Discriminator REMOVE_COLLATERAL_LOG_V2_DISCRIMINATOR = toDiscriminator(32, 127, 111, 212, 2, 19, 13, 212);
+  public static final Discriminator REMOVE_COLLATERAL_LOG_V3_DISCRIMINATOR = toDiscriminator(37, 51, 211, 151, 242, 15, 45, 196);
+  public static final Discriminator REMOVE_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR = toDiscriminator(194, 33, 50, 13, 74, 29, 153, 170);
+  public static final Discriminator REMOVE_LIQUIDITY_LOG_DISCRIMINATOR = toDiscriminator(250, 48, 139, 147, 47, 0, 141, 238);
+  public static final Discriminator REMOVE_LIQUIDITY_LOG_V2_DISCRIMINATOR = toDiscriminator(63, 134, 50, 16, 0, 38, 55, 115);
+  public static final Discriminator SET_POSITION_PRICE_IMPACT_LOG_DISCRIMINATOR = toDiscriminator(193, 248, 89, 21, 91, 130, 254, 170);
+  public static final Discriminator SET_TOKEN_REWARD_LOG_DISCRIMINATOR = toDiscriminator(175, 108, 145, 18, 31, 51, 136, 67);
+  public static final Discriminator SETTLE_REBATES_LOG_DISCRIMINATOR = toDiscriminator(106, 34, 206, 212, 60, 7, 106, 87);
+  public static final Discriminator SWAP_AND_ADD_COLLATERAL_LOG_DISCRIMINATOR = toDiscriminator(30, 181, 15, 57, 79, 255, 171, 108);
+  public static final Discriminator SWAP_AND_ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR = toDiscriminator(60, 199, 127, 190, 2, 94, 69, 62);
+  public static final Discriminator SWAP_AND_OPEN_LOG_DISCRIMINATOR = toDiscriminator(137, 100, 126, 197, 194, 89, 63, 192);
+  public static final Discriminator SWAP_AND_OPEN_LOG_USDV1_DISCRIMINATOR = toDiscriminator(193, 120, 82, 15, 111, 120, 72, 114);
+  public static final Discriminator SWAP_AND_OPEN_LOG_V2_DISCRIMINATOR = toDiscriminator(184, 7, 31, 86, 30, 165, 246, 214);
+  public static final Discriminator SWAP_FEE_INTERNAL_LOG_DISCRIMINATOR = toDiscriminator(144, 203, 250, 47, 65, 104, 9, 27);
+  public static final Discriminator SWAP_FEE_INTERNAL_LOG_V2_DISCRIMINATOR = toDiscriminator(148, 127, 83, 99, 18, 175, 81, 36);
+  public static final Discriminator SWAP_FEE_INTERNAL_LOG_V3_DISCRIMINATOR = toDiscriminator(1, 214, 217, 111, 7, 3, 165, 244);
+  public static final Discriminator SWAP_LOG_DISCRIMINATOR = toDiscriminator(200, 151, 62, 49, 224, 50, 16, 222);
+  public static final Discriminator SWAP_LOG_V2_DISCRIMINATOR = toDiscriminator(102, 202, 211, 38, 135, 65, 39, 223);
+  public static final Discriminator UNSTAKE_INSTANT_LOG_DISCRIMINATOR = toDiscriminator(90, 247, 157, 57, 255, 73, 212, 240);
+  public static final Discriminator UNSTAKE_REQUEST_LOG_DISCRIMINATOR = toDiscriminator(160, 43, 111, 217, 41, 24, 11, 238);
+  public static final Discriminator UNSTAKE_TOKEN_INSTANT_LOG_DISCRIMINATOR = toDiscriminator(17, 112, 136, 162, 64, 44, 205, 221);
+  public static final Discriminator UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR = toDiscriminator(166, 145, 163, 61, 239, 58, 181, 242);
+  public static final Discriminator VOLTAGE_POINTS_LOG_DISCRIMINATOR = toDiscriminator(40, 154, 4, 169, 61, 213, 164, 37);
+  public static final Discriminator WITHDRAW_STAKE_LOG_DISCRIMINATOR = toDiscriminator(67, 13, 186, 221, 39, 131, 140, 69);
+  public static final Discriminator WITHDRAW_TOKEN_LOG_DISCRIMINATOR = toDiscriminator(100, 187, 28, 21, 254, 13, 160, 187);
+
+  public static final long ADD_COLLATERAL_LOG_DISCRIMINATOR_LONG = getInt64LE(ADD_COLLATERAL_LOG_DISCRIMINATOR.data(), 0);
+  public static final long ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long ADD_COLLATERAL_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(ADD_COLLATERAL_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long ADD_COLLATERAL_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(ADD_COLLATERAL_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long ADD_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR_LONG = getInt64LE(ADD_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR.data(), 0);
+  public static final long ADD_LIQUIDITY_AND_STAKE_LOG_DISCRIMINATOR_LONG = getInt64LE(ADD_LIQUIDITY_AND_STAKE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long ADD_LIQUIDITY_LOG_DISCRIMINATOR_LONG = getInt64LE(ADD_LIQUIDITY_LOG_DISCRIMINATOR.data(), 0);
+  public static final long ADD_LIQUIDITY_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(ADD_LIQUIDITY_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long BURN_AND_CLAIM_LOG_DISCRIMINATOR_LONG = getInt64LE(BURN_AND_CLAIM_LOG_DISCRIMINATOR.data(), 0);
+  public static final long BURN_AND_STAKE_LOG_DISCRIMINATOR_LONG = getInt64LE(BURN_AND_STAKE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long CANCEL_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(CANCEL_LIMIT_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long CANCEL_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(CANCEL_TRIGGER_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long CANCEL_UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR_LONG = getInt64LE(CANCEL_UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR.data(), 0);
+  public static final long CLOSE_AND_SWAP_LOG_DISCRIMINATOR_LONG = getInt64LE(CLOSE_AND_SWAP_LOG_DISCRIMINATOR.data(), 0);
+  public static final long CLOSE_AND_SWAP_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(CLOSE_AND_SWAP_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long CLOSE_POSITION_LOG_DISCRIMINATOR_LONG = getInt64LE(CLOSE_POSITION_LOG_DISCRIMINATOR.data(), 0);
+  public static final long CLOSE_POSITION_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(CLOSE_POSITION_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long CLOSE_POSITION_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(CLOSE_POSITION_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long CLOSE_POSITION_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(CLOSE_POSITION_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long COLLECT_REBATE_LOG_DISCRIMINATOR_LONG = getInt64LE(COLLECT_REBATE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long COLLECT_REVENUE_LOG_DISCRIMINATOR_LONG = getInt64LE(COLLECT_REVENUE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long COLLECT_STAKE_REWARD_LOG_DISCRIMINATOR_LONG = getInt64LE(COLLECT_STAKE_REWARD_LOG_DISCRIMINATOR.data(), 0);
+  public static final long COLLECT_STAKE_REWARD_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(COLLECT_STAKE_REWARD_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long COLLECT_TOKEN_REWARD_LOG_DISCRIMINATOR_LONG = getInt64LE(COLLECT_TOKEN_REWARD_LOG_DISCRIMINATOR.data(), 0);
+  public static final long COMPOUNDING_FEES_LOG_DISCRIMINATOR_LONG = getInt64LE(COMPOUNDING_FEES_LOG_DISCRIMINATOR.data(), 0);
+  public static final long DECREASE_SIZE_LOG_DISCRIMINATOR_LONG = getInt64LE(DECREASE_SIZE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long DECREASE_SIZE_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(DECREASE_SIZE_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long DECREASE_SIZE_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(DECREASE_SIZE_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long DECREASE_SIZE_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(DECREASE_SIZE_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long DEPOSIT_STAKE_LOG_DISCRIMINATOR_LONG = getInt64LE(DEPOSIT_STAKE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long DEPOSIT_TOKEN_STAKE_LOG_DISCRIMINATOR_LONG = getInt64LE(DEPOSIT_TOKEN_STAKE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long DISTRIBUTE_TOKEN_REWARD_LOG_DISCRIMINATOR_LONG = getInt64LE(DISTRIBUTE_TOKEN_REWARD_LOG_DISCRIMINATOR.data(), 0);
+  public static final long EDIT_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(EDIT_LIMIT_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long EDIT_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(EDIT_TRIGGER_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_LIMIT_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_LIMIT_ORDER_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_LIMIT_ORDER_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_LIMIT_ORDER_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_LIMIT_ORDER_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_LIMIT_WITH_SWAP_LOG_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_LIMIT_WITH_SWAP_LOG_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_LIMIT_WITH_SWAP_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_LIMIT_WITH_SWAP_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_LIMIT_WITH_SWAP_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_LIMIT_WITH_SWAP_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_TRIGGER_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_TRIGGER_ORDER_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_TRIGGER_ORDER_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_TRIGGER_WITH_SWAP_LOG_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_TRIGGER_WITH_SWAP_LOG_DISCRIMINATOR.data(), 0);
+  public static final long EXECUTE_TRIGGER_WITH_SWAP_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_TRIGGER_WITH_SWAP_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long INCREASE_SIZE_LOG_DISCRIMINATOR_LONG = getInt64LE(INCREASE_SIZE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long INCREASE_SIZE_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(INCREASE_SIZE_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long INCREASE_SIZE_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(INCREASE_SIZE_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long INCREASE_SIZE_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(INCREASE_SIZE_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long INCREASE_SIZE_LOG_V4_DISCRIMINATOR_LONG = getInt64LE(INCREASE_SIZE_LOG_V4_DISCRIMINATOR.data(), 0);
+  public static final long LIQUIDATE_LOG_DISCRIMINATOR_LONG = getInt64LE(LIQUIDATE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long LIQUIDATE_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(LIQUIDATE_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long LIQUIDATE_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(LIQUIDATE_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long LIQUIDATE_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(LIQUIDATE_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long MIGRATE_FLP_LOG_DISCRIMINATOR_LONG = getInt64LE(MIGRATE_FLP_LOG_DISCRIMINATOR.data(), 0);
+  public static final long MIGRATE_POSITION_LOG_DISCRIMINATOR_LONG = getInt64LE(MIGRATE_POSITION_LOG_DISCRIMINATOR.data(), 0);
+  public static final long MIGRATE_STAKE_LOG_DISCRIMINATOR_LONG = getInt64LE(MIGRATE_STAKE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long MOVE_PROTOCOL_FEES_LOG_DISCRIMINATOR_LONG = getInt64LE(MOVE_PROTOCOL_FEES_LOG_DISCRIMINATOR.data(), 0);
+  public static final long OPEN_POSITION_LOG_DISCRIMINATOR_LONG = getInt64LE(OPEN_POSITION_LOG_DISCRIMINATOR.data(), 0);
+  public static final long OPEN_POSITION_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(OPEN_POSITION_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long OPEN_POSITION_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(OPEN_POSITION_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long OPEN_POSITION_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(OPEN_POSITION_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long OPEN_POSITION_LOG_V4_DISCRIMINATOR_LONG = getInt64LE(OPEN_POSITION_LOG_V4_DISCRIMINATOR.data(), 0);
+  public static final long PLACE_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(PLACE_LIMIT_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long PLACE_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG = getInt64LE(PLACE_TRIGGER_ORDER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REFERRAL_REBATE_LOG_DISCRIMINATOR_LONG = getInt64LE(REFERRAL_REBATE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REFRESH_STAKE_LOG_DISCRIMINATOR_LONG = getInt64LE(REFRESH_STAKE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REFRESH_STAKE_USER_LOG_DISCRIMINATOR_LONG = getInt64LE(REFRESH_STAKE_USER_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_COLLATERAL_AND_SWAP_LOG_DISCRIMINATOR_LONG = getInt64LE(REMOVE_COLLATERAL_AND_SWAP_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_COLLATERAL_AND_SWAP_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(REMOVE_COLLATERAL_AND_SWAP_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_COLLATERAL_LOG_DISCRIMINATOR_LONG = getInt64LE(REMOVE_COLLATERAL_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_COLLATERAL_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(REMOVE_COLLATERAL_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_COLLATERAL_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(REMOVE_COLLATERAL_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_COLLATERAL_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(REMOVE_COLLATERAL_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR_LONG = getInt64LE(REMOVE_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_LIQUIDITY_LOG_DISCRIMINATOR_LONG = getInt64LE(REMOVE_LIQUIDITY_LOG_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_LIQUIDITY_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(REMOVE_LIQUIDITY_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long SET_POSITION_PRICE_IMPACT_LOG_DISCRIMINATOR_LONG = getInt64LE(SET_POSITION_PRICE_IMPACT_LOG_DISCRIMINATOR.data(), 0);
+  public static final long SET_TOKEN_REWARD_LOG_DISCRIMINATOR_LONG = getInt64LE(SET_TOKEN_REWARD_LOG_DISCRIMINATOR.data(), 0);
+  public static final long SETTLE_REBATES_LOG_DISCRIMINATOR_LONG = getInt64LE(SETTLE_REBATES_LOG_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_AND_ADD_COLLATERAL_LOG_DISCRIMINATOR_LONG = getInt64LE(SWAP_AND_ADD_COLLATERAL_LOG_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_AND_ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(SWAP_AND_ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_AND_OPEN_LOG_DISCRIMINATOR_LONG = getInt64LE(SWAP_AND_OPEN_LOG_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_AND_OPEN_LOG_USDV1_DISCRIMINATOR_LONG = getInt64LE(SWAP_AND_OPEN_LOG_USDV1_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_AND_OPEN_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(SWAP_AND_OPEN_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_FEE_INTERNAL_LOG_DISCRIMINATOR_LONG = getInt64LE(SWAP_FEE_INTERNAL_LOG_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_FEE_INTERNAL_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(SWAP_FEE_INTERNAL_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_FEE_INTERNAL_LOG_V3_DISCRIMINATOR_LONG = getInt64LE(SWAP_FEE_INTERNAL_LOG_V3_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_LOG_DISCRIMINATOR_LONG = getInt64LE(SWAP_LOG_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_LOG_V2_DISCRIMINATOR_LONG = getInt64LE(SWAP_LOG_V2_DISCRIMINATOR.data(), 0);
+  public static final long UNSTAKE_INSTANT_LOG_DISCRIMINATOR_LONG = getInt64LE(UNSTAKE_INSTANT_LOG_DISCRIMINATOR.data(), 0);
+  public static final long UNSTAKE_REQUEST_LOG_DISCRIMINATOR_LONG = getInt64LE(UNSTAKE_REQUEST_LOG_DISCRIMINATOR.data(), 0);
+  public static final long UNSTAKE_TOKEN_INSTANT_LOG_DISCRIMINATOR_LONG = getInt64LE(UNSTAKE_TOKEN_INSTANT_LOG_DISCRIMINATOR.data(), 0);
+  public static final long UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR_LONG = getInt64LE(UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR.data(), 0);
+  public static final long VOLTAGE_POINTS_LOG_DISCRIMINATOR_LONG = getInt64LE(VOLTAGE_POINTS_LOG_DISCRIMINATOR.data(), 0);
+  public static final long WITHDRAW_STAKE_LOG_DISCRIMINATOR_LONG = getInt64LE(WITHDRAW_STAKE_LOG_DISCRIMINATOR.data(), 0);
+  public static final long WITHDRAW_TOKEN_LOG_DISCRIMINATOR_LONG = getInt64LE(WITHDRAW_TOKEN_LOG_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      ADD_COLLATERAL_LOG_V2_DISCRIMINATOR_LONG,
+      COMPOUNDING_FEES_LOG_DISCRIMINATOR_LONG,
+      LIQUIDATE_LOG_V3_DISCRIMINATOR_LONG,
+      OPEN_POSITION_LOG_V3_DISCRIMINATOR_LONG,
+      ADD_LIQUIDITY_AND_STAKE_LOG_DISCRIMINATOR_LONG,
+      OPEN_POSITION_LOG_DISCRIMINATOR_LONG,
+      DECREASE_SIZE_LOG_DISCRIMINATOR_LONG,
+      INCREASE_SIZE_LOG_V4_DISCRIMINATOR_LONG,
+      COLLECT_TOKEN_REWARD_LOG_DISCRIMINATOR_LONG,
+      MIGRATE_STAKE_LOG_DISCRIMINATOR_LONG,
+      REMOVE_COLLATERAL_LOG_DISCRIMINATOR_LONG,
+      CLOSE_POSITION_LOG_V2_DISCRIMINATOR_LONG,
+      REMOVE_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR_LONG,
+      SET_POSITION_PRICE_IMPACT_LOG_DISCRIMINATOR_LONG,
+      INCREASE_SIZE_LOG_DISCRIMINATOR_LONG,
+      PLACE_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG,
+      OPEN_POSITION_LOG_V4_DISCRIMINATOR_LONG,
+      DECREASE_SIZE_LOG_USDV1_DISCRIMINATOR_LONG,
+      CANCEL_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG,
+      WITHDRAW_TOKEN_LOG_DISCRIMINATOR_LONG,
+      ADD_COLLATERAL_LOG_DISCRIMINATOR_LONG,
+      SWAP_AND_OPEN_LOG_DISCRIMINATOR_LONG,
+      OPEN_POSITION_LOG_USDV1_DISCRIMINATOR_LONG,
+      BURN_AND_CLAIM_LOG_DISCRIMINATOR_LONG,
+      REMOVE_COLLATERAL_LOG_V3_DISCRIMINATOR_LONG,
+      EXECUTE_TRIGGER_WITH_SWAP_LOG_USDV1_DISCRIMINATOR_LONG,
+      EDIT_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG,
+      CLOSE_POSITION_LOG_V3_DISCRIMINATOR_LONG,
+      COLLECT_STAKE_REWARD_LOG_V2_DISCRIMINATOR_LONG,
+      MIGRATE_POSITION_LOG_DISCRIMINATOR_LONG,
+      CLOSE_POSITION_LOG_DISCRIMINATOR_LONG,
+      REMOVE_COLLATERAL_LOG_V2_DISCRIMINATOR_LONG,
+      INCREASE_SIZE_LOG_V2_DISCRIMINATOR_LONG,
+      SWAP_AND_OPEN_LOG_V2_DISCRIMINATOR_LONG,
+      UNSTAKE_TOKEN_INSTANT_LOG_DISCRIMINATOR_LONG,
+      SWAP_LOG_DISCRIMINATOR_LONG,
+      SWAP_LOG_V2_DISCRIMINATOR_LONG,
+      DEPOSIT_TOKEN_STAKE_LOG_DISCRIMINATOR_LONG,
+      EXECUTE_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG,
+      EXECUTE_LIMIT_ORDER_LOG_USDV1_DISCRIMINATOR_LONG,
+      COLLECT_STAKE_REWARD_LOG_DISCRIMINATOR_LONG,
+      UNSTAKE_REQUEST_LOG_DISCRIMINATOR_LONG,
+      COLLECT_REVENUE_LOG_DISCRIMINATOR_LONG,
+      REMOVE_LIQUIDITY_LOG_DISCRIMINATOR_LONG,
+      EXECUTE_LIMIT_WITH_SWAP_LOG_USDV1_DISCRIMINATOR_LONG,
+      LIQUIDATE_LOG_V2_DISCRIMINATOR_LONG,
+      UNSTAKE_INSTANT_LOG_DISCRIMINATOR_LONG,
+      UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR_LONG,
+      MIGRATE_FLP_LOG_DISCRIMINATOR_LONG,
+      SWAP_FEE_INTERNAL_LOG_V3_DISCRIMINATOR_LONG,
+      REFRESH_STAKE_USER_LOG_DISCRIMINATOR_LONG,
+      DISTRIBUTE_TOKEN_REWARD_LOG_DISCRIMINATOR_LONG,
+      EXECUTE_LIMIT_WITH_SWAP_LOG_V2_DISCRIMINATOR_LONG,
+      EXECUTE_TRIGGER_ORDER_LOG_USDV1_DISCRIMINATOR_LONG,
+      DEPOSIT_STAKE_LOG_DISCRIMINATOR_LONG,
+      EXECUTE_LIMIT_ORDER_LOG_V2_DISCRIMINATOR_LONG,
+      EDIT_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG,
+      REFERRAL_REBATE_LOG_DISCRIMINATOR_LONG,
+      CLOSE_AND_SWAP_LOG_USDV1_DISCRIMINATOR_LONG,
+      DECREASE_SIZE_LOG_V2_DISCRIMINATOR_LONG,
+      ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR_LONG,
+      OPEN_POSITION_LOG_V2_DISCRIMINATOR_LONG,
+      SWAP_FEE_INTERNAL_LOG_DISCRIMINATOR_LONG,
+      CLOSE_AND_SWAP_LOG_DISCRIMINATOR_LONG,
+      SWAP_FEE_INTERNAL_LOG_V2_DISCRIMINATOR_LONG,
+      VOLTAGE_POINTS_LOG_DISCRIMINATOR_LONG,
+      EXECUTE_TRIGGER_WITH_SWAP_LOG_DISCRIMINATOR_LONG,
+      COLLECT_REBATE_LOG_DISCRIMINATOR_LONG,
+      REMOVE_COLLATERAL_AND_SWAP_LOG_USDV1_DISCRIMINATOR_LONG,
+      REMOVE_COLLATERAL_LOG_USDV1_DISCRIMINATOR_LONG,
+      EXECUTE_LIMIT_ORDER_LOG_DISCRIMINATOR_LONG,
+      SWAP_AND_ADD_COLLATERAL_LOG_USDV1_DISCRIMINATOR_LONG,
+      INCREASE_SIZE_LOG_V3_DISCRIMINATOR_LONG,
+      PLACE_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG,
+      SET_TOKEN_REWARD_LOG_DISCRIMINATOR_LONG,
+      WITHDRAW_STAKE_LOG_DISCRIMINATOR_LONG,
+      DECREASE_SIZE_LOG_V3_DISCRIMINATOR_LONG,
+      LIQUIDATE_LOG_USDV1_DISCRIMINATOR_LONG,
+      REMOVE_COLLATERAL_AND_SWAP_LOG_DISCRIMINATOR_LONG,
+      ADD_COLLATERAL_LOG_V3_DISCRIMINATOR_LONG,
+      EXECUTE_LIMIT_WITH_SWAP_LOG_DISCRIMINATOR_LONG,
+      LIQUIDATE_LOG_DISCRIMINATOR_LONG,
+      CANCEL_TRIGGER_ORDER_LOG_DISCRIMINATOR_LONG,
+      SETTLE_REBATES_LOG_DISCRIMINATOR_LONG,
+      BURN_AND_STAKE_LOG_DISCRIMINATOR_LONG,
+      MOVE_PROTOCOL_FEES_LOG_DISCRIMINATOR_LONG,
+      CLOSE_POSITION_LOG_USDV1_DISCRIMINATOR_LONG,
+      ADD_LIQUIDITY_LOG_V2_DISCRIMINATOR_LONG,
+      CANCEL_UNSTAKE_TOKEN_REQUEST_LOG_DISCRIMINATOR_LONG,
+      SWAP_AND_ADD_COLLATERAL_LOG_DISCRIMINATOR_LONG,
+      REFRESH_STAKE_LOG_DISCRIMINATOR_LONG,
+      SWAP_AND_OPEN_LOG_USDV1_DISCRIMINATOR_LONG,
+      REMOVE_LIQUIDITY_LOG_V2_DISCRIMINATOR_LONG,
+      INCREASE_SIZE_LOG_USDV1_DISCRIMINATOR_LONG,
+      ADD_COMPOUNDING_LIQUIDITY_LOG_DISCRIMINATOR_LONG,
+      ADD_LIQUIDITY_LOG_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> AddCollateralLogV2.read(_data, i);
+      case 1 -> CompoundingFeesLog.read(_data, i);
+      case 2 -> LiquidateLogV3.read(_data, i);
+      case 3 -> OpenPositionLogV3.read(_data, i);
+      case 4 -> AddLiquidityAndStakeLog.read(_data, i);
+      case 5 -> OpenPositionLog.read(_data, i);
+      case 6 -> DecreaseSizeLog.read(_data, i);
+      case 7 -> IncreaseSizeLogV4.read(_data, i);
+      case 8 -> CollectTokenRewardLog.read(_data, i);
+      case 9 -> MigrateStakeLog.read(_data, i);
+      case 10 -> RemoveCollateralLog.read(_data, i);
+      case 11 -> ClosePositionLogV2.read(_data, i);
+      case 12 -> RemoveCompoundingLiquidityLog.read(_data, i);
+      case 13 -> SetPositionPriceImpactLog.read(_data, i);
+      case 14 -> IncreaseSizeLog.read(_data, i);
+      case 15 -> PlaceLimitOrderLog.read(_data, i);
+      case 16 -> OpenPositionLogV4.read(_data, i);
+      case 17 -> DecreaseSizeLogUSDv1.read(_data, i);
+      case 18 -> CancelLimitOrderLog.read(_data, i);
+      case 19 -> WithdrawTokenLog.read(_data, i);
+      case 20 -> AddCollateralLog.read(_data, i);
+      case 21 -> SwapAndOpenLog.read(_data, i);
+      case 22 -> OpenPositionLogUSDv1.read(_data, i);
+      case 23 -> BurnAndClaimLog.read(_data, i);
+      case 24 -> RemoveCollateralLogV3.read(_data, i);
+      case 25 -> ExecuteTriggerWithSwapLogUSDv1.read(_data, i);
+      case 26 -> EditLimitOrderLog.read(_data, i);
+      case 27 -> ClosePositionLogV3.read(_data, i);
+      case 28 -> CollectStakeRewardLogV2.read(_data, i);
+      case 29 -> MigratePositionLog.read(_data, i);
+      case 30 -> ClosePositionLog.read(_data, i);
+      case 31 -> RemoveCollateralLogV2.read(_data, i);
+      case 32 -> IncreaseSizeLogV2.read(_data, i);
+      case 33 -> SwapAndOpenLogV2.read(_data, i);
+      case 34 -> UnstakeTokenInstantLog.read(_data, i);
+      case 35 -> SwapLog.read(_data, i);
+      case 36 -> SwapLogV2.read(_data, i);
+      case 37 -> DepositTokenStakeLog.read(_data, i);
+      case 38 -> ExecuteTriggerOrderLog.read(_data, i);
+      case 39 -> ExecuteLimitOrderLogUSDv1.read(_data, i);
+      case 40 -> CollectStakeRewardLog.read(_data, i);
+      case 41 -> UnstakeRequestLog.read(_data, i);
+      case 42 -> CollectRevenueLog.read(_data, i);
+      case 43 -> RemoveLiquidityLog.read(_data, i);
+      case 44 -> ExecuteLimitWithSwapLogUSDv1.read(_data, i);
+      case 45 -> LiquidateLogV2.read(_data, i);
+      case 46 -> UnstakeInstantLog.read(_data, i);
+      case 47 -> UnstakeTokenRequestLog.read(_data, i);
+      case 48 -> MigrateFlpLog.read(_data, i);
+      case 49 -> SwapFeeInternalLogV3.read(_data, i);
+      case 50 -> RefreshStakeUserLog.read(_data, i);
+      case 51 -> DistributeTokenRewardLog.read(_data, i);
+      case 52 -> ExecuteLimitWithSwapLogV2.read(_data, i);
+      case 53 -> ExecuteTriggerOrderLogUSDv1.read(_data, i);
+      case 54 -> DepositStakeLog.read(_data, i);
+      case 55 -> ExecuteLimitOrderLogV2.read(_data, i);
+      case 56 -> EditTriggerOrderLog.read(_data, i);
+      case 57 -> ReferralRebateLog.read(_data, i);
+      case 58 -> CloseAndSwapLogUSDv1.read(_data, i);
+      case 59 -> DecreaseSizeLogV2.read(_data, i);
+      case 60 -> AddCollateralLogUSDv1.read(_data, i);
+      case 61 -> OpenPositionLogV2.read(_data, i);
+      case 62 -> SwapFeeInternalLog.read(_data, i);
+      case 63 -> CloseAndSwapLog.read(_data, i);
+      case 64 -> SwapFeeInternalLogV2.read(_data, i);
+      case 65 -> VoltagePointsLog.read(_data, i);
+      case 66 -> ExecuteTriggerWithSwapLog.read(_data, i);
+      case 67 -> CollectRebateLog.read(_data, i);
+      case 68 -> RemoveCollateralAndSwapLogUSDv1.read(_data, i);
+      case 69 -> RemoveCollateralLogUSDv1.read(_data, i);
+      case 70 -> ExecuteLimitOrderLog.read(_data, i);
+      case 71 -> SwapAndAddCollateralLogUSDv1.read(_data, i);
+      case 72 -> IncreaseSizeLogV3.read(_data, i);
+      case 73 -> PlaceTriggerOrderLog.read(_data, i);
+      case 74 -> SetTokenRewardLog.read(_data, i);
+      case 75 -> WithdrawStakeLog.read(_data, i);
+      case 76 -> DecreaseSizeLogV3.read(_data, i);
+      case 77 -> LiquidateLogUSDv1.read(_data, i);
+      case 78 -> RemoveCollateralAndSwapLog.read(_data, i);
+      case 79 -> AddCollateralLogV3.read(_data, i);
+      case 80 -> ExecuteLimitWithSwapLog.read(_data, i);
+      case 81 -> LiquidateLog.read(_data, i);
+      case 82 -> CancelTriggerOrderLog.read(_data, i);
+      case 83 -> SettleRebatesLog.read(_data, i);
+      case 84 -> BurnAndStakeLog.read(_data, i);
+      case 85 -> MoveProtocolFeesLog.read(_data, i);
+      case 86 -> ClosePositionLogUSDv1.read(_data, i);
+      case 87 -> AddLiquidityLogV2.read(_data, i);
+      case 88 -> CancelUnstakeTokenRequestLog.read(_data, i);
+      case 89 -> SwapAndAddCollateralLog.read(_data, i);
+      case 90 -> RefreshStakeLog.read(_data, i);
+      case 91 -> SwapAndOpenLogUSDv1.read(_data, i);
+      case 92 -> RemoveLiquidityLogV2.read(_data, i);
+      case 93 -> IncreaseSizeLogUSDv1.read(_data, i);
+      case 94 -> AddCompoundingLiquidityLog.read(_data, i);
+      case 95 -> AddLiquidityLog.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private PerpetualsEvents() {
+  }
+}
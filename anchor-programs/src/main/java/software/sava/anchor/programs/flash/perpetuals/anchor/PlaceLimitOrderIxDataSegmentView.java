@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.PlaceLimitOrderParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class PlaceLimitOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.PLACE_LIMIT_ORDER_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PlaceLimitOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PlaceLimitOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PlaceLimitOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static PlaceLimitOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new PlaceLimitOrderIxDataSegmentView(segment, 0);
+  }
+
+  public PlaceLimitOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PlaceLimitOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.PlaceLimitOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.PlaceLimitOrderIxData.BYTES, PerpetualsProgram.PlaceLimitOrderIxData::read);
+  }
+
+  public PlaceLimitOrderParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, PlaceLimitOrderParams.BYTES, PlaceLimitOrderParams::read);
+  }
+}
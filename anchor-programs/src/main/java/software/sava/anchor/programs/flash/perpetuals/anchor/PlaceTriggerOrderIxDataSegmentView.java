@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.PlaceTriggerOrderParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class PlaceTriggerOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.PLACE_TRIGGER_ORDER_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PlaceTriggerOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PlaceTriggerOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PlaceTriggerOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static PlaceTriggerOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new PlaceTriggerOrderIxDataSegmentView(segment, 0);
+  }
+
+  public PlaceTriggerOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PlaceTriggerOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.PlaceTriggerOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.PlaceTriggerOrderIxData.BYTES, PerpetualsProgram.PlaceTriggerOrderIxData::read);
+  }
+
+  public PlaceTriggerOrderParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, PlaceTriggerOrderParams.BYTES, PlaceTriggerOrderParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveCollateralParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class RemoveCollateralIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.REMOVE_COLLATERAL_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RemoveCollateralIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RemoveCollateralIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RemoveCollateralIxDataSegmentView(segment, offset);
+  }
+
+  public static RemoveCollateralIxDataSegmentView wrap(final MemorySegment segment) {
+    return new RemoveCollateralIxDataSegmentView(segment, 0);
+  }
+
+  public RemoveCollateralIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RemoveCollateralIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.RemoveCollateralIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.RemoveCollateralIxData.BYTES, PerpetualsProgram.RemoveCollateralIxData::read);
+  }
+
+  public RemoveCollateralParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, RemoveCollateralParams.BYTES, RemoveCollateralParams::read);
+  }
+}
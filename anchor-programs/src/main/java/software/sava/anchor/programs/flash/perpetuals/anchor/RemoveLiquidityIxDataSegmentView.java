@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.RemoveLiquidityParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class RemoveLiquidityIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.REMOVE_LIQUIDITY_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RemoveLiquidityIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RemoveLiquidityIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RemoveLiquidityIxDataSegmentView(segment, offset);
+  }
+
+  public static RemoveLiquidityIxDataSegmentView wrap(final MemorySegment segment) {
+    return new RemoveLiquidityIxDataSegmentView(segment, 0);
+  }
+
+  public RemoveLiquidityIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RemoveLiquidityIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.RemoveLiquidityIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.RemoveLiquidityIxData.BYTES, PerpetualsProgram.RemoveLiquidityIxData::read);
+  }
+
+  public RemoveLiquidityParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, RemoveLiquidityParams.BYTES, RemoveLiquidityParams::read);
+  }
+}
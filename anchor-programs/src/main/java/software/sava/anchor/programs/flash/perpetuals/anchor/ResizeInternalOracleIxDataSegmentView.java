@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.ResizeInternalOracleParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ResizeInternalOracleIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.RESIZE_INTERNAL_ORACLE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ResizeInternalOracleIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ResizeInternalOracleIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ResizeInternalOracleIxDataSegmentView(segment, offset);
+  }
+
+  public static ResizeInternalOracleIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ResizeInternalOracleIxDataSegmentView(segment, 0);
+  }
+
+  public ResizeInternalOracleIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ResizeInternalOracleIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.ResizeInternalOracleIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.ResizeInternalOracleIxData.BYTES, PerpetualsProgram.ResizeInternalOracleIxData::read);
+  }
+
+  public ResizeInternalOracleParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, ResizeInternalOracleParams.BYTES, ResizeInternalOracleParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetAdminSignersParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetAdminSignersIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_ADMIN_SIGNERS_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetAdminSignersIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetAdminSignersIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetAdminSignersIxDataSegmentView(segment, offset);
+  }
+
+  public static SetAdminSignersIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetAdminSignersIxDataSegmentView(segment, 0);
+  }
+
+  public SetAdminSignersIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetAdminSignersIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetAdminSignersIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetAdminSignersIxData.BYTES, PerpetualsProgram.SetAdminSignersIxData::read);
+  }
+
+  public SetAdminSignersParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetAdminSignersParams.BYTES, SetAdminSignersParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetCustomOraclePriceParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetCustomOraclePriceIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_CUSTOM_ORACLE_PRICE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetCustomOraclePriceIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetCustomOraclePriceIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetCustomOraclePriceIxDataSegmentView(segment, offset);
+  }
+
+  public static SetCustomOraclePriceIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetCustomOraclePriceIxDataSegmentView(segment, 0);
+  }
+
+  public SetCustomOraclePriceIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetCustomOraclePriceIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetCustomOraclePriceIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetCustomOraclePriceIxData.BYTES, PerpetualsProgram.SetCustomOraclePriceIxData::read);
+  }
+
+  public SetCustomOraclePriceParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetCustomOraclePriceParams.BYTES, SetCustomOraclePriceParams::read);
+  }
+}
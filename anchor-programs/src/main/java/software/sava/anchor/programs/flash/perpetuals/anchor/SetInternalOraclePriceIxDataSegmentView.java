@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetInternalOraclePriceParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetInternalOraclePriceIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_INTERNAL_ORACLE_PRICE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetInternalOraclePriceIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetInternalOraclePriceIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetInternalOraclePriceIxDataSegmentView(segment, offset);
+  }
+
+  public static SetInternalOraclePriceIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetInternalOraclePriceIxDataSegmentView(segment, 0);
+  }
+
+  public SetInternalOraclePriceIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetInternalOraclePriceIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetInternalOraclePriceIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetInternalOraclePriceIxData.BYTES, PerpetualsProgram.SetInternalOraclePriceIxData::read);
+  }
+
+  public SetInternalOraclePriceParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetInternalOraclePriceParams.BYTES, SetInternalOraclePriceParams::read);
+  }
+}
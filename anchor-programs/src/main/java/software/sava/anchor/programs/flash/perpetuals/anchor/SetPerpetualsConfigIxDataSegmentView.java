@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPerpetualsConfigParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetPerpetualsConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_PERPETUALS_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetPerpetualsConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetPerpetualsConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetPerpetualsConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static SetPerpetualsConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetPerpetualsConfigIxDataSegmentView(segment, 0);
+  }
+
+  public SetPerpetualsConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetPerpetualsConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetPerpetualsConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetPerpetualsConfigIxData.BYTES, PerpetualsProgram.SetPerpetualsConfigIxData::read);
+  }
+
+  public SetPerpetualsConfigParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetPerpetualsConfigParams.BYTES, SetPerpetualsConfigParams::read);
+  }
+}
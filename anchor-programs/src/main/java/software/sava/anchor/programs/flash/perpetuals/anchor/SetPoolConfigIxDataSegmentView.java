@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPoolConfigParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetPoolConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_POOL_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetPoolConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetPoolConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetPoolConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static SetPoolConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetPoolConfigIxDataSegmentView(segment, 0);
+  }
+
+  public SetPoolConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetPoolConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetPoolConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetPoolConfigIxData.BYTES, PerpetualsProgram.SetPoolConfigIxData::read);
+  }
+
+  public SetPoolConfigParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetPoolConfigParams.BYTES, SetPoolConfigParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetPositionPriceImpactParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetPositionPriceImpactIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_POSITION_PRICE_IMPACT_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetPositionPriceImpactIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetPositionPriceImpactIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetPositionPriceImpactIxDataSegmentView(segment, offset);
+  }
+
+  public static SetPositionPriceImpactIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetPositionPriceImpactIxDataSegmentView(segment, 0);
+  }
+
+  public SetPositionPriceImpactIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetPositionPriceImpactIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetPositionPriceImpactIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetPositionPriceImpactIxData.BYTES, PerpetualsProgram.SetPositionPriceImpactIxData::read);
+  }
+
+  public SetPositionPriceImpactParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetPositionPriceImpactParams.BYTES, SetPositionPriceImpactParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetProtocolFeeShareParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetProtocolFeeShareIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_PROTOCOL_FEE_SHARE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetProtocolFeeShareIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetProtocolFeeShareIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetProtocolFeeShareIxDataSegmentView(segment, offset);
+  }
+
+  public static SetProtocolFeeShareIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetProtocolFeeShareIxDataSegmentView(segment, 0);
+  }
+
+  public SetProtocolFeeShareIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetProtocolFeeShareIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetProtocolFeeShareIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetProtocolFeeShareIxData.BYTES, PerpetualsProgram.SetProtocolFeeShareIxData::read);
+  }
+
+  public SetProtocolFeeShareParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetProtocolFeeShareParams.BYTES, SetProtocolFeeShareParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetTokenStakeLevelParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetTokenStakeLevelIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_TOKEN_STAKE_LEVEL_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetTokenStakeLevelIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetTokenStakeLevelIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetTokenStakeLevelIxDataSegmentView(segment, offset);
+  }
+
+  public static SetTokenStakeLevelIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetTokenStakeLevelIxDataSegmentView(segment, 0);
+  }
+
+  public SetTokenStakeLevelIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetTokenStakeLevelIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetTokenStakeLevelIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetTokenStakeLevelIxData.BYTES, PerpetualsProgram.SetTokenStakeLevelIxData::read);
+  }
+
+  public SetTokenStakeLevelParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetTokenStakeLevelParams.BYTES, SetTokenStakeLevelParams::read);
+  }
+}
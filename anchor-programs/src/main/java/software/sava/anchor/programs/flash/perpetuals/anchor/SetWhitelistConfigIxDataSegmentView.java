@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SetWhitelistConfigParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SetWhitelistConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SET_WHITELIST_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SetWhitelistConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SetWhitelistConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SetWhitelistConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static SetWhitelistConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SetWhitelistConfigIxDataSegmentView(segment, 0);
+  }
+
+  public SetWhitelistConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SetWhitelistConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SetWhitelistConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SetWhitelistConfigIxData.BYTES, PerpetualsProgram.SetWhitelistConfigIxData::read);
+  }
+
+  public SetWhitelistConfigParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SetWhitelistConfigParams.BYTES, SetWhitelistConfigParams::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.PerpetualsInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SettleRebatesIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SETTLE_REBATES_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SettleRebatesIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SettleRebatesIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SettleRebatesIxDataSegmentView(segment, offset);
+  }
+
+  public static SettleRebatesIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SettleRebatesIxDataSegmentView(segment, 0);
+  }
+
+  public SettleRebatesIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SettleRebatesIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsInstructionDecoder.SettleRebatesIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsInstructionDecoder.SettleRebatesIxData.BYTES, PerpetualsInstructionDecoder.SettleRebatesIxData::read);
+  }
+}
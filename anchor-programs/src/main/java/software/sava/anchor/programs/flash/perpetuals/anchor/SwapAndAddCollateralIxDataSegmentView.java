@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapAndAddCollateralParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SwapAndAddCollateralIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SWAP_AND_ADD_COLLATERAL_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SwapAndAddCollateralIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SwapAndAddCollateralIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SwapAndAddCollateralIxDataSegmentView(segment, offset);
+  }
+
+  public static SwapAndAddCollateralIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SwapAndAddCollateralIxDataSegmentView(segment, 0);
+  }
+
+  public SwapAndAddCollateralIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SwapAndAddCollateralIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SwapAndAddCollateralIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SwapAndAddCollateralIxData.BYTES, PerpetualsProgram.SwapAndAddCollateralIxData::read);
+  }
+
+  public SwapAndAddCollateralParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SwapAndAddCollateralParams.BYTES, SwapAndAddCollateralParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.SwapParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SwapIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.SWAP_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SwapIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SwapIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SwapIxDataSegmentView(segment, offset);
+  }
+
+  public static SwapIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SwapIxDataSegmentView(segment, 0);
+  }
+
+  public SwapIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SwapIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.SwapIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.SwapIxData.BYTES, PerpetualsProgram.SwapIxData::read);
+  }
+
+  public SwapParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, SwapParams.BYTES, SwapParams::read);
+  }
+}
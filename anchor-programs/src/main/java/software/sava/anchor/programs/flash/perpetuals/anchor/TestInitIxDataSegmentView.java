@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.TestInitParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class TestInitIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.TEST_INIT_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TestInitIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TestInitIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TestInitIxDataSegmentView(segment, offset);
+  }
+
+  public static TestInitIxDataSegmentView wrap(final MemorySegment segment) {
+    return new TestInitIxDataSegmentView(segment, 0);
+  }
+
+  public TestInitIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TestInitIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.TestInitIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.TestInitIxData.BYTES, PerpetualsProgram.TestInitIxData::read);
+  }
+
+  public TestInitParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, TestInitParams.BYTES, TestInitParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.UnstakeTokenRequestParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UnstakeTokenRequestIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.UNSTAKE_TOKEN_REQUEST_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UnstakeTokenRequestIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UnstakeTokenRequestIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UnstakeTokenRequestIxDataSegmentView(segment, offset);
+  }
+
+  public static UnstakeTokenRequestIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UnstakeTokenRequestIxDataSegmentView(segment, 0);
+  }
+
+  public UnstakeTokenRequestIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UnstakeTokenRequestIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.UnstakeTokenRequestIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.UnstakeTokenRequestIxData.BYTES, PerpetualsProgram.UnstakeTokenRequestIxData::read);
+  }
+
+  public UnstakeTokenRequestParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, UnstakeTokenRequestParams.BYTES, UnstakeTokenRequestParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawSolFeesParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawSolFeesIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.WITHDRAW_SOL_FEES_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawSolFeesIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawSolFeesIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawSolFeesIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawSolFeesIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawSolFeesIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawSolFeesIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawSolFeesIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.WithdrawSolFeesIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.WithdrawSolFeesIxData.BYTES, PerpetualsProgram.WithdrawSolFeesIxData::read);
+  }
+
+  public WithdrawSolFeesParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, WithdrawSolFeesParams.BYTES, WithdrawSolFeesParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawStakeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawStakeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.WITHDRAW_STAKE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawStakeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawStakeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawStakeIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawStakeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawStakeIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawStakeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawStakeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.WithdrawStakeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.WithdrawStakeIxData.BYTES, PerpetualsProgram.WithdrawStakeIxData::read);
+  }
+
+  public WithdrawStakeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, WithdrawStakeParams.BYTES, WithdrawStakeParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.WithdrawTokenParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawTokenIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PerpetualsProgram.WITHDRAW_TOKEN_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawTokenIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawTokenIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawTokenIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawTokenIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawTokenIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawTokenIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawTokenIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PerpetualsProgram.WithdrawTokenIxData read() {
+    return MemorySegmentUtil.read(segment, offset, PerpetualsProgram.WithdrawTokenIxData.BYTES, PerpetualsProgram.WithdrawTokenIxData::read);
+  }
+
+  public WithdrawTokenParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, WithdrawTokenParams.BYTES, WithdrawTokenParams::read);
+  }
+}
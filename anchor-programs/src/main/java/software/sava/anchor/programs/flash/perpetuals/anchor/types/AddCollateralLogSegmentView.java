@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class AddCollateralLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int COLLATERAL_AMOUNT_OFFSET = MARKET_OFFSET + 32;
+  private static final int COLLATERAL_PRICE_USD_OFFSET = COLLATERAL_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AddCollateralLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AddCollateralLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AddCollateralLogSegmentView(segment, offset);
+  }
+
+  public static AddCollateralLogSegmentView wrap(final MemorySegment segment) {
+    return new AddCollateralLogSegmentView(segment, 0);
+  }
+
+  public AddCollateralLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AddCollateralLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public AddCollateralLog read() {
+    return MemorySegmentUtil.read(segment, offset, AddCollateralLog.BYTES, AddCollateralLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long collateralAmount() {
+    return getInt64LE(segment, offset + COLLATERAL_AMOUNT_OFFSET);
+  }
+
+  public long collateralPriceUsd() {
+    return getInt64LE(segment, offset + COLLATERAL_PRICE_USD_OFFSET);
+  }
+}
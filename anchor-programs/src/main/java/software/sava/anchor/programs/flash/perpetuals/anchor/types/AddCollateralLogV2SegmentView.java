@@ -0,0 +1,78 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class AddCollateralLogV2SegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int COLLATERAL_AMOUNT_OFFSET = MARKET_OFFSET + 32;
+  private static final int COLLATERAL_PRICE_OFFSET = COLLATERAL_AMOUNT_OFFSET + 8;
+  private static final int COLLATERAL_PRICE_EXPONENT_OFFSET = COLLATERAL_PRICE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AddCollateralLogV2SegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AddCollateralLogV2SegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AddCollateralLogV2SegmentView(segment, offset);
+  }
+
+  public static AddCollateralLogV2SegmentView wrap(final MemorySegment segment) {
+    return new AddCollateralLogV2SegmentView(segment, 0);
+  }
+
+  public AddCollateralLogV2SegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AddCollateralLogV2SegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public AddCollateralLogV2 read() {
+    return MemorySegmentUtil.read(segment, offset, AddCollateralLogV2.BYTES, AddCollateralLogV2::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long collateralAmount() {
+    return getInt64LE(segment, offset + COLLATERAL_AMOUNT_OFFSET);
+  }
+
+  public long collateralPrice() {
+    return getInt64LE(segment, offset + COLLATERAL_PRICE_OFFSET);
+  }
+
+  public int collateralPriceExponent() {
+    return getInt32LE(segment, offset + COLLATERAL_PRICE_EXPONENT_OFFSET);
+  }
+}
@@ -0,0 +1,119 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class AddCollateralLogV3SegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int COLLATERAL_PRICE_OFFSET = MARKET_OFFSET + 32;
+  private static final int COLLATERAL_PRICE_EXPONENT_OFFSET = COLLATERAL_PRICE_OFFSET + 8;
+  private static final int DELTA_COLLATERAL_AMOUNT_OFFSET = COLLATERAL_PRICE_EXPONENT_OFFSET + 4;
+  private static final int FINAL_COLLATERAL_AMOUNT_OFFSET = DELTA_COLLATERAL_AMOUNT_OFFSET + 8;
+  private static final int FINAL_COLLATERAL_USD_OFFSET = FINAL_COLLATERAL_AMOUNT_OFFSET + 8;
+  private static final int FINAL_SIZE_AMOUNT_OFFSET = FINAL_COLLATERAL_USD_OFFSET + 8;
+  private static final int FINAL_SIZE_USD_OFFSET = FINAL_SIZE_AMOUNT_OFFSET + 8;
+  private static final int ORACLE_ACCOUNT_TIME_OFFSET = FINAL_SIZE_USD_OFFSET + 8;
+  private static final int ORACLE_ACCOUNT_TYPE_OFFSET = ORACLE_ACCOUNT_TIME_OFFSET + 8;
+  private static final int ORACLE_ACCOUNT_PRICE_OFFSET = ORACLE_ACCOUNT_TYPE_OFFSET + 1;
+  private static final int ORACLE_ACCOUNT_PRICE_EXPONENT_OFFSET = ORACLE_ACCOUNT_PRICE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AddCollateralLogV3SegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AddCollateralLogV3SegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AddCollateralLogV3SegmentView(segment, offset);
+  }
+
+  public static AddCollateralLogV3SegmentView wrap(final MemorySegment segment) {
+    return new AddCollateralLogV3SegmentView(segment, 0);
+  }
+
+  public AddCollateralLogV3SegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AddCollateralLogV3SegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public AddCollateralLogV3 read() {
+    return MemorySegmentUtil.read(segment, offset, AddCollateralLogV3.BYTES, AddCollateralLogV3::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long collateralPrice() {
+    return getInt64LE(segment, offset + COLLATERAL_PRICE_OFFSET);
+  }
+
+  public int collateralPriceExponent() {
+    return getInt32LE(segment, offset + COLLATERAL_PRICE_EXPONENT_OFFSET);
+  }
+
+  public long deltaCollateralAmount() {
+    return getInt64LE(segment, offset + DELTA_COLLATERAL_AMOUNT_OFFSET);
+  }
+
+  public long finalCollateralAmount() {
+    return getInt64LE(segment, offset + FINAL_COLLATERAL_AMOUNT_OFFSET);
+  }
+
+  public long finalCollateralUsd() {
+    return getInt64LE(segment, offset + FINAL_COLLATERAL_USD_OFFSET);
+  }
+
+  public long finalSizeAmount() {
+    return getInt64LE(segment, offset + FINAL_SIZE_AMOUNT_OFFSET);
+  }
+
+  public long finalSizeUsd() {
+    return getInt64LE(segment, offset + FINAL_SIZE_USD_OFFSET);
+  }
+
+  public long oracleAccountTime() {
+    return getInt64LE(segment, offset + ORACLE_ACCOUNT_TIME_OFFSET);
+  }
+
+  public int oracleAccountType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ORACLE_ACCOUNT_TYPE_OFFSET) & 0xFF;
+  }
+
+  public long oracleAccountPrice() {
+    return getInt64LE(segment, offset + ORACLE_ACCOUNT_PRICE_OFFSET);
+  }
+
+  public int oracleAccountPriceExponent() {
+    return getInt32LE(segment, offset + ORACLE_ACCOUNT_PRICE_EXPONENT_OFFSET);
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class BurnAndClaimLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int NFT_MINT_OFFSET = OWNER_OFFSET + 32;
+  private static final int CLAIM_AMOUNT_OFFSET = NFT_MINT_OFFSET + 32;
+  private static final int CURRENT_TIMESTAMP_OFFSET = CLAIM_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private BurnAndClaimLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static BurnAndClaimLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new BurnAndClaimLogSegmentView(segment, offset);
+  }
+
+  public static BurnAndClaimLogSegmentView wrap(final MemorySegment segment) {
+    return new BurnAndClaimLogSegmentView(segment, 0);
+  }
+
+  public BurnAndClaimLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public BurnAndClaimLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public BurnAndClaimLog read() {
+    return MemorySegmentUtil.read(segment, offset, BurnAndClaimLog.BYTES, BurnAndClaimLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey nftMint() {
+    return readPubKey(segment, offset + NFT_MINT_OFFSET);
+  }
+
+  public long claimAmount() {
+    return getInt64LE(segment, offset + CLAIM_AMOUNT_OFFSET);
+  }
+
+  public long currentTimestamp() {
+    return getInt64LE(segment, offset + CURRENT_TIMESTAMP_OFFSET);
+  }
+}
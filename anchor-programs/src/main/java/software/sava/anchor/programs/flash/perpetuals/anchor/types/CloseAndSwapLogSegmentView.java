@@ -0,0 +1,174 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class CloseAndSwapLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int ENTRY_PRICE_OFFSET = MARKET_OFFSET + 32;
+  private static final int ENTRY_PRICE_EXPONENT_OFFSET = ENTRY_PRICE_OFFSET + 8;
+  private static final int DURATION_OFFSET = ENTRY_PRICE_EXPONENT_OFFSET + 4;
+  private static final int EXIT_PRICE_OFFSET = DURATION_OFFSET + 8;
+  private static final int EXIT_PRICE_EXPONENT_OFFSET = EXIT_PRICE_OFFSET + 8;
+  private static final int SIZE_AMOUNT_OFFSET = EXIT_PRICE_EXPONENT_OFFSET + 4;
+  private static final int SIZE_USD_OFFSET = SIZE_AMOUNT_OFFSET + 8;
+  private static final int COLLATERAL_PRICE_OFFSET = SIZE_USD_OFFSET + 8;
+  private static final int COLLATERAL_PRICE_EXPONENT_OFFSET = COLLATERAL_PRICE_OFFSET + 8;
+  private static final int COLLATERAL_AMOUNT_OFFSET = COLLATERAL_PRICE_EXPONENT_OFFSET + 4;
+  private static final int PROFIT_USD_OFFSET = COLLATERAL_AMOUNT_OFFSET + 8;
+  private static final int LOSS_USD_OFFSET = PROFIT_USD_OFFSET + 8;
+  private static final int FEE_AMOUNT_OFFSET = LOSS_USD_OFFSET + 8;
+  private static final int FEE_REBATE_AMOUNT_OFFSET = FEE_AMOUNT_OFFSET + 8;
+  private static final int EXIT_FEE_AMOUNT_OFFSET = FEE_REBATE_AMOUNT_OFFSET + 8;
+  private static final int RECEIVE_CUSTODY_UID_OFFSET = EXIT_FEE_AMOUNT_OFFSET + 8;
+  private static final int RECEIVE_AMOUNT_OFFSET = RECEIVE_CUSTODY_UID_OFFSET + 8;
+  private static final int SWAP_FEE_AMOUNT_OFFSET = RECEIVE_AMOUNT_OFFSET + 8;
+  private static final int ORACLE_ACCOUNT_TIME_OFFSET = SWAP_FEE_AMOUNT_OFFSET + 8;
+  private static final int ORACLE_ACCOUNT_TYPE_OFFSET = ORACLE_ACCOUNT_TIME_OFFSET + 8;
+  private static final int ORACLE_ACCOUNT_PRICE_OFFSET = ORACLE_ACCOUNT_TYPE_OFFSET + 1;
+  private static final int ORACLE_ACCOUNT_PRICE_EXPONENT_OFFSET = ORACLE_ACCOUNT_PRICE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseAndSwapLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseAndSwapLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseAndSwapLogSegmentView(segment, offset);
+  }
+
+  public static CloseAndSwapLogSegmentView wrap(final MemorySegment segment) {
+    return new CloseAndSwapLogSegmentView(segment, 0);
+  }
+
+  public CloseAndSwapLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseAndSwapLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public CloseAndSwapLog read() {
+    return MemorySegmentUtil.read(segment, offset, CloseAndSwapLog.BYTES, CloseAndSwapLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long entryPrice() {
+    return getInt64LE(segment, offset + ENTRY_PRICE_OFFSET);
+  }
+
+  public int entryPriceExponent() {
+    return getInt32LE(segment, offset + ENTRY_PRICE_EXPONENT_OFFSET);
+  }
+
+  public long duration() {
+    return getInt64LE(segment, offset + DURATION_OFFSET);
+  }
+
+  public long exitPrice() {
+    return getInt64LE(segment, offset + EXIT_PRICE_OFFSET);
+  }
+
+  public int exitPriceExponent() {
+    return getInt32LE(segment, offset + EXIT_PRICE_EXPONENT_OFFSET);
+  }
+
+  public long sizeAmount() {
+    return getInt64LE(segment, offset + SIZE_AMOUNT_OFFSET);
+  }
+
+  public long sizeUsd() {
+    return getInt64LE(segment, offset + SIZE_USD_OFFSET);
+  }
+
+  public long collateralPrice() {
+    return getInt64LE(segment, offset + COLLATERAL_PRICE_OFFSET);
+  }
+
+  public int collateralPriceExponent() {
+    return getInt32LE(segment, offset + COLLATERAL_PRICE_EXPONENT_OFFSET);
+  }
+
+  public long collateralAmount() {
+    return getInt64LE(segment, offset + COLLATERAL_AMOUNT_OFFSET);
+  }
+
+  public long profitUsd() {
+    return getInt64LE(segment, offset + PROFIT_USD_OFFSET);
+  }
+
+  public long lossUsd() {
+    return getInt64LE(segment, offset + LOSS_USD_OFFSET);
+  }
+
+  public long feeAmount() {
+    return getInt64LE(segment, offset + FEE_AMOUNT_OFFSET);
+  }
+
+  public long feeRebateAmount() {
+    return getInt64LE(segment, offset + FEE_REBATE_AMOUNT_OFFSET);
+  }
+
+  public long exitFeeAmount() {
+    return getInt64LE(segment, offset + EXIT_FEE_AMOUNT_OFFSET);
+  }
+
+  public long receiveCustodyUid() {
+    return getInt64LE(segment, offset + RECEIVE_CUSTODY_UID_OFFSET);
+  }
+
+  public long receiveAmount() {
+    return getInt64LE(segment, offset + RECEIVE_AMOUNT_OFFSET);
+  }
+
+  public long swapFeeAmount() {
+    return getInt64LE(segment, offset + SWAP_FEE_AMOUNT_OFFSET);
+  }
+
+  public long oracleAccountTime() {
+    return getInt64LE(segment, offset + ORACLE_ACCOUNT_TIME_OFFSET);
+  }
+
+  public int oracleAccountType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ORACLE_ACCOUNT_TYPE_OFFSET) & 0xFF;
+  }
+
+  public long oracleAccountPrice() {
+    return getInt64LE(segment, offset + ORACLE_ACCOUNT_PRICE_OFFSET);
+  }
+
+  public int oracleAccountPriceExponent() {
+    return getInt32LE(segment, offset + ORACLE_ACCOUNT_PRICE_EXPONENT_OFFSET);
+  }
+}
@@ -0,0 +1,92 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ClosePositionLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int PRICE_USD_OFFSET = MARKET_OFFSET + 32;
+  private static final int SIZE_AMOUNT_OFFSET = PRICE_USD_OFFSET + 8;
+  private static final int SIZE_USD_OFFSET = SIZE_AMOUNT_OFFSET + 8;
+  private static final int PROFIT_USD_OFFSET = SIZE_USD_OFFSET + 8;
+  private static final int LOSS_USD_OFFSET = PROFIT_USD_OFFSET + 8;
+  private static final int FEE_AMOUNT_OFFSET = LOSS_USD_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClosePositionLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClosePositionLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClosePositionLogSegmentView(segment, offset);
+  }
+
+  public static ClosePositionLogSegmentView wrap(final MemorySegment segment) {
+    return new ClosePositionLogSegmentView(segment, 0);
+  }
+
+  public ClosePositionLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClosePositionLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ClosePositionLog read() {
+    return MemorySegmentUtil.read(segment, offset, ClosePositionLog.BYTES, ClosePositionLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long priceUsd() {
+    return getInt64LE(segment, offset + PRICE_USD_OFFSET);
+  }
+
+  public long sizeAmount() {
+    return getInt64LE(segment, offset + SIZE_AMOUNT_OFFSET);
+  }
+
+  public long sizeUsd() {
+    return getInt64LE(segment, offset + SIZE_USD_OFFSET);
+  }
+
+  public long profitUsd() {
+    return getInt64LE(segment, offset + PROFIT_USD_OFFSET);
+  }
+
+  public long lossUsd() {
+    return getInt64LE(segment, offset + LOSS_USD_OFFSET);
+  }
+
+  public long feeAmount() {
+    return getInt64LE(segment, offset + FEE_AMOUNT_OFFSET);
+  }
+}
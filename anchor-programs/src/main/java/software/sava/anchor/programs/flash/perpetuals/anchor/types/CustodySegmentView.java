@@ -0,0 +1,143 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class CustodySegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CustodySegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CustodySegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CustodySegmentView(segment, offset);
+  }
+
+  public static CustodySegmentView wrap(final MemorySegment segment) {
+    return new CustodySegmentView(segment, 0);
+  }
+
+  public CustodySegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CustodySegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Custody read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Custody.BYTES, Custody::read);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(segment, offset + Custody.POOL_OFFSET);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(segment, offset + Custody.MINT_OFFSET);
+  }
+
+  public PublicKey tokenAccount() {
+    return readPubKey(segment, offset + Custody.TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public int decimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public boolean isStable() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.IS_STABLE_OFFSET) == 1;
+  }
+
+  public boolean depegAdjustment() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.DEPEG_ADJUSTMENT_OFFSET) == 1;
+  }
+
+  public boolean isVirtual() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.IS_VIRTUAL_OFFSET) == 1;
+  }
+
+  public boolean distributeRewards() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.DISTRIBUTE_REWARDS_OFFSET) == 1;
+  }
+
+  public OracleParams oracle() {
+    return MemorySegmentUtil.read(segment, offset + Custody.ORACLE_OFFSET, OracleParams.BYTES, OracleParams::read);
+  }
+
+  public PricingParams pricing() {
+    return MemorySegmentUtil.read(segment, offset + Custody.PRICING_OFFSET, PricingParams.BYTES, PricingParams::read);
+  }
+
+  public Permissions permissions() {
+    return MemorySegmentUtil.read(segment, offset + Custody.PERMISSIONS_OFFSET, Permissions.BYTES, Permissions::read);
+  }
+
+  public Fees fees() {
+    return MemorySegmentUtil.read(segment, offset + Custody.FEES_OFFSET, Fees.BYTES, Fees::read);
+  }
+
+  public BorrowRateParams borrowRate() {
+    return MemorySegmentUtil.read(segment, offset + Custody.BORROW_RATE_OFFSET, BorrowRateParams.BYTES, BorrowRateParams::read);
+  }
+
+  public long rewardThreshold() {
+    return getInt64LE(segment, offset + Custody.REWARD_THRESHOLD_OFFSET);
+  }
+
+  public Assets assets() {
+    return MemorySegmentUtil.read(segment, offset + Custody.ASSETS_OFFSET, Assets.BYTES, Assets::read);
+  }
+
+  public FeesStats feesStats() {
+    return MemorySegmentUtil.read(segment, offset + Custody.FEES_STATS_OFFSET, FeesStats.BYTES, FeesStats::read);
+  }
+
+  public BorrowRateState borrowRateState() {
+    return MemorySegmentUtil.read(segment, offset + Custody.BORROW_RATE_STATE_OFFSET, BorrowRateState.BYTES, BorrowRateState::read);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.BUMP_OFFSET) & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.TOKEN_ACCOUNT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public boolean token22() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.TOKEN_22_OFFSET) == 1;
+  }
+
+  public int uid() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Custody.UID_OFFSET) & 0xFF;
+  }
+
+  public long minReserveUsd() {
+    return getInt64LE(segment, offset + Custody.MIN_RESERVE_USD_OFFSET);
+  }
+
+  public long limitPriceBufferBps() {
+    return getInt64LE(segment, offset + Custody.LIMIT_PRICE_BUFFER_BPS_OFFSET);
+  }
+}
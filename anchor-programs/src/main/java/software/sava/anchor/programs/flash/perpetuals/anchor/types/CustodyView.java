@@ -0,0 +1,139 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class CustodyView {
+
+  private byte[] _data;
+  private int offset;
+
+  private CustodyView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static CustodyView wrap(final byte[] _data, final int offset) {
+    return new CustodyView(_data, offset);
+  }
+
+  public static CustodyView wrap(final byte[] _data) {
+    return new CustodyView(_data, 0);
+  }
+
+  public CustodyView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public CustodyView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Custody read(final PublicKey _address) {
+    return Custody.read(_address, _data, offset);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(_data, offset + Custody.POOL_OFFSET);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(_data, offset + Custody.MINT_OFFSET);
+  }
+
+  public PublicKey tokenAccount() {
+    return readPubKey(_data, offset + Custody.TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public int decimals() {
+    return _data[offset + Custody.DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public boolean isStable() {
+    return _data[offset + Custody.IS_STABLE_OFFSET] == 1;
+  }
+
+  public boolean depegAdjustment() {
+    return _data[offset + Custody.DEPEG_ADJUSTMENT_OFFSET] == 1;
+  }
+
+  public boolean isVirtual() {
+    return _data[offset + Custody.IS_VIRTUAL_OFFSET] == 1;
+  }
+
+  public boolean distributeRewards() {
+    return _data[offset + Custody.DISTRIBUTE_REWARDS_OFFSET] == 1;
+  }
+
+  public OracleParams oracle() {
+    return OracleParams.read(_data, offset + Custody.ORACLE_OFFSET);
+  }
+
+  public PricingParams pricing() {
+    return PricingParams.read(_data, offset + Custody.PRICING_OFFSET);
+  }
+
+  public Permissions permissions() {
+    return Permissions.read(_data, offset + Custody.PERMISSIONS_OFFSET);
+  }
+
+  public Fees fees() {
+    return Fees.read(_data, offset + Custody.FEES_OFFSET);
+  }
+
+  public BorrowRateParams borrowRate() {
+    return BorrowRateParams.read(_data, offset + Custody.BORROW_RATE_OFFSET);
+  }
+
+  public long rewardThreshold() {
+    return getInt64LE(_data, offset + Custody.REWARD_THRESHOLD_OFFSET);
+  }
+
+  public Assets assets() {
+    return Assets.read(_data, offset + Custody.ASSETS_OFFSET);
+  }
+
+  public FeesStats feesStats() {
+    return FeesStats.read(_data, offset + Custody.FEES_STATS_OFFSET);
+  }
+
+  public BorrowRateState borrowRateState() {
+    return BorrowRateState.read(_data, offset + Custody.BORROW_RATE_STATE_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + Custody.BUMP_OFFSET] & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return _data[offset + Custody.TOKEN_ACCOUNT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public boolean token22() {
+    return _data[offset + Custody.TOKEN_22_OFFSET] == 1;
+  }
+
+  public int uid() {
+    return _data[offset + Custody.UID_OFFSET] & 0xFF;
+  }
+
+  public long minReserveUsd() {
+    return getInt64LE(_data, offset + Custody.MIN_RESERVE_USD_OFFSET);
+  }
+
+  public long limitPriceBufferBps() {
+    return getInt64LE(_data, offset + Custody.LIMIT_PRICE_BUFFER_BPS_OFFSET);
+  }
+}
@@ -0,0 +1,75 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class CustomOracleSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CustomOracleSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CustomOracleSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CustomOracleSegmentView(segment, offset);
+  }
+
+  public static CustomOracleSegmentView wrap(final MemorySegment segment) {
+    return new CustomOracleSegmentView(segment, 0);
+  }
+
+  public CustomOracleSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CustomOracleSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public CustomOracle read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, CustomOracle.BYTES, CustomOracle::read);
+  }
+
+  public long price() {
+    return getInt64LE(segment, offset + CustomOracle.PRICE_OFFSET);
+  }
+
+  public int expo() {
+    return getInt32LE(segment, offset + CustomOracle.EXPO_OFFSET);
+  }
+
+  public long conf() {
+    return getInt64LE(segment, offset + CustomOracle.CONF_OFFSET);
+  }
+
+  public long ema() {
+    return getInt64LE(segment, offset + CustomOracle.EMA_OFFSET);
+  }
+
+  public long publishTime() {
+    return getInt64LE(segment, offset + CustomOracle.PUBLISH_TIME_OFFSET);
+  }
+
+  public PublicKey extOracleAccount() {
+    return readPubKey(segment, offset + CustomOracle.EXT_ORACLE_ACCOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class CustomOracleView {
+
+  private byte[] _data;
+  private int offset;
+
+  private CustomOracleView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static CustomOracleView wrap(final byte[] _data, final int offset) {
+    return new CustomOracleView(_data, offset);
+  }
+
+  public static CustomOracleView wrap(final byte[] _data) {
+    return new CustomOracleView(_data, 0);
+  }
+
+  public CustomOracleView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public CustomOracleView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public CustomOracle read(final PublicKey _address) {
+    return CustomOracle.read(_address, _data, offset);
+  }
+
+  public long price() {
+    return getInt64LE(_data, offset + CustomOracle.PRICE_OFFSET);
+  }
+
+  public int expo() {
+    return getInt32LE(_data, offset + CustomOracle.EXPO_OFFSET);
+  }
+
+  public long conf() {
+    return getInt64LE(_data, offset + CustomOracle.CONF_OFFSET);
+  }
+
+  public long ema() {
+    return getInt64LE(_data, offset + CustomOracle.EMA_OFFSET);
+  }
+
+  public long publishTime() {
+    return getInt64LE(_data, offset + CustomOracle.PUBLISH_TIME_OFFSET);
+  }
+
+  public PublicKey extOracleAccount() {
+    return readPubKey(_data, offset + CustomOracle.EXT_ORACLE_ACCOUNT_OFFSET);
+  }
+}
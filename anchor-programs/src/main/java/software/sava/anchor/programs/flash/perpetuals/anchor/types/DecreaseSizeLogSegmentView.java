@@ -0,0 +1,97 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class DecreaseSizeLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int PRICE_USD_OFFSET = MARKET_OFFSET + 32;
+  private static final int SIZE_DELTA_OFFSET = PRICE_USD_OFFSET + 8;
+  private static final int SIZE_DELTA_USD_OFFSET = SIZE_DELTA_OFFSET + 8;
+  private static final int SETTLED_RETURNS_OFFSET = SIZE_DELTA_USD_OFFSET + 8;
+  private static final int DELTA_PROFIT_USD_OFFSET = SETTLED_RETURNS_OFFSET + 8;
+  private static final int DELTA_LOSS_USD_OFFSET = DELTA_PROFIT_USD_OFFSET + 8;
+  private static final int FEE_AMOUNT_OFFSET = DELTA_LOSS_USD_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DecreaseSizeLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DecreaseSizeLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DecreaseSizeLogSegmentView(segment, offset);
+  }
+
+  public static DecreaseSizeLogSegmentView wrap(final MemorySegment segment) {
+    return new DecreaseSizeLogSegmentView(segment, 0);
+  }
+
+  public DecreaseSizeLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DecreaseSizeLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public DecreaseSizeLog read() {
+    return MemorySegmentUtil.read(segment, offset, DecreaseSizeLog.BYTES, DecreaseSizeLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long priceUsd() {
+    return getInt64LE(segment, offset + PRICE_USD_OFFSET);
+  }
+
+  public long sizeDelta() {
+    return getInt64LE(segment, offset + SIZE_DELTA_OFFSET);
+  }
+
+  public long sizeDeltaUsd() {
+    return getInt64LE(segment, offset + SIZE_DELTA_USD_OFFSET);
+  }
+
+  public long settledReturns() {
+    return getInt64LE(segment, offset + SETTLED_RETURNS_OFFSET);
+  }
+
+  public long deltaProfitUsd() {
+    return getInt64LE(segment, offset + DELTA_PROFIT_USD_OFFSET);
+  }
+
+  public long deltaLossUsd() {
+    return getInt64LE(segment, offset + DELTA_LOSS_USD_OFFSET);
+  }
+
+  public long feeAmount() {
+    return getInt64LE(segment, offset + FEE_AMOUNT_OFFSET);
+  }
+}
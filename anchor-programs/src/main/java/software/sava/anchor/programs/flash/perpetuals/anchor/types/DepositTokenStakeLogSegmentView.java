@@ -0,0 +1,88 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class DepositTokenStakeLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int TOKEN_STAKE_OFFSET = OWNER_OFFSET + 32;
+  private static final int DEPOSIT_AMOUNT_OFFSET = TOKEN_STAKE_OFFSET + 32;
+  private static final int CURRENT_TIMESTAMP_OFFSET = DEPOSIT_AMOUNT_OFFSET + 8;
+  private static final int LAST_UPDATED_TIMESTAMP_OFFSET = CURRENT_TIMESTAMP_OFFSET + 8;
+  private static final int LEVEL_OFFSET = LAST_UPDATED_TIMESTAMP_OFFSET + 8;
+  private static final int ACTIVE_STAKE_AMOUNT_OFFSET = LEVEL_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DepositTokenStakeLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DepositTokenStakeLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DepositTokenStakeLogSegmentView(segment, offset);
+  }
+
+  public static DepositTokenStakeLogSegmentView wrap(final MemorySegment segment) {
+    return new DepositTokenStakeLogSegmentView(segment, 0);
+  }
+
+  public DepositTokenStakeLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DepositTokenStakeLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public DepositTokenStakeLog read() {
+    return MemorySegmentUtil.read(segment, offset, DepositTokenStakeLog.BYTES, DepositTokenStakeLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey tokenStake() {
+    return readPubKey(segment, offset + TOKEN_STAKE_OFFSET);
+  }
+
+  public long depositAmount() {
+    return getInt64LE(segment, offset + DEPOSIT_AMOUNT_OFFSET);
+  }
+
+  public long currentTimestamp() {
+    return getInt64LE(segment, offset + CURRENT_TIMESTAMP_OFFSET);
+  }
+
+  public long lastUpdatedTimestamp() {
+    return getInt64LE(segment, offset + LAST_UPDATED_TIMESTAMP_OFFSET);
+  }
+
+  public int level() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + LEVEL_OFFSET) & 0xFF;
+  }
+
+  public long activeStakeAmount() {
+    return getInt64LE(segment, offset + ACTIVE_STAKE_AMOUNT_OFFSET);
+  }
+}
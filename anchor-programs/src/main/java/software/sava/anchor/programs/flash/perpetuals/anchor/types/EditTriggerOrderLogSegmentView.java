@@ -0,0 +1,94 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class EditTriggerOrderLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int PRICE_OFFSET = MARKET_OFFSET + 32;
+  private static final int PRICE_EXPONENT_OFFSET = PRICE_OFFSET + 8;
+  private static final int SIZE_AMOUNT_OFFSET = PRICE_EXPONENT_OFFSET + 4;
+  private static final int SIZE_USD_OFFSET = SIZE_AMOUNT_OFFSET + 8;
+  private static final int RECEIVE_CUSTODY_UID_OFFSET = SIZE_USD_OFFSET + 8;
+  private static final int IS_STOP_LOSS_OFFSET = RECEIVE_CUSTODY_UID_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EditTriggerOrderLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EditTriggerOrderLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EditTriggerOrderLogSegmentView(segment, offset);
+  }
+
+  public static EditTriggerOrderLogSegmentView wrap(final MemorySegment segment) {
+    return new EditTriggerOrderLogSegmentView(segment, 0);
+  }
+
+  public EditTriggerOrderLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EditTriggerOrderLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public EditTriggerOrderLog read() {
+    return MemorySegmentUtil.read(segment, offset, EditTriggerOrderLog.BYTES, EditTriggerOrderLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long price() {
+    return getInt64LE(segment, offset + PRICE_OFFSET);
+  }
+
+  public int priceExponent() {
+    return getInt32LE(segment, offset + PRICE_EXPONENT_OFFSET);
+  }
+
+  public long sizeAmount() {
+    return getInt64LE(segment, offset + SIZE_AMOUNT_OFFSET);
+  }
+
+  public long sizeUsd() {
+    return getInt64LE(segment, offset + SIZE_USD_OFFSET);
+  }
+
+  public int receiveCustodyUid() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + RECEIVE_CUSTODY_UID_OFFSET) & 0xFF;
+  }
+
+  public boolean isStopLoss() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + IS_STOP_LOSS_OFFSET) == 1;
+  }
+}
@@ -0,0 +1,95 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class FlpStakeSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FlpStakeSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FlpStakeSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FlpStakeSegmentView(segment, offset);
+  }
+
+  public static FlpStakeSegmentView wrap(final MemorySegment segment) {
+    return new FlpStakeSegmentView(segment, 0);
+  }
+
+  public FlpStakeSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FlpStakeSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public FlpStake read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, FlpStake.BYTES, FlpStake::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + FlpStake.OWNER_OFFSET);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(segment, offset + FlpStake.POOL_OFFSET);
+  }
+
+  public StakeStats stakeStats() {
+    return MemorySegmentUtil.read(segment, offset + FlpStake.STAKE_STATS_OFFSET, StakeStats.BYTES, StakeStats::read);
+  }
+
+  public BigInteger rewardSnapshot() {
+    return getInt128LE(segment, offset + FlpStake.REWARD_SNAPSHOT_OFFSET);
+  }
+
+  public long rewardSnapshotHigh() {
+    return getInt128High(segment, offset + FlpStake.REWARD_SNAPSHOT_OFFSET);
+  }
+
+  public long rewardSnapshotLow() {
+    return getInt128Low(segment, offset + FlpStake.REWARD_SNAPSHOT_OFFSET);
+  }
+
+  public long unclaimedRewards() {
+    return getInt64LE(segment, offset + FlpStake.UNCLAIMED_REWARDS_OFFSET);
+  }
+
+  public long feeShareBps() {
+    return getInt64LE(segment, offset + FlpStake.FEE_SHARE_BPS_OFFSET);
+  }
+
+  public int isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + FlpStake.IS_INITIALIZED_OFFSET) & 0xFF;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + FlpStake.BUMP_OFFSET) & 0xFF;
+  }
+}
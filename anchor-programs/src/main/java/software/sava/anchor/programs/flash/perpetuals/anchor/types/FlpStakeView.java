@@ -0,0 +1,82 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.math.BigInteger;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class FlpStakeView {
+
+  private byte[] _data;
+  private int offset;
+
+  private FlpStakeView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static FlpStakeView wrap(final byte[] _data, final int offset) {
+    return new FlpStakeView(_data, offset);
+  }
+
+  public static FlpStakeView wrap(final byte[] _data) {
+    return new FlpStakeView(_data, 0);
+  }
+
+  public FlpStakeView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public FlpStakeView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public FlpStake read(final PublicKey _address) {
+    return FlpStake.read(_address, _data, offset);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + FlpStake.OWNER_OFFSET);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(_data, offset + FlpStake.POOL_OFFSET);
+  }
+
+  public StakeStats stakeStats() {
+    return StakeStats.read(_data, offset + FlpStake.STAKE_STATS_OFFSET);
+  }
+
+  public BigInteger rewardSnapshot() {
+    return getInt128LE(_data, offset + FlpStake.REWARD_SNAPSHOT_OFFSET);
+  }
+
+  public long unclaimedRewards() {
+    return getInt64LE(_data, offset + FlpStake.UNCLAIMED_REWARDS_OFFSET);
+  }
+
+  public long feeShareBps() {
+    return getInt64LE(_data, offset + FlpStake.FEE_SHARE_BPS_OFFSET);
+  }
+
+  public int isInitialized() {
+    return _data[offset + FlpStake.IS_INITIALIZED_OFFSET] & 0xFF;
+  }
+
+  public int bump() {
+    return _data[offset + FlpStake.BUMP_OFFSET] & 0xFF;
+  }
+}
@@ -0,0 +1,82 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class IncreaseSizeLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int PRICE_USD_OFFSET = MARKET_OFFSET + 32;
+  private static final int SIZE_AMOUNT_OFFSET = PRICE_USD_OFFSET + 8;
+  private static final int SIZE_USD_OFFSET = SIZE_AMOUNT_OFFSET + 8;
+  private static final int FEE_AMOUNT_OFFSET = SIZE_USD_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private IncreaseSizeLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static IncreaseSizeLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new IncreaseSizeLogSegmentView(segment, offset);
+  }
+
+  public static IncreaseSizeLogSegmentView wrap(final MemorySegment segment) {
+    return new IncreaseSizeLogSegmentView(segment, 0);
+  }
+
+  public IncreaseSizeLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public IncreaseSizeLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public IncreaseSizeLog read() {
+    return MemorySegmentUtil.read(segment, offset, IncreaseSizeLog.BYTES, IncreaseSizeLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long priceUsd() {
+    return getInt64LE(segment, offset + PRICE_USD_OFFSET);
+  }
+
+  public long sizeAmount() {
+    return getInt64LE(segment, offset + SIZE_AMOUNT_OFFSET);
+  }
+
+  public long sizeUsd() {
+    return getInt64LE(segment, offset + SIZE_USD_OFFSET);
+  }
+
+  public long feeAmount() {
+    return getInt64LE(segment, offset + FEE_AMOUNT_OFFSET);
+  }
+}
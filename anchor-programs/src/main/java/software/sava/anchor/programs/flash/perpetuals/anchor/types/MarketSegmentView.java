@@ -0,0 +1,99 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MarketSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MarketSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MarketSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MarketSegmentView(segment, offset);
+  }
+
+  public static MarketSegmentView wrap(final MemorySegment segment) {
+    return new MarketSegmentView(segment, 0);
+  }
+
+  public MarketSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarketSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Market read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Market.BYTES, Market::read);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(segment, offset + Market.POOL_OFFSET);
+  }
+
+  public PublicKey targetCustody() {
+    return readPubKey(segment, offset + Market.TARGET_CUSTODY_OFFSET);
+  }
+
+  public PublicKey collateralCustody() {
+    return readPubKey(segment, offset + Market.COLLATERAL_CUSTODY_OFFSET);
+  }
+
+  public Side side() {
+    return Side.values()[segment.get(ValueLayout.JAVA_BYTE, offset + Market.SIDE_OFFSET) & 0xFF];
+  }
+
+  public boolean correlation() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Market.CORRELATION_OFFSET) == 1;
+  }
+
+  public long maxPayoffBps() {
+    return getInt64LE(segment, offset + Market.MAX_PAYOFF_BPS_OFFSET);
+  }
+
+  public MarketPermissions permissions() {
+    return MemorySegmentUtil.read(segment, offset + Market.PERMISSIONS_OFFSET, MarketPermissions.BYTES, MarketPermissions::read);
+  }
+
+  public long degenExposureUsd() {
+    return getInt64LE(segment, offset + Market.DEGEN_EXPOSURE_USD_OFFSET);
+  }
+
+  public PositionStats collectivePosition() {
+    return MemorySegmentUtil.read(segment, offset + Market.COLLECTIVE_POSITION_OFFSET, PositionStats.BYTES, PositionStats::read);
+  }
+
+  public int targetCustodyUid() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Market.TARGET_CUSTODY_UID_OFFSET) & 0xFF;
+  }
+
+  public int collateralCustodyUid() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Market.COLLATERAL_CUSTODY_UID_OFFSET) & 0xFF;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Market.BUMP_OFFSET) & 0xFF;
+  }
+}
@@ -0,0 +1,95 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MarketView {
+
+  private byte[] _data;
+  private int offset;
+
+  private MarketView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MarketView wrap(final byte[] _data, final int offset) {
+    return new MarketView(_data, offset);
+  }
+
+  public static MarketView wrap(final byte[] _data) {
+    return new MarketView(_data, 0);
+  }
+
+  public MarketView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarketView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Market read(final PublicKey _address) {
+    return Market.read(_address, _data, offset);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(_data, offset + Market.POOL_OFFSET);
+  }
+
+  public PublicKey targetCustody() {
+    return readPubKey(_data, offset + Market.TARGET_CUSTODY_OFFSET);
+  }
+
+  public PublicKey collateralCustody() {
+    return readPubKey(_data, offset + Market.COLLATERAL_CUSTODY_OFFSET);
+  }
+
+  public Side side() {
+    return Side.read(_data, offset + Market.SIDE_OFFSET);
+  }
+
+  public boolean correlation() {
+    return _data[offset + Market.CORRELATION_OFFSET] == 1;
+  }
+
+  public long maxPayoffBps() {
+    return getInt64LE(_data, offset + Market.MAX_PAYOFF_BPS_OFFSET);
+  }
+
+  public MarketPermissions permissions() {
+    return MarketPermissions.read(_data, offset + Market.PERMISSIONS_OFFSET);
+  }
+
+  public long degenExposureUsd() {
+    return getInt64LE(_data, offset + Market.DEGEN_EXPOSURE_USD_OFFSET);
+  }
+
+  public PositionStats collectivePosition() {
+    return PositionStats.read(_data, offset + Market.COLLECTIVE_POSITION_OFFSET);
+  }
+
+  public int targetCustodyUid() {
+    return _data[offset + Market.TARGET_CUSTODY_UID_OFFSET] & 0xFF;
+  }
+
+  public int collateralCustodyUid() {
+    return _data[offset + Market.COLLATERAL_CUSTODY_UID_OFFSET] & 0xFF;
+  }
+
+  public int bump() {
+    return _data[offset + Market.BUMP_OFFSET] & 0xFF;
+  }
+}
@@ -0,0 +1,91 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MultisigSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MultisigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MultisigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MultisigSegmentView(segment, offset);
+  }
+
+  public static MultisigSegmentView wrap(final MemorySegment segment) {
+    return new MultisigSegmentView(segment, 0);
+  }
+
+  public MultisigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MultisigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Multisig read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Multisig.BYTES, Multisig::read);
+  }
+
+  public int numSigners() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Multisig.NUM_SIGNERS_OFFSET) & 0xFF;
+  }
+
+  public int numSigned() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Multisig.NUM_SIGNED_OFFSET) & 0xFF;
+  }
+
+  public int minSignatures() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Multisig.MIN_SIGNATURES_OFFSET) & 0xFF;
+  }
+
+  public int instructionAccountsLen() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Multisig.INSTRUCTION_ACCOUNTS_LEN_OFFSET) & 0xFF;
+  }
+
+  public int instructionDataLen() {
+    return getInt16LE(segment, offset + Multisig.INSTRUCTION_DATA_LEN_OFFSET);
+  }
+
+  public long instructionHash() {
+    return getInt64LE(segment, offset + Multisig.INSTRUCTION_HASH_OFFSET);
+  }
+
+  public PublicKey signers(final int index) {
+    Objects.checkIndex(index, Multisig.SIGNERS_LEN);
+    return readPubKey(segment, offset + Multisig.SIGNERS_OFFSET + (index * 32L));
+  }
+
+  public byte[] signed() {
+    return copy(segment, offset + Multisig.SIGNED_OFFSET, 6);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Multisig.BUMP_OFFSET) & 0xFF;
+  }
+}
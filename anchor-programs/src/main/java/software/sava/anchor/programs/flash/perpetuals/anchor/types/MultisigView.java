@@ -0,0 +1,89 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MultisigView {
+
+  private byte[] _data;
+  private int offset;
+
+  private MultisigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MultisigView wrap(final byte[] _data, final int offset) {
+    return new MultisigView(_data, offset);
+  }
+
+  public static MultisigView wrap(final byte[] _data) {
+    return new MultisigView(_data, 0);
+  }
+
+  public MultisigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MultisigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Multisig read(final PublicKey _address) {
+    return Multisig.read(_address, _data, offset);
+  }
+
+  public int numSigners() {
+    return _data[offset + Multisig.NUM_SIGNERS_OFFSET] & 0xFF;
+  }
+
+  public int numSigned() {
+    return _data[offset + Multisig.NUM_SIGNED_OFFSET] & 0xFF;
+  }
+
+  public int minSignatures() {
+    return _data[offset + Multisig.MIN_SIGNATURES_OFFSET] & 0xFF;
+  }
+
+  public int instructionAccountsLen() {
+    return _data[offset + Multisig.INSTRUCTION_ACCOUNTS_LEN_OFFSET] & 0xFF;
+  }
+
+  public int instructionDataLen() {
+    return getInt16LE(_data, offset + Multisig.INSTRUCTION_DATA_LEN_OFFSET);
+  }
+
+  public long instructionHash() {
+    return getInt64LE(_data, offset + Multisig.INSTRUCTION_HASH_OFFSET);
+  }
+
+  public PublicKey signers(final int index) {
+    Objects.checkIndex(index, Multisig.SIGNERS_LEN);
+    return readPubKey(_data, offset + Multisig.SIGNERS_OFFSET + (index * 32));
+  }
+
+  public byte[] signed() {
+    final int from = offset + Multisig.SIGNED_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 6);
+  }
+
+  public int bump() {
+    return _data[offset + Multisig.BUMP_OFFSET] & 0xFF;
+  }
+}
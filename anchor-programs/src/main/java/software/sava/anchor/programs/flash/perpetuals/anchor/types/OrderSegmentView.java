@@ -0,0 +1,115 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class OrderSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private OrderSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static OrderSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new OrderSegmentView(segment, offset);
+  }
+
+  public static OrderSegmentView wrap(final MemorySegment segment) {
+    return new OrderSegmentView(segment, 0);
+  }
+
+  public OrderSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public OrderSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Order read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Order.BYTES, Order::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Order.OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + Order.MARKET_OFFSET);
+  }
+
+  public LimitOrder limitOrders(final int index) {
+    Objects.checkIndex(index, Order.LIMIT_ORDERS_LEN);
+    return MemorySegmentUtil.read(segment, offset + Order.LIMIT_ORDERS_OFFSET + (index * LimitOrder.BYTESL), LimitOrder.BYTES, LimitOrder::read);
+  }
+
+  public TriggerOrder takeProfitOrders(final int index) {
+    Objects.checkIndex(index, Order.TAKE_PROFIT_ORDERS_LEN);
+    return MemorySegmentUtil.read(segment, offset + Order.TAKE_PROFIT_ORDERS_OFFSET + (index * TriggerOrder.BYTESL), TriggerOrder.BYTES, TriggerOrder::read);
+  }
+
+  public TriggerOrder stopLossOrders(final int index) {
+    Objects.checkIndex(index, Order.STOP_LOSS_ORDERS_LEN);
+    return MemorySegmentUtil.read(segment, offset + Order.STOP_LOSS_ORDERS_OFFSET + (index * TriggerOrder.BYTESL), TriggerOrder.BYTES, TriggerOrder::read);
+  }
+
+  public boolean isInitialised() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.IS_INITIALISED_OFFSET) == 1;
+  }
+
+  public int openOrders() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.OPEN_ORDERS_OFFSET) & 0xFF;
+  }
+
+  public int openSl() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.OPEN_SL_OFFSET) & 0xFF;
+  }
+
+  public int openTp() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.OPEN_TP_OFFSET) & 0xFF;
+  }
+
+  public int inactiveSl() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.INACTIVE_SL_OFFSET) & 0xFF;
+  }
+
+  public int inactiveTp() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.INACTIVE_TP_OFFSET) & 0xFF;
+  }
+
+  public int activeOrders() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.ACTIVE_ORDERS_OFFSET) & 0xFF;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long referenceTimestamp() {
+    return getInt64LE(segment, offset + Order.REFERENCE_TIMESTAMP_OFFSET);
+  }
+
+  public long executionCount() {
+    return getInt64LE(segment, offset + Order.EXECUTION_COUNT_OFFSET);
+  }
+}
@@ -0,0 +1,112 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class OrderView {
+
+  private byte[] _data;
+  private int offset;
+
+  private OrderView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static OrderView wrap(final byte[] _data, final int offset) {
+    return new OrderView(_data, offset);
+  }
+
+  public static OrderView wrap(final byte[] _data) {
+    return new OrderView(_data, 0);
+  }
+
+  public OrderView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public OrderView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Order read(final PublicKey _address) {
+    return Order.read(_address, _data, offset);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Order.OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(_data, offset + Order.MARKET_OFFSET);
+  }
+
+  public LimitOrder limitOrders(final int index) {
+    Objects.checkIndex(index, Order.LIMIT_ORDERS_LEN);
+    return LimitOrder.read(_data, offset + Order.LIMIT_ORDERS_OFFSET + (index * LimitOrder.BYTES));
+  }
+
+  public TriggerOrder takeProfitOrders(final int index) {
+    Objects.checkIndex(index, Order.TAKE_PROFIT_ORDERS_LEN);
+    return TriggerOrder.read(_data, offset + Order.TAKE_PROFIT_ORDERS_OFFSET + (index * TriggerOrder.BYTES));
+  }
+
+  public TriggerOrder stopLossOrders(final int index) {
+    Objects.checkIndex(index, Order.STOP_LOSS_ORDERS_LEN);
+    return TriggerOrder.read(_data, offset + Order.STOP_LOSS_ORDERS_OFFSET + (index * TriggerOrder.BYTES));
+  }
+
+  public boolean isInitialised() {
+    return _data[offset + Order.IS_INITIALISED_OFFSET] == 1;
+  }
+
+  public int openOrders() {
+    return _data[offset + Order.OPEN_ORDERS_OFFSET] & 0xFF;
+  }
+
+  public int openSl() {
+    return _data[offset + Order.OPEN_SL_OFFSET] & 0xFF;
+  }
+
+  public int openTp() {
+    return _data[offset + Order.OPEN_TP_OFFSET] & 0xFF;
+  }
+
+  public int inactiveSl() {
+    return _data[offset + Order.INACTIVE_SL_OFFSET] & 0xFF;
+  }
+
+  public int inactiveTp() {
+    return _data[offset + Order.INACTIVE_TP_OFFSET] & 0xFF;
+  }
+
+  public int activeOrders() {
+    return _data[offset + Order.ACTIVE_ORDERS_OFFSET] & 0xFF;
+  }
+
+  public int bump() {
+    return _data[offset + Order.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long referenceTimestamp() {
+    return getInt64LE(_data, offset + Order.REFERENCE_TIMESTAMP_OFFSET);
+  }
+
+  public long executionCount() {
+    return getInt64LE(_data, offset + Order.EXECUTION_COUNT_OFFSET);
+  }
+}
@@ -0,0 +1,46 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+
+public final class PerpetualsSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PerpetualsSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PerpetualsSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PerpetualsSegmentView(segment, offset);
+  }
+
+  public static PerpetualsSegmentView wrap(final MemorySegment segment) {
+    return new PerpetualsSegmentView(segment, 0);
+  }
+
+  public PerpetualsSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PerpetualsSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Permissions permissions() {
+    return MemorySegmentUtil.read(segment, offset + Perpetuals.PERMISSIONS_OFFSET, Permissions.BYTES, Permissions::read);
+  }
+}
@@ -0,0 +1,48 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+public final class PerpetualsView {
+
+  private byte[] _data;
+  private int offset;
+
+  private PerpetualsView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static PerpetualsView wrap(final byte[] _data, final int offset) {
+    return new PerpetualsView(_data, offset);
+  }
+
+  public static PerpetualsView wrap(final byte[] _data) {
+    return new PerpetualsView(_data, 0);
+  }
+
+  public PerpetualsView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public PerpetualsView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Perpetuals read(final PublicKey _address) {
+    return Perpetuals.read(_address, _data, offset);
+  }
+
+  public Permissions permissions() {
+    return Permissions.read(_data, offset + Perpetuals.PERMISSIONS_OFFSET);
+  }
+}
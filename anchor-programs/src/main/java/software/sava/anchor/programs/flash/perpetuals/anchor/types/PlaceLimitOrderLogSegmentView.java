@@ -0,0 +1,149 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class PlaceLimitOrderLogSegmentView {
+
+  private static final int OWNER_OFFSET = 0;
+  private static final int MARKET_OFFSET = OWNER_OFFSET + 32;
+  private static final int LIMIT_PRICE_OFFSET = MARKET_OFFSET + 32;
+  private static final int LIMIT_PRICE_EXPONENT_OFFSET = LIMIT_PRICE_OFFSET + 8;
+  private static final int SIZE_AMOUNT_OFFSET = LIMIT_PRICE_EXPONENT_OFFSET + 4;
+  private static final int SIZE_USD_OFFSET = SIZE_AMOUNT_OFFSET + 8;
+  private static final int RESERVE_PRICE_OFFSET = SIZE_USD_OFFSET + 8;
+  private static final int RESERVE_PRICE_EXPONENT_OFFSET = RESERVE_PRICE_OFFSET + 8;
+  private static final int RESERVE_AMOUNT_OFFSET = RESERVE_PRICE_EXPONENT_OFFSET + 4;
+  private static final int RESERVE_USD_OFFSET = RESERVE_AMOUNT_OFFSET + 8;
+  private static final int STOP_LOSS_PRICE_OFFSET = RESERVE_USD_OFFSET + 8;
+  private static final int STOP_LOSS_PRICE_EXPONENT_OFFSET = STOP_LOSS_PRICE_OFFSET + 8;
+  private static final int TAKE_PROFIT_PRICE_OFFSET = STOP_LOSS_PRICE_EXPONENT_OFFSET + 4;
+  private static final int TAKE_PROFIT_PRICE_EXPONENT_OFFSET = TAKE_PROFIT_PRICE_OFFSET + 8;
+  private static final int RECEIVE_CUSTODY_UID_OFFSET = TAKE_PROFIT_PRICE_EXPONENT_OFFSET + 4;
+  private static final int ORACLE_ACCOUNT_TIME_OFFSET = RECEIVE_CUSTODY_UID_OFFSET + 1;
+  private static final int ORACLE_ACCOUNT_TYPE_OFFSET = ORACLE_ACCOUNT_TIME_OFFSET + 8;
+  private static final int ORACLE_ACCOUNT_PRICE_OFFSET = ORACLE_ACCOUNT_TYPE_OFFSET + 1;
+  private static final int ORACLE_ACCOUNT_PRICE_EXPONENT_OFFSET = ORACLE_ACCOUNT_PRICE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PlaceLimitOrderLogSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PlaceLimitOrderLogSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PlaceLimitOrderLogSegmentView(segment, offset);
+  }
+
+  public static PlaceLimitOrderLogSegmentView wrap(final MemorySegment segment) {
+    return new PlaceLimitOrderLogSegmentView(segment, 0);
+  }
+
+  public PlaceLimitOrderLogSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PlaceLimitOrderLogSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public PlaceLimitOrderLog read() {
+    return MemorySegmentUtil.read(segment, offset, PlaceLimitOrderLog.BYTES, PlaceLimitOrderLog::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + MARKET_OFFSET);
+  }
+
+  public long limitPrice() {
+    return getInt64LE(segment, offset + LIMIT_PRICE_OFFSET);
+  }
+
+  public int limitPriceExponent() {
+    return getInt32LE(segment, offset + LIMIT_PRICE_EXPONENT_OFFSET);
+  }
+
+  public long sizeAmount() {
+    return getInt64LE(segment, offset + SIZE_AMOUNT_OFFSET);
+  }
+
+  public long sizeUsd() {
+    return getInt64LE(segment, offset + SIZE_USD_OFFSET);
+  }
+
+  public long reservePrice() {
+    return getInt64LE(segment, offset + RESERVE_PRICE_OFFSET);
+  }
+
+  public int reservePriceExponent() {
+    return getInt32LE(segment, offset + RESERVE_PRICE_EXPONENT_OFFSET);
+  }
+
+  public long reserveAmount() {
+    return getInt64LE(segment, offset + RESERVE_AMOUNT_OFFSET);
+  }
+
+  public long reserveUsd() {
+    return getInt64LE(segment, offset + RESERVE_USD_OFFSET);
+  }
+
+  public long stopLossPrice() {
+    return getInt64LE(segment, offset + STOP_LOSS_PRICE_OFFSET);
+  }
+
+  public int stopLossPriceExponent() {
+    return getInt32LE(segment, offset + STOP_LOSS_PRICE_EXPONENT_OFFSET);
+  }
+
+  public long takeProfitPrice() {
+    return getInt64LE(segment, offset + TAKE_PROFIT_PRICE_OFFSET);
+  }
+
+  public int takeProfitPriceExponent() {
+    return getInt32LE(segment, offset + TAKE_PROFIT_PRICE_EXPONENT_OFFSET);
+  }
+
+  public int receiveCustodyUid() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + RECEIVE_CUSTODY_UID_OFFSET) & 0xFF;
+  }
+
+  public long oracleAccountTime() {
+    return getInt64LE(segment, offset + ORACLE_ACCOUNT_TIME_OFFSET);
+  }
+
+  public int oracleAccountType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ORACLE_ACCOUNT_TYPE_OFFSET) & 0xFF;
+  }
+
+  public long oracleAccountPrice() {
+    return getInt64LE(segment, offset + ORACLE_ACCOUNT_PRICE_OFFSET);
+  }
+
+  public int oracleAccountPriceExponent() {
+    return getInt32LE(segment, offset + ORACLE_ACCOUNT_PRICE_EXPONENT_OFFSET);
+  }
+}
@@ -0,0 +1,259 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Off-heap counterpart of PoolView, the offsets after the name and the three vectors are resolved once per wrap.
+public final class PoolSegmentView {
+
+  private static final int PERMISSIONS_OFFSET = 0;
+  private static final int INCEPTION_TIME_OFFSET = PERMISSIONS_OFFSET + Permissions.BYTES;
+  private static final int LP_MINT_OFFSET = INCEPTION_TIME_OFFSET + 8;
+  private static final int ORACLE_AUTHORITY_OFFSET = LP_MINT_OFFSET + 32;
+  private static final int STAKED_LP_VAULT_OFFSET = ORACLE_AUTHORITY_OFFSET + 32;
+  private static final int REWARD_CUSTODY_OFFSET = STAKED_LP_VAULT_OFFSET + 32;
+  private static final int CUSTODIES_OFFSET = REWARD_CUSTODY_OFFSET + 32;
+
+  // Relative to the end of the markets vector.
+  private static final int MAX_AUM_USD_OFFSET = 0;
+  private static final int BUFFER_OFFSET = MAX_AUM_USD_OFFSET + 8;
+  private static final int RAW_AUM_USD_OFFSET = BUFFER_OFFSET + 8;
+  private static final int EQUITY_USD_OFFSET = RAW_AUM_USD_OFFSET + 8;
+  private static final int TOTAL_STAKED_OFFSET = EQUITY_USD_OFFSET + 8;
+  private static final int STAKING_FEE_SHARE_BPS_OFFSET = TOTAL_STAKED_OFFSET + StakeStats.BYTES;
+  private static final int BUMP_OFFSET = STAKING_FEE_SHARE_BPS_OFFSET + 8;
+  private static final int LP_MINT_BUMP_OFFSET = BUMP_OFFSET + 1;
+  private static final int STAKED_LP_VAULT_BUMP_OFFSET = LP_MINT_BUMP_OFFSET + 1;
+  private static final int VP_VOLUME_FACTOR_OFFSET = STAKED_LP_VAULT_BUMP_OFFSET + 1;
+  private static final int UNIQUE_CUSTODY_COUNT_OFFSET = VP_VOLUME_FACTOR_OFFSET + 1;
+  private static final int STAKING_FEE_BOOST_BPS_OFFSET = UNIQUE_CUSTODY_COUNT_OFFSET + 1 + Pool.PADDING_LEN;
+  private static final int COMPOUNDING_MINT_OFFSET = STAKING_FEE_BOOST_BPS_OFFSET + (Pool.STAKING_FEE_BOOST_BPS_LEN * 8);
+  private static final int COMPOUNDING_LP_VAULT_OFFSET = COMPOUNDING_MINT_OFFSET + 32;
+  private static final int COMPOUNDING_STATS_OFFSET = COMPOUNDING_LP_VAULT_OFFSET + 32;
+  private static final int COMPOUNDING_MINT_BUMP_OFFSET = COMPOUNDING_STATS_OFFSET + CompoundingStats.BYTES;
+  private static final int COMPOUNDING_LP_VAULT_BUMP_OFFSET = COMPOUNDING_MINT_BUMP_OFFSET + 1;
+  private static final int MIN_LP_PRICE_USD_OFFSET = COMPOUNDING_LP_VAULT_BUMP_OFFSET + 1;
+  private static final int MAX_LP_PRICE_USD_OFFSET = MIN_LP_PRICE_USD_OFFSET + 8;
+  private static final int LP_PRICE_OFFSET = MAX_LP_PRICE_USD_OFFSET + 8;
+  private static final int COMPOUNDING_LP_PRICE_OFFSET = LP_PRICE_OFFSET + 8;
+  private static final int LAST_UPDATED_TIMESTAMP_OFFSET = COMPOUNDING_LP_PRICE_OFFSET + 8;
+  private static final int FEES_OBLIGATION_USD_OFFSET = LAST_UPDATED_TIMESTAMP_OFFSET + 8;
+  private static final int REBATE_OBLIGATION_USD_OFFSET = FEES_OBLIGATION_USD_OFFSET + 8;
+  private static final int THRESHOLD_USD_OFFSET = REBATE_OBLIGATION_USD_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+  private long nameEnd;
+  private long ratiosOffset;
+  private long marketsOffset;
+  private long tailOffset;
+
+  private PoolSegmentView(final MemorySegment segment, final long offset) {
+    rewrap(segment, offset);
+  }
+
+  public static PoolSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PoolSegmentView(segment, offset);
+  }
+
+  public static PoolSegmentView wrap(final MemorySegment segment) {
+    return new PoolSegmentView(segment, 0);
+  }
+
+  public PoolSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    final long nameOffset = offset + Pool.NAME_OFFSET;
+    this.nameEnd = nameOffset + Integer.BYTES + getInt32LE(segment, nameOffset);
+    final long custodiesOffset = nameEnd + CUSTODIES_OFFSET;
+    this.ratiosOffset = custodiesOffset + Integer.BYTES + (getInt32LE(segment, custodiesOffset) * 32L);
+    this.marketsOffset = ratiosOffset + Integer.BYTES + (getInt32LE(segment, ratiosOffset) * (long) TokenRatios.BYTES);
+    this.tailOffset = marketsOffset + Integer.BYTES + (getInt32LE(segment, marketsOffset) * 32L);
+    return this;
+  }
+
+  public PoolSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Pool read(final PublicKey _address) {
+    final int length = Math.toIntExact(tailOffset + THRESHOLD_USD_OFFSET + Long.BYTES - offset);
+    return MemorySegmentUtil.read(_address, segment, offset, length, Pool::read);
+  }
+
+  public String name() {
+    final long nameOffset = offset + Pool.NAME_OFFSET;
+    final byte[] name = copy(segment, nameOffset + Integer.BYTES, getInt32LE(segment, nameOffset));
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  public Permissions permissions() {
+    return MemorySegmentUtil.read(segment, nameEnd + PERMISSIONS_OFFSET, Permissions.BYTES, Permissions::read);
+  }
+
+  public long inceptionTime() {
+    return getInt64LE(segment, nameEnd + INCEPTION_TIME_OFFSET);
+  }
+
+  public PublicKey lpMint() {
+    return readPubKey(segment, nameEnd + LP_MINT_OFFSET);
+  }
+
+  public PublicKey oracleAuthority() {
+    return readPubKey(segment, nameEnd + ORACLE_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey stakedLpVault() {
+    return readPubKey(segment, nameEnd + STAKED_LP_VAULT_OFFSET);
+  }
+
+  public PublicKey rewardCustody() {
+    return readPubKey(segment, nameEnd + REWARD_CUSTODY_OFFSET);
+  }
+
+  public int numCustodies() {
+    return getInt32LE(segment, nameEnd + CUSTODIES_OFFSET);
+  }
+
+  public PublicKey custodies(final int index) {
+    Objects.checkIndex(index, numCustodies());
+    return readPubKey(segment, nameEnd + CUSTODIES_OFFSET + Integer.BYTES + (index * 32L));
+  }
+
+  public int numRatios() {
+    return getInt32LE(segment, ratiosOffset);
+  }
+
+  public TokenRatios ratios(final int index) {
+    Objects.checkIndex(index, numRatios());
+    return MemorySegmentUtil.read(segment, ratiosOffset + Integer.BYTES + (index * (long) TokenRatios.BYTES), TokenRatios.BYTES, TokenRatios::read);
+  }
+
+  public int numMarkets() {
+    return getInt32LE(segment, marketsOffset);
+  }
+
+  public PublicKey markets(final int index) {
+    Objects.checkIndex(index, numMarkets());
+    return readPubKey(segment, marketsOffset + Integer.BYTES + (index * 32L));
+  }
+
+  public long maxAumUsd() {
+    return getInt64LE(segment, tailOffset + MAX_AUM_USD_OFFSET);
+  }
+
+  public long buffer() {
+    return getInt64LE(segment, tailOffset + BUFFER_OFFSET);
+  }
+
+  public long rawAumUsd() {
+    return getInt64LE(segment, tailOffset + RAW_AUM_USD_OFFSET);
+  }
+
+  public long equityUsd() {
+    return getInt64LE(segment, tailOffset + EQUITY_USD_OFFSET);
+  }
+
+  public StakeStats totalStaked() {
+    return MemorySegmentUtil.read(segment, tailOffset + TOTAL_STAKED_OFFSET, StakeStats.BYTES, StakeStats::read);
+  }
+
+  public long stakingFeeShareBps() {
+    return getInt64LE(segment, tailOffset + STAKING_FEE_SHARE_BPS_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, tailOffset + BUMP_OFFSET) & 0xFF;
+  }
+
+  public int lpMintBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, tailOffset + LP_MINT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public int stakedLpVaultBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, tailOffset + STAKED_LP_VAULT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public int vpVolumeFactor() {
+    return segment.get(ValueLayout.JAVA_BYTE, tailOffset + VP_VOLUME_FACTOR_OFFSET) & 0xFF;
+  }
+
+  public int uniqueCustodyCount() {
+    return segment.get(ValueLayout.JAVA_BYTE, tailOffset + UNIQUE_CUSTODY_COUNT_OFFSET) & 0xFF;
+  }
+
+  public long stakingFeeBoostBps(final int index) {
+    Objects.checkIndex(index, Pool.STAKING_FEE_BOOST_BPS_LEN);
+    return getInt64LE(segment, tailOffset + STAKING_FEE_BOOST_BPS_OFFSET + (index * 8L));
+  }
+
+  public PublicKey compoundingMint() {
+    return readPubKey(segment, tailOffset + COMPOUNDING_MINT_OFFSET);
+  }
+
+  public PublicKey compoundingLpVault() {
+    return readPubKey(segment, tailOffset + COMPOUNDING_LP_VAULT_OFFSET);
+  }
+
+  public CompoundingStats compoundingStats() {
+    return MemorySegmentUtil.read(segment, tailOffset + COMPOUNDING_STATS_OFFSET, CompoundingStats.BYTES, CompoundingStats::read);
+  }
+
+  public int compoundingMintBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, tailOffset + COMPOUNDING_MINT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public int compoundingLpVaultBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, tailOffset + COMPOUNDING_LP_VAULT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public long minLpPriceUsd() {
+    return getInt64LE(segment, tailOffset + MIN_LP_PRICE_USD_OFFSET);
+  }
+
+  public long maxLpPriceUsd() {
+    return getInt64LE(segment, tailOffset + MAX_LP_PRICE_USD_OFFSET);
+  }
+
+  public long lpPrice() {
+    return getInt64LE(segment, tailOffset + LP_PRICE_OFFSET);
+  }
+
+  public long compoundingLpPrice() {
+    return getInt64LE(segment, tailOffset + COMPOUNDING_LP_PRICE_OFFSET);
+  }
+
+  public long lastUpdatedTimestamp() {
+    return getInt64LE(segment, tailOffset + LAST_UPDATED_TIMESTAMP_OFFSET);
+  }
+
+  public long feesObligationUsd() {
+    return getInt64LE(segment, tailOffset + FEES_OBLIGATION_USD_OFFSET);
+  }
+
+  public long rebateObligationUsd() {
+    return getInt64LE(segment, tailOffset + REBATE_OBLIGATION_USD_OFFSET);
+  }
+
+  public long thresholdUsd() {
+    return getInt64LE(segment, tailOffset + THRESHOLD_USD_OFFSET);
+  }
+}
@@ -0,0 +1,253 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// Pool starts with a variable length name followed by the custodies, ratios and markets vectors, so the offsets of
+// every later field are resolved once per wrap from the three length prefixes.
+public final class PoolView {
+
+  private static final int PERMISSIONS_OFFSET = 0;
+  private static final int INCEPTION_TIME_OFFSET = PERMISSIONS_OFFSET + Permissions.BYTES;
+  private static final int LP_MINT_OFFSET = INCEPTION_TIME_OFFSET + 8;
+  private static final int ORACLE_AUTHORITY_OFFSET = LP_MINT_OFFSET + 32;
+  private static final int STAKED_LP_VAULT_OFFSET = ORACLE_AUTHORITY_OFFSET + 32;
+  private static final int REWARD_CUSTODY_OFFSET = STAKED_LP_VAULT_OFFSET + 32;
+  private static final int CUSTODIES_OFFSET = REWARD_CUSTODY_OFFSET + 32;
+
+  // Relative to the end of the markets vector.
+  private static final int MAX_AUM_USD_OFFSET = 0;
+  private static final int BUFFER_OFFSET = MAX_AUM_USD_OFFSET + 8;
+  private static final int RAW_AUM_USD_OFFSET = BUFFER_OFFSET + 8;
+  private static final int EQUITY_USD_OFFSET = RAW_AUM_USD_OFFSET + 8;
+  private static final int TOTAL_STAKED_OFFSET = EQUITY_USD_OFFSET + 8;
+  private static final int STAKING_FEE_SHARE_BPS_OFFSET = TOTAL_STAKED_OFFSET + StakeStats.BYTES;
+  private static final int BUMP_OFFSET = STAKING_FEE_SHARE_BPS_OFFSET + 8;
+  private static final int LP_MINT_BUMP_OFFSET = BUMP_OFFSET + 1;
+  private static final int STAKED_LP_VAULT_BUMP_OFFSET = LP_MINT_BUMP_OFFSET + 1;
+  private static final int VP_VOLUME_FACTOR_OFFSET = STAKED_LP_VAULT_BUMP_OFFSET + 1;
+  private static final int UNIQUE_CUSTODY_COUNT_OFFSET = VP_VOLUME_FACTOR_OFFSET + 1;
+  private static final int STAKING_FEE_BOOST_BPS_OFFSET = UNIQUE_CUSTODY_COUNT_OFFSET + 1 + Pool.PADDING_LEN;
+  private static final int COMPOUNDING_MINT_OFFSET = STAKING_FEE_BOOST_BPS_OFFSET + (Pool.STAKING_FEE_BOOST_BPS_LEN * 8);
+  private static final int COMPOUNDING_LP_VAULT_OFFSET = COMPOUNDING_MINT_OFFSET + 32;
+  private static final int COMPOUNDING_STATS_OFFSET = COMPOUNDING_LP_VAULT_OFFSET + 32;
+  private static final int COMPOUNDING_MINT_BUMP_OFFSET = COMPOUNDING_STATS_OFFSET + CompoundingStats.BYTES;
+  private static final int COMPOUNDING_LP_VAULT_BUMP_OFFSET = COMPOUNDING_MINT_BUMP_OFFSET + 1;
+  private static final int MIN_LP_PRICE_USD_OFFSET = COMPOUNDING_LP_VAULT_BUMP_OFFSET + 1;
+  private static final int MAX_LP_PRICE_USD_OFFSET = MIN_LP_PRICE_USD_OFFSET + 8;
+  private static final int LP_PRICE_OFFSET = MAX_LP_PRICE_USD_OFFSET + 8;
+  private static final int COMPOUNDING_LP_PRICE_OFFSET = LP_PRICE_OFFSET + 8;
+  private static final int LAST_UPDATED_TIMESTAMP_OFFSET = COMPOUNDING_LP_PRICE_OFFSET + 8;
+  private static final int FEES_OBLIGATION_USD_OFFSET = LAST_UPDATED_TIMESTAMP_OFFSET + 8;
+  private static final int REBATE_OBLIGATION_USD_OFFSET = FEES_OBLIGATION_USD_OFFSET + 8;
+  private static final int THRESHOLD_USD_OFFSET = REBATE_OBLIGATION_USD_OFFSET + 8;
+
+  private byte[] _data;
+  private int offset;
+  private int nameEnd;
+  private int ratiosOffset;
+  private int marketsOffset;
+  private int tailOffset;
+
+  private PoolView(final byte[] _data, final int offset) {
+    rewrap(_data, offset);
+  }
+
+  public static PoolView wrap(final byte[] _data, final int offset) {
+    return new PoolView(_data, offset);
+  }
+
+  public static PoolView wrap(final byte[] _data) {
+    return new PoolView(_data, 0);
+  }
+
+  public PoolView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    final int nameOffset = offset + Pool.NAME_OFFSET;
+    this.nameEnd = nameOffset + Integer.BYTES + getInt32LE(_data, nameOffset);
+    final int custodiesOffset = nameEnd + CUSTODIES_OFFSET;
+    this.ratiosOffset = custodiesOffset + Integer.BYTES + (getInt32LE(_data, custodiesOffset) * 32);
+    this.marketsOffset = ratiosOffset + Integer.BYTES + (getInt32LE(_data, ratiosOffset) * TokenRatios.BYTES);
+    this.tailOffset = marketsOffset + Integer.BYTES + (getInt32LE(_data, marketsOffset) * 32);
+    return this;
+  }
+
+  public PoolView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Pool read(final PublicKey _address) {
+    return Pool.read(_address, _data, offset);
+  }
+
+  public String name() {
+    return Borsh.string(_data, offset + Pool.NAME_OFFSET);
+  }
+
+  public Permissions permissions() {
+    return Permissions.read(_data, nameEnd + PERMISSIONS_OFFSET);
+  }
+
+  public long inceptionTime() {
+    return getInt64LE(_data, nameEnd + INCEPTION_TIME_OFFSET);
+  }
+
+  public PublicKey lpMint() {
+    return readPubKey(_data, nameEnd + LP_MINT_OFFSET);
+  }
+
+  public PublicKey oracleAuthority() {
+    return readPubKey(_data, nameEnd + ORACLE_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey stakedLpVault() {
+    return readPubKey(_data, nameEnd + STAKED_LP_VAULT_OFFSET);
+  }
+
+  public PublicKey rewardCustody() {
+    return readPubKey(_data, nameEnd + REWARD_CUSTODY_OFFSET);
+  }
+
+  public int numCustodies() {
+    return getInt32LE(_data, nameEnd + CUSTODIES_OFFSET);
+  }
+
+  public PublicKey custodies(final int index) {
+    Objects.checkIndex(index, numCustodies());
+    return readPubKey(_data, nameEnd + CUSTODIES_OFFSET + Integer.BYTES + (index * 32));
+  }
+
+  public int numRatios() {
+    return getInt32LE(_data, ratiosOffset);
+  }
+
+  public TokenRatios ratios(final int index) {
+    Objects.checkIndex(index, numRatios());
+    return TokenRatios.read(_data, ratiosOffset + Integer.BYTES + (index * TokenRatios.BYTES));
+  }
+
+  public int numMarkets() {
+    return getInt32LE(_data, marketsOffset);
+  }
+
+  public PublicKey markets(final int index) {
+    Objects.checkIndex(index, numMarkets());
+    return readPubKey(_data, marketsOffset + Integer.BYTES + (index * 32));
+  }
+
+  public long maxAumUsd() {
+    return getInt64LE(_data, tailOffset + MAX_AUM_USD_OFFSET);
+  }
+
+  public long buffer() {
+    return getInt64LE(_data, tailOffset + BUFFER_OFFSET);
+  }
+
+  public long rawAumUsd() {
+    return getInt64LE(_data, tailOffset + RAW_AUM_USD_OFFSET);
+  }
+
+  public long equityUsd() {
+    return getInt64LE(_data, tailOffset + EQUITY_USD_OFFSET);
+  }
+
+  public StakeStats totalStaked() {
+    return StakeStats.read(_data, tailOffset + TOTAL_STAKED_OFFSET);
+  }
+
+  public long stakingFeeShareBps() {
+    return getInt64LE(_data, tailOffset + STAKING_FEE_SHARE_BPS_OFFSET);
+  }
+
+  public int bump() {
+    return _data[tailOffset + BUMP_OFFSET] & 0xFF;
+  }
+
+  public int lpMintBump() {
+    return _data[tailOffset + LP_MINT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public int stakedLpVaultBump() {
+    return _data[tailOffset + STAKED_LP_VAULT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public int vpVolumeFactor() {
+    return _data[tailOffset + VP_VOLUME_FACTOR_OFFSET] & 0xFF;
+  }
+
+  public int uniqueCustodyCount() {
+    return _data[tailOffset + UNIQUE_CUSTODY_COUNT_OFFSET] & 0xFF;
+  }
+
+  public long stakingFeeBoostBps(final int index) {
+    Objects.checkIndex(index, Pool.STAKING_FEE_BOOST_BPS_LEN);
+    return getInt64LE(_data, tailOffset + STAKING_FEE_BOOST_BPS_OFFSET + (index * 8));
+  }
+
+  public PublicKey compoundingMint() {
+    return readPubKey(_data, tailOffset + COMPOUNDING_MINT_OFFSET);
+  }
+
+  public PublicKey compoundingLpVault() {
+    return readPubKey(_data, tailOffset + COMPOUNDING_LP_VAULT_OFFSET);
+  }
+
+  public CompoundingStats compoundingStats() {
+    return CompoundingStats.read(_data, tailOffset + COMPOUNDING_STATS_OFFSET);
+  }
+
+  public int compoundingMintBump() {
+    return _data[tailOffset + COMPOUNDING_MINT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public int compoundingLpVaultBump() {
+    return _data[tailOffset + COMPOUNDING_LP_VAULT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public long minLpPriceUsd() {
+    return getInt64LE(_data, tailOffset + MIN_LP_PRICE_USD_OFFSET);
+  }
+
+  public long maxLpPriceUsd() {
+    return getInt64LE(_data, tailOffset + MAX_LP_PRICE_USD_OFFSET);
+  }
+
+  public long lpPrice() {
+    return getInt64LE(_data, tailOffset + LP_PRICE_OFFSET);
+  }
+
+  public long compoundingLpPrice() {
+    return getInt64LE(_data, tailOffset + COMPOUNDING_LP_PRICE_OFFSET);
+  }
+
+  public long lastUpdatedTimestamp() {
+    return getInt64LE(_data, tailOffset + LAST_UPDATED_TIMESTAMP_OFFSET);
+  }
+
+  public long feesObligationUsd() {
+    return getInt64LE(_data, tailOffset + FEES_OBLIGATION_USD_OFFSET);
+  }
+
+  public long rebateObligationUsd() {
+    return getInt64LE(_data, tailOffset + REBATE_OBLIGATION_USD_OFFSET);
+  }
+
+  public long thresholdUsd() {
+    return getInt64LE(_data, tailOffset + THRESHOLD_USD_OFFSET);
+  }
+}
@@ -0,0 +1,156 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class PositionSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PositionSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PositionSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PositionSegmentView(segment, offset);
+  }
+
+  public static PositionSegmentView wrap(final MemorySegment segment) {
+    return new PositionSegmentView(segment, 0);
+  }
+
+  public PositionSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PositionSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Position read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Position.BYTES, Position::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Position.OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(segment, offset + Position.MARKET_OFFSET);
+  }
+
+  public PublicKey delegate() {
+    return readPubKey(segment, offset + Position.DELEGATE_OFFSET);
+  }
+
+  public long openTime() {
+    return getInt64LE(segment, offset + Position.OPEN_TIME_OFFSET);
+  }
+
+  public long updateTime() {
+    return getInt64LE(segment, offset + Position.UPDATE_TIME_OFFSET);
+  }
+
+  public OraclePrice entryPrice() {
+    return MemorySegmentUtil.read(segment, offset + Position.ENTRY_PRICE_OFFSET, OraclePrice.BYTES, OraclePrice::read);
+  }
+
+  public long sizeAmount() {
+    return getInt64LE(segment, offset + Position.SIZE_AMOUNT_OFFSET);
+  }
+
+  public long sizeUsd() {
+    return getInt64LE(segment, offset + Position.SIZE_USD_OFFSET);
+  }
+
+  public long lockedAmount() {
+    return getInt64LE(segment, offset + Position.LOCKED_AMOUNT_OFFSET);
+  }
+
+  public long lockedUsd() {
+    return getInt64LE(segment, offset + Position.LOCKED_USD_OFFSET);
+  }
+
+  public long priceImpactUsd() {
+    return getInt64LE(segment, offset + Position.PRICE_IMPACT_USD_OFFSET);
+  }
+
+  public long collateralUsd() {
+    return getInt64LE(segment, offset + Position.COLLATERAL_USD_OFFSET);
+  }
+
+  public long unsettledValueUsd() {
+    return getInt64LE(segment, offset + Position.UNSETTLED_VALUE_USD_OFFSET);
+  }
+
+  public long unsettledFeesUsd() {
+    return getInt64LE(segment, offset + Position.UNSETTLED_FEES_USD_OFFSET);
+  }
+
+  public BigInteger cumulativeLockFeeSnapshot() {
+    return getInt128LE(segment, offset + Position.CUMULATIVE_LOCK_FEE_SNAPSHOT_OFFSET);
+  }
+
+  public long cumulativeLockFeeSnapshotHigh() {
+    return getInt128High(segment, offset + Position.CUMULATIVE_LOCK_FEE_SNAPSHOT_OFFSET);
+  }
+
+  public long cumulativeLockFeeSnapshotLow() {
+    return getInt128Low(segment, offset + Position.CUMULATIVE_LOCK_FEE_SNAPSHOT_OFFSET);
+  }
+
+  public long degenSizeUsd() {
+    return getInt64LE(segment, offset + Position.DEGEN_SIZE_USD_OFFSET);
+  }
+
+  public OraclePrice referencePrice() {
+    return MemorySegmentUtil.read(segment, offset + Position.REFERENCE_PRICE_OFFSET, OraclePrice.BYTES, OraclePrice::read);
+  }
+
+  public byte[] buffer() {
+    return copy(segment, offset + Position.BUFFER_OFFSET, 3);
+  }
+
+  public boolean priceImpactSet() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Position.PRICE_IMPACT_SET_OFFSET) == 1;
+  }
+
+  public int sizeDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Position.SIZE_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public int lockedDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Position.LOCKED_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public int collateralDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Position.COLLATERAL_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Position.BUMP_OFFSET) & 0xFF;
+  }
+}
@@ -0,0 +1,144 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class PositionView {
+
+  private byte[] _data;
+  private int offset;
+
+  private PositionView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static PositionView wrap(final byte[] _data, final int offset) {
+    return new PositionView(_data, offset);
+  }
+
+  public static PositionView wrap(final byte[] _data) {
+    return new PositionView(_data, 0);
+  }
+
+  public PositionView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public PositionView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Position read(final PublicKey _address) {
+    return Position.read(_address, _data, offset);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Position.OWNER_OFFSET);
+  }
+
+  public PublicKey market() {
+    return readPubKey(_data, offset + Position.MARKET_OFFSET);
+  }
+
+  public PublicKey delegate() {
+    return readPubKey(_data, offset + Position.DELEGATE_OFFSET);
+  }
+
+  public long openTime() {
+    return getInt64LE(_data, offset + Position.OPEN_TIME_OFFSET);
+  }
+
+  public long updateTime() {
+    return getInt64LE(_data, offset + Position.UPDATE_TIME_OFFSET);
+  }
+
+  public OraclePrice entryPrice() {
+    return OraclePrice.read(_data, offset + Position.ENTRY_PRICE_OFFSET);
+  }
+
+  public long sizeAmount() {
+    return getInt64LE(_data, offset + Position.SIZE_AMOUNT_OFFSET);
+  }
+
+  public long sizeUsd() {
+    return getInt64LE(_data, offset + Position.SIZE_USD_OFFSET);
+  }
+
+  public long lockedAmount() {
+    return getInt64LE(_data, offset + Position.LOCKED_AMOUNT_OFFSET);
+  }
+
+  public long lockedUsd() {
+    return getInt64LE(_data, offset + Position.LOCKED_USD_OFFSET);
+  }
+
+  public long priceImpactUsd() {
+    return getInt64LE(_data, offset + Position.PRICE_IMPACT_USD_OFFSET);
+  }
+
+  public long collateralUsd() {
+    return getInt64LE(_data, offset + Position.COLLATERAL_USD_OFFSET);
+  }
+
+  public long unsettledValueUsd() {
+    return getInt64LE(_data, offset + Position.UNSETTLED_VALUE_USD_OFFSET);
+  }
+
+  public long unsettledFeesUsd() {
+    return getInt64LE(_data, offset + Position.UNSETTLED_FEES_USD_OFFSET);
+  }
+
+  public BigInteger cumulativeLockFeeSnapshot() {
+    return getInt128LE(_data, offset + Position.CUMULATIVE_LOCK_FEE_SNAPSHOT_OFFSET);
+  }
+
+  public long degenSizeUsd() {
+    return getInt64LE(_data, offset + Position.DEGEN_SIZE_USD_OFFSET);
+  }
+
+  public OraclePrice referencePrice() {
+    return OraclePrice.read(_data, offset + Position.REFERENCE_PRICE_OFFSET);
+  }
+
+  public byte[] buffer() {
+    final int from = offset + Position.BUFFER_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 3);
+  }
+
+  public boolean priceImpactSet() {
+    return _data[offset + Position.PRICE_IMPACT_SET_OFFSET] == 1;
+  }
+
+  public int sizeDecimals() {
+    return _data[offset + Position.SIZE_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public int lockedDecimals() {
+    return _data[offset + Position.LOCKED_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public int collateralDecimals() {
+    return _data[offset + Position.COLLATERAL_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public int bump() {
+    return _data[offset + Position.BUMP_OFFSET] & 0xFF;
+  }
+}
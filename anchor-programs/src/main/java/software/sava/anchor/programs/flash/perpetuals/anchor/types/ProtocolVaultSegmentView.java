@@ -0,0 +1,79 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ProtocolVaultSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ProtocolVaultSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ProtocolVaultSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ProtocolVaultSegmentView(segment, offset);
+  }
+
+  public static ProtocolVaultSegmentView wrap(final MemorySegment segment) {
+    return new ProtocolVaultSegmentView(segment, 0);
+  }
+
+  public ProtocolVaultSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProtocolVaultSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ProtocolVault read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, ProtocolVault.BYTES, ProtocolVault::read);
+  }
+
+  public PublicKey key() {
+    return readPubKey(segment, offset + ProtocolVault.KEY_OFFSET);
+  }
+
+  public PublicKey tokenAccount() {
+    return readPubKey(segment, offset + ProtocolVault.TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ProtocolVault.IS_INITIALIZED_OFFSET) == 1;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ProtocolVault.BUMP_OFFSET) & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ProtocolVault.TOKEN_ACCOUNT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public long feeShareBps() {
+    return getInt64LE(segment, offset + ProtocolVault.FEE_SHARE_BPS_OFFSET);
+  }
+
+  public long feeAmount() {
+    return getInt64LE(segment, offset + ProtocolVault.FEE_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,75 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class ProtocolVaultView {
+
+  private byte[] _data;
+  private int offset;
+
+  private ProtocolVaultView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ProtocolVaultView wrap(final byte[] _data, final int offset) {
+    return new ProtocolVaultView(_data, offset);
+  }
+
+  public static ProtocolVaultView wrap(final byte[] _data) {
+    return new ProtocolVaultView(_data, 0);
+  }
+
+  public ProtocolVaultView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProtocolVaultView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public ProtocolVault read(final PublicKey _address) {
+    return ProtocolVault.read(_address, _data, offset);
+  }
+
+  public PublicKey key() {
+    return readPubKey(_data, offset + ProtocolVault.KEY_OFFSET);
+  }
+
+  public PublicKey tokenAccount() {
+    return readPubKey(_data, offset + ProtocolVault.TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return _data[offset + ProtocolVault.IS_INITIALIZED_OFFSET] == 1;
+  }
+
+  public int bump() {
+    return _data[offset + ProtocolVault.BUMP_OFFSET] & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return _data[offset + ProtocolVault.TOKEN_ACCOUNT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public long feeShareBps() {
+    return getInt64LE(_data, offset + ProtocolVault.FEE_SHARE_BPS_OFFSET);
+  }
+
+  public long feeAmount() {
+    return getInt64LE(_data, offset + ProtocolVault.FEE_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,83 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class RebateVaultSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RebateVaultSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RebateVaultSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RebateVaultSegmentView(segment, offset);
+  }
+
+  public static RebateVaultSegmentView wrap(final MemorySegment segment) {
+    return new RebateVaultSegmentView(segment, 0);
+  }
+
+  public RebateVaultSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RebateVaultSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public RebateVault read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, RebateVault.BYTES, RebateVault::read);
+  }
+
+  public PublicKey key() {
+    return readPubKey(segment, offset + RebateVault.KEY_OFFSET);
+  }
+
+  public PublicKey tokenAccount() {
+    return readPubKey(segment, offset + RebateVault.TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + RebateVault.IS_INITIALIZED_OFFSET) == 1;
+  }
+
+  public boolean allowPayout() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + RebateVault.ALLOW_PAYOUT_OFFSET) == 1;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + RebateVault.BUMP_OFFSET) & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + RebateVault.TOKEN_ACCOUNT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public long availableUsd() {
+    return getInt64LE(segment, offset + RebateVault.AVAILABLE_USD_OFFSET);
+  }
+
+  public long availableAmount() {
+    return getInt64LE(segment, offset + RebateVault.AVAILABLE_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,79 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class RebateVaultView {
+
+  private byte[] _data;
+  private int offset;
+
+  private RebateVaultView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static RebateVaultView wrap(final byte[] _data, final int offset) {
+    return new RebateVaultView(_data, offset);
+  }
+
+  public static RebateVaultView wrap(final byte[] _data) {
+    return new RebateVaultView(_data, 0);
+  }
+
+  public RebateVaultView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public RebateVaultView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public RebateVault read(final PublicKey _address) {
+    return RebateVault.read(_address, _data, offset);
+  }
+
+  public PublicKey key() {
+    return readPubKey(_data, offset + RebateVault.KEY_OFFSET);
+  }
+
+  public PublicKey tokenAccount() {
+    return readPubKey(_data, offset + RebateVault.TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return _data[offset + RebateVault.IS_INITIALIZED_OFFSET] == 1;
+  }
+
+  public boolean allowPayout() {
+    return _data[offset + RebateVault.ALLOW_PAYOUT_OFFSET] == 1;
+  }
+
+  public int bump() {
+    return _data[offset + RebateVault.BUMP_OFFSET] & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return _data[offset + RebateVault.TOKEN_ACCOUNT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public long availableUsd() {
+    return getInt64LE(_data, offset + RebateVault.AVAILABLE_USD_OFFSET);
+  }
+
+  public long availableAmount() {
+    return getInt64LE(_data, offset + RebateVault.AVAILABLE_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,66 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ReferralSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ReferralSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ReferralSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ReferralSegmentView(segment, offset);
+  }
+
+  public static ReferralSegmentView wrap(final MemorySegment segment) {
+    return new ReferralSegmentView(segment, 0);
+  }
+
+  public ReferralSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ReferralSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Referral read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Referral.BYTES, Referral::read);
+  }
+
+  public boolean isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Referral.IS_INITIALIZED_OFFSET) == 1;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Referral.BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey refererTokenStakeAccount() {
+    return readPubKey(segment, offset + Referral.REFERER_TOKEN_STAKE_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey refererBoosterAccount() {
+    return readPubKey(segment, offset + Referral.REFERER_BOOSTER_ACCOUNT_OFFSET);
+  }
+}
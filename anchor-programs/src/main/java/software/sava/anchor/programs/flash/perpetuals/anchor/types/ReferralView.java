@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class ReferralView {
+
+  private byte[] _data;
+  private int offset;
+
+  private ReferralView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ReferralView wrap(final byte[] _data, final int offset) {
+    return new ReferralView(_data, offset);
+  }
+
+  public static ReferralView wrap(final byte[] _data) {
+    return new ReferralView(_data, 0);
+  }
+
+  public ReferralView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ReferralView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Referral read(final PublicKey _address) {
+    return Referral.read(_address, _data, offset);
+  }
+
+  public boolean isInitialized() {
+    return _data[offset + Referral.IS_INITIALIZED_OFFSET] == 1;
+  }
+
+  public int bump() {
+    return _data[offset + Referral.BUMP_OFFSET] & 0xFF;
+  }
+
+  public PublicKey refererTokenStakeAccount() {
+    return readPubKey(_data, offset + Referral.REFERER_TOKEN_STAKE_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey refererBoosterAccount() {
+    return readPubKey(_data, offset + Referral.REFERER_BOOSTER_ACCOUNT_OFFSET);
+  }
+}
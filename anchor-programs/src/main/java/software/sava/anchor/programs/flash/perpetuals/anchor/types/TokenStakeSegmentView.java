@@ -0,0 +1,126 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class TokenStakeSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TokenStakeSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TokenStakeSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TokenStakeSegmentView(segment, offset);
+  }
+
+  public static TokenStakeSegmentView wrap(final MemorySegment segment) {
+    return new TokenStakeSegmentView(segment, 0);
+  }
+
+  public TokenStakeSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TokenStakeSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public TokenStake read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, TokenStake.BYTES, TokenStake::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + TokenStake.OWNER_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenStake.IS_INITIALIZED_OFFSET) == 1;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenStake.BUMP_OFFSET) & 0xFF;
+  }
+
+  public int level() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenStake.LEVEL_OFFSET) & 0xFF;
+  }
+
+  public int withdrawRequestCount() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenStake.WITHDRAW_REQUEST_COUNT_OFFSET) & 0xFF;
+  }
+
+  public WithdrawRequest withdrawRequest(final int index) {
+    Objects.checkIndex(index, TokenStake.WITHDRAW_REQUEST_LEN);
+    return MemorySegmentUtil.read(segment, offset + TokenStake.WITHDRAW_REQUEST_OFFSET + (index * WithdrawRequest.BYTESL), WithdrawRequest.BYTES, WithdrawRequest::read);
+  }
+
+  public long activeStakeAmount() {
+    return getInt64LE(segment, offset + TokenStake.ACTIVE_STAKE_AMOUNT_OFFSET);
+  }
+
+  public long updateTimestamp() {
+    return getInt64LE(segment, offset + TokenStake.UPDATE_TIMESTAMP_OFFSET);
+  }
+
+  public long tradeTimestamp() {
+    return getInt64LE(segment, offset + TokenStake.TRADE_TIMESTAMP_OFFSET);
+  }
+
+  public int tradeCounter() {
+    return getInt32LE(segment, offset + TokenStake.TRADE_COUNTER_OFFSET);
+  }
+
+  public int lastRewardEpochCount() {
+    return getInt32LE(segment, offset + TokenStake.LAST_REWARD_EPOCH_COUNT_OFFSET);
+  }
+
+  public long rewardTokens() {
+    return getInt64LE(segment, offset + TokenStake.REWARD_TOKENS_OFFSET);
+  }
+
+  public long unclaimedRevenueAmount() {
+    return getInt64LE(segment, offset + TokenStake.UNCLAIMED_REVENUE_AMOUNT_OFFSET);
+  }
+
+  public BigInteger revenueSnapshot() {
+    return getInt128LE(segment, offset + TokenStake.REVENUE_SNAPSHOT_OFFSET);
+  }
+
+  public long revenueSnapshotHigh() {
+    return getInt128High(segment, offset + TokenStake.REVENUE_SNAPSHOT_OFFSET);
+  }
+
+  public long revenueSnapshotLow() {
+    return getInt128Low(segment, offset + TokenStake.REVENUE_SNAPSHOT_OFFSET);
+  }
+
+  public long claimableRebateUsd() {
+    return getInt64LE(segment, offset + TokenStake.CLAIMABLE_REBATE_USD_OFFSET);
+  }
+}
@@ -0,0 +1,113 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class TokenStakeView {
+
+  private byte[] _data;
+  private int offset;
+
+  private TokenStakeView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static TokenStakeView wrap(final byte[] _data, final int offset) {
+    return new TokenStakeView(_data, offset);
+  }
+
+  public static TokenStakeView wrap(final byte[] _data) {
+    return new TokenStakeView(_data, 0);
+  }
+
+  public TokenStakeView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public TokenStakeView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public TokenStake read(final PublicKey _address) {
+    return TokenStake.read(_address, _data, offset);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + TokenStake.OWNER_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return _data[offset + TokenStake.IS_INITIALIZED_OFFSET] == 1;
+  }
+
+  public int bump() {
+    return _data[offset + TokenStake.BUMP_OFFSET] & 0xFF;
+  }
+
+  public int level() {
+    return _data[offset + TokenStake.LEVEL_OFFSET] & 0xFF;
+  }
+
+  public int withdrawRequestCount() {
+    return _data[offset + TokenStake.WITHDRAW_REQUEST_COUNT_OFFSET] & 0xFF;
+  }
+
+  public WithdrawRequest withdrawRequest(final int index) {
+    Objects.checkIndex(index, TokenStake.WITHDRAW_REQUEST_LEN);
+    return WithdrawRequest.read(_data, offset + TokenStake.WITHDRAW_REQUEST_OFFSET + (index * WithdrawRequest.BYTES));
+  }
+
+  public long activeStakeAmount() {
+    return getInt64LE(_data, offset + TokenStake.ACTIVE_STAKE_AMOUNT_OFFSET);
+  }
+
+  public long updateTimestamp() {
+    return getInt64LE(_data, offset + TokenStake.UPDATE_TIMESTAMP_OFFSET);
+  }
+
+  public long tradeTimestamp() {
+    return getInt64LE(_data, offset + TokenStake.TRADE_TIMESTAMP_OFFSET);
+  }
+
+  public int tradeCounter() {
+    return getInt32LE(_data, offset + TokenStake.TRADE_COUNTER_OFFSET);
+  }
+
+  public int lastRewardEpochCount() {
+    return getInt32LE(_data, offset + TokenStake.LAST_REWARD_EPOCH_COUNT_OFFSET);
+  }
+
+  public long rewardTokens() {
+    return getInt64LE(_data, offset + TokenStake.REWARD_TOKENS_OFFSET);
+  }
+
+  public long unclaimedRevenueAmount() {
+    return getInt64LE(_data, offset + TokenStake.UNCLAIMED_REVENUE_AMOUNT_OFFSET);
+  }
+
+  public BigInteger revenueSnapshot() {
+    return getInt128LE(_data, offset + TokenStake.REVENUE_SNAPSHOT_OFFSET);
+  }
+
+  public long claimableRebateUsd() {
+    return getInt64LE(_data, offset + TokenStake.CLAIMABLE_REBATE_USD_OFFSET);
+  }
+}
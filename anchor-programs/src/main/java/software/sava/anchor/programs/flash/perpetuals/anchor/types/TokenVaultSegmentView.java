@@ -0,0 +1,210 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class TokenVaultSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TokenVaultSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TokenVaultSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TokenVaultSegmentView(segment, offset);
+  }
+
+  public static TokenVaultSegmentView wrap(final MemorySegment segment) {
+    return new TokenVaultSegmentView(segment, 0);
+  }
+
+  public TokenVaultSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TokenVaultSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public TokenVault read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, TokenVault.BYTES, TokenVault::read);
+  }
+
+  public boolean isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenVault.IS_INITIALIZED_OFFSET) == 1;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenVault.BUMP_OFFSET) & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenVault.TOKEN_ACCOUNT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey tokenMint() {
+    return readPubKey(segment, offset + TokenVault.TOKEN_MINT_OFFSET);
+  }
+
+  public PublicKey tokenVaultTokenAccount() {
+    return readPubKey(segment, offset + TokenVault.TOKEN_VAULT_TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public TokenPermissions tokenPermissions() {
+    return MemorySegmentUtil.read(segment, offset + TokenVault.TOKEN_PERMISSIONS_OFFSET, TokenPermissions.BYTES, TokenPermissions::read);
+  }
+
+  public long withdrawTimeLimit() {
+    return getInt64LE(segment, offset + TokenVault.WITHDRAW_TIME_LIMIT_OFFSET);
+  }
+
+  public long withdrawInstantFee() {
+    return getInt64LE(segment, offset + TokenVault.WITHDRAW_INSTANT_FEE_OFFSET);
+  }
+
+  public long withdrawInstantFeeEarned() {
+    return getInt64LE(segment, offset + TokenVault.WITHDRAW_INSTANT_FEE_EARNED_OFFSET);
+  }
+
+  public long stakeLevel(final int index) {
+    Objects.checkIndex(index, TokenVault.STAKE_LEVEL_LEN);
+    return getInt64LE(segment, offset + TokenVault.STAKE_LEVEL_OFFSET + (index * 8L));
+  }
+
+  public StakeStats tokensStaked() {
+    return MemorySegmentUtil.read(segment, offset + TokenVault.TOKENS_STAKED_OFFSET, StakeStats.BYTES, StakeStats::read);
+  }
+
+  public BigInteger rewardTokensToDistribute() {
+    return getInt128LE(segment, offset + TokenVault.REWARD_TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public long rewardTokensToDistributeHigh() {
+    return getInt128High(segment, offset + TokenVault.REWARD_TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public long rewardTokensToDistributeLow() {
+    return getInt128Low(segment, offset + TokenVault.REWARD_TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public BigInteger rewardTokensPaid() {
+    return getInt128LE(segment, offset + TokenVault.REWARD_TOKENS_PAID_OFFSET);
+  }
+
+  public long rewardTokensPaidHigh() {
+    return getInt128High(segment, offset + TokenVault.REWARD_TOKENS_PAID_OFFSET);
+  }
+
+  public long rewardTokensPaidLow() {
+    return getInt128Low(segment, offset + TokenVault.REWARD_TOKENS_PAID_OFFSET);
+  }
+
+  public BigInteger tokensToDistribute() {
+    return getInt128LE(segment, offset + TokenVault.TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public long tokensToDistributeHigh() {
+    return getInt128High(segment, offset + TokenVault.TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public long tokensToDistributeLow() {
+    return getInt128Low(segment, offset + TokenVault.TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public BigInteger tokensDistributed() {
+    return getInt128LE(segment, offset + TokenVault.TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public long tokensDistributedHigh() {
+    return getInt128High(segment, offset + TokenVault.TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public long tokensDistributedLow() {
+    return getInt128Low(segment, offset + TokenVault.TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public int lastRewardEpochCount() {
+    return getInt32LE(segment, offset + TokenVault.LAST_REWARD_EPOCH_COUNT_OFFSET);
+  }
+
+  public BigInteger rewardTokensDistributed() {
+    return getInt128LE(segment, offset + TokenVault.REWARD_TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public long rewardTokensDistributedHigh() {
+    return getInt128High(segment, offset + TokenVault.REWARD_TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public long rewardTokensDistributedLow() {
+    return getInt128Low(segment, offset + TokenVault.REWARD_TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public int revenueTokenAccountBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + TokenVault.REVENUE_TOKEN_ACCOUNT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public long revenuePerFafStaked() {
+    return getInt64LE(segment, offset + TokenVault.REVENUE_PER_FAF_STAKED_OFFSET);
+  }
+
+  public BigInteger revenueAccrued() {
+    return getInt128LE(segment, offset + TokenVault.REVENUE_ACCRUED_OFFSET);
+  }
+
+  public long revenueAccruedHigh() {
+    return getInt128High(segment, offset + TokenVault.REVENUE_ACCRUED_OFFSET);
+  }
+
+  public long revenueAccruedLow() {
+    return getInt128Low(segment, offset + TokenVault.REVENUE_ACCRUED_OFFSET);
+  }
+
+  public BigInteger revenueDistributed() {
+    return getInt128LE(segment, offset + TokenVault.REVENUE_DISTRIBUTED_OFFSET);
+  }
+
+  public long revenueDistributedHigh() {
+    return getInt128High(segment, offset + TokenVault.REVENUE_DISTRIBUTED_OFFSET);
+  }
+
+  public long revenueDistributedLow() {
+    return getInt128Low(segment, offset + TokenVault.REVENUE_DISTRIBUTED_OFFSET);
+  }
+
+  public BigInteger revenuePaid() {
+    return getInt128LE(segment, offset + TokenVault.REVENUE_PAID_OFFSET);
+  }
+
+  public long revenuePaidHigh() {
+    return getInt128High(segment, offset + TokenVault.REVENUE_PAID_OFFSET);
+  }
+
+  public long revenuePaidLow() {
+    return getInt128Low(segment, offset + TokenVault.REVENUE_PAID_OFFSET);
+  }
+}
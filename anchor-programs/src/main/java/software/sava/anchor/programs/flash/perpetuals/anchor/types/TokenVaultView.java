@@ -0,0 +1,141 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class TokenVaultView {
+
+  private byte[] _data;
+  private int offset;
+
+  private TokenVaultView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static TokenVaultView wrap(final byte[] _data, final int offset) {
+    return new TokenVaultView(_data, offset);
+  }
+
+  public static TokenVaultView wrap(final byte[] _data) {
+    return new TokenVaultView(_data, 0);
+  }
+
+  public TokenVaultView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public TokenVaultView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public TokenVault read(final PublicKey _address) {
+    return TokenVault.read(_address, _data, offset);
+  }
+
+  public boolean isInitialized() {
+    return _data[offset + TokenVault.IS_INITIALIZED_OFFSET] == 1;
+  }
+
+  public int bump() {
+    return _data[offset + TokenVault.BUMP_OFFSET] & 0xFF;
+  }
+
+  public int tokenAccountBump() {
+    return _data[offset + TokenVault.TOKEN_ACCOUNT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public PublicKey tokenMint() {
+    return readPubKey(_data, offset + TokenVault.TOKEN_MINT_OFFSET);
+  }
+
+  public PublicKey tokenVaultTokenAccount() {
+    return readPubKey(_data, offset + TokenVault.TOKEN_VAULT_TOKEN_ACCOUNT_OFFSET);
+  }
+
+  public TokenPermissions tokenPermissions() {
+    return TokenPermissions.read(_data, offset + TokenVault.TOKEN_PERMISSIONS_OFFSET);
+  }
+
+  public long withdrawTimeLimit() {
+    return getInt64LE(_data, offset + TokenVault.WITHDRAW_TIME_LIMIT_OFFSET);
+  }
+
+  public long withdrawInstantFee() {
+    return getInt64LE(_data, offset + TokenVault.WITHDRAW_INSTANT_FEE_OFFSET);
+  }
+
+  public long withdrawInstantFeeEarned() {
+    return getInt64LE(_data, offset + TokenVault.WITHDRAW_INSTANT_FEE_EARNED_OFFSET);
+  }
+
+  public long stakeLevel(final int index) {
+    Objects.checkIndex(index, TokenVault.STAKE_LEVEL_LEN);
+    return getInt64LE(_data, offset + TokenVault.STAKE_LEVEL_OFFSET + (index * 8));
+  }
+
+  public StakeStats tokensStaked() {
+    return StakeStats.read(_data, offset + TokenVault.TOKENS_STAKED_OFFSET);
+  }
+
+  public BigInteger rewardTokensToDistribute() {
+    return getInt128LE(_data, offset + TokenVault.REWARD_TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public BigInteger rewardTokensPaid() {
+    return getInt128LE(_data, offset + TokenVault.REWARD_TOKENS_PAID_OFFSET);
+  }
+
+  public BigInteger tokensToDistribute() {
+    return getInt128LE(_data, offset + TokenVault.TOKENS_TO_DISTRIBUTE_OFFSET);
+  }
+
+  public BigInteger tokensDistributed() {
+    return getInt128LE(_data, offset + TokenVault.TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public int lastRewardEpochCount() {
+    return getInt32LE(_data, offset + TokenVault.LAST_REWARD_EPOCH_COUNT_OFFSET);
+  }
+
+  public BigInteger rewardTokensDistributed() {
+    return getInt128LE(_data, offset + TokenVault.REWARD_TOKENS_DISTRIBUTED_OFFSET);
+  }
+
+  public int revenueTokenAccountBump() {
+    return _data[offset + TokenVault.REVENUE_TOKEN_ACCOUNT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public long revenuePerFafStaked() {
+    return getInt64LE(_data, offset + TokenVault.REVENUE_PER_FAF_STAKED_OFFSET);
+  }
+
+  public BigInteger revenueAccrued() {
+    return getInt128LE(_data, offset + TokenVault.REVENUE_ACCRUED_OFFSET);
+  }
+
+  public BigInteger revenueDistributed() {
+    return getInt128LE(_data, offset + TokenVault.REVENUE_DISTRIBUTED_OFFSET);
+  }
+
+  public BigInteger revenuePaid() {
+    return getInt128LE(_data, offset + TokenVault.REVENUE_PAID_OFFSET);
+  }
+}
@@ -0,0 +1,103 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class TradingSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TradingSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TradingSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TradingSegmentView(segment, offset);
+  }
+
+  public static TradingSegmentView wrap(final MemorySegment segment) {
+    return new TradingSegmentView(segment, 0);
+  }
+
+  public TradingSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TradingSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Trading read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Trading.BYTES, Trading::read);
+  }
+
+  public PublicKey nftMint() {
+    return readPubKey(segment, offset + Trading.NFT_MINT_OFFSET);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Trading.OWNER_OFFSET);
+  }
+
+  public PublicKey delegate() {
+    return readPubKey(segment, offset + Trading.DELEGATE_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Trading.IS_INITIALIZED_OFFSET) == 1;
+  }
+
+  public int level() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Trading.LEVEL_OFFSET) & 0xFF;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Trading.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long voltagePoints() {
+    return getInt64LE(segment, offset + Trading.VOLTAGE_POINTS_OFFSET);
+  }
+
+  public VoltageStats stats() {
+    return MemorySegmentUtil.read(segment, offset + Trading.STATS_OFFSET, VoltageStats.BYTES, VoltageStats::read);
+  }
+
+  public VoltageStats snapshot() {
+    return MemorySegmentUtil.read(segment, offset + Trading.SNAPSHOT_OFFSET, VoltageStats.BYTES, VoltageStats::read);
+  }
+
+  public long timestamp() {
+    return getInt64LE(segment, offset + Trading.TIMESTAMP_OFFSET);
+  }
+
+  public long counter() {
+    return getInt64LE(segment, offset + Trading.COUNTER_OFFSET);
+  }
+
+  public PublicKey tokenStakeAccount() {
+    return readPubKey(segment, offset + Trading.TOKEN_STAKE_ACCOUNT_OFFSET);
+  }
+
+  public boolean burnt() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Trading.BURNT_OFFSET) == 1;
+  }
+}
@@ -0,0 +1,99 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class TradingView {
+
+  private byte[] _data;
+  private int offset;
+
+  private TradingView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static TradingView wrap(final byte[] _data, final int offset) {
+    return new TradingView(_data, offset);
+  }
+
+  public static TradingView wrap(final byte[] _data) {
+    return new TradingView(_data, 0);
+  }
+
+  public TradingView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public TradingView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Trading read(final PublicKey _address) {
+    return Trading.read(_address, _data, offset);
+  }
+
+  public PublicKey nftMint() {
+    return readPubKey(_data, offset + Trading.NFT_MINT_OFFSET);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Trading.OWNER_OFFSET);
+  }
+
+  public PublicKey delegate() {
+    return readPubKey(_data, offset + Trading.DELEGATE_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return _data[offset + Trading.IS_INITIALIZED_OFFSET] == 1;
+  }
+
+  public int level() {
+    return _data[offset + Trading.LEVEL_OFFSET] & 0xFF;
+  }
+
+  public int bump() {
+    return _data[offset + Trading.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long voltagePoints() {
+    return getInt64LE(_data, offset + Trading.VOLTAGE_POINTS_OFFSET);
+  }
+
+  public VoltageStats stats() {
+    return VoltageStats.read(_data, offset + Trading.STATS_OFFSET);
+  }
+
+  public VoltageStats snapshot() {
+    return VoltageStats.read(_data, offset + Trading.SNAPSHOT_OFFSET);
+  }
+
+  public long timestamp() {
+    return getInt64LE(_data, offset + Trading.TIMESTAMP_OFFSET);
+  }
+
+  public long counter() {
+    return getInt64LE(_data, offset + Trading.COUNTER_OFFSET);
+  }
+
+  public PublicKey tokenStakeAccount() {
+    return readPubKey(_data, offset + Trading.TOKEN_STAKE_ACCOUNT_OFFSET);
+  }
+
+  public boolean burnt() {
+    return _data[offset + Trading.BURNT_OFFSET] == 1;
+  }
+}
@@ -0,0 +1,83 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class WhitelistSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WhitelistSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WhitelistSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WhitelistSegmentView(segment, offset);
+  }
+
+  public static WhitelistSegmentView wrap(final MemorySegment segment) {
+    return new WhitelistSegmentView(segment, 0);
+  }
+
+  public WhitelistSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WhitelistSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Whitelist read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Whitelist.BYTES, Whitelist::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Whitelist.OWNER_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Whitelist.IS_INITIALIZED_OFFSET) == 1;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Whitelist.BUMP_OFFSET) & 0xFF;
+  }
+
+  public boolean isSwapFeeExempt() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Whitelist.IS_SWAP_FEE_EXEMPT_OFFSET) == 1;
+  }
+
+  public boolean isDepositFeeExempt() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Whitelist.IS_DEPOSIT_FEE_EXEMPT_OFFSET) == 1;
+  }
+
+  public boolean isWithdrawalFeeExempt() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Whitelist.IS_WITHDRAWAL_FEE_EXEMPT_OFFSET) == 1;
+  }
+
+  public byte[] buffer() {
+    return copy(segment, offset + Whitelist.BUFFER_OFFSET, 3);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(segment, offset + Whitelist.POOL_OFFSET);
+  }
+}
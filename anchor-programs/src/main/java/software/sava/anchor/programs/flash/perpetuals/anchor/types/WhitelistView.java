@@ -0,0 +1,81 @@
+package software.sava.anchor.programs.flash.perpetuals.anchor.types;
+
+import java.util.Arrays;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class WhitelistView {
+
+  private byte[] _data;
+  private int offset;
+
+  private WhitelistView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static WhitelistView wrap(final byte[] _data, final int offset) {
+    return new WhitelistView(_data, offset);
+  }
+
+  public static WhitelistView wrap(final byte[] _data) {
+    return new WhitelistView(_data, 0);
+  }
+
+  public WhitelistView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public WhitelistView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Whitelist read(final PublicKey _address) {
+    return Whitelist.read(_address, _data, offset);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Whitelist.OWNER_OFFSET);
+  }
+
+  public boolean isInitialized() {
+    return _data[offset + Whitelist.IS_INITIALIZED_OFFSET] == 1;
+  }
+
+  public int bump() {
+    return _data[offset + Whitelist.BUMP_OFFSET] & 0xFF;
+  }
+
+  public boolean isSwapFeeExempt() {
+    return _data[offset + Whitelist.IS_SWAP_FEE_EXEMPT_OFFSET] == 1;
+  }
+
+  public boolean isDepositFeeExempt() {
+    return _data[offset + Whitelist.IS_DEPOSIT_FEE_EXEMPT_OFFSET] == 1;
+  }
+
+  public boolean isWithdrawalFeeExempt() {
+    return _data[offset + Whitelist.IS_WITHDRAWAL_FEE_EXEMPT_OFFSET] == 1;
+  }
+
+  public byte[] buffer() {
+    final int from = offset + Whitelist.BUFFER_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 3);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(_data, offset + Whitelist.POOL_OFFSET);
+  }
+}
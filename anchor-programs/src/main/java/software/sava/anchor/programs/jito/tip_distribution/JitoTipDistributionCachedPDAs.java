@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.jito.tip_distribution;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// Jito tip distribution program addresses derived through ProgramAddressCache, with bump overloads for bumps read
+// from the derived accounts. Epoch seeds are u64 little endian.
+public final class JitoTipDistributionCachedPDAs {
+
+  private static final byte[] CLAIM_STATUS_SEED = "CLAIM_STATUS".getBytes(US_ASCII);
+  private static final byte[] CONFIG_ACCOUNT_SEED = "CONFIG_ACCOUNT".getBytes(US_ASCII);
+  private static final byte[] ROOT_UPLOAD_CONFIG_SEED = "ROOT_UPLOAD_CONFIG".getBytes(US_ASCII);
+  private static final byte[] TIP_DISTRIBUTION_ACCOUNT_SEED = "TIP_DISTRIBUTION_ACCOUNT".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress claimStatusPDA(final PublicKey program,
+                                                     final PublicKey claimantAccount,
+                                                     final PublicKey tipDistributionAccount) {
+    return ProgramAddressCache.findProgramAddress(CLAIM_STATUS_SEED, claimantAccount, tipDistributionAccount, program);
+  }
+
+  public static ProgramDerivedAddress claimStatusPDA(final PublicKey program,
+                                                     final PublicKey claimantAccount,
+                                                     final PublicKey tipDistributionAccount,
+                                                     final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        CLAIM_STATUS_SEED, claimantAccount, tipDistributionAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress configPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(CONFIG_ACCOUNT_SEED, program);
+  }
+
+  public static ProgramDerivedAddress configPDA(final PublicKey program,
+                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(CONFIG_ACCOUNT_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress merkleRootUploadConfigPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(ROOT_UPLOAD_CONFIG_SEED, program);
+  }
+
+  public static ProgramDerivedAddress merkleRootUploadConfigPDA(final PublicKey program,
+                                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(ROOT_UPLOAD_CONFIG_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress tipDistributionPDA(final PublicKey program,
+                                                         final PublicKey validatorVoteAccount,
+                                                         final long epoch) {
+    return ProgramAddressCache.findProgramAddress(TIP_DISTRIBUTION_ACCOUNT_SEED, validatorVoteAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress tipDistributionPDA(final PublicKey program,
+                                                         final PublicKey validatorVoteAccount,
+                                                         final long epoch,
+                                                         final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        TIP_DISTRIBUTION_ACCOUNT_SEED, validatorVoteAccount, epoch, bump, program
+    );
+  }
+
+  private JitoTipDistributionCachedPDAs() {
+  }
+}
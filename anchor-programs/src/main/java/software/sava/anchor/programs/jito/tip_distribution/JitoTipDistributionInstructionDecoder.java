@@ -0,0 +1,109 @@
+package software.sava.anchor.programs.jito.tip_distribution;
+
+import software.sava.anchor.programs.jito.tip_distribution.anchor.JitoTipDistributionProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Jito tip distribution instruction data decoded into the JitoTipDistributionProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class JitoTipDistributionInstructionDecoder {
+
+  public record CloseClaimStatusIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseClaimStatusIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseClaimStatusIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseClaimStatusIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record MigrateTdaMerkleRootUploadAuthorityIxData(Discriminator discriminator) implements Borsh {
+
+    public static MigrateTdaMerkleRootUploadAuthorityIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MigrateTdaMerkleRootUploadAuthorityIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MigrateTdaMerkleRootUploadAuthorityIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(JitoTipDistributionProgram.UPLOAD_MERKLE_ROOT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.CLOSE_CLAIM_STATUS_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.CLAIM_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.CLOSE_TIP_DISTRIBUTION_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.INITIALIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.UPDATE_MERKLE_ROOT_UPLOAD_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.MIGRATE_TDA_MERKLE_ROOT_UPLOAD_AUTHORITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.INITIALIZE_MERKLE_ROOT_UPLOAD_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.INITIALIZE_TIP_DISTRIBUTION_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipDistributionProgram.UPDATE_CONFIG_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> JitoTipDistributionProgram.UploadMerkleRootIxData.read(_data, offset);
+      case 1 -> CloseClaimStatusIxData.read(_data, offset);
+      case 2 -> JitoTipDistributionProgram.ClaimIxData.read(_data, offset);
+      case 3 -> JitoTipDistributionProgram.CloseTipDistributionAccountIxData.read(_data, offset);
+      case 4 -> JitoTipDistributionProgram.InitializeIxData.read(_data, offset);
+      case 5 -> JitoTipDistributionProgram.UpdateMerkleRootUploadConfigIxData.read(_data, offset);
+      case 6 -> MigrateTdaMerkleRootUploadAuthorityIxData.read(_data, offset);
+      case 7 -> JitoTipDistributionProgram.InitializeMerkleRootUploadConfigIxData.read(_data, offset);
+      case 8 -> JitoTipDistributionProgram.InitializeTipDistributionAccountIxData.read(_data, offset);
+      case 9 -> JitoTipDistributionProgram.UpdateConfigIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private JitoTipDistributionInstructionDecoder() {
+  }
+}
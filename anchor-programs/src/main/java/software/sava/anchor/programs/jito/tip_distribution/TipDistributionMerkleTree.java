@@ -0,0 +1,315 @@
+package software.sava.anchor.programs.jito.tip_distribution;
+
+import software.sava.core.accounts.PublicKey;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+// Merkle tree over (claimant, amount) leaves, hashed the way the tip distribution program verifies claims:
+//   leaf = sha256(0x00 || sha256(claimant || amount_le))
+//   node = sha256(0x01 || min(left, right) || max(left, right))
+// A level with an odd number of nodes pairs its last node with itself.
+//
+// Claimants, amounts and every level of hashes are held in flat primitive arrays, about 100 bytes per leaf in total,
+// with no object per node. Leaves and wide levels are hashed in parallel. Claimants are indexed by an open-addressed
+// table so a proof is found without a search.
+public final class TipDistributionMerkleTree {
+
+  public static final byte LEAF_PREFIX = 0;
+  public static final byte INTERMEDIATE_PREFIX = 1;
+  public static final int HASH_LENGTH = 32;
+
+  private static final int PARALLEL_THRESHOLD = 1 << 12;
+
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  });
+
+  private final int numLeaves;
+  private final byte[] claimants;
+  private final long[] amounts;
+  private final long totalClaim;
+  private final byte[][] levels;
+  private final int[] index;
+  private final int indexMask;
+
+  private TipDistributionMerkleTree(final int numLeaves,
+                                    final byte[] claimants,
+                                    final long[] amounts,
+                                    final long totalClaim,
+                                    final byte[][] levels,
+                                    final int[] index) {
+    this.numLeaves = numLeaves;
+    this.claimants = claimants;
+    this.amounts = amounts;
+    this.totalClaim = totalClaim;
+    this.levels = levels;
+    this.index = index;
+    this.indexMask = index.length - 1;
+  }
+
+  public static Builder builder(final int expectedLeaves) {
+    return new Builder(expectedLeaves);
+  }
+
+  // A claimant added more than once has a single leaf holding the sum of its amounts.
+  public static final class Builder {
+
+    private byte[] claimants;
+    private long[] amounts;
+    private int[] index;
+    private int numLeaves;
+
+    private Builder(final int expectedLeaves) {
+      final int capacity = Math.max(1, expectedLeaves);
+      this.claimants = new byte[capacity * PublicKey.PUBLIC_KEY_LENGTH];
+      this.amounts = new long[capacity];
+      this.index = new int[indexLength(capacity)];
+    }
+
+    // Throws an ArithmeticException if merging with an earlier amount for the claimant overflows.
+    public Builder add(final PublicKey claimant, final long amount) {
+      ensureCapacity();
+      claimant.write(claimants, numLeaves * PublicKey.PUBLIC_KEY_LENGTH);
+      return addAmount(amount);
+    }
+
+    // Adds the claimant key stored at keyOffset without materializing a PublicKey.
+    public Builder add(final byte[] claimant, final int keyOffset, final long amount) {
+      ensureCapacity();
+      System.arraycopy(claimant, keyOffset, claimants, numLeaves * PublicKey.PUBLIC_KEY_LENGTH, PublicKey.PUBLIC_KEY_LENGTH);
+      return addAmount(amount);
+    }
+
+    // The claimant has been written to the next leaf slot, either claims it or merges into the existing leaf.
+    private Builder addAmount(final long amount) {
+      final int leaf = indexLeaf(index, claimants, numLeaves);
+      if (leaf == numLeaves) {
+        amounts[numLeaves++] = amount;
+      } else {
+        amounts[leaf] = Math.addExact(amounts[leaf], amount);
+      }
+      return this;
+    }
+
+    public int numLeaves() {
+      return numLeaves;
+    }
+
+    private void ensureCapacity() {
+      if (numLeaves == amounts.length) {
+        final int capacity = Math.multiplyExact(amounts.length, 2);
+        amounts = Arrays.copyOf(amounts, capacity);
+        claimants = Arrays.copyOf(claimants, Math.multiplyExact(capacity, PublicKey.PUBLIC_KEY_LENGTH));
+        index = new int[indexLength(capacity)];
+        for (int i = 0; i < numLeaves; ++i) {
+          indexLeaf(index, claimants, i);
+        }
+      }
+    }
+
+    public TipDistributionMerkleTree build() {
+      if (numLeaves == 0) {
+        throw new IllegalStateException("Merkle tree requires at least one leaf");
+      }
+      final int n = numLeaves;
+      final var claimants = this.claimants.length == n * PublicKey.PUBLIC_KEY_LENGTH
+          ? this.claimants
+          : Arrays.copyOf(this.claimants, n * PublicKey.PUBLIC_KEY_LENGTH);
+      final var amounts = this.amounts.length == n ? this.amounts : Arrays.copyOf(this.amounts, n);
+
+      long totalClaim = 0;
+      for (final long amount : amounts) {
+        totalClaim = Math.addExact(totalClaim, amount);
+      }
+
+      int numLevels = 1;
+      for (int len = n; len > 1; len = (len + 1) >> 1) {
+        ++numLevels;
+      }
+      final var levels = new byte[numLevels][];
+      final var leaves = new byte[n * HASH_LENGTH];
+      range(n).forEach(i -> hashLeaf(claimants, i * PublicKey.PUBLIC_KEY_LENGTH, amounts[i], leaves, i * HASH_LENGTH));
+      levels[0] = leaves;
+      for (int level = 1, len = n; level < numLevels; ++level) {
+        final var below = levels[level - 1];
+        final int belowLen = len;
+        len = (len + 1) >> 1;
+        final var nodes = new byte[len * HASH_LENGTH];
+        range(len).forEach(i -> {
+          final int left = (i << 1) * HASH_LENGTH;
+          final int right = (i << 1) + 1 < belowLen ? left + HASH_LENGTH : left;
+          hashIntermediate(below, left, below, right, nodes, i * HASH_LENGTH);
+        });
+        levels[level] = nodes;
+      }
+
+      // the builder keeps adding to its own index
+      return new TipDistributionMerkleTree(n, claimants, amounts, totalClaim, levels, index.clone());
+    }
+  }
+
+  public byte[] root() {
+    return Arrays.copyOf(levels[levels.length - 1], HASH_LENGTH);
+  }
+
+  // maxNumNodes for uploadMerkleRoot.
+  public int numNodes() {
+    return numLeaves;
+  }
+
+  // maxTotalClaim for uploadMerkleRoot.
+  public long totalClaim() {
+    return totalClaim;
+  }
+
+  public PublicKey claimant(final int leafIndex) {
+    return PublicKey.readPubKey(claimants, leafIndex * PublicKey.PUBLIC_KEY_LENGTH);
+  }
+
+  public long amount(final int leafIndex) {
+    return amounts[leafIndex];
+  }
+
+  public byte[] leaf(final int leafIndex) {
+    final int from = leafIndex * HASH_LENGTH;
+    return Arrays.copyOfRange(levels[0], from, from + HASH_LENGTH);
+  }
+
+  // Leaf index of the claimant, or -1 if it is not in the tree.
+  public int leafIndex(final PublicKey claimant) {
+    final var key = claimant.toByteArray();
+    for (int h = hash(key, 0) & indexMask; ; h = (h + 1) & indexMask) {
+      final int entry = index[h];
+      if (entry == 0) {
+        return -1;
+      } else if (equalKeys(claimants, (entry - 1) * PublicKey.PUBLIC_KEY_LENGTH, key, 0)) {
+        return entry - 1;
+      }
+    }
+  }
+
+  // Sibling hashes from the leaf up to, but excluding, the root.
+  // Throws an IndexOutOfBoundsException if leafIndex is not in [0, numLeaves).
+  public byte[][] proof(final int leafIndex) {
+    if (leafIndex < 0 || leafIndex >= numLeaves) {
+      throw new IndexOutOfBoundsException("Leaf index " + leafIndex + " out of bounds for " + numLeaves + " leaves");
+    }
+    final var proof = new byte[levels.length - 1][];
+    for (int level = 0, i = leafIndex, len = numLeaves; level < proof.length; ++level, i >>= 1, len = (len + 1) >> 1) {
+      final int sibling = (i ^ 1) < len ? i ^ 1 : i;
+      final int from = sibling * HASH_LENGTH;
+      proof[level] = Arrays.copyOfRange(levels[level], from, from + HASH_LENGTH);
+    }
+    return proof;
+  }
+
+  // Proof for the claimant, or null if it is not in the tree.
+  public byte[][] proof(final PublicKey claimant) {
+    final int leafIndex = leafIndex(claimant);
+    return leafIndex < 0 ? null : proof(leafIndex);
+  }
+
+  public static byte[] leafHash(final PublicKey claimant, final long amount) {
+    final var out = new byte[HASH_LENGTH];
+    hashLeaf(claimant.toByteArray(), 0, amount, out, 0);
+    return out;
+  }
+
+  // Mirrors the on-chain verification of a claim.
+  public static boolean verify(final byte[][] proof, final byte[] root, final byte[] leaf) {
+    var node = leaf;
+    for (final var sibling : proof) {
+      final var next = new byte[HASH_LENGTH];
+      hashIntermediate(node, 0, sibling, 0, next, 0);
+      node = next;
+    }
+    return Arrays.equals(node, root);
+  }
+
+  private static void hashLeaf(final byte[] claimants,
+                               final int keyOffset,
+                               final long amount,
+                               final byte[] out,
+                               final int outOffset) {
+    final var digest = SHA_256.get();
+    final var amountLE = new byte[Long.BYTES];
+    putInt64LE(amountLE, 0, amount);
+    digest.update(claimants, keyOffset, PublicKey.PUBLIC_KEY_LENGTH);
+    digest.update(amountLE);
+    final var inner = digest.digest();
+    digest.update(LEAF_PREFIX);
+    digest.update(inner);
+    digestInto(digest, out, outOffset);
+  }
+
+  private static void hashIntermediate(final byte[] a, final int aOffset,
+                                       final byte[] b, final int bOffset,
+                                       final byte[] out, final int outOffset) {
+    final var digest = SHA_256.get();
+    digest.update(INTERMEDIATE_PREFIX);
+    if (Arrays.compareUnsigned(a, aOffset, aOffset + HASH_LENGTH, b, bOffset, bOffset + HASH_LENGTH) <= 0) {
+      digest.update(a, aOffset, HASH_LENGTH);
+      digest.update(b, bOffset, HASH_LENGTH);
+    } else {
+      digest.update(b, bOffset, HASH_LENGTH);
+      digest.update(a, aOffset, HASH_LENGTH);
+    }
+    digestInto(digest, out, outOffset);
+  }
+
+  private static void digestInto(final MessageDigest digest, final byte[] out, final int outOffset) {
+    try {
+      digest.digest(out, outOffset, HASH_LENGTH);
+    } catch (final DigestException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static IntStream range(final int len) {
+    final var range = IntStream.range(0, len);
+    return len >= PARALLEL_THRESHOLD ? range.parallel() : range;
+  }
+
+  // Open-addressed table of leaf index + 1, kept at most half full.
+  private static int indexLength(final int capacity) {
+    return Integer.highestOneBit(Math.max(2, capacity) - 1) << 2;
+  }
+
+  // Returns the leaf already holding the claimant of leaf i, otherwise indexes and returns i.
+  private static int indexLeaf(final int[] index, final byte[] claimants, final int i) {
+    final int mask = index.length - 1;
+    final int keyOffset = i * PublicKey.PUBLIC_KEY_LENGTH;
+    for (int h = hash(claimants, keyOffset) & mask; ; h = (h + 1) & mask) {
+      final int entry = index[h];
+      if (entry == 0) {
+        index[h] = i + 1;
+        return i;
+      } else if (equalKeys(claimants, (entry - 1) * PublicKey.PUBLIC_KEY_LENGTH, claimants, keyOffset)) {
+        return entry - 1;
+      }
+    }
+  }
+
+  private static int hash(final byte[] key, final int keyOffset) {
+    final long bits = getInt64LE(key, keyOffset);
+    return (int) (bits ^ (bits >>> 32));
+  }
+
+  private static boolean equalKeys(final byte[] a, final int aOffset, final byte[] b, final int bOffset) {
+    return Arrays.equals(
+        a, aOffset, aOffset + PublicKey.PUBLIC_KEY_LENGTH,
+        b, bOffset, bOffset + PublicKey.PUBLIC_KEY_LENGTH
+    );
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jito.tip_distribution.JitoTipDistributionInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseClaimStatusIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.CLOSE_CLAIM_STATUS_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseClaimStatusIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseClaimStatusIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseClaimStatusIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseClaimStatusIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseClaimStatusIxDataSegmentView(segment, 0);
+  }
+
+  public CloseClaimStatusIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseClaimStatusIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionInstructionDecoder.CloseClaimStatusIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionInstructionDecoder.CloseClaimStatusIxData.BYTES, JitoTipDistributionInstructionDecoder.CloseClaimStatusIxData::read);
+  }
+}
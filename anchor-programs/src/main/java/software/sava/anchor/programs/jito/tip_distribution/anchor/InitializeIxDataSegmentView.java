@@ -0,0 +1,86 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.INITIALIZE_DISCRIMINATOR.data(), 0);
+
+  private static final int AUTHORITY_OFFSET = 8;
+  private static final int EXPIRED_FUNDS_ACCOUNT_OFFSET = AUTHORITY_OFFSET + 32;
+  private static final int NUM_EPOCHS_VALID_OFFSET = EXPIRED_FUNDS_ACCOUNT_OFFSET + 32;
+  private static final int MAX_VALIDATOR_COMMISSION_BPS_OFFSET = NUM_EPOCHS_VALID_OFFSET + 8;
+  private static final int BUMP_OFFSET = MAX_VALIDATOR_COMMISSION_BPS_OFFSET + 2;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionProgram.InitializeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionProgram.InitializeIxData.BYTES, JitoTipDistributionProgram.InitializeIxData::read);
+  }
+
+  public PublicKey authority() {
+    return readPubKey(segment, offset + AUTHORITY_OFFSET);
+  }
+
+  public PublicKey expiredFundsAccount() {
+    return readPubKey(segment, offset + EXPIRED_FUNDS_ACCOUNT_OFFSET);
+  }
+
+  public long numEpochsValid() {
+    return getInt64LE(segment, offset + NUM_EPOCHS_VALID_OFFSET);
+  }
+
+  public int maxValidatorCommissionBps() {
+    return getInt16LE(segment, offset + MAX_VALIDATOR_COMMISSION_BPS_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + BUMP_OFFSET) & 0xFF;
+  }
+}
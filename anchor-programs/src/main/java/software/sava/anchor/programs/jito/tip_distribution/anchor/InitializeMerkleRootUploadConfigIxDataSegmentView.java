@@ -0,0 +1,69 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeMerkleRootUploadConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.INITIALIZE_MERKLE_ROOT_UPLOAD_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int AUTHORITY_OFFSET = 8;
+  private static final int ORIGINAL_AUTHORITY_OFFSET = AUTHORITY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeMerkleRootUploadConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeMerkleRootUploadConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeMerkleRootUploadConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeMerkleRootUploadConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeMerkleRootUploadConfigIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeMerkleRootUploadConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeMerkleRootUploadConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionProgram.InitializeMerkleRootUploadConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionProgram.InitializeMerkleRootUploadConfigIxData.BYTES, JitoTipDistributionProgram.InitializeMerkleRootUploadConfigIxData::read);
+  }
+
+  public PublicKey authority() {
+    return readPubKey(segment, offset + AUTHORITY_OFFSET);
+  }
+
+  public PublicKey originalAuthority() {
+    return readPubKey(segment, offset + ORIGINAL_AUTHORITY_OFFSET);
+  }
+}
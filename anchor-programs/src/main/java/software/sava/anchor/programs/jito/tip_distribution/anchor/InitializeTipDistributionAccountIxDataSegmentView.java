@@ -0,0 +1,76 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeTipDistributionAccountIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.INITIALIZE_TIP_DISTRIBUTION_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  private static final int MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET = 8;
+  private static final int VALIDATOR_COMMISSION_BPS_OFFSET = MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET + 32;
+  private static final int BUMP_OFFSET = VALIDATOR_COMMISSION_BPS_OFFSET + 2;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeTipDistributionAccountIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeTipDistributionAccountIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeTipDistributionAccountIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeTipDistributionAccountIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeTipDistributionAccountIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeTipDistributionAccountIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeTipDistributionAccountIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionProgram.InitializeTipDistributionAccountIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionProgram.InitializeTipDistributionAccountIxData.BYTES, JitoTipDistributionProgram.InitializeTipDistributionAccountIxData::read);
+  }
+
+  public PublicKey merkleRootUploadAuthority() {
+    return readPubKey(segment, offset + MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET);
+  }
+
+  public int validatorCommissionBps() {
+    return getInt16LE(segment, offset + VALIDATOR_COMMISSION_BPS_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + BUMP_OFFSET) & 0xFF;
+  }
+}
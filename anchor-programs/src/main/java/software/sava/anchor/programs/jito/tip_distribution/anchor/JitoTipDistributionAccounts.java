@@ -0,0 +1,44 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.ClaimStatus;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.Config;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.MerkleRootUploadConfig;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.TipDistributionAccount;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class JitoTipDistributionAccounts {
+
+  public static final long CLAIM_STATUS_DISCRIMINATOR = getInt64LE(ClaimStatus.DISCRIMINATOR.data(), 0);
+  public static final long CONFIG_DISCRIMINATOR = getInt64LE(Config.DISCRIMINATOR.data(), 0);
+  public static final long MERKLE_ROOT_UPLOAD_CONFIG_DISCRIMINATOR = getInt64LE(MerkleRootUploadConfig.DISCRIMINATOR.data(), 0);
+  public static final long TIP_DISTRIBUTION_ACCOUNT_DISCRIMINATOR = getInt64LE(TipDistributionAccount.DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == CLAIM_STATUS_DISCRIMINATOR) {
+      return ClaimStatus.read(_address, _data, 0);
+    } else if (discriminator == CONFIG_DISCRIMINATOR) {
+      return Config.read(_address, _data, 0);
+    } else if (discriminator == MERKLE_ROOT_UPLOAD_CONFIG_DISCRIMINATOR) {
+      return MerkleRootUploadConfig.read(_address, _data, 0);
+    } else if (discriminator == TIP_DISTRIBUTION_ACCOUNT_DISCRIMINATOR) {
+      return TipDistributionAccount.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private JitoTipDistributionAccounts() {
+  }
+}
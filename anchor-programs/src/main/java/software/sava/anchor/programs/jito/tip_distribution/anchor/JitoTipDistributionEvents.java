@@ -0,0 +1,88 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.ClaimStatusClosedEvent;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.ClaimedEvent;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.ConfigUpdatedEvent;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.MerkleRootUploadAuthorityUpdatedEvent;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.MerkleRootUploadedEvent;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.TipDistributionAccountClosedEvent;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.TipDistributionAccountInitializedEvent;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.ValidatorCommissionBpsUpdatedEvent;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class JitoTipDistributionEvents {
+
+  public static final Discriminator CLAIM_STATUS_CLOSED_EVENT_DISCRIMINATOR = toDiscriminator(188, 143, 237, 229, 192, 182, 164, 118);
+  public static final Discriminator CLAIMED_EVENT_DISCRIMINATOR = toDiscriminator(144, 172, 209, 86, 144, 87, 84, 115);
+  public static final Discriminator CONFIG_UPDATED_EVENT_DISCRIMINATOR = toDiscriminator(245, 158, 129, 99, 60, 100, 214, 220);
+  public static final Discriminator MERKLE_ROOT_UPLOAD_AUTHORITY_UPDATED_EVENT_DISCRIMINATOR = toDiscriminator(83, 157, 58, 165, 200, 171, 8, 106);
+  public static final Discriminator MERKLE_ROOT_UPLOADED_EVENT_DISCRIMINATOR = toDiscriminator(94, 233, 236, 49, 52, 224, 181, 167);
+  public static final Discriminator TIP_DISTRIBUTION_ACCOUNT_CLOSED_EVENT_DISCRIMINATOR = toDiscriminator(246, 152, 49, 154, 9, 79, 25, 58);
+  public static final Discriminator TIP_DISTRIBUTION_ACCOUNT_INITIALIZED_EVENT_DISCRIMINATOR = toDiscriminator(39, 165, 224, 61, 40, 140, 139, 255);
+  public static final Discriminator VALIDATOR_COMMISSION_BPS_UPDATED_EVENT_DISCRIMINATOR = toDiscriminator(4, 34, 92, 25, 228, 88, 51, 206);
+
+  public static final long CLAIM_STATUS_CLOSED_EVENT_DISCRIMINATOR_LONG = getInt64LE(CLAIM_STATUS_CLOSED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long CLAIMED_EVENT_DISCRIMINATOR_LONG = getInt64LE(CLAIMED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long CONFIG_UPDATED_EVENT_DISCRIMINATOR_LONG = getInt64LE(CONFIG_UPDATED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long MERKLE_ROOT_UPLOAD_AUTHORITY_UPDATED_EVENT_DISCRIMINATOR_LONG = getInt64LE(MERKLE_ROOT_UPLOAD_AUTHORITY_UPDATED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long MERKLE_ROOT_UPLOADED_EVENT_DISCRIMINATOR_LONG = getInt64LE(MERKLE_ROOT_UPLOADED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long TIP_DISTRIBUTION_ACCOUNT_CLOSED_EVENT_DISCRIMINATOR_LONG = getInt64LE(TIP_DISTRIBUTION_ACCOUNT_CLOSED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long TIP_DISTRIBUTION_ACCOUNT_INITIALIZED_EVENT_DISCRIMINATOR_LONG = getInt64LE(TIP_DISTRIBUTION_ACCOUNT_INITIALIZED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long VALIDATOR_COMMISSION_BPS_UPDATED_EVENT_DISCRIMINATOR_LONG = getInt64LE(VALIDATOR_COMMISSION_BPS_UPDATED_EVENT_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      MERKLE_ROOT_UPLOADED_EVENT_DISCRIMINATOR_LONG,
+      VALIDATOR_COMMISSION_BPS_UPDATED_EVENT_DISCRIMINATOR_LONG,
+      CONFIG_UPDATED_EVENT_DISCRIMINATOR_LONG,
+      TIP_DISTRIBUTION_ACCOUNT_INITIALIZED_EVENT_DISCRIMINATOR_LONG,
+      TIP_DISTRIBUTION_ACCOUNT_CLOSED_EVENT_DISCRIMINATOR_LONG,
+      MERKLE_ROOT_UPLOAD_AUTHORITY_UPDATED_EVENT_DISCRIMINATOR_LONG,
+      CLAIMED_EVENT_DISCRIMINATOR_LONG,
+      CLAIM_STATUS_CLOSED_EVENT_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> MerkleRootUploadedEvent.read(_data, i);
+      case 1 -> ValidatorCommissionBpsUpdatedEvent.read(_data, i);
+      case 2 -> ConfigUpdatedEvent.read(_data, i);
+      case 3 -> TipDistributionAccountInitializedEvent.read(_data, i);
+      case 4 -> TipDistributionAccountClosedEvent.read(_data, i);
+      case 5 -> MerkleRootUploadAuthorityUpdatedEvent.read(_data, i);
+      case 6 -> ClaimedEvent.read(_data, i);
+      case 7 -> ClaimStatusClosedEvent.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private JitoTipDistributionEvents() {
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jito.tip_distribution.JitoTipDistributionInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.MIGRATE_TDA_MERKLE_ROOT_UPLOAD_AUTHORITY_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView(segment, offset);
+  }
+
+  public static MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView(segment, 0);
+  }
+
+  public MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MigrateTdaMerkleRootUploadAuthorityIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionInstructionDecoder.MigrateTdaMerkleRootUploadAuthorityIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionInstructionDecoder.MigrateTdaMerkleRootUploadAuthorityIxData.BYTES, JitoTipDistributionInstructionDecoder.MigrateTdaMerkleRootUploadAuthorityIxData::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jito.tip_distribution.anchor.types.Config;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UpdateConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.UPDATE_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int NEW_CONFIG_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdateConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdateConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdateConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static UpdateConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UpdateConfigIxDataSegmentView(segment, 0);
+  }
+
+  public UpdateConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdateConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionProgram.UpdateConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionProgram.UpdateConfigIxData.BYTES, JitoTipDistributionProgram.UpdateConfigIxData::read);
+  }
+
+  public Config newConfig() {
+    return MemorySegmentUtil.read(segment, offset + NEW_CONFIG_OFFSET, Config.BYTES, Config::read);
+  }
+}
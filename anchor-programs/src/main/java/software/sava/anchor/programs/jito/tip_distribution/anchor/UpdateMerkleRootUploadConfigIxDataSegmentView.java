@@ -0,0 +1,69 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UpdateMerkleRootUploadConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.UPDATE_MERKLE_ROOT_UPLOAD_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int AUTHORITY_OFFSET = 8;
+  private static final int ORIGINAL_AUTHORITY_OFFSET = AUTHORITY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdateMerkleRootUploadConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdateMerkleRootUploadConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdateMerkleRootUploadConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static UpdateMerkleRootUploadConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UpdateMerkleRootUploadConfigIxDataSegmentView(segment, 0);
+  }
+
+  public UpdateMerkleRootUploadConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdateMerkleRootUploadConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionProgram.UpdateMerkleRootUploadConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionProgram.UpdateMerkleRootUploadConfigIxData.BYTES, JitoTipDistributionProgram.UpdateMerkleRootUploadConfigIxData::read);
+  }
+
+  public PublicKey authority() {
+    return readPubKey(segment, offset + AUTHORITY_OFFSET);
+  }
+
+  public PublicKey originalAuthority() {
+    return readPubKey(segment, offset + ORIGINAL_AUTHORITY_OFFSET);
+  }
+}
@@ -0,0 +1,73 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UploadMerkleRootIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipDistributionProgram.UPLOAD_MERKLE_ROOT_DISCRIMINATOR.data(), 0);
+
+  private static final int ROOT_OFFSET = 8;
+  private static final int MAX_TOTAL_CLAIM_OFFSET = ROOT_OFFSET + 32;
+  private static final int MAX_NUM_NODES_OFFSET = MAX_TOTAL_CLAIM_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UploadMerkleRootIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UploadMerkleRootIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UploadMerkleRootIxDataSegmentView(segment, offset);
+  }
+
+  public static UploadMerkleRootIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UploadMerkleRootIxDataSegmentView(segment, 0);
+  }
+
+  public UploadMerkleRootIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UploadMerkleRootIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipDistributionProgram.UploadMerkleRootIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipDistributionProgram.UploadMerkleRootIxData.BYTES, JitoTipDistributionProgram.UploadMerkleRootIxData::read);
+  }
+
+  public byte[] root() {
+    return copy(segment, offset + ROOT_OFFSET, 32);
+  }
+
+  public long maxTotalClaim() {
+    return getInt64LE(segment, offset + MAX_TOTAL_CLAIM_OFFSET);
+  }
+
+  public long maxNumNodes() {
+    return getInt64LE(segment, offset + MAX_NUM_NODES_OFFSET);
+  }
+}
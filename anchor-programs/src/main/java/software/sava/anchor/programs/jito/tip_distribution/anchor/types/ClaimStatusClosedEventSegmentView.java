@@ -0,0 +1,61 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ClaimStatusClosedEventSegmentView {
+
+  private static final int CLAIM_STATUS_PAYER_OFFSET = 0;
+  private static final int CLAIM_STATUS_ACCOUNT_OFFSET = CLAIM_STATUS_PAYER_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimStatusClosedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimStatusClosedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimStatusClosedEventSegmentView(segment, offset);
+  }
+
+  public static ClaimStatusClosedEventSegmentView wrap(final MemorySegment segment) {
+    return new ClaimStatusClosedEventSegmentView(segment, 0);
+  }
+
+  public ClaimStatusClosedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimStatusClosedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ClaimStatusClosedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, ClaimStatusClosedEvent.BYTES, ClaimStatusClosedEvent::read);
+  }
+
+  public PublicKey claimStatusPayer() {
+    return readPubKey(segment, offset + CLAIM_STATUS_PAYER_OFFSET);
+  }
+
+  public PublicKey claimStatusAccount() {
+    return readPubKey(segment, offset + CLAIM_STATUS_ACCOUNT_OFFSET);
+  }
+}
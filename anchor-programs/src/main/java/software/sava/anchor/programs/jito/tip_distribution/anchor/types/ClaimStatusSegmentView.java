@@ -0,0 +1,94 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ClaimStatusSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ClaimStatus.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimStatusSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimStatusSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimStatusSegmentView(segment, offset);
+  }
+
+  public static ClaimStatusSegmentView wrap(final MemorySegment segment) {
+    return new ClaimStatusSegmentView(segment, 0);
+  }
+
+  public ClaimStatusSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimStatusSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ClaimStatus read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, ClaimStatus.BYTES, ClaimStatus::read);
+  }
+
+  // If true, the tokens have been claimed.
+  public boolean isClaimed() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ClaimStatus.IS_CLAIMED_OFFSET) == 1;
+  }
+
+  // Authority that claimed the tokens. Allows for delegated rewards claiming.
+  public PublicKey claimant() {
+    return readPubKey(segment, offset + ClaimStatus.CLAIMANT_OFFSET);
+  }
+
+  // The payer who created the claim.
+  public PublicKey claimStatusPayer() {
+    return readPubKey(segment, offset + ClaimStatus.CLAIM_STATUS_PAYER_OFFSET);
+  }
+
+  // When the funds were claimed.
+  public long slotClaimedAt() {
+    return getInt64LE(segment, offset + ClaimStatus.SLOT_CLAIMED_AT_OFFSET);
+  }
+
+  // Amount of funds claimed.
+  public long amount() {
+    return getInt64LE(segment, offset + ClaimStatus.AMOUNT_OFFSET);
+  }
+
+  // The epoch (upto and including) that tip funds can be claimed.
+  // Copied since TDA can be closed, need to track to avoid making multiple claims
+  public long expiresAt() {
+    return getInt64LE(segment, offset + ClaimStatus.EXPIRES_AT_OFFSET);
+  }
+
+  // The bump used to generate this account
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ClaimStatus.BUMP_OFFSET) & 0xFF;
+  }
+}
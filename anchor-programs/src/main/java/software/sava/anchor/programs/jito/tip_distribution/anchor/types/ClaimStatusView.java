@@ -0,0 +1,89 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class ClaimStatusView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(ClaimStatus.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private ClaimStatusView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ClaimStatusView wrap(final byte[] _data, final int offset) {
+    return new ClaimStatusView(_data, offset);
+  }
+
+  public static ClaimStatusView wrap(final byte[] _data) {
+    return new ClaimStatusView(_data, 0);
+  }
+
+  public ClaimStatusView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimStatusView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ClaimStatus read(final PublicKey _address) {
+    return ClaimStatus.read(_address, _data, offset);
+  }
+
+  // If true, the tokens have been claimed.
+  public boolean isClaimed() {
+    return _data[offset + ClaimStatus.IS_CLAIMED_OFFSET] == 1;
+  }
+
+  // Authority that claimed the tokens. Allows for delegated rewards claiming.
+  public PublicKey claimant() {
+    return readPubKey(_data, offset + ClaimStatus.CLAIMANT_OFFSET);
+  }
+
+  // The payer who created the claim.
+  public PublicKey claimStatusPayer() {
+    return readPubKey(_data, offset + ClaimStatus.CLAIM_STATUS_PAYER_OFFSET);
+  }
+
+  // When the funds were claimed.
+  public long slotClaimedAt() {
+    return getInt64LE(_data, offset + ClaimStatus.SLOT_CLAIMED_AT_OFFSET);
+  }
+
+  // Amount of funds claimed.
+  public long amount() {
+    return getInt64LE(_data, offset + ClaimStatus.AMOUNT_OFFSET);
+  }
+
+  // The epoch (upto and including) that tip funds can be claimed.
+  // Copied since TDA can be closed, need to track to avoid making multiple claims
+  public long expiresAt() {
+    return getInt64LE(_data, offset + ClaimStatus.EXPIRES_AT_OFFSET);
+  }
+
+  // The bump used to generate this account
+  public int bump() {
+    return _data[offset + ClaimStatus.BUMP_OFFSET] & 0xFF;
+  }
+}
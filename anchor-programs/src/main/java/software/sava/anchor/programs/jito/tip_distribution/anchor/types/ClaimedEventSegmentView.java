@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ClaimedEventSegmentView {
+
+  private static final int TIP_DISTRIBUTION_ACCOUNT_OFFSET = 0;
+  private static final int PAYER_OFFSET = TIP_DISTRIBUTION_ACCOUNT_OFFSET + 32;
+  private static final int CLAIMANT_OFFSET = PAYER_OFFSET + 32;
+  private static final int AMOUNT_OFFSET = CLAIMANT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimedEventSegmentView(segment, offset);
+  }
+
+  public static ClaimedEventSegmentView wrap(final MemorySegment segment) {
+    return new ClaimedEventSegmentView(segment, 0);
+  }
+
+  public ClaimedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ClaimedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, ClaimedEvent.BYTES, ClaimedEvent::read);
+  }
+
+  public PublicKey tipDistributionAccount() {
+    return readPubKey(segment, offset + TIP_DISTRIBUTION_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey payer() {
+    return readPubKey(segment, offset + PAYER_OFFSET);
+  }
+
+  public PublicKey claimant() {
+    return readPubKey(segment, offset + CLAIMANT_OFFSET);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,85 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ConfigSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Config.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ConfigSegmentView(segment, offset);
+  }
+
+  public static ConfigSegmentView wrap(final MemorySegment segment) {
+    return new ConfigSegmentView(segment, 0);
+  }
+
+  public ConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Config read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Config.BYTES, Config::read);
+  }
+
+  // Account with authority over this PDA.
+  public PublicKey authority() {
+    return readPubKey(segment, offset + Config.AUTHORITY_OFFSET);
+  }
+
+  // We want to expire funds after some time so that validators can be refunded the rent.
+  // Expired funds will get transferred to this account.
+  public PublicKey expiredFundsAccount() {
+    return readPubKey(segment, offset + Config.EXPIRED_FUNDS_ACCOUNT_OFFSET);
+  }
+
+  // Specifies the number of epochs a merkle root is valid for before expiring.
+  public long numEpochsValid() {
+    return getInt64LE(segment, offset + Config.NUM_EPOCHS_VALID_OFFSET);
+  }
+
+  // The maximum commission a validator can set on their distribution account.
+  public int maxValidatorCommissionBps() {
+    return getInt16LE(segment, offset + Config.MAX_VALIDATOR_COMMISSION_BPS_OFFSET);
+  }
+
+  // The bump used to generate this account
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Config.BUMP_OFFSET) & 0xFF;
+  }
+}
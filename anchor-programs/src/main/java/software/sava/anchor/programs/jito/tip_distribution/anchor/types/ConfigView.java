@@ -0,0 +1,80 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class ConfigView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Config.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private ConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ConfigView wrap(final byte[] _data, final int offset) {
+    return new ConfigView(_data, offset);
+  }
+
+  public static ConfigView wrap(final byte[] _data) {
+    return new ConfigView(_data, 0);
+  }
+
+  public ConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Config read(final PublicKey _address) {
+    return Config.read(_address, _data, offset);
+  }
+
+  // Account with authority over this PDA.
+  public PublicKey authority() {
+    return readPubKey(_data, offset + Config.AUTHORITY_OFFSET);
+  }
+
+  // We want to expire funds after some time so that validators can be refunded the rent.
+  // Expired funds will get transferred to this account.
+  public PublicKey expiredFundsAccount() {
+    return readPubKey(_data, offset + Config.EXPIRED_FUNDS_ACCOUNT_OFFSET);
+  }
+
+  // Specifies the number of epochs a merkle root is valid for before expiring.
+  public long numEpochsValid() {
+    return getInt64LE(_data, offset + Config.NUM_EPOCHS_VALID_OFFSET);
+  }
+
+  // The maximum commission a validator can set on their distribution account.
+  public int maxValidatorCommissionBps() {
+    return getInt16LE(_data, offset + Config.MAX_VALIDATOR_COMMISSION_BPS_OFFSET);
+  }
+
+  // The bump used to generate this account
+  public int bump() {
+    return _data[offset + Config.BUMP_OFFSET] & 0xFF;
+  }
+}
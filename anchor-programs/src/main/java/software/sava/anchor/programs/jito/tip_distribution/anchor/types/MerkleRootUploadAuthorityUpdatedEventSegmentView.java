@@ -0,0 +1,61 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class MerkleRootUploadAuthorityUpdatedEventSegmentView {
+
+  private static final int OLD_AUTHORITY_OFFSET = 0;
+  private static final int NEW_AUTHORITY_OFFSET = OLD_AUTHORITY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MerkleRootUploadAuthorityUpdatedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MerkleRootUploadAuthorityUpdatedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MerkleRootUploadAuthorityUpdatedEventSegmentView(segment, offset);
+  }
+
+  public static MerkleRootUploadAuthorityUpdatedEventSegmentView wrap(final MemorySegment segment) {
+    return new MerkleRootUploadAuthorityUpdatedEventSegmentView(segment, 0);
+  }
+
+  public MerkleRootUploadAuthorityUpdatedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleRootUploadAuthorityUpdatedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public MerkleRootUploadAuthorityUpdatedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, MerkleRootUploadAuthorityUpdatedEvent.BYTES, MerkleRootUploadAuthorityUpdatedEvent::read);
+  }
+
+  public PublicKey oldAuthority() {
+    return readPubKey(segment, offset + OLD_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey newAuthority() {
+    return readPubKey(segment, offset + NEW_AUTHORITY_OFFSET);
+  }
+}
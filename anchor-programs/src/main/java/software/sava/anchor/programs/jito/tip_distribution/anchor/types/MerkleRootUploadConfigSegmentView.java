@@ -0,0 +1,74 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MerkleRootUploadConfigSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MerkleRootUploadConfig.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MerkleRootUploadConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MerkleRootUploadConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MerkleRootUploadConfigSegmentView(segment, offset);
+  }
+
+  public static MerkleRootUploadConfigSegmentView wrap(final MemorySegment segment) {
+    return new MerkleRootUploadConfigSegmentView(segment, 0);
+  }
+
+  public MerkleRootUploadConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleRootUploadConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MerkleRootUploadConfig read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, MerkleRootUploadConfig.BYTES, MerkleRootUploadConfig::read);
+  }
+
+  // The authority that overrides the TipDistributionAccount merkle_root_upload_authority
+  public PublicKey overrideAuthority() {
+    return readPubKey(segment, offset + MerkleRootUploadConfig.OVERRIDE_AUTHORITY_OFFSET);
+  }
+
+  // The original merkle root upload authority that can be changed to the new overrided
+  // authority. E.g. Jito Labs authority GZctHpWXmsZC1YHACTGGcHhYxjdRqQvTpYkb9LMvxDib
+  public PublicKey originalUploadAuthority() {
+    return readPubKey(segment, offset + MerkleRootUploadConfig.ORIGINAL_UPLOAD_AUTHORITY_OFFSET);
+  }
+
+  // The bump used to generate this account
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + MerkleRootUploadConfig.BUMP_OFFSET) & 0xFF;
+  }
+}
@@ -0,0 +1,69 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MerkleRootUploadConfigView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(MerkleRootUploadConfig.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private MerkleRootUploadConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MerkleRootUploadConfigView wrap(final byte[] _data, final int offset) {
+    return new MerkleRootUploadConfigView(_data, offset);
+  }
+
+  public static MerkleRootUploadConfigView wrap(final byte[] _data) {
+    return new MerkleRootUploadConfigView(_data, 0);
+  }
+
+  public MerkleRootUploadConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleRootUploadConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MerkleRootUploadConfig read(final PublicKey _address) {
+    return MerkleRootUploadConfig.read(_address, _data, offset);
+  }
+
+  // The authority that overrides the TipDistributionAccount merkle_root_upload_authority
+  public PublicKey overrideAuthority() {
+    return readPubKey(_data, offset + MerkleRootUploadConfig.OVERRIDE_AUTHORITY_OFFSET);
+  }
+
+  // The original merkle root upload authority that can be changed to the new overrided
+  // authority. E.g. Jito Labs authority GZctHpWXmsZC1YHACTGGcHhYxjdRqQvTpYkb9LMvxDib
+  public PublicKey originalUploadAuthority() {
+    return readPubKey(_data, offset + MerkleRootUploadConfig.ORIGINAL_UPLOAD_AUTHORITY_OFFSET);
+  }
+
+  // The bump used to generate this account
+  public int bump() {
+    return _data[offset + MerkleRootUploadConfig.BUMP_OFFSET] & 0xFF;
+  }
+}
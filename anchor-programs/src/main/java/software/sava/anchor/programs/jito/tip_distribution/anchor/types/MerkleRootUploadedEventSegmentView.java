@@ -0,0 +1,61 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class MerkleRootUploadedEventSegmentView {
+
+  private static final int MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET = 0;
+  private static final int TIP_DISTRIBUTION_ACCOUNT_OFFSET = MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MerkleRootUploadedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MerkleRootUploadedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MerkleRootUploadedEventSegmentView(segment, offset);
+  }
+
+  public static MerkleRootUploadedEventSegmentView wrap(final MemorySegment segment) {
+    return new MerkleRootUploadedEventSegmentView(segment, 0);
+  }
+
+  public MerkleRootUploadedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleRootUploadedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public MerkleRootUploadedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, MerkleRootUploadedEvent.BYTES, MerkleRootUploadedEvent::read);
+  }
+
+  public PublicKey merkleRootUploadAuthority() {
+    return readPubKey(segment, offset + MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey tipDistributionAccount() {
+    return readPubKey(segment, offset + TIP_DISTRIBUTION_ACCOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,67 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class TipDistributionAccountClosedEventSegmentView {
+
+  private static final int EXPIRED_FUNDS_ACCOUNT_OFFSET = 0;
+  private static final int TIP_DISTRIBUTION_ACCOUNT_OFFSET = EXPIRED_FUNDS_ACCOUNT_OFFSET + 32;
+  private static final int EXPIRED_AMOUNT_OFFSET = TIP_DISTRIBUTION_ACCOUNT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TipDistributionAccountClosedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TipDistributionAccountClosedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TipDistributionAccountClosedEventSegmentView(segment, offset);
+  }
+
+  public static TipDistributionAccountClosedEventSegmentView wrap(final MemorySegment segment) {
+    return new TipDistributionAccountClosedEventSegmentView(segment, 0);
+  }
+
+  public TipDistributionAccountClosedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TipDistributionAccountClosedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public TipDistributionAccountClosedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, TipDistributionAccountClosedEvent.BYTES, TipDistributionAccountClosedEvent::read);
+  }
+
+  public PublicKey expiredFundsAccount() {
+    return readPubKey(segment, offset + EXPIRED_FUNDS_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey tipDistributionAccount() {
+    return readPubKey(segment, offset + TIP_DISTRIBUTION_ACCOUNT_OFFSET);
+  }
+
+  public long expiredAmount() {
+    return getInt64LE(segment, offset + EXPIRED_AMOUNT_OFFSET);
+  }
+}
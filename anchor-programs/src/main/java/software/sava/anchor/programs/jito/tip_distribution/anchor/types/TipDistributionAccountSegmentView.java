@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class TipDistributionAccountSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(TipDistributionAccount.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TipDistributionAccountSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TipDistributionAccountSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TipDistributionAccountSegmentView(segment, offset);
+  }
+
+  public static TipDistributionAccountSegmentView wrap(final MemorySegment segment) {
+    return new TipDistributionAccountSegmentView(segment, 0);
+  }
+
+  public TipDistributionAccountSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TipDistributionAccountSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  // The validator's vote account, also the recipient of remaining lamports after
+  // upon closing this account.
+  public PublicKey validatorVoteAccount() {
+    return readPubKey(segment, offset + TipDistributionAccount.VALIDATOR_VOTE_ACCOUNT_OFFSET);
+  }
+
+  // The only account authorized to upload a merkle-root for this account.
+  public PublicKey merkleRootUploadAuthority() {
+    return readPubKey(segment, offset + TipDistributionAccount.MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET);
+  }
+}
@@ -0,0 +1,64 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class TipDistributionAccountView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(TipDistributionAccount.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private TipDistributionAccountView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static TipDistributionAccountView wrap(final byte[] _data, final int offset) {
+    return new TipDistributionAccountView(_data, offset);
+  }
+
+  public static TipDistributionAccountView wrap(final byte[] _data) {
+    return new TipDistributionAccountView(_data, 0);
+  }
+
+  public TipDistributionAccountView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public TipDistributionAccountView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public TipDistributionAccount read(final PublicKey _address) {
+    return TipDistributionAccount.read(_address, _data, offset);
+  }
+
+  // The validator's vote account, also the recipient of remaining lamports after
+  // upon closing this account.
+  public PublicKey validatorVoteAccount() {
+    return readPubKey(_data, offset + TipDistributionAccount.VALIDATOR_VOTE_ACCOUNT_OFFSET);
+  }
+
+  // The only account authorized to upload a merkle-root for this account.
+  public PublicKey merkleRootUploadAuthority() {
+    return readPubKey(_data, offset + TipDistributionAccount.MERKLE_ROOT_UPLOAD_AUTHORITY_OFFSET);
+  }
+}
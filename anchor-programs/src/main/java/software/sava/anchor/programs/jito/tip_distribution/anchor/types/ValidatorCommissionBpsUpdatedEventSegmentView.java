@@ -0,0 +1,67 @@
+package software.sava.anchor.programs.jito.tip_distribution.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ValidatorCommissionBpsUpdatedEventSegmentView {
+
+  private static final int TIP_DISTRIBUTION_ACCOUNT_OFFSET = 0;
+  private static final int OLD_COMMISSION_BPS_OFFSET = TIP_DISTRIBUTION_ACCOUNT_OFFSET + 32;
+  private static final int NEW_COMMISSION_BPS_OFFSET = OLD_COMMISSION_BPS_OFFSET + 2;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ValidatorCommissionBpsUpdatedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ValidatorCommissionBpsUpdatedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ValidatorCommissionBpsUpdatedEventSegmentView(segment, offset);
+  }
+
+  public static ValidatorCommissionBpsUpdatedEventSegmentView wrap(final MemorySegment segment) {
+    return new ValidatorCommissionBpsUpdatedEventSegmentView(segment, 0);
+  }
+
+  public ValidatorCommissionBpsUpdatedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ValidatorCommissionBpsUpdatedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ValidatorCommissionBpsUpdatedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, ValidatorCommissionBpsUpdatedEvent.BYTES, ValidatorCommissionBpsUpdatedEvent::read);
+  }
+
+  public PublicKey tipDistributionAccount() {
+    return readPubKey(segment, offset + TIP_DISTRIBUTION_ACCOUNT_OFFSET);
+  }
+
+  public int oldCommissionBps() {
+    return getInt16LE(segment, offset + OLD_COMMISSION_BPS_OFFSET);
+  }
+
+  public int newCommissionBps() {
+    return getInt16LE(segment, offset + NEW_COMMISSION_BPS_OFFSET);
+  }
+}
@@ -0,0 +1,44 @@
+package software.sava.anchor.programs.jito.tip_router;
+
+import software.sava.anchor.programs.jito.tip_router.anchor.types.Ballot;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.BallotBox;
+import software.sava.core.accounts.PublicKey;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// The fixed fields of a BallotBox, decoded without touching its 256 operator votes or ballot tallies.
+public record BallotBoxHeader(PublicKey _address,
+                              PublicKey ncn,
+                              long epoch,
+                              long slotCreated,
+                              long slotConsensusReached,
+                              long operatorsVoted,
+                              long uniqueBallots,
+                              Ballot winningBallot) {
+
+  public static BallotBoxHeader read(final AccountInfo<byte[]> accountInfo) {
+    return read(accountInfo.pubKey(), accountInfo.data(), 0);
+  }
+
+  public static BallotBoxHeader read(final PublicKey _address, final byte[] _data, final int offset) {
+    if (_data == null || _data.length < offset + BallotBox.OPERATOR_VOTES_OFFSET) {
+      return null;
+    }
+    return new BallotBoxHeader(
+        _address,
+        readPubKey(_data, offset + BallotBox.NCN_OFFSET),
+        getInt64LE(_data, offset + BallotBox.EPOCH_OFFSET),
+        getInt64LE(_data, offset + BallotBox.SLOT_CREATED_OFFSET),
+        getInt64LE(_data, offset + BallotBox.SLOT_CONSENSUS_REACHED_OFFSET),
+        getInt64LE(_data, offset + BallotBox.OPERATORS_VOTED_OFFSET),
+        getInt64LE(_data, offset + BallotBox.UNIQUE_BALLOTS_OFFSET),
+        Ballot.read(_data, offset + BallotBox.WINNING_BALLOT_OFFSET)
+    );
+  }
+
+  public boolean isConsensusReached() {
+    return winningBallot.isValid();
+  }
+}
@@ -0,0 +1,175 @@
+package software.sava.anchor.programs.jito.tip_router;
+
+import software.sava.anchor.programs.jito.tip_router.anchor.types.Ballot;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.BallotBox;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.BallotTally;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.OperatorVote;
+import software.sava.core.accounts.PublicKey;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// Reads individual operator votes and ballot tallies in place from BallotBox account data.
+// Votes occupy the first operatorsVoted slots, so lookups and iteration never go past them.
+public final class BallotBoxReader {
+
+  public static final int VOTE_OPERATOR_OFFSET = 0;
+  public static final int VOTE_SLOT_VOTED_OFFSET = 32;
+  public static final int VOTE_STAKE_WEIGHTS_OFFSET = 40;
+  public static final int VOTE_BALLOT_INDEX_OFFSET = 184;
+
+  public static final int TALLY_INDEX_OFFSET = 0;
+  public static final int TALLY_BALLOT_OFFSET = 2;
+  public static final int TALLY_STAKE_WEIGHTS_OFFSET = 98;
+  public static final int TALLY_TALLY_OFFSET = 242;
+
+  public static final int BALLOT_META_MERKLE_ROOT_LEN = 32;
+  public static final int BALLOT_IS_VALID_OFFSET = 32;
+
+  private byte[] _data;
+  private int offset;
+
+  private BallotBoxReader(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static BallotBoxReader wrap(final byte[] _data, final int offset) {
+    return new BallotBoxReader(_data, offset);
+  }
+
+  public static BallotBoxReader wrap(final byte[] _data) {
+    return new BallotBoxReader(_data, 0);
+  }
+
+  public BallotBoxReader rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public BallotBoxReader rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public BallotBoxHeader header(final PublicKey _address) {
+    return BallotBoxHeader.read(_address, _data, offset);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + BallotBox.EPOCH_OFFSET);
+  }
+
+  public int numVotes() {
+    final long operatorsVoted = getInt64LE(_data, offset + BallotBox.OPERATORS_VOTED_OFFSET);
+    return (int) Math.min(Math.max(0, operatorsVoted), BallotBox.OPERATOR_VOTES_LEN);
+  }
+
+  public int numBallots() {
+    final long uniqueBallots = getInt64LE(_data, offset + BallotBox.UNIQUE_BALLOTS_OFFSET);
+    return (int) Math.min(Math.max(0, uniqueBallots), BallotBox.BALLOT_TALLIES_LEN);
+  }
+
+  public boolean isConsensusReached() {
+    return _data[offset + BallotBox.WINNING_BALLOT_OFFSET + BALLOT_IS_VALID_OFFSET] == 1;
+  }
+
+  public byte[] winningMerkleRoot() {
+    final int from = offset + BallotBox.WINNING_BALLOT_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + BALLOT_META_MERKLE_ROOT_LEN);
+  }
+
+  // Index of the operator's vote, or -1 if it has not voted.
+  public int findVote(final PublicKey operator) {
+    final var key = operator.toByteArray();
+    for (int i = 0, numVotes = numVotes(); i < numVotes; ++i) {
+      final int from = voteOffset(i) + VOTE_OPERATOR_OFFSET;
+      if (Arrays.equals(_data, from, from + PublicKey.PUBLIC_KEY_LENGTH, key, 0, PublicKey.PUBLIC_KEY_LENGTH)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // The operator's vote, or null if it has not voted.
+  public OperatorVote operatorVote(final PublicKey operator) {
+    final int index = findVote(operator);
+    return index < 0 ? null : vote(index);
+  }
+
+  public OperatorVote vote(final int index) {
+    return OperatorVote.read(_data, voteOffset(index));
+  }
+
+  public PublicKey voteOperator(final int index) {
+    return readPubKey(_data, voteOffset(index) + VOTE_OPERATOR_OFFSET);
+  }
+
+  public long voteSlot(final int index) {
+    return getInt64LE(_data, voteOffset(index) + VOTE_SLOT_VOTED_OFFSET);
+  }
+
+  public BigInteger voteStakeWeight(final int index) {
+    return getInt128LE(_data, voteOffset(index) + VOTE_STAKE_WEIGHTS_OFFSET);
+  }
+
+  public int voteBallotIndex(final int index) {
+    return getInt16LE(_data, voteOffset(index) + VOTE_BALLOT_INDEX_OFFSET) & 0xFFFF;
+  }
+
+  // The ballot the vote was cast for.
+  public Ballot voteBallot(final int index) {
+    return Ballot.read(_data, tallyOffset(voteBallotIndex(index)) + TALLY_BALLOT_OFFSET);
+  }
+
+  public BallotTally tally(final int ballotIndex) {
+    return BallotTally.read(_data, tallyOffset(ballotIndex));
+  }
+
+  public BigInteger tallyStakeWeight(final int ballotIndex) {
+    return getInt128LE(_data, tallyOffset(ballotIndex) + TALLY_STAKE_WEIGHTS_OFFSET);
+  }
+
+  public long tallyVotes(final int ballotIndex) {
+    return getInt64LE(_data, tallyOffset(ballotIndex) + TALLY_TALLY_OFFSET);
+  }
+
+  // Decodes each vote only when the iterator reaches it.
+  public Iterator<OperatorVote> votes() {
+    final int numVotes = numVotes();
+    return new Iterator<>() {
+      private int i;
+
+      @Override
+      public boolean hasNext() {
+        return i < numVotes;
+      }
+
+      @Override
+      public OperatorVote next() {
+        if (i >= numVotes) {
+          throw new NoSuchElementException();
+        }
+        return vote(i++);
+      }
+    };
+  }
+
+  private int voteOffset(final int index) {
+    Objects.checkIndex(index, BallotBox.OPERATOR_VOTES_LEN);
+    return offset + BallotBox.OPERATOR_VOTES_OFFSET + (index * OperatorVote.BYTES);
+  }
+
+  private int tallyOffset(final int ballotIndex) {
+    Objects.checkIndex(ballotIndex, BallotBox.BALLOT_TALLIES_LEN);
+    return offset + BallotBox.BALLOT_TALLIES_OFFSET + (ballotIndex * BallotTally.BYTES);
+  }
+}
@@ -0,0 +1,88 @@
+package software.sava.anchor.programs.jito.tip_router;
+
+import software.sava.anchor.programs.jito.tip_router.anchor.types.EpochState;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.Progress;
+import software.sava.core.accounts.PublicKey;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.Objects;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// The scalar fields and epoch wide progress counters of an EpochState, decoded without its account status,
+// operator snapshot progress or NCN distribution progress arrays.
+public record EpochStateHeader(PublicKey _address,
+                               PublicKey ncn,
+                               long epoch,
+                               long slotCreated,
+                               boolean wasTieBreakerSet,
+                               long slotConsensusReached,
+                               long operatorCount,
+                               long vaultCount,
+                               long setWeightTally, long setWeightTotal,
+                               long epochSnapshotTally, long epochSnapshotTotal,
+                               long votingTally, long votingTotal,
+                               long validationTally, long validationTotal,
+                               long uploadTally, long uploadTotal,
+                               long totalDistributionTally, long totalDistributionTotal,
+                               long baseDistributionTally, long baseDistributionTotal,
+                               boolean isClosing) {
+
+  public static EpochStateHeader read(final AccountInfo<byte[]> accountInfo) {
+    return read(accountInfo.pubKey(), accountInfo.data(), 0);
+  }
+
+  public static EpochStateHeader read(final PublicKey _address, final byte[] _data, final int offset) {
+    if (_data == null || _data.length < offset + EpochState.RESERVED_OFFSET) {
+      return null;
+    }
+    return new EpochStateHeader(
+        _address,
+        readPubKey(_data, offset + EpochState.NCN_OFFSET),
+        getInt64LE(_data, offset + EpochState.EPOCH_OFFSET),
+        getInt64LE(_data, offset + EpochState.SLOT_CREATED_OFFSET),
+        _data[offset + EpochState.WAS_TIE_BREAKER_SET_OFFSET] == 1,
+        getInt64LE(_data, offset + EpochState.SLOT_CONSENSUS_REACHED_OFFSET),
+        getInt64LE(_data, offset + EpochState.OPERATOR_COUNT_OFFSET),
+        getInt64LE(_data, offset + EpochState.VAULT_COUNT_OFFSET),
+        tally(_data, offset + EpochState.SET_WEIGHT_PROGRESS_OFFSET),
+        total(_data, offset + EpochState.SET_WEIGHT_PROGRESS_OFFSET),
+        tally(_data, offset + EpochState.EPOCH_SNAPSHOT_PROGRESS_OFFSET),
+        total(_data, offset + EpochState.EPOCH_SNAPSHOT_PROGRESS_OFFSET),
+        tally(_data, offset + EpochState.VOTING_PROGRESS_OFFSET),
+        total(_data, offset + EpochState.VOTING_PROGRESS_OFFSET),
+        tally(_data, offset + EpochState.VALIDATION_PROGRESS_OFFSET),
+        total(_data, offset + EpochState.VALIDATION_PROGRESS_OFFSET),
+        tally(_data, offset + EpochState.UPLOAD_PROGRESS_OFFSET),
+        total(_data, offset + EpochState.UPLOAD_PROGRESS_OFFSET),
+        tally(_data, offset + EpochState.TOTAL_DISTRIBUTION_PROGRESS_OFFSET),
+        total(_data, offset + EpochState.TOTAL_DISTRIBUTION_PROGRESS_OFFSET),
+        tally(_data, offset + EpochState.BASE_DISTRIBUTION_PROGRESS_OFFSET),
+        total(_data, offset + EpochState.BASE_DISTRIBUTION_PROGRESS_OFFSET),
+        _data[offset + EpochState.IS_CLOSING_OFFSET] == 1
+    );
+  }
+
+  // Progress of the operator snapshot at index, without decoding the others.
+  public static long operatorSnapshotTally(final byte[] _data, final int offset, final int index) {
+    return tally(_data, operatorSnapshotProgressOffset(offset, index));
+  }
+
+  public static long operatorSnapshotTotal(final byte[] _data, final int offset, final int index) {
+    return total(_data, operatorSnapshotProgressOffset(offset, index));
+  }
+
+  private static int operatorSnapshotProgressOffset(final int offset, final int index) {
+    Objects.checkIndex(index, EpochState.OPERATOR_SNAPSHOT_PROGRESS_LEN);
+    return offset + EpochState.OPERATOR_SNAPSHOT_PROGRESS_OFFSET + (index * Progress.BYTES);
+  }
+
+  private static long tally(final byte[] _data, final int progressOffset) {
+    return getInt64LE(_data, progressOffset);
+  }
+
+  private static long total(final byte[] _data, final int progressOffset) {
+    return getInt64LE(_data, progressOffset + 8);
+  }
+}
@@ -0,0 +1,212 @@
+package software.sava.anchor.programs.jito.tip_router;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// Jito tip router program addresses derived through ProgramAddressCache, with bump overloads for bumps read from the
+// derived accounts. Epoch seeds are u64 little endian, NCN fee groups a single byte.
+public final class JitoTipRouterCachedPDAs {
+
+  private static final byte[] ACCOUNT_PAYER_SEED = "account_payer".getBytes(US_ASCII);
+  private static final byte[] BALLOT_BOX_SEED = "ballot_box".getBytes(US_ASCII);
+  private static final byte[] BASE_REWARD_RECEIVER_SEED = "base_reward_receiver".getBytes(US_ASCII);
+  private static final byte[] BASE_REWARD_ROUTER_SEED = "base_reward_router".getBytes(US_ASCII);
+  private static final byte[] CONFIG_SEED = "config".getBytes(US_ASCII);
+  private static final byte[] EPOCH_MARKER_SEED = "epoch_marker".getBytes(US_ASCII);
+  private static final byte[] EPOCH_SNAPSHOT_SEED = "epoch_snapshot".getBytes(US_ASCII);
+  private static final byte[] EPOCH_STATE_SEED = "epoch_state".getBytes(US_ASCII);
+  private static final byte[] NCN_REWARD_RECEIVER_SEED = "ncn_reward_receiver".getBytes(US_ASCII);
+  private static final byte[] NCN_REWARD_ROUTER_SEED = "ncn_reward_router".getBytes(US_ASCII);
+  private static final byte[] OPERATOR_SNAPSHOT_SEED = "operator_snapshot".getBytes(US_ASCII);
+  private static final byte[] VAULT_REGISTRY_SEED = "vault_registry".getBytes(US_ASCII);
+  private static final byte[] WEIGHT_TABLE_SEED = "weight_table".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress accountPayerPDA(final PublicKey program,
+                                                      final PublicKey ncnAccount) {
+    return ProgramAddressCache.findProgramAddress(ACCOUNT_PAYER_SEED, ncnAccount, program);
+  }
+
+  public static ProgramDerivedAddress accountPayerPDA(final PublicKey program,
+                                                      final PublicKey ncnAccount,
+                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(ACCOUNT_PAYER_SEED, ncnAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress ballotBoxPDA(final PublicKey program,
+                                                   final PublicKey ncnAccount,
+                                                   final long epoch) {
+    return ProgramAddressCache.findProgramAddress(BALLOT_BOX_SEED, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress ballotBoxPDA(final PublicKey program,
+                                                   final PublicKey ncnAccount,
+                                                   final long epoch,
+                                                   final int bump) {
+    return ProgramAddressCache.createProgramAddress(BALLOT_BOX_SEED, ncnAccount, epoch, bump, program);
+  }
+
+  public static ProgramDerivedAddress baseRewardReceiverPDA(final PublicKey program,
+                                                            final PublicKey ncnAccount,
+                                                            final long epoch) {
+    return ProgramAddressCache.findProgramAddress(BASE_REWARD_RECEIVER_SEED, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress baseRewardReceiverPDA(final PublicKey program,
+                                                            final PublicKey ncnAccount,
+                                                            final long epoch,
+                                                            final int bump) {
+    return ProgramAddressCache.createProgramAddress(BASE_REWARD_RECEIVER_SEED, ncnAccount, epoch, bump, program);
+  }
+
+  public static ProgramDerivedAddress baseRewardRouterPDA(final PublicKey program,
+                                                          final PublicKey ncnAccount,
+                                                          final long epoch) {
+    return ProgramAddressCache.findProgramAddress(BASE_REWARD_ROUTER_SEED, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress baseRewardRouterPDA(final PublicKey program,
+                                                          final PublicKey ncnAccount,
+                                                          final long epoch,
+                                                          final int bump) {
+    return ProgramAddressCache.createProgramAddress(BASE_REWARD_ROUTER_SEED, ncnAccount, epoch, bump, program);
+  }
+
+  public static ProgramDerivedAddress configPDA(final PublicKey program,
+                                                final PublicKey ncnAccount) {
+    return ProgramAddressCache.findProgramAddress(CONFIG_SEED, ncnAccount, program);
+  }
+
+  public static ProgramDerivedAddress configPDA(final PublicKey program,
+                                                final PublicKey ncnAccount,
+                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(CONFIG_SEED, ncnAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress epochMarkerPDA(final PublicKey program,
+                                                     final PublicKey ncnAccount,
+                                                     final long epoch) {
+    return ProgramAddressCache.findProgramAddress(EPOCH_MARKER_SEED, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress epochMarkerPDA(final PublicKey program,
+                                                     final PublicKey ncnAccount,
+                                                     final long epoch,
+                                                     final int bump) {
+    return ProgramAddressCache.createProgramAddress(EPOCH_MARKER_SEED, ncnAccount, epoch, bump, program);
+  }
+
+  public static ProgramDerivedAddress epochSnapshotPDA(final PublicKey program,
+                                                       final PublicKey ncnAccount,
+                                                       final long epoch) {
+    return ProgramAddressCache.findProgramAddress(EPOCH_SNAPSHOT_SEED, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress epochSnapshotPDA(final PublicKey program,
+                                                       final PublicKey ncnAccount,
+                                                       final long epoch,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(EPOCH_SNAPSHOT_SEED, ncnAccount, epoch, bump, program);
+  }
+
+  public static ProgramDerivedAddress epochStatePDA(final PublicKey program,
+                                                    final PublicKey ncnAccount,
+                                                    final long epoch) {
+    return ProgramAddressCache.findProgramAddress(EPOCH_STATE_SEED, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress epochStatePDA(final PublicKey program,
+                                                    final PublicKey ncnAccount,
+                                                    final long epoch,
+                                                    final int bump) {
+    return ProgramAddressCache.createProgramAddress(EPOCH_STATE_SEED, ncnAccount, epoch, bump, program);
+  }
+
+  public static ProgramDerivedAddress ncnRewardReceiverPDA(final PublicKey program,
+                                                           final int ncnFeeGroup,
+                                                           final PublicKey operatorAccount,
+                                                           final PublicKey ncnAccount,
+                                                           final long epoch) {
+    return ProgramAddressCache.findProgramAddress(
+        NCN_REWARD_RECEIVER_SEED, (byte) ncnFeeGroup, operatorAccount, ncnAccount, epoch, program
+    );
+  }
+
+  public static ProgramDerivedAddress ncnRewardReceiverPDA(final PublicKey program,
+                                                           final int ncnFeeGroup,
+                                                           final PublicKey operatorAccount,
+                                                           final PublicKey ncnAccount,
+                                                           final long epoch,
+                                                           final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        NCN_REWARD_RECEIVER_SEED, (byte) ncnFeeGroup, operatorAccount, ncnAccount, epoch, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress ncnRewardRouterPDA(final PublicKey program,
+                                                         final int ncnFeeGroup,
+                                                         final PublicKey operatorAccount,
+                                                         final PublicKey ncnAccount,
+                                                         final long epoch) {
+    return ProgramAddressCache.findProgramAddress(
+        NCN_REWARD_ROUTER_SEED, (byte) ncnFeeGroup, operatorAccount, ncnAccount, epoch, program
+    );
+  }
+
+  public static ProgramDerivedAddress ncnRewardRouterPDA(final PublicKey program,
+                                                         final int ncnFeeGroup,
+                                                         final PublicKey operatorAccount,
+                                                         final PublicKey ncnAccount,
+                                                         final long epoch,
+                                                         final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        NCN_REWARD_ROUTER_SEED, (byte) ncnFeeGroup, operatorAccount, ncnAccount, epoch, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress operatorSnapshotPDA(final PublicKey program,
+                                                          final PublicKey operatorAccount,
+                                                          final PublicKey ncnAccount,
+                                                          final long epoch) {
+    return ProgramAddressCache.findProgramAddress(OPERATOR_SNAPSHOT_SEED, operatorAccount, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress operatorSnapshotPDA(final PublicKey program,
+                                                          final PublicKey operatorAccount,
+                                                          final PublicKey ncnAccount,
+                                                          final long epoch,
+                                                          final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        OPERATOR_SNAPSHOT_SEED, operatorAccount, ncnAccount, epoch, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress vaultRegistryPDA(final PublicKey program,
+                                                       final PublicKey ncnAccount) {
+    return ProgramAddressCache.findProgramAddress(VAULT_REGISTRY_SEED, ncnAccount, program);
+  }
+
+  public static ProgramDerivedAddress vaultRegistryPDA(final PublicKey program,
+                                                       final PublicKey ncnAccount,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(VAULT_REGISTRY_SEED, ncnAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress weightTablePDA(final PublicKey program,
+                                                     final PublicKey ncnAccount,
+                                                     final long epoch) {
+    return ProgramAddressCache.findProgramAddress(WEIGHT_TABLE_SEED, ncnAccount, epoch, program);
+  }
+
+  public static ProgramDerivedAddress weightTablePDA(final PublicKey program,
+                                                     final PublicKey ncnAccount,
+                                                     final long epoch,
+                                                     final int bump) {
+    return ProgramAddressCache.createProgramAddress(WEIGHT_TABLE_SEED, ncnAccount, epoch, bump, program);
+  }
+
+  private JitoTipRouterCachedPDAs() {
+  }
+}
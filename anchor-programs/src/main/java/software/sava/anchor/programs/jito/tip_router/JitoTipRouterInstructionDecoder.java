@@ -0,0 +1,185 @@
+package software.sava.anchor.programs.jito.tip_router;
+
+import software.sava.anchor.programs.jito.tip_router.anchor.JitoTipRouterProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Jito tip router instruction data decoded into the JitoTipRouterProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class JitoTipRouterInstructionDecoder {
+
+  public record InitializeVaultRegistryIxData(Discriminator discriminator) implements Borsh {
+
+    public static InitializeVaultRegistryIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static InitializeVaultRegistryIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new InitializeVaultRegistryIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record ReallocVaultRegistryIxData(Discriminator discriminator) implements Borsh {
+
+    public static ReallocVaultRegistryIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ReallocVaultRegistryIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ReallocVaultRegistryIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record RegisterVaultIxData(Discriminator discriminator) implements Borsh {
+
+    public static RegisterVaultIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static RegisterVaultIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new RegisterVaultIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(JitoTipRouterProgram.REALLOC_BASE_REWARD_ROUTER_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ADMIN_SET_CONFIG_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ADMIN_SET_NEW_ADMIN_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.CAST_VOTE_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ROUTE_BASE_REWARDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.DISTRIBUTE_BASE_NCN_REWARD_ROUTE_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.CLOSE_EPOCH_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_VAULT_REGISTRY_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.SNAPSHOT_VAULT_OPERATOR_DELEGATION_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_WEIGHT_TABLE_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ADMIN_SET_PARAMETERS_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.REALLOC_EPOCH_STATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_BASE_REWARD_ROUTER_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ROUTE_NCN_REWARDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ADMIN_SET_ST_MINT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_BALLOT_BOX_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.DISTRIBUTE_NCN_VAULT_REWARDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.REALLOC_BALLOT_BOX_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.CLAIM_WITH_PAYER_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_EPOCH_STATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_EPOCH_SNAPSHOT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.REALLOC_OPERATOR_SNAPSHOT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.DISTRIBUTE_NCN_OPERATOR_REWARDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_OPERATOR_SNAPSHOT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ADMIN_SET_TIE_BREAKER_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.REGISTER_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.REALLOC_VAULT_REGISTRY_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.DISTRIBUTE_BASE_REWARDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.SWITCHBOARD_SET_WEIGHT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.SET_MERKLE_ROOT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ADMIN_SET_WEIGHT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.ADMIN_REGISTER_ST_MINT_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.REALLOC_WEIGHT_TABLE_DISCRIMINATOR.data(), 0),
+      getInt64LE(JitoTipRouterProgram.INITIALIZE_NCN_REWARD_ROUTER_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> JitoTipRouterProgram.ReallocBaseRewardRouterIxData.read(_data, offset);
+      case 1 -> JitoTipRouterProgram.AdminSetConfigFeesIxData.read(_data, offset);
+      case 2 -> JitoTipRouterProgram.AdminSetNewAdminIxData.read(_data, offset);
+      case 3 -> JitoTipRouterProgram.CastVoteIxData.read(_data, offset);
+      case 4 -> JitoTipRouterProgram.RouteBaseRewardsIxData.read(_data, offset);
+      case 5 -> JitoTipRouterProgram.DistributeBaseNcnRewardRouteIxData.read(_data, offset);
+      case 6 -> JitoTipRouterProgram.CloseEpochAccountIxData.read(_data, offset);
+      case 7 -> InitializeVaultRegistryIxData.read(_data, offset);
+      case 8 -> JitoTipRouterProgram.SnapshotVaultOperatorDelegationIxData.read(_data, offset);
+      case 9 -> JitoTipRouterProgram.InitializeWeightTableIxData.read(_data, offset);
+      case 10 -> JitoTipRouterProgram.AdminSetParametersIxData.read(_data, offset);
+      case 11 -> JitoTipRouterProgram.ReallocEpochStateIxData.read(_data, offset);
+      case 12 -> JitoTipRouterProgram.InitializeBaseRewardRouterIxData.read(_data, offset);
+      case 13 -> JitoTipRouterProgram.RouteNcnRewardsIxData.read(_data, offset);
+      case 14 -> JitoTipRouterProgram.AdminSetStMintIxData.read(_data, offset);
+      case 15 -> JitoTipRouterProgram.InitializeBallotBoxIxData.read(_data, offset);
+      case 16 -> JitoTipRouterProgram.DistributeNcnVaultRewardsIxData.read(_data, offset);
+      case 17 -> JitoTipRouterProgram.ReallocBallotBoxIxData.read(_data, offset);
+      case 18 -> JitoTipRouterProgram.ClaimWithPayerIxData.read(_data, offset);
+      case 19 -> JitoTipRouterProgram.InitializeEpochStateIxData.read(_data, offset);
+      case 20 -> JitoTipRouterProgram.InitializeEpochSnapshotIxData.read(_data, offset);
+      case 21 -> JitoTipRouterProgram.ReallocOperatorSnapshotIxData.read(_data, offset);
+      case 22 -> JitoTipRouterProgram.DistributeNcnOperatorRewardsIxData.read(_data, offset);
+      case 23 -> JitoTipRouterProgram.InitializeOperatorSnapshotIxData.read(_data, offset);
+      case 24 -> JitoTipRouterProgram.AdminSetTieBreakerIxData.read(_data, offset);
+      case 25 -> RegisterVaultIxData.read(_data, offset);
+      case 26 -> JitoTipRouterProgram.InitializeConfigIxData.read(_data, offset);
+      case 27 -> ReallocVaultRegistryIxData.read(_data, offset);
+      case 28 -> JitoTipRouterProgram.DistributeBaseRewardsIxData.read(_data, offset);
+      case 29 -> JitoTipRouterProgram.SwitchboardSetWeightIxData.read(_data, offset);
+      case 30 -> JitoTipRouterProgram.SetMerkleRootIxData.read(_data, offset);
+      case 31 -> JitoTipRouterProgram.AdminSetWeightIxData.read(_data, offset);
+      case 32 -> JitoTipRouterProgram.AdminRegisterStMintIxData.read(_data, offset);
+      case 33 -> JitoTipRouterProgram.ReallocWeightTableIxData.read(_data, offset);
+      case 34 -> JitoTipRouterProgram.InitializeNcnRewardRouterIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private JitoTipRouterInstructionDecoder() {
+  }
+}
@@ -0,0 +1,292 @@
+package software.sava.anchor.programs.jito.tip_router;
+
+import software.sava.anchor.programs.jito.tip_router.anchor.types.BallotBox;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.EpochSnapshot;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.Fee;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.Fees;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.OperatorSnapshot;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.OperatorVote;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.StakeWeights;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.VaultRewardRoute;
+import software.sava.core.accounts.PublicKey;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+// Off-chain replay of the tip router's consensus and reward routing for an epoch, following the on-chain program:
+//
+// Ballots are tallied by operator stake weight, consensus is reached once a ballot holds at least 2/3 of the total
+// stake weight in the EpochSnapshot.
+// The reward pool is split between the base and NCN fee groups in proportion to their fee bps over the total fee bps,
+// the rounding remainder goes to base fee group 0.
+// Each NCN fee group's rewards are routed to the operators which voted for the winning ballot, in proportion to their
+// stake weight in the group over the winning ballot's stake weight in the group.
+// An operator keeps its operatorFeeBps of the rewards it is routed, the rest is routed to its vaults in the same group
+// in proportion to their stake weight over the operator's, the rounding remainder stays with the operator.
+public final class TipRouterSimulator {
+
+  public static final int NUM_BASE_FEE_GROUPS = Fees.BASE_FEE_GROUPS_BPS_LEN;
+  public static final int NUM_NCN_FEE_GROUPS = Fees.NCN_FEE_GROUPS_BPS_LEN;
+  public static final long MAX_FEE_BPS = 10_000;
+  public static final long CONSENSUS_NUMERATOR = 2;
+  public static final long CONSENSUS_DENOMINATOR = 3;
+
+  // Stake weight per unique ballot, indexed by ballot index.
+  public record BallotTallies(int numBallots,
+                              BigInteger[] stakeWeights,
+                              BigInteger[][] ncnFeeGroupStakeWeights,
+                              int[] votes,
+                              BigInteger totalStakeWeight,
+                              int winningBallot,
+                              boolean consensusReached) {
+
+    public BigInteger winningStakeWeight(final int ncnFeeGroup) {
+      return winningBallot < 0 ? BigInteger.ZERO : ncnFeeGroupStakeWeights[winningBallot][ncnFeeGroup];
+    }
+  }
+
+  // Rewards routed to one operator and from it to its vaults, indexed by NCN fee group.
+  public record OperatorRewards(PublicKey operator,
+                                long[] ncnFeeGroupRewards,
+                                long[] operatorRewards,
+                                VaultRewardRoute[][] vaultRewards) {
+
+    public long totalOperatorRewards() {
+      long total = 0;
+      for (final long rewards : operatorRewards) {
+        total += rewards;
+      }
+      return total;
+    }
+  }
+
+  public record EpochRewards(BallotTallies tallies,
+                             long rewardPool,
+                             long[] baseFeeGroupRewards,
+                             long[] ncnFeeGroupRewards,
+                             List<OperatorRewards> operatorRewards) {
+  }
+
+  public static BallotTallies tallyVotes(final BallotBox ballotBox, final EpochSnapshot epochSnapshot) {
+    final int numVotes = (int) Math.min(ballotBox.operatorsVoted(), BallotBox.OPERATOR_VOTES_LEN);
+    return tallyVotes(ballotBox.operatorVotes(), numVotes, epochSnapshot.stakeWeights().stakeWeight());
+  }
+
+  public static BallotTallies tallyVotes(final OperatorVote[] votes,
+                                         final int numVotes,
+                                         final BigInteger totalStakeWeight) {
+    int numBallots = 0;
+    for (int i = 0; i < numVotes; ++i) {
+      final int ballot = votes[i].ballotIndex();
+      if (ballot < BallotBox.BALLOT_TALLIES_LEN) {
+        numBallots = Math.max(numBallots, ballot + 1);
+      }
+    }
+    final var stakeWeights = new BigInteger[numBallots];
+    final var groupStakeWeights = new BigInteger[numBallots][NUM_NCN_FEE_GROUPS];
+    Arrays.fill(stakeWeights, BigInteger.ZERO);
+    for (final var groupWeights : groupStakeWeights) {
+      Arrays.fill(groupWeights, BigInteger.ZERO);
+    }
+    final var ballotVotes = new int[numBallots];
+    for (int i = 0; i < numVotes; ++i) {
+      final var vote = votes[i];
+      final int ballot = vote.ballotIndex();
+      if (ballot >= numBallots) {
+        continue;
+      }
+      final var voteWeights = vote.stakeWeights();
+      stakeWeights[ballot] = stakeWeights[ballot].add(voteWeights.stakeWeight());
+      final var groupWeights = groupStakeWeights[ballot];
+      for (int g = 0; g < NUM_NCN_FEE_GROUPS; ++g) {
+        groupWeights[g] = groupWeights[g].add(ncnFeeGroupStakeWeight(voteWeights, g));
+      }
+      ++ballotVotes[ballot];
+    }
+
+    int winningBallot = -1;
+    for (int b = 0; b < numBallots; ++b) {
+      if (winningBallot < 0 || stakeWeights[b].compareTo(stakeWeights[winningBallot]) > 0) {
+        winningBallot = b;
+      }
+    }
+    final boolean consensusReached = winningBallot >= 0 && totalStakeWeight.signum() > 0
+        && stakeWeights[winningBallot].multiply(BigInteger.valueOf(CONSENSUS_DENOMINATOR))
+        .compareTo(totalStakeWeight.multiply(BigInteger.valueOf(CONSENSUS_NUMERATOR))) >= 0;
+
+    return new BallotTallies(
+        numBallots,
+        stakeWeights, groupStakeWeights, ballotVotes,
+        totalStakeWeight,
+        consensusReached ? winningBallot : -1,
+        consensusReached
+    );
+  }
+
+  public static long totalFeeBps(final Fees fees) {
+    long total = 0;
+    for (final var fee : fees.baseFeeGroupsBps()) {
+      total += fee.fee();
+    }
+    for (final var fee : fees.ncnFeeGroupsBps()) {
+      total += fee.fee();
+    }
+    return total;
+  }
+
+  // [base fee group rewards..., ncn fee group rewards...]
+  public static long[] routeRewardPool(final Fees fees, final long rewardPool) {
+    final long totalFeeBps = totalFeeBps(fees);
+    final var routed = new long[NUM_BASE_FEE_GROUPS + NUM_NCN_FEE_GROUPS];
+    if (totalFeeBps == 0 || rewardPool <= 0) {
+      return routed;
+    }
+    long remaining = rewardPool;
+    remaining -= share(routed, 0, fees.baseFeeGroupsBps(), rewardPool, totalFeeBps);
+    remaining -= share(routed, NUM_BASE_FEE_GROUPS, fees.ncnFeeGroupsBps(), rewardPool, totalFeeBps);
+    routed[0] += remaining;
+    return routed;
+  }
+
+  private static long share(final long[] routed,
+                            final int from,
+                            final Fee[] feeBps,
+                            final long rewardPool,
+                            final long totalFeeBps) {
+    long sum = 0;
+    for (int g = 0; g < feeBps.length; ++g) {
+      final long rewards = mulDiv(rewardPool, feeBps[g].fee(), totalFeeBps);
+      routed[from + g] = rewards;
+      sum += rewards;
+    }
+    return sum;
+  }
+
+  // Splits each NCN fee group's rewards across the operators which voted for the winning ballot,
+  // the result is aligned with votes.
+  public static long[][] routeNcnFeeGroupRewards(final BallotTallies tallies,
+                                                 final OperatorVote[] votes,
+                                                 final int numVotes,
+                                                 final long[] ncnFeeGroupRewards) {
+    final var routes = new long[numVotes][];
+    IntStream.range(0, numVotes).parallel().forEach(i -> {
+      final var route = new long[NUM_NCN_FEE_GROUPS];
+      final var vote = votes[i];
+      if (tallies.consensusReached() && vote.ballotIndex() == tallies.winningBallot()) {
+        for (int g = 0; g < NUM_NCN_FEE_GROUPS; ++g) {
+          route[g] = mulDiv(
+              ncnFeeGroupRewards[g],
+              ncnFeeGroupStakeWeight(vote.stakeWeights(), g),
+              tallies.winningStakeWeight(g)
+          );
+        }
+      }
+      routes[i] = route;
+    });
+    return routes;
+  }
+
+  // Routes an operator's rewards for one NCN fee group, the operator's cut is element 0 of the returned array
+  // followed by the rewards of each vault stake weight entry.
+  public static long[] routeOperatorRewards(final OperatorSnapshot operator,
+                                            final int ncnFeeGroup,
+                                            final long rewards) {
+    final var vaultWeights = operator.vaultOperatorStakeWeight();
+    final int numVaults = (int) Math.min(operator.vaultOperatorDelegationsRegistered(), vaultWeights.length);
+    final var routed = new long[1 + numVaults];
+    if (rewards <= 0) {
+      return routed;
+    }
+    final long operatorFee = mulDiv(rewards, operator.operatorFeeBps(), MAX_FEE_BPS);
+    final long vaultPool = rewards - operatorFee;
+    final var operatorGroupWeight = ncnFeeGroupStakeWeight(operator.stakeWeights(), ncnFeeGroup);
+    long toVaults = 0;
+    if (operatorGroupWeight.signum() > 0) {
+      for (int v = 0; v < numVaults; ++v) {
+        final var vaultWeight = vaultWeights[v];
+        if (vaultWeight.ncnFeeGroup().group() == ncnFeeGroup) {
+          final long vaultRewards = mulDiv(
+              vaultPool,
+              ncnFeeGroupStakeWeight(vaultWeight.stakeWeight(), ncnFeeGroup),
+              operatorGroupWeight
+          );
+          routed[1 + v] = vaultRewards;
+          toVaults += vaultRewards;
+        }
+      }
+    }
+    routed[0] = rewards - toVaults;
+    return routed;
+  }
+
+  // Full epoch simulation. Operators without a snapshot still receive their NCN fee group share,
+  // but nothing is routed on to their vaults.
+  public static EpochRewards simulate(final EpochSnapshot epochSnapshot,
+                                      final BallotBox ballotBox,
+                                      final Map<PublicKey, OperatorSnapshot> operatorSnapshots,
+                                      final long rewardPool) {
+    final var tallies = tallyVotes(ballotBox, epochSnapshot);
+    final var routed = routeRewardPool(epochSnapshot.fees(), rewardPool);
+    final var baseFeeGroupRewards = Arrays.copyOfRange(routed, 0, NUM_BASE_FEE_GROUPS);
+    final var ncnFeeGroupRewards = Arrays.copyOfRange(routed, NUM_BASE_FEE_GROUPS, routed.length);
+
+    final var votes = ballotBox.operatorVotes();
+    final int numVotes = (int) Math.min(ballotBox.operatorsVoted(), votes.length);
+    final var operatorRoutes = routeNcnFeeGroupRewards(tallies, votes, numVotes, ncnFeeGroupRewards);
+
+    final var operatorRewards = IntStream.range(0, numVotes).parallel().mapToObj(i -> {
+      final var operator = votes[i].operator();
+      final var groupRewards = operatorRoutes[i];
+      final var snapshot = operatorSnapshots.get(operator);
+      final var operatorCut = new long[NUM_NCN_FEE_GROUPS];
+      final var vaultRewards = new VaultRewardRoute[NUM_NCN_FEE_GROUPS][];
+      for (int g = 0; g < NUM_NCN_FEE_GROUPS; ++g) {
+        if (snapshot == null) {
+          operatorCut[g] = groupRewards[g];
+          vaultRewards[g] = new VaultRewardRoute[0];
+          continue;
+        }
+        final var split = routeOperatorRewards(snapshot, g, groupRewards[g]);
+        operatorCut[g] = split[0];
+        final var routes = new VaultRewardRoute[split.length - 1];
+        for (int v = 0; v < routes.length; ++v) {
+          routes[v] = new VaultRewardRoute(snapshot.vaultOperatorStakeWeight()[v].vault(), split[1 + v]);
+        }
+        vaultRewards[g] = routes;
+      }
+      return new OperatorRewards(operator, groupRewards, operatorCut, vaultRewards);
+    }).toList();
+
+    return new EpochRewards(tallies, rewardPool, baseFeeGroupRewards, ncnFeeGroupRewards, operatorRewards);
+  }
+
+  static BigInteger ncnFeeGroupStakeWeight(final StakeWeights stakeWeights, final int ncnFeeGroup) {
+    return stakeWeights.ncnFeeGroupStakeWeights()[ncnFeeGroup].weight();
+  }
+
+  // amount * numerator / denominator rounded down, 0 if the denominator is 0.
+  static long mulDiv(final long amount, final long numerator, final long denominator) {
+    if (denominator == 0 || amount == 0 || numerator == 0) {
+      return 0;
+    }
+    final long hi = Math.multiplyHigh(amount, numerator);
+    final long lo = amount * numerator;
+    if ((hi == 0 && lo >= 0) || (hi == -1 && lo < 0)) {
+      return lo / denominator;
+    }
+    return mulDiv(amount, BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+  }
+
+  static long mulDiv(final long amount, final BigInteger numerator, final BigInteger denominator) {
+    if (denominator.signum() == 0 || amount == 0 || numerator.signum() == 0) {
+      return 0;
+    }
+    return BigInteger.valueOf(amount).multiply(numerator).divide(denominator).longValueExact();
+  }
+
+  private TipRouterSimulator() {
+  }
+}
@@ -0,0 +1,64 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.ConfigAdminRole;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class AdminSetNewAdminIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.ADMIN_SET_NEW_ADMIN_DISCRIMINATOR.data(), 0);
+
+  private static final int ROLE_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AdminSetNewAdminIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AdminSetNewAdminIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AdminSetNewAdminIxDataSegmentView(segment, offset);
+  }
+
+  public static AdminSetNewAdminIxDataSegmentView wrap(final MemorySegment segment) {
+    return new AdminSetNewAdminIxDataSegmentView(segment, 0);
+  }
+
+  public AdminSetNewAdminIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AdminSetNewAdminIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.AdminSetNewAdminIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.AdminSetNewAdminIxData.BYTES, JitoTipRouterProgram.AdminSetNewAdminIxData::read);
+  }
+
+  public ConfigAdminRole role() {
+    return ConfigAdminRole.values()[segment.get(ValueLayout.JAVA_BYTE, offset + ROLE_OFFSET) & 0xFF];
+  }
+}
@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class AdminSetTieBreakerIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.ADMIN_SET_TIE_BREAKER_DISCRIMINATOR.data(), 0);
+
+  private static final int META_MERKLE_ROOT_OFFSET = 8;
+  private static final int EPOCH_OFFSET = META_MERKLE_ROOT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AdminSetTieBreakerIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AdminSetTieBreakerIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AdminSetTieBreakerIxDataSegmentView(segment, offset);
+  }
+
+  public static AdminSetTieBreakerIxDataSegmentView wrap(final MemorySegment segment) {
+    return new AdminSetTieBreakerIxDataSegmentView(segment, 0);
+  }
+
+  public AdminSetTieBreakerIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AdminSetTieBreakerIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.AdminSetTieBreakerIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.AdminSetTieBreakerIxData.BYTES, JitoTipRouterProgram.AdminSetTieBreakerIxData::read);
+  }
+
+  public byte[] metaMerkleRoot() {
+    return copy(segment, offset + META_MERKLE_ROOT_OFFSET, 32);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
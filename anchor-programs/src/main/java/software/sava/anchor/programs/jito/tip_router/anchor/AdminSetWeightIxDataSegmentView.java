@@ -0,0 +1,86 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class AdminSetWeightIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.ADMIN_SET_WEIGHT_DISCRIMINATOR.data(), 0);
+
+  private static final int ST_MINT_OFFSET = 8;
+  private static final int WEIGHT_OFFSET = ST_MINT_OFFSET + 32;
+  private static final int EPOCH_OFFSET = WEIGHT_OFFSET + 16;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AdminSetWeightIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AdminSetWeightIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AdminSetWeightIxDataSegmentView(segment, offset);
+  }
+
+  public static AdminSetWeightIxDataSegmentView wrap(final MemorySegment segment) {
+    return new AdminSetWeightIxDataSegmentView(segment, 0);
+  }
+
+  public AdminSetWeightIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AdminSetWeightIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.AdminSetWeightIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.AdminSetWeightIxData.BYTES, JitoTipRouterProgram.AdminSetWeightIxData::read);
+  }
+
+  public PublicKey stMint() {
+    return readPubKey(segment, offset + ST_MINT_OFFSET);
+  }
+
+  public BigInteger weight() {
+    return getInt128LE(segment, offset + WEIGHT_OFFSET);
+  }
+
+  public long weightHigh() {
+    return getInt128High(segment, offset + WEIGHT_OFFSET);
+  }
+
+  public long weightLow() {
+    return getInt128Low(segment, offset + WEIGHT_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseEpochAccountIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.CLOSE_EPOCH_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  private static final int EPOCH_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseEpochAccountIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseEpochAccountIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseEpochAccountIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseEpochAccountIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseEpochAccountIxDataSegmentView(segment, 0);
+  }
+
+  public CloseEpochAccountIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseEpochAccountIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.CloseEpochAccountIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.CloseEpochAccountIxData.BYTES, JitoTipRouterProgram.CloseEpochAccountIxData::read);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class DistributeBaseRewardsIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.DISTRIBUTE_BASE_REWARDS_DISCRIMINATOR.data(), 0);
+
+  private static final int BASE_FEE_GROUP_OFFSET = 8;
+  private static final int EPOCH_OFFSET = BASE_FEE_GROUP_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DistributeBaseRewardsIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DistributeBaseRewardsIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DistributeBaseRewardsIxDataSegmentView(segment, offset);
+  }
+
+  public static DistributeBaseRewardsIxDataSegmentView wrap(final MemorySegment segment) {
+    return new DistributeBaseRewardsIxDataSegmentView(segment, 0);
+  }
+
+  public DistributeBaseRewardsIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DistributeBaseRewardsIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.DistributeBaseRewardsIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.DistributeBaseRewardsIxData.BYTES, JitoTipRouterProgram.DistributeBaseRewardsIxData::read);
+  }
+
+  public int baseFeeGroup() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + BASE_FEE_GROUP_OFFSET) & 0xFF;
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
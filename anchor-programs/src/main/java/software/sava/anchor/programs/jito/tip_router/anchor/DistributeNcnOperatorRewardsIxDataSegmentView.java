@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class DistributeNcnOperatorRewardsIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.DISTRIBUTE_NCN_OPERATOR_REWARDS_DISCRIMINATOR.data(), 0);
+
+  private static final int NCN_FEE_GROUP_OFFSET = 8;
+  private static final int EPOCH_OFFSET = NCN_FEE_GROUP_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DistributeNcnOperatorRewardsIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DistributeNcnOperatorRewardsIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DistributeNcnOperatorRewardsIxDataSegmentView(segment, offset);
+  }
+
+  public static DistributeNcnOperatorRewardsIxDataSegmentView wrap(final MemorySegment segment) {
+    return new DistributeNcnOperatorRewardsIxDataSegmentView(segment, 0);
+  }
+
+  public DistributeNcnOperatorRewardsIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DistributeNcnOperatorRewardsIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.DistributeNcnOperatorRewardsIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.DistributeNcnOperatorRewardsIxData.BYTES, JitoTipRouterProgram.DistributeNcnOperatorRewardsIxData::read);
+  }
+
+  public int ncnFeeGroup() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + NCN_FEE_GROUP_OFFSET) & 0xFF;
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,88 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.INITIALIZE_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int BLOCK_ENGINE_FEE_BPS_OFFSET = 8;
+  private static final int DAO_FEE_BPS_OFFSET = BLOCK_ENGINE_FEE_BPS_OFFSET + 2;
+  private static final int DEFAULT_NCN_FEE_BPS_OFFSET = DAO_FEE_BPS_OFFSET + 2;
+  private static final int EPOCHS_BEFORE_STALL_OFFSET = DEFAULT_NCN_FEE_BPS_OFFSET + 2;
+  private static final int EPOCHS_AFTER_CONSENSUS_BEFORE_CLOSE_OFFSET = EPOCHS_BEFORE_STALL_OFFSET + 8;
+  private static final int VALID_SLOTS_AFTER_CONSENSUS_OFFSET = EPOCHS_AFTER_CONSENSUS_BEFORE_CLOSE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeConfigIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.InitializeConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.InitializeConfigIxData.BYTES, JitoTipRouterProgram.InitializeConfigIxData::read);
+  }
+
+  public int blockEngineFeeBps() {
+    return getInt16LE(segment, offset + BLOCK_ENGINE_FEE_BPS_OFFSET);
+  }
+
+  public int daoFeeBps() {
+    return getInt16LE(segment, offset + DAO_FEE_BPS_OFFSET);
+  }
+
+  public int defaultNcnFeeBps() {
+    return getInt16LE(segment, offset + DEFAULT_NCN_FEE_BPS_OFFSET);
+  }
+
+  public long epochsBeforeStall() {
+    return getInt64LE(segment, offset + EPOCHS_BEFORE_STALL_OFFSET);
+  }
+
+  public long epochsAfterConsensusBeforeClose() {
+    return getInt64LE(segment, offset + EPOCHS_AFTER_CONSENSUS_BEFORE_CLOSE_OFFSET);
+  }
+
+  public long validSlotsAfterConsensus() {
+    return getInt64LE(segment, offset + VALID_SLOTS_AFTER_CONSENSUS_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeEpochStateIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.INITIALIZE_EPOCH_STATE_DISCRIMINATOR.data(), 0);
+
+  private static final int EPOCH_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeEpochStateIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeEpochStateIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeEpochStateIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeEpochStateIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeEpochStateIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeEpochStateIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeEpochStateIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.InitializeEpochStateIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.InitializeEpochStateIxData.BYTES, JitoTipRouterProgram.InitializeEpochStateIxData::read);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
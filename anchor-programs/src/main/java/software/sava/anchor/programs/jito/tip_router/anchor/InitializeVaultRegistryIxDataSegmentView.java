@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jito.tip_router.JitoTipRouterInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeVaultRegistryIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.INITIALIZE_VAULT_REGISTRY_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeVaultRegistryIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeVaultRegistryIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeVaultRegistryIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeVaultRegistryIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeVaultRegistryIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeVaultRegistryIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeVaultRegistryIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterInstructionDecoder.InitializeVaultRegistryIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterInstructionDecoder.InitializeVaultRegistryIxData.BYTES, JitoTipRouterInstructionDecoder.InitializeVaultRegistryIxData::read);
+  }
+}
@@ -0,0 +1,44 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import software.sava.anchor.programs.jito.tip_router.anchor.types.BallotBox;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.BaseRewardRouter;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.Config;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.EpochMarker;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.EpochSnapshot;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.EpochState;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.NcnRewardRouter;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.OperatorSnapshot;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.VaultRegistry;
+import software.sava.anchor.programs.jito.tip_router.anchor.types.WeightTable;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+public final class JitoTipRouterAccounts {
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null) {
+      return null;
+    }
+    return switch (_data.length) {
+      case BallotBox.BYTES -> BallotBox.read(_address, _data, 0);
+      case BaseRewardRouter.BYTES -> BaseRewardRouter.read(_address, _data, 0);
+      case Config.BYTES -> Config.read(_address, _data, 0);
+      case EpochMarker.BYTES -> EpochMarker.read(_address, _data, 0);
+      case EpochSnapshot.BYTES -> EpochSnapshot.read(_address, _data, 0);
+      case EpochState.BYTES -> EpochState.read(_address, _data, 0);
+      case NcnRewardRouter.BYTES -> NcnRewardRouter.read(_address, _data, 0);
+      case OperatorSnapshot.BYTES -> OperatorSnapshot.read(_address, _data, 0);
+      case VaultRegistry.BYTES -> VaultRegistry.read(_address, _data, 0);
+      case WeightTable.BYTES -> WeightTable.read(_address, _data, 0);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private JitoTipRouterAccounts() {
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ReallocBallotBoxIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.REALLOC_BALLOT_BOX_DISCRIMINATOR.data(), 0);
+
+  private static final int EPOCH_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ReallocBallotBoxIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ReallocBallotBoxIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ReallocBallotBoxIxDataSegmentView(segment, offset);
+  }
+
+  public static ReallocBallotBoxIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ReallocBallotBoxIxDataSegmentView(segment, 0);
+  }
+
+  public ReallocBallotBoxIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ReallocBallotBoxIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.ReallocBallotBoxIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.ReallocBallotBoxIxData.BYTES, JitoTipRouterProgram.ReallocBallotBoxIxData::read);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ReallocBaseRewardRouterIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.REALLOC_BASE_REWARD_ROUTER_DISCRIMINATOR.data(), 0);
+
+  private static final int EPOCH_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ReallocBaseRewardRouterIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ReallocBaseRewardRouterIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ReallocBaseRewardRouterIxDataSegmentView(segment, offset);
+  }
+
+  public static ReallocBaseRewardRouterIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ReallocBaseRewardRouterIxDataSegmentView(segment, 0);
+  }
+
+  public ReallocBaseRewardRouterIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ReallocBaseRewardRouterIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.ReallocBaseRewardRouterIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.ReallocBaseRewardRouterIxData.BYTES, JitoTipRouterProgram.ReallocBaseRewardRouterIxData::read);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
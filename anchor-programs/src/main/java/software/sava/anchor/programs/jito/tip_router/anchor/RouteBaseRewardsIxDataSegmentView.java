@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class RouteBaseRewardsIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.ROUTE_BASE_REWARDS_DISCRIMINATOR.data(), 0);
+
+  private static final int MAX_ITERATIONS_OFFSET = 8;
+  private static final int EPOCH_OFFSET = MAX_ITERATIONS_OFFSET + 2;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RouteBaseRewardsIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RouteBaseRewardsIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RouteBaseRewardsIxDataSegmentView(segment, offset);
+  }
+
+  public static RouteBaseRewardsIxDataSegmentView wrap(final MemorySegment segment) {
+    return new RouteBaseRewardsIxDataSegmentView(segment, 0);
+  }
+
+  public RouteBaseRewardsIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RouteBaseRewardsIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.RouteBaseRewardsIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.RouteBaseRewardsIxData.BYTES, JitoTipRouterProgram.RouteBaseRewardsIxData::read);
+  }
+
+  public int maxIterations() {
+    return getInt16LE(segment, offset + MAX_ITERATIONS_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
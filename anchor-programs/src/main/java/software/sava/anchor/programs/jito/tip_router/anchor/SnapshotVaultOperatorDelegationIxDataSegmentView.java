@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SnapshotVaultOperatorDelegationIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.SNAPSHOT_VAULT_OPERATOR_DELEGATION_DISCRIMINATOR.data(), 0);
+
+  private static final int EPOCH_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SnapshotVaultOperatorDelegationIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SnapshotVaultOperatorDelegationIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SnapshotVaultOperatorDelegationIxDataSegmentView(segment, offset);
+  }
+
+  public static SnapshotVaultOperatorDelegationIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SnapshotVaultOperatorDelegationIxDataSegmentView(segment, 0);
+  }
+
+  public SnapshotVaultOperatorDelegationIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SnapshotVaultOperatorDelegationIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.SnapshotVaultOperatorDelegationIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.SnapshotVaultOperatorDelegationIxData.BYTES, JitoTipRouterProgram.SnapshotVaultOperatorDelegationIxData::read);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,69 @@
+package software.sava.anchor.programs.jito.tip_router.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SwitchboardSetWeightIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(JitoTipRouterProgram.SWITCHBOARD_SET_WEIGHT_DISCRIMINATOR.data(), 0);
+
+  private static final int ST_MINT_OFFSET = 8;
+  private static final int EPOCH_OFFSET = ST_MINT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SwitchboardSetWeightIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SwitchboardSetWeightIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SwitchboardSetWeightIxDataSegmentView(segment, offset);
+  }
+
+  public static SwitchboardSetWeightIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SwitchboardSetWeightIxDataSegmentView(segment, 0);
+  }
+
+  public SwitchboardSetWeightIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SwitchboardSetWeightIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public JitoTipRouterProgram.SwitchboardSetWeightIxData read() {
+    return MemorySegmentUtil.read(segment, offset, JitoTipRouterProgram.SwitchboardSetWeightIxData.BYTES, JitoTipRouterProgram.SwitchboardSetWeightIxData::read);
+  }
+
+  public PublicKey stMint() {
+    return readPubKey(segment, offset + ST_MINT_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,94 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class BallotBoxSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private BallotBoxSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static BallotBoxSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new BallotBoxSegmentView(segment, offset);
+  }
+
+  public static BallotBoxSegmentView wrap(final MemorySegment segment) {
+    return new BallotBoxSegmentView(segment, 0);
+  }
+
+  public BallotBoxSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public BallotBoxSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public BallotBox read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, BallotBox.BYTES, BallotBox::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + BallotBox.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + BallotBox.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + BallotBox.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(segment, offset + BallotBox.SLOT_CREATED_OFFSET);
+  }
+
+  public long slotConsensusReached() {
+    return getInt64LE(segment, offset + BallotBox.SLOT_CONSENSUS_REACHED_OFFSET);
+  }
+
+  public long operatorsVoted() {
+    return getInt64LE(segment, offset + BallotBox.OPERATORS_VOTED_OFFSET);
+  }
+
+  public long uniqueBallots() {
+    return getInt64LE(segment, offset + BallotBox.UNIQUE_BALLOTS_OFFSET);
+  }
+
+  public Ballot winningBallot() {
+    return MemorySegmentUtil.read(segment, offset + BallotBox.WINNING_BALLOT_OFFSET, Ballot.BYTES, Ballot::read);
+  }
+
+  public OperatorVote operatorVotes(final int index) {
+    Objects.checkIndex(index, BallotBox.OPERATOR_VOTES_LEN);
+    return MemorySegmentUtil.read(segment, offset + BallotBox.OPERATOR_VOTES_OFFSET + (index * OperatorVote.BYTESL), OperatorVote.BYTES, OperatorVote::read);
+  }
+
+  public BallotTally ballotTallies(final int index) {
+    Objects.checkIndex(index, BallotBox.BALLOT_TALLIES_LEN);
+    return MemorySegmentUtil.read(segment, offset + BallotBox.BALLOT_TALLIES_OFFSET + (index * BallotTally.BYTESL), BallotTally.BYTES, BallotTally::read);
+  }
+}
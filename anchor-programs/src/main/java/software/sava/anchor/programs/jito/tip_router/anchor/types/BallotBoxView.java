@@ -0,0 +1,91 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class BallotBoxView {
+
+  private byte[] _data;
+  private int offset;
+
+  private BallotBoxView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static BallotBoxView wrap(final byte[] _data, final int offset) {
+    return new BallotBoxView(_data, offset);
+  }
+
+  public static BallotBoxView wrap(final byte[] _data) {
+    return new BallotBoxView(_data, 0);
+  }
+
+  public BallotBoxView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public BallotBoxView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public BallotBox read(final PublicKey _address) {
+    return BallotBox.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + BallotBox.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + BallotBox.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + BallotBox.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(_data, offset + BallotBox.SLOT_CREATED_OFFSET);
+  }
+
+  public long slotConsensusReached() {
+    return getInt64LE(_data, offset + BallotBox.SLOT_CONSENSUS_REACHED_OFFSET);
+  }
+
+  public long operatorsVoted() {
+    return getInt64LE(_data, offset + BallotBox.OPERATORS_VOTED_OFFSET);
+  }
+
+  public long uniqueBallots() {
+    return getInt64LE(_data, offset + BallotBox.UNIQUE_BALLOTS_OFFSET);
+  }
+
+  public Ballot winningBallot() {
+    return Ballot.read(_data, offset + BallotBox.WINNING_BALLOT_OFFSET);
+  }
+
+  public OperatorVote operatorVotes(final int index) {
+    Objects.checkIndex(index, BallotBox.OPERATOR_VOTES_LEN);
+    return OperatorVote.read(_data, offset + BallotBox.OPERATOR_VOTES_OFFSET + (index * OperatorVote.BYTES));
+  }
+
+  public BallotTally ballotTallies(final int index) {
+    Objects.checkIndex(index, BallotBox.BALLOT_TALLIES_LEN);
+    return BallotTally.read(_data, offset + BallotBox.BALLOT_TALLIES_OFFSET + (index * BallotTally.BYTES));
+  }
+}
@@ -0,0 +1,108 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class BaseRewardRouterSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private BaseRewardRouterSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static BaseRewardRouterSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new BaseRewardRouterSegmentView(segment, offset);
+  }
+
+  public static BaseRewardRouterSegmentView wrap(final MemorySegment segment) {
+    return new BaseRewardRouterSegmentView(segment, 0);
+  }
+
+  public BaseRewardRouterSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public BaseRewardRouterSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public BaseRewardRouter read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, BaseRewardRouter.BYTES, BaseRewardRouter::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + BaseRewardRouter.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + BaseRewardRouter.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + BaseRewardRouter.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(segment, offset + BaseRewardRouter.SLOT_CREATED_OFFSET);
+  }
+
+  public long totalRewards() {
+    return getInt64LE(segment, offset + BaseRewardRouter.TOTAL_REWARDS_OFFSET);
+  }
+
+  public long rewardPool() {
+    return getInt64LE(segment, offset + BaseRewardRouter.REWARD_POOL_OFFSET);
+  }
+
+  public long rewardsProcessed() {
+    return getInt64LE(segment, offset + BaseRewardRouter.REWARDS_PROCESSED_OFFSET);
+  }
+
+  public int lastNcnGroupIndex() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + BaseRewardRouter.LAST_NCN_GROUP_INDEX_OFFSET) & 0xFF;
+  }
+
+  public int lastVoteIndex() {
+    return getInt16LE(segment, offset + BaseRewardRouter.LAST_VOTE_INDEX_OFFSET);
+  }
+
+  public long lastRewardsToProcess() {
+    return getInt64LE(segment, offset + BaseRewardRouter.LAST_REWARDS_TO_PROCESS_OFFSET);
+  }
+
+  public BaseRewardRouterRewards baseFeeGroupRewards(final int index) {
+    Objects.checkIndex(index, BaseRewardRouter.BASE_FEE_GROUP_REWARDS_LEN);
+    return MemorySegmentUtil.read(segment, offset + BaseRewardRouter.BASE_FEE_GROUP_REWARDS_OFFSET + (index * BaseRewardRouterRewards.BYTESL), BaseRewardRouterRewards.BYTES, BaseRewardRouterRewards::read);
+  }
+
+  public BaseRewardRouterRewards ncnFeeGroupRewards(final int index) {
+    Objects.checkIndex(index, BaseRewardRouter.NCN_FEE_GROUP_REWARDS_LEN);
+    return MemorySegmentUtil.read(segment, offset + BaseRewardRouter.NCN_FEE_GROUP_REWARDS_OFFSET + (index * BaseRewardRouterRewards.BYTESL), BaseRewardRouterRewards.BYTES, BaseRewardRouterRewards::read);
+  }
+
+  public NcnRewardRoute ncnFeeGroupRewardRoutes(final int index) {
+    Objects.checkIndex(index, BaseRewardRouter.NCN_FEE_GROUP_REWARD_ROUTES_LEN);
+    return MemorySegmentUtil.read(segment, offset + BaseRewardRouter.NCN_FEE_GROUP_REWARD_ROUTES_OFFSET + (index * NcnRewardRoute.BYTESL), NcnRewardRoute.BYTES, NcnRewardRoute::read);
+  }
+}
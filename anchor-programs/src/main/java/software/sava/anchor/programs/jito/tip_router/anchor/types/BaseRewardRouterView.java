@@ -0,0 +1,105 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class BaseRewardRouterView {
+
+  private byte[] _data;
+  private int offset;
+
+  private BaseRewardRouterView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static BaseRewardRouterView wrap(final byte[] _data, final int offset) {
+    return new BaseRewardRouterView(_data, offset);
+  }
+
+  public static BaseRewardRouterView wrap(final byte[] _data) {
+    return new BaseRewardRouterView(_data, 0);
+  }
+
+  public BaseRewardRouterView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public BaseRewardRouterView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public BaseRewardRouter read(final PublicKey _address) {
+    return BaseRewardRouter.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + BaseRewardRouter.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + BaseRewardRouter.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + BaseRewardRouter.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(_data, offset + BaseRewardRouter.SLOT_CREATED_OFFSET);
+  }
+
+  public long totalRewards() {
+    return getInt64LE(_data, offset + BaseRewardRouter.TOTAL_REWARDS_OFFSET);
+  }
+
+  public long rewardPool() {
+    return getInt64LE(_data, offset + BaseRewardRouter.REWARD_POOL_OFFSET);
+  }
+
+  public long rewardsProcessed() {
+    return getInt64LE(_data, offset + BaseRewardRouter.REWARDS_PROCESSED_OFFSET);
+  }
+
+  public int lastNcnGroupIndex() {
+    return _data[offset + BaseRewardRouter.LAST_NCN_GROUP_INDEX_OFFSET] & 0xFF;
+  }
+
+  public int lastVoteIndex() {
+    return getInt16LE(_data, offset + BaseRewardRouter.LAST_VOTE_INDEX_OFFSET);
+  }
+
+  public long lastRewardsToProcess() {
+    return getInt64LE(_data, offset + BaseRewardRouter.LAST_REWARDS_TO_PROCESS_OFFSET);
+  }
+
+  public BaseRewardRouterRewards baseFeeGroupRewards(final int index) {
+    Objects.checkIndex(index, BaseRewardRouter.BASE_FEE_GROUP_REWARDS_LEN);
+    return BaseRewardRouterRewards.read(_data, offset + BaseRewardRouter.BASE_FEE_GROUP_REWARDS_OFFSET + (index * BaseRewardRouterRewards.BYTES));
+  }
+
+  public BaseRewardRouterRewards ncnFeeGroupRewards(final int index) {
+    Objects.checkIndex(index, BaseRewardRouter.NCN_FEE_GROUP_REWARDS_LEN);
+    return BaseRewardRouterRewards.read(_data, offset + BaseRewardRouter.NCN_FEE_GROUP_REWARDS_OFFSET + (index * BaseRewardRouterRewards.BYTES));
+  }
+
+  public NcnRewardRoute ncnFeeGroupRewardRoutes(final int index) {
+    Objects.checkIndex(index, BaseRewardRouter.NCN_FEE_GROUP_REWARD_ROUTES_LEN);
+    return NcnRewardRoute.read(_data, offset + BaseRewardRouter.NCN_FEE_GROUP_REWARD_ROUTES_OFFSET + (index * NcnRewardRoute.BYTES));
+  }
+}
@@ -0,0 +1,87 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ConfigSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ConfigSegmentView(segment, offset);
+  }
+
+  public static ConfigSegmentView wrap(final MemorySegment segment) {
+    return new ConfigSegmentView(segment, 0);
+  }
+
+  public ConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Config read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Config.BYTES, Config::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + Config.NCN_OFFSET);
+  }
+
+  public PublicKey tieBreakerAdmin() {
+    return readPubKey(segment, offset + Config.TIE_BREAKER_ADMIN_OFFSET);
+  }
+
+  public PublicKey feeAdmin() {
+    return readPubKey(segment, offset + Config.FEE_ADMIN_OFFSET);
+  }
+
+  public long validSlotsAfterConsensus() {
+    return getInt64LE(segment, offset + Config.VALID_SLOTS_AFTER_CONSENSUS_OFFSET);
+  }
+
+  public long epochsBeforeStall() {
+    return getInt64LE(segment, offset + Config.EPOCHS_BEFORE_STALL_OFFSET);
+  }
+
+  public FeeConfig feeConfig() {
+    return MemorySegmentUtil.read(segment, offset + Config.FEE_CONFIG_OFFSET, FeeConfig.BYTES, FeeConfig::read);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Config.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long epochsAfterConsensusBeforeClose() {
+    return getInt64LE(segment, offset + Config.EPOCHS_AFTER_CONSENSUS_BEFORE_CLOSE_OFFSET);
+  }
+
+  public long startingValidEpoch() {
+    return getInt64LE(segment, offset + Config.STARTING_VALID_EPOCH_OFFSET);
+  }
+}
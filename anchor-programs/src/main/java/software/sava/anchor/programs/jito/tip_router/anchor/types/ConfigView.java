@@ -0,0 +1,83 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class ConfigView {
+
+  private byte[] _data;
+  private int offset;
+
+  private ConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ConfigView wrap(final byte[] _data, final int offset) {
+    return new ConfigView(_data, offset);
+  }
+
+  public static ConfigView wrap(final byte[] _data) {
+    return new ConfigView(_data, 0);
+  }
+
+  public ConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Config read(final PublicKey _address) {
+    return Config.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + Config.NCN_OFFSET);
+  }
+
+  public PublicKey tieBreakerAdmin() {
+    return readPubKey(_data, offset + Config.TIE_BREAKER_ADMIN_OFFSET);
+  }
+
+  public PublicKey feeAdmin() {
+    return readPubKey(_data, offset + Config.FEE_ADMIN_OFFSET);
+  }
+
+  public long validSlotsAfterConsensus() {
+    return getInt64LE(_data, offset + Config.VALID_SLOTS_AFTER_CONSENSUS_OFFSET);
+  }
+
+  public long epochsBeforeStall() {
+    return getInt64LE(_data, offset + Config.EPOCHS_BEFORE_STALL_OFFSET);
+  }
+
+  public FeeConfig feeConfig() {
+    return FeeConfig.read(_data, offset + Config.FEE_CONFIG_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + Config.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long epochsAfterConsensusBeforeClose() {
+    return getInt64LE(_data, offset + Config.EPOCHS_AFTER_CONSENSUS_BEFORE_CLOSE_OFFSET);
+  }
+
+  public long startingValidEpoch() {
+    return getInt64LE(_data, offset + Config.STARTING_VALID_EPOCH_OFFSET);
+  }
+}
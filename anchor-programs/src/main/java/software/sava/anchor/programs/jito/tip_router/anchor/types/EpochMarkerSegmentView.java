@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class EpochMarkerSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EpochMarkerSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EpochMarkerSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EpochMarkerSegmentView(segment, offset);
+  }
+
+  public static EpochMarkerSegmentView wrap(final MemorySegment segment) {
+    return new EpochMarkerSegmentView(segment, 0);
+  }
+
+  public EpochMarkerSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EpochMarkerSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public EpochMarker read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, EpochMarker.BYTES, EpochMarker::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + EpochMarker.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EpochMarker.EPOCH_OFFSET);
+  }
+
+  public long slotClosed() {
+    return getInt64LE(segment, offset + EpochMarker.SLOT_CLOSED_OFFSET);
+  }
+}
@@ -0,0 +1,59 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class EpochMarkerView {
+
+  private byte[] _data;
+  private int offset;
+
+  private EpochMarkerView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static EpochMarkerView wrap(final byte[] _data, final int offset) {
+    return new EpochMarkerView(_data, offset);
+  }
+
+  public static EpochMarkerView wrap(final byte[] _data) {
+    return new EpochMarkerView(_data, 0);
+  }
+
+  public EpochMarkerView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public EpochMarkerView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public EpochMarker read(final PublicKey _address) {
+    return EpochMarker.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + EpochMarker.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + EpochMarker.EPOCH_OFFSET);
+  }
+
+  public long slotClosed() {
+    return getInt64LE(_data, offset + EpochMarker.SLOT_CLOSED_OFFSET);
+  }
+}
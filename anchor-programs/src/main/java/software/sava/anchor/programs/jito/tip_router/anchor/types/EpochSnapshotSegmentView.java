@@ -0,0 +1,95 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class EpochSnapshotSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EpochSnapshotSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EpochSnapshotSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EpochSnapshotSegmentView(segment, offset);
+  }
+
+  public static EpochSnapshotSegmentView wrap(final MemorySegment segment) {
+    return new EpochSnapshotSegmentView(segment, 0);
+  }
+
+  public EpochSnapshotSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EpochSnapshotSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public EpochSnapshot read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, EpochSnapshot.BYTES, EpochSnapshot::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + EpochSnapshot.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EpochSnapshot.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + EpochSnapshot.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(segment, offset + EpochSnapshot.SLOT_CREATED_OFFSET);
+  }
+
+  public long slotFinalized() {
+    return getInt64LE(segment, offset + EpochSnapshot.SLOT_FINALIZED_OFFSET);
+  }
+
+  public Fees fees() {
+    return MemorySegmentUtil.read(segment, offset + EpochSnapshot.FEES_OFFSET, Fees.BYTES, Fees::read);
+  }
+
+  public long operatorCount() {
+    return getInt64LE(segment, offset + EpochSnapshot.OPERATOR_COUNT_OFFSET);
+  }
+
+  public long vaultCount() {
+    return getInt64LE(segment, offset + EpochSnapshot.VAULT_COUNT_OFFSET);
+  }
+
+  public long operatorsRegistered() {
+    return getInt64LE(segment, offset + EpochSnapshot.OPERATORS_REGISTERED_OFFSET);
+  }
+
+  public long validOperatorVaultDelegations() {
+    return getInt64LE(segment, offset + EpochSnapshot.VALID_OPERATOR_VAULT_DELEGATIONS_OFFSET);
+  }
+
+  public StakeWeights stakeWeights() {
+    return MemorySegmentUtil.read(segment, offset + EpochSnapshot.STAKE_WEIGHTS_OFFSET, StakeWeights.BYTES, StakeWeights::read);
+  }
+}
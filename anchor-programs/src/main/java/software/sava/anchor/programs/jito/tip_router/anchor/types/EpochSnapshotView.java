@@ -0,0 +1,91 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class EpochSnapshotView {
+
+  private byte[] _data;
+  private int offset;
+
+  private EpochSnapshotView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static EpochSnapshotView wrap(final byte[] _data, final int offset) {
+    return new EpochSnapshotView(_data, offset);
+  }
+
+  public static EpochSnapshotView wrap(final byte[] _data) {
+    return new EpochSnapshotView(_data, 0);
+  }
+
+  public EpochSnapshotView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public EpochSnapshotView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public EpochSnapshot read(final PublicKey _address) {
+    return EpochSnapshot.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + EpochSnapshot.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + EpochSnapshot.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + EpochSnapshot.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(_data, offset + EpochSnapshot.SLOT_CREATED_OFFSET);
+  }
+
+  public long slotFinalized() {
+    return getInt64LE(_data, offset + EpochSnapshot.SLOT_FINALIZED_OFFSET);
+  }
+
+  public Fees fees() {
+    return Fees.read(_data, offset + EpochSnapshot.FEES_OFFSET);
+  }
+
+  public long operatorCount() {
+    return getInt64LE(_data, offset + EpochSnapshot.OPERATOR_COUNT_OFFSET);
+  }
+
+  public long vaultCount() {
+    return getInt64LE(_data, offset + EpochSnapshot.VAULT_COUNT_OFFSET);
+  }
+
+  public long operatorsRegistered() {
+    return getInt64LE(_data, offset + EpochSnapshot.OPERATORS_REGISTERED_OFFSET);
+  }
+
+  public long validOperatorVaultDelegations() {
+    return getInt64LE(_data, offset + EpochSnapshot.VALID_OPERATOR_VAULT_DELEGATIONS_OFFSET);
+  }
+
+  public StakeWeights stakeWeights() {
+    return StakeWeights.read(_data, offset + EpochSnapshot.STAKE_WEIGHTS_OFFSET);
+  }
+}
@@ -0,0 +1,130 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class EpochStateSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EpochStateSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EpochStateSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EpochStateSegmentView(segment, offset);
+  }
+
+  public static EpochStateSegmentView wrap(final MemorySegment segment) {
+    return new EpochStateSegmentView(segment, 0);
+  }
+
+  public EpochStateSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EpochStateSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public EpochState read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, EpochState.BYTES, EpochState::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + EpochState.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + EpochState.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + EpochState.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(segment, offset + EpochState.SLOT_CREATED_OFFSET);
+  }
+
+  public boolean wasTieBreakerSet() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + EpochState.WAS_TIE_BREAKER_SET_OFFSET) == 1;
+  }
+
+  public long slotConsensusReached() {
+    return getInt64LE(segment, offset + EpochState.SLOT_CONSENSUS_REACHED_OFFSET);
+  }
+
+  public long operatorCount() {
+    return getInt64LE(segment, offset + EpochState.OPERATOR_COUNT_OFFSET);
+  }
+
+  public long vaultCount() {
+    return getInt64LE(segment, offset + EpochState.VAULT_COUNT_OFFSET);
+  }
+
+  public EpochAccountStatus accountStatus() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.ACCOUNT_STATUS_OFFSET, EpochAccountStatus.BYTES, EpochAccountStatus::read);
+  }
+
+  public Progress setWeightProgress() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.SET_WEIGHT_PROGRESS_OFFSET, Progress.BYTES, Progress::read);
+  }
+
+  public Progress epochSnapshotProgress() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.EPOCH_SNAPSHOT_PROGRESS_OFFSET, Progress.BYTES, Progress::read);
+  }
+
+  public Progress operatorSnapshotProgress(final int index) {
+    Objects.checkIndex(index, EpochState.OPERATOR_SNAPSHOT_PROGRESS_LEN);
+    return MemorySegmentUtil.read(segment, offset + EpochState.OPERATOR_SNAPSHOT_PROGRESS_OFFSET + (index * Progress.BYTESL), Progress.BYTES, Progress::read);
+  }
+
+  public Progress votingProgress() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.VOTING_PROGRESS_OFFSET, Progress.BYTES, Progress::read);
+  }
+
+  public Progress validationProgress() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.VALIDATION_PROGRESS_OFFSET, Progress.BYTES, Progress::read);
+  }
+
+  public Progress uploadProgress() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.UPLOAD_PROGRESS_OFFSET, Progress.BYTES, Progress::read);
+  }
+
+  public Progress totalDistributionProgress() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.TOTAL_DISTRIBUTION_PROGRESS_OFFSET, Progress.BYTES, Progress::read);
+  }
+
+  public Progress baseDistributionProgress() {
+    return MemorySegmentUtil.read(segment, offset + EpochState.BASE_DISTRIBUTION_PROGRESS_OFFSET, Progress.BYTES, Progress::read);
+  }
+
+  public Progress ncnDistributionProgress(final int index) {
+    Objects.checkIndex(index, EpochState.NCN_DISTRIBUTION_PROGRESS_LEN);
+    return MemorySegmentUtil.read(segment, offset + EpochState.NCN_DISTRIBUTION_PROGRESS_OFFSET + (index * Progress.BYTESL), Progress.BYTES, Progress::read);
+  }
+
+  public boolean isClosing() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + EpochState.IS_CLOSING_OFFSET) == 1;
+  }
+}
@@ -0,0 +1,127 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class EpochStateView {
+
+  private byte[] _data;
+  private int offset;
+
+  private EpochStateView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static EpochStateView wrap(final byte[] _data, final int offset) {
+    return new EpochStateView(_data, offset);
+  }
+
+  public static EpochStateView wrap(final byte[] _data) {
+    return new EpochStateView(_data, 0);
+  }
+
+  public EpochStateView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public EpochStateView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public EpochState read(final PublicKey _address) {
+    return EpochState.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + EpochState.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + EpochState.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + EpochState.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(_data, offset + EpochState.SLOT_CREATED_OFFSET);
+  }
+
+  public boolean wasTieBreakerSet() {
+    return _data[offset + EpochState.WAS_TIE_BREAKER_SET_OFFSET] == 1;
+  }
+
+  public long slotConsensusReached() {
+    return getInt64LE(_data, offset + EpochState.SLOT_CONSENSUS_REACHED_OFFSET);
+  }
+
+  public long operatorCount() {
+    return getInt64LE(_data, offset + EpochState.OPERATOR_COUNT_OFFSET);
+  }
+
+  public long vaultCount() {
+    return getInt64LE(_data, offset + EpochState.VAULT_COUNT_OFFSET);
+  }
+
+  public EpochAccountStatus accountStatus() {
+    return EpochAccountStatus.read(_data, offset + EpochState.ACCOUNT_STATUS_OFFSET);
+  }
+
+  public Progress setWeightProgress() {
+    return Progress.read(_data, offset + EpochState.SET_WEIGHT_PROGRESS_OFFSET);
+  }
+
+  public Progress epochSnapshotProgress() {
+    return Progress.read(_data, offset + EpochState.EPOCH_SNAPSHOT_PROGRESS_OFFSET);
+  }
+
+  public Progress operatorSnapshotProgress(final int index) {
+    Objects.checkIndex(index, EpochState.OPERATOR_SNAPSHOT_PROGRESS_LEN);
+    return Progress.read(_data, offset + EpochState.OPERATOR_SNAPSHOT_PROGRESS_OFFSET + (index * Progress.BYTES));
+  }
+
+  public Progress votingProgress() {
+    return Progress.read(_data, offset + EpochState.VOTING_PROGRESS_OFFSET);
+  }
+
+  public Progress validationProgress() {
+    return Progress.read(_data, offset + EpochState.VALIDATION_PROGRESS_OFFSET);
+  }
+
+  public Progress uploadProgress() {
+    return Progress.read(_data, offset + EpochState.UPLOAD_PROGRESS_OFFSET);
+  }
+
+  public Progress totalDistributionProgress() {
+    return Progress.read(_data, offset + EpochState.TOTAL_DISTRIBUTION_PROGRESS_OFFSET);
+  }
+
+  public Progress baseDistributionProgress() {
+    return Progress.read(_data, offset + EpochState.BASE_DISTRIBUTION_PROGRESS_OFFSET);
+  }
+
+  public Progress ncnDistributionProgress(final int index) {
+    Objects.checkIndex(index, EpochState.NCN_DISTRIBUTION_PROGRESS_LEN);
+    return Progress.read(_data, offset + EpochState.NCN_DISTRIBUTION_PROGRESS_OFFSET + (index * Progress.BYTES));
+  }
+
+  public boolean isClosing() {
+    return _data[offset + EpochState.IS_CLOSING_OFFSET] == 1;
+  }
+}
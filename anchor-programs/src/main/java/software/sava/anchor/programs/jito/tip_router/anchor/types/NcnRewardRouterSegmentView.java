@@ -0,0 +1,110 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class NcnRewardRouterSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private NcnRewardRouterSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static NcnRewardRouterSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new NcnRewardRouterSegmentView(segment, offset);
+  }
+
+  public static NcnRewardRouterSegmentView wrap(final MemorySegment segment) {
+    return new NcnRewardRouterSegmentView(segment, 0);
+  }
+
+  public NcnRewardRouterSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public NcnRewardRouterSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public NcnRewardRouter read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, NcnRewardRouter.BYTES, NcnRewardRouter::read);
+  }
+
+  public NcnFeeGroup ncnFeeGroup() {
+    return MemorySegmentUtil.read(segment, offset + NcnRewardRouter.NCN_FEE_GROUP_OFFSET, NcnFeeGroup.BYTES, NcnFeeGroup::read);
+  }
+
+  public PublicKey operator() {
+    return readPubKey(segment, offset + NcnRewardRouter.OPERATOR_OFFSET);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + NcnRewardRouter.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + NcnRewardRouter.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + NcnRewardRouter.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(segment, offset + NcnRewardRouter.SLOT_CREATED_OFFSET);
+  }
+
+  public long ncnOperatorIndex() {
+    return getInt64LE(segment, offset + NcnRewardRouter.NCN_OPERATOR_INDEX_OFFSET);
+  }
+
+  public long totalRewards() {
+    return getInt64LE(segment, offset + NcnRewardRouter.TOTAL_REWARDS_OFFSET);
+  }
+
+  public long rewardPool() {
+    return getInt64LE(segment, offset + NcnRewardRouter.REWARD_POOL_OFFSET);
+  }
+
+  public long rewardsProcessed() {
+    return getInt64LE(segment, offset + NcnRewardRouter.REWARDS_PROCESSED_OFFSET);
+  }
+
+  public long operatorRewards() {
+    return getInt64LE(segment, offset + NcnRewardRouter.OPERATOR_REWARDS_OFFSET);
+  }
+
+  public long lastRewardsToProcess() {
+    return getInt64LE(segment, offset + NcnRewardRouter.LAST_REWARDS_TO_PROCESS_OFFSET);
+  }
+
+  public int lastVaultOperatorDelegationIndex() {
+    return getInt16LE(segment, offset + NcnRewardRouter.LAST_VAULT_OPERATOR_DELEGATION_INDEX_OFFSET);
+  }
+
+  public VaultRewardRoute vaultRewardRoutes(final int index) {
+    Objects.checkIndex(index, NcnRewardRouter.VAULT_REWARD_ROUTES_LEN);
+    return MemorySegmentUtil.read(segment, offset + NcnRewardRouter.VAULT_REWARD_ROUTES_OFFSET + (index * VaultRewardRoute.BYTESL), VaultRewardRoute.BYTES, VaultRewardRoute::read);
+  }
+}
@@ -0,0 +1,107 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class NcnRewardRouterView {
+
+  private byte[] _data;
+  private int offset;
+
+  private NcnRewardRouterView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static NcnRewardRouterView wrap(final byte[] _data, final int offset) {
+    return new NcnRewardRouterView(_data, offset);
+  }
+
+  public static NcnRewardRouterView wrap(final byte[] _data) {
+    return new NcnRewardRouterView(_data, 0);
+  }
+
+  public NcnRewardRouterView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public NcnRewardRouterView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public NcnRewardRouter read(final PublicKey _address) {
+    return NcnRewardRouter.read(_address, _data, offset);
+  }
+
+  public NcnFeeGroup ncnFeeGroup() {
+    return NcnFeeGroup.read(_data, offset + NcnRewardRouter.NCN_FEE_GROUP_OFFSET);
+  }
+
+  public PublicKey operator() {
+    return readPubKey(_data, offset + NcnRewardRouter.OPERATOR_OFFSET);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + NcnRewardRouter.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + NcnRewardRouter.EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + NcnRewardRouter.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(_data, offset + NcnRewardRouter.SLOT_CREATED_OFFSET);
+  }
+
+  public long ncnOperatorIndex() {
+    return getInt64LE(_data, offset + NcnRewardRouter.NCN_OPERATOR_INDEX_OFFSET);
+  }
+
+  public long totalRewards() {
+    return getInt64LE(_data, offset + NcnRewardRouter.TOTAL_REWARDS_OFFSET);
+  }
+
+  public long rewardPool() {
+    return getInt64LE(_data, offset + NcnRewardRouter.REWARD_POOL_OFFSET);
+  }
+
+  public long rewardsProcessed() {
+    return getInt64LE(_data, offset + NcnRewardRouter.REWARDS_PROCESSED_OFFSET);
+  }
+
+  public long operatorRewards() {
+    return getInt64LE(_data, offset + NcnRewardRouter.OPERATOR_REWARDS_OFFSET);
+  }
+
+  public long lastRewardsToProcess() {
+    return getInt64LE(_data, offset + NcnRewardRouter.LAST_REWARDS_TO_PROCESS_OFFSET);
+  }
+
+  public int lastVaultOperatorDelegationIndex() {
+    return getInt16LE(_data, offset + NcnRewardRouter.LAST_VAULT_OPERATOR_DELEGATION_INDEX_OFFSET);
+  }
+
+  public VaultRewardRoute vaultRewardRoutes(final int index) {
+    Objects.checkIndex(index, NcnRewardRouter.VAULT_REWARD_ROUTES_LEN);
+    return VaultRewardRoute.read(_data, offset + NcnRewardRouter.VAULT_REWARD_ROUTES_OFFSET + (index * VaultRewardRoute.BYTES));
+  }
+}
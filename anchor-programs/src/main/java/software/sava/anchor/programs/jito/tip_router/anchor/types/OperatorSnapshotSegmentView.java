@@ -0,0 +1,114 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class OperatorSnapshotSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private OperatorSnapshotSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static OperatorSnapshotSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new OperatorSnapshotSegmentView(segment, offset);
+  }
+
+  public static OperatorSnapshotSegmentView wrap(final MemorySegment segment) {
+    return new OperatorSnapshotSegmentView(segment, 0);
+  }
+
+  public OperatorSnapshotSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public OperatorSnapshotSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public OperatorSnapshot read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, OperatorSnapshot.BYTES, OperatorSnapshot::read);
+  }
+
+  public PublicKey operator() {
+    return readPubKey(segment, offset + OperatorSnapshot.OPERATOR_OFFSET);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + OperatorSnapshot.NCN_OFFSET);
+  }
+
+  public long ncnEpoch() {
+    return getInt64LE(segment, offset + OperatorSnapshot.NCN_EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + OperatorSnapshot.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(segment, offset + OperatorSnapshot.SLOT_CREATED_OFFSET);
+  }
+
+  public long slotFinalized() {
+    return getInt64LE(segment, offset + OperatorSnapshot.SLOT_FINALIZED_OFFSET);
+  }
+
+  public boolean isActive() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + OperatorSnapshot.IS_ACTIVE_OFFSET) == 1;
+  }
+
+  public long ncnOperatorIndex() {
+    return getInt64LE(segment, offset + OperatorSnapshot.NCN_OPERATOR_INDEX_OFFSET);
+  }
+
+  public long operatorIndex() {
+    return getInt64LE(segment, offset + OperatorSnapshot.OPERATOR_INDEX_OFFSET);
+  }
+
+  public int operatorFeeBps() {
+    return getInt16LE(segment, offset + OperatorSnapshot.OPERATOR_FEE_BPS_OFFSET);
+  }
+
+  public long vaultOperatorDelegationCount() {
+    return getInt64LE(segment, offset + OperatorSnapshot.VAULT_OPERATOR_DELEGATION_COUNT_OFFSET);
+  }
+
+  public long vaultOperatorDelegationsRegistered() {
+    return getInt64LE(segment, offset + OperatorSnapshot.VAULT_OPERATOR_DELEGATIONS_REGISTERED_OFFSET);
+  }
+
+  public long validOperatorVaultDelegations() {
+    return getInt64LE(segment, offset + OperatorSnapshot.VALID_OPERATOR_VAULT_DELEGATIONS_OFFSET);
+  }
+
+  public StakeWeights stakeWeights() {
+    return MemorySegmentUtil.read(segment, offset + OperatorSnapshot.STAKE_WEIGHTS_OFFSET, StakeWeights.BYTES, StakeWeights::read);
+  }
+
+  public VaultOperatorStakeWeight vaultOperatorStakeWeight(final int index) {
+    Objects.checkIndex(index, OperatorSnapshot.VAULT_OPERATOR_STAKE_WEIGHT_LEN);
+    return MemorySegmentUtil.read(segment, offset + OperatorSnapshot.VAULT_OPERATOR_STAKE_WEIGHT_OFFSET + (index * VaultOperatorStakeWeight.BYTESL), VaultOperatorStakeWeight.BYTES, VaultOperatorStakeWeight::read);
+  }
+}
@@ -0,0 +1,111 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class OperatorSnapshotView {
+
+  private byte[] _data;
+  private int offset;
+
+  private OperatorSnapshotView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static OperatorSnapshotView wrap(final byte[] _data, final int offset) {
+    return new OperatorSnapshotView(_data, offset);
+  }
+
+  public static OperatorSnapshotView wrap(final byte[] _data) {
+    return new OperatorSnapshotView(_data, 0);
+  }
+
+  public OperatorSnapshotView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public OperatorSnapshotView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public OperatorSnapshot read(final PublicKey _address) {
+    return OperatorSnapshot.read(_address, _data, offset);
+  }
+
+  public PublicKey operator() {
+    return readPubKey(_data, offset + OperatorSnapshot.OPERATOR_OFFSET);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + OperatorSnapshot.NCN_OFFSET);
+  }
+
+  public long ncnEpoch() {
+    return getInt64LE(_data, offset + OperatorSnapshot.NCN_EPOCH_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + OperatorSnapshot.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long slotCreated() {
+    return getInt64LE(_data, offset + OperatorSnapshot.SLOT_CREATED_OFFSET);
+  }
+
+  public long slotFinalized() {
+    return getInt64LE(_data, offset + OperatorSnapshot.SLOT_FINALIZED_OFFSET);
+  }
+
+  public boolean isActive() {
+    return _data[offset + OperatorSnapshot.IS_ACTIVE_OFFSET] == 1;
+  }
+
+  public long ncnOperatorIndex() {
+    return getInt64LE(_data, offset + OperatorSnapshot.NCN_OPERATOR_INDEX_OFFSET);
+  }
+
+  public long operatorIndex() {
+    return getInt64LE(_data, offset + OperatorSnapshot.OPERATOR_INDEX_OFFSET);
+  }
+
+  public int operatorFeeBps() {
+    return getInt16LE(_data, offset + OperatorSnapshot.OPERATOR_FEE_BPS_OFFSET);
+  }
+
+  public long vaultOperatorDelegationCount() {
+    return getInt64LE(_data, offset + OperatorSnapshot.VAULT_OPERATOR_DELEGATION_COUNT_OFFSET);
+  }
+
+  public long vaultOperatorDelegationsRegistered() {
+    return getInt64LE(_data, offset + OperatorSnapshot.VAULT_OPERATOR_DELEGATIONS_REGISTERED_OFFSET);
+  }
+
+  public long validOperatorVaultDelegations() {
+    return getInt64LE(_data, offset + OperatorSnapshot.VALID_OPERATOR_VAULT_DELEGATIONS_OFFSET);
+  }
+
+  public StakeWeights stakeWeights() {
+    return StakeWeights.read(_data, offset + OperatorSnapshot.STAKE_WEIGHTS_OFFSET);
+  }
+
+  public VaultOperatorStakeWeight vaultOperatorStakeWeight(final int index) {
+    Objects.checkIndex(index, OperatorSnapshot.VAULT_OPERATOR_STAKE_WEIGHT_LEN);
+    return VaultOperatorStakeWeight.read(_data, offset + OperatorSnapshot.VAULT_OPERATOR_STAKE_WEIGHT_OFFSET + (index * VaultOperatorStakeWeight.BYTES));
+  }
+}
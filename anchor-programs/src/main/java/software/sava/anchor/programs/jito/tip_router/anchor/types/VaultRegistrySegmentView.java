@@ -0,0 +1,69 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class VaultRegistrySegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private VaultRegistrySegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static VaultRegistrySegmentView wrap(final MemorySegment segment, final long offset) {
+    return new VaultRegistrySegmentView(segment, offset);
+  }
+
+  public static VaultRegistrySegmentView wrap(final MemorySegment segment) {
+    return new VaultRegistrySegmentView(segment, 0);
+  }
+
+  public VaultRegistrySegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultRegistrySegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public VaultRegistry read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, VaultRegistry.BYTES, VaultRegistry::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + VaultRegistry.NCN_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + VaultRegistry.BUMP_OFFSET) & 0xFF;
+  }
+
+  public StMintEntry stMintList(final int index) {
+    Objects.checkIndex(index, VaultRegistry.ST_MINT_LIST_LEN);
+    return MemorySegmentUtil.read(segment, offset + VaultRegistry.ST_MINT_LIST_OFFSET + (index * StMintEntry.BYTESL), StMintEntry.BYTES, StMintEntry::read);
+  }
+
+  public VaultEntry vaultList(final int index) {
+    Objects.checkIndex(index, VaultRegistry.VAULT_LIST_LEN);
+    return MemorySegmentUtil.read(segment, offset + VaultRegistry.VAULT_LIST_OFFSET + (index * VaultEntry.BYTESL), VaultEntry.BYTES, VaultEntry::read);
+  }
+}
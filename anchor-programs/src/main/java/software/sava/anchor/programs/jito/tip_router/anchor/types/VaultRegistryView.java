@@ -0,0 +1,66 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class VaultRegistryView {
+
+  private byte[] _data;
+  private int offset;
+
+  private VaultRegistryView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static VaultRegistryView wrap(final byte[] _data, final int offset) {
+    return new VaultRegistryView(_data, offset);
+  }
+
+  public static VaultRegistryView wrap(final byte[] _data) {
+    return new VaultRegistryView(_data, 0);
+  }
+
+  public VaultRegistryView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultRegistryView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public VaultRegistry read(final PublicKey _address) {
+    return VaultRegistry.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + VaultRegistry.NCN_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + VaultRegistry.BUMP_OFFSET] & 0xFF;
+  }
+
+  public StMintEntry stMintList(final int index) {
+    Objects.checkIndex(index, VaultRegistry.ST_MINT_LIST_LEN);
+    return StMintEntry.read(_data, offset + VaultRegistry.ST_MINT_LIST_OFFSET + (index * StMintEntry.BYTES));
+  }
+
+  public VaultEntry vaultList(final int index) {
+    Objects.checkIndex(index, VaultRegistry.VAULT_LIST_LEN);
+    return VaultEntry.read(_data, offset + VaultRegistry.VAULT_LIST_OFFSET + (index * VaultEntry.BYTES));
+  }
+}
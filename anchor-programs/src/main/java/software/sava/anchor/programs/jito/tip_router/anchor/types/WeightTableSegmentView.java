@@ -0,0 +1,82 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class WeightTableSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WeightTableSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WeightTableSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WeightTableSegmentView(segment, offset);
+  }
+
+  public static WeightTableSegmentView wrap(final MemorySegment segment) {
+    return new WeightTableSegmentView(segment, 0);
+  }
+
+  public WeightTableSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WeightTableSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public WeightTable read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, WeightTable.BYTES, WeightTable::read);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(segment, offset + WeightTable.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(segment, offset + WeightTable.EPOCH_OFFSET);
+  }
+
+  public long slotCreated() {
+    return getInt64LE(segment, offset + WeightTable.SLOT_CREATED_OFFSET);
+  }
+
+  public long vaultCount() {
+    return getInt64LE(segment, offset + WeightTable.VAULT_COUNT_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + WeightTable.BUMP_OFFSET) & 0xFF;
+  }
+
+  public VaultEntry vaultRegistry(final int index) {
+    Objects.checkIndex(index, WeightTable.VAULT_REGISTRY_LEN);
+    return MemorySegmentUtil.read(segment, offset + WeightTable.VAULT_REGISTRY_OFFSET + (index * VaultEntry.BYTESL), VaultEntry.BYTES, VaultEntry::read);
+  }
+
+  public WeightEntry table(final int index) {
+    Objects.checkIndex(index, WeightTable.TABLE_LEN);
+    return MemorySegmentUtil.read(segment, offset + WeightTable.TABLE_OFFSET + (index * WeightEntry.BYTESL), WeightEntry.BYTES, WeightEntry::read);
+  }
+}
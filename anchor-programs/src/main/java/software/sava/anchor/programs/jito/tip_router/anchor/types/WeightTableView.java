@@ -0,0 +1,79 @@
+package software.sava.anchor.programs.jito.tip_router.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class WeightTableView {
+
+  private byte[] _data;
+  private int offset;
+
+  private WeightTableView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static WeightTableView wrap(final byte[] _data, final int offset) {
+    return new WeightTableView(_data, offset);
+  }
+
+  public static WeightTableView wrap(final byte[] _data) {
+    return new WeightTableView(_data, 0);
+  }
+
+  public WeightTableView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public WeightTableView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public WeightTable read(final PublicKey _address) {
+    return WeightTable.read(_address, _data, offset);
+  }
+
+  public PublicKey ncn() {
+    return readPubKey(_data, offset + WeightTable.NCN_OFFSET);
+  }
+
+  public long epoch() {
+    return getInt64LE(_data, offset + WeightTable.EPOCH_OFFSET);
+  }
+
+  public long slotCreated() {
+    return getInt64LE(_data, offset + WeightTable.SLOT_CREATED_OFFSET);
+  }
+
+  public long vaultCount() {
+    return getInt64LE(_data, offset + WeightTable.VAULT_COUNT_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + WeightTable.BUMP_OFFSET] & 0xFF;
+  }
+
+  public VaultEntry vaultRegistry(final int index) {
+    Objects.checkIndex(index, WeightTable.VAULT_REGISTRY_LEN);
+    return VaultEntry.read(_data, offset + WeightTable.VAULT_REGISTRY_OFFSET + (index * VaultEntry.BYTES));
+  }
+
+  public WeightEntry table(final int index) {
+    Objects.checkIndex(index, WeightTable.TABLE_LEN);
+    return WeightEntry.read(_data, offset + WeightTable.TABLE_OFFSET + (index * WeightEntry.BYTES));
+  }
+}
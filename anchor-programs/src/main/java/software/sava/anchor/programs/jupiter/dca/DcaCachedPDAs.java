@@ -0,0 +1,48 @@
+package software.sava.anchor.programs.jupiter.dca;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// Jupiter DCA program addresses derived through ProgramAddressCache, with bump overloads for bumps read from the
+// derived accounts.
+public final class DcaCachedPDAs {
+
+  private static final byte[] DCA_SEED = "dca".getBytes(US_ASCII);
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress dcaPDA(final PublicKey program,
+                                             final PublicKey userAccount,
+                                             final PublicKey inputMintAccount,
+                                             final PublicKey outputMintAccount,
+                                             final long applicationIdx) {
+    return ProgramAddressCache.findProgramAddress(
+        DCA_SEED, userAccount, inputMintAccount, outputMintAccount, applicationIdx, program
+    );
+  }
+
+  public static ProgramDerivedAddress dcaPDA(final PublicKey program,
+                                             final PublicKey userAccount,
+                                             final PublicKey inputMintAccount,
+                                             final PublicKey outputMintAccount,
+                                             final long applicationIdx,
+                                             final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        DCA_SEED, userAccount, inputMintAccount, outputMintAccount, applicationIdx, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  private DcaCachedPDAs() {
+  }
+}
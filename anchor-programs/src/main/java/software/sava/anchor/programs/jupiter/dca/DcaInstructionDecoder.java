@@ -0,0 +1,191 @@
+package software.sava.anchor.programs.jupiter.dca;
+
+import software.sava.anchor.programs.jupiter.dca.anchor.DcaProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Jupiter DCA instruction data decoded into the DcaProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class DcaInstructionDecoder {
+
+  public record CloseDcaIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseDcaIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseDcaIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseDcaIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record EndAndCloseIxData(Discriminator discriminator) implements Borsh {
+
+    public static EndAndCloseIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static EndAndCloseIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new EndAndCloseIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record InitiateDlmmFillIxData(Discriminator discriminator) implements Borsh {
+
+    public static InitiateDlmmFillIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static InitiateDlmmFillIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new InitiateDlmmFillIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record InitiateFlashFillIxData(Discriminator discriminator) implements Borsh {
+
+    public static InitiateFlashFillIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static InitiateFlashFillIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new InitiateFlashFillIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record TransferIxData(Discriminator discriminator) implements Borsh {
+
+    public static TransferIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static TransferIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new TransferIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(DcaProgram.END_AND_CLOSE_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.FULFILL_FLASH_FILL_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.OPEN_DCA_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.OPEN_DCA_V_2_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.DEPOSIT_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.TRANSFER_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.FULFILL_DLMM_FILL_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.INITIATE_DLMM_FILL_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.CLOSE_DCA_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.WITHDRAW_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.INITIATE_FLASH_FILL_DISCRIMINATOR.data(), 0),
+      getInt64LE(DcaProgram.WITHDRAW_FEES_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> EndAndCloseIxData.read(_data, offset);
+      case 1 -> DcaProgram.FulfillFlashFillIxData.read(_data, offset);
+      case 2 -> DcaProgram.OpenDcaIxData.read(_data, offset);
+      case 3 -> DcaProgram.OpenDcaV2IxData.read(_data, offset);
+      case 4 -> DcaProgram.DepositIxData.read(_data, offset);
+      case 5 -> TransferIxData.read(_data, offset);
+      case 6 -> DcaProgram.FulfillDlmmFillIxData.read(_data, offset);
+      case 7 -> InitiateDlmmFillIxData.read(_data, offset);
+      case 8 -> CloseDcaIxData.read(_data, offset);
+      case 9 -> DcaProgram.WithdrawIxData.read(_data, offset);
+      case 10 -> InitiateFlashFillIxData.read(_data, offset);
+      case 11 -> DcaProgram.WithdrawFeesIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private DcaInstructionDecoder() {
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jupiter.dca.DcaInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseDcaIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(DcaProgram.CLOSE_DCA_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseDcaIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseDcaIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseDcaIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseDcaIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseDcaIxDataSegmentView(segment, 0);
+  }
+
+  public CloseDcaIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseDcaIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public DcaInstructionDecoder.CloseDcaIxData read() {
+    return MemorySegmentUtil.read(segment, offset, DcaInstructionDecoder.CloseDcaIxData.BYTES, DcaInstructionDecoder.CloseDcaIxData::read);
+  }
+}
@@ -0,0 +1,36 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import software.sava.anchor.programs.jupiter.dca.anchor.types.Dca;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class DcaAccounts {
+
+  public static final Discriminator DCA_ACCOUNT_DISCRIMINATOR = toDiscriminator(82, 93, 90, 127, 40, 101, 145, 154);
+
+  public static final long DCA_DISCRIMINATOR = getInt64LE(DCA_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == DCA_DISCRIMINATOR) {
+      return Dca.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private DcaAccounts() {
+  }
+}
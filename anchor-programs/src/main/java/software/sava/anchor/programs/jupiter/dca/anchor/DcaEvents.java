@@ -0,0 +1,78 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.Closed;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.CollectedFee;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.Deposit;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.Filled;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.Opened;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.Withdraw;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class DcaEvents {
+
+  public static final Discriminator CLOSED_DISCRIMINATOR = toDiscriminator(50, 31, 87, 155, 135, 220, 195, 239);
+  public static final Discriminator COLLECTED_FEE_DISCRIMINATOR = toDiscriminator(42, 136, 216, 116, 181, 209, 109, 181);
+  public static final Discriminator DEPOSIT_DISCRIMINATOR = toDiscriminator(62, 205, 242, 175, 244, 169, 136, 52);
+  public static final Discriminator FILLED_DISCRIMINATOR = toDiscriminator(134, 4, 17, 63, 221, 45, 177, 173);
+  public static final Discriminator OPENED_DISCRIMINATOR = toDiscriminator(166, 172, 97, 9, 77, 76, 189, 109);
+  public static final Discriminator WITHDRAW_DISCRIMINATOR = toDiscriminator(192, 241, 201, 217, 70, 150, 90, 247);
+
+  public static final long CLOSED_DISCRIMINATOR_LONG = getInt64LE(CLOSED_DISCRIMINATOR.data(), 0);
+  public static final long COLLECTED_FEE_DISCRIMINATOR_LONG = getInt64LE(COLLECTED_FEE_DISCRIMINATOR.data(), 0);
+  public static final long DEPOSIT_DISCRIMINATOR_LONG = getInt64LE(DEPOSIT_DISCRIMINATOR.data(), 0);
+  public static final long FILLED_DISCRIMINATOR_LONG = getInt64LE(FILLED_DISCRIMINATOR.data(), 0);
+  public static final long OPENED_DISCRIMINATOR_LONG = getInt64LE(OPENED_DISCRIMINATOR.data(), 0);
+  public static final long WITHDRAW_DISCRIMINATOR_LONG = getInt64LE(WITHDRAW_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      FILLED_DISCRIMINATOR_LONG,
+      COLLECTED_FEE_DISCRIMINATOR_LONG,
+      CLOSED_DISCRIMINATOR_LONG,
+      WITHDRAW_DISCRIMINATOR_LONG,
+      DEPOSIT_DISCRIMINATOR_LONG,
+      OPENED_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> Filled.read(_data, i);
+      case 1 -> CollectedFee.read(_data, i);
+      case 2 -> Closed.read(_data, i);
+      case 3 -> Withdraw.read(_data, i);
+      case 4 -> Deposit.read(_data, i);
+      case 5 -> Opened.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private DcaEvents() {
+  }
+}
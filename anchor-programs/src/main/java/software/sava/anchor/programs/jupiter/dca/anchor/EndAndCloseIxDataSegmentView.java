@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jupiter.dca.DcaInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class EndAndCloseIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(DcaProgram.END_AND_CLOSE_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EndAndCloseIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EndAndCloseIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EndAndCloseIxDataSegmentView(segment, offset);
+  }
+
+  public static EndAndCloseIxDataSegmentView wrap(final MemorySegment segment) {
+    return new EndAndCloseIxDataSegmentView(segment, 0);
+  }
+
+  public EndAndCloseIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EndAndCloseIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public DcaInstructionDecoder.EndAndCloseIxData read() {
+    return MemorySegmentUtil.read(segment, offset, DcaInstructionDecoder.EndAndCloseIxData.BYTES, DcaInstructionDecoder.EndAndCloseIxData::read);
+  }
+}
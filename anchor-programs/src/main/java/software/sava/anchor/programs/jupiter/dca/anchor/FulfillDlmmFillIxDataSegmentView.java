@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class FulfillDlmmFillIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(DcaProgram.FULFILL_DLMM_FILL_DISCRIMINATOR.data(), 0);
+
+  private static final int REPAY_AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FulfillDlmmFillIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FulfillDlmmFillIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FulfillDlmmFillIxDataSegmentView(segment, offset);
+  }
+
+  public static FulfillDlmmFillIxDataSegmentView wrap(final MemorySegment segment) {
+    return new FulfillDlmmFillIxDataSegmentView(segment, 0);
+  }
+
+  public FulfillDlmmFillIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FulfillDlmmFillIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public DcaProgram.FulfillDlmmFillIxData read() {
+    return MemorySegmentUtil.read(segment, offset, DcaProgram.FulfillDlmmFillIxData.BYTES, DcaProgram.FulfillDlmmFillIxData::read);
+  }
+
+  public long repayAmount() {
+    return getInt64LE(segment, offset + REPAY_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class FulfillFlashFillIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(DcaProgram.FULFILL_FLASH_FILL_DISCRIMINATOR.data(), 0);
+
+  private static final int REPAY_AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FulfillFlashFillIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FulfillFlashFillIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FulfillFlashFillIxDataSegmentView(segment, offset);
+  }
+
+  public static FulfillFlashFillIxDataSegmentView wrap(final MemorySegment segment) {
+    return new FulfillFlashFillIxDataSegmentView(segment, 0);
+  }
+
+  public FulfillFlashFillIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FulfillFlashFillIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public DcaProgram.FulfillFlashFillIxData read() {
+    return MemorySegmentUtil.read(segment, offset, DcaProgram.FulfillFlashFillIxData.BYTES, DcaProgram.FulfillFlashFillIxData::read);
+  }
+
+  public long repayAmount() {
+    return getInt64LE(segment, offset + REPAY_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawFeesIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(DcaProgram.WITHDRAW_FEES_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawFeesIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawFeesIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawFeesIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawFeesIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawFeesIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawFeesIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawFeesIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public DcaProgram.WithdrawFeesIxData read() {
+    return MemorySegmentUtil.read(segment, offset, DcaProgram.WithdrawFeesIxData.BYTES, DcaProgram.WithdrawFeesIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.jupiter.dca.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jupiter.dca.anchor.types.WithdrawParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(DcaProgram.WITHDRAW_DISCRIMINATOR.data(), 0);
+
+  private static final int WITHDRAW_PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public DcaProgram.WithdrawIxData read() {
+    return MemorySegmentUtil.read(segment, offset, DcaProgram.WithdrawIxData.BYTES, DcaProgram.WithdrawIxData::read);
+  }
+
+  public WithdrawParams withdrawParams() {
+    return MemorySegmentUtil.read(segment, offset + WITHDRAW_PARAMS_OFFSET, WithdrawParams.BYTES, WithdrawParams::read);
+  }
+}
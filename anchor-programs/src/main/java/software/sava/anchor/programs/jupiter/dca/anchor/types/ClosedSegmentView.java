@@ -0,0 +1,113 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ClosedSegmentView {
+
+  private static final int USER_KEY_OFFSET = 0;
+  private static final int DCA_KEY_OFFSET = USER_KEY_OFFSET + 32;
+  private static final int IN_DEPOSITED_OFFSET = DCA_KEY_OFFSET + 32;
+  private static final int INPUT_MINT_OFFSET = IN_DEPOSITED_OFFSET + 8;
+  private static final int OUTPUT_MINT_OFFSET = INPUT_MINT_OFFSET + 32;
+  private static final int CYCLE_FREQUENCY_OFFSET = OUTPUT_MINT_OFFSET + 32;
+  private static final int IN_AMOUNT_PER_CYCLE_OFFSET = CYCLE_FREQUENCY_OFFSET + 8;
+  private static final int CREATED_AT_OFFSET = IN_AMOUNT_PER_CYCLE_OFFSET + 8;
+  private static final int TOTAL_IN_WITHDRAWN_OFFSET = CREATED_AT_OFFSET + 8;
+  private static final int TOTAL_OUT_WITHDRAWN_OFFSET = TOTAL_IN_WITHDRAWN_OFFSET + 8;
+  private static final int UNFILLED_AMOUNT_OFFSET = TOTAL_OUT_WITHDRAWN_OFFSET + 8;
+  private static final int USER_CLOSED_OFFSET = UNFILLED_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClosedSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClosedSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClosedSegmentView(segment, offset);
+  }
+
+  public static ClosedSegmentView wrap(final MemorySegment segment) {
+    return new ClosedSegmentView(segment, 0);
+  }
+
+  public ClosedSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClosedSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Closed read() {
+    return MemorySegmentUtil.read(segment, offset, Closed.BYTES, Closed::read);
+  }
+
+  public PublicKey userKey() {
+    return readPubKey(segment, offset + USER_KEY_OFFSET);
+  }
+
+  public PublicKey dcaKey() {
+    return readPubKey(segment, offset + DCA_KEY_OFFSET);
+  }
+
+  public long inDeposited() {
+    return getInt64LE(segment, offset + IN_DEPOSITED_OFFSET);
+  }
+
+  public PublicKey inputMint() {
+    return readPubKey(segment, offset + INPUT_MINT_OFFSET);
+  }
+
+  public PublicKey outputMint() {
+    return readPubKey(segment, offset + OUTPUT_MINT_OFFSET);
+  }
+
+  public long cycleFrequency() {
+    return getInt64LE(segment, offset + CYCLE_FREQUENCY_OFFSET);
+  }
+
+  public long inAmountPerCycle() {
+    return getInt64LE(segment, offset + IN_AMOUNT_PER_CYCLE_OFFSET);
+  }
+
+  public long createdAt() {
+    return getInt64LE(segment, offset + CREATED_AT_OFFSET);
+  }
+
+  public long totalInWithdrawn() {
+    return getInt64LE(segment, offset + TOTAL_IN_WITHDRAWN_OFFSET);
+  }
+
+  public long totalOutWithdrawn() {
+    return getInt64LE(segment, offset + TOTAL_OUT_WITHDRAWN_OFFSET);
+  }
+
+  public long unfilledAmount() {
+    return getInt64LE(segment, offset + UNFILLED_AMOUNT_OFFSET);
+  }
+
+  public boolean userClosed() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + USER_CLOSED_OFFSET) == 1;
+  }
+}
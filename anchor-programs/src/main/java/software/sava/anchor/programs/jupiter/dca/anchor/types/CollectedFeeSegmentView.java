@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class CollectedFeeSegmentView {
+
+  private static final int USER_KEY_OFFSET = 0;
+  private static final int DCA_KEY_OFFSET = USER_KEY_OFFSET + 32;
+  private static final int MINT_OFFSET = DCA_KEY_OFFSET + 32;
+  private static final int AMOUNT_OFFSET = MINT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CollectedFeeSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CollectedFeeSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CollectedFeeSegmentView(segment, offset);
+  }
+
+  public static CollectedFeeSegmentView wrap(final MemorySegment segment) {
+    return new CollectedFeeSegmentView(segment, 0);
+  }
+
+  public CollectedFeeSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CollectedFeeSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public CollectedFee read() {
+    return MemorySegmentUtil.read(segment, offset, CollectedFee.BYTES, CollectedFee::read);
+  }
+
+  public PublicKey userKey() {
+    return readPubKey(segment, offset + USER_KEY_OFFSET);
+  }
+
+  public PublicKey dcaKey() {
+    return readPubKey(segment, offset + DCA_KEY_OFFSET);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(segment, offset + MINT_OFFSET);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
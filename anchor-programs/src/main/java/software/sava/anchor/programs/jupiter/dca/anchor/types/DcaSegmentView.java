@@ -0,0 +1,135 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class DcaSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DcaSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DcaSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DcaSegmentView(segment, offset);
+  }
+
+  public static DcaSegmentView wrap(final MemorySegment segment) {
+    return new DcaSegmentView(segment, 0);
+  }
+
+  public DcaSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DcaSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Dca read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Dca.BYTES, Dca::read);
+  }
+
+  public PublicKey user() {
+    return readPubKey(segment, offset + Dca.USER_OFFSET);
+  }
+
+  public PublicKey inputMint() {
+    return readPubKey(segment, offset + Dca.INPUT_MINT_OFFSET);
+  }
+
+  public PublicKey outputMint() {
+    return readPubKey(segment, offset + Dca.OUTPUT_MINT_OFFSET);
+  }
+
+  public long idx() {
+    return getInt64LE(segment, offset + Dca.IDX_OFFSET);
+  }
+
+  public long nextCycleAt() {
+    return getInt64LE(segment, offset + Dca.NEXT_CYCLE_AT_OFFSET);
+  }
+
+  public long inDeposited() {
+    return getInt64LE(segment, offset + Dca.IN_DEPOSITED_OFFSET);
+  }
+
+  public long inWithdrawn() {
+    return getInt64LE(segment, offset + Dca.IN_WITHDRAWN_OFFSET);
+  }
+
+  public long outWithdrawn() {
+    return getInt64LE(segment, offset + Dca.OUT_WITHDRAWN_OFFSET);
+  }
+
+  public long inUsed() {
+    return getInt64LE(segment, offset + Dca.IN_USED_OFFSET);
+  }
+
+  public long outReceived() {
+    return getInt64LE(segment, offset + Dca.OUT_RECEIVED_OFFSET);
+  }
+
+  public long inAmountPerCycle() {
+    return getInt64LE(segment, offset + Dca.IN_AMOUNT_PER_CYCLE_OFFSET);
+  }
+
+  public long cycleFrequency() {
+    return getInt64LE(segment, offset + Dca.CYCLE_FREQUENCY_OFFSET);
+  }
+
+  public long nextCycleAmountLeft() {
+    return getInt64LE(segment, offset + Dca.NEXT_CYCLE_AMOUNT_LEFT_OFFSET);
+  }
+
+  public PublicKey inAccount() {
+    return readPubKey(segment, offset + Dca.IN_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey outAccount() {
+    return readPubKey(segment, offset + Dca.OUT_ACCOUNT_OFFSET);
+  }
+
+  public long minOutAmount() {
+    return getInt64LE(segment, offset + Dca.MIN_OUT_AMOUNT_OFFSET);
+  }
+
+  public long maxOutAmount() {
+    return getInt64LE(segment, offset + Dca.MAX_OUT_AMOUNT_OFFSET);
+  }
+
+  public long keeperInBalanceBeforeBorrow() {
+    return getInt64LE(segment, offset + Dca.KEEPER_IN_BALANCE_BEFORE_BORROW_OFFSET);
+  }
+
+  public long dcaOutBalanceBeforeSwap() {
+    return getInt64LE(segment, offset + Dca.DCA_OUT_BALANCE_BEFORE_SWAP_OFFSET);
+  }
+
+  public long createdAt() {
+    return getInt64LE(segment, offset + Dca.CREATED_AT_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Dca.BUMP_OFFSET) & 0xFF;
+  }
+}
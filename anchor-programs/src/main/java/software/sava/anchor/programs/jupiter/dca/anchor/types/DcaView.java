@@ -0,0 +1,131 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class DcaView {
+
+  private byte[] _data;
+  private int offset;
+
+  private DcaView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static DcaView wrap(final byte[] _data, final int offset) {
+    return new DcaView(_data, offset);
+  }
+
+  public static DcaView wrap(final byte[] _data) {
+    return new DcaView(_data, 0);
+  }
+
+  public DcaView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public DcaView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Dca read(final PublicKey _address) {
+    return Dca.read(_address, _data, offset);
+  }
+
+  public PublicKey user() {
+    return readPubKey(_data, offset + Dca.USER_OFFSET);
+  }
+
+  public PublicKey inputMint() {
+    return readPubKey(_data, offset + Dca.INPUT_MINT_OFFSET);
+  }
+
+  public PublicKey outputMint() {
+    return readPubKey(_data, offset + Dca.OUTPUT_MINT_OFFSET);
+  }
+
+  public long idx() {
+    return getInt64LE(_data, offset + Dca.IDX_OFFSET);
+  }
+
+  public long nextCycleAt() {
+    return getInt64LE(_data, offset + Dca.NEXT_CYCLE_AT_OFFSET);
+  }
+
+  public long inDeposited() {
+    return getInt64LE(_data, offset + Dca.IN_DEPOSITED_OFFSET);
+  }
+
+  public long inWithdrawn() {
+    return getInt64LE(_data, offset + Dca.IN_WITHDRAWN_OFFSET);
+  }
+
+  public long outWithdrawn() {
+    return getInt64LE(_data, offset + Dca.OUT_WITHDRAWN_OFFSET);
+  }
+
+  public long inUsed() {
+    return getInt64LE(_data, offset + Dca.IN_USED_OFFSET);
+  }
+
+  public long outReceived() {
+    return getInt64LE(_data, offset + Dca.OUT_RECEIVED_OFFSET);
+  }
+
+  public long inAmountPerCycle() {
+    return getInt64LE(_data, offset + Dca.IN_AMOUNT_PER_CYCLE_OFFSET);
+  }
+
+  public long cycleFrequency() {
+    return getInt64LE(_data, offset + Dca.CYCLE_FREQUENCY_OFFSET);
+  }
+
+  public long nextCycleAmountLeft() {
+    return getInt64LE(_data, offset + Dca.NEXT_CYCLE_AMOUNT_LEFT_OFFSET);
+  }
+
+  public PublicKey inAccount() {
+    return readPubKey(_data, offset + Dca.IN_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey outAccount() {
+    return readPubKey(_data, offset + Dca.OUT_ACCOUNT_OFFSET);
+  }
+
+  public long minOutAmount() {
+    return getInt64LE(_data, offset + Dca.MIN_OUT_AMOUNT_OFFSET);
+  }
+
+  public long maxOutAmount() {
+    return getInt64LE(_data, offset + Dca.MAX_OUT_AMOUNT_OFFSET);
+  }
+
+  public long keeperInBalanceBeforeBorrow() {
+    return getInt64LE(_data, offset + Dca.KEEPER_IN_BALANCE_BEFORE_BORROW_OFFSET);
+  }
+
+  public long dcaOutBalanceBeforeSwap() {
+    return getInt64LE(_data, offset + Dca.DCA_OUT_BALANCE_BEFORE_SWAP_OFFSET);
+  }
+
+  public long createdAt() {
+    return getInt64LE(_data, offset + Dca.CREATED_AT_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + Dca.BUMP_OFFSET] & 0xFF;
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class DepositSegmentView {
+
+  private static final int DCA_KEY_OFFSET = 0;
+  private static final int AMOUNT_OFFSET = DCA_KEY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DepositSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DepositSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DepositSegmentView(segment, offset);
+  }
+
+  public static DepositSegmentView wrap(final MemorySegment segment) {
+    return new DepositSegmentView(segment, 0);
+  }
+
+  public DepositSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DepositSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Deposit read() {
+    return MemorySegmentUtil.read(segment, offset, Deposit.BYTES, Deposit::read);
+  }
+
+  public PublicKey dcaKey() {
+    return readPubKey(segment, offset + DCA_KEY_OFFSET);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,92 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class FilledSegmentView {
+
+  private static final int USER_KEY_OFFSET = 0;
+  private static final int DCA_KEY_OFFSET = USER_KEY_OFFSET + 32;
+  private static final int INPUT_MINT_OFFSET = DCA_KEY_OFFSET + 32;
+  private static final int OUTPUT_MINT_OFFSET = INPUT_MINT_OFFSET + 32;
+  private static final int IN_AMOUNT_OFFSET = OUTPUT_MINT_OFFSET + 32;
+  private static final int OUT_AMOUNT_OFFSET = IN_AMOUNT_OFFSET + 8;
+  private static final int FEE_MINT_OFFSET = OUT_AMOUNT_OFFSET + 8;
+  private static final int FEE_OFFSET = FEE_MINT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FilledSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FilledSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FilledSegmentView(segment, offset);
+  }
+
+  public static FilledSegmentView wrap(final MemorySegment segment) {
+    return new FilledSegmentView(segment, 0);
+  }
+
+  public FilledSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FilledSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Filled read() {
+    return MemorySegmentUtil.read(segment, offset, Filled.BYTES, Filled::read);
+  }
+
+  public PublicKey userKey() {
+    return readPubKey(segment, offset + USER_KEY_OFFSET);
+  }
+
+  public PublicKey dcaKey() {
+    return readPubKey(segment, offset + DCA_KEY_OFFSET);
+  }
+
+  public PublicKey inputMint() {
+    return readPubKey(segment, offset + INPUT_MINT_OFFSET);
+  }
+
+  public PublicKey outputMint() {
+    return readPubKey(segment, offset + OUTPUT_MINT_OFFSET);
+  }
+
+  public long inAmount() {
+    return getInt64LE(segment, offset + IN_AMOUNT_OFFSET);
+  }
+
+  public long outAmount() {
+    return getInt64LE(segment, offset + OUT_AMOUNT_OFFSET);
+  }
+
+  public PublicKey feeMint() {
+    return readPubKey(segment, offset + FEE_MINT_OFFSET);
+  }
+
+  public long fee() {
+    return getInt64LE(segment, offset + FEE_OFFSET);
+  }
+}
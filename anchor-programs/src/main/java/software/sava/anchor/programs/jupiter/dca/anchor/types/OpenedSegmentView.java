@@ -0,0 +1,92 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class OpenedSegmentView {
+
+  private static final int USER_KEY_OFFSET = 0;
+  private static final int DCA_KEY_OFFSET = USER_KEY_OFFSET + 32;
+  private static final int IN_DEPOSITED_OFFSET = DCA_KEY_OFFSET + 32;
+  private static final int INPUT_MINT_OFFSET = IN_DEPOSITED_OFFSET + 8;
+  private static final int OUTPUT_MINT_OFFSET = INPUT_MINT_OFFSET + 32;
+  private static final int CYCLE_FREQUENCY_OFFSET = OUTPUT_MINT_OFFSET + 32;
+  private static final int IN_AMOUNT_PER_CYCLE_OFFSET = CYCLE_FREQUENCY_OFFSET + 8;
+  private static final int CREATED_AT_OFFSET = IN_AMOUNT_PER_CYCLE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private OpenedSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static OpenedSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new OpenedSegmentView(segment, offset);
+  }
+
+  public static OpenedSegmentView wrap(final MemorySegment segment) {
+    return new OpenedSegmentView(segment, 0);
+  }
+
+  public OpenedSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public OpenedSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Opened read() {
+    return MemorySegmentUtil.read(segment, offset, Opened.BYTES, Opened::read);
+  }
+
+  public PublicKey userKey() {
+    return readPubKey(segment, offset + USER_KEY_OFFSET);
+  }
+
+  public PublicKey dcaKey() {
+    return readPubKey(segment, offset + DCA_KEY_OFFSET);
+  }
+
+  public long inDeposited() {
+    return getInt64LE(segment, offset + IN_DEPOSITED_OFFSET);
+  }
+
+  public PublicKey inputMint() {
+    return readPubKey(segment, offset + INPUT_MINT_OFFSET);
+  }
+
+  public PublicKey outputMint() {
+    return readPubKey(segment, offset + OUTPUT_MINT_OFFSET);
+  }
+
+  public long cycleFrequency() {
+    return getInt64LE(segment, offset + CYCLE_FREQUENCY_OFFSET);
+  }
+
+  public long inAmountPerCycle() {
+    return getInt64LE(segment, offset + IN_AMOUNT_PER_CYCLE_OFFSET);
+  }
+
+  public long createdAt() {
+    return getInt64LE(segment, offset + CREATED_AT_OFFSET);
+  }
+}
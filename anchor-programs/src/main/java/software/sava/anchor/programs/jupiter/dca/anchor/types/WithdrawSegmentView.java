@@ -0,0 +1,73 @@
+package software.sava.anchor.programs.jupiter.dca.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class WithdrawSegmentView {
+
+  private static final int DCA_KEY_OFFSET = 0;
+  private static final int IN_AMOUNT_OFFSET = DCA_KEY_OFFSET + 32;
+  private static final int OUT_AMOUNT_OFFSET = IN_AMOUNT_OFFSET + 8;
+  private static final int USER_WITHDRAW_OFFSET = OUT_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawSegmentView(segment, offset);
+  }
+
+  public static WithdrawSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawSegmentView(segment, 0);
+  }
+
+  public WithdrawSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Withdraw read() {
+    return MemorySegmentUtil.read(segment, offset, Withdraw.BYTES, Withdraw::read);
+  }
+
+  public PublicKey dcaKey() {
+    return readPubKey(segment, offset + DCA_KEY_OFFSET);
+  }
+
+  public long inAmount() {
+    return getInt64LE(segment, offset + IN_AMOUNT_OFFSET);
+  }
+
+  public long outAmount() {
+    return getInt64LE(segment, offset + OUT_AMOUNT_OFFSET);
+  }
+
+  public boolean userWithdraw() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + USER_WITHDRAW_OFFSET) == 1;
+  }
+}
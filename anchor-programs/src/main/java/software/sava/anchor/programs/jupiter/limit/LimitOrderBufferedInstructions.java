@@ -0,0 +1,311 @@
+package software.sava.anchor.programs.jupiter.limit;
+
+import software.sava.anchor.programs._commons.InstructionBuffer;
+import software.sava.anchor.programs.jupiter.limit.anchor.LimitOrderProgram;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.accounts.meta.AccountMeta;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.tx.Instruction;
+
+import java.util.OptionalLong;
+
+import static java.util.Objects.requireNonNullElse;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+// InstructionBuffer overloads of the LimitOrderProgram builders, taking the same parameters after the buffer.
+// See InstructionBuffer for how long the built instructions stay valid.
+public final class LimitOrderBufferedInstructions {
+
+  public static Instruction initializeOrder(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedLimitOrderProgramMeta,
+                                            final PublicKey baseKey,
+                                            final PublicKey makerKey,
+                                            final PublicKey orderKey,
+                                            // CHECK
+                                            final PublicKey reserveKey,
+                                            final PublicKey makerInputAccountKey,
+                                            final PublicKey inputMintKey,
+                                            final PublicKey makerOutputAccountKey,
+                                            final PublicKey referralKey,
+                                            final PublicKey outputMintKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey rentKey,
+                                            final long makingAmount,
+                                            final long takingAmount,
+                                            final OptionalLong expiredAt) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(baseKey);
+    _buffer.writableSigner(makerKey);
+    _buffer.write(orderKey);
+    _buffer.write(reserveKey);
+    _buffer.write(makerInputAccountKey);
+    _buffer.read(inputMintKey);
+    _buffer.read(makerOutputAccountKey);
+    _buffer.read(requireNonNullElse(referralKey, invokedLimitOrderProgramMeta.publicKey()));
+    _buffer.read(outputMintKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(rentKey);
+
+    final int _len = 24
+        + (expiredAt == null || expiredAt.isEmpty() ? 1 : 9);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LimitOrderProgram.INITIALIZE_ORDER_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, makingAmount);
+    i += 8;
+    putInt64LE(_data, i, takingAmount);
+    i += 8;
+    Borsh.writeOptional(expiredAt, _data, i);
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction fillOrder(final InstructionBuffer _buffer,
+                                      final AccountMeta invokedLimitOrderProgramMeta,
+                                      final PublicKey orderKey,
+                                      final PublicKey reserveKey,
+                                      final PublicKey makerKey,
+                                      final PublicKey takerKey,
+                                      final PublicKey takerOutputAccountKey,
+                                      final PublicKey makerOutputAccountKey,
+                                      final PublicKey takerInputAccountKey,
+                                      final PublicKey feeAuthorityKey,
+                                      final PublicKey programFeeAccountKey,
+                                      final PublicKey referralKey,
+                                      final PublicKey tokenProgramKey,
+                                      final PublicKey systemProgramKey,
+                                      final long makingAmount,
+                                      final long maxTakingAmount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(orderKey);
+    _buffer.write(reserveKey);
+    _buffer.write(makerKey);
+    _buffer.readOnlySigner(takerKey);
+    _buffer.write(takerOutputAccountKey);
+    _buffer.write(makerOutputAccountKey);
+    _buffer.write(takerInputAccountKey);
+    _buffer.read(feeAuthorityKey);
+    _buffer.write(programFeeAccountKey);
+    _buffer.write(requireNonNullElse(referralKey, invokedLimitOrderProgramMeta.publicKey()));
+    _buffer.read(tokenProgramKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 24;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LimitOrderProgram.FILL_ORDER_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, makingAmount);
+    i += 8;
+    putInt64LE(_data, i, maxTakingAmount);
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction preFlashFillOrder(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedLimitOrderProgramMeta,
+                                              final PublicKey orderKey,
+                                              final PublicKey reserveKey,
+                                              final PublicKey takerKey,
+                                              final PublicKey takerOutputAccountKey,
+                                              final PublicKey inputMintKey,
+                                              final PublicKey inputMintTokenProgramKey,
+                                              final PublicKey instructionKey,
+                                              final PublicKey systemProgramKey,
+                                              final long makingAmount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(orderKey);
+    _buffer.write(reserveKey);
+    _buffer.readOnlySigner(takerKey);
+    _buffer.write(takerOutputAccountKey);
+    _buffer.read(inputMintKey);
+    _buffer.read(inputMintTokenProgramKey);
+    _buffer.read(instructionKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LimitOrderProgram.PRE_FLASH_FILL_ORDER_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, makingAmount);
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction flashFillOrder(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedLimitOrderProgramMeta,
+                                           final PublicKey orderKey,
+                                           final PublicKey reserveKey,
+                                           final PublicKey makerKey,
+                                           final PublicKey takerKey,
+                                           final PublicKey makerOutputAccountKey,
+                                           final PublicKey takerInputAccountKey,
+                                           final PublicKey feeAuthorityKey,
+                                           final PublicKey programFeeAccountKey,
+                                           final PublicKey referralKey,
+                                           final PublicKey inputMintKey,
+                                           final PublicKey inputMintTokenProgramKey,
+                                           final PublicKey outputMintKey,
+                                           final PublicKey outputMintTokenProgramKey,
+                                           final PublicKey systemProgramKey,
+                                           final long maxTakingAmount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(orderKey);
+    _buffer.write(reserveKey);
+    _buffer.write(makerKey);
+    _buffer.readOnlySigner(takerKey);
+    _buffer.write(makerOutputAccountKey);
+    _buffer.write(takerInputAccountKey);
+    _buffer.read(feeAuthorityKey);
+    _buffer.write(programFeeAccountKey);
+    _buffer.write(requireNonNullElse(referralKey, invokedLimitOrderProgramMeta.publicKey()));
+    _buffer.read(inputMintKey);
+    _buffer.read(inputMintTokenProgramKey);
+    _buffer.read(outputMintKey);
+    _buffer.read(outputMintTokenProgramKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LimitOrderProgram.FLASH_FILL_ORDER_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, maxTakingAmount);
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction cancelOrder(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedLimitOrderProgramMeta,
+                                        final PublicKey orderKey,
+                                        // CHECK
+                                        final PublicKey reserveKey,
+                                        final PublicKey makerKey,
+                                        // CHECK, it is not important if it is sol input mint
+                                        final PublicKey makerInputAccountKey,
+                                        final PublicKey systemProgramKey,
+                                        final PublicKey tokenProgramKey,
+                                        final PublicKey inputMintKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(orderKey);
+    _buffer.write(reserveKey);
+    _buffer.writableSigner(makerKey);
+    _buffer.write(makerInputAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(requireNonNullElse(inputMintKey, invokedLimitOrderProgramMeta.publicKey()));
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, LimitOrderProgram.CANCEL_ORDER_DISCRIMINATOR);
+  }
+
+  public static Instruction cancelExpiredOrder(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedLimitOrderProgramMeta,
+                                               final PublicKey orderKey,
+                                               // CHECK
+                                               final PublicKey reserveKey,
+                                               final PublicKey makerKey,
+                                               // CHECK, it is not important if it is sol input mint
+                                               final PublicKey makerInputAccountKey,
+                                               final PublicKey systemProgramKey,
+                                               final PublicKey tokenProgramKey,
+                                               final PublicKey inputMintKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(orderKey);
+    _buffer.write(reserveKey);
+    _buffer.write(makerKey);
+    _buffer.write(makerInputAccountKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(requireNonNullElse(inputMintKey, invokedLimitOrderProgramMeta.publicKey()));
+
+    return _buffer.createInstruction(
+        invokedLimitOrderProgramMeta, _keys, LimitOrderProgram.CANCEL_EXPIRED_ORDER_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction withdrawFee(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedLimitOrderProgramMeta,
+                                        final PublicKey adminKey,
+                                        // CHECK
+                                        final PublicKey feeAuthorityKey,
+                                        final PublicKey programFeeAccountKey,
+                                        final PublicKey adminTokenAcocuntKey,
+                                        final PublicKey tokenProgramKey,
+                                        final PublicKey mintKey,
+                                        final long amount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(adminKey);
+    _buffer.read(feeAuthorityKey);
+    _buffer.write(programFeeAccountKey);
+    _buffer.write(adminTokenAcocuntKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(mintKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LimitOrderProgram.WITHDRAW_FEE_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initFee(final InstructionBuffer _buffer,
+                                    final AccountMeta invokedLimitOrderProgramMeta,
+                                    final PublicKey keeperKey,
+                                    final PublicKey feeAuthorityKey,
+                                    final PublicKey systemProgramKey,
+                                    final long makerFee,
+                                    final long makerStableFee,
+                                    final long takerFee,
+                                    final long takerStableFee) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(keeperKey);
+    _buffer.write(feeAuthorityKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 40;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LimitOrderProgram.INIT_FEE_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, makerFee);
+    i += 8;
+    putInt64LE(_data, i, makerStableFee);
+    i += 8;
+    putInt64LE(_data, i, takerFee);
+    i += 8;
+    putInt64LE(_data, i, takerStableFee);
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction updateFee(final InstructionBuffer _buffer,
+                                      final AccountMeta invokedLimitOrderProgramMeta,
+                                      final PublicKey keeperKey,
+                                      final PublicKey feeAuthorityKey,
+                                      final long makerFee,
+                                      final long makerStableFee,
+                                      final long takerFee,
+                                      final long takerStableFee) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(keeperKey);
+    _buffer.write(feeAuthorityKey);
+
+    final int _len = 40;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LimitOrderProgram.UPDATE_FEE_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, makerFee);
+    i += 8;
+    putInt64LE(_data, i, makerStableFee);
+    i += 8;
+    putInt64LE(_data, i, takerFee);
+    i += 8;
+    putInt64LE(_data, i, takerStableFee);
+
+    return _buffer.createInstruction(invokedLimitOrderProgramMeta, _keys, _offset, _len);
+  }
+
+  private LimitOrderBufferedInstructions() {
+  }
+}
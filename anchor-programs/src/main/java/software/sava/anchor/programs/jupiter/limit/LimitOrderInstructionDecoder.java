@@ -0,0 +1,107 @@
+package software.sava.anchor.programs.jupiter.limit;
+
+import software.sava.anchor.programs.jupiter.limit.anchor.LimitOrderProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Jupiter limit order instruction data decoded into the LimitOrderProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class LimitOrderInstructionDecoder {
+
+  public record CancelExpiredOrderIxData(Discriminator discriminator) implements Borsh {
+
+    public static CancelExpiredOrderIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CancelExpiredOrderIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CancelExpiredOrderIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CancelOrderIxData(Discriminator discriminator) implements Borsh {
+
+    public static CancelOrderIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CancelOrderIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CancelOrderIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(LimitOrderProgram.CANCEL_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.FLASH_FILL_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.WITHDRAW_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.INITIALIZE_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.FILL_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.UPDATE_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.PRE_FLASH_FILL_ORDER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.INIT_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(LimitOrderProgram.CANCEL_EXPIRED_ORDER_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> CancelOrderIxData.read(_data, offset);
+      case 1 -> LimitOrderProgram.FlashFillOrderIxData.read(_data, offset);
+      case 2 -> LimitOrderProgram.WithdrawFeeIxData.read(_data, offset);
+      case 3 -> LimitOrderProgram.InitializeOrderIxData.read(_data, offset);
+      case 4 -> LimitOrderProgram.FillOrderIxData.read(_data, offset);
+      case 5 -> LimitOrderProgram.UpdateFeeIxData.read(_data, offset);
+      case 6 -> LimitOrderProgram.PreFlashFillOrderIxData.read(_data, offset);
+      case 7 -> LimitOrderProgram.InitFeeIxData.read(_data, offset);
+      case 8 -> CancelExpiredOrderIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private LimitOrderInstructionDecoder() {
+  }
+}
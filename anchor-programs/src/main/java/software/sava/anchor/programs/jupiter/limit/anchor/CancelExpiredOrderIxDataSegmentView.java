@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jupiter.limit.LimitOrderInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CancelExpiredOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LimitOrderProgram.CANCEL_EXPIRED_ORDER_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CancelExpiredOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CancelExpiredOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CancelExpiredOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static CancelExpiredOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CancelExpiredOrderIxDataSegmentView(segment, 0);
+  }
+
+  public CancelExpiredOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CancelExpiredOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LimitOrderInstructionDecoder.CancelExpiredOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LimitOrderInstructionDecoder.CancelExpiredOrderIxData.BYTES, LimitOrderInstructionDecoder.CancelExpiredOrderIxData::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.jupiter.limit.LimitOrderInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CancelOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LimitOrderProgram.CANCEL_ORDER_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CancelOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CancelOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CancelOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static CancelOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CancelOrderIxDataSegmentView(segment, 0);
+  }
+
+  public CancelOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CancelOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LimitOrderInstructionDecoder.CancelOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LimitOrderInstructionDecoder.CancelOrderIxData.BYTES, LimitOrderInstructionDecoder.CancelOrderIxData::read);
+  }
+}
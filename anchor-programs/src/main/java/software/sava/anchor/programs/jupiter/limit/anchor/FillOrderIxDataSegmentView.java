@@ -0,0 +1,67 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class FillOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LimitOrderProgram.FILL_ORDER_DISCRIMINATOR.data(), 0);
+
+  private static final int MAKING_AMOUNT_OFFSET = 8;
+  private static final int MAX_TAKING_AMOUNT_OFFSET = MAKING_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FillOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FillOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FillOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static FillOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new FillOrderIxDataSegmentView(segment, 0);
+  }
+
+  public FillOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FillOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LimitOrderProgram.FillOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LimitOrderProgram.FillOrderIxData.BYTES, LimitOrderProgram.FillOrderIxData::read);
+  }
+
+  public long makingAmount() {
+    return getInt64LE(segment, offset + MAKING_AMOUNT_OFFSET);
+  }
+
+  public long maxTakingAmount() {
+    return getInt64LE(segment, offset + MAX_TAKING_AMOUNT_OFFSET);
+  }
+}
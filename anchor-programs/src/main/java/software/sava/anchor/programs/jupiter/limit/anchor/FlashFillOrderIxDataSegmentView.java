@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class FlashFillOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LimitOrderProgram.FLASH_FILL_ORDER_DISCRIMINATOR.data(), 0);
+
+  private static final int MAX_TAKING_AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FlashFillOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FlashFillOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FlashFillOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static FlashFillOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new FlashFillOrderIxDataSegmentView(segment, 0);
+  }
+
+  public FlashFillOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FlashFillOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LimitOrderProgram.FlashFillOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LimitOrderProgram.FlashFillOrderIxData.BYTES, LimitOrderProgram.FlashFillOrderIxData::read);
+  }
+
+  public long maxTakingAmount() {
+    return getInt64LE(segment, offset + MAX_TAKING_AMOUNT_OFFSET);
+  }
+}
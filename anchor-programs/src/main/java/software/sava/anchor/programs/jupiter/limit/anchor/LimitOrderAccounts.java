@@ -0,0 +1,41 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import software.sava.anchor.programs.jupiter.limit.anchor.types.Fee;
+import software.sava.anchor.programs.jupiter.limit.anchor.types.Order;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class LimitOrderAccounts {
+
+  public static final Discriminator FEE_ACCOUNT_DISCRIMINATOR = toDiscriminator(24, 55, 150, 250, 168, 27, 101, 178);
+  public static final Discriminator ORDER_ACCOUNT_DISCRIMINATOR = toDiscriminator(134, 173, 223, 185, 77, 86, 28, 51);
+
+  public static final long FEE_DISCRIMINATOR = getInt64LE(FEE_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long ORDER_DISCRIMINATOR = getInt64LE(ORDER_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == FEE_DISCRIMINATOR) {
+      return Fee.read(_address, _data, 0);
+    } else if (discriminator == ORDER_DISCRIMINATOR) {
+      return Order.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private LimitOrderAccounts() {
+  }
+}
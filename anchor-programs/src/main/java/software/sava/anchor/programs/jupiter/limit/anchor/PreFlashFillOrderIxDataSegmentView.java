@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class PreFlashFillOrderIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LimitOrderProgram.PRE_FLASH_FILL_ORDER_DISCRIMINATOR.data(), 0);
+
+  private static final int MAKING_AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PreFlashFillOrderIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PreFlashFillOrderIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PreFlashFillOrderIxDataSegmentView(segment, offset);
+  }
+
+  public static PreFlashFillOrderIxDataSegmentView wrap(final MemorySegment segment) {
+    return new PreFlashFillOrderIxDataSegmentView(segment, 0);
+  }
+
+  public PreFlashFillOrderIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PreFlashFillOrderIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LimitOrderProgram.PreFlashFillOrderIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LimitOrderProgram.PreFlashFillOrderIxData.BYTES, LimitOrderProgram.PreFlashFillOrderIxData::read);
+  }
+
+  public long makingAmount() {
+    return getInt64LE(segment, offset + MAKING_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,77 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UpdateFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LimitOrderProgram.UPDATE_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int MAKER_FEE_OFFSET = 8;
+  private static final int MAKER_STABLE_FEE_OFFSET = MAKER_FEE_OFFSET + 8;
+  private static final int TAKER_FEE_OFFSET = MAKER_STABLE_FEE_OFFSET + 8;
+  private static final int TAKER_STABLE_FEE_OFFSET = TAKER_FEE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdateFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdateFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdateFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static UpdateFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UpdateFeeIxDataSegmentView(segment, 0);
+  }
+
+  public UpdateFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdateFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LimitOrderProgram.UpdateFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LimitOrderProgram.UpdateFeeIxData.BYTES, LimitOrderProgram.UpdateFeeIxData::read);
+  }
+
+  public long makerFee() {
+    return getInt64LE(segment, offset + MAKER_FEE_OFFSET);
+  }
+
+  public long makerStableFee() {
+    return getInt64LE(segment, offset + MAKER_STABLE_FEE_OFFSET);
+  }
+
+  public long takerFee() {
+    return getInt64LE(segment, offset + TAKER_FEE_OFFSET);
+  }
+
+  public long takerStableFee() {
+    return getInt64LE(segment, offset + TAKER_STABLE_FEE_OFFSET);
+  }
+}
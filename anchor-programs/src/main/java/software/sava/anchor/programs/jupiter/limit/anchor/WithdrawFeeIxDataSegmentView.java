@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.limit.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LimitOrderProgram.WITHDRAW_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawFeeIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LimitOrderProgram.WithdrawFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LimitOrderProgram.WithdrawFeeIxData.BYTES, LimitOrderProgram.WithdrawFeeIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,65 @@
+package software.sava.anchor.programs.jupiter.limit.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+public final class FeeSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FeeSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FeeSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FeeSegmentView(segment, offset);
+  }
+
+  public static FeeSegmentView wrap(final MemorySegment segment) {
+    return new FeeSegmentView(segment, 0);
+  }
+
+  public FeeSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FeeSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Fee read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Fee.BYTES, Fee::read);
+  }
+
+  public long makerFee() {
+    return getInt64LE(segment, offset + Fee.MAKER_FEE_OFFSET);
+  }
+
+  public long makerStableFee() {
+    return getInt64LE(segment, offset + Fee.MAKER_STABLE_FEE_OFFSET);
+  }
+
+  public long takerFee() {
+    return getInt64LE(segment, offset + Fee.TAKER_FEE_OFFSET);
+  }
+
+  public long takerStableFee() {
+    return getInt64LE(segment, offset + Fee.TAKER_STABLE_FEE_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.jupiter.limit.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class FeeView {
+
+  private byte[] _data;
+  private int offset;
+
+  private FeeView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static FeeView wrap(final byte[] _data, final int offset) {
+    return new FeeView(_data, offset);
+  }
+
+  public static FeeView wrap(final byte[] _data) {
+    return new FeeView(_data, 0);
+  }
+
+  public FeeView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public FeeView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Fee read(final PublicKey _address) {
+    return Fee.read(_address, _data, offset);
+  }
+
+  public long makerFee() {
+    return getInt64LE(_data, offset + Fee.MAKER_FEE_OFFSET);
+  }
+
+  public long makerStableFee() {
+    return getInt64LE(_data, offset + Fee.MAKER_STABLE_FEE_OFFSET);
+  }
+
+  public long takerFee() {
+    return getInt64LE(_data, offset + Fee.TAKER_FEE_OFFSET);
+  }
+
+  public long takerStableFee() {
+    return getInt64LE(_data, offset + Fee.TAKER_STABLE_FEE_OFFSET);
+  }
+}
@@ -0,0 +1,94 @@
+package software.sava.anchor.programs.jupiter.limit.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class OrderSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private OrderSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static OrderSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new OrderSegmentView(segment, offset);
+  }
+
+  public static OrderSegmentView wrap(final MemorySegment segment) {
+    return new OrderSegmentView(segment, 0);
+  }
+
+  public OrderSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public OrderSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public PublicKey maker() {
+    return readPubKey(segment, offset + Order.MAKER_OFFSET);
+  }
+
+  public PublicKey inputMint() {
+    return readPubKey(segment, offset + Order.INPUT_MINT_OFFSET);
+  }
+
+  public PublicKey outputMint() {
+    return readPubKey(segment, offset + Order.OUTPUT_MINT_OFFSET);
+  }
+
+  public boolean waiting() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Order.WAITING_OFFSET) == 1;
+  }
+
+  public long oriMakingAmount() {
+    return getInt64LE(segment, offset + Order.ORI_MAKING_AMOUNT_OFFSET);
+  }
+
+  public long oriTakingAmount() {
+    return getInt64LE(segment, offset + Order.ORI_TAKING_AMOUNT_OFFSET);
+  }
+
+  public long makingAmount() {
+    return getInt64LE(segment, offset + Order.MAKING_AMOUNT_OFFSET);
+  }
+
+  public long takingAmount() {
+    return getInt64LE(segment, offset + Order.TAKING_AMOUNT_OFFSET);
+  }
+
+  public PublicKey makerInputAccount() {
+    return readPubKey(segment, offset + Order.MAKER_INPUT_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey makerOutputAccount() {
+    return readPubKey(segment, offset + Order.MAKER_OUTPUT_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey reserve() {
+    return readPubKey(segment, offset + Order.RESERVE_OFFSET);
+  }
+
+  public long borrowMakingAmount() {
+    return getInt64LE(segment, offset + Order.BORROW_MAKING_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,95 @@
+package software.sava.anchor.programs.jupiter.limit.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class OrderView {
+
+  private byte[] _data;
+  private int offset;
+
+  private OrderView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static OrderView wrap(final byte[] _data, final int offset) {
+    return new OrderView(_data, offset);
+  }
+
+  public static OrderView wrap(final byte[] _data) {
+    return new OrderView(_data, 0);
+  }
+
+  public OrderView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public OrderView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Order read(final PublicKey _address) {
+    return Order.read(_address, _data, offset);
+  }
+
+  public PublicKey maker() {
+    return readPubKey(_data, offset + Order.MAKER_OFFSET);
+  }
+
+  public PublicKey inputMint() {
+    return readPubKey(_data, offset + Order.INPUT_MINT_OFFSET);
+  }
+
+  public PublicKey outputMint() {
+    return readPubKey(_data, offset + Order.OUTPUT_MINT_OFFSET);
+  }
+
+  public boolean waiting() {
+    return _data[offset + Order.WAITING_OFFSET] == 1;
+  }
+
+  public long oriMakingAmount() {
+    return getInt64LE(_data, offset + Order.ORI_MAKING_AMOUNT_OFFSET);
+  }
+
+  public long oriTakingAmount() {
+    return getInt64LE(_data, offset + Order.ORI_TAKING_AMOUNT_OFFSET);
+  }
+
+  public long makingAmount() {
+    return getInt64LE(_data, offset + Order.MAKING_AMOUNT_OFFSET);
+  }
+
+  public long takingAmount() {
+    return getInt64LE(_data, offset + Order.TAKING_AMOUNT_OFFSET);
+  }
+
+  public PublicKey makerInputAccount() {
+    return readPubKey(_data, offset + Order.MAKER_INPUT_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey makerOutputAccount() {
+    return readPubKey(_data, offset + Order.MAKER_OUTPUT_ACCOUNT_OFFSET);
+  }
+
+  public PublicKey reserve() {
+    return readPubKey(_data, offset + Order.RESERVE_OFFSET);
+  }
+
+  public long borrowMakingAmount() {
+    return getInt64LE(_data, offset + Order.BORROW_MAKING_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,82 @@
+package software.sava.anchor.programs.jupiter.limit.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class TradeEventSegmentView {
+
+  private static final int ORDER_KEY_OFFSET = 0;
+  private static final int TAKER_OFFSET = ORDER_KEY_OFFSET + 32;
+  private static final int REMAINING_IN_AMOUNT_OFFSET = TAKER_OFFSET + 32;
+  private static final int REMAINING_OUT_AMOUNT_OFFSET = REMAINING_IN_AMOUNT_OFFSET + 8;
+  private static final int IN_AMOUNT_OFFSET = REMAINING_OUT_AMOUNT_OFFSET + 8;
+  private static final int OUT_AMOUNT_OFFSET = IN_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TradeEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TradeEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TradeEventSegmentView(segment, offset);
+  }
+
+  public static TradeEventSegmentView wrap(final MemorySegment segment) {
+    return new TradeEventSegmentView(segment, 0);
+  }
+
+  public TradeEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TradeEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public TradeEvent read() {
+    return MemorySegmentUtil.read(segment, offset, TradeEvent.BYTES, TradeEvent::read);
+  }
+
+  public PublicKey orderKey() {
+    return readPubKey(segment, offset + ORDER_KEY_OFFSET);
+  }
+
+  public PublicKey taker() {
+    return readPubKey(segment, offset + TAKER_OFFSET);
+  }
+
+  public long remainingInAmount() {
+    return getInt64LE(segment, offset + REMAINING_IN_AMOUNT_OFFSET);
+  }
+
+  public long remainingOutAmount() {
+    return getInt64LE(segment, offset + REMAINING_OUT_AMOUNT_OFFSET);
+  }
+
+  public long inAmount() {
+    return getInt64LE(segment, offset + IN_AMOUNT_OFFSET);
+  }
+
+  public long outAmount() {
+    return getInt64LE(segment, offset + OUT_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,352 @@
+package software.sava.anchor.programs.loopscale;
+
+import software.sava.anchor.programs.loopscale.anchor.types.PodDecimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+// Unsigned 192-bit decimal scaled by 10^18, the primitive counterpart of PodDecimal.
+// The three little-endian u64 words are held as longs, arithmetic never goes through BigInteger.
+// Multiplication and division round down. Overflow, underflow and division by zero throw an ArithmeticException.
+public record Decimal(long hi, long mid, long lo) implements Comparable<Decimal> {
+
+  public static final int BYTES = 24;
+  public static final int SCALE = 18;
+  public static final long WAD = 1_000_000_000_000_000_000L;
+
+  public static final Decimal ZERO = new Decimal(0, 0, 0);
+  public static final Decimal ONE = new Decimal(0, 0, WAD);
+
+  private static final long HALF_WAD_DIVISOR = 1_000_000_000L;
+
+  public static Decimal read(final byte[] _data, final int offset) {
+    return new Decimal(getInt64LE(_data, offset + 16), getInt64LE(_data, offset + 8), getInt64LE(_data, offset));
+  }
+
+  public static Decimal read(final PodDecimal podDecimal) {
+    return read(podDecimal._array(), 0);
+  }
+
+  public static Decimal fromLong(final long val) {
+    if (val < 0) {
+      throw new ArithmeticException("Decimal is unsigned");
+    }
+    return new Decimal(0, Math.unsignedMultiplyHigh(val, WAD), val * WAD);
+  }
+
+  public static Decimal fromDouble(final double val) {
+    if (!Double.isFinite(val) || val < 0) {
+      throw new ArithmeticException("Cannot convert " + val + " to Decimal");
+    }
+    final double scaled = val * 1e18;
+    if (scaled >= 0x1p192) {
+      throw new ArithmeticException("Cannot convert " + val + " to Decimal");
+    }
+    final double high = Math.floor(scaled * 0x1p-128);
+    double rem = scaled - (high * 0x1p128);
+    final double middle = Math.floor(rem * 0x1p-64);
+    rem -= middle * 0x1p64;
+    return new Decimal(doubleToUnsigned(high), doubleToUnsigned(middle), doubleToUnsigned(rem));
+  }
+
+  private static long doubleToUnsigned(final double val) {
+    return val >= 0x1p63 ? ((long) (val - 0x1p63)) ^ Long.MIN_VALUE : (long) val;
+  }
+
+  public int write(final byte[] _data, final int offset) {
+    putInt64LE(_data, offset, lo);
+    putInt64LE(_data, offset + 8, mid);
+    putInt64LE(_data, offset + 16, hi);
+    return BYTES;
+  }
+
+  public PodDecimal toPodDecimal() {
+    final byte[] array = new byte[BYTES];
+    write(array, 0);
+    return new PodDecimal(array);
+  }
+
+  public boolean isZero() {
+    return (hi | mid | lo) == 0;
+  }
+
+  public Decimal add(final Decimal o) {
+    final long sumLo = lo + o.lo;
+    final long c0 = Long.compareUnsigned(sumLo, lo) < 0 ? 1 : 0;
+    long sumMid = mid + o.mid;
+    long c1 = Long.compareUnsigned(sumMid, mid) < 0 ? 1 : 0;
+    sumMid += c0;
+    c1 += Long.compareUnsigned(sumMid, c0) < 0 ? 1 : 0;
+    long sumHi = hi + o.hi;
+    boolean overflow = Long.compareUnsigned(sumHi, hi) < 0;
+    sumHi += c1;
+    overflow |= Long.compareUnsigned(sumHi, c1) < 0;
+    if (overflow) {
+      throw new ArithmeticException("Decimal addition overflow");
+    }
+    return new Decimal(sumHi, sumMid, sumLo);
+  }
+
+  public Decimal sub(final Decimal o) {
+    if (compareTo(o) < 0) {
+      throw new ArithmeticException("Decimal subtraction underflow");
+    }
+    final long diffLo = lo - o.lo;
+    final long b0 = Long.compareUnsigned(lo, o.lo) < 0 ? 1 : 0;
+    final long diffMid = mid - o.mid - b0;
+    final long b1 = Long.compareUnsigned(mid, o.mid) < 0 || (mid == o.mid && b0 == 1) ? 1 : 0;
+    return new Decimal(hi - o.hi - b1, diffMid, diffLo);
+  }
+
+  // this * o / 10^18
+  public Decimal mul(final Decimal o) {
+    final long a0 = lo, a1 = mid, a2 = hi;
+    final long b0 = o.lo, b1 = o.mid, b2 = o.hi;
+
+    // The scaled result must fit in 192 bits, so the full product must fit in 256 bits.
+    if ((Math.unsignedMultiplyHigh(a2, b2) | (a2 * b2)) != 0
+        || (Math.unsignedMultiplyHigh(a1, b2) | Math.unsignedMultiplyHigh(a2, b1)) != 0) {
+      throw new ArithmeticException("Decimal multiplication overflow");
+    }
+
+    final long r0 = a0 * b0;
+    long r1 = Math.unsignedMultiplyHigh(a0, b0);
+    long r2, r3, carry;
+
+    long t = a0 * b1;
+    r1 += t;
+    carry = Long.compareUnsigned(r1, t) < 0 ? 1 : 0;
+    t = a1 * b0;
+    r1 += t;
+    carry += Long.compareUnsigned(r1, t) < 0 ? 1 : 0;
+
+    r2 = carry;
+    carry = 0;
+    t = Math.unsignedMultiplyHigh(a0, b1);
+    r2 += t;
+    carry += Long.compareUnsigned(r2, t) < 0 ? 1 : 0;
+    t = Math.unsignedMultiplyHigh(a1, b0);
+    r2 += t;
+    carry += Long.compareUnsigned(r2, t) < 0 ? 1 : 0;
+    t = a0 * b2;
+    r2 += t;
+    carry += Long.compareUnsigned(r2, t) < 0 ? 1 : 0;
+    t = a1 * b1;
+    r2 += t;
+    carry += Long.compareUnsigned(r2, t) < 0 ? 1 : 0;
+    t = a2 * b0;
+    r2 += t;
+    carry += Long.compareUnsigned(r2, t) < 0 ? 1 : 0;
+
+    boolean overflow = false;
+    r3 = carry;
+    t = Math.unsignedMultiplyHigh(a0, b2);
+    r3 += t;
+    overflow |= Long.compareUnsigned(r3, t) < 0;
+    t = Math.unsignedMultiplyHigh(a1, b1);
+    r3 += t;
+    overflow |= Long.compareUnsigned(r3, t) < 0;
+    t = Math.unsignedMultiplyHigh(a2, b0);
+    r3 += t;
+    overflow |= Long.compareUnsigned(r3, t) < 0;
+    t = a1 * b2;
+    r3 += t;
+    overflow |= Long.compareUnsigned(r3, t) < 0;
+    t = a2 * b1;
+    r3 += t;
+    overflow |= Long.compareUnsigned(r3, t) < 0;
+    if (overflow) {
+      throw new ArithmeticException("Decimal multiplication overflow");
+    }
+
+    // Divide the 256-bit product by 10^18 as two passes of 10^9.
+    long q3 = divWord(0, r3);
+    long rem = r3 - (q3 * HALF_WAD_DIVISOR);
+    long q2 = divWord(rem, r2);
+    rem = r2 - (q2 * HALF_WAD_DIVISOR);
+    long q1 = divWord(rem, r1);
+    rem = r1 - (q1 * HALF_WAD_DIVISOR);
+    long q0 = divWord(rem, r0);
+
+    final long s3 = divWord(0, q3);
+    rem = q3 - (s3 * HALF_WAD_DIVISOR);
+    final long s2 = divWord(rem, q2);
+    rem = q2 - (s2 * HALF_WAD_DIVISOR);
+    final long s1 = divWord(rem, q1);
+    rem = q1 - (s1 * HALF_WAD_DIVISOR);
+    final long s0 = divWord(rem, q0);
+    if (s3 != 0) {
+      throw new ArithmeticException("Decimal multiplication overflow");
+    }
+    return new Decimal(s2, s1, s0);
+  }
+
+  // Divides (rem * 2^64 + word) by 10^9, rem must be less than 10^9.
+  private static long divWord(final long rem, final long word) {
+    final long upper = (rem << 32) | (word >>> 32);
+    final long qUpper = upper / HALF_WAD_DIVISOR;
+    final long lower = ((upper - (qUpper * HALF_WAD_DIVISOR)) << 32) | (word & 0xFFFF_FFFFL);
+    return (qUpper << 32) | (lower / HALF_WAD_DIVISOR);
+  }
+
+  // this * 10^18 / o
+  public Decimal div(final Decimal o) {
+    if (o.isZero()) {
+      throw new ArithmeticException("Decimal division by zero");
+    }
+    // 256-bit numerator this * 10^18.
+    final long n0 = lo * WAD;
+    long n1 = Math.unsignedMultiplyHigh(lo, WAD);
+    long t = mid * WAD;
+    n1 += t;
+    long carry = Long.compareUnsigned(n1, t) < 0 ? 1 : 0;
+    long n2 = Math.unsignedMultiplyHigh(mid, WAD) + carry;
+    t = hi * WAD;
+    n2 += t;
+    carry = Long.compareUnsigned(n2, t) < 0 ? 1 : 0;
+    final long n3 = Math.unsignedMultiplyHigh(hi, WAD) + carry;
+
+    final int numBits = n3 != 0 ? 256 - Long.numberOfLeadingZeros(n3)
+        : n2 != 0 ? 192 - Long.numberOfLeadingZeros(n2)
+        : n1 != 0 ? 128 - Long.numberOfLeadingZeros(n1)
+        : 64 - Long.numberOfLeadingZeros(n0);
+
+    final long d0 = o.lo, d1 = o.mid, d2 = o.hi;
+    long q0 = 0, q1 = 0, q2 = 0;
+    long r0 = 0, r1 = 0, r2 = 0;
+    for (int i = numBits - 1; i >= 0; --i) {
+      final boolean carryOut = r2 < 0;
+      r2 = (r2 << 1) | (r1 >>> 63);
+      r1 = (r1 << 1) | (r0 >>> 63);
+      final long bit = i >= 192 ? n3 >>> (i - 192) : i >= 128 ? n2 >>> (i - 128) : i >= 64 ? n1 >>> (i - 64) : n0 >>> i;
+      r0 = (r0 << 1) | (bit & 1);
+      if (q2 < 0) {
+        throw new ArithmeticException("Decimal division overflow");
+      }
+      q2 = (q2 << 1) | (q1 >>> 63);
+      q1 = (q1 << 1) | (q0 >>> 63);
+      q0 <<= 1;
+      if (carryOut || compare(r2, r1, r0, d2, d1, d0) >= 0) {
+        final long b0 = Long.compareUnsigned(r0, d0) < 0 ? 1 : 0;
+        r0 -= d0;
+        final long b1 = Long.compareUnsigned(r1, d1) < 0 || (r1 == d1 && b0 == 1) ? 1 : 0;
+        r1 = r1 - d1 - b0;
+        r2 = r2 - d2 - b1;
+        q0 |= 1;
+      }
+    }
+    return new Decimal(q2, q1, q0);
+  }
+
+  // this * val, without rescaling
+  public Decimal mul(final long val) {
+    if (val < 0) {
+      throw new ArithmeticException("Decimal is unsigned");
+    }
+    final long r0 = lo * val;
+    long r1 = Math.unsignedMultiplyHigh(lo, val);
+    long t = mid * val;
+    r1 += t;
+    long carry = Long.compareUnsigned(r1, t) < 0 ? 1 : 0;
+    long r2 = Math.unsignedMultiplyHigh(mid, val) + carry;
+    t = hi * val;
+    r2 += t;
+    if (Long.compareUnsigned(r2, t) < 0 || Math.unsignedMultiplyHigh(hi, val) != 0) {
+      throw new ArithmeticException("Decimal multiplication overflow");
+    }
+    return new Decimal(r2, r1, r0);
+  }
+
+  // this / val, without rescaling
+  public Decimal div(final long val) {
+    if (val <= 0) {
+      throw new ArithmeticException(val == 0 ? "Decimal division by zero" : "Decimal is unsigned");
+    }
+    final long qHi = Long.divideUnsigned(hi, val);
+    long rem = Long.remainderUnsigned(hi, val);
+    final long qMid = divWord(rem, mid, val);
+    rem = mid - (qMid * val);
+    final long qLo = divWord(rem, lo, val);
+    return new Decimal(qHi, qMid, qLo);
+  }
+
+  // Divides (rem * 2^64 + word) by divisor with restoring binary long division, rem must be less than divisor.
+  private static long divWord(long rem, final long word, final long divisor) {
+    long q = 0;
+    for (int i = 63; i >= 0; --i) {
+      final boolean carryOut = rem < 0;
+      rem = (rem << 1) | ((word >>> i) & 1);
+      q <<= 1;
+      if (carryOut || Long.compareUnsigned(rem, divisor) >= 0) {
+        rem -= divisor;
+        q |= 1;
+      }
+    }
+    return q;
+  }
+
+  private static int compare(final long aHi, final long aMid, final long aLo,
+                             final long bHi, final long bMid, final long bLo) {
+    int cmp = Long.compareUnsigned(aHi, bHi);
+    if (cmp != 0) {
+      return cmp;
+    }
+    cmp = Long.compareUnsigned(aMid, bMid);
+    return cmp != 0 ? cmp : Long.compareUnsigned(aLo, bLo);
+  }
+
+  public Decimal min(final Decimal o) {
+    return compareTo(o) <= 0 ? this : o;
+  }
+
+  public Decimal max(final Decimal o) {
+    return compareTo(o) >= 0 ? this : o;
+  }
+
+  @Override
+  public int compareTo(final Decimal o) {
+    return compare(hi, mid, lo, o.hi, o.mid, o.lo);
+  }
+
+  // Rounds down.
+  public long toLong() {
+    final long q2 = divWord(0, hi);
+    long rem = hi - (q2 * HALF_WAD_DIVISOR);
+    final long q1 = divWord(rem, mid);
+    rem = mid - (q1 * HALF_WAD_DIVISOR);
+    final long q0 = divWord(rem, lo);
+
+    final long s2 = divWord(0, q2);
+    rem = q2 - (s2 * HALF_WAD_DIVISOR);
+    final long s1 = divWord(rem, q1);
+    rem = q1 - (s1 * HALF_WAD_DIVISOR);
+    final long s0 = divWord(rem, q0);
+    if ((s2 | s1) != 0 || s0 < 0) {
+      throw new ArithmeticException("Decimal does not fit in a long");
+    }
+    return s0;
+  }
+
+  public double toDouble() {
+    return ((unsignedToDouble(hi) * 0x1p128) + (unsignedToDouble(mid) * 0x1p64) + unsignedToDouble(lo)) / 1e18;
+  }
+
+  private static double unsignedToDouble(final long val) {
+    return val >= 0 ? (double) val : ((double) ((val >>> 1) | (val & 1))) * 2.0;
+  }
+
+  public BigDecimal toBigDecimal() {
+    final var bits = new BigInteger(Long.toUnsignedString(hi)).shiftLeft(128)
+        .or(new BigInteger(Long.toUnsignedString(mid)).shiftLeft(64))
+        .or(new BigInteger(Long.toUnsignedString(lo)));
+    return new BigDecimal(bits, SCALE);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,58 @@
+package software.sava.anchor.programs.loopscale;
+
+import software.sava.core.accounts.PublicKey;
+
+// Off-chain health of a single Loan ledger, values are in the common quote currency of the supplied prices.
+// collateralValue is the collateral allocated to the ledger by the loan's weight matrix, ltvValue and lqtValue are the
+// same collateral discounted by the ltv and liquidation threshold matrices.
+public record LedgerHealth(PublicKey loan,
+                           int ledgerIndex,
+                           long debt,
+                           Decimal debtValue,
+                           Decimal collateralValue,
+                           Decimal ltvValue,
+                           Decimal lqtValue,
+                           boolean expired,
+                           int flags) {
+
+  // The ledger or one of its collateral entries references a MarketInformation unknown to the evaluator.
+  public static final int MISSING_MARKET = 1;
+  // The principal or a collateral asset has no AssetData entry in the market, it is excluded.
+  public static final int MISSING_ASSET = 1 << 1;
+  // The principal or a collateral asset has no price, it is excluded.
+  public static final int MISSING_PRICE = 1 << 2;
+  // Overflow while accruing or valuing the debt or valuing a collateral entry, it is excluded. A debt which overflowed
+  // while accruing is reported as Long.MAX_VALUE.
+  public static final int OVERFLOW = 1 << 3;
+
+  private static final int INCOMPLETE = MISSING_MARKET | MISSING_ASSET | MISSING_PRICE | OVERFLOW;
+
+  public boolean isComplete() {
+    return (flags & INCOMPLETE) == 0;
+  }
+
+  public boolean hasFlag(final int flag) {
+    return (flags & flag) == flag;
+  }
+
+  // Debt value over allocated collateral value in cbps, Long.MAX_VALUE if there is debt but no collateral.
+  public long ltvCbps() {
+    if (collateralValue.isZero()) {
+      return debtValue.isZero() ? 0 : Long.MAX_VALUE;
+    }
+    try {
+      return debtValue.mul(LoopscaleRiskEngine.CBPS).div(collateralValue).toLong();
+    } catch (final ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  // Whether the ledger could take on more principal.
+  public boolean isHealthy() {
+    return debtValue.compareTo(ltvValue) <= 0;
+  }
+
+  public boolean isLiquidatable() {
+    return isComplete() && (expired || debtValue.compareTo(lqtValue) > 0);
+  }
+}
@@ -0,0 +1,1709 @@
+package software.sava.anchor.programs.loopscale;
+
+import software.sava.anchor.programs._commons.InstructionBuffer;
+import software.sava.anchor.programs.loopscale.anchor.LoopscaleProgram;
+import software.sava.anchor.programs.loopscale.anchor.types.BorrowPrincipalParams;
+import software.sava.anchor.programs.loopscale.anchor.types.ClaimVaultFeeParams;
+import software.sava.anchor.programs.loopscale.anchor.types.CollateralAllocationParam;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateLoanParams;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateMarketInformationParams;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateRewardsScheduleParams;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateStrategyParams;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateVaultParams;
+import software.sava.anchor.programs.loopscale.anchor.types.DepositCollateralParams;
+import software.sava.anchor.programs.loopscale.anchor.types.LiquidateLedgerParams;
+import software.sava.anchor.programs.loopscale.anchor.types.LoanUnlockParams;
+import software.sava.anchor.programs.loopscale.anchor.types.LockLoanParams;
+import software.sava.anchor.programs.loopscale.anchor.types.LpParams;
+import software.sava.anchor.programs.loopscale.anchor.types.ManageLiquidityParams;
+import software.sava.anchor.programs.loopscale.anchor.types.ManageRaydiumLiquidityParams;
+import software.sava.anchor.programs.loopscale.anchor.types.MultiCollateralTermsUpdateParams;
+import software.sava.anchor.programs.loopscale.anchor.types.RefinanceLedgerParams;
+import software.sava.anchor.programs.loopscale.anchor.types.RepayPrincipalParams;
+import software.sava.anchor.programs.loopscale.anchor.types.SellLedgerParams;
+import software.sava.anchor.programs.loopscale.anchor.types.TimelockUpdateParams;
+import software.sava.anchor.programs.loopscale.anchor.types.TransferPositionParams;
+import software.sava.anchor.programs.loopscale.anchor.types.UpdateAssetDataParams;
+import software.sava.anchor.programs.loopscale.anchor.types.UpdateCapsParams;
+import software.sava.anchor.programs.loopscale.anchor.types.UpdateRewardsScheduleParams;
+import software.sava.anchor.programs.loopscale.anchor.types.UpdateStrategyParams;
+import software.sava.anchor.programs.loopscale.anchor.types.UpdateVaultParams;
+import software.sava.anchor.programs.loopscale.anchor.types.UpdateWeightMatrixParams;
+import software.sava.anchor.programs.loopscale.anchor.types.VaultStakeParams;
+import software.sava.anchor.programs.loopscale.anchor.types.VaultUnstakeParams;
+import software.sava.anchor.programs.loopscale.anchor.types.WithdrawCollateralParams;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.accounts.meta.AccountMeta;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.tx.Instruction;
+
+import static java.util.Objects.requireNonNullElse;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+// InstructionBuffer overloads of the LoopscaleProgram builders, taking the same parameters after the buffer.
+// See InstructionBuffer for how long the built instructions stay valid.
+public final class LoopscaleBufferedInstructions {
+
+  public static Instruction borrowPrincipal(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedLoopscaleProgramMeta,
+                                            final PublicKey bsAuthKey,
+                                            final PublicKey payerKey,
+                                            final PublicKey borrowerKey,
+                                            final PublicKey loanKey,
+                                            final PublicKey strategyKey,
+                                            final PublicKey marketInformationKey,
+                                            final PublicKey principalMintKey,
+                                            final PublicKey borrowerTaKey,
+                                            final PublicKey strategyTaKey,
+                                            final PublicKey associatedTokenProgramKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey,
+                                            final BorrowPrincipalParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.write(strategyKey);
+    _buffer.write(marketInformationKey);
+    _buffer.read(principalMintKey);
+    _buffer.write(borrowerTaKey);
+    _buffer.write(strategyTaKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.BORROW_PRINCIPAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction cancelTimelock(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedLoopscaleProgramMeta,
+                                           final PublicKey bsAuthKey,
+                                           final PublicKey payerKey,
+                                           final PublicKey managerKey,
+                                           final PublicKey vaultKey,
+                                           final PublicKey timelockKey,
+                                           final PublicKey systemProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(managerKey);
+    _buffer.write(vaultKey);
+    _buffer.write(timelockKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    return _buffer.createInstruction(
+        invokedLoopscaleProgramMeta, _keys, LoopscaleProgram.CANCEL_TIMELOCK_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction claimVaultFee(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedLoopscaleProgramMeta,
+                                          final PublicKey bsAuthKey,
+                                          final PublicKey payerKey,
+                                          final PublicKey managerKey,
+                                          final PublicKey vaultKey,
+                                          final PublicKey strategyKey,
+                                          final PublicKey principalMintKey,
+                                          final PublicKey marketInformationKey,
+                                          final PublicKey managerPrincipalTaKey,
+                                          final PublicKey strategyPrincipalTaKey,
+                                          final PublicKey tokenProgramKey,
+                                          final PublicKey associatedTokenProgramKey,
+                                          final PublicKey systemProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey,
+                                          final ClaimVaultFeeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(managerKey);
+    _buffer.write(vaultKey);
+    _buffer.write(strategyKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(marketInformationKey);
+    _buffer.write(managerPrincipalTaKey);
+    _buffer.write(strategyPrincipalTaKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CLAIM_VAULT_FEE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction claimVaultRewards(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedLoopscaleProgramMeta,
+                                              final PublicKey bsAuthKey,
+                                              final PublicKey payerKey,
+                                              final PublicKey userKey,
+                                              final PublicKey vaultKey,
+                                              final PublicKey vaultRewardsInfoKey,
+                                              final PublicKey userRewardsInfoKey,
+                                              final PublicKey stakeAccountKey,
+                                              final PublicKey associatedTokenProgramKey,
+                                              final PublicKey systemProgramKey,
+                                              final PublicKey eventAuthorityKey,
+                                              final PublicKey programKey,
+                                              final PublicKey[] mints) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.read(userKey);
+    _buffer.read(vaultKey);
+    _buffer.write(vaultRewardsInfoKey);
+    _buffer.write(userRewardsInfoKey);
+    _buffer.write(stakeAccountKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.lenVector(mints);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CLAIM_VAULT_REWARDS_DISCRIMINATOR.write(_data, _offset);
+    Borsh.writeVector(mints, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction closeLoan(final InstructionBuffer _buffer,
+                                      final AccountMeta invokedLoopscaleProgramMeta,
+                                      final PublicKey bsAuthKey,
+                                      final PublicKey payerKey,
+                                      final PublicKey borrowerKey,
+                                      final PublicKey loanKey,
+                                      final PublicKey systemProgramKey,
+                                      final PublicKey eventAuthorityKey,
+                                      final PublicKey programKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, LoopscaleProgram.CLOSE_LOAN_DISCRIMINATOR);
+  }
+
+  public static Instruction closeStrategy(final InstructionBuffer _buffer,
+                                          final AccountMeta invokedLoopscaleProgramMeta,
+                                          final PublicKey bsAuthKey,
+                                          final PublicKey payerKey,
+                                          final PublicKey lenderKey,
+                                          final PublicKey strategyKey,
+                                          final PublicKey principalMintKey,
+                                          final PublicKey tokenProgramKey,
+                                          final PublicKey associatedTokenProgramKey,
+                                          final PublicKey systemProgramKey,
+                                          final PublicKey eventAuthorityKey,
+                                          final PublicKey programKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(lenderKey);
+    _buffer.write(strategyKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, LoopscaleProgram.CLOSE_STRATEGY_DISCRIMINATOR);
+  }
+
+  public static Instruction createLoan(final InstructionBuffer _buffer,
+                                       final AccountMeta invokedLoopscaleProgramMeta,
+                                       final PublicKey bsAuthKey,
+                                       final PublicKey payerKey,
+                                       final PublicKey borrowerKey,
+                                       final PublicKey loanKey,
+                                       final PublicKey systemProgramKey,
+                                       final PublicKey eventAuthorityKey,
+                                       final PublicKey programKey,
+                                       final CreateLoanParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CREATE_LOAN_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction createMarketInformation(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedLoopscaleProgramMeta,
+                                                    final PublicKey bsAuthKey,
+                                                    final PublicKey marketInformationKey,
+                                                    final PublicKey systemProgramKey,
+                                                    final CreateMarketInformationParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.write(marketInformationKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CREATE_MARKET_INFORMATION_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction createRewardsSchedule(final InstructionBuffer _buffer,
+                                                  final AccountMeta invokedLoopscaleProgramMeta,
+                                                  final PublicKey bsAuthKey,
+                                                  final PublicKey payerKey,
+                                                  final PublicKey managerKey,
+                                                  final PublicKey rewardsSourceKey,
+                                                  final PublicKey vaultKey,
+                                                  final PublicKey vaultRewardsInfoKey,
+                                                  final PublicKey vaultRewardsMintKey,
+                                                  final PublicKey vaultRewardsTaKey,
+                                                  final PublicKey rewardsSourceTaKey,
+                                                  final PublicKey tokenProgramKey,
+                                                  final PublicKey associatedTokenProgramKey,
+                                                  final PublicKey systemProgramKey,
+                                                  final PublicKey eventAuthorityKey,
+                                                  final PublicKey programKey,
+                                                  final CreateRewardsScheduleParams params,
+                                                  final long amountToTransfer) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(managerKey);
+    _buffer.readOnlySigner(rewardsSourceKey);
+    _buffer.write(vaultKey);
+    _buffer.write(vaultRewardsInfoKey);
+    _buffer.read(vaultRewardsMintKey);
+    _buffer.write(vaultRewardsTaKey);
+    _buffer.write(rewardsSourceTaKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 16 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CREATE_REWARDS_SCHEDULE_DISCRIMINATOR.write(_data, _offset);
+    i += Borsh.write(params, _data, i);
+    putInt64LE(_data, i, amountToTransfer);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction createStrategy(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedLoopscaleProgramMeta,
+                                           final PublicKey bsAuthKey,
+                                           final PublicKey payerKey,
+                                           final PublicKey nonceKey,
+                                           final PublicKey strategyKey,
+                                           final PublicKey marketInformationKey,
+                                           final PublicKey principalMintKey,
+                                           final PublicKey systemProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final CreateStrategyParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(nonceKey);
+    _buffer.write(strategyKey);
+    _buffer.read(marketInformationKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CREATE_STRATEGY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction createTimelock(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedLoopscaleProgramMeta,
+                                           final PublicKey bsAuthKey,
+                                           final PublicKey payerKey,
+                                           final PublicKey managerKey,
+                                           final PublicKey vaultKey,
+                                           final PublicKey timelockKey,
+                                           final PublicKey vaultMarketInformationKey,
+                                           final PublicKey externalMarketInformationKey,
+                                           final PublicKey systemProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final TimelockUpdateParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(managerKey);
+    _buffer.write(vaultKey);
+    _buffer.writableSigner(timelockKey);
+    _buffer.write(vaultMarketInformationKey);
+    _buffer.read(externalMarketInformationKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CREATE_TIMELOCK_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction createVault(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedLoopscaleProgramMeta,
+                                        final PublicKey bsAuthKey,
+                                        final PublicKey payerKey,
+                                        final PublicKey nonceKey,
+                                        final PublicKey principalMintKey,
+                                        final PublicKey lpMintKey,
+                                        final PublicKey vaultKey,
+                                        final PublicKey strategyKey,
+                                        final PublicKey marketInformationKey,
+                                        final PublicKey tokenProgramKey,
+                                        final PublicKey systemProgramKey,
+                                        final PublicKey eventAuthorityKey,
+                                        final PublicKey programKey,
+                                        final CreateVaultParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(nonceKey);
+    _buffer.read(principalMintKey);
+    _buffer.writableSigner(lpMintKey);
+    _buffer.write(vaultKey);
+    _buffer.write(strategyKey);
+    _buffer.write(marketInformationKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.CREATE_VAULT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction depositCollateral(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedLoopscaleProgramMeta,
+                                              final PublicKey bsAuthKey,
+                                              final PublicKey payerKey,
+                                              final PublicKey borrowerKey,
+                                              final PublicKey loanKey,
+                                              final PublicKey borrowerCollateralTaKey,
+                                              final PublicKey loanCollateralTaKey,
+                                              final PublicKey depositMintKey,
+                                              // CHECKs: checks in constraint
+                                              final PublicKey assetIdentifierKey,
+                                              final PublicKey systemProgramKey,
+                                              final PublicKey tokenProgramKey,
+                                              final PublicKey associatedTokenProgramKey,
+                                              final PublicKey eventAuthorityKey,
+                                              final PublicKey programKey,
+                                              final DepositCollateralParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.writableSigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.write(borrowerCollateralTaKey);
+    _buffer.write(loanCollateralTaKey);
+    _buffer.read(depositMintKey);
+    _buffer.read(assetIdentifierKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.DEPOSIT_COLLATERAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction depositStrategy(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedLoopscaleProgramMeta,
+                                            final PublicKey bsAuthKey,
+                                            final PublicKey payerKey,
+                                            final PublicKey lenderKey,
+                                            final PublicKey strategyKey,
+                                            final PublicKey principalMintKey,
+                                            final PublicKey marketInformationKey,
+                                            final PublicKey lenderTaKey,
+                                            final PublicKey strategyTaKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey associatedTokenProgramKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey,
+                                            final long amount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.writableSigner(lenderKey);
+    _buffer.write(strategyKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(marketInformationKey);
+    _buffer.write(lenderTaKey);
+    _buffer.write(strategyTaKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.DEPOSIT_STRATEGY_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction depositUserVault(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedLoopscaleProgramMeta,
+                                             final PublicKey bsAuthKey,
+                                             final PublicKey payerKey,
+                                             final PublicKey userKey,
+                                             final PublicKey vaultKey,
+                                             final PublicKey strategyKey,
+                                             final PublicKey marketInformationKey,
+                                             final PublicKey lpMintKey,
+                                             final PublicKey userLpTaKey,
+                                             final PublicKey userPrincipalTaKey,
+                                             final PublicKey strategyPrincipalTaKey,
+                                             final PublicKey principalMintKey,
+                                             final PublicKey principalTokenProgramKey,
+                                             final PublicKey token2022ProgramKey,
+                                             final PublicKey associatedTokenProgramKey,
+                                             final PublicKey systemProgramKey,
+                                             final PublicKey eventAuthorityKey,
+                                             final PublicKey programKey,
+                                             final LpParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.writableSigner(userKey);
+    _buffer.write(vaultKey);
+    _buffer.write(strategyKey);
+    _buffer.read(marketInformationKey);
+    _buffer.write(lpMintKey);
+    _buffer.write(userLpTaKey);
+    _buffer.write(userPrincipalTaKey);
+    _buffer.write(strategyPrincipalTaKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(principalTokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.DEPOSIT_USER_VAULT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction executeTimelock(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedLoopscaleProgramMeta,
+                                            final PublicKey bsAuthKey,
+                                            final PublicKey payerKey,
+                                            final PublicKey vaultKey,
+                                            final PublicKey timelockKey,
+                                            final PublicKey strategyKey,
+                                            final PublicKey marketInformationKey,
+                                            final PublicKey strategyTaKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey associatedTokenProgramKey,
+                                            final PublicKey principalMintKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.write(vaultKey);
+    _buffer.write(timelockKey);
+    _buffer.write(strategyKey);
+    _buffer.write(marketInformationKey);
+    _buffer.write(strategyTaKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    return _buffer.createInstruction(
+        invokedLoopscaleProgramMeta, _keys, LoopscaleProgram.EXECUTE_TIMELOCK_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction liquidateLedger(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedLoopscaleProgramMeta,
+                                            final PublicKey payerKey,
+                                            final PublicKey liquidatorKey,
+                                            final PublicKey borrowerKey,
+                                            final PublicKey loanKey,
+                                            final PublicKey strategyKey,
+                                            final PublicKey marketInformationKey,
+                                            final PublicKey liquidatorTaKey,
+                                            final PublicKey strategyTaKey,
+                                            final PublicKey principalMintKey,
+                                            final PublicKey associatedTokenProgramKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey token2022ProgramKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey,
+                                            final LiquidateLedgerParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(payerKey);
+    _buffer.writableSigner(liquidatorKey);
+    _buffer.write(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.write(strategyKey);
+    _buffer.write(marketInformationKey);
+    _buffer.write(liquidatorTaKey);
+    _buffer.write(strategyTaKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.LIQUIDATE_LEDGER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lockLoan(final InstructionBuffer _buffer,
+                                     final AccountMeta invokedLoopscaleProgramMeta,
+                                     final PublicKey bsAuthKey,
+                                     final PublicKey payerKey,
+                                     final PublicKey borrowerKey,
+                                     final PublicKey loanKey,
+                                     final PublicKey instructionsSysvarKey,
+                                     final PublicKey systemProgramKey,
+                                     final LockLoanParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.read(instructionsSysvarKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.LOCK_LOAN_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction manageCollateralClaimOrcaFee(final InstructionBuffer _buffer,
+                                                         final AccountMeta invokedLoopscaleProgramMeta,
+                                                         final PublicKey bsAuthKey,
+                                                         final PublicKey payerKey,
+                                                         final PublicKey borrowerKey,
+                                                         final PublicKey loanKey,
+                                                         final PublicKey whirlpoolKey,
+                                                         final PublicKey tokenVaultAKey,
+                                                         final PublicKey tokenVaultBKey,
+                                                         final PublicKey tickArrayLowerKey,
+                                                         final PublicKey tickArrayUpperKey,
+                                                         final PublicKey positionKey,
+                                                         final PublicKey positionTokenAccountKey,
+                                                         final PublicKey borrowerTaAKey,
+                                                         final PublicKey borrowerTaBKey,
+                                                         final PublicKey loanTaAKey,
+                                                         final PublicKey loanTaBKey,
+                                                         final PublicKey mintAKey,
+                                                         final PublicKey mintBKey,
+                                                         final PublicKey whirlpoolProgramKey,
+                                                         final PublicKey tokenProgramKey,
+                                                         final PublicKey token2022ProgramKey,
+                                                         final PublicKey associatedTokenProgramKey,
+                                                         final PublicKey systemProgramKey,
+                                                         final PublicKey memoProgramKey,
+                                                         final PublicKey eventAuthorityKey,
+                                                         final PublicKey programKey,
+                                                         final boolean closeTa) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.read(loanKey);
+    _buffer.write(whirlpoolKey);
+    _buffer.write(tokenVaultAKey);
+    _buffer.write(tokenVaultBKey);
+    _buffer.write(tickArrayLowerKey);
+    _buffer.write(tickArrayUpperKey);
+    _buffer.write(positionKey);
+    _buffer.write(positionTokenAccountKey);
+    _buffer.write(borrowerTaAKey);
+    _buffer.write(borrowerTaBKey);
+    _buffer.write(loanTaAKey);
+    _buffer.write(loanTaBKey);
+    _buffer.read(mintAKey);
+    _buffer.read(mintBKey);
+    _buffer.read(whirlpoolProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(memoProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 9;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MANAGE_COLLATERAL_CLAIM_ORCA_FEE_DISCRIMINATOR.write(_data, _offset);
+    _data[i] = (byte) (closeTa ? 1 : 0);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction manageCollateralDecreaseRaydiumLiquidity(final InstructionBuffer _buffer,
+                                                                     final AccountMeta invokedLoopscaleProgramMeta,
+                                                                     final PublicKey bsAuthKey,
+                                                                     final PublicKey payerKey,
+                                                                     final PublicKey borrowerKey,
+                                                                     final PublicKey loanKey,
+                                                                     final PublicKey poolKey,
+                                                                     final PublicKey protocolPositionKey,
+                                                                     final PublicKey positionKey,
+                                                                     final PublicKey positionTokenAccountKey,
+                                                                     final PublicKey tickArrayLowerKey,
+                                                                     final PublicKey tickArrayUpperKey,
+                                                                     final PublicKey tokenVault0Key,
+                                                                     final PublicKey tokenVault1Key,
+                                                                     final PublicKey borrowerTa0Key,
+                                                                     final PublicKey borrowerTa1Key,
+                                                                     final PublicKey loanTa0Key,
+                                                                     final PublicKey loanTa1Key,
+                                                                     final PublicKey mint0Key,
+                                                                     final PublicKey mint1Key,
+                                                                     final PublicKey raydiumProgramKey,
+                                                                     final PublicKey tokenProgramKey,
+                                                                     final PublicKey token2022ProgramKey,
+                                                                     final PublicKey associatedTokenProgramKey,
+                                                                     final PublicKey systemProgramKey,
+                                                                     final PublicKey memoProgramKey,
+                                                                     final PublicKey eventAuthorityKey,
+                                                                     final PublicKey programKey,
+                                                                     final ManageRaydiumLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.read(loanKey);
+    _buffer.write(poolKey);
+    _buffer.write(protocolPositionKey);
+    _buffer.write(positionKey);
+    _buffer.read(positionTokenAccountKey);
+    _buffer.write(tickArrayLowerKey);
+    _buffer.write(tickArrayUpperKey);
+    _buffer.write(tokenVault0Key);
+    _buffer.write(tokenVault1Key);
+    _buffer.write(borrowerTa0Key);
+    _buffer.write(borrowerTa1Key);
+    _buffer.write(loanTa0Key);
+    _buffer.write(loanTa1Key);
+    _buffer.read(mint0Key);
+    _buffer.read(mint1Key);
+    _buffer.read(raydiumProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(memoProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MANAGE_COLLATERAL_DECREASE_RAYDIUM_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction manageCollateralIncreaseOrcaLiquidity(final InstructionBuffer _buffer,
+                                                                  final AccountMeta invokedLoopscaleProgramMeta,
+                                                                  final PublicKey bsAuthKey,
+                                                                  final PublicKey payerKey,
+                                                                  final PublicKey borrowerKey,
+                                                                  final PublicKey loanKey,
+                                                                  final PublicKey whirlpoolKey,
+                                                                  final PublicKey positionKey,
+                                                                  final PublicKey positionTokenAccountKey,
+                                                                  final PublicKey tickArrayLowerKey,
+                                                                  final PublicKey tickArrayUpperKey,
+                                                                  final PublicKey tokenVaultAKey,
+                                                                  final PublicKey tokenVaultBKey,
+                                                                  final PublicKey borrowerTaAKey,
+                                                                  final PublicKey borrowerTaBKey,
+                                                                  final PublicKey loanTaAKey,
+                                                                  final PublicKey loanTaBKey,
+                                                                  final PublicKey mintAKey,
+                                                                  final PublicKey mintBKey,
+                                                                  final PublicKey whirlpoolProgramKey,
+                                                                  final PublicKey tokenProgramKey,
+                                                                  final PublicKey token2022ProgramKey,
+                                                                  final PublicKey associatedTokenProgramKey,
+                                                                  final PublicKey systemProgramKey,
+                                                                  final PublicKey memoProgramKey,
+                                                                  final PublicKey eventAuthorityKey,
+                                                                  final PublicKey programKey,
+                                                                  final ManageLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.read(loanKey);
+    _buffer.write(whirlpoolKey);
+    _buffer.write(positionKey);
+    _buffer.read(positionTokenAccountKey);
+    _buffer.write(tickArrayLowerKey);
+    _buffer.write(tickArrayUpperKey);
+    _buffer.write(tokenVaultAKey);
+    _buffer.write(tokenVaultBKey);
+    _buffer.write(borrowerTaAKey);
+    _buffer.write(borrowerTaBKey);
+    _buffer.write(loanTaAKey);
+    _buffer.write(loanTaBKey);
+    _buffer.read(mintAKey);
+    _buffer.read(mintBKey);
+    _buffer.read(whirlpoolProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(memoProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MANAGE_COLLATERAL_INCREASE_ORCA_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction manageCollateralIncreaseRaydiumLiquidity(final InstructionBuffer _buffer,
+                                                                     final AccountMeta invokedLoopscaleProgramMeta,
+                                                                     final PublicKey bsAuthKey,
+                                                                     final PublicKey payerKey,
+                                                                     final PublicKey borrowerKey,
+                                                                     final PublicKey loanKey,
+                                                                     final PublicKey poolKey,
+                                                                     final PublicKey protocolPositionKey,
+                                                                     final PublicKey positionKey,
+                                                                     final PublicKey positionTokenAccountKey,
+                                                                     final PublicKey tickArrayLowerKey,
+                                                                     final PublicKey tickArrayUpperKey,
+                                                                     final PublicKey tokenVault0Key,
+                                                                     final PublicKey tokenVault1Key,
+                                                                     final PublicKey borrowerTa0Key,
+                                                                     final PublicKey borrowerTa1Key,
+                                                                     final PublicKey loanTa0Key,
+                                                                     final PublicKey loanTa1Key,
+                                                                     final PublicKey mint0Key,
+                                                                     final PublicKey mint1Key,
+                                                                     final PublicKey raydiumProgramKey,
+                                                                     final PublicKey tokenProgramKey,
+                                                                     final PublicKey token2022ProgramKey,
+                                                                     final PublicKey associatedTokenProgramKey,
+                                                                     final PublicKey systemProgramKey,
+                                                                     final PublicKey memoProgramKey,
+                                                                     final PublicKey eventAuthorityKey,
+                                                                     final PublicKey programKey,
+                                                                     final ManageRaydiumLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.read(loanKey);
+    _buffer.write(poolKey);
+    _buffer.write(protocolPositionKey);
+    _buffer.write(positionKey);
+    _buffer.read(positionTokenAccountKey);
+    _buffer.write(tickArrayLowerKey);
+    _buffer.write(tickArrayUpperKey);
+    _buffer.write(tokenVault0Key);
+    _buffer.write(tokenVault1Key);
+    _buffer.write(borrowerTa0Key);
+    _buffer.write(borrowerTa1Key);
+    _buffer.write(loanTa0Key);
+    _buffer.write(loanTa1Key);
+    _buffer.read(mint0Key);
+    _buffer.read(mint1Key);
+    _buffer.read(raydiumProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(memoProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MANAGE_COLLATERAL_INCREASE_RAYDIUM_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction manageCollateralTransferOrcaPosition(final InstructionBuffer _buffer,
+                                                                 final AccountMeta invokedLoopscaleProgramMeta,
+                                                                 final PublicKey bsAuthKey,
+                                                                 final PublicKey payerKey,
+                                                                 final PublicKey borrowerKey,
+                                                                 final PublicKey loanKey,
+                                                                 final PublicKey whirlpoolKey,
+                                                                 final PublicKey positionKey,
+                                                                 final PublicKey positionTokenAccountKey,
+                                                                 final PublicKey positionMintKey,
+                                                                 final PublicKey tickArrayLowerKey,
+                                                                 final PublicKey tickArrayUpperKey,
+                                                                 final PublicKey newTickArrayLowerKey,
+                                                                 final PublicKey newTickArrayUpperKey,
+                                                                 final PublicKey tokenVaultAKey,
+                                                                 final PublicKey tokenVaultBKey,
+                                                                 final PublicKey borrowerTaAKey,
+                                                                 final PublicKey borrowerTaBKey,
+                                                                 final PublicKey loanTaAKey,
+                                                                 final PublicKey loanTaBKey,
+                                                                 final PublicKey newPositionKey,
+                                                                 final PublicKey newPositionMintKey,
+                                                                 final PublicKey newPositionTokenAccountKey,
+                                                                 final PublicKey mintAKey,
+                                                                 final PublicKey mintBKey,
+                                                                 final PublicKey metadataUpdateAuthKey,
+                                                                 final PublicKey whirlpoolProgramKey,
+                                                                 final PublicKey tokenProgramKey,
+                                                                 final PublicKey token2022ProgramKey,
+                                                                 final PublicKey associatedTokenProgramKey,
+                                                                 final PublicKey systemProgramKey,
+                                                                 final PublicKey memoProgramKey,
+                                                                 final PublicKey eventAuthorityKey,
+                                                                 final PublicKey programKey,
+                                                                 final TransferPositionParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.write(whirlpoolKey);
+    _buffer.write(positionKey);
+    _buffer.write(positionTokenAccountKey);
+    _buffer.write(positionMintKey);
+    _buffer.write(tickArrayLowerKey);
+    _buffer.write(tickArrayUpperKey);
+    _buffer.write(newTickArrayLowerKey);
+    _buffer.write(newTickArrayUpperKey);
+    _buffer.write(tokenVaultAKey);
+    _buffer.write(tokenVaultBKey);
+    _buffer.write(borrowerTaAKey);
+    _buffer.write(borrowerTaBKey);
+    _buffer.write(loanTaAKey);
+    _buffer.write(loanTaBKey);
+    _buffer.write(newPositionKey);
+    _buffer.writableSigner(newPositionMintKey);
+    _buffer.write(newPositionTokenAccountKey);
+    _buffer.read(mintAKey);
+    _buffer.read(mintBKey);
+    _buffer.read(metadataUpdateAuthKey);
+    _buffer.read(whirlpoolProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(memoProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MANAGE_COLLATERAL_TRANSFER_ORCA_POSITION_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction manageCollateralTransferRaydiumPosition(final InstructionBuffer _buffer,
+                                                                    final AccountMeta invokedLoopscaleProgramMeta,
+                                                                    final PublicKey bsAuthKey,
+                                                                    final PublicKey payerKey,
+                                                                    final PublicKey borrowerKey,
+                                                                    final PublicKey loanKey,
+                                                                    final PublicKey poolKey,
+                                                                    final PublicKey protocolPositionOldKey,
+                                                                    final PublicKey protocolPositionNewKey,
+                                                                    final PublicKey positionKey,
+                                                                    final PublicKey positionTokenAccountKey,
+                                                                    final PublicKey positionMintKey,
+                                                                    final PublicKey tickArrayLowerKey,
+                                                                    final PublicKey tickArrayUpperKey,
+                                                                    final PublicKey newTickArrayLowerKey,
+                                                                    final PublicKey newTickArrayUpperKey,
+                                                                    final PublicKey tokenVault0Key,
+                                                                    final PublicKey tokenVault1Key,
+                                                                    final PublicKey borrowerTa0Key,
+                                                                    final PublicKey borrowerTa1Key,
+                                                                    final PublicKey loanTa0Key,
+                                                                    final PublicKey loanTa1Key,
+                                                                    final PublicKey newPositionKey,
+                                                                    final PublicKey newPositionMintKey,
+                                                                    final PublicKey newPositionTokenAccountKey,
+                                                                    final PublicKey mint0Key,
+                                                                    final PublicKey mint1Key,
+                                                                    final PublicKey raydiumProgramKey,
+                                                                    final PublicKey tokenProgramKey,
+                                                                    final PublicKey token2022ProgramKey,
+                                                                    final PublicKey associatedTokenProgramKey,
+                                                                    final PublicKey systemProgramKey,
+                                                                    final PublicKey rentKey,
+                                                                    final PublicKey memoProgramKey,
+                                                                    final TransferPositionParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.write(poolKey);
+    _buffer.write(protocolPositionOldKey);
+    _buffer.write(protocolPositionNewKey);
+    _buffer.write(positionKey);
+    _buffer.write(positionTokenAccountKey);
+    _buffer.write(positionMintKey);
+    _buffer.write(tickArrayLowerKey);
+    _buffer.write(tickArrayUpperKey);
+    _buffer.write(newTickArrayLowerKey);
+    _buffer.write(newTickArrayUpperKey);
+    _buffer.write(tokenVault0Key);
+    _buffer.write(tokenVault1Key);
+    _buffer.write(borrowerTa0Key);
+    _buffer.write(borrowerTa1Key);
+    _buffer.write(loanTa0Key);
+    _buffer.write(loanTa1Key);
+    _buffer.write(newPositionKey);
+    _buffer.writableSigner(newPositionMintKey);
+    _buffer.write(newPositionTokenAccountKey);
+    _buffer.read(mint0Key);
+    _buffer.read(mint1Key);
+    _buffer.read(raydiumProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(rentKey);
+    _buffer.read(memoProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MANAGE_COLLATERAL_TRANSFER_RAYDIUM_POSITION_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction manageCollateralWithdrawOrcaLiquidity(final InstructionBuffer _buffer,
+                                                                  final AccountMeta invokedLoopscaleProgramMeta,
+                                                                  final PublicKey bsAuthKey,
+                                                                  final PublicKey payerKey,
+                                                                  final PublicKey borrowerKey,
+                                                                  final PublicKey loanKey,
+                                                                  final PublicKey whirlpoolKey,
+                                                                  final PublicKey positionKey,
+                                                                  final PublicKey positionTokenAccountKey,
+                                                                  final PublicKey tickArrayLowerKey,
+                                                                  final PublicKey tickArrayUpperKey,
+                                                                  final PublicKey tokenVaultAKey,
+                                                                  final PublicKey tokenVaultBKey,
+                                                                  final PublicKey borrowerTaAKey,
+                                                                  final PublicKey borrowerTaBKey,
+                                                                  final PublicKey loanTaAKey,
+                                                                  final PublicKey loanTaBKey,
+                                                                  final PublicKey mintAKey,
+                                                                  final PublicKey mintBKey,
+                                                                  final PublicKey whirlpoolProgramKey,
+                                                                  final PublicKey tokenProgramKey,
+                                                                  final PublicKey token2022ProgramKey,
+                                                                  final PublicKey associatedTokenProgramKey,
+                                                                  final PublicKey systemProgramKey,
+                                                                  final PublicKey memoProgramKey,
+                                                                  final PublicKey eventAuthorityKey,
+                                                                  final PublicKey programKey,
+                                                                  final ManageLiquidityParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.read(loanKey);
+    _buffer.write(whirlpoolKey);
+    _buffer.write(positionKey);
+    _buffer.read(positionTokenAccountKey);
+    _buffer.write(tickArrayLowerKey);
+    _buffer.write(tickArrayUpperKey);
+    _buffer.write(tokenVaultAKey);
+    _buffer.write(tokenVaultBKey);
+    _buffer.write(borrowerTaAKey);
+    _buffer.write(borrowerTaBKey);
+    _buffer.write(loanTaAKey);
+    _buffer.write(loanTaBKey);
+    _buffer.read(mintAKey);
+    _buffer.read(mintBKey);
+    _buffer.read(whirlpoolProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(memoProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MANAGE_COLLATERAL_WITHDRAW_ORCA_LIQUIDITY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction migrateMarketInfoAllocation(final InstructionBuffer _buffer,
+                                                        final AccountMeta invokedLoopscaleProgramMeta,
+                                                        final PublicKey bsAuthKey,
+                                                        final PublicKey marketInfoKey,
+                                                        final PublicKey eventAuthorityKey,
+                                                        final PublicKey programKey,
+                                                        final CollateralAllocationParam[] allocations) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(bsAuthKey);
+    _buffer.write(marketInfoKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.lenVector(allocations);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.MIGRATE_MARKET_INFO_ALLOCATION_DISCRIMINATOR.write(_data, _offset);
+    Borsh.writeVector(allocations, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction refinanceLedger(final InstructionBuffer _buffer,
+                                            final AccountMeta invokedLoopscaleProgramMeta,
+                                            final PublicKey bsAuthKey,
+                                            final PublicKey payerKey,
+                                            final PublicKey loanKey,
+                                            final PublicKey oldStrategyKey,
+                                            final PublicKey newStrategyKey,
+                                            final PublicKey oldStrategyTaKey,
+                                            final PublicKey newStrategyTaKey,
+                                            final PublicKey oldStrategyMarketInformationKey,
+                                            final PublicKey newStrategyMarketInformationKey,
+                                            final PublicKey principalMintKey,
+                                            final PublicKey tokenProgramKey,
+                                            final PublicKey associatedTokenProgramKey,
+                                            final PublicKey systemProgramKey,
+                                            final PublicKey eventAuthorityKey,
+                                            final PublicKey programKey,
+                                            final RefinanceLedgerParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.write(loanKey);
+    _buffer.write(oldStrategyKey);
+    _buffer.write(newStrategyKey);
+    _buffer.write(oldStrategyTaKey);
+    _buffer.write(newStrategyTaKey);
+    _buffer.write(oldStrategyMarketInformationKey);
+    _buffer.write(newStrategyMarketInformationKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.REFINANCE_LEDGER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction repayPrincipal(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedLoopscaleProgramMeta,
+                                           final PublicKey bsAuthKey,
+                                           final PublicKey payerKey,
+                                           final PublicKey borrowerKey,
+                                           final PublicKey loanKey,
+                                           final PublicKey strategyKey,
+                                           final PublicKey marketInformationKey,
+                                           final PublicKey principalMintKey,
+                                           final PublicKey borrowerTaKey,
+                                           final PublicKey strategyTaKey,
+                                           final PublicKey associatedTokenProgramKey,
+                                           final PublicKey tokenProgramKey,
+                                           final PublicKey systemProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final RepayPrincipalParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.write(strategyKey);
+    _buffer.write(marketInformationKey);
+    _buffer.read(principalMintKey);
+    _buffer.write(borrowerTaKey);
+    _buffer.write(strategyTaKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.REPAY_PRINCIPAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction sellLedger(final InstructionBuffer _buffer,
+                                       final AccountMeta invokedLoopscaleProgramMeta,
+                                       final PublicKey bsAuthKey,
+                                       final PublicKey payerKey,
+                                       final PublicKey lenderAuthKey,
+                                       final PublicKey loanKey,
+                                       final PublicKey newStrategyTaKey,
+                                       final PublicKey lenderAuthTaKey,
+                                       final PublicKey oldStrategyKey,
+                                       final PublicKey newStrategyKey,
+                                       final PublicKey oldStrategyMarketInformationKey,
+                                       final PublicKey newStrategyMarketInformationKey,
+                                       final PublicKey principalMintKey,
+                                       final PublicKey tokenProgramKey,
+                                       final PublicKey associatedTokenProgramKey,
+                                       final PublicKey systemProgramKey,
+                                       final PublicKey vaultKey,
+                                       final PublicKey oldStrategyTaKey,
+                                       final PublicKey eventAuthorityKey,
+                                       final PublicKey programKey,
+                                       final SellLedgerParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(lenderAuthKey);
+    _buffer.write(loanKey);
+    _buffer.write(newStrategyTaKey);
+    _buffer.write(lenderAuthTaKey);
+    _buffer.write(oldStrategyKey);
+    _buffer.write(newStrategyKey);
+    _buffer.write(oldStrategyMarketInformationKey);
+    _buffer.write(newStrategyMarketInformationKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.write(requireNonNullElse(vaultKey, invokedLoopscaleProgramMeta.publicKey()));
+    _buffer.write(requireNonNullElse(oldStrategyTaKey, invokedLoopscaleProgramMeta.publicKey()));
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.SELL_LEDGER_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction stakeUserVaultLp(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedLoopscaleProgramMeta,
+                                             final PublicKey bsAuthKey,
+                                             final PublicKey payerKey,
+                                             final PublicKey userKey,
+                                             final PublicKey nonceKey,
+                                             final PublicKey vaultKey,
+                                             final PublicKey vaultStakeKey,
+                                             final PublicKey lpMintKey,
+                                             final PublicKey userLpTaKey,
+                                             final PublicKey vaultStakeLpTaKey,
+                                             final PublicKey vaultRewardsInfoKey,
+                                             final PublicKey userRewardsInfoKey,
+                                             final PublicKey tokenProgramKey,
+                                             final PublicKey associatedTokenProgramKey,
+                                             final PublicKey systemProgramKey,
+                                             final PublicKey eventAuthorityKey,
+                                             final PublicKey programKey,
+                                             final VaultStakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(userKey);
+    _buffer.readOnlySigner(nonceKey);
+    _buffer.write(vaultKey);
+    _buffer.write(vaultStakeKey);
+    _buffer.read(lpMintKey);
+    _buffer.write(userLpTaKey);
+    _buffer.write(vaultStakeLpTaKey);
+    _buffer.write(vaultRewardsInfoKey);
+    _buffer.write(userRewardsInfoKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.STAKE_USER_VAULT_LP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction unlockLoan(final InstructionBuffer _buffer,
+                                       final AccountMeta invokedLoopscaleProgramMeta,
+                                       final PublicKey borrowerKey,
+                                       final PublicKey loanKey,
+                                       final PublicKey payerKey,
+                                       final PublicKey bsAuthKey,
+                                       final PublicKey systemProgramKey,
+                                       final LoanUnlockParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.UNLOCK_LOAN_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction unstakeUserVaultLp(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedLoopscaleProgramMeta,
+                                               final PublicKey bsAuthKey,
+                                               final PublicKey payerKey,
+                                               final PublicKey userKey,
+                                               final PublicKey vaultKey,
+                                               final PublicKey lpMintKey,
+                                               final PublicKey vaultStakeKey,
+                                               final PublicKey userLpTaKey,
+                                               final PublicKey vaultStakeLpTaKey,
+                                               final PublicKey vaultRewardsInfoKey,
+                                               final PublicKey userRewardsInfoKey,
+                                               final PublicKey tokenProgramKey,
+                                               final PublicKey associatedTokenProgramKey,
+                                               final PublicKey systemProgramKey,
+                                               final PublicKey eventAuthorityKey,
+                                               final PublicKey programKey,
+                                               final VaultUnstakeParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(userKey);
+    _buffer.write(vaultKey);
+    _buffer.write(lpMintKey);
+    _buffer.write(vaultStakeKey);
+    _buffer.write(userLpTaKey);
+    _buffer.write(vaultStakeLpTaKey);
+    _buffer.write(vaultRewardsInfoKey);
+    _buffer.write(userRewardsInfoKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.UNSTAKE_USER_VAULT_LP_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction updateMarketInformation(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedLoopscaleProgramMeta,
+                                                    final PublicKey authorityKey,
+                                                    final PublicKey marketInformationKey,
+                                                    final UpdateAssetDataParams[] assetUpdateParams,
+                                                    final UpdateCapsParams updateCapParams) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(marketInformationKey);
+
+    final int _len = 8
+        + (assetUpdateParams == null || assetUpdateParams.length == 0 ? 1 : (1 + Borsh.lenVector(assetUpdateParams)))
+        + (updateCapParams == null ? 1 : (1 + Borsh.len(updateCapParams)));
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.UPDATE_MARKET_INFORMATION_DISCRIMINATOR.write(_data, _offset);
+    if (assetUpdateParams == null || assetUpdateParams.length == 0) {
+      _data[i++] = 0;
+    } else {
+      _data[i++] = 1;
+      i += Borsh.writeVector(assetUpdateParams, _data, i);
+    }
+    Borsh.writeOptional(updateCapParams, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction updateRewardsSchedule(final InstructionBuffer _buffer,
+                                                  final AccountMeta invokedLoopscaleProgramMeta,
+                                                  final PublicKey bsAuthKey,
+                                                  final PublicKey payerKey,
+                                                  final PublicKey managerKey,
+                                                  final PublicKey rewardsSourceKey,
+                                                  final PublicKey vaultKey,
+                                                  final PublicKey vaultRewardsInfoKey,
+                                                  final PublicKey vaultRewardsMintKey,
+                                                  final PublicKey vaultRewardsTaKey,
+                                                  final PublicKey rewardsSourceTaKey,
+                                                  final PublicKey tokenProgramKey,
+                                                  final PublicKey associatedTokenProgramKey,
+                                                  final PublicKey systemProgramKey,
+                                                  final PublicKey eventAuthorityKey,
+                                                  final PublicKey programKey,
+                                                  final UpdateRewardsScheduleParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(managerKey);
+    _buffer.readOnlySigner(rewardsSourceKey);
+    _buffer.write(vaultKey);
+    _buffer.write(vaultRewardsInfoKey);
+    _buffer.read(vaultRewardsMintKey);
+    _buffer.write(vaultRewardsTaKey);
+    _buffer.write(rewardsSourceTaKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.UPDATE_REWARDS_SCHEDULE_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction updateStrategy(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedLoopscaleProgramMeta,
+                                           final PublicKey bsAuthKey,
+                                           final PublicKey payerKey,
+                                           final PublicKey lenderKey,
+                                           final PublicKey strategyKey,
+                                           final PublicKey principalMintKey,
+                                           final PublicKey strategyTaKey,
+                                           final PublicKey systemProgramKey,
+                                           final PublicKey associatedTokenProgramKey,
+                                           final PublicKey tokenProgramKey,
+                                           final PublicKey eventAuthorityKey,
+                                           final PublicKey programKey,
+                                           final MultiCollateralTermsUpdateParams[] collateralTerms,
+                                           final UpdateStrategyParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(lenderKey);
+    _buffer.write(strategyKey);
+    _buffer.read(principalMintKey);
+    _buffer.write(strategyTaKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.lenVector(collateralTerms)
+        + (params == null ? 1 : (1 + Borsh.len(params)));
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.UPDATE_STRATEGY_DISCRIMINATOR.write(_data, _offset);
+    i += Borsh.writeVector(collateralTerms, _data, i);
+    Borsh.writeOptional(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction updateVault(final InstructionBuffer _buffer,
+                                        final AccountMeta invokedLoopscaleProgramMeta,
+                                        final PublicKey bsAuthKey,
+                                        final PublicKey managerKey,
+                                        final PublicKey payerKey,
+                                        final PublicKey vaultKey,
+                                        final PublicKey marketInformationKey,
+                                        final PublicKey vaultRewardsInfoKey,
+                                        final PublicKey systemProgramKey,
+                                        final UpdateVaultParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.readOnlySigner(managerKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.write(vaultKey);
+    _buffer.read(marketInformationKey);
+    _buffer.write(vaultRewardsInfoKey);
+    _buffer.read(systemProgramKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.UPDATE_VAULT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction updateWeightMatrix(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedLoopscaleProgramMeta,
+                                               final PublicKey bsAuthKey,
+                                               final PublicKey borrowerKey,
+                                               final PublicKey loanKey,
+                                               final UpdateWeightMatrixParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.UPDATE_WEIGHT_MATRIX_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawCollateral(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedLoopscaleProgramMeta,
+                                               final PublicKey bsAuthKey,
+                                               final PublicKey payerKey,
+                                               final PublicKey borrowerKey,
+                                               final PublicKey loanKey,
+                                               final PublicKey borrowerTaKey,
+                                               final PublicKey loanTaKey,
+                                               final PublicKey systemProgramKey,
+                                               final PublicKey assetMintKey,
+                                               final PublicKey tokenProgramKey,
+                                               final PublicKey associatedTokenProgramKey,
+                                               final PublicKey eventAuthorityKey,
+                                               final PublicKey programKey,
+                                               final WithdrawCollateralParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.readOnlySigner(borrowerKey);
+    _buffer.write(loanKey);
+    _buffer.write(borrowerTaKey);
+    _buffer.write(loanTaKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(assetMintKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.WITHDRAW_COLLATERAL_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawStrategy(final InstructionBuffer _buffer,
+                                             final AccountMeta invokedLoopscaleProgramMeta,
+                                             final PublicKey bsAuthKey,
+                                             final PublicKey payerKey,
+                                             final PublicKey lenderKey,
+                                             final PublicKey strategyKey,
+                                             final PublicKey principalMintKey,
+                                             final PublicKey marketInformationKey,
+                                             final PublicKey lenderTaKey,
+                                             final PublicKey strategyTaKey,
+                                             final PublicKey associatedTokenProgramKey,
+                                             final PublicKey tokenProgramKey,
+                                             final PublicKey systemProgramKey,
+                                             final PublicKey eventAuthorityKey,
+                                             final PublicKey programKey,
+                                             final long amount,
+                                             final boolean withdrawAll) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.writableSigner(lenderKey);
+    _buffer.write(strategyKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(marketInformationKey);
+    _buffer.write(lenderTaKey);
+    _buffer.write(strategyTaKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 17;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.WITHDRAW_STRATEGY_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+    i += 8;
+    _data[i] = (byte) (withdrawAll ? 1 : 0);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction withdrawUserVault(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedLoopscaleProgramMeta,
+                                              final PublicKey bsAuthKey,
+                                              final PublicKey payerKey,
+                                              final PublicKey userKey,
+                                              final PublicKey vaultKey,
+                                              final PublicKey strategyKey,
+                                              final PublicKey marketInformationKey,
+                                              final PublicKey lpMintKey,
+                                              final PublicKey userLpTaKey,
+                                              final PublicKey userPrincipalTaKey,
+                                              final PublicKey strategyPrincipalTaKey,
+                                              final PublicKey principalMintKey,
+                                              final PublicKey principalTokenProgramKey,
+                                              final PublicKey token2022ProgramKey,
+                                              final PublicKey associatedTokenProgramKey,
+                                              final PublicKey systemProgramKey,
+                                              final PublicKey eventAuthorityKey,
+                                              final PublicKey programKey,
+                                              final LpParams params) {
+    final int _keys = _buffer.keysMark();
+    _buffer.readOnlySigner(bsAuthKey);
+    _buffer.writableSigner(payerKey);
+    _buffer.writableSigner(userKey);
+    _buffer.write(vaultKey);
+    _buffer.write(strategyKey);
+    _buffer.read(marketInformationKey);
+    _buffer.write(lpMintKey);
+    _buffer.write(userLpTaKey);
+    _buffer.write(userPrincipalTaKey);
+    _buffer.write(strategyPrincipalTaKey);
+    _buffer.read(principalMintKey);
+    _buffer.read(principalTokenProgramKey);
+    _buffer.read(token2022ProgramKey);
+    _buffer.read(associatedTokenProgramKey);
+    _buffer.read(systemProgramKey);
+    _buffer.read(eventAuthorityKey);
+    _buffer.read(programKey);
+
+    final int _len = 8 + Borsh.len(params);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + LoopscaleProgram.WITHDRAW_USER_VAULT_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(params, _data, i);
+
+    return _buffer.createInstruction(invokedLoopscaleProgramMeta, _keys, _offset, _len);
+  }
+
+  private LoopscaleBufferedInstructions() {
+  }
+}
@@ -0,0 +1,26 @@
+package software.sava.anchor.programs.loopscale;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// Loopscale program addresses derived through ProgramAddressCache.
+// Only the anchor event authority is known without the program's IDL.
+public final class LoopscaleCachedPDAs {
+
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  private LoopscaleCachedPDAs() {
+  }
+}
@@ -0,0 +1,221 @@
+package software.sava.anchor.programs.loopscale;
+
+import software.sava.anchor.programs.loopscale.anchor.LoopscaleProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Loopscale instruction data decoded into the LoopscaleProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class LoopscaleInstructionDecoder {
+
+  public record CancelTimelockIxData(Discriminator discriminator) implements Borsh {
+
+    public static CancelTimelockIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CancelTimelockIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CancelTimelockIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseLoanIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseLoanIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseLoanIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseLoanIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseStrategyIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseStrategyIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseStrategyIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseStrategyIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record ExecuteTimelockIxData(Discriminator discriminator) implements Borsh {
+
+    public static ExecuteTimelockIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ExecuteTimelockIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ExecuteTimelockIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_INCREASE_ORCA_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.UPDATE_WEIGHT_MATRIX_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CREATE_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.STAKE_USER_VAULT_LP_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CREATE_LOAN_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.REPAY_PRINCIPAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.WITHDRAW_COLLATERAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.UPDATE_MARKET_INFORMATION_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CREATE_REWARDS_SCHEDULE_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.WITHDRAW_STRATEGY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CLOSE_STRATEGY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_DECREASE_RAYDIUM_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_TRANSFER_RAYDIUM_POSITION_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.EXECUTE_TIMELOCK_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CREATE_STRATEGY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.UPDATE_REWARDS_SCHEDULE_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_CLAIM_ORCA_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_TRANSFER_ORCA_POSITION_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CANCEL_TIMELOCK_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CLAIM_VAULT_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.LIQUIDATE_LEDGER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.DEPOSIT_STRATEGY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CREATE_MARKET_INFORMATION_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.MIGRATE_MARKET_INFO_ALLOCATION_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.SELL_LEDGER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_INCREASE_RAYDIUM_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.UPDATE_STRATEGY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.LOCK_LOAN_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.UNLOCK_LOAN_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.WITHDRAW_USER_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.BORROW_PRINCIPAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.UPDATE_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.REFINANCE_LEDGER_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CREATE_TIMELOCK_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_WITHDRAW_ORCA_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.UNSTAKE_USER_VAULT_LP_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CLAIM_VAULT_REWARDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.DEPOSIT_COLLATERAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.DEPOSIT_USER_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(LoopscaleProgram.CLOSE_LOAN_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> LoopscaleProgram.ManageCollateralIncreaseOrcaLiquidityIxData.read(_data, offset);
+      case 1 -> LoopscaleProgram.UpdateWeightMatrixIxData.read(_data, offset);
+      case 2 -> LoopscaleProgram.CreateVaultIxData.read(_data, offset);
+      case 3 -> LoopscaleProgram.StakeUserVaultLpIxData.read(_data, offset);
+      case 4 -> LoopscaleProgram.CreateLoanIxData.read(_data, offset);
+      case 5 -> LoopscaleProgram.RepayPrincipalIxData.read(_data, offset);
+      case 6 -> LoopscaleProgram.WithdrawCollateralIxData.read(_data, offset);
+      case 7 -> LoopscaleProgram.UpdateMarketInformationIxData.read(_data, offset);
+      case 8 -> LoopscaleProgram.CreateRewardsScheduleIxData.read(_data, offset);
+      case 9 -> LoopscaleProgram.WithdrawStrategyIxData.read(_data, offset);
+      case 10 -> CloseStrategyIxData.read(_data, offset);
+      case 11 -> LoopscaleProgram.ManageCollateralDecreaseRaydiumLiquidityIxData.read(_data, offset);
+      case 12 -> LoopscaleProgram.ManageCollateralTransferRaydiumPositionIxData.read(_data, offset);
+      case 13 -> ExecuteTimelockIxData.read(_data, offset);
+      case 14 -> LoopscaleProgram.CreateStrategyIxData.read(_data, offset);
+      case 15 -> LoopscaleProgram.UpdateRewardsScheduleIxData.read(_data, offset);
+      case 16 -> LoopscaleProgram.ManageCollateralClaimOrcaFeeIxData.read(_data, offset);
+      case 17 -> LoopscaleProgram.ManageCollateralTransferOrcaPositionIxData.read(_data, offset);
+      case 18 -> CancelTimelockIxData.read(_data, offset);
+      case 19 -> LoopscaleProgram.ClaimVaultFeeIxData.read(_data, offset);
+      case 20 -> LoopscaleProgram.LiquidateLedgerIxData.read(_data, offset);
+      case 21 -> LoopscaleProgram.DepositStrategyIxData.read(_data, offset);
+      case 22 -> LoopscaleProgram.CreateMarketInformationIxData.read(_data, offset);
+      case 23 -> LoopscaleProgram.MigrateMarketInfoAllocationIxData.read(_data, offset);
+      case 24 -> LoopscaleProgram.SellLedgerIxData.read(_data, offset);
+      case 25 -> LoopscaleProgram.ManageCollateralIncreaseRaydiumLiquidityIxData.read(_data, offset);
+      case 26 -> LoopscaleProgram.UpdateStrategyIxData.read(_data, offset);
+      case 27 -> LoopscaleProgram.LockLoanIxData.read(_data, offset);
+      case 28 -> LoopscaleProgram.UnlockLoanIxData.read(_data, offset);
+      case 29 -> LoopscaleProgram.WithdrawUserVaultIxData.read(_data, offset);
+      case 30 -> LoopscaleProgram.BorrowPrincipalIxData.read(_data, offset);
+      case 31 -> LoopscaleProgram.UpdateVaultIxData.read(_data, offset);
+      case 32 -> LoopscaleProgram.RefinanceLedgerIxData.read(_data, offset);
+      case 33 -> LoopscaleProgram.CreateTimelockIxData.read(_data, offset);
+      case 34 -> LoopscaleProgram.ManageCollateralWithdrawOrcaLiquidityIxData.read(_data, offset);
+      case 35 -> LoopscaleProgram.UnstakeUserVaultLpIxData.read(_data, offset);
+      case 36 -> LoopscaleProgram.ClaimVaultRewardsIxData.read(_data, offset);
+      case 37 -> LoopscaleProgram.DepositCollateralIxData.read(_data, offset);
+      case 38 -> LoopscaleProgram.DepositUserVaultIxData.read(_data, offset);
+      case 39 -> CloseLoanIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private LoopscaleInstructionDecoder() {
+  }
+}
@@ -0,0 +1,281 @@
+package software.sava.anchor.programs.loopscale;
+
+import software.sava.anchor.programs.loopscale.anchor.types.CollateralData;
+import software.sava.anchor.programs.loopscale.anchor.types.Ledger;
+import software.sava.anchor.programs.loopscale.anchor.types.Loan;
+import software.sava.anchor.programs.loopscale.anchor.types.MarketInformation;
+import software.sava.anchor.programs.loopscale.anchor.types.PodU32CBPS;
+import software.sava.anchor.programs.loopscale.anchor.types.PodU64;
+import software.sava.core.accounts.PublicKey;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// Computes the health of each open ledger of a Loan, given the MarketInformation accounts its ledgers reference and a
+// price per asset identifier.
+//
+// The loan's weight matrix, indexed [ledger][collateral], allocates a share of each collateral entry to each ledger.
+// A ledger's debt is principalDue - principalRepaid + interestOutstanding, plus simple interest accrued at
+// interestPerSecond since lastInterestUpdatedTime. The debt is compared against the allocated collateral value
+// discounted by the loan's ltv and lqt matrices, a ledger past its end time is liquidatable regardless of value.
+// Token decimals come from the AssetData of the ledger's market, prices are per whole token in a common quote currency.
+//
+// Markets and prices may be updated concurrently with health computations.
+public final class LoopscaleRiskEngine {
+
+  // 100% in centi-bps.
+  public static final long CBPS = 1_000_000;
+
+  private static final long[] EXP_10 = new long[19];
+
+  static {
+    long pow = 1;
+    for (int i = 0; i < EXP_10.length; ++i) {
+      EXP_10[i] = pow;
+      pow *= 10;
+    }
+  }
+
+  private final Map<PublicKey, MarketAssetIndex> markets;
+  private final Map<PublicKey, Decimal> prices;
+
+  private LoopscaleRiskEngine(final Map<PublicKey, MarketAssetIndex> markets, final Map<PublicKey, Decimal> prices) {
+    this.markets = markets;
+    this.prices = prices;
+  }
+
+  public static LoopscaleRiskEngine createEngine(final Collection<MarketInformation> markets,
+                                                 final Map<PublicKey, Decimal> pricesByAsset) {
+    final var marketMap = new ConcurrentHashMap<PublicKey, MarketAssetIndex>(markets.size() << 1);
+    for (final var market : markets) {
+      marketMap.put(market._address(), MarketAssetIndex.wrap(market));
+    }
+    return new LoopscaleRiskEngine(marketMap, new ConcurrentHashMap<>(pricesByAsset));
+  }
+
+  public static LoopscaleRiskEngine createEngine() {
+    return new LoopscaleRiskEngine(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+  }
+
+  public void putMarket(final MarketInformation market) {
+    markets.put(market._address(), MarketAssetIndex.wrap(market));
+  }
+
+  public void putMarket(final AccountInfo<byte[]> accountInfo) {
+    markets.put(accountInfo.pubKey(), MarketAssetIndex.wrap(accountInfo));
+  }
+
+  public void putPrice(final PublicKey assetIdentifier, final Decimal price) {
+    prices.put(assetIdentifier, price);
+  }
+
+  public MarketAssetIndex market(final PublicKey market) {
+    return markets.get(market);
+  }
+
+  public Decimal price(final PublicKey assetIdentifier) {
+    return prices.get(assetIdentifier);
+  }
+
+  public List<LedgerHealth> computeHealth(final AccountInfo<byte[]> accountInfo, final long nowEpochSeconds) {
+    return computeHealth(Loan.read(accountInfo), nowEpochSeconds);
+  }
+
+  // One entry per ledger with outstanding debt, ordered by ledger index. Ledgers whose debt overflows are included and
+  // flagged OVERFLOW.
+  public List<LedgerHealth> computeHealth(final Loan loan, final long nowEpochSeconds) {
+    final var ledgers = loan.ledgers();
+    final var collateral = loan.collateral();
+    final var collateralValues = new Decimal[collateral.length];
+    final var collateralFlags = new int[collateral.length];
+    MarketAssetIndex valuedMarket = null;
+    final var health = new ArrayList<LedgerHealth>(ledgers.length);
+    for (int l = 0; l < ledgers.length; ++l) {
+      final var ledger = ledgers[l];
+      long debt;
+      int debtFlags = 0;
+      try {
+        debt = debt(ledger, nowEpochSeconds);
+      } catch (final ArithmeticException e) {
+        // still reported, with the debt saturated and excluded from valuation
+        debt = Long.MAX_VALUE;
+        debtFlags = LedgerHealth.OVERFLOW;
+      }
+      if (debt <= 0) {
+        continue;
+      }
+      final var market = markets.get(ledger.marketInformation());
+      if (market == null) {
+        health.add(new LedgerHealth(
+            loan._address(), l, debt,
+            Decimal.ZERO, Decimal.ZERO, Decimal.ZERO, Decimal.ZERO,
+            isExpired(ledger, nowEpochSeconds),
+            LedgerHealth.MISSING_MARKET | debtFlags
+        ));
+        continue;
+      }
+      if (market != valuedMarket) {
+        valueCollateral(collateral, market, collateralValues, collateralFlags);
+        valuedMarket = market;
+      }
+      health.add(ledgerHealth(
+          loan, l, ledger, debt, debtFlags,
+          market, collateralValues, collateralFlags,
+          nowEpochSeconds
+      ));
+    }
+    return health;
+  }
+
+  // Scores every loan in parallel, the result is ordered by loan and then ledger index.
+  public List<LedgerHealth> computeHealth(final Collection<Loan> loans, final long nowEpochSeconds) {
+    return loans.parallelStream()
+        .flatMap(loan -> computeHealth(loan, nowEpochSeconds).stream())
+        .toList();
+  }
+
+  public List<LedgerHealth> liquidatable(final Collection<Loan> loans, final long nowEpochSeconds) {
+    return loans.parallelStream()
+        .flatMap(loan -> computeHealth(loan, nowEpochSeconds).stream())
+        .filter(LedgerHealth::isLiquidatable)
+        .toList();
+  }
+
+  private LedgerHealth ledgerHealth(final Loan loan,
+                                    final int l,
+                                    final Ledger ledger,
+                                    final long debt,
+                                    final int debtFlags,
+                                    final MarketAssetIndex market,
+                                    final Decimal[] collateralValues,
+                                    final int[] collateralFlags,
+                                    final long nowEpochSeconds) {
+    int flags = debtFlags;
+    var debtValue = Decimal.ZERO;
+    final int principal = market.slot(ledger.principalMint());
+    final var principalPrice = prices.get(ledger.principalMint());
+    if (principal < 0) {
+      flags |= LedgerHealth.MISSING_ASSET;
+    } else if (principalPrice == null) {
+      flags |= LedgerHealth.MISSING_PRICE;
+    } else if (debtFlags == 0) {
+      try {
+        debtValue = value(debt, principalPrice, market.decimals(principal));
+      } catch (final ArithmeticException e) {
+        flags |= LedgerHealth.OVERFLOW;
+      }
+    }
+
+    final var weights = loan.weightMatrix()[l];
+    final var ltvs = loan.ltvMatrix()[l];
+    final var lqts = loan.lqtMatrix()[l];
+    var collateralValue = Decimal.ZERO;
+    var ltvValue = Decimal.ZERO;
+    var lqtValue = Decimal.ZERO;
+    for (int c = 0; c < collateralValues.length; ++c) {
+      final long weight = cbps(weights[c]);
+      if (weight == 0) {
+        continue;
+      }
+      final var value = collateralValues[c];
+      if (value == null) {
+        flags |= collateralFlags[c];
+        continue;
+      }
+      try {
+        final var allocated = applyCbps(value, weight);
+        collateralValue = collateralValue.add(allocated);
+        ltvValue = ltvValue.add(applyCbps(allocated, cbps(ltvs[c])));
+        lqtValue = lqtValue.add(applyCbps(allocated, cbps(lqts[c])));
+      } catch (final ArithmeticException e) {
+        flags |= LedgerHealth.OVERFLOW;
+      }
+    }
+
+    return new LedgerHealth(
+        loan._address(), l, debt,
+        debtValue, collateralValue, ltvValue, lqtValue,
+        isExpired(ledger, nowEpochSeconds),
+        flags
+    );
+  }
+
+  // Values each collateral entry once per market, entries which could not be valued are null with the reason in flags.
+  private void valueCollateral(final CollateralData[] collateral,
+                               final MarketAssetIndex market,
+                               final Decimal[] values,
+                               final int[] flags) {
+    for (int c = 0; c < collateral.length; ++c) {
+      values[c] = null;
+      flags[c] = 0;
+      final var entry = collateral[c];
+      final long amount = u64(entry.amount());
+      if (amount == 0) {
+        values[c] = Decimal.ZERO;
+        continue;
+      }
+      final var assetIdentifier = entry.assetIdentifier();
+      final int slot = market.slot(assetIdentifier);
+      if (slot < 0) {
+        flags[c] = LedgerHealth.MISSING_ASSET;
+        continue;
+      }
+      final var price = prices.get(assetIdentifier);
+      if (price == null) {
+        flags[c] = LedgerHealth.MISSING_PRICE;
+        continue;
+      }
+      try {
+        values[c] = value(amount, price, market.decimals(slot));
+      } catch (final ArithmeticException e) {
+        flags[c] = LedgerHealth.OVERFLOW;
+      }
+    }
+  }
+
+  // Throws an ArithmeticException if the debt does not fit in a long.
+  static long debt(final Ledger ledger, final long nowEpochSeconds) {
+    final long outstanding = Math.max(0, Math.subtractExact(u64(ledger.principalDue()), u64(ledger.principalRepaid())));
+    long debt = Math.addExact(outstanding, u64(ledger.interestOutstanding()));
+    final long elapsed = nowEpochSeconds - u64(ledger.lastInterestUpdatedTime());
+    if (outstanding > 0 && elapsed > 0) {
+      final var interestPerSecond = Decimal.read(ledger.interestPerSecond());
+      if (!interestPerSecond.isZero()) {
+        debt = Math.addExact(debt, Decimal.fromLong(outstanding).mul(interestPerSecond).mul(elapsed).toLong());
+      }
+    }
+    return debt;
+  }
+
+  static boolean isExpired(final Ledger ledger, final long nowEpochSeconds) {
+    final long endTime = u64(ledger.endTime());
+    return endTime > 0 && nowEpochSeconds > endTime;
+  }
+
+  // amount * price / 10^decimals, with price per whole token.
+  static Decimal value(final long amount, final Decimal price, final int decimals) {
+    if (decimals >= EXP_10.length) {
+      throw new ArithmeticException("Unsupported decimals " + decimals);
+    }
+    return amount == 0 ? Decimal.ZERO : price.mul(amount).div(EXP_10[decimals]);
+  }
+
+  static Decimal applyCbps(final Decimal value, final long cbps) {
+    return cbps == CBPS ? value : value.mul(cbps).div(CBPS);
+  }
+
+  static long cbps(final PodU32CBPS cbps) {
+    return getInt32LE(cbps._array(), 0) & 0xFFFF_FFFFL;
+  }
+
+  static long u64(final PodU64 u64) {
+    return getInt64LE(u64._array(), 0);
+  }
+}
@@ -0,0 +1,200 @@
+package software.sava.anchor.programs.loopscale;
+
+import software.sava.anchor.programs.loopscale.anchor.types.AssetData;
+import software.sava.anchor.programs.loopscale.anchor.types.CollateralCaps;
+import software.sava.anchor.programs.loopscale.anchor.types.MarketInformation;
+import software.sava.core.accounts.PublicKey;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.Arrays;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// Zero-copy view over MarketInformation account data which resolves an asset identifier to its AssetData slot through
+// an open-addressed hash table instead of scanning all 200 entries.
+// The table is built from the raw bytes on the first lookup, concurrent first lookups may each build an identical table.
+// Unused slots, those with the default asset identifier, are not indexed. If an identifier repeats the first slot wins.
+public final class MarketAssetIndex {
+
+  public static final int ASSET_IDENTIFIER_OFFSET = 0;
+  public static final int QUOTE_MINT_OFFSET = 32;
+  public static final int ORACLE_ACCOUNT_OFFSET = 64;
+  public static final int ORACLE_TYPE_OFFSET = 96;
+  public static final int MAX_UNCERTAINTY_OFFSET = 97;
+  public static final int MAX_AGE_OFFSET = 101;
+  public static final int DECIMALS_OFFSET = 103;
+  public static final int LTV_OFFSET = 104;
+  public static final int LIQUIDATION_THRESHOLD_OFFSET = 108;
+  public static final int COLLATERAL_CAPS_OFFSET = 112;
+  public static final int MAX_ALLOCATION_PCT_OFFSET = COLLATERAL_CAPS_OFFSET;
+  public static final int CURRENT_ALLOCATION_AMOUNT_OFFSET = COLLATERAL_CAPS_OFFSET + 8;
+
+  // Power of two with a load factor of at most 0.4.
+  private static final int TABLE_LENGTH = 512;
+  private static final int TABLE_MASK = TABLE_LENGTH - 1;
+
+  private final PublicKey address;
+  private final byte[] _data;
+  private final int offset;
+  private volatile short[] table;
+
+  private MarketAssetIndex(final PublicKey address, final byte[] _data, final int offset) {
+    this.address = address;
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MarketAssetIndex wrap(final PublicKey address, final byte[] _data, final int offset) {
+    return new MarketAssetIndex(address, _data, offset);
+  }
+
+  public static MarketAssetIndex wrap(final AccountInfo<byte[]> accountInfo) {
+    return new MarketAssetIndex(accountInfo.pubKey(), accountInfo.data(), 0);
+  }
+
+  public static MarketAssetIndex wrap(final MarketInformation market) {
+    return new MarketAssetIndex(market._address(), market.write(), 0);
+  }
+
+  public PublicKey address() {
+    return address;
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(_data, offset + MarketInformation.PRINCIPAL_MINT_OFFSET);
+  }
+
+  // Slot of the asset, or -1 if the market has no AssetData for it.
+  public int slot(final PublicKey assetIdentifier) {
+    return slot(assetIdentifier.toByteArray(), 0);
+  }
+
+  // Slot of the asset identifier stored at keyOffset, e.g. CollateralData.assetIdentifier within raw Loan data.
+  public int slot(final byte[] key, final int keyOffset) {
+    final var table = table();
+    for (int h = hash(key, keyOffset); ; h = (h + 1) & TABLE_MASK) {
+      final int entry = table[h];
+      if (entry == 0) {
+        return -1;
+      }
+      final int slot = entry - 1;
+      final int slotOffset = slotOffset(slot);
+      if (Arrays.equals(
+          _data, slotOffset, slotOffset + PublicKey.PUBLIC_KEY_LENGTH,
+          key, keyOffset, keyOffset + PublicKey.PUBLIC_KEY_LENGTH)) {
+        return slot;
+      }
+    }
+  }
+
+  public boolean contains(final PublicKey assetIdentifier) {
+    return slot(assetIdentifier) >= 0;
+  }
+
+  public AssetData assetData(final int slot) {
+    return AssetData.read(_data, slotOffset(slot));
+  }
+
+  // AssetData for the asset, or null if the market does not list it.
+  public AssetData assetData(final PublicKey assetIdentifier) {
+    final int slot = slot(assetIdentifier);
+    return slot < 0 ? null : assetData(slot);
+  }
+
+  public PublicKey assetIdentifier(final int slot) {
+    return readPubKey(_data, slotOffset(slot) + ASSET_IDENTIFIER_OFFSET);
+  }
+
+  public PublicKey oracleAccount(final int slot) {
+    return readPubKey(_data, slotOffset(slot) + ORACLE_ACCOUNT_OFFSET);
+  }
+
+  public int oracleType(final int slot) {
+    return _data[slotOffset(slot) + ORACLE_TYPE_OFFSET] & 0xFF;
+  }
+
+  public int decimals(final int slot) {
+    return _data[slotOffset(slot) + DECIMALS_OFFSET] & 0xFF;
+  }
+
+  // cbps
+  public long ltv(final int slot) {
+    return getInt32LE(_data, slotOffset(slot) + LTV_OFFSET) & 0xFFFF_FFFFL;
+  }
+
+  // cbps
+  public long liquidationThreshold(final int slot) {
+    return getInt32LE(_data, slotOffset(slot) + LIQUIDATION_THRESHOLD_OFFSET) & 0xFFFF_FFFFL;
+  }
+
+  public CollateralCaps collateralCaps(final int slot) {
+    return CollateralCaps.read(_data, slotOffset(slot) + COLLATERAL_CAPS_OFFSET);
+  }
+
+  // cbps
+  public long maxAllocationPct(final int slot) {
+    return getInt64LE(_data, slotOffset(slot) + MAX_ALLOCATION_PCT_OFFSET);
+  }
+
+  public long currentAllocationAmount(final int slot) {
+    return getInt64LE(_data, slotOffset(slot) + CURRENT_ALLOCATION_AMOUNT_OFFSET);
+  }
+
+  private int slotOffset(final int slot) {
+    return offset + MarketInformation.ASSET_DATA_OFFSET + (slot * AssetData.BYTES);
+  }
+
+  private short[] table() {
+    var table = this.table;
+    if (table == null) {
+      table = buildTable();
+      this.table = table;
+    }
+    return table;
+  }
+
+  private short[] buildTable() {
+    final var table = new short[TABLE_LENGTH];
+    for (int slot = 0; slot < MarketInformation.ASSET_DATA_LEN; ++slot) {
+      final int slotOffset = slotOffset(slot);
+      if (isDefaultKey(_data, slotOffset)) {
+        continue;
+      }
+      for (int h = hash(_data, slotOffset); ; h = (h + 1) & TABLE_MASK) {
+        final int entry = table[h];
+        if (entry == 0) {
+          table[h] = (short) (slot + 1);
+          break;
+        }
+        final int otherOffset = slotOffset(entry - 1);
+        if (Arrays.equals(
+            _data, otherOffset, otherOffset + PublicKey.PUBLIC_KEY_LENGTH,
+            _data, slotOffset, slotOffset + PublicKey.PUBLIC_KEY_LENGTH)) {
+          break;
+        }
+      }
+    }
+    return table;
+  }
+
+  // Public keys are uniformly distributed, so the leading bytes suffice.
+  private static int hash(final byte[] key, final int keyOffset) {
+    final long bits = getInt64LE(key, keyOffset);
+    return (int) (bits ^ (bits >>> 32)) & TABLE_MASK;
+  }
+
+  private static boolean isDefaultKey(final byte[] _data, final int offset) {
+    for (int i = offset, to = offset + PublicKey.PUBLIC_KEY_LENGTH; i < to; i += 8) {
+      if (getInt64LE(_data, i) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.ClaimVaultFeeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ClaimVaultFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.CLAIM_VAULT_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimVaultFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimVaultFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimVaultFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static ClaimVaultFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ClaimVaultFeeIxDataSegmentView(segment, 0);
+  }
+
+  public ClaimVaultFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimVaultFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.ClaimVaultFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.ClaimVaultFeeIxData.BYTES, LoopscaleProgram.ClaimVaultFeeIxData::read);
+  }
+
+  public ClaimVaultFeeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, ClaimVaultFeeParams.BYTES, ClaimVaultFeeParams::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.LoopscaleInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseStrategyIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.CLOSE_STRATEGY_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseStrategyIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseStrategyIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseStrategyIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseStrategyIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseStrategyIxDataSegmentView(segment, 0);
+  }
+
+  public CloseStrategyIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseStrategyIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleInstructionDecoder.CloseStrategyIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleInstructionDecoder.CloseStrategyIxData.BYTES, LoopscaleInstructionDecoder.CloseStrategyIxData::read);
+  }
+}
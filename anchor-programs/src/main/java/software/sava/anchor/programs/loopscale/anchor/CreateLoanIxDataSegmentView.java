@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateLoanParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateLoanIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.CREATE_LOAN_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateLoanIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateLoanIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateLoanIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateLoanIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateLoanIxDataSegmentView(segment, 0);
+  }
+
+  public CreateLoanIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateLoanIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.CreateLoanIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.CreateLoanIxData.BYTES, LoopscaleProgram.CreateLoanIxData::read);
+  }
+
+  public CreateLoanParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, CreateLoanParams.BYTES, CreateLoanParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateMarketInformationParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateMarketInformationIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.CREATE_MARKET_INFORMATION_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateMarketInformationIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateMarketInformationIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateMarketInformationIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateMarketInformationIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateMarketInformationIxDataSegmentView(segment, 0);
+  }
+
+  public CreateMarketInformationIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateMarketInformationIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.CreateMarketInformationIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.CreateMarketInformationIxData.BYTES, LoopscaleProgram.CreateMarketInformationIxData::read);
+  }
+
+  public CreateMarketInformationParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, CreateMarketInformationParams.BYTES, CreateMarketInformationParams::read);
+  }
+}
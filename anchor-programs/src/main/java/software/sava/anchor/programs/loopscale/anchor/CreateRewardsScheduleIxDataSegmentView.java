@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.CreateRewardsScheduleParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateRewardsScheduleIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.CREATE_REWARDS_SCHEDULE_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+  private static final int AMOUNT_TO_TRANSFER_OFFSET = PARAMS_OFFSET + CreateRewardsScheduleParams.BYTES;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateRewardsScheduleIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateRewardsScheduleIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateRewardsScheduleIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateRewardsScheduleIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateRewardsScheduleIxDataSegmentView(segment, 0);
+  }
+
+  public CreateRewardsScheduleIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateRewardsScheduleIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.CreateRewardsScheduleIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.CreateRewardsScheduleIxData.BYTES, LoopscaleProgram.CreateRewardsScheduleIxData::read);
+  }
+
+  public CreateRewardsScheduleParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, CreateRewardsScheduleParams.BYTES, CreateRewardsScheduleParams::read);
+  }
+
+  public long amountToTransfer() {
+    return getInt64LE(segment, offset + AMOUNT_TO_TRANSFER_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class DepositStrategyIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.DEPOSIT_STRATEGY_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DepositStrategyIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DepositStrategyIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DepositStrategyIxDataSegmentView(segment, offset);
+  }
+
+  public static DepositStrategyIxDataSegmentView wrap(final MemorySegment segment) {
+    return new DepositStrategyIxDataSegmentView(segment, 0);
+  }
+
+  public DepositStrategyIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DepositStrategyIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.DepositStrategyIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.DepositStrategyIxData.BYTES, LoopscaleProgram.DepositStrategyIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
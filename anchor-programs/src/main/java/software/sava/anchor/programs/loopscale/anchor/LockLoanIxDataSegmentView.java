@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.LockLoanParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LockLoanIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.LOCK_LOAN_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LockLoanIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LockLoanIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LockLoanIxDataSegmentView(segment, offset);
+  }
+
+  public static LockLoanIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LockLoanIxDataSegmentView(segment, 0);
+  }
+
+  public LockLoanIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LockLoanIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.LockLoanIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.LockLoanIxData.BYTES, LoopscaleProgram.LockLoanIxData::read);
+  }
+
+  public LockLoanParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, LockLoanParams.BYTES, LockLoanParams::read);
+  }
+}
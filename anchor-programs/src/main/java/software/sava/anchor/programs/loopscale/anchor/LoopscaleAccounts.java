@@ -0,0 +1,80 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import software.sava.anchor.programs.loopscale.anchor.types.Loan;
+import software.sava.anchor.programs.loopscale.anchor.types.MarketInformation;
+import software.sava.anchor.programs.loopscale.anchor.types.PersonalPositionState;
+import software.sava.anchor.programs.loopscale.anchor.types.PoolState;
+import software.sava.anchor.programs.loopscale.anchor.types.Position;
+import software.sava.anchor.programs.loopscale.anchor.types.ProtocolPositionState;
+import software.sava.anchor.programs.loopscale.anchor.types.Strategy;
+import software.sava.anchor.programs.loopscale.anchor.types.Timelock;
+import software.sava.anchor.programs.loopscale.anchor.types.UserRewardsInfo;
+import software.sava.anchor.programs.loopscale.anchor.types.Vault;
+import software.sava.anchor.programs.loopscale.anchor.types.VaultRewardsInfo;
+import software.sava.anchor.programs.loopscale.anchor.types.VaultStake;
+import software.sava.anchor.programs.loopscale.anchor.types.Whirlpool;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class LoopscaleAccounts {
+
+  public static final long LOAN_DISCRIMINATOR = getInt64LE(Loan.DISCRIMINATOR.data(), 0);
+  public static final long MARKET_INFORMATION_DISCRIMINATOR = getInt64LE(MarketInformation.DISCRIMINATOR.data(), 0);
+  public static final long PERSONAL_POSITION_STATE_DISCRIMINATOR = getInt64LE(PersonalPositionState.DISCRIMINATOR.data(), 0);
+  public static final long POOL_STATE_DISCRIMINATOR = getInt64LE(PoolState.DISCRIMINATOR.data(), 0);
+  public static final long POSITION_DISCRIMINATOR = getInt64LE(Position.DISCRIMINATOR.data(), 0);
+  public static final long PROTOCOL_POSITION_STATE_DISCRIMINATOR = getInt64LE(ProtocolPositionState.DISCRIMINATOR.data(), 0);
+  public static final long STRATEGY_DISCRIMINATOR = getInt64LE(Strategy.DISCRIMINATOR.data(), 0);
+  public static final long TIMELOCK_DISCRIMINATOR = getInt64LE(Timelock.DISCRIMINATOR.data(), 0);
+  public static final long USER_REWARDS_INFO_DISCRIMINATOR = getInt64LE(UserRewardsInfo.DISCRIMINATOR.data(), 0);
+  public static final long VAULT_DISCRIMINATOR = getInt64LE(Vault.DISCRIMINATOR.data(), 0);
+  public static final long VAULT_REWARDS_INFO_DISCRIMINATOR = getInt64LE(VaultRewardsInfo.DISCRIMINATOR.data(), 0);
+  public static final long VAULT_STAKE_DISCRIMINATOR = getInt64LE(VaultStake.DISCRIMINATOR.data(), 0);
+  public static final long WHIRLPOOL_DISCRIMINATOR = getInt64LE(Whirlpool.DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == LOAN_DISCRIMINATOR) {
+      return Loan.read(_address, _data, 0);
+    } else if (discriminator == MARKET_INFORMATION_DISCRIMINATOR) {
+      return MarketInformation.read(_address, _data, 0);
+    } else if (discriminator == PERSONAL_POSITION_STATE_DISCRIMINATOR) {
+      return PersonalPositionState.read(_address, _data, 0);
+    } else if (discriminator == POOL_STATE_DISCRIMINATOR) {
+      return PoolState.read(_address, _data, 0);
+    } else if (discriminator == POSITION_DISCRIMINATOR) {
+      return Position.read(_address, _data, 0);
+    } else if (discriminator == PROTOCOL_POSITION_STATE_DISCRIMINATOR) {
+      return ProtocolPositionState.read(_address, _data, 0);
+    } else if (discriminator == STRATEGY_DISCRIMINATOR) {
+      return Strategy.read(_address, _data, 0);
+    } else if (discriminator == TIMELOCK_DISCRIMINATOR) {
+      return Timelock.read(_address, _data, 0);
+    } else if (discriminator == USER_REWARDS_INFO_DISCRIMINATOR) {
+      return UserRewardsInfo.read(_address, _data, 0);
+    } else if (discriminator == VAULT_DISCRIMINATOR) {
+      return Vault.read(_address, _data, 0);
+    } else if (discriminator == VAULT_REWARDS_INFO_DISCRIMINATOR) {
+      return VaultRewardsInfo.read(_address, _data, 0);
+    } else if (discriminator == VAULT_STAKE_DISCRIMINATOR) {
+      return VaultStake.read(_address, _data, 0);
+    } else if (discriminator == WHIRLPOOL_DISCRIMINATOR) {
+      return Whirlpool.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private LoopscaleAccounts() {
+  }
+}
@@ -0,0 +1,78 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.loopscale.anchor.types.RewardsClaimedEvent;
+import software.sava.anchor.programs.loopscale.anchor.types.StakeEvent;
+import software.sava.anchor.programs.loopscale.anchor.types.TimelockCanceledEvent;
+import software.sava.anchor.programs.loopscale.anchor.types.TimelockCreatedEvent;
+import software.sava.anchor.programs.loopscale.anchor.types.TimelockExecutedEvent;
+import software.sava.anchor.programs.loopscale.anchor.types.UserRewardsInfoClosed;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class LoopscaleEvents {
+
+  public static final Discriminator REWARDS_CLAIMED_EVENT_DISCRIMINATOR = toDiscriminator(22, 1, 42, 183, 250, 8, 157, 146);
+  public static final Discriminator STAKE_EVENT_DISCRIMINATOR = toDiscriminator(226, 134, 188, 173, 19, 33, 75, 175);
+  public static final Discriminator TIMELOCK_CANCELED_EVENT_DISCRIMINATOR = toDiscriminator(67, 213, 255, 46, 1, 27, 230, 3);
+  public static final Discriminator TIMELOCK_CREATED_EVENT_DISCRIMINATOR = toDiscriminator(152, 153, 7, 180, 31, 147, 228, 201);
+  public static final Discriminator TIMELOCK_EXECUTED_EVENT_DISCRIMINATOR = toDiscriminator(163, 211, 23, 234, 156, 203, 136, 240);
+  public static final Discriminator USER_REWARDS_INFO_CLOSED_DISCRIMINATOR = toDiscriminator(58, 168, 111, 2, 82, 232, 119, 37);
+
+  public static final long REWARDS_CLAIMED_EVENT_DISCRIMINATOR_LONG = getInt64LE(REWARDS_CLAIMED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long STAKE_EVENT_DISCRIMINATOR_LONG = getInt64LE(STAKE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long TIMELOCK_CANCELED_EVENT_DISCRIMINATOR_LONG = getInt64LE(TIMELOCK_CANCELED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long TIMELOCK_CREATED_EVENT_DISCRIMINATOR_LONG = getInt64LE(TIMELOCK_CREATED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long TIMELOCK_EXECUTED_EVENT_DISCRIMINATOR_LONG = getInt64LE(TIMELOCK_EXECUTED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long USER_REWARDS_INFO_CLOSED_DISCRIMINATOR_LONG = getInt64LE(USER_REWARDS_INFO_CLOSED_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      REWARDS_CLAIMED_EVENT_DISCRIMINATOR_LONG,
+      STAKE_EVENT_DISCRIMINATOR_LONG,
+      TIMELOCK_CREATED_EVENT_DISCRIMINATOR_LONG,
+      TIMELOCK_EXECUTED_EVENT_DISCRIMINATOR_LONG,
+      TIMELOCK_CANCELED_EVENT_DISCRIMINATOR_LONG,
+      USER_REWARDS_INFO_CLOSED_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> RewardsClaimedEvent.read(_data, i);
+      case 1 -> StakeEvent.read(_data, i);
+      case 2 -> TimelockCreatedEvent.read(_data, i);
+      case 3 -> TimelockExecutedEvent.read(_data, i);
+      case 4 -> TimelockCanceledEvent.read(_data, i);
+      case 5 -> UserRewardsInfoClosed.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private LoopscaleEvents() {
+  }
+}
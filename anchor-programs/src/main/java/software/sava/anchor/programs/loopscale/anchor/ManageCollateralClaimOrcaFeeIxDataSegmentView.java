@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ManageCollateralClaimOrcaFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.MANAGE_COLLATERAL_CLAIM_ORCA_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int CLOSE_TA_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ManageCollateralClaimOrcaFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ManageCollateralClaimOrcaFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ManageCollateralClaimOrcaFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static ManageCollateralClaimOrcaFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ManageCollateralClaimOrcaFeeIxDataSegmentView(segment, 0);
+  }
+
+  public ManageCollateralClaimOrcaFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ManageCollateralClaimOrcaFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.ManageCollateralClaimOrcaFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.ManageCollateralClaimOrcaFeeIxData.BYTES, LoopscaleProgram.ManageCollateralClaimOrcaFeeIxData::read);
+  }
+
+  public boolean closeTa() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + CLOSE_TA_OFFSET) == 1;
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.RepayPrincipalParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class RepayPrincipalIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.REPAY_PRINCIPAL_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RepayPrincipalIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RepayPrincipalIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RepayPrincipalIxDataSegmentView(segment, offset);
+  }
+
+  public static RepayPrincipalIxDataSegmentView wrap(final MemorySegment segment) {
+    return new RepayPrincipalIxDataSegmentView(segment, 0);
+  }
+
+  public RepayPrincipalIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RepayPrincipalIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.RepayPrincipalIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.RepayPrincipalIxData.BYTES, LoopscaleProgram.RepayPrincipalIxData::read);
+  }
+
+  public RepayPrincipalParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, RepayPrincipalParams.BYTES, RepayPrincipalParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.VaultUnstakeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UnstakeUserVaultLpIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.UNSTAKE_USER_VAULT_LP_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UnstakeUserVaultLpIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UnstakeUserVaultLpIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UnstakeUserVaultLpIxDataSegmentView(segment, offset);
+  }
+
+  public static UnstakeUserVaultLpIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UnstakeUserVaultLpIxDataSegmentView(segment, 0);
+  }
+
+  public UnstakeUserVaultLpIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UnstakeUserVaultLpIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.UnstakeUserVaultLpIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.UnstakeUserVaultLpIxData.BYTES, LoopscaleProgram.UnstakeUserVaultLpIxData::read);
+  }
+
+  public VaultUnstakeParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, VaultUnstakeParams.BYTES, VaultUnstakeParams::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.loopscale.anchor.types.UpdateVaultParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UpdateVaultIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.UPDATE_VAULT_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdateVaultIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdateVaultIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdateVaultIxDataSegmentView(segment, offset);
+  }
+
+  public static UpdateVaultIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UpdateVaultIxDataSegmentView(segment, 0);
+  }
+
+  public UpdateVaultIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdateVaultIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.UpdateVaultIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.UpdateVaultIxData.BYTES, LoopscaleProgram.UpdateVaultIxData::read);
+  }
+
+  public UpdateVaultParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, UpdateVaultParams.BYTES, UpdateVaultParams::read);
+  }
+}
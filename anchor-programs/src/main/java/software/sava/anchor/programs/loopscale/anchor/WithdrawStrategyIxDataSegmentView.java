@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.loopscale.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawStrategyIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LoopscaleProgram.WITHDRAW_STRATEGY_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+  private static final int WITHDRAW_ALL_OFFSET = AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawStrategyIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawStrategyIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawStrategyIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawStrategyIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawStrategyIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawStrategyIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawStrategyIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LoopscaleProgram.WithdrawStrategyIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LoopscaleProgram.WithdrawStrategyIxData.BYTES, LoopscaleProgram.WithdrawStrategyIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+
+  public boolean withdrawAll() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + WITHDRAW_ALL_OFFSET) == 1;
+  }
+}
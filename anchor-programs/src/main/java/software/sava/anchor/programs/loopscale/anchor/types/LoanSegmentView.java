@@ -0,0 +1,120 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class LoanSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Loan.DISCRIMINATOR.data(), 0);
+
+  // Weight, LTV and liquidation threshold matrices are Loan.*_MATRIX_LEN rows of u32 cbps values.
+  private static final int MATRIX_COLUMNS = (Loan.LTV_MATRIX_OFFSET - Loan.WEIGHT_MATRIX_OFFSET)
+      / (Loan.WEIGHT_MATRIX_LEN * PodU32CBPS.BYTES);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LoanSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LoanSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LoanSegmentView(segment, offset);
+  }
+
+  public static LoanSegmentView wrap(final MemorySegment segment) {
+    return new LoanSegmentView(segment, 0);
+  }
+
+  public LoanSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LoanSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Loan read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Loan.BYTES, Loan::read);
+  }
+
+  public int version() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Loan.VERSION_OFFSET) & 0xFF;
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Loan.BUMP_OFFSET) & 0xFF;
+  }
+
+  public int loanStatus() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Loan.LOAN_STATUS_OFFSET) & 0xFF;
+  }
+
+  public PublicKey borrower() {
+    return readPubKey(segment, offset + Loan.BORROWER_OFFSET);
+  }
+
+  public long nonce() {
+    return getInt64LE(segment, offset + Loan.NONCE_OFFSET);
+  }
+
+  public PodU64 startTime() {
+    return MemorySegmentUtil.read(segment, offset + Loan.START_TIME_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public Ledger ledgers(final int index) {
+    Objects.checkIndex(index, Loan.LEDGERS_LEN);
+    return MemorySegmentUtil.read(segment, offset + Loan.LEDGERS_OFFSET + (index * Ledger.BYTESL), Ledger.BYTES, Ledger::read);
+  }
+
+  public CollateralData collateral(final int index) {
+    Objects.checkIndex(index, Loan.COLLATERAL_LEN);
+    return MemorySegmentUtil.read(segment, offset + Loan.COLLATERAL_OFFSET + (index * CollateralData.BYTESL), CollateralData.BYTES, CollateralData::read);
+  }
+
+  public static int matrixColumns() {
+    return MATRIX_COLUMNS;
+  }
+
+  public int weightMatrix(final int row, final int column) {
+    Objects.checkIndex(row, Loan.WEIGHT_MATRIX_LEN);
+    Objects.checkIndex(column, MATRIX_COLUMNS);
+    return getInt32LE(segment, offset + Loan.WEIGHT_MATRIX_OFFSET + (((row * MATRIX_COLUMNS) + column) * PodU32CBPS.BYTES));
+  }
+
+  public int ltvMatrix(final int row, final int column) {
+    Objects.checkIndex(row, Loan.LTV_MATRIX_LEN);
+    Objects.checkIndex(column, MATRIX_COLUMNS);
+    return getInt32LE(segment, offset + Loan.LTV_MATRIX_OFFSET + (((row * MATRIX_COLUMNS) + column) * PodU32CBPS.BYTES));
+  }
+
+  public int lqtMatrix(final int row, final int column) {
+    Objects.checkIndex(row, Loan.LQT_MATRIX_LEN);
+    Objects.checkIndex(column, MATRIX_COLUMNS);
+    return getInt32LE(segment, offset + Loan.LQT_MATRIX_OFFSET + (((row * MATRIX_COLUMNS) + column) * PodU32CBPS.BYTES));
+  }
+}
@@ -0,0 +1,116 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class LoanView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Loan.DISCRIMINATOR.data(), 0);
+
+  // Weight, LTV and liquidation threshold matrices are Loan.*_MATRIX_LEN rows of u32 cbps values.
+  private static final int MATRIX_COLUMNS = (Loan.LTV_MATRIX_OFFSET - Loan.WEIGHT_MATRIX_OFFSET)
+      / (Loan.WEIGHT_MATRIX_LEN * PodU32CBPS.BYTES);
+
+  private byte[] _data;
+  private int offset;
+
+  private LoanView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static LoanView wrap(final byte[] _data, final int offset) {
+    return new LoanView(_data, offset);
+  }
+
+  public static LoanView wrap(final byte[] _data) {
+    return new LoanView(_data, 0);
+  }
+
+  public LoanView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public LoanView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Loan read(final PublicKey _address) {
+    return Loan.read(_address, _data, offset);
+  }
+
+  public int version() {
+    return _data[offset + Loan.VERSION_OFFSET] & 0xFF;
+  }
+
+  public int bump() {
+    return _data[offset + Loan.BUMP_OFFSET] & 0xFF;
+  }
+
+  public int loanStatus() {
+    return _data[offset + Loan.LOAN_STATUS_OFFSET] & 0xFF;
+  }
+
+  public PublicKey borrower() {
+    return readPubKey(_data, offset + Loan.BORROWER_OFFSET);
+  }
+
+  public long nonce() {
+    return getInt64LE(_data, offset + Loan.NONCE_OFFSET);
+  }
+
+  public PodU64 startTime() {
+    return PodU64.read(_data, offset + Loan.START_TIME_OFFSET);
+  }
+
+  public Ledger ledgers(final int index) {
+    Objects.checkIndex(index, Loan.LEDGERS_LEN);
+    return Ledger.read(_data, offset + Loan.LEDGERS_OFFSET + (index * Ledger.BYTES));
+  }
+
+  public CollateralData collateral(final int index) {
+    Objects.checkIndex(index, Loan.COLLATERAL_LEN);
+    return CollateralData.read(_data, offset + Loan.COLLATERAL_OFFSET + (index * CollateralData.BYTES));
+  }
+
+  public static int matrixColumns() {
+    return MATRIX_COLUMNS;
+  }
+
+  public int weightMatrix(final int row, final int column) {
+    Objects.checkIndex(row, Loan.WEIGHT_MATRIX_LEN);
+    Objects.checkIndex(column, MATRIX_COLUMNS);
+    return getInt32LE(_data, offset + Loan.WEIGHT_MATRIX_OFFSET + (((row * MATRIX_COLUMNS) + column) * PodU32CBPS.BYTES));
+  }
+
+  public int ltvMatrix(final int row, final int column) {
+    Objects.checkIndex(row, Loan.LTV_MATRIX_LEN);
+    Objects.checkIndex(column, MATRIX_COLUMNS);
+    return getInt32LE(_data, offset + Loan.LTV_MATRIX_OFFSET + (((row * MATRIX_COLUMNS) + column) * PodU32CBPS.BYTES));
+  }
+
+  public int lqtMatrix(final int row, final int column) {
+    Objects.checkIndex(row, Loan.LQT_MATRIX_LEN);
+    Objects.checkIndex(column, MATRIX_COLUMNS);
+    return getInt32LE(_data, offset + Loan.LQT_MATRIX_OFFSET + (((row * MATRIX_COLUMNS) + column) * PodU32CBPS.BYTES));
+  }
+}
@@ -0,0 +1,92 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MarketInformationSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarketInformation.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MarketInformationSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MarketInformationSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MarketInformationSegmentView(segment, offset);
+  }
+
+  public static MarketInformationSegmentView wrap(final MemorySegment segment) {
+    return new MarketInformationSegmentView(segment, 0);
+  }
+
+  public MarketInformationSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarketInformationSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarketInformation read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, MarketInformation.BYTES, MarketInformation::read);
+  }
+
+  public PublicKey authority() {
+    return readPubKey(segment, offset + MarketInformation.AUTHORITY_OFFSET);
+  }
+
+  public PublicKey delegate() {
+    return readPubKey(segment, offset + MarketInformation.DELEGATE_OFFSET);
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(segment, offset + MarketInformation.PRINCIPAL_MINT_OFFSET);
+  }
+
+  public AssetData assetData(final int index) {
+    Objects.checkIndex(index, MarketInformation.ASSET_DATA_LEN);
+    return MemorySegmentUtil.read(segment, offset + MarketInformation.ASSET_DATA_OFFSET + (index * AssetData.BYTESL), AssetData.BYTES, AssetData::read);
+  }
+
+  public PrincipalCaps borrowCaps() {
+    return MemorySegmentUtil.read(segment, offset + MarketInformation.BORROW_CAPS_OFFSET, PrincipalCaps.BYTES, PrincipalCaps::read);
+  }
+
+  public PrincipalCaps withdrawCaps() {
+    return MemorySegmentUtil.read(segment, offset + MarketInformation.WITHDRAW_CAPS_OFFSET, PrincipalCaps.BYTES, PrincipalCaps::read);
+  }
+
+  public PrincipalCaps supplyCaps() {
+    return MemorySegmentUtil.read(segment, offset + MarketInformation.SUPPLY_CAPS_OFFSET, PrincipalCaps.BYTES, PrincipalCaps::read);
+  }
+
+  public int version() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + MarketInformation.VERSION_OFFSET) & 0xFF;
+  }
+}
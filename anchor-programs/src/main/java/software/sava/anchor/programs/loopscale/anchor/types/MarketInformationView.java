@@ -0,0 +1,88 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MarketInformationView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(MarketInformation.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private MarketInformationView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MarketInformationView wrap(final byte[] _data, final int offset) {
+    return new MarketInformationView(_data, offset);
+  }
+
+  public static MarketInformationView wrap(final byte[] _data) {
+    return new MarketInformationView(_data, 0);
+  }
+
+  public MarketInformationView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarketInformationView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarketInformation read(final PublicKey _address) {
+    return MarketInformation.read(_address, _data, offset);
+  }
+
+  public PublicKey authority() {
+    return readPubKey(_data, offset + MarketInformation.AUTHORITY_OFFSET);
+  }
+
+  public PublicKey delegate() {
+    return readPubKey(_data, offset + MarketInformation.DELEGATE_OFFSET);
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(_data, offset + MarketInformation.PRINCIPAL_MINT_OFFSET);
+  }
+
+  public AssetData assetData(final int index) {
+    Objects.checkIndex(index, MarketInformation.ASSET_DATA_LEN);
+    return AssetData.read(_data, offset + MarketInformation.ASSET_DATA_OFFSET + (index * AssetData.BYTES));
+  }
+
+  public PrincipalCaps borrowCaps() {
+    return PrincipalCaps.read(_data, offset + MarketInformation.BORROW_CAPS_OFFSET);
+  }
+
+  public PrincipalCaps withdrawCaps() {
+    return PrincipalCaps.read(_data, offset + MarketInformation.WITHDRAW_CAPS_OFFSET);
+  }
+
+  public PrincipalCaps supplyCaps() {
+    return PrincipalCaps.read(_data, offset + MarketInformation.SUPPLY_CAPS_OFFSET);
+  }
+
+  public int version() {
+    return _data[offset + MarketInformation.VERSION_OFFSET] & 0xFF;
+  }
+}
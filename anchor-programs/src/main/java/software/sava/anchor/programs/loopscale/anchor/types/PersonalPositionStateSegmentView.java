@@ -0,0 +1,121 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class PersonalPositionStateSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PersonalPositionState.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PersonalPositionStateSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PersonalPositionStateSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PersonalPositionStateSegmentView(segment, offset);
+  }
+
+  public static PersonalPositionStateSegmentView wrap(final MemorySegment segment) {
+    return new PersonalPositionStateSegmentView(segment, 0);
+  }
+
+  public PersonalPositionStateSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PersonalPositionStateSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PersonalPositionState read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, PersonalPositionState.BYTES, PersonalPositionState::read);
+  }
+
+  // Bump to identify PDA
+  public byte[] bump() {
+    return copy(segment, offset + PersonalPositionState.BUMP_OFFSET, 1);
+  }
+
+  // Mint address of the tokenized position
+  public PublicKey nftMint() {
+    return readPubKey(segment, offset + PersonalPositionState.NFT_MINT_OFFSET);
+  }
+
+  // The ID of the pool with which this token is connected
+  public PublicKey poolId() {
+    return readPubKey(segment, offset + PersonalPositionState.POOL_ID_OFFSET);
+  }
+
+  // The lower bound tick of the position
+  public int tickLowerIndex() {
+    return getInt32LE(segment, offset + PersonalPositionState.TICK_LOWER_INDEX_OFFSET);
+  }
+
+  // The upper bound tick of the position
+  public int tickUpperIndex() {
+    return getInt32LE(segment, offset + PersonalPositionState.TICK_UPPER_INDEX_OFFSET);
+  }
+
+  // The amount of liquidity owned by this position
+  public BigInteger liquidity() {
+    return getInt128LE(segment, offset + PersonalPositionState.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityHigh() {
+    return getInt128High(segment, offset + PersonalPositionState.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityLow() {
+    return getInt128Low(segment, offset + PersonalPositionState.LIQUIDITY_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_0, as of the last computation
+  public long tokenFeesOwed0() {
+    return getInt64LE(segment, offset + PersonalPositionState.TOKEN_FEES_OWED_0_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_1, as of the last computation
+  public long tokenFeesOwed1() {
+    return getInt64LE(segment, offset + PersonalPositionState.TOKEN_FEES_OWED_1_OFFSET);
+  }
+
+  public RaydiumAmmV3StatesPersonalPositionPositionRewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, PersonalPositionState.REWARD_INFOS_LEN);
+    return MemorySegmentUtil.read(segment, offset + PersonalPositionState.REWARD_INFOS_OFFSET + (index * RaydiumAmmV3StatesPersonalPositionPositionRewardInfo.BYTESL), RaydiumAmmV3StatesPersonalPositionPositionRewardInfo.BYTES, RaydiumAmmV3StatesPersonalPositionPositionRewardInfo::read);
+  }
+
+  public long recentEpoch() {
+    return getInt64LE(segment, offset + PersonalPositionState.RECENT_EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,109 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class PersonalPositionStateView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(PersonalPositionState.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private PersonalPositionStateView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static PersonalPositionStateView wrap(final byte[] _data, final int offset) {
+    return new PersonalPositionStateView(_data, offset);
+  }
+
+  public static PersonalPositionStateView wrap(final byte[] _data) {
+    return new PersonalPositionStateView(_data, 0);
+  }
+
+  public PersonalPositionStateView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public PersonalPositionStateView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PersonalPositionState read(final PublicKey _address) {
+    return PersonalPositionState.read(_address, _data, offset);
+  }
+
+  // Bump to identify PDA
+  public byte[] bump() {
+    final int from = offset + PersonalPositionState.BUMP_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 1);
+  }
+
+  // Mint address of the tokenized position
+  public PublicKey nftMint() {
+    return readPubKey(_data, offset + PersonalPositionState.NFT_MINT_OFFSET);
+  }
+
+  // The ID of the pool with which this token is connected
+  public PublicKey poolId() {
+    return readPubKey(_data, offset + PersonalPositionState.POOL_ID_OFFSET);
+  }
+
+  // The lower bound tick of the position
+  public int tickLowerIndex() {
+    return getInt32LE(_data, offset + PersonalPositionState.TICK_LOWER_INDEX_OFFSET);
+  }
+
+  // The upper bound tick of the position
+  public int tickUpperIndex() {
+    return getInt32LE(_data, offset + PersonalPositionState.TICK_UPPER_INDEX_OFFSET);
+  }
+
+  // The amount of liquidity owned by this position
+  public BigInteger liquidity() {
+    return getInt128LE(_data, offset + PersonalPositionState.LIQUIDITY_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_0, as of the last computation
+  public long tokenFeesOwed0() {
+    return getInt64LE(_data, offset + PersonalPositionState.TOKEN_FEES_OWED_0_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_1, as of the last computation
+  public long tokenFeesOwed1() {
+    return getInt64LE(_data, offset + PersonalPositionState.TOKEN_FEES_OWED_1_OFFSET);
+  }
+
+  public RaydiumAmmV3StatesPersonalPositionPositionRewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, PersonalPositionState.REWARD_INFOS_LEN);
+    return RaydiumAmmV3StatesPersonalPositionPositionRewardInfo.read(_data, offset + PersonalPositionState.REWARD_INFOS_OFFSET + (index * RaydiumAmmV3StatesPersonalPositionPositionRewardInfo.BYTES));
+  }
+
+  public long recentEpoch() {
+    return getInt64LE(_data, offset + PersonalPositionState.RECENT_EPOCH_OFFSET);
+  }
+}
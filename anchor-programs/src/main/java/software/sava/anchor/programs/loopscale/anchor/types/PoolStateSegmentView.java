@@ -0,0 +1,247 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class PoolStateSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PoolState.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PoolStateSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PoolStateSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PoolStateSegmentView(segment, offset);
+  }
+
+  public static PoolStateSegmentView wrap(final MemorySegment segment) {
+    return new PoolStateSegmentView(segment, 0);
+  }
+
+  public PoolStateSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PoolStateSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PoolState read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, PoolState.BYTES, PoolState::read);
+  }
+
+  // Bump to identify PDA
+  public byte[] bump() {
+    return copy(segment, offset + PoolState.BUMP_OFFSET, 1);
+  }
+
+  public PublicKey ammConfig() {
+    return readPubKey(segment, offset + PoolState.AMM_CONFIG_OFFSET);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + PoolState.OWNER_OFFSET);
+  }
+
+  // Token pair of the pool, where token_mint_0 address < token_mint_1 address
+  public PublicKey tokenMint0() {
+    return readPubKey(segment, offset + PoolState.TOKEN_MINT_0_OFFSET);
+  }
+
+  public PublicKey tokenMint1() {
+    return readPubKey(segment, offset + PoolState.TOKEN_MINT_1_OFFSET);
+  }
+
+  // Token pair vault
+  public PublicKey tokenVault0() {
+    return readPubKey(segment, offset + PoolState.TOKEN_VAULT_0_OFFSET);
+  }
+
+  public PublicKey tokenVault1() {
+    return readPubKey(segment, offset + PoolState.TOKEN_VAULT_1_OFFSET);
+  }
+
+  // observation account key
+  public PublicKey observationKey() {
+    return readPubKey(segment, offset + PoolState.OBSERVATION_KEY_OFFSET);
+  }
+
+  // mint0 and mint1 decimals
+  public int mintDecimals0() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.MINT_DECIMALS_0_OFFSET) & 0xFF;
+  }
+
+  public int mintDecimals1() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.MINT_DECIMALS_1_OFFSET) & 0xFF;
+  }
+
+  // The minimum number of ticks between initialized ticks
+  public int tickSpacing() {
+    return getInt16LE(segment, offset + PoolState.TICK_SPACING_OFFSET);
+  }
+
+  // The currently in range liquidity available to the pool.
+  public BigInteger liquidity() {
+    return getInt128LE(segment, offset + PoolState.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityHigh() {
+    return getInt128High(segment, offset + PoolState.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityLow() {
+    return getInt128Low(segment, offset + PoolState.LIQUIDITY_OFFSET);
+  }
+
+  // The current tick of the pool, i.e. according to the last tick transition that was run.
+  public int tickCurrent() {
+    return getInt32LE(segment, offset + PoolState.TICK_CURRENT_OFFSET);
+  }
+
+  // The amounts of token_0 and token_1 that are owed to the protocol.
+  public long protocolFeesToken0() {
+    return getInt64LE(segment, offset + PoolState.PROTOCOL_FEES_TOKEN_0_OFFSET);
+  }
+
+  public long protocolFeesToken1() {
+    return getInt64LE(segment, offset + PoolState.PROTOCOL_FEES_TOKEN_1_OFFSET);
+  }
+
+  // The amounts in and out of swap token_0 and token_1
+  public BigInteger swapInAmountToken0() {
+    return getInt128LE(segment, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  public long swapInAmountToken0High() {
+    return getInt128High(segment, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  public long swapInAmountToken0Low() {
+    return getInt128Low(segment, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  public BigInteger swapOutAmountToken1() {
+    return getInt128LE(segment, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public long swapOutAmountToken1High() {
+    return getInt128High(segment, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public long swapOutAmountToken1Low() {
+    return getInt128Low(segment, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public BigInteger swapInAmountToken1() {
+    return getInt128LE(segment, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public long swapInAmountToken1High() {
+    return getInt128High(segment, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public long swapInAmountToken1Low() {
+    return getInt128Low(segment, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public BigInteger swapOutAmountToken0() {
+    return getInt128LE(segment, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  public long swapOutAmountToken0High() {
+    return getInt128High(segment, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  public long swapOutAmountToken0Low() {
+    return getInt128Low(segment, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  // Bitwise representation of the state of the pool
+  // bit0, 1: disable open position and increase liquidity, 0: normal
+  // bit1, 1: disable decrease liquidity, 0: normal
+  // bit2, 1: disable collect fee, 0: normal
+  // bit3, 1: disable collect reward, 0: normal
+  // bit4, 1: disable swap, 0: normal
+  public int status() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.STATUS_OFFSET) & 0xFF;
+  }
+
+  public RewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, PoolState.REWARD_INFOS_LEN);
+    return MemorySegmentUtil.read(segment, offset + PoolState.REWARD_INFOS_OFFSET + (index * RewardInfo.BYTESL), RewardInfo.BYTES, RewardInfo::read);
+  }
+
+  // Packed initialized tick array state
+  public long tickArrayBitmap(final int index) {
+    Objects.checkIndex(index, PoolState.TICK_ARRAY_BITMAP_LEN);
+    return getInt64LE(segment, offset + PoolState.TICK_ARRAY_BITMAP_OFFSET + (index * 8L));
+  }
+
+  // except protocol_fee and fund_fee
+  public long totalFeesToken0() {
+    return getInt64LE(segment, offset + PoolState.TOTAL_FEES_TOKEN_0_OFFSET);
+  }
+
+  // except protocol_fee and fund_fee
+  public long totalFeesClaimedToken0() {
+    return getInt64LE(segment, offset + PoolState.TOTAL_FEES_CLAIMED_TOKEN_0_OFFSET);
+  }
+
+  public long totalFeesToken1() {
+    return getInt64LE(segment, offset + PoolState.TOTAL_FEES_TOKEN_1_OFFSET);
+  }
+
+  public long totalFeesClaimedToken1() {
+    return getInt64LE(segment, offset + PoolState.TOTAL_FEES_CLAIMED_TOKEN_1_OFFSET);
+  }
+
+  public long fundFeesToken0() {
+    return getInt64LE(segment, offset + PoolState.FUND_FEES_TOKEN_0_OFFSET);
+  }
+
+  public long fundFeesToken1() {
+    return getInt64LE(segment, offset + PoolState.FUND_FEES_TOKEN_1_OFFSET);
+  }
+
+  public long openTime() {
+    return getInt64LE(segment, offset + PoolState.OPEN_TIME_OFFSET);
+  }
+
+  public long recentEpoch() {
+    return getInt64LE(segment, offset + PoolState.RECENT_EPOCH_OFFSET);
+  }
+}
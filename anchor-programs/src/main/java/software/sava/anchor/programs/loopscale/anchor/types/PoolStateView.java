@@ -0,0 +1,202 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class PoolStateView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(PoolState.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private PoolStateView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static PoolStateView wrap(final byte[] _data, final int offset) {
+    return new PoolStateView(_data, offset);
+  }
+
+  public static PoolStateView wrap(final byte[] _data) {
+    return new PoolStateView(_data, 0);
+  }
+
+  public PoolStateView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public PoolStateView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PoolState read(final PublicKey _address) {
+    return PoolState.read(_address, _data, offset);
+  }
+
+  // Bump to identify PDA
+  public byte[] bump() {
+    final int from = offset + PoolState.BUMP_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 1);
+  }
+
+  public PublicKey ammConfig() {
+    return readPubKey(_data, offset + PoolState.AMM_CONFIG_OFFSET);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + PoolState.OWNER_OFFSET);
+  }
+
+  // Token pair of the pool, where token_mint_0 address < token_mint_1 address
+  public PublicKey tokenMint0() {
+    return readPubKey(_data, offset + PoolState.TOKEN_MINT_0_OFFSET);
+  }
+
+  public PublicKey tokenMint1() {
+    return readPubKey(_data, offset + PoolState.TOKEN_MINT_1_OFFSET);
+  }
+
+  // Token pair vault
+  public PublicKey tokenVault0() {
+    return readPubKey(_data, offset + PoolState.TOKEN_VAULT_0_OFFSET);
+  }
+
+  public PublicKey tokenVault1() {
+    return readPubKey(_data, offset + PoolState.TOKEN_VAULT_1_OFFSET);
+  }
+
+  // observation account key
+  public PublicKey observationKey() {
+    return readPubKey(_data, offset + PoolState.OBSERVATION_KEY_OFFSET);
+  }
+
+  // mint0 and mint1 decimals
+  public int mintDecimals0() {
+    return _data[offset + PoolState.MINT_DECIMALS_0_OFFSET] & 0xFF;
+  }
+
+  public int mintDecimals1() {
+    return _data[offset + PoolState.MINT_DECIMALS_1_OFFSET] & 0xFF;
+  }
+
+  // The minimum number of ticks between initialized ticks
+  public int tickSpacing() {
+    return getInt16LE(_data, offset + PoolState.TICK_SPACING_OFFSET);
+  }
+
+  // The currently in range liquidity available to the pool.
+  public BigInteger liquidity() {
+    return getInt128LE(_data, offset + PoolState.LIQUIDITY_OFFSET);
+  }
+
+  // The current tick of the pool, i.e. according to the last tick transition that was run.
+  public int tickCurrent() {
+    return getInt32LE(_data, offset + PoolState.TICK_CURRENT_OFFSET);
+  }
+
+  // The amounts of token_0 and token_1 that are owed to the protocol.
+  public long protocolFeesToken0() {
+    return getInt64LE(_data, offset + PoolState.PROTOCOL_FEES_TOKEN_0_OFFSET);
+  }
+
+  public long protocolFeesToken1() {
+    return getInt64LE(_data, offset + PoolState.PROTOCOL_FEES_TOKEN_1_OFFSET);
+  }
+
+  // The amounts in and out of swap token_0 and token_1
+  public BigInteger swapInAmountToken0() {
+    return getInt128LE(_data, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  public BigInteger swapOutAmountToken1() {
+    return getInt128LE(_data, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public BigInteger swapInAmountToken1() {
+    return getInt128LE(_data, offset + PoolState.SWAP_IN_AMOUNT_TOKEN_1_OFFSET);
+  }
+
+  public BigInteger swapOutAmountToken0() {
+    return getInt128LE(_data, offset + PoolState.SWAP_OUT_AMOUNT_TOKEN_0_OFFSET);
+  }
+
+  // Bitwise representation of the state of the pool
+  // bit0, 1: disable open position and increase liquidity, 0: normal
+  // bit1, 1: disable decrease liquidity, 0: normal
+  // bit2, 1: disable collect fee, 0: normal
+  // bit3, 1: disable collect reward, 0: normal
+  // bit4, 1: disable swap, 0: normal
+  public int status() {
+    return _data[offset + PoolState.STATUS_OFFSET] & 0xFF;
+  }
+
+  public RewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, PoolState.REWARD_INFOS_LEN);
+    return RewardInfo.read(_data, offset + PoolState.REWARD_INFOS_OFFSET + (index * RewardInfo.BYTES));
+  }
+
+  // Packed initialized tick array state
+  public long tickArrayBitmap(final int index) {
+    Objects.checkIndex(index, PoolState.TICK_ARRAY_BITMAP_LEN);
+    return getInt64LE(_data, offset + PoolState.TICK_ARRAY_BITMAP_OFFSET + (index * 8));
+  }
+
+  // except protocol_fee and fund_fee
+  public long totalFeesToken0() {
+    return getInt64LE(_data, offset + PoolState.TOTAL_FEES_TOKEN_0_OFFSET);
+  }
+
+  // except protocol_fee and fund_fee
+  public long totalFeesClaimedToken0() {
+    return getInt64LE(_data, offset + PoolState.TOTAL_FEES_CLAIMED_TOKEN_0_OFFSET);
+  }
+
+  public long totalFeesToken1() {
+    return getInt64LE(_data, offset + PoolState.TOTAL_FEES_TOKEN_1_OFFSET);
+  }
+
+  public long totalFeesClaimedToken1() {
+    return getInt64LE(_data, offset + PoolState.TOTAL_FEES_CLAIMED_TOKEN_1_OFFSET);
+  }
+
+  public long fundFeesToken0() {
+    return getInt64LE(_data, offset + PoolState.FUND_FEES_TOKEN_0_OFFSET);
+  }
+
+  public long fundFeesToken1() {
+    return getInt64LE(_data, offset + PoolState.FUND_FEES_TOKEN_1_OFFSET);
+  }
+
+  public long openTime() {
+    return getInt64LE(_data, offset + PoolState.OPEN_TIME_OFFSET);
+  }
+
+  public long recentEpoch() {
+    return getInt64LE(_data, offset + PoolState.RECENT_EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,128 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class PositionSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Position.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PositionSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PositionSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PositionSegmentView(segment, offset);
+  }
+
+  public static PositionSegmentView wrap(final MemorySegment segment) {
+    return new PositionSegmentView(segment, 0);
+  }
+
+  public PositionSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PositionSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Position read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Position.BYTES, Position::read);
+  }
+
+  public PublicKey whirlpool() {
+    return readPubKey(segment, offset + Position.WHIRLPOOL_OFFSET);
+  }
+
+  public PublicKey positionMint() {
+    return readPubKey(segment, offset + Position.POSITION_MINT_OFFSET);
+  }
+
+  public BigInteger liquidity() {
+    return getInt128LE(segment, offset + Position.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityHigh() {
+    return getInt128High(segment, offset + Position.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityLow() {
+    return getInt128Low(segment, offset + Position.LIQUIDITY_OFFSET);
+  }
+
+  public int tickLowerIndex() {
+    return getInt32LE(segment, offset + Position.TICK_LOWER_INDEX_OFFSET);
+  }
+
+  public int tickUpperIndex() {
+    return getInt32LE(segment, offset + Position.TICK_UPPER_INDEX_OFFSET);
+  }
+
+  public BigInteger feeGrowthCheckpointA() {
+    return getInt128LE(segment, offset + Position.FEE_GROWTH_CHECKPOINT_A_OFFSET);
+  }
+
+  public long feeGrowthCheckpointAHigh() {
+    return getInt128High(segment, offset + Position.FEE_GROWTH_CHECKPOINT_A_OFFSET);
+  }
+
+  public long feeGrowthCheckpointALow() {
+    return getInt128Low(segment, offset + Position.FEE_GROWTH_CHECKPOINT_A_OFFSET);
+  }
+
+  public long feeOwedA() {
+    return getInt64LE(segment, offset + Position.FEE_OWED_A_OFFSET);
+  }
+
+  public BigInteger feeGrowthCheckpointB() {
+    return getInt128LE(segment, offset + Position.FEE_GROWTH_CHECKPOINT_B_OFFSET);
+  }
+
+  public long feeGrowthCheckpointBHigh() {
+    return getInt128High(segment, offset + Position.FEE_GROWTH_CHECKPOINT_B_OFFSET);
+  }
+
+  public long feeGrowthCheckpointBLow() {
+    return getInt128Low(segment, offset + Position.FEE_GROWTH_CHECKPOINT_B_OFFSET);
+  }
+
+  public long feeOwedB() {
+    return getInt64LE(segment, offset + Position.FEE_OWED_B_OFFSET);
+  }
+
+  public WhirlpoolStatePositionPositionRewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, Position.REWARD_INFOS_LEN);
+    return MemorySegmentUtil.read(segment, offset + Position.REWARD_INFOS_OFFSET + (index * WhirlpoolStatePositionPositionRewardInfo.BYTESL), WhirlpoolStatePositionPositionRewardInfo.BYTES, WhirlpoolStatePositionPositionRewardInfo::read);
+  }
+}
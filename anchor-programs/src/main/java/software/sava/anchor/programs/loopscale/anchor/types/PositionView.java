@@ -0,0 +1,99 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class PositionView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Position.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private PositionView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static PositionView wrap(final byte[] _data, final int offset) {
+    return new PositionView(_data, offset);
+  }
+
+  public static PositionView wrap(final byte[] _data) {
+    return new PositionView(_data, 0);
+  }
+
+  public PositionView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public PositionView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Position read(final PublicKey _address) {
+    return Position.read(_address, _data, offset);
+  }
+
+  public PublicKey whirlpool() {
+    return readPubKey(_data, offset + Position.WHIRLPOOL_OFFSET);
+  }
+
+  public PublicKey positionMint() {
+    return readPubKey(_data, offset + Position.POSITION_MINT_OFFSET);
+  }
+
+  public BigInteger liquidity() {
+    return getInt128LE(_data, offset + Position.LIQUIDITY_OFFSET);
+  }
+
+  public int tickLowerIndex() {
+    return getInt32LE(_data, offset + Position.TICK_LOWER_INDEX_OFFSET);
+  }
+
+  public int tickUpperIndex() {
+    return getInt32LE(_data, offset + Position.TICK_UPPER_INDEX_OFFSET);
+  }
+
+  public BigInteger feeGrowthCheckpointA() {
+    return getInt128LE(_data, offset + Position.FEE_GROWTH_CHECKPOINT_A_OFFSET);
+  }
+
+  public long feeOwedA() {
+    return getInt64LE(_data, offset + Position.FEE_OWED_A_OFFSET);
+  }
+
+  public BigInteger feeGrowthCheckpointB() {
+    return getInt128LE(_data, offset + Position.FEE_GROWTH_CHECKPOINT_B_OFFSET);
+  }
+
+  public long feeOwedB() {
+    return getInt64LE(_data, offset + Position.FEE_OWED_B_OFFSET);
+  }
+
+  public WhirlpoolStatePositionPositionRewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, Position.REWARD_INFOS_LEN);
+    return WhirlpoolStatePositionPositionRewardInfo.read(_data, offset + Position.REWARD_INFOS_OFFSET + (index * WhirlpoolStatePositionPositionRewardInfo.BYTES));
+  }
+}
@@ -0,0 +1,127 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ProtocolPositionStateSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ProtocolPositionState.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ProtocolPositionStateSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ProtocolPositionStateSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ProtocolPositionStateSegmentView(segment, offset);
+  }
+
+  public static ProtocolPositionStateSegmentView wrap(final MemorySegment segment) {
+    return new ProtocolPositionStateSegmentView(segment, 0);
+  }
+
+  public ProtocolPositionStateSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProtocolPositionStateSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ProtocolPositionState read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, ProtocolPositionState.BYTES, ProtocolPositionState::read);
+  }
+
+  // Bump to identify PDA
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ProtocolPositionState.BUMP_OFFSET) & 0xFF;
+  }
+
+  // The ID of the pool with which this token is connected
+  public PublicKey poolId() {
+    return readPubKey(segment, offset + ProtocolPositionState.POOL_ID_OFFSET);
+  }
+
+  // The lower bound tick of the position
+  public int tickLowerIndex() {
+    return getInt32LE(segment, offset + ProtocolPositionState.TICK_LOWER_INDEX_OFFSET);
+  }
+
+  // The upper bound tick of the position
+  public int tickUpperIndex() {
+    return getInt32LE(segment, offset + ProtocolPositionState.TICK_UPPER_INDEX_OFFSET);
+  }
+
+  // The amount of liquidity owned by this position
+  public BigInteger liquidity() {
+    return getInt128LE(segment, offset + ProtocolPositionState.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityHigh() {
+    return getInt128High(segment, offset + ProtocolPositionState.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityLow() {
+    return getInt128Low(segment, offset + ProtocolPositionState.LIQUIDITY_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_0
+  public long tokenFeesOwed0() {
+    return getInt64LE(segment, offset + ProtocolPositionState.TOKEN_FEES_OWED_0_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_1
+  public long tokenFeesOwed1() {
+    return getInt64LE(segment, offset + ProtocolPositionState.TOKEN_FEES_OWED_1_OFFSET);
+  }
+
+  // The reward growth per unit of liquidity as of the last update to liquidity
+  public BigInteger rewardGrowthInside(final int index) {
+    Objects.checkIndex(index, ProtocolPositionState.REWARD_GROWTH_INSIDE_LEN);
+    return getInt128LE(segment, offset + ProtocolPositionState.REWARD_GROWTH_INSIDE_OFFSET + (index * 16L));
+  }
+
+  public long rewardGrowthInsideHigh(final int index) {
+    Objects.checkIndex(index, ProtocolPositionState.REWARD_GROWTH_INSIDE_LEN);
+    return getInt128High(segment, offset + ProtocolPositionState.REWARD_GROWTH_INSIDE_OFFSET + (index * 16L));
+  }
+
+  public long rewardGrowthInsideLow(final int index) {
+    Objects.checkIndex(index, ProtocolPositionState.REWARD_GROWTH_INSIDE_LEN);
+    return getInt128Low(segment, offset + ProtocolPositionState.REWARD_GROWTH_INSIDE_OFFSET + (index * 16L));
+  }
+
+  public long recentEpoch() {
+    return getInt64LE(segment, offset + ProtocolPositionState.RECENT_EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,103 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class ProtocolPositionStateView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(ProtocolPositionState.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private ProtocolPositionStateView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ProtocolPositionStateView wrap(final byte[] _data, final int offset) {
+    return new ProtocolPositionStateView(_data, offset);
+  }
+
+  public static ProtocolPositionStateView wrap(final byte[] _data) {
+    return new ProtocolPositionStateView(_data, 0);
+  }
+
+  public ProtocolPositionStateView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProtocolPositionStateView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ProtocolPositionState read(final PublicKey _address) {
+    return ProtocolPositionState.read(_address, _data, offset);
+  }
+
+  // Bump to identify PDA
+  public int bump() {
+    return _data[offset + ProtocolPositionState.BUMP_OFFSET] & 0xFF;
+  }
+
+  // The ID of the pool with which this token is connected
+  public PublicKey poolId() {
+    return readPubKey(_data, offset + ProtocolPositionState.POOL_ID_OFFSET);
+  }
+
+  // The lower bound tick of the position
+  public int tickLowerIndex() {
+    return getInt32LE(_data, offset + ProtocolPositionState.TICK_LOWER_INDEX_OFFSET);
+  }
+
+  // The upper bound tick of the position
+  public int tickUpperIndex() {
+    return getInt32LE(_data, offset + ProtocolPositionState.TICK_UPPER_INDEX_OFFSET);
+  }
+
+  // The amount of liquidity owned by this position
+  public BigInteger liquidity() {
+    return getInt128LE(_data, offset + ProtocolPositionState.LIQUIDITY_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_0
+  public long tokenFeesOwed0() {
+    return getInt64LE(_data, offset + ProtocolPositionState.TOKEN_FEES_OWED_0_OFFSET);
+  }
+
+  // The fees owed to the position owner in token_1
+  public long tokenFeesOwed1() {
+    return getInt64LE(_data, offset + ProtocolPositionState.TOKEN_FEES_OWED_1_OFFSET);
+  }
+
+  // The reward growth per unit of liquidity as of the last update to liquidity
+  public BigInteger rewardGrowthInside(final int index) {
+    Objects.checkIndex(index, ProtocolPositionState.REWARD_GROWTH_INSIDE_LEN);
+    return getInt128LE(_data, offset + ProtocolPositionState.REWARD_GROWTH_INSIDE_OFFSET + (index * 16));
+  }
+
+  public long recentEpoch() {
+    return getInt64LE(_data, offset + ProtocolPositionState.RECENT_EPOCH_OFFSET);
+  }
+}
@@ -0,0 +1,82 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class RewardsClaimedEventSegmentView {
+
+  private static final int VAULT_ADDRESS_OFFSET = 0;
+  private static final int USER_ADDRESS_OFFSET = VAULT_ADDRESS_OFFSET + 32;
+  private static final int STAKE_ACCOUNT_ADDRESS_OFFSET = USER_ADDRESS_OFFSET + 32;
+  private static final int AMOUNT_OFFSET = STAKE_ACCOUNT_ADDRESS_OFFSET + 32;
+  private static final int MINT_OFFSET = AMOUNT_OFFSET + 8;
+  private static final int TIMESTAMP_OFFSET = MINT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RewardsClaimedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RewardsClaimedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RewardsClaimedEventSegmentView(segment, offset);
+  }
+
+  public static RewardsClaimedEventSegmentView wrap(final MemorySegment segment) {
+    return new RewardsClaimedEventSegmentView(segment, 0);
+  }
+
+  public RewardsClaimedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RewardsClaimedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public RewardsClaimedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, RewardsClaimedEvent.BYTES, RewardsClaimedEvent::read);
+  }
+
+  public PublicKey vaultAddress() {
+    return readPubKey(segment, offset + VAULT_ADDRESS_OFFSET);
+  }
+
+  public PublicKey userAddress() {
+    return readPubKey(segment, offset + USER_ADDRESS_OFFSET);
+  }
+
+  public PublicKey stakeAccountAddress() {
+    return readPubKey(segment, offset + STAKE_ACCOUNT_ADDRESS_OFFSET);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(segment, offset + MINT_OFFSET);
+  }
+
+  public long timestamp() {
+    return getInt64LE(segment, offset + TIMESTAMP_OFFSET);
+  }
+}
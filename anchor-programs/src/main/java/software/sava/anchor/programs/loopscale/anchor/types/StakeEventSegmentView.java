@@ -0,0 +1,93 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class StakeEventSegmentView {
+
+  private static final int USER_OFFSET = 0;
+  private static final int ADDRESS_OFFSET = USER_OFFSET + 32;
+  private static final int VAULT_ADDRESS_OFFSET = ADDRESS_OFFSET + 32;
+  private static final int PRINCIPAL_MINT_OFFSET = VAULT_ADDRESS_OFFSET + 32;
+  private static final int DURATION_TYPE_OFFSET = PRINCIPAL_MINT_OFFSET + 32;
+  private static final int AMOUNT_OFFSET = DURATION_TYPE_OFFSET + 1;
+  private static final int ACTION_TYPE_OFFSET = AMOUNT_OFFSET + 8;
+  private static final int PRINCIPAL_AMOUNT_OFFSET = ACTION_TYPE_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private StakeEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static StakeEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new StakeEventSegmentView(segment, offset);
+  }
+
+  public static StakeEventSegmentView wrap(final MemorySegment segment) {
+    return new StakeEventSegmentView(segment, 0);
+  }
+
+  public StakeEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public StakeEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public StakeEvent read() {
+    return MemorySegmentUtil.read(segment, offset, StakeEvent.BYTES, StakeEvent::read);
+  }
+
+  public PublicKey user() {
+    return readPubKey(segment, offset + USER_OFFSET);
+  }
+
+  public PublicKey address() {
+    return readPubKey(segment, offset + ADDRESS_OFFSET);
+  }
+
+  public PublicKey vaultAddress() {
+    return readPubKey(segment, offset + VAULT_ADDRESS_OFFSET);
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(segment, offset + PRINCIPAL_MINT_OFFSET);
+  }
+
+  public int durationType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + DURATION_TYPE_OFFSET) & 0xFF;
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+
+  public int actionType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ACTION_TYPE_OFFSET) & 0xFF;
+  }
+
+  public long principalAmount() {
+    return getInt64LE(segment, offset + PRINCIPAL_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,181 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class StrategySegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Strategy.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private StrategySegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static StrategySegmentView wrap(final MemorySegment segment, final long offset) {
+    return new StrategySegmentView(segment, offset);
+  }
+
+  public static StrategySegmentView wrap(final MemorySegment segment) {
+    return new StrategySegmentView(segment, 0);
+  }
+
+  public StrategySegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public StrategySegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Strategy read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Strategy.BYTES, Strategy::read);
+  }
+
+  public int version() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Strategy.VERSION_OFFSET) & 0xFF;
+  }
+
+  public PublicKey nonce() {
+    return readPubKey(segment, offset + Strategy.NONCE_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Strategy.BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(segment, offset + Strategy.PRINCIPAL_MINT_OFFSET);
+  }
+
+  public PublicKey lender() {
+    return readPubKey(segment, offset + Strategy.LENDER_OFFSET);
+  }
+
+  public PodBool originationsEnabled() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.ORIGINATIONS_ENABLED_OFFSET, PodBool.BYTES, PodBool::read);
+  }
+
+  public int externalYieldSource() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Strategy.EXTERNAL_YIELD_SOURCE_OFFSET) & 0xFF;
+  }
+
+  public PodDecimal interestPerSecond() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.INTEREST_PER_SECOND_OFFSET, PodDecimal.BYTES, PodDecimal::read);
+  }
+
+  // timestamp interest per second's interest was last accrued
+  public PodU64 lastAccruedTimestamp() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.LAST_ACCRUED_TIMESTAMP_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  // the is the amount of liquidity % that always needs to be in the strategy
+  public PodU64CBPS liquidityBuffer() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.LIQUIDITY_BUFFER_OFFSET, PodU64CBPS.BYTES, PodU64CBPS::read);
+  }
+
+  // amount of principal in the strategy
+  public PodU64 tokenBalance() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.TOKEN_BALANCE_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  // this is the fee charged by and accrued to the manager on the interest accrued via external yield and loans
+  public PodU64CBPS interestFee() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.INTEREST_FEE_OFFSET, PodU64CBPS.BYTES, PodU64CBPS::read);
+  }
+
+  // this is the fee charged by and accrued to the manager on the origination fee
+  public PodU64CBPS principalFee() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.PRINCIPAL_FEE_OFFSET, PodU64CBPS.BYTES, PodU64CBPS::read);
+  }
+
+  // fee charged on origination of new loans
+  public PodU64CBPS originationFee() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.ORIGINATION_FEE_OFFSET, PodU64CBPS.BYTES, PodU64CBPS::read);
+  }
+
+  // the maximum size of a loan that can be originated
+  public PodU64 originationCap() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.ORIGINATION_CAP_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  // this is the amount of principal currently in external yield. has to always be updated on any new nav action
+  public PodU64 externalYieldAmount() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.EXTERNAL_YIELD_AMOUNT_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  // this is the amount of principal currently deployed in loans
+  public PodU64 currentDeployedAmount() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.CURRENT_DEPLOYED_AMOUNT_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  // this is the interest that has not been repaid yet but accrued
+  public PodU64 outstandingInterestAmount() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.OUTSTANDING_INTEREST_AMOUNT_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  // this is the amount that has accrued to the manager
+  public PodU64 feeClaimable() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.FEE_CLAIMABLE_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PodU128 cumulativePrincipalOriginated() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.CUMULATIVE_PRINCIPAL_ORIGINATED_OFFSET, PodU128.BYTES, PodU128::read);
+  }
+
+  public PodU128 cumulativeInterestAccrued() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.CUMULATIVE_INTEREST_ACCRUED_OFFSET, PodU128.BYTES, PodU128::read);
+  }
+
+  public PodU64 cumulativeLoanCount() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.CUMULATIVE_LOAN_COUNT_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PodU64 activeLoanCount() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.ACTIVE_LOAN_COUNT_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PublicKey marketInformation() {
+    return readPubKey(segment, offset + Strategy.MARKET_INFORMATION_OFFSET);
+  }
+
+  public ExternalYieldAccounts externalYieldAccounts() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.EXTERNAL_YIELD_ACCOUNTS_OFFSET, ExternalYieldAccounts.BYTES, ExternalYieldAccounts::read);
+  }
+
+  public CapMonitor supplyMonitor() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.SUPPLY_MONITOR_OFFSET, CapMonitor.BYTES, CapMonitor::read);
+  }
+
+  public CapMonitor withdrawMonitor() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.WITHDRAW_MONITOR_OFFSET, CapMonitor.BYTES, CapMonitor::read);
+  }
+
+  public CapMonitor borrowMonitor() {
+    return MemorySegmentUtil.read(segment, offset + Strategy.BORROW_MONITOR_OFFSET, CapMonitor.BYTES, CapMonitor::read);
+  }
+}
@@ -0,0 +1,176 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class StrategyView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Strategy.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private StrategyView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static StrategyView wrap(final byte[] _data, final int offset) {
+    return new StrategyView(_data, offset);
+  }
+
+  public static StrategyView wrap(final byte[] _data) {
+    return new StrategyView(_data, 0);
+  }
+
+  public StrategyView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public StrategyView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Strategy read(final PublicKey _address) {
+    return Strategy.read(_address, _data, offset);
+  }
+
+  public int version() {
+    return _data[offset + Strategy.VERSION_OFFSET] & 0xFF;
+  }
+
+  public PublicKey nonce() {
+    return readPubKey(_data, offset + Strategy.NONCE_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + Strategy.BUMP_OFFSET] & 0xFF;
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(_data, offset + Strategy.PRINCIPAL_MINT_OFFSET);
+  }
+
+  public PublicKey lender() {
+    return readPubKey(_data, offset + Strategy.LENDER_OFFSET);
+  }
+
+  public PodBool originationsEnabled() {
+    return PodBool.read(_data, offset + Strategy.ORIGINATIONS_ENABLED_OFFSET);
+  }
+
+  public int externalYieldSource() {
+    return _data[offset + Strategy.EXTERNAL_YIELD_SOURCE_OFFSET] & 0xFF;
+  }
+
+  public PodDecimal interestPerSecond() {
+    return PodDecimal.read(_data, offset + Strategy.INTEREST_PER_SECOND_OFFSET);
+  }
+
+  // timestamp interest per second's interest was last accrued
+  public PodU64 lastAccruedTimestamp() {
+    return PodU64.read(_data, offset + Strategy.LAST_ACCRUED_TIMESTAMP_OFFSET);
+  }
+
+  // the is the amount of liquidity % that always needs to be in the strategy
+  public PodU64CBPS liquidityBuffer() {
+    return PodU64CBPS.read(_data, offset + Strategy.LIQUIDITY_BUFFER_OFFSET);
+  }
+
+  // amount of principal in the strategy
+  public PodU64 tokenBalance() {
+    return PodU64.read(_data, offset + Strategy.TOKEN_BALANCE_OFFSET);
+  }
+
+  // this is the fee charged by and accrued to the manager on the interest accrued via external yield and loans
+  public PodU64CBPS interestFee() {
+    return PodU64CBPS.read(_data, offset + Strategy.INTEREST_FEE_OFFSET);
+  }
+
+  // this is the fee charged by and accrued to the manager on the origination fee
+  public PodU64CBPS principalFee() {
+    return PodU64CBPS.read(_data, offset + Strategy.PRINCIPAL_FEE_OFFSET);
+  }
+
+  // fee charged on origination of new loans
+  public PodU64CBPS originationFee() {
+    return PodU64CBPS.read(_data, offset + Strategy.ORIGINATION_FEE_OFFSET);
+  }
+
+  // the maximum size of a loan that can be originated
+  public PodU64 originationCap() {
+    return PodU64.read(_data, offset + Strategy.ORIGINATION_CAP_OFFSET);
+  }
+
+  // this is the amount of principal currently in external yield. has to always be updated on any new nav action
+  public PodU64 externalYieldAmount() {
+    return PodU64.read(_data, offset + Strategy.EXTERNAL_YIELD_AMOUNT_OFFSET);
+  }
+
+  // this is the amount of principal currently deployed in loans
+  public PodU64 currentDeployedAmount() {
+    return PodU64.read(_data, offset + Strategy.CURRENT_DEPLOYED_AMOUNT_OFFSET);
+  }
+
+  // this is the interest that has not been repaid yet but accrued
+  public PodU64 outstandingInterestAmount() {
+    return PodU64.read(_data, offset + Strategy.OUTSTANDING_INTEREST_AMOUNT_OFFSET);
+  }
+
+  // this is the amount that has accrued to the manager
+  public PodU64 feeClaimable() {
+    return PodU64.read(_data, offset + Strategy.FEE_CLAIMABLE_OFFSET);
+  }
+
+  public PodU128 cumulativePrincipalOriginated() {
+    return PodU128.read(_data, offset + Strategy.CUMULATIVE_PRINCIPAL_ORIGINATED_OFFSET);
+  }
+
+  public PodU128 cumulativeInterestAccrued() {
+    return PodU128.read(_data, offset + Strategy.CUMULATIVE_INTEREST_ACCRUED_OFFSET);
+  }
+
+  public PodU64 cumulativeLoanCount() {
+    return PodU64.read(_data, offset + Strategy.CUMULATIVE_LOAN_COUNT_OFFSET);
+  }
+
+  public PodU64 activeLoanCount() {
+    return PodU64.read(_data, offset + Strategy.ACTIVE_LOAN_COUNT_OFFSET);
+  }
+
+  public PublicKey marketInformation() {
+    return readPubKey(_data, offset + Strategy.MARKET_INFORMATION_OFFSET);
+  }
+
+  public ExternalYieldAccounts externalYieldAccounts() {
+    return ExternalYieldAccounts.read(_data, offset + Strategy.EXTERNAL_YIELD_ACCOUNTS_OFFSET);
+  }
+
+  public CapMonitor supplyMonitor() {
+    return CapMonitor.read(_data, offset + Strategy.SUPPLY_MONITOR_OFFSET);
+  }
+
+  public CapMonitor withdrawMonitor() {
+    return CapMonitor.read(_data, offset + Strategy.WITHDRAW_MONITOR_OFFSET);
+  }
+
+  public CapMonitor borrowMonitor() {
+    return CapMonitor.read(_data, offset + Strategy.BORROW_MONITOR_OFFSET);
+  }
+}
@@ -0,0 +1,64 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class TimelockSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Timelock.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TimelockSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TimelockSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TimelockSegmentView(segment, offset);
+  }
+
+  public static TimelockSegmentView wrap(final MemorySegment segment) {
+    return new TimelockSegmentView(segment, 0);
+  }
+
+  public TimelockSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TimelockSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PublicKey vault() {
+    return readPubKey(segment, offset + Timelock.VAULT_OFFSET);
+  }
+
+  public long initTimestamp() {
+    return getInt64LE(segment, offset + Timelock.INIT_TIMESTAMP_OFFSET);
+  }
+
+  public long executionDelay() {
+    return getInt64LE(segment, offset + Timelock.EXECUTION_DELAY_OFFSET);
+  }
+}
@@ -0,0 +1,69 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class TimelockView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Timelock.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private TimelockView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static TimelockView wrap(final byte[] _data, final int offset) {
+    return new TimelockView(_data, offset);
+  }
+
+  public static TimelockView wrap(final byte[] _data) {
+    return new TimelockView(_data, 0);
+  }
+
+  public TimelockView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public TimelockView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Timelock read(final PublicKey _address) {
+    return Timelock.read(_address, _data, offset);
+  }
+
+  public PublicKey vault() {
+    return readPubKey(_data, offset + Timelock.VAULT_OFFSET);
+  }
+
+  public long initTimestamp() {
+    return getInt64LE(_data, offset + Timelock.INIT_TIMESTAMP_OFFSET);
+  }
+
+  public long executionDelay() {
+    return getInt64LE(_data, offset + Timelock.EXECUTION_DELAY_OFFSET);
+  }
+
+  public TimelockUpdateParams params() {
+    return TimelockUpdateParams.read(_data, offset + Timelock.PARAMS_OFFSET);
+  }
+}
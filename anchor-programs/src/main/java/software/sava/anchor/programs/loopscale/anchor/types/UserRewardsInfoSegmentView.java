@@ -0,0 +1,102 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class UserRewardsInfoSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(UserRewardsInfo.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UserRewardsInfoSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UserRewardsInfoSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UserRewardsInfoSegmentView(segment, offset);
+  }
+
+  public static UserRewardsInfoSegmentView wrap(final MemorySegment segment) {
+    return new UserRewardsInfoSegmentView(segment, 0);
+  }
+
+  public UserRewardsInfoSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UserRewardsInfoSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public UserRewardsInfo read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, UserRewardsInfo.BYTES, UserRewardsInfo::read);
+  }
+
+  public PublicKey vaultAddress() {
+    return readPubKey(segment, offset + UserRewardsInfo.VAULT_ADDRESS_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + UserRewardsInfo.BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey stakeAccountAddress() {
+    return readPubKey(segment, offset + UserRewardsInfo.STAKE_ACCOUNT_ADDRESS_OFFSET);
+  }
+
+  public PodU64 stakeTime() {
+    return MemorySegmentUtil.read(segment, offset + UserRewardsInfo.STAKE_TIME_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PublicKey user() {
+    return readPubKey(segment, offset + UserRewardsInfo.USER_OFFSET);
+  }
+
+  public PodU64 lpAmount() {
+    return MemorySegmentUtil.read(segment, offset + UserRewardsInfo.LP_AMOUNT_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public int durationIndex() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + UserRewardsInfo.DURATION_INDEX_OFFSET) & 0xFF;
+  }
+
+  public PodDecimal lastRewardIndexes(final int index) {
+    Objects.checkIndex(index, UserRewardsInfo.LAST_REWARD_INDEXES_LEN);
+    return MemorySegmentUtil.read(segment, offset + UserRewardsInfo.LAST_REWARD_INDEXES_OFFSET + (index * PodDecimal.BYTESL), PodDecimal.BYTES, PodDecimal::read);
+  }
+
+  public PodU64 pendingRewards(final int index) {
+    Objects.checkIndex(index, UserRewardsInfo.PENDING_REWARDS_LEN);
+    return MemorySegmentUtil.read(segment, offset + UserRewardsInfo.PENDING_REWARDS_OFFSET + (index * PodU64.BYTESL), PodU64.BYTES, PodU64::read);
+  }
+
+  public PodU64 lastRewardIndexUpdateTime(final int index) {
+    Objects.checkIndex(index, UserRewardsInfo.LAST_REWARD_INDEX_UPDATE_TIME_LEN);
+    return MemorySegmentUtil.read(segment, offset + UserRewardsInfo.LAST_REWARD_INDEX_UPDATE_TIME_OFFSET + (index * PodU64.BYTESL), PodU64.BYTES, PodU64::read);
+  }
+}
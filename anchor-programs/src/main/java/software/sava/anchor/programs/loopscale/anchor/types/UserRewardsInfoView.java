@@ -0,0 +1,98 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class UserRewardsInfoView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(UserRewardsInfo.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private UserRewardsInfoView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static UserRewardsInfoView wrap(final byte[] _data, final int offset) {
+    return new UserRewardsInfoView(_data, offset);
+  }
+
+  public static UserRewardsInfoView wrap(final byte[] _data) {
+    return new UserRewardsInfoView(_data, 0);
+  }
+
+  public UserRewardsInfoView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public UserRewardsInfoView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public UserRewardsInfo read(final PublicKey _address) {
+    return UserRewardsInfo.read(_address, _data, offset);
+  }
+
+  public PublicKey vaultAddress() {
+    return readPubKey(_data, offset + UserRewardsInfo.VAULT_ADDRESS_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + UserRewardsInfo.BUMP_OFFSET] & 0xFF;
+  }
+
+  public PublicKey stakeAccountAddress() {
+    return readPubKey(_data, offset + UserRewardsInfo.STAKE_ACCOUNT_ADDRESS_OFFSET);
+  }
+
+  public PodU64 stakeTime() {
+    return PodU64.read(_data, offset + UserRewardsInfo.STAKE_TIME_OFFSET);
+  }
+
+  public PublicKey user() {
+    return readPubKey(_data, offset + UserRewardsInfo.USER_OFFSET);
+  }
+
+  public PodU64 lpAmount() {
+    return PodU64.read(_data, offset + UserRewardsInfo.LP_AMOUNT_OFFSET);
+  }
+
+  public int durationIndex() {
+    return _data[offset + UserRewardsInfo.DURATION_INDEX_OFFSET] & 0xFF;
+  }
+
+  public PodDecimal lastRewardIndexes(final int index) {
+    Objects.checkIndex(index, UserRewardsInfo.LAST_REWARD_INDEXES_LEN);
+    return PodDecimal.read(_data, offset + UserRewardsInfo.LAST_REWARD_INDEXES_OFFSET + (index * PodDecimal.BYTES));
+  }
+
+  public PodU64 pendingRewards(final int index) {
+    Objects.checkIndex(index, UserRewardsInfo.PENDING_REWARDS_LEN);
+    return PodU64.read(_data, offset + UserRewardsInfo.PENDING_REWARDS_OFFSET + (index * PodU64.BYTES));
+  }
+
+  public PodU64 lastRewardIndexUpdateTime(final int index) {
+    Objects.checkIndex(index, UserRewardsInfo.LAST_REWARD_INDEX_UPDATE_TIME_LEN);
+    return PodU64.read(_data, offset + UserRewardsInfo.LAST_REWARD_INDEX_UPDATE_TIME_OFFSET + (index * PodU64.BYTES));
+  }
+}
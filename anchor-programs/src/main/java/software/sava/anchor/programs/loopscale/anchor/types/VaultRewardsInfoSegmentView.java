@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class VaultRewardsInfoSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(VaultRewardsInfo.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private VaultRewardsInfoSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static VaultRewardsInfoSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new VaultRewardsInfoSegmentView(segment, offset);
+  }
+
+  public static VaultRewardsInfoSegmentView wrap(final MemorySegment segment) {
+    return new VaultRewardsInfoSegmentView(segment, 0);
+  }
+
+  public VaultRewardsInfoSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultRewardsInfoSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public VaultRewardsInfo read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, VaultRewardsInfo.BYTES, VaultRewardsInfo::read);
+  }
+
+  public PublicKey vaultAddress() {
+    return readPubKey(segment, offset + VaultRewardsInfo.VAULT_ADDRESS_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + VaultRewardsInfo.BUMP_OFFSET) & 0xFF;
+  }
+
+  public VaultRewardsSchedule schedules(final int index) {
+    Objects.checkIndex(index, VaultRewardsInfo.SCHEDULES_LEN);
+    return MemorySegmentUtil.read(segment, offset + VaultRewardsInfo.SCHEDULES_OFFSET + (index * VaultRewardsSchedule.BYTESL), VaultRewardsSchedule.BYTES, VaultRewardsSchedule::read);
+  }
+}
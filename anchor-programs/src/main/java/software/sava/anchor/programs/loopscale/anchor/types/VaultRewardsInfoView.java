@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class VaultRewardsInfoView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(VaultRewardsInfo.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private VaultRewardsInfoView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static VaultRewardsInfoView wrap(final byte[] _data, final int offset) {
+    return new VaultRewardsInfoView(_data, offset);
+  }
+
+  public static VaultRewardsInfoView wrap(final byte[] _data) {
+    return new VaultRewardsInfoView(_data, 0);
+  }
+
+  public VaultRewardsInfoView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultRewardsInfoView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public VaultRewardsInfo read(final PublicKey _address) {
+    return VaultRewardsInfo.read(_address, _data, offset);
+  }
+
+  public PublicKey vaultAddress() {
+    return readPubKey(_data, offset + VaultRewardsInfo.VAULT_ADDRESS_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + VaultRewardsInfo.BUMP_OFFSET] & 0xFF;
+  }
+
+  public VaultRewardsSchedule schedules(final int index) {
+    Objects.checkIndex(index, VaultRewardsInfo.SCHEDULES_LEN);
+    return VaultRewardsSchedule.read(_data, offset + VaultRewardsInfo.SCHEDULES_OFFSET + (index * VaultRewardsSchedule.BYTES));
+  }
+}
@@ -0,0 +1,94 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class VaultSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Vault.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private VaultSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static VaultSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new VaultSegmentView(segment, offset);
+  }
+
+  public static VaultSegmentView wrap(final MemorySegment segment) {
+    return new VaultSegmentView(segment, 0);
+  }
+
+  public VaultSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Vault read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Vault.BYTES, Vault::read);
+  }
+
+  public PublicKey manager() {
+    return readPubKey(segment, offset + Vault.MANAGER_OFFSET);
+  }
+
+  public PublicKey nonce() {
+    return readPubKey(segment, offset + Vault.NONCE_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Vault.BUMP_OFFSET) & 0xFF;
+  }
+
+  public PodU64 lpSupply() {
+    return MemorySegmentUtil.read(segment, offset + Vault.LP_SUPPLY_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PublicKey lpMint() {
+    return readPubKey(segment, offset + Vault.LP_MINT_OFFSET);
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(segment, offset + Vault.PRINCIPAL_MINT_OFFSET);
+  }
+
+  public PodU64 cumulativePrincipalDeposited() {
+    return MemorySegmentUtil.read(segment, offset + Vault.CUMULATIVE_PRINCIPAL_DEPOSITED_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PodBool depositsEnabled() {
+    return MemorySegmentUtil.read(segment, offset + Vault.DEPOSITS_ENABLED_OFFSET, PodBool.BYTES, PodBool::read);
+  }
+
+  public PodU64CBPS maxEarlyUnstakeFee() {
+    return MemorySegmentUtil.read(segment, offset + Vault.MAX_EARLY_UNSTAKE_FEE_OFFSET, PodU64CBPS.BYTES, PodU64CBPS::read);
+  }
+}
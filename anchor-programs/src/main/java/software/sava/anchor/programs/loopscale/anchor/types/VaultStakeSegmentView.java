@@ -0,0 +1,98 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class VaultStakeSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(VaultStake.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private VaultStakeSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static VaultStakeSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new VaultStakeSegmentView(segment, offset);
+  }
+
+  public static VaultStakeSegmentView wrap(final MemorySegment segment) {
+    return new VaultStakeSegmentView(segment, 0);
+  }
+
+  public VaultStakeSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultStakeSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public VaultStake read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, VaultStake.BYTES, VaultStake::read);
+  }
+
+  public PublicKey vault() {
+    return readPubKey(segment, offset + VaultStake.VAULT_OFFSET);
+  }
+
+  public PublicKey nonce() {
+    return readPubKey(segment, offset + VaultStake.NONCE_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + VaultStake.BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey user() {
+    return readPubKey(segment, offset + VaultStake.USER_OFFSET);
+  }
+
+  public PodU64 amount() {
+    return MemorySegmentUtil.read(segment, offset + VaultStake.AMOUNT_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public Duration duration() {
+    return MemorySegmentUtil.read(segment, offset + VaultStake.DURATION_OFFSET, Duration.BYTES, Duration::read);
+  }
+
+  public PodU64 startTime() {
+    return MemorySegmentUtil.read(segment, offset + VaultStake.START_TIME_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PodU64 endTime() {
+    return MemorySegmentUtil.read(segment, offset + VaultStake.END_TIME_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PodU64 unstakeTime() {
+    return MemorySegmentUtil.read(segment, offset + VaultStake.UNSTAKE_TIME_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+
+  public PodU64 unstakeFeeApplied() {
+    return MemorySegmentUtil.read(segment, offset + VaultStake.UNSTAKE_FEE_APPLIED_OFFSET, PodU64.BYTES, PodU64::read);
+  }
+}
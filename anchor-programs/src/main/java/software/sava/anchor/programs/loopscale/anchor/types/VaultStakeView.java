@@ -0,0 +1,93 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class VaultStakeView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(VaultStake.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private VaultStakeView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static VaultStakeView wrap(final byte[] _data, final int offset) {
+    return new VaultStakeView(_data, offset);
+  }
+
+  public static VaultStakeView wrap(final byte[] _data) {
+    return new VaultStakeView(_data, 0);
+  }
+
+  public VaultStakeView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultStakeView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public VaultStake read(final PublicKey _address) {
+    return VaultStake.read(_address, _data, offset);
+  }
+
+  public PublicKey vault() {
+    return readPubKey(_data, offset + VaultStake.VAULT_OFFSET);
+  }
+
+  public PublicKey nonce() {
+    return readPubKey(_data, offset + VaultStake.NONCE_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + VaultStake.BUMP_OFFSET] & 0xFF;
+  }
+
+  public PublicKey user() {
+    return readPubKey(_data, offset + VaultStake.USER_OFFSET);
+  }
+
+  public PodU64 amount() {
+    return PodU64.read(_data, offset + VaultStake.AMOUNT_OFFSET);
+  }
+
+  public Duration duration() {
+    return Duration.read(_data, offset + VaultStake.DURATION_OFFSET);
+  }
+
+  public PodU64 startTime() {
+    return PodU64.read(_data, offset + VaultStake.START_TIME_OFFSET);
+  }
+
+  public PodU64 endTime() {
+    return PodU64.read(_data, offset + VaultStake.END_TIME_OFFSET);
+  }
+
+  public PodU64 unstakeTime() {
+    return PodU64.read(_data, offset + VaultStake.UNSTAKE_TIME_OFFSET);
+  }
+
+  public PodU64 unstakeFeeApplied() {
+    return PodU64.read(_data, offset + VaultStake.UNSTAKE_FEE_APPLIED_OFFSET);
+  }
+}
@@ -0,0 +1,89 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class VaultView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Vault.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private VaultView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static VaultView wrap(final byte[] _data, final int offset) {
+    return new VaultView(_data, offset);
+  }
+
+  public static VaultView wrap(final byte[] _data) {
+    return new VaultView(_data, 0);
+  }
+
+  public VaultView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Vault read(final PublicKey _address) {
+    return Vault.read(_address, _data, offset);
+  }
+
+  public PublicKey manager() {
+    return readPubKey(_data, offset + Vault.MANAGER_OFFSET);
+  }
+
+  public PublicKey nonce() {
+    return readPubKey(_data, offset + Vault.NONCE_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + Vault.BUMP_OFFSET] & 0xFF;
+  }
+
+  public PodU64 lpSupply() {
+    return PodU64.read(_data, offset + Vault.LP_SUPPLY_OFFSET);
+  }
+
+  public PublicKey lpMint() {
+    return readPubKey(_data, offset + Vault.LP_MINT_OFFSET);
+  }
+
+  public PublicKey principalMint() {
+    return readPubKey(_data, offset + Vault.PRINCIPAL_MINT_OFFSET);
+  }
+
+  public PodU64 cumulativePrincipalDeposited() {
+    return PodU64.read(_data, offset + Vault.CUMULATIVE_PRINCIPAL_DEPOSITED_OFFSET);
+  }
+
+  public PodBool depositsEnabled() {
+    return PodBool.read(_data, offset + Vault.DEPOSITS_ENABLED_OFFSET);
+  }
+
+  public PodU64CBPS maxEarlyUnstakeFee() {
+    return PodU64CBPS.read(_data, offset + Vault.MAX_EARLY_UNSTAKE_FEE_OFFSET);
+  }
+}
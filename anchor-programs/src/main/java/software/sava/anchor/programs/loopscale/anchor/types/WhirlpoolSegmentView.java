@@ -0,0 +1,174 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class WhirlpoolSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Whirlpool.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WhirlpoolSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WhirlpoolSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WhirlpoolSegmentView(segment, offset);
+  }
+
+  public static WhirlpoolSegmentView wrap(final MemorySegment segment) {
+    return new WhirlpoolSegmentView(segment, 0);
+  }
+
+  public WhirlpoolSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WhirlpoolSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Whirlpool read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Whirlpool.BYTES, Whirlpool::read);
+  }
+
+  public PublicKey whirlpoolsConfig() {
+    return readPubKey(segment, offset + Whirlpool.WHIRLPOOLS_CONFIG_OFFSET);
+  }
+
+  public byte[] whirlpoolBump() {
+    return copy(segment, offset + Whirlpool.WHIRLPOOL_BUMP_OFFSET, 1);
+  }
+
+  public int tickSpacing() {
+    return getInt16LE(segment, offset + Whirlpool.TICK_SPACING_OFFSET);
+  }
+
+  public byte[] feeTierIndexSeed() {
+    return copy(segment, offset + Whirlpool.FEE_TIER_INDEX_SEED_OFFSET, 2);
+  }
+
+  public int feeRate() {
+    return getInt16LE(segment, offset + Whirlpool.FEE_RATE_OFFSET);
+  }
+
+  public int protocolFeeRate() {
+    return getInt16LE(segment, offset + Whirlpool.PROTOCOL_FEE_RATE_OFFSET);
+  }
+
+  public BigInteger liquidity() {
+    return getInt128LE(segment, offset + Whirlpool.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityHigh() {
+    return getInt128High(segment, offset + Whirlpool.LIQUIDITY_OFFSET);
+  }
+
+  public long liquidityLow() {
+    return getInt128Low(segment, offset + Whirlpool.LIQUIDITY_OFFSET);
+  }
+
+  public BigInteger sqrtPrice() {
+    return getInt128LE(segment, offset + Whirlpool.SQRT_PRICE_OFFSET);
+  }
+
+  public long sqrtPriceHigh() {
+    return getInt128High(segment, offset + Whirlpool.SQRT_PRICE_OFFSET);
+  }
+
+  public long sqrtPriceLow() {
+    return getInt128Low(segment, offset + Whirlpool.SQRT_PRICE_OFFSET);
+  }
+
+  public int tickCurrentIndex() {
+    return getInt32LE(segment, offset + Whirlpool.TICK_CURRENT_INDEX_OFFSET);
+  }
+
+  public long protocolFeeOwedA() {
+    return getInt64LE(segment, offset + Whirlpool.PROTOCOL_FEE_OWED_A_OFFSET);
+  }
+
+  public long protocolFeeOwedB() {
+    return getInt64LE(segment, offset + Whirlpool.PROTOCOL_FEE_OWED_B_OFFSET);
+  }
+
+  public PublicKey tokenMintA() {
+    return readPubKey(segment, offset + Whirlpool.TOKEN_MINT_A_OFFSET);
+  }
+
+  public PublicKey tokenVaultA() {
+    return readPubKey(segment, offset + Whirlpool.TOKEN_VAULT_A_OFFSET);
+  }
+
+  public BigInteger feeGrowthGlobalA() {
+    return getInt128LE(segment, offset + Whirlpool.FEE_GROWTH_GLOBAL_A_OFFSET);
+  }
+
+  public long feeGrowthGlobalAHigh() {
+    return getInt128High(segment, offset + Whirlpool.FEE_GROWTH_GLOBAL_A_OFFSET);
+  }
+
+  public long feeGrowthGlobalALow() {
+    return getInt128Low(segment, offset + Whirlpool.FEE_GROWTH_GLOBAL_A_OFFSET);
+  }
+
+  public PublicKey tokenMintB() {
+    return readPubKey(segment, offset + Whirlpool.TOKEN_MINT_B_OFFSET);
+  }
+
+  public PublicKey tokenVaultB() {
+    return readPubKey(segment, offset + Whirlpool.TOKEN_VAULT_B_OFFSET);
+  }
+
+  public BigInteger feeGrowthGlobalB() {
+    return getInt128LE(segment, offset + Whirlpool.FEE_GROWTH_GLOBAL_B_OFFSET);
+  }
+
+  public long feeGrowthGlobalBHigh() {
+    return getInt128High(segment, offset + Whirlpool.FEE_GROWTH_GLOBAL_B_OFFSET);
+  }
+
+  public long feeGrowthGlobalBLow() {
+    return getInt128Low(segment, offset + Whirlpool.FEE_GROWTH_GLOBAL_B_OFFSET);
+  }
+
+  public long rewardLastUpdatedTimestamp() {
+    return getInt64LE(segment, offset + Whirlpool.REWARD_LAST_UPDATED_TIMESTAMP_OFFSET);
+  }
+
+  public WhirlpoolRewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, Whirlpool.REWARD_INFOS_LEN);
+    return MemorySegmentUtil.read(segment, offset + Whirlpool.REWARD_INFOS_OFFSET + (index * WhirlpoolRewardInfo.BYTESL), WhirlpoolRewardInfo.BYTES, WhirlpoolRewardInfo::read);
+  }
+}
@@ -0,0 +1,139 @@
+package software.sava.anchor.programs.loopscale.anchor.types;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class WhirlpoolView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Whirlpool.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private WhirlpoolView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static WhirlpoolView wrap(final byte[] _data, final int offset) {
+    return new WhirlpoolView(_data, offset);
+  }
+
+  public static WhirlpoolView wrap(final byte[] _data) {
+    return new WhirlpoolView(_data, 0);
+  }
+
+  public WhirlpoolView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public WhirlpoolView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Whirlpool read(final PublicKey _address) {
+    return Whirlpool.read(_address, _data, offset);
+  }
+
+  public PublicKey whirlpoolsConfig() {
+    return readPubKey(_data, offset + Whirlpool.WHIRLPOOLS_CONFIG_OFFSET);
+  }
+
+  public byte[] whirlpoolBump() {
+    final int from = offset + Whirlpool.WHIRLPOOL_BUMP_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 1);
+  }
+
+  public int tickSpacing() {
+    return getInt16LE(_data, offset + Whirlpool.TICK_SPACING_OFFSET);
+  }
+
+  public byte[] feeTierIndexSeed() {
+    final int from = offset + Whirlpool.FEE_TIER_INDEX_SEED_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 2);
+  }
+
+  public int feeRate() {
+    return getInt16LE(_data, offset + Whirlpool.FEE_RATE_OFFSET);
+  }
+
+  public int protocolFeeRate() {
+    return getInt16LE(_data, offset + Whirlpool.PROTOCOL_FEE_RATE_OFFSET);
+  }
+
+  public BigInteger liquidity() {
+    return getInt128LE(_data, offset + Whirlpool.LIQUIDITY_OFFSET);
+  }
+
+  public BigInteger sqrtPrice() {
+    return getInt128LE(_data, offset + Whirlpool.SQRT_PRICE_OFFSET);
+  }
+
+  public int tickCurrentIndex() {
+    return getInt32LE(_data, offset + Whirlpool.TICK_CURRENT_INDEX_OFFSET);
+  }
+
+  public long protocolFeeOwedA() {
+    return getInt64LE(_data, offset + Whirlpool.PROTOCOL_FEE_OWED_A_OFFSET);
+  }
+
+  public long protocolFeeOwedB() {
+    return getInt64LE(_data, offset + Whirlpool.PROTOCOL_FEE_OWED_B_OFFSET);
+  }
+
+  public PublicKey tokenMintA() {
+    return readPubKey(_data, offset + Whirlpool.TOKEN_MINT_A_OFFSET);
+  }
+
+  public PublicKey tokenVaultA() {
+    return readPubKey(_data, offset + Whirlpool.TOKEN_VAULT_A_OFFSET);
+  }
+
+  public BigInteger feeGrowthGlobalA() {
+    return getInt128LE(_data, offset + Whirlpool.FEE_GROWTH_GLOBAL_A_OFFSET);
+  }
+
+  public PublicKey tokenMintB() {
+    return readPubKey(_data, offset + Whirlpool.TOKEN_MINT_B_OFFSET);
+  }
+
+  public PublicKey tokenVaultB() {
+    return readPubKey(_data, offset + Whirlpool.TOKEN_VAULT_B_OFFSET);
+  }
+
+  public BigInteger feeGrowthGlobalB() {
+    return getInt128LE(_data, offset + Whirlpool.FEE_GROWTH_GLOBAL_B_OFFSET);
+  }
+
+  public long rewardLastUpdatedTimestamp() {
+    return getInt64LE(_data, offset + Whirlpool.REWARD_LAST_UPDATED_TIMESTAMP_OFFSET);
+  }
+
+  public WhirlpoolRewardInfo rewardInfos(final int index) {
+    Objects.checkIndex(index, Whirlpool.REWARD_INFOS_LEN);
+    return WhirlpoolRewardInfo.read(_data, offset + Whirlpool.REWARD_INFOS_OFFSET + (index * WhirlpoolRewardInfo.BYTES));
+  }
+}
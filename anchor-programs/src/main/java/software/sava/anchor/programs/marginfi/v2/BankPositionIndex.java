@@ -0,0 +1,132 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static software.sava.anchor.programs.marginfi.v2.MarginfiLayout.*;
+
+// Inverted index from a bank to the marginfi accounts with an active balance in it, so that a bank or price update
+// only needs to re-score the accounts it affects.
+//
+// Accounts are re-indexed on every update, only banks which were added or dropped touch the bank sets.
+// Safe for concurrent updates of different accounts.
+public final class BankPositionIndex {
+
+  private static final PublicKey[] NO_BANKS = new PublicKey[0];
+
+  private final Map<PublicKey, Set<PublicKey>> accountsByBank;
+  private final Map<PublicKey, PublicKey[]> banksByAccount;
+
+  private BankPositionIndex(final Map<PublicKey, Set<PublicKey>> accountsByBank,
+                            final Map<PublicKey, PublicKey[]> banksByAccount) {
+    this.accountsByBank = accountsByBank;
+    this.banksByAccount = banksByAccount;
+  }
+
+  public static BankPositionIndex createIndex(final int expectedAccounts) {
+    return new BankPositionIndex(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(expectedAccounts << 1));
+  }
+
+  public static BankPositionIndex createIndex(final Collection<AccountInfo<byte[]>> accounts) {
+    final var index = createIndex(accounts.size());
+    accounts.parallelStream().forEach(index::update);
+    return index;
+  }
+
+  public static PublicKey[] activeBanks(final byte[] _data, final int offset) {
+    final var banks = new PublicKey[NUM_BALANCES];
+    int numBanks = 0;
+    for (int i = 0; i < NUM_BALANCES; ++i) {
+      if (balanceActive(_data, offset, i)) {
+        banks[numBanks++] = balanceBankPk(_data, offset, i);
+      }
+    }
+    return numBanks == 0 ? NO_BANKS : Arrays.copyOf(banks, numBanks);
+  }
+
+  public void update(final AccountInfo<byte[]> accountInfo) {
+    update(accountInfo.pubKey(), accountInfo.data(), 0);
+  }
+
+  public void update(final PublicKey account, final byte[] _data, final int offset) {
+    final var banks = activeBanks(_data, offset);
+    final var previous = banks.length == 0
+        ? banksByAccount.remove(account)
+        : banksByAccount.put(account, banks);
+    if (previous != null) {
+      for (final var bank : previous) {
+        if (!contains(banks, bank)) {
+          removeFromBank(bank, account);
+        }
+      }
+    }
+    for (final var bank : banks) {
+      if (previous == null || !contains(previous, bank)) {
+        accountsByBank.compute(bank, (_, accounts) -> {
+          final var set = accounts == null ? ConcurrentHashMap.<PublicKey>newKeySet() : accounts;
+          set.add(account);
+          return set;
+        });
+      }
+    }
+  }
+
+  public void remove(final PublicKey account) {
+    final var previous = banksByAccount.remove(account);
+    if (previous != null) {
+      for (final var bank : previous) {
+        removeFromBank(bank, account);
+      }
+    }
+  }
+
+  // Live view of the accounts with a position in the bank.
+  public Set<PublicKey> accounts(final PublicKey bank) {
+    final var accounts = accountsByBank.get(bank);
+    return accounts == null ? Set.of() : accounts;
+  }
+
+  public Set<PublicKey> accounts(final Collection<PublicKey> banks) {
+    final var affected = new HashSet<PublicKey>();
+    for (final var bank : banks) {
+      affected.addAll(accounts(bank));
+    }
+    return affected;
+  }
+
+  public PublicKey[] banks(final PublicKey account) {
+    final var banks = banksByAccount.get(account);
+    return banks == null ? NO_BANKS : banks.clone();
+  }
+
+  public int numAccounts() {
+    return banksByAccount.size();
+  }
+
+  public int numBanks() {
+    return accountsByBank.size();
+  }
+
+  private void removeFromBank(final PublicKey bank, final PublicKey account) {
+    accountsByBank.computeIfPresent(bank, (_, accounts) -> {
+      accounts.remove(account);
+      return accounts.isEmpty() ? null : accounts;
+    });
+  }
+
+  private static boolean contains(final PublicKey[] keys, final PublicKey key) {
+    for (final var k : keys) {
+      if (k.equals(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,103 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.anchor.programs.marginfi.v2.anchor.types.Bank;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.BankOperationalState;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.RiskTier;
+import software.sava.core.accounts.PublicKey;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.Arrays;
+
+import static software.sava.anchor.programs.marginfi.v2.MarginfiLayout.*;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// The subset of a Bank needed by the risk engine, decoded once per bank update.
+// Emode entries with a zero collateral tag are dropped.
+public record BankState(PublicKey address,
+                        int mintDecimals,
+                        I80F48 assetShareValue,
+                        I80F48 liabilityShareValue,
+                        I80F48 totalAssetShares,
+                        I80F48 assetWeightInit,
+                        I80F48 assetWeightMaint,
+                        I80F48 liabilityWeightInit,
+                        I80F48 liabilityWeightMaint,
+                        BankOperationalState operationalState,
+                        RiskTier riskTier,
+                        int assetTag,
+                        long totalAssetValueInitLimit,
+                        int emodeTag,
+                        boolean emodeOn,
+                        int[] emodeCollateralTags,
+                        I80F48[] emodeAssetWeightsInit,
+                        I80F48[] emodeAssetWeightsMaint) {
+
+  public static BankState read(final PublicKey address, final byte[] _data, final int offset) {
+    if (_data == null || _data.length == 0) {
+      return null;
+    }
+    final int config = offset + Bank.CONFIG_OFFSET;
+    final int emode = offset + Bank.EMODE_OFFSET;
+
+    int numEntries = 0;
+    final int[] tags = new int[NUM_EMODE_ENTRIES];
+    final I80F48[] weightsInit = new I80F48[NUM_EMODE_ENTRIES];
+    final I80F48[] weightsMaint = new I80F48[NUM_EMODE_ENTRIES];
+    for (int i = 0; i < NUM_EMODE_ENTRIES; ++i) {
+      final int entry = emodeEntryOffset(offset, i);
+      final int tag = getInt16LE(_data, entry + EMODE_ENTRY_COLLATERAL_BANK_EMODE_TAG_OFFSET) & 0xFFFF;
+      if (tag != 0) {
+        tags[numEntries] = tag;
+        weightsInit[numEntries] = I80F48.read(_data, entry + EMODE_ENTRY_ASSET_WEIGHT_INIT_OFFSET);
+        weightsMaint[numEntries] = I80F48.read(_data, entry + EMODE_ENTRY_ASSET_WEIGHT_MAINT_OFFSET);
+        ++numEntries;
+      }
+    }
+
+    return new BankState(
+        address,
+        _data[offset + Bank.MINT_DECIMALS_OFFSET] & 0xFF,
+        assetShareValue(_data, offset),
+        liabilityShareValue(_data, offset),
+        totalAssetShares(_data, offset),
+        assetWeightInit(_data, offset),
+        assetWeightMaint(_data, offset),
+        liabilityWeightInit(_data, offset),
+        liabilityWeightMaint(_data, offset),
+        BankOperationalState.read(_data, config + BANK_CONFIG_OPERATIONAL_STATE_OFFSET),
+        RiskTier.read(_data, config + BANK_CONFIG_RISK_TIER_OFFSET),
+        assetTag(_data, offset),
+        totalAssetValueInitLimit(_data, offset),
+        emodeTag(_data, offset),
+        (getInt64LE(_data, emode + EMODE_SETTINGS_FLAGS_OFFSET) & EMODE_ON) == EMODE_ON,
+        Arrays.copyOf(tags, numEntries),
+        Arrays.copyOf(weightsInit, numEntries),
+        Arrays.copyOf(weightsMaint, numEntries)
+    );
+  }
+
+  public static BankState read(final AccountInfo<byte[]> accountInfo) {
+    return read(accountInfo.pubKey(), accountInfo.data(), 0);
+  }
+
+  public I80F48 assetAmount(final I80F48 shares) {
+    return shares.mul(assetShareValue);
+  }
+
+  public I80F48 liabilityAmount(final I80F48 shares) {
+    return shares.mul(liabilityShareValue);
+  }
+
+  // Index of the emode entry for the given collateral tag, or -1.
+  public int emodeEntryIndex(final int collateralTag) {
+    if (emodeOn && collateralTag != 0) {
+      for (int i = 0; i < emodeCollateralTags.length; ++i) {
+        if (emodeCollateralTags[i] == collateralTag) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+}
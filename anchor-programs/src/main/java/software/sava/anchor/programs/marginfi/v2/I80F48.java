@@ -0,0 +1,279 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.anchor.programs.marginfi.v2.anchor.types.WrappedI80F48;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+// Signed 128-bit fixed point number with 48 fractional bits, as used by marginfi.
+// The two's complement bits are held in two longs, arithmetic never goes through BigInteger.
+// Multiplication rounds toward negative infinity and division truncates toward zero, matching the on-chain
+// `fixed` crate. Overflow and division by zero throw an ArithmeticException.
+public record I80F48(long hi, long lo) implements Comparable<I80F48> {
+
+  public static final int BYTES = 16;
+  public static final int FRAC_BITS = 48;
+
+  public static final I80F48 ZERO = new I80F48(0, 0);
+  public static final I80F48 ONE = new I80F48(0, 1L << FRAC_BITS);
+  public static final I80F48 MAX = new I80F48(Long.MAX_VALUE, -1L);
+  public static final I80F48 MIN = new I80F48(Long.MIN_VALUE, 0);
+
+  private static final long FRAC_MASK = (1L << FRAC_BITS) - 1;
+  private static final BigDecimal FRAC_DIVISOR = new BigDecimal(BigInteger.ONE.shiftLeft(FRAC_BITS));
+
+  public static I80F48 read(final byte[] _data, final int offset) {
+    return new I80F48(getInt64LE(_data, offset + 8), getInt64LE(_data, offset));
+  }
+
+  public static I80F48 read(final WrappedI80F48 wrapped) {
+    return read(wrapped.value(), 0);
+  }
+
+  public static I80F48 fromLong(final long val) {
+    return new I80F48(val >> (Long.SIZE - FRAC_BITS), val << FRAC_BITS);
+  }
+
+  public static I80F48 fromDouble(final double val) {
+    if (!Double.isFinite(val)) {
+      throw new ArithmeticException("Cannot convert " + val + " to I80F48");
+    }
+    final double scaled = val * 0x1p48;
+    if (scaled >= -0x1p63 && scaled < 0x1p63) {
+      final long bits = (long) scaled;
+      return new I80F48(bits >> 63, bits);
+    } else if (scaled >= -0x1p127 && scaled < 0x1p127) {
+      final double high = Math.floor(scaled * 0x1p-64);
+      final double low = scaled - (high * 0x1p64);
+      return new I80F48((long) high, low >= 0x1p63 ? ((long) (low - 0x1p63)) ^ Long.MIN_VALUE : (long) low);
+    } else {
+      throw new ArithmeticException("Cannot convert " + val + " to I80F48");
+    }
+  }
+
+  public int write(final byte[] _data, final int offset) {
+    putInt64LE(_data, offset, lo);
+    putInt64LE(_data, offset + 8, hi);
+    return BYTES;
+  }
+
+  public WrappedI80F48 toWrapped() {
+    final byte[] value = new byte[BYTES];
+    write(value, 0);
+    return new WrappedI80F48(value);
+  }
+
+  public boolean isZero() {
+    return hi == 0 && lo == 0;
+  }
+
+  public boolean isNegative() {
+    return hi < 0;
+  }
+
+  public boolean isPositive() {
+    return hi > 0 || (hi == 0 && lo != 0);
+  }
+
+  public int signum() {
+    return hi < 0 ? -1 : isZero() ? 0 : 1;
+  }
+
+  public I80F48 add(final I80F48 o) {
+    final long sumLo = lo + o.lo;
+    final long sumHi = hi + o.hi + (Long.compareUnsigned(sumLo, lo) < 0 ? 1 : 0);
+    if (((hi ^ sumHi) & (o.hi ^ sumHi)) < 0) {
+      throw new ArithmeticException("I80F48 addition overflow");
+    }
+    return new I80F48(sumHi, sumLo);
+  }
+
+  public I80F48 sub(final I80F48 o) {
+    final long diffLo = lo - o.lo;
+    final long diffHi = hi - o.hi - (Long.compareUnsigned(lo, o.lo) < 0 ? 1 : 0);
+    if (((hi ^ o.hi) & (hi ^ diffHi)) < 0) {
+      throw new ArithmeticException("I80F48 subtraction overflow");
+    }
+    return new I80F48(diffHi, diffLo);
+  }
+
+  public I80F48 negate() {
+    if (hi == Long.MIN_VALUE && lo == 0) {
+      throw new ArithmeticException("I80F48 negation overflow");
+    }
+    final long negLo = -lo;
+    return new I80F48(~hi + (negLo == 0 ? 1 : 0), negLo);
+  }
+
+  public I80F48 abs() {
+    return hi < 0 ? negate() : this;
+  }
+
+  public I80F48 mul(final I80F48 o) {
+    final boolean negative = (hi ^ o.hi) < 0;
+    long ah = hi, al = lo;
+    if (ah < 0) {
+      al = -al;
+      ah = ~ah + (al == 0 ? 1 : 0);
+    }
+    long bh = o.hi, bl = o.lo;
+    if (bh < 0) {
+      bl = -bl;
+      bh = ~bh + (bl == 0 ? 1 : 0);
+    }
+
+    // 256-bit unsigned product of the magnitudes.
+    final long p0 = al * bl;
+    final long c0 = Math.unsignedMultiplyHigh(al, bl);
+    final long x = al * bh;
+    final long xHi = Math.unsignedMultiplyHigh(al, bh);
+    final long y = ah * bl;
+    final long yHi = Math.unsignedMultiplyHigh(ah, bl);
+    final long z = ah * bh;
+    final long zHi = Math.unsignedMultiplyHigh(ah, bh);
+
+    long p1 = c0 + x;
+    long carry = Long.compareUnsigned(p1, x) < 0 ? 1 : 0;
+    p1 += y;
+    carry += Long.compareUnsigned(p1, y) < 0 ? 1 : 0;
+
+    long p2 = xHi + carry;
+    long carry2 = Long.compareUnsigned(p2, carry) < 0 ? 1 : 0;
+    p2 += yHi;
+    carry2 += Long.compareUnsigned(p2, yHi) < 0 ? 1 : 0;
+    p2 += z;
+    carry2 += Long.compareUnsigned(p2, z) < 0 ? 1 : 0;
+    final long p3 = zHi + carry2;
+
+    if (p3 != 0 || (p2 >>> FRAC_BITS) != 0) {
+      throw new ArithmeticException("I80F48 multiplication overflow");
+    }
+    long rLo = (p0 >>> FRAC_BITS) | (p1 << (Long.SIZE - FRAC_BITS));
+    long rHi = (p1 >>> FRAC_BITS) | (p2 << (Long.SIZE - FRAC_BITS));
+    if (negative) {
+      if ((p0 & FRAC_MASK) != 0) {
+        if (rHi < 0) {
+          throw new ArithmeticException("I80F48 multiplication overflow");
+        }
+        if (++rLo == 0) {
+          ++rHi;
+        }
+      }
+      return negateMagnitude(rHi, rLo, "I80F48 multiplication overflow");
+    } else if (rHi < 0) {
+      throw new ArithmeticException("I80F48 multiplication overflow");
+    } else {
+      return new I80F48(rHi, rLo);
+    }
+  }
+
+  public I80F48 div(final I80F48 o) {
+    if (o.isZero()) {
+      throw new ArithmeticException("I80F48 division by zero");
+    }
+    final boolean negative = (hi ^ o.hi) < 0;
+    long ah = hi, al = lo;
+    if (ah < 0) {
+      al = -al;
+      ah = ~ah + (al == 0 ? 1 : 0);
+    }
+    long bh = o.hi, bl = o.lo;
+    if (bh < 0) {
+      bl = -bl;
+      bh = ~bh + (bl == 0 ? 1 : 0);
+    }
+
+    // 176-bit numerator |a| << 48, divided by |b| with restoring binary long division.
+    final long n0 = al << FRAC_BITS;
+    final long n1 = (al >>> (Long.SIZE - FRAC_BITS)) | (ah << FRAC_BITS);
+    final long n2 = ah >>> (Long.SIZE - FRAC_BITS);
+    final int numBits = n2 != 0
+        ? 192 - Long.numberOfLeadingZeros(n2)
+        : n1 != 0 ? 128 - Long.numberOfLeadingZeros(n1) : 64 - Long.numberOfLeadingZeros(n0);
+
+    long qHi = 0, qLo = 0, rHi = 0, rLo = 0;
+    for (int i = numBits - 1; i >= 0; --i) {
+      final boolean carryOut = rHi < 0;
+      rHi = (rHi << 1) | (rLo >>> 63);
+      final long bit = i >= 128 ? n2 >>> (i - 128) : i >= 64 ? n1 >>> (i - 64) : n0 >>> i;
+      rLo = (rLo << 1) | (bit & 1);
+      if (qHi < 0) {
+        throw new ArithmeticException("I80F48 division overflow");
+      }
+      qHi = (qHi << 1) | (qLo >>> 63);
+      qLo <<= 1;
+      if (carryOut || Long.compareUnsigned(rHi, bh) > 0 || (rHi == bh && Long.compareUnsigned(rLo, bl) >= 0)) {
+        final long borrow = Long.compareUnsigned(rLo, bl) < 0 ? 1 : 0;
+        rLo -= bl;
+        rHi = rHi - bh - borrow;
+        qLo |= 1;
+      }
+    }
+
+    if (negative) {
+      return negateMagnitude(qHi, qLo, "I80F48 division overflow");
+    } else if (qHi < 0) {
+      throw new ArithmeticException("I80F48 division overflow");
+    } else {
+      return new I80F48(qHi, qLo);
+    }
+  }
+
+  private static I80F48 negateMagnitude(final long magHi, final long magLo, final String overflowMsg) {
+    if (magHi < 0 && (magHi != Long.MIN_VALUE || magLo != 0)) {
+      throw new ArithmeticException(overflowMsg);
+    }
+    final long negLo = -magLo;
+    return new I80F48(~magHi + (negLo == 0 ? 1 : 0), negLo);
+  }
+
+  public I80F48 min(final I80F48 o) {
+    return compareTo(o) <= 0 ? this : o;
+  }
+
+  public I80F48 max(final I80F48 o) {
+    return compareTo(o) >= 0 ? this : o;
+  }
+
+  @Override
+  public int compareTo(final I80F48 o) {
+    final int cmp = Long.compare(hi, o.hi);
+    return cmp == 0 ? Long.compareUnsigned(lo, o.lo) : cmp;
+  }
+
+  // Rounds toward negative infinity.
+  public long toLong() {
+    final long ipart = hi >> (FRAC_BITS - 1);
+    if (ipart != 0 && ipart != -1) {
+      throw new ArithmeticException("I80F48 does not fit in a long");
+    }
+    return (hi << (Long.SIZE - FRAC_BITS)) | (lo >>> FRAC_BITS);
+  }
+
+  public double toDouble() {
+    if (hi < 0) {
+      final long magLo = -lo;
+      final long magHi = ~hi + (magLo == 0 ? 1 : 0);
+      return -((unsignedToDouble(magHi) * 0x1p16) + (unsignedToDouble(magLo) * 0x1p-48));
+    } else {
+      return (hi * 0x1p16) + (unsignedToDouble(lo) * 0x1p-48);
+    }
+  }
+
+  private static double unsignedToDouble(final long val) {
+    return val >= 0 ? (double) val : ((double) ((val >>> 1) | (val & 1))) * 2.0;
+  }
+
+  public BigDecimal toBigDecimal() {
+    final var bits = BigInteger.valueOf(hi).shiftLeft(Long.SIZE).add(new BigInteger(Long.toUnsignedString(lo)));
+    return new BigDecimal(bits).divide(FRAC_DIVISOR);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,1147 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.anchor.programs._commons.InstructionBuffer;
+import software.sava.anchor.programs.marginfi.v2.anchor.MarginfiProgram;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.BankConfigCompact;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.BankConfigOpt;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.EmodeEntry;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.InterestRateConfigOpt;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.StakedSettingsConfig;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.StakedSettingsEditConfig;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.WrappedI80F48;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.accounts.SolanaAccounts;
+import software.sava.core.accounts.meta.AccountMeta;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.tx.Instruction;
+
+import java.util.OptionalLong;
+
+import static software.sava.core.encoding.ByteUtil.putInt16LE;
+import static software.sava.core.encoding.ByteUtil.putInt32LE;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+// InstructionBuffer overloads of the MarginfiProgram builders, taking the same parameters after the buffer.
+// See InstructionBuffer for how long the built instructions stay valid.
+public final class MarginfiBufferedInstructions {
+
+  public static Instruction configGroupFee(final InstructionBuffer _buffer,
+                                           final AccountMeta invokedMarginfiProgramMeta,
+                                           final PublicKey marginfiGroupKey,
+                                           // `global_fee_admin` of the FeeState
+                                           final PublicKey globalFeeAdminKey,
+                                           final PublicKey feeStateKey,
+                                           final boolean enableProgramFee) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiGroupKey);
+    _buffer.readOnlySigner(globalFeeAdminKey);
+    _buffer.read(feeStateKey);
+
+    final int _len = 9;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.CONFIG_GROUP_FEE_DISCRIMINATOR.write(_data, _offset);
+    _data[i] = (byte) (enableProgramFee ? 1 : 0);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction editGlobalFeeState(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedMarginfiProgramMeta,
+                                               // Admin of the global FeeState
+                                               final PublicKey globalFeeAdminKey,
+                                               final PublicKey feeStateKey,
+                                               final PublicKey admin,
+                                               final PublicKey feeWallet,
+                                               final int bankInitFlatSolFee,
+                                               final WrappedI80F48 programFeeFixed,
+                                               final WrappedI80F48 programFeeRate) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(globalFeeAdminKey);
+    _buffer.write(feeStateKey);
+
+    final int _len = 76 + Borsh.len(programFeeFixed) + Borsh.len(programFeeRate);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.EDIT_GLOBAL_FEE_STATE_DISCRIMINATOR.write(_data, _offset);
+    admin.write(_data, i);
+    i += 32;
+    feeWallet.write(_data, i);
+    i += 32;
+    putInt32LE(_data, i, bankInitFlatSolFee);
+    i += 4;
+    i += Borsh.write(programFeeFixed, _data, i);
+    Borsh.write(programFeeRate, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction editStakedSettings(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedMarginfiProgramMeta,
+                                               final PublicKey marginfiGroupKey,
+                                               final PublicKey adminKey,
+                                               final PublicKey stakedSettingsKey,
+                                               final StakedSettingsEditConfig settings) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(marginfiGroupKey);
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(stakedSettingsKey);
+
+    final int _len = 8 + Borsh.len(settings);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.EDIT_STAKED_SETTINGS_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(settings, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initGlobalFeeState(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedMarginfiProgramMeta,
+                                               final SolanaAccounts solanaAccounts,
+                                               // Pays the init fee
+                                               final PublicKey payerKey,
+                                               final PublicKey feeStateKey,
+                                               final PublicKey admin,
+                                               final PublicKey feeWallet,
+                                               final int bankInitFlatSolFee,
+                                               final WrappedI80F48 programFeeFixed,
+                                               final WrappedI80F48 programFeeRate) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(payerKey);
+    _buffer.write(feeStateKey);
+    _buffer.read(solanaAccounts.rentSysVar());
+    _buffer.read(solanaAccounts.systemProgram());
+
+    final int _len = 76 + Borsh.len(programFeeFixed) + Borsh.len(programFeeRate);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.INIT_GLOBAL_FEE_STATE_DISCRIMINATOR.write(_data, _offset);
+    admin.write(_data, i);
+    i += 32;
+    feeWallet.write(_data, i);
+    i += 32;
+    putInt32LE(_data, i, bankInitFlatSolFee);
+    i += 4;
+    i += Borsh.write(programFeeFixed, _data, i);
+    Borsh.write(programFeeRate, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction initStakedSettings(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedMarginfiProgramMeta,
+                                               final SolanaAccounts solanaAccounts,
+                                               final PublicKey marginfiGroupKey,
+                                               final PublicKey adminKey,
+                                               // Pays the init fee
+                                               final PublicKey feePayerKey,
+                                               final PublicKey stakedSettingsKey,
+                                               final StakedSettingsConfig settings) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(marginfiGroupKey);
+    _buffer.readOnlySigner(adminKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.write(stakedSettingsKey);
+    _buffer.read(solanaAccounts.rentSysVar());
+    _buffer.read(solanaAccounts.systemProgram());
+
+    final int _len = 8 + Borsh.len(settings);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.INIT_STAKED_SETTINGS_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(settings, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingAccountBorrow(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedMarginfiProgramMeta,
+                                                 final PublicKey groupKey,
+                                                 final PublicKey marginfiAccountKey,
+                                                 final PublicKey authorityKey,
+                                                 final PublicKey bankKey,
+                                                 final PublicKey destinationTokenAccountKey,
+                                                 final PublicKey bankLiquidityVaultAuthorityKey,
+                                                 final PublicKey liquidityVaultKey,
+                                                 final PublicKey tokenProgramKey,
+                                                 final long amount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(bankKey);
+    _buffer.write(destinationTokenAccountKey);
+    _buffer.write(bankLiquidityVaultAuthorityKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_ACCOUNT_BORROW_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingAccountCloseBalance(final InstructionBuffer _buffer,
+                                                       final AccountMeta invokedMarginfiProgramMeta,
+                                                       final PublicKey groupKey,
+                                                       final PublicKey marginfiAccountKey,
+                                                       final PublicKey authorityKey,
+                                                       final PublicKey bankKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(bankKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_ACCOUNT_CLOSE_BALANCE_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingAccountDeposit(final InstructionBuffer _buffer,
+                                                  final AccountMeta invokedMarginfiProgramMeta,
+                                                  final PublicKey groupKey,
+                                                  final PublicKey marginfiAccountKey,
+                                                  final PublicKey authorityKey,
+                                                  final PublicKey bankKey,
+                                                  final PublicKey signerTokenAccountKey,
+                                                  final PublicKey liquidityVaultKey,
+                                                  final PublicKey tokenProgramKey,
+                                                  final long amount,
+                                                  final Boolean depositUpToLimit) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(bankKey);
+    _buffer.write(signerTokenAccountKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16
+        + (depositUpToLimit == null ? 1 : 2);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_ACCOUNT_DEPOSIT_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+    i += 8;
+    Borsh.writeOptional(depositUpToLimit, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingAccountEndFlashloan(final InstructionBuffer _buffer,
+                                                       final AccountMeta invokedMarginfiProgramMeta, final PublicKey marginfiAccountKey, final PublicKey authorityKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_ACCOUNT_END_FLASHLOAN_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingAccountLiquidate(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedMarginfiProgramMeta,
+                                                    final PublicKey groupKey,
+                                                    final PublicKey assetBankKey,
+                                                    final PublicKey liabBankKey,
+                                                    final PublicKey liquidatorMarginfiAccountKey,
+                                                    final PublicKey authorityKey,
+                                                    final PublicKey liquidateeMarginfiAccountKey,
+                                                    final PublicKey bankLiquidityVaultAuthorityKey,
+                                                    final PublicKey bankLiquidityVaultKey,
+                                                    final PublicKey bankInsuranceVaultKey,
+                                                    final PublicKey tokenProgramKey,
+                                                    final long assetAmount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(assetBankKey);
+    _buffer.write(liabBankKey);
+    _buffer.write(liquidatorMarginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(liquidateeMarginfiAccountKey);
+    _buffer.write(bankLiquidityVaultAuthorityKey);
+    _buffer.write(bankLiquidityVaultKey);
+    _buffer.write(bankInsuranceVaultKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_ACCOUNT_LIQUIDATE_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, assetAmount);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingAccountPulseHealth(final InstructionBuffer _buffer,
+                                                      final AccountMeta invokedMarginfiProgramMeta, final PublicKey marginfiAccountKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiAccountKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_ACCOUNT_PULSE_HEALTH_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingAccountRepay(final InstructionBuffer _buffer,
+                                                final AccountMeta invokedMarginfiProgramMeta,
+                                                final PublicKey groupKey,
+                                                final PublicKey marginfiAccountKey,
+                                                final PublicKey authorityKey,
+                                                final PublicKey bankKey,
+                                                final PublicKey signerTokenAccountKey,
+                                                final PublicKey liquidityVaultKey,
+                                                final PublicKey tokenProgramKey,
+                                                final long amount,
+                                                final Boolean repayAll) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(bankKey);
+    _buffer.write(signerTokenAccountKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16
+        + (repayAll == null ? 1 : 2);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_ACCOUNT_REPAY_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+    i += 8;
+    Borsh.writeOptional(repayAll, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingAccountSettleEmissions(final InstructionBuffer _buffer,
+                                                          final AccountMeta invokedMarginfiProgramMeta, final PublicKey marginfiAccountKey, final PublicKey bankKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiAccountKey);
+    _buffer.write(bankKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_ACCOUNT_SETTLE_EMISSIONS_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingAccountSortBalances(final InstructionBuffer _buffer,
+                                                       final AccountMeta invokedMarginfiProgramMeta, final PublicKey marginfiAccountKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiAccountKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_ACCOUNT_SORT_BALANCES_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingAccountStartFlashloan(final InstructionBuffer _buffer,
+                                                         final AccountMeta invokedMarginfiProgramMeta,
+                                                         final SolanaAccounts solanaAccounts,
+                                                         final PublicKey marginfiAccountKey,
+                                                         final PublicKey authorityKey,
+                                                         final long endIndex) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.read(solanaAccounts.instructionsSysVar());
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_ACCOUNT_START_FLASHLOAN_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, endIndex);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingAccountWithdraw(final InstructionBuffer _buffer,
+                                                   final AccountMeta invokedMarginfiProgramMeta,
+                                                   final PublicKey groupKey,
+                                                   final PublicKey marginfiAccountKey,
+                                                   final PublicKey authorityKey,
+                                                   final PublicKey bankKey,
+                                                   final PublicKey destinationTokenAccountKey,
+                                                   final PublicKey bankLiquidityVaultAuthorityKey,
+                                                   final PublicKey liquidityVaultKey,
+                                                   final PublicKey tokenProgramKey,
+                                                   final long amount,
+                                                   final Boolean withdrawAll) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(bankKey);
+    _buffer.write(destinationTokenAccountKey);
+    _buffer.read(bankLiquidityVaultAuthorityKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16
+        + (withdrawAll == null ? 1 : 2);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_ACCOUNT_WITHDRAW_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+    i += 8;
+    Borsh.writeOptional(withdrawAll, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingAccountWithdrawEmissions(final InstructionBuffer _buffer,
+                                                            final AccountMeta invokedMarginfiProgramMeta,
+                                                            final PublicKey groupKey,
+                                                            final PublicKey marginfiAccountKey,
+                                                            final PublicKey authorityKey,
+                                                            final PublicKey bankKey,
+                                                            final PublicKey emissionsMintKey,
+                                                            final PublicKey emissionsAuthKey,
+                                                            final PublicKey emissionsVaultKey,
+                                                            final PublicKey destinationAccountKey,
+                                                            final PublicKey tokenProgramKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.write(bankKey);
+    _buffer.read(emissionsMintKey);
+    _buffer.read(emissionsAuthKey);
+    _buffer.write(emissionsVaultKey);
+    _buffer.write(destinationAccountKey);
+    _buffer.read(tokenProgramKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_ACCOUNT_WITHDRAW_EMISSIONS_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingAccountWithdrawEmissionsPermissionless(final InstructionBuffer _buffer,
+                                                                          final AccountMeta invokedMarginfiProgramMeta,
+                                                                          final PublicKey groupKey,
+                                                                          final PublicKey marginfiAccountKey,
+                                                                          final PublicKey bankKey,
+                                                                          final PublicKey emissionsMintKey,
+                                                                          final PublicKey emissionsAuthKey,
+                                                                          final PublicKey emissionsVaultKey,
+                                                                          // registered on `marginfi_account`
+                                                                          final PublicKey destinationAccountKey,
+                                                                          final PublicKey tokenProgramKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.write(bankKey);
+    _buffer.read(emissionsMintKey);
+    _buffer.read(emissionsAuthKey);
+    _buffer.write(emissionsVaultKey);
+    _buffer.write(destinationAccountKey);
+    _buffer.read(tokenProgramKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_ACCOUNT_WITHDRAW_EMISSIONS_PERMISSIONLESS_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingPoolAccrueBankInterest(final InstructionBuffer _buffer,
+                                                          final AccountMeta invokedMarginfiProgramMeta, final PublicKey groupKey, final PublicKey bankKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(bankKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_POOL_ACCRUE_BANK_INTEREST_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingPoolAddBank(final InstructionBuffer _buffer,
+                                               final AccountMeta invokedMarginfiProgramMeta,
+                                               final SolanaAccounts solanaAccounts,
+                                               final PublicKey marginfiGroupKey,
+                                               final PublicKey adminKey,
+                                               // Pays to init accounts and pays `fee_state.bank_init_flat_sol_fee` lamports to the protocol
+                                               final PublicKey feePayerKey,
+                                               final PublicKey feeStateKey,
+                                               final PublicKey globalFeeWalletKey,
+                                               final PublicKey bankMintKey,
+                                               final PublicKey bankKey,
+                                               final PublicKey liquidityVaultAuthorityKey,
+                                               final PublicKey liquidityVaultKey,
+                                               final PublicKey insuranceVaultAuthorityKey,
+                                               final PublicKey insuranceVaultKey,
+                                               final PublicKey feeVaultAuthorityKey,
+                                               final PublicKey feeVaultKey,
+                                               final PublicKey tokenProgramKey,
+                                               final BankConfigCompact bankConfig) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiGroupKey);
+    _buffer.writableSigner(adminKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(feeStateKey);
+    _buffer.write(globalFeeWalletKey);
+    _buffer.read(bankMintKey);
+    _buffer.writableSigner(bankKey);
+    _buffer.read(liquidityVaultAuthorityKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.read(insuranceVaultAuthorityKey);
+    _buffer.write(insuranceVaultKey);
+    _buffer.read(feeVaultAuthorityKey);
+    _buffer.write(feeVaultKey);
+    _buffer.read(solanaAccounts.rentSysVar());
+    _buffer.read(tokenProgramKey);
+    _buffer.read(solanaAccounts.systemProgram());
+
+    final int _len = 8 + Borsh.len(bankConfig);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_ADD_BANK_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(bankConfig, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolAddBankPermissionless(final InstructionBuffer _buffer,
+                                                             final AccountMeta invokedMarginfiProgramMeta,
+                                                             final SolanaAccounts solanaAccounts,
+                                                             final PublicKey marginfiGroupKey,
+                                                             final PublicKey stakedSettingsKey,
+                                                             final PublicKey feePayerKey,
+                                                             // Mint of the spl-single-pool LST (a PDA derived from `stake_pool`)
+                                                             // 
+                                                             // because the sol_pool and stake_pool will not derive to a valid PDA which is also owned by
+                                                             // the staking program and spl-single-pool program.
+                                                             final PublicKey bankMintKey,
+                                                             final PublicKey solPoolKey,
+                                                             // this key.
+                                                             // 
+                                                             // If derives the same `bank_mint`, then this must be the correct stake pool for that mint, and
+                                                             // we can subsequently use it to validate the `sol_pool`
+                                                             final PublicKey stakePoolKey,
+                                                             final PublicKey bankKey,
+                                                             final PublicKey liquidityVaultAuthorityKey,
+                                                             final PublicKey liquidityVaultKey,
+                                                             final PublicKey insuranceVaultAuthorityKey,
+                                                             final PublicKey insuranceVaultKey,
+                                                             final PublicKey feeVaultAuthorityKey,
+                                                             final PublicKey feeVaultKey,
+                                                             final PublicKey tokenProgramKey,
+                                                             final long bankSeed) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiGroupKey);
+    _buffer.read(stakedSettingsKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(bankMintKey);
+    _buffer.read(solPoolKey);
+    _buffer.read(stakePoolKey);
+    _buffer.write(bankKey);
+    _buffer.read(liquidityVaultAuthorityKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.read(insuranceVaultAuthorityKey);
+    _buffer.write(insuranceVaultKey);
+    _buffer.read(feeVaultAuthorityKey);
+    _buffer.write(feeVaultKey);
+    _buffer.read(solanaAccounts.rentSysVar());
+    _buffer.read(tokenProgramKey);
+    _buffer.read(solanaAccounts.systemProgram());
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_ADD_BANK_PERMISSIONLESS_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, bankSeed);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolAddBankWithSeed(final InstructionBuffer _buffer,
+                                                       final AccountMeta invokedMarginfiProgramMeta,
+                                                       final SolanaAccounts solanaAccounts,
+                                                       final PublicKey marginfiGroupKey,
+                                                       final PublicKey adminKey,
+                                                       // Pays to init accounts and pays `fee_state.bank_init_flat_sol_fee` lamports to the protocol
+                                                       final PublicKey feePayerKey,
+                                                       final PublicKey feeStateKey,
+                                                       final PublicKey globalFeeWalletKey,
+                                                       final PublicKey bankMintKey,
+                                                       final PublicKey bankKey,
+                                                       final PublicKey liquidityVaultAuthorityKey,
+                                                       final PublicKey liquidityVaultKey,
+                                                       final PublicKey insuranceVaultAuthorityKey,
+                                                       final PublicKey insuranceVaultKey,
+                                                       final PublicKey feeVaultAuthorityKey,
+                                                       final PublicKey feeVaultKey,
+                                                       final PublicKey tokenProgramKey,
+                                                       final BankConfigCompact bankConfig,
+                                                       final long bankSeed) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiGroupKey);
+    _buffer.writableSigner(adminKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(feeStateKey);
+    _buffer.write(globalFeeWalletKey);
+    _buffer.read(bankMintKey);
+    _buffer.write(bankKey);
+    _buffer.read(liquidityVaultAuthorityKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.read(insuranceVaultAuthorityKey);
+    _buffer.write(insuranceVaultKey);
+    _buffer.read(feeVaultAuthorityKey);
+    _buffer.write(feeVaultKey);
+    _buffer.read(solanaAccounts.rentSysVar());
+    _buffer.read(tokenProgramKey);
+    _buffer.read(solanaAccounts.systemProgram());
+
+    final int _len = 16 + Borsh.len(bankConfig);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_ADD_BANK_WITH_SEED_DISCRIMINATOR.write(_data, _offset);
+    i += Borsh.write(bankConfig, _data, i);
+    putInt64LE(_data, i, bankSeed);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolCloseBank(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedMarginfiProgramMeta,
+                                                 final PublicKey groupKey,
+                                                 final PublicKey bankKey,
+                                                 final PublicKey adminKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(groupKey);
+    _buffer.write(bankKey);
+    _buffer.writableSigner(adminKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_POOL_CLOSE_BANK_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingPoolCollectBankFees(final InstructionBuffer _buffer,
+                                                       final AccountMeta invokedMarginfiProgramMeta,
+                                                       final PublicKey groupKey,
+                                                       final PublicKey bankKey,
+                                                       final PublicKey liquidityVaultAuthorityKey,
+                                                       final PublicKey liquidityVaultKey,
+                                                       final PublicKey insuranceVaultKey,
+                                                       final PublicKey feeVaultKey,
+                                                       final PublicKey feeStateKey,
+                                                       // (validated in handler). Must already exist, may require initializing the ATA if it does not
+                                                       // already exist prior to this ix.
+                                                       final PublicKey feeAtaKey,
+                                                       final PublicKey tokenProgramKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(bankKey);
+    _buffer.read(liquidityVaultAuthorityKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.write(insuranceVaultKey);
+    _buffer.write(feeVaultKey);
+    _buffer.read(feeStateKey);
+    _buffer.write(feeAtaKey);
+    _buffer.read(tokenProgramKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_POOL_COLLECT_BANK_FEES_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingPoolConfigureBank(final InstructionBuffer _buffer,
+                                                     final AccountMeta invokedMarginfiProgramMeta,
+                                                     final PublicKey groupKey,
+                                                     final PublicKey adminKey,
+                                                     final PublicKey bankKey,
+                                                     final BankConfigOpt bankConfigOpt) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(groupKey);
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(bankKey);
+
+    final int _len = 8 + Borsh.len(bankConfigOpt);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(bankConfigOpt, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolConfigureBankEmode(final InstructionBuffer _buffer,
+                                                          final AccountMeta invokedMarginfiProgramMeta,
+                                                          final PublicKey groupKey,
+                                                          final PublicKey emodeAdminKey,
+                                                          final PublicKey bankKey,
+                                                          final int emodeTag,
+                                                          final EmodeEntry[] entries) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.readOnlySigner(emodeAdminKey);
+    _buffer.write(bankKey);
+
+    final int _len = 10 + Borsh.lenArray(entries);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_EMODE_DISCRIMINATOR.write(_data, _offset);
+    putInt16LE(_data, i, emodeTag);
+    i += 2;
+    Borsh.writeArrayChecked(entries, 10, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolConfigureBankInterestOnly(final InstructionBuffer _buffer,
+                                                                 final AccountMeta invokedMarginfiProgramMeta,
+                                                                 final PublicKey groupKey,
+                                                                 final PublicKey delegateCurveAdminKey,
+                                                                 final PublicKey bankKey,
+                                                                 final InterestRateConfigOpt interestRateConfig) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(groupKey);
+    _buffer.readOnlySigner(delegateCurveAdminKey);
+    _buffer.write(bankKey);
+
+    final int _len = 8 + Borsh.len(interestRateConfig);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_INTEREST_ONLY_DISCRIMINATOR.write(_data, _offset);
+    Borsh.write(interestRateConfig, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolConfigureBankLimitsOnly(final InstructionBuffer _buffer,
+                                                               final AccountMeta invokedMarginfiProgramMeta,
+                                                               final PublicKey groupKey,
+                                                               final PublicKey delegateLimitAdminKey,
+                                                               final PublicKey bankKey,
+                                                               final OptionalLong depositLimit,
+                                                               final OptionalLong borrowLimit,
+                                                               final OptionalLong totalAssetValueInitLimit) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(groupKey);
+    _buffer.readOnlySigner(delegateLimitAdminKey);
+    _buffer.write(bankKey);
+
+    final int _len = 8
+        + (depositLimit == null || depositLimit.isEmpty() ? 1 : 9)
+        + (borrowLimit == null || borrowLimit.isEmpty() ? 1 : 9)
+        + (totalAssetValueInitLimit == null || totalAssetValueInitLimit.isEmpty() ? 1 : 9);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_LIMITS_ONLY_DISCRIMINATOR.write(_data, _offset);
+    i += Borsh.writeOptional(depositLimit, _data, i);
+    i += Borsh.writeOptional(borrowLimit, _data, i);
+    Borsh.writeOptional(totalAssetValueInitLimit, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolConfigureBankOracle(final InstructionBuffer _buffer,
+                                                           final AccountMeta invokedMarginfiProgramMeta,
+                                                           final PublicKey groupKey,
+                                                           final PublicKey adminKey,
+                                                           final PublicKey bankKey,
+                                                           final int setup,
+                                                           final PublicKey oracle) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(bankKey);
+
+    final int _len = 41;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_ORACLE_DISCRIMINATOR.write(_data, _offset);
+    _data[i] = (byte) setup;
+    ++i;
+    oracle.write(_data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolHandleBankruptcy(final InstructionBuffer _buffer,
+                                                        final AccountMeta invokedMarginfiProgramMeta,
+                                                        final PublicKey groupKey,
+                                                        // PERMISSIONLESS_BAD_DEBT_SETTLEMENT_FLAG is not set
+                                                        final PublicKey signerKey,
+                                                        final PublicKey bankKey,
+                                                        final PublicKey marginfiAccountKey,
+                                                        final PublicKey liquidityVaultKey,
+                                                        final PublicKey insuranceVaultKey,
+                                                        final PublicKey insuranceVaultAuthorityKey,
+                                                        final PublicKey tokenProgramKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.readOnlySigner(signerKey);
+    _buffer.write(bankKey);
+    _buffer.write(marginfiAccountKey);
+    _buffer.write(liquidityVaultKey);
+    _buffer.write(insuranceVaultKey);
+    _buffer.read(insuranceVaultAuthorityKey);
+    _buffer.read(tokenProgramKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_POOL_HANDLE_BANKRUPTCY_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingPoolSetupEmissions(final InstructionBuffer _buffer,
+                                                      final AccountMeta invokedMarginfiProgramMeta,
+                                                      final SolanaAccounts solanaAccounts,
+                                                      final PublicKey groupKey,
+                                                      final PublicKey delegateEmissionsAdminKey,
+                                                      final PublicKey bankKey,
+                                                      final PublicKey emissionsMintKey,
+                                                      final PublicKey emissionsAuthKey,
+                                                      final PublicKey emissionsTokenAccountKey,
+                                                      // NOTE: This is a TokenAccount, spl transfer will validate it.
+                                                      // 
+                                                      final PublicKey emissionsFundingAccountKey,
+                                                      final PublicKey tokenProgramKey,
+                                                      final long flags,
+                                                      final long rate,
+                                                      final long totalEmissions) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(groupKey);
+    _buffer.writableSigner(delegateEmissionsAdminKey);
+    _buffer.write(bankKey);
+    _buffer.read(emissionsMintKey);
+    _buffer.read(emissionsAuthKey);
+    _buffer.write(emissionsTokenAccountKey);
+    _buffer.write(emissionsFundingAccountKey);
+    _buffer.read(tokenProgramKey);
+    _buffer.read(solanaAccounts.systemProgram());
+
+    final int _len = 32;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_SETUP_EMISSIONS_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, flags);
+    i += 8;
+    putInt64LE(_data, i, rate);
+    i += 8;
+    putInt64LE(_data, i, totalEmissions);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolUpdateEmissionsParameters(final InstructionBuffer _buffer,
+                                                                 final AccountMeta invokedMarginfiProgramMeta,
+                                                                 final PublicKey groupKey,
+                                                                 final PublicKey delegateEmissionsAdminKey,
+                                                                 final PublicKey bankKey,
+                                                                 final PublicKey emissionsMintKey,
+                                                                 final PublicKey emissionsTokenAccountKey,
+                                                                 final PublicKey emissionsFundingAccountKey,
+                                                                 final PublicKey tokenProgramKey,
+                                                                 final OptionalLong emissionsFlags,
+                                                                 final OptionalLong emissionsRate,
+                                                                 final OptionalLong additionalEmissions) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(groupKey);
+    _buffer.writableSigner(delegateEmissionsAdminKey);
+    _buffer.write(bankKey);
+    _buffer.read(emissionsMintKey);
+    _buffer.write(emissionsTokenAccountKey);
+    _buffer.write(emissionsFundingAccountKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 8
+        + (emissionsFlags == null || emissionsFlags.isEmpty() ? 1 : 9)
+        + (emissionsRate == null || emissionsRate.isEmpty() ? 1 : 9)
+        + (additionalEmissions == null || additionalEmissions.isEmpty() ? 1 : 9);
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_UPDATE_EMISSIONS_PARAMETERS_DISCRIMINATOR.write(_data, _offset);
+    i += Borsh.writeOptional(emissionsFlags, _data, i);
+    i += Borsh.writeOptional(emissionsRate, _data, i);
+    Borsh.writeOptional(additionalEmissions, _data, i);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolUpdateFeesDestinationAccount(final InstructionBuffer _buffer,
+                                                                    final AccountMeta invokedMarginfiProgramMeta,
+                                                                    final PublicKey groupKey,
+                                                                    final PublicKey bankKey,
+                                                                    final PublicKey adminKey,
+                                                                    // Bank fees will be sent to this account which must be an ATA of the bank's mint.
+                                                                    final PublicKey destinationAccountKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(bankKey);
+    _buffer.readOnlySigner(adminKey);
+    _buffer.read(destinationAccountKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.LENDING_POOL_UPDATE_FEES_DESTINATION_ACCOUNT_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction lendingPoolWithdrawFees(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedMarginfiProgramMeta,
+                                                    final PublicKey groupKey,
+                                                    final PublicKey bankKey,
+                                                    final PublicKey adminKey,
+                                                    final PublicKey feeVaultKey,
+                                                    final PublicKey feeVaultAuthorityKey,
+                                                    final PublicKey dstTokenAccountKey,
+                                                    final PublicKey tokenProgramKey,
+                                                    final long amount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.read(bankKey);
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(feeVaultKey);
+    _buffer.read(feeVaultAuthorityKey);
+    _buffer.write(dstTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_WITHDRAW_FEES_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolWithdrawFeesPermissionless(final InstructionBuffer _buffer,
+                                                                  final AccountMeta invokedMarginfiProgramMeta,
+                                                                  final PublicKey groupKey,
+                                                                  final PublicKey bankKey,
+                                                                  final PublicKey feeVaultKey,
+                                                                  final PublicKey feeVaultAuthorityKey,
+                                                                  final PublicKey feesDestinationAccountKey,
+                                                                  final PublicKey tokenProgramKey,
+                                                                  final long amount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.read(bankKey);
+    _buffer.write(feeVaultKey);
+    _buffer.read(feeVaultAuthorityKey);
+    _buffer.write(feesDestinationAccountKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_WITHDRAW_FEES_PERMISSIONLESS_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction lendingPoolWithdrawInsurance(final InstructionBuffer _buffer,
+                                                         final AccountMeta invokedMarginfiProgramMeta,
+                                                         final PublicKey groupKey,
+                                                         final PublicKey bankKey,
+                                                         final PublicKey adminKey,
+                                                         final PublicKey insuranceVaultKey,
+                                                         final PublicKey insuranceVaultAuthorityKey,
+                                                         final PublicKey dstTokenAccountKey,
+                                                         final PublicKey tokenProgramKey,
+                                                         final long amount) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.read(bankKey);
+    _buffer.readOnlySigner(adminKey);
+    _buffer.write(insuranceVaultKey);
+    _buffer.read(insuranceVaultAuthorityKey);
+    _buffer.write(dstTokenAccountKey);
+    _buffer.read(tokenProgramKey);
+
+    final int _len = 16;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.LENDING_POOL_WITHDRAW_INSURANCE_DISCRIMINATOR.write(_data, _offset);
+    putInt64LE(_data, i, amount);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction marginfiAccountClose(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedMarginfiProgramMeta,
+                                                 final PublicKey marginfiAccountKey,
+                                                 final PublicKey authorityKey,
+                                                 final PublicKey feePayerKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.writableSigner(feePayerKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.MARGINFI_ACCOUNT_CLOSE_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction marginfiAccountInitialize(final InstructionBuffer _buffer,
+                                                      final AccountMeta invokedMarginfiProgramMeta,
+                                                      final SolanaAccounts solanaAccounts,
+                                                      final PublicKey marginfiGroupKey,
+                                                      final PublicKey marginfiAccountKey,
+                                                      final PublicKey authorityKey,
+                                                      final PublicKey feePayerKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(marginfiGroupKey);
+    _buffer.writableSigner(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(solanaAccounts.systemProgram());
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.MARGINFI_ACCOUNT_INITIALIZE_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction marginfiAccountUpdateEmissionsDestinationAccount(final InstructionBuffer _buffer,
+                                                                             final AccountMeta invokedMarginfiProgramMeta,
+                                                                             final PublicKey marginfiAccountKey,
+                                                                             final PublicKey authorityKey,
+                                                                             // User's earned emissions will be sent to the canonical ATA of this wallet.
+                                                                             // 
+                                                                             final PublicKey destinationAccountKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.read(destinationAccountKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.MARGINFI_ACCOUNT_UPDATE_EMISSIONS_DESTINATION_ACCOUNT_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction marginfiGroupConfigure(final InstructionBuffer _buffer,
+                                                   final AccountMeta invokedMarginfiProgramMeta,
+                                                   final PublicKey marginfiGroupKey,
+                                                   final PublicKey adminKey,
+                                                   final PublicKey newAdmin,
+                                                   final PublicKey newEmodeAdmin,
+                                                   final PublicKey newCurveAdmin,
+                                                   final PublicKey newLimitAdmin,
+                                                   final PublicKey newEmissionsAdmin,
+                                                   final boolean isArenaGroup) {
+    final int _keys = _buffer.keysMark();
+    _buffer.write(marginfiGroupKey);
+    _buffer.readOnlySigner(adminKey);
+
+    final int _len = 169;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.MARGINFI_GROUP_CONFIGURE_DISCRIMINATOR.write(_data, _offset);
+    newAdmin.write(_data, i);
+    i += 32;
+    newEmodeAdmin.write(_data, i);
+    i += 32;
+    newCurveAdmin.write(_data, i);
+    i += 32;
+    newLimitAdmin.write(_data, i);
+    i += 32;
+    newEmissionsAdmin.write(_data, i);
+    i += 32;
+    _data[i] = (byte) (isArenaGroup ? 1 : 0);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction marginfiGroupInitialize(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedMarginfiProgramMeta,
+                                                    final SolanaAccounts solanaAccounts,
+                                                    final PublicKey marginfiGroupKey,
+                                                    final PublicKey adminKey,
+                                                    final PublicKey feeStateKey,
+                                                    final boolean isArenaGroup) {
+    final int _keys = _buffer.keysMark();
+    _buffer.writableSigner(marginfiGroupKey);
+    _buffer.writableSigner(adminKey);
+    _buffer.read(feeStateKey);
+    _buffer.read(solanaAccounts.systemProgram());
+
+    final int _len = 9;
+    final int _offset = _buffer.allocate(_len);
+    final byte[] _data = _buffer.data();
+    int i = _offset + MarginfiProgram.MARGINFI_GROUP_INITIALIZE_DISCRIMINATOR.write(_data, _offset);
+    _data[i] = (byte) (isArenaGroup ? 1 : 0);
+
+    return _buffer.createInstruction(invokedMarginfiProgramMeta, _keys, _offset, _len);
+  }
+
+  public static Instruction migratePythPushOracle(final InstructionBuffer _buffer,
+                                                  final AccountMeta invokedMarginfiProgramMeta,
+                                                  final PublicKey groupKey,
+                                                  final PublicKey bankKey,
+                                                  // Must use the Pyth Sponsored shard ID (0) or mrgn's (3301)
+                                                  // 
+                                                  final PublicKey oracleKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(bankKey);
+    _buffer.read(oracleKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.MIGRATE_PYTH_PUSH_ORACLE_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction propagateFeeState(final InstructionBuffer _buffer,
+                                              final AccountMeta invokedMarginfiProgramMeta,
+                                              final PublicKey feeStateKey,
+                                              // Any group, this ix is permisionless and can propogate the fee to any group
+                                              final PublicKey marginfiGroupKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(feeStateKey);
+    _buffer.write(marginfiGroupKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.PROPAGATE_FEE_STATE_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction propagateStakedSettings(final InstructionBuffer _buffer,
+                                                    final AccountMeta invokedMarginfiProgramMeta,
+                                                    final PublicKey marginfiGroupKey,
+                                                    final PublicKey stakedSettingsKey,
+                                                    final PublicKey bankKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(marginfiGroupKey);
+    _buffer.read(stakedSettingsKey);
+    _buffer.write(bankKey);
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.PROPAGATE_STAKED_SETTINGS_DISCRIMINATOR
+    );
+  }
+
+  public static Instruction transferToNewAccount(final InstructionBuffer _buffer,
+                                                 final AccountMeta invokedMarginfiProgramMeta,
+                                                 final SolanaAccounts solanaAccounts,
+                                                 final PublicKey groupKey,
+                                                 final PublicKey oldMarginfiAccountKey,
+                                                 final PublicKey newMarginfiAccountKey,
+                                                 final PublicKey authorityKey,
+                                                 final PublicKey feePayerKey,
+                                                 final PublicKey newAuthorityKey,
+                                                 final PublicKey globalFeeWalletKey) {
+    final int _keys = _buffer.keysMark();
+    _buffer.read(groupKey);
+    _buffer.write(oldMarginfiAccountKey);
+    _buffer.writableSigner(newMarginfiAccountKey);
+    _buffer.readOnlySigner(authorityKey);
+    _buffer.writableSigner(feePayerKey);
+    _buffer.read(newAuthorityKey);
+    _buffer.write(globalFeeWalletKey);
+    _buffer.read(solanaAccounts.systemProgram());
+
+    return _buffer.createInstruction(
+        invokedMarginfiProgramMeta, _keys, MarginfiProgram.TRANSFER_TO_NEW_ACCOUNT_DISCRIMINATOR
+    );
+  }
+
+  private MarginfiBufferedInstructions() {
+  }
+}
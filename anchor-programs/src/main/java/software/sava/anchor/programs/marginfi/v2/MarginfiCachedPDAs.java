@@ -0,0 +1,220 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// MarginfiPDAs derived through ProgramAddressCache. The bump overloads take the bump stored by the program, e.g.
+// Bank.liquidityVaultBump, and derive the address with a single hash instead of searching for it.
+public final class MarginfiCachedPDAs {
+
+  private static final byte[] EMISSIONS_AUTH_SEED = "emissions_auth_seed".getBytes(US_ASCII);
+  private static final byte[] EMISSIONS_TOKEN_ACCOUNT_SEED = "emissions_token_account_seed".getBytes(US_ASCII);
+  private static final byte[] FEESTATE_SEED = "feestate".getBytes(US_ASCII);
+  private static final byte[] FEE_VAULT_AUTH_SEED = "fee_vault_auth".getBytes(US_ASCII);
+  private static final byte[] FEE_VAULT_SEED = "fee_vault".getBytes(US_ASCII);
+  private static final byte[] INSURANCE_VAULT_AUTH_SEED = "insurance_vault_auth".getBytes(US_ASCII);
+  private static final byte[] INSURANCE_VAULT_SEED = "insurance_vault".getBytes(US_ASCII);
+  private static final byte[] LIQUIDITY_VAULT_AUTH_SEED = "liquidity_vault_auth".getBytes(US_ASCII);
+  private static final byte[] LIQUIDITY_VAULT_SEED = "liquidity_vault".getBytes(US_ASCII);
+  private static final byte[] STAKED_SETTINGS_SEED = "staked_settings".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress bankPDA(final PublicKey program,
+                                              final PublicKey marginfiGroupAccount,
+                                              final PublicKey bankMintAccount,
+                                              final byte[] bankSeed) {
+    return ProgramAddressCache.findProgramAddress(marginfiGroupAccount, bankMintAccount, bankSeed, program);
+  }
+
+  public static ProgramDerivedAddress bankPDA(final PublicKey program,
+                                              final PublicKey marginfiGroupAccount,
+                                              final PublicKey bankMintAccount,
+                                              final byte[] bankSeed,
+                                              final int bump) {
+    return ProgramAddressCache.createProgramAddress(marginfiGroupAccount, bankMintAccount, bankSeed, bump, program);
+  }
+
+  public static ProgramDerivedAddress bankInsuranceVaultPDA(final PublicKey program,
+                                                            final PublicKey liabBankAccount) {
+    return ProgramAddressCache.findProgramAddress(INSURANCE_VAULT_SEED, liabBankAccount, program);
+  }
+
+  public static ProgramDerivedAddress bankInsuranceVaultPDA(final PublicKey program,
+                                                            final PublicKey liabBankAccount,
+                                                            final int bump) {
+    return ProgramAddressCache.createProgramAddress(INSURANCE_VAULT_SEED, liabBankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress bankLiquidityVaultPDA(final PublicKey program,
+                                                            final PublicKey liabBankAccount) {
+    return ProgramAddressCache.findProgramAddress(LIQUIDITY_VAULT_SEED, liabBankAccount, program);
+  }
+
+  public static ProgramDerivedAddress bankLiquidityVaultPDA(final PublicKey program,
+                                                            final PublicKey liabBankAccount,
+                                                            final int bump) {
+    return ProgramAddressCache.createProgramAddress(LIQUIDITY_VAULT_SEED, liabBankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress bankLiquidityVaultAuthorityPDA(final PublicKey program,
+                                                                     final PublicKey bankAccount) {
+    return ProgramAddressCache.findProgramAddress(LIQUIDITY_VAULT_AUTH_SEED, bankAccount, program);
+  }
+
+  public static ProgramDerivedAddress bankLiquidityVaultAuthorityPDA(final PublicKey program,
+                                                                     final PublicKey bankAccount,
+                                                                     final int bump) {
+    return ProgramAddressCache.createProgramAddress(LIQUIDITY_VAULT_AUTH_SEED, bankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress bankLiquidityVaultAuthority1PDA(final PublicKey program,
+                                                                      final PublicKey liabBankAccount) {
+    return ProgramAddressCache.findProgramAddress(LIQUIDITY_VAULT_AUTH_SEED, liabBankAccount, program);
+  }
+
+  public static ProgramDerivedAddress bankLiquidityVaultAuthority1PDA(final PublicKey program,
+                                                                      final PublicKey liabBankAccount,
+                                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(LIQUIDITY_VAULT_AUTH_SEED, liabBankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress emissionsAuthPDA(final PublicKey program,
+                                                       final PublicKey bankAccount,
+                                                       final PublicKey emissionsMintAccount) {
+    return ProgramAddressCache.findProgramAddress(EMISSIONS_AUTH_SEED, bankAccount, emissionsMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress emissionsAuthPDA(final PublicKey program,
+                                                       final PublicKey bankAccount,
+                                                       final PublicKey emissionsMintAccount,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        EMISSIONS_AUTH_SEED, bankAccount, emissionsMintAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress emissionsTokenAccountPDA(final PublicKey program,
+                                                               final PublicKey bankAccount,
+                                                               final PublicKey emissionsMintAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        EMISSIONS_TOKEN_ACCOUNT_SEED, bankAccount, emissionsMintAccount, program
+    );
+  }
+
+  public static ProgramDerivedAddress emissionsTokenAccountPDA(final PublicKey program,
+                                                               final PublicKey bankAccount,
+                                                               final PublicKey emissionsMintAccount,
+                                                               final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        EMISSIONS_TOKEN_ACCOUNT_SEED, bankAccount, emissionsMintAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress emissionsVaultPDA(final PublicKey program,
+                                                        final PublicKey bankAccount,
+                                                        final PublicKey emissionsMintAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        EMISSIONS_TOKEN_ACCOUNT_SEED, bankAccount, emissionsMintAccount, program
+    );
+  }
+
+  public static ProgramDerivedAddress emissionsVaultPDA(final PublicKey program,
+                                                        final PublicKey bankAccount,
+                                                        final PublicKey emissionsMintAccount,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        EMISSIONS_TOKEN_ACCOUNT_SEED, bankAccount, emissionsMintAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress feeStatePDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(FEESTATE_SEED, program);
+  }
+
+  public static ProgramDerivedAddress feeStatePDA(final PublicKey program,
+                                                  final int bump) {
+    return ProgramAddressCache.createProgramAddress(FEESTATE_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultPDA(final PublicKey program,
+                                                  final PublicKey bankAccount) {
+    return ProgramAddressCache.findProgramAddress(FEE_VAULT_SEED, bankAccount, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultPDA(final PublicKey program,
+                                                  final PublicKey bankAccount,
+                                                  final int bump) {
+    return ProgramAddressCache.createProgramAddress(FEE_VAULT_SEED, bankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultAuthorityPDA(final PublicKey program,
+                                                           final PublicKey bankAccount) {
+    return ProgramAddressCache.findProgramAddress(FEE_VAULT_AUTH_SEED, bankAccount, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultAuthorityPDA(final PublicKey program,
+                                                           final PublicKey bankAccount,
+                                                           final int bump) {
+    return ProgramAddressCache.createProgramAddress(FEE_VAULT_AUTH_SEED, bankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress insuranceVaultPDA(final PublicKey program,
+                                                        final PublicKey bankAccount) {
+    return ProgramAddressCache.findProgramAddress(INSURANCE_VAULT_SEED, bankAccount, program);
+  }
+
+  public static ProgramDerivedAddress insuranceVaultPDA(final PublicKey program,
+                                                        final PublicKey bankAccount,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(INSURANCE_VAULT_SEED, bankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress insuranceVaultAuthorityPDA(final PublicKey program,
+                                                                 final PublicKey bankAccount) {
+    return ProgramAddressCache.findProgramAddress(INSURANCE_VAULT_AUTH_SEED, bankAccount, program);
+  }
+
+  public static ProgramDerivedAddress insuranceVaultAuthorityPDA(final PublicKey program,
+                                                                 final PublicKey bankAccount,
+                                                                 final int bump) {
+    return ProgramAddressCache.createProgramAddress(INSURANCE_VAULT_AUTH_SEED, bankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress liquidityVaultPDA(final PublicKey program,
+                                                        final PublicKey bankAccount) {
+    return ProgramAddressCache.findProgramAddress(LIQUIDITY_VAULT_SEED, bankAccount, program);
+  }
+
+  public static ProgramDerivedAddress liquidityVaultPDA(final PublicKey program,
+                                                        final PublicKey bankAccount,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(LIQUIDITY_VAULT_SEED, bankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress liquidityVaultAuthorityPDA(final PublicKey program,
+                                                                 final PublicKey bankAccount) {
+    return ProgramAddressCache.findProgramAddress(LIQUIDITY_VAULT_AUTH_SEED, bankAccount, program);
+  }
+
+  public static ProgramDerivedAddress liquidityVaultAuthorityPDA(final PublicKey program,
+                                                                 final PublicKey bankAccount,
+                                                                 final int bump) {
+    return ProgramAddressCache.createProgramAddress(LIQUIDITY_VAULT_AUTH_SEED, bankAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress stakedSettingsPDA(final PublicKey program,
+                                                        final PublicKey marginfiGroupAccount) {
+    return ProgramAddressCache.findProgramAddress(STAKED_SETTINGS_SEED, marginfiGroupAccount, program);
+  }
+
+  public static ProgramDerivedAddress stakedSettingsPDA(final PublicKey program,
+                                                        final PublicKey marginfiGroupAccount,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(STAKED_SETTINGS_SEED, marginfiGroupAccount, bump, program);
+  }
+
+  private MarginfiCachedPDAs() {
+  }
+}
@@ -0,0 +1,60 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.core.accounts.PublicKey;
+
+// Off-chain equivalent of the HealthCache values for a single MarginfiAccount, all values in dollars.
+public record MarginfiHealth(PublicKey account,
+                             I80F48 assetValue,
+                             I80F48 liabilityValue,
+                             I80F48 assetValueMaint,
+                             I80F48 liabilityValueMaint,
+                             I80F48 assetValueEquity,
+                             I80F48 liabilityValueEquity,
+                             int flags) {
+
+  // An active balance references a bank which is unknown to the engine, the balance is excluded.
+  public static final int MISSING_BANK = 1;
+  // An active balance has no price, the balance is excluded.
+  public static final int MISSING_PRICE = 1 << 1;
+  // Overflow while valuing a balance, the balance is excluded.
+  public static final int OVERFLOW = 1 << 2;
+  // The account mixes ASSET_TAG_DEFAULT and ASSET_TAG_STAKED positions.
+  public static final int ASSET_TAG_CONFLICT = 1 << 3;
+  // The account borrows from an isolated bank alongside other liabilities.
+  public static final int ISOLATED_CONFLICT = 1 << 4;
+
+  private static final int INCOMPLETE = MISSING_BANK | MISSING_PRICE | OVERFLOW;
+
+  public I80F48 initHealth() {
+    return assetValue.sub(liabilityValue);
+  }
+
+  public I80F48 maintHealth() {
+    return assetValueMaint.sub(liabilityValueMaint);
+  }
+
+  public I80F48 equity() {
+    return assetValueEquity.sub(liabilityValueEquity);
+  }
+
+  public boolean isComplete() {
+    return (flags & INCOMPLETE) == 0;
+  }
+
+  public boolean hasFlag(final int flag) {
+    return (flags & flag) == flag;
+  }
+
+  // Whether the account could take on more liabilities.
+  public boolean isHealthy() {
+    return assetValue.compareTo(liabilityValue) >= 0;
+  }
+
+  public boolean isLiquidatable() {
+    return isComplete() && assetValueMaint.compareTo(liabilityValueMaint) < 0;
+  }
+
+  public boolean isInsolvent() {
+    return isComplete() && !liabilityValueEquity.isZero() && assetValueEquity.compareTo(liabilityValueEquity) < 0;
+  }
+}
@@ -0,0 +1,621 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.anchor.programs.marginfi.v2.anchor.MarginfiProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// marginfi v2 instruction data decoded into the MarginfiProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class MarginfiInstructionDecoder {
+
+  public record LendingAccountCloseBalanceIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingAccountCloseBalanceIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingAccountCloseBalanceIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingAccountCloseBalanceIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingAccountEndFlashloanIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingAccountEndFlashloanIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingAccountEndFlashloanIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingAccountEndFlashloanIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingAccountPulseHealthIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingAccountPulseHealthIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingAccountPulseHealthIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingAccountPulseHealthIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingAccountSettleEmissionsIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingAccountSettleEmissionsIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingAccountSettleEmissionsIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingAccountSettleEmissionsIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingAccountSortBalancesIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingAccountSortBalancesIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingAccountSortBalancesIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingAccountSortBalancesIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingAccountWithdrawEmissionsIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingAccountWithdrawEmissionsIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingAccountWithdrawEmissionsIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingAccountWithdrawEmissionsIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingAccountWithdrawEmissionsPermissionlessIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingAccountWithdrawEmissionsPermissionlessIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingAccountWithdrawEmissionsPermissionlessIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingAccountWithdrawEmissionsPermissionlessIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingPoolAccrueBankInterestIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingPoolAccrueBankInterestIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingPoolAccrueBankInterestIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingPoolAccrueBankInterestIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingPoolCloseBankIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingPoolCloseBankIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingPoolCloseBankIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingPoolCloseBankIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingPoolCollectBankFeesIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingPoolCollectBankFeesIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingPoolCollectBankFeesIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingPoolCollectBankFeesIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingPoolHandleBankruptcyIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingPoolHandleBankruptcyIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingPoolHandleBankruptcyIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingPoolHandleBankruptcyIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record LendingPoolUpdateFeesDestinationAccountIxData(Discriminator discriminator) implements Borsh {
+
+    public static LendingPoolUpdateFeesDestinationAccountIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static LendingPoolUpdateFeesDestinationAccountIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new LendingPoolUpdateFeesDestinationAccountIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record MarginfiAccountCloseIxData(Discriminator discriminator) implements Borsh {
+
+    public static MarginfiAccountCloseIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MarginfiAccountCloseIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MarginfiAccountCloseIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record MarginfiAccountInitializeIxData(Discriminator discriminator) implements Borsh {
+
+    public static MarginfiAccountInitializeIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MarginfiAccountInitializeIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MarginfiAccountInitializeIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record MarginfiAccountUpdateEmissionsDestinationAccountIxData(Discriminator discriminator) implements Borsh {
+
+    public static MarginfiAccountUpdateEmissionsDestinationAccountIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MarginfiAccountUpdateEmissionsDestinationAccountIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MarginfiAccountUpdateEmissionsDestinationAccountIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record MigratePythPushOracleIxData(Discriminator discriminator) implements Borsh {
+
+    public static MigratePythPushOracleIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MigratePythPushOracleIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MigratePythPushOracleIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record PropagateFeeStateIxData(Discriminator discriminator) implements Borsh {
+
+    public static PropagateFeeStateIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static PropagateFeeStateIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new PropagateFeeStateIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record PropagateStakedSettingsIxData(Discriminator discriminator) implements Borsh {
+
+    public static PropagateStakedSettingsIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static PropagateStakedSettingsIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new PropagateStakedSettingsIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record TransferToNewAccountIxData(Discriminator discriminator) implements Borsh {
+
+    public static TransferToNewAccountIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static TransferToNewAccountIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new TransferToNewAccountIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_DEPOSIT_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_COLLECT_BANK_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_WITHDRAW_EMISSIONS_PERMISSIONLESS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_REPAY_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.MIGRATE_PYTH_PUSH_ORACLE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.MARGINFI_ACCOUNT_INITIALIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.PROPAGATE_FEE_STATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_END_FLASHLOAN_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_WITHDRAW_EMISSIONS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.PROPAGATE_STAKED_SETTINGS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_HANDLE_BANKRUPTCY_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_WITHDRAW_FEES_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_SETTLE_EMISSIONS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_ADD_BANK_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.MARGINFI_ACCOUNT_UPDATE_EMISSIONS_DESTINATION_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_ACCRUE_BANK_INTEREST_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_WITHDRAW_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.EDIT_GLOBAL_FEE_STATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_LIQUIDATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.EDIT_STAKED_SETTINGS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_INTEREST_ONLY_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.MARGINFI_ACCOUNT_CLOSE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_WITHDRAW_INSURANCE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_PULSE_HEALTH_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_SORT_BALANCES_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_UPDATE_FEES_DESTINATION_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_CLOSE_BALANCE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.MARGINFI_GROUP_INITIALIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_LIMITS_ONLY_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_BORROW_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.CONFIG_GROUP_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_UPDATE_EMISSIONS_PARAMETERS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.INIT_GLOBAL_FEE_STATE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_CLOSE_BANK_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.MARGINFI_GROUP_CONFIGURE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.TRANSFER_TO_NEW_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_SETUP_EMISSIONS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_EMODE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_ADD_BANK_WITH_SEED_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.INIT_STAKED_SETTINGS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_ORACLE_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_ADD_BANK_PERMISSIONLESS_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_ACCOUNT_START_FLASHLOAN_DISCRIMINATOR.data(), 0),
+      getInt64LE(MarginfiProgram.LENDING_POOL_WITHDRAW_FEES_PERMISSIONLESS_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> MarginfiProgram.LendingAccountDepositIxData.read(_data, offset);
+      case 1 -> LendingPoolCollectBankFeesIxData.read(_data, offset);
+      case 2 -> LendingAccountWithdrawEmissionsPermissionlessIxData.read(_data, offset);
+      case 3 -> MarginfiProgram.LendingAccountRepayIxData.read(_data, offset);
+      case 4 -> MigratePythPushOracleIxData.read(_data, offset);
+      case 5 -> MarginfiAccountInitializeIxData.read(_data, offset);
+      case 6 -> PropagateFeeStateIxData.read(_data, offset);
+      case 7 -> LendingAccountEndFlashloanIxData.read(_data, offset);
+      case 8 -> LendingAccountWithdrawEmissionsIxData.read(_data, offset);
+      case 9 -> PropagateStakedSettingsIxData.read(_data, offset);
+      case 10 -> LendingPoolHandleBankruptcyIxData.read(_data, offset);
+      case 11 -> MarginfiProgram.LendingPoolWithdrawFeesIxData.read(_data, offset);
+      case 12 -> LendingAccountSettleEmissionsIxData.read(_data, offset);
+      case 13 -> MarginfiProgram.LendingPoolAddBankIxData.read(_data, offset);
+      case 14 -> MarginfiAccountUpdateEmissionsDestinationAccountIxData.read(_data, offset);
+      case 15 -> LendingPoolAccrueBankInterestIxData.read(_data, offset);
+      case 16 -> MarginfiProgram.LendingAccountWithdrawIxData.read(_data, offset);
+      case 17 -> MarginfiProgram.EditGlobalFeeStateIxData.read(_data, offset);
+      case 18 -> MarginfiProgram.LendingAccountLiquidateIxData.read(_data, offset);
+      case 19 -> MarginfiProgram.LendingPoolConfigureBankIxData.read(_data, offset);
+      case 20 -> MarginfiProgram.EditStakedSettingsIxData.read(_data, offset);
+      case 21 -> MarginfiProgram.LendingPoolConfigureBankInterestOnlyIxData.read(_data, offset);
+      case 22 -> MarginfiAccountCloseIxData.read(_data, offset);
+      case 23 -> MarginfiProgram.LendingPoolWithdrawInsuranceIxData.read(_data, offset);
+      case 24 -> LendingAccountPulseHealthIxData.read(_data, offset);
+      case 25 -> LendingAccountSortBalancesIxData.read(_data, offset);
+      case 26 -> LendingPoolUpdateFeesDestinationAccountIxData.read(_data, offset);
+      case 27 -> LendingAccountCloseBalanceIxData.read(_data, offset);
+      case 28 -> MarginfiProgram.MarginfiGroupInitializeIxData.read(_data, offset);
+      case 29 -> MarginfiProgram.LendingPoolConfigureBankLimitsOnlyIxData.read(_data, offset);
+      case 30 -> MarginfiProgram.LendingAccountBorrowIxData.read(_data, offset);
+      case 31 -> MarginfiProgram.ConfigGroupFeeIxData.read(_data, offset);
+      case 32 -> MarginfiProgram.LendingPoolUpdateEmissionsParametersIxData.read(_data, offset);
+      case 33 -> MarginfiProgram.InitGlobalFeeStateIxData.read(_data, offset);
+      case 34 -> LendingPoolCloseBankIxData.read(_data, offset);
+      case 35 -> MarginfiProgram.MarginfiGroupConfigureIxData.read(_data, offset);
+      case 36 -> TransferToNewAccountIxData.read(_data, offset);
+      case 37 -> MarginfiProgram.LendingPoolSetupEmissionsIxData.read(_data, offset);
+      case 38 -> MarginfiProgram.LendingPoolConfigureBankEmodeIxData.read(_data, offset);
+      case 39 -> MarginfiProgram.LendingPoolAddBankWithSeedIxData.read(_data, offset);
+      case 40 -> MarginfiProgram.InitStakedSettingsIxData.read(_data, offset);
+      case 41 -> MarginfiProgram.LendingPoolConfigureBankOracleIxData.read(_data, offset);
+      case 42 -> MarginfiProgram.LendingPoolAddBankPermissionlessIxData.read(_data, offset);
+      case 43 -> MarginfiProgram.LendingAccountStartFlashloanIxData.read(_data, offset);
+      case 44 -> MarginfiProgram.LendingPoolWithdrawFeesPermissionlessIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private MarginfiInstructionDecoder() {
+  }
+}
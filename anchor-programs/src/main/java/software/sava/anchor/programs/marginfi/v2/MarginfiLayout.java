@@ -0,0 +1,194 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.anchor.programs.marginfi.v2.anchor.types.Balance;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.Bank;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.EmodeEntry;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingAccount;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiAccount;
+import software.sava.core.accounts.PublicKey;
+
+import java.util.Objects;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// Field offsets of the nested marginfi structs and accessors which read I80F48 values directly from account data.
+// Nested offsets are relative to the start of the struct, account accessors take the offset of the account.
+public final class MarginfiLayout {
+
+  public static final int BALANCE_ACTIVE_OFFSET = 0;
+  public static final int BALANCE_BANK_PK_OFFSET = 1;
+  public static final int BALANCE_BANK_ASSET_TAG_OFFSET = 33;
+  public static final int BALANCE_ASSET_SHARES_OFFSET = 40;
+  public static final int BALANCE_LIABILITY_SHARES_OFFSET = 56;
+  public static final int BALANCE_EMISSIONS_OUTSTANDING_OFFSET = 72;
+  public static final int BALANCE_LAST_UPDATE_OFFSET = 88;
+
+  public static final int BANK_CONFIG_ASSET_WEIGHT_INIT_OFFSET = 0;
+  public static final int BANK_CONFIG_ASSET_WEIGHT_MAINT_OFFSET = 16;
+  public static final int BANK_CONFIG_LIABILITY_WEIGHT_INIT_OFFSET = 32;
+  public static final int BANK_CONFIG_LIABILITY_WEIGHT_MAINT_OFFSET = 48;
+  public static final int BANK_CONFIG_DEPOSIT_LIMIT_OFFSET = 64;
+  public static final int BANK_CONFIG_OPERATIONAL_STATE_OFFSET = 312;
+  public static final int BANK_CONFIG_ORACLE_SETUP_OFFSET = 313;
+  public static final int BANK_CONFIG_ORACLE_KEYS_OFFSET = 314;
+  public static final int BANK_CONFIG_BORROW_LIMIT_OFFSET = 480;
+  public static final int BANK_CONFIG_RISK_TIER_OFFSET = 488;
+  public static final int BANK_CONFIG_ASSET_TAG_OFFSET = 489;
+  public static final int BANK_CONFIG_CONFIG_FLAGS_OFFSET = 490;
+  public static final int BANK_CONFIG_TOTAL_ASSET_VALUE_INIT_LIMIT_OFFSET = 496;
+  public static final int BANK_CONFIG_ORACLE_MAX_AGE_OFFSET = 504;
+
+  public static final int EMODE_SETTINGS_EMODE_TAG_OFFSET = 0;
+  public static final int EMODE_SETTINGS_FLAGS_OFFSET = 16;
+  public static final int EMODE_SETTINGS_ENTRIES_OFFSET = 24;
+
+  public static final int EMODE_ENTRY_COLLATERAL_BANK_EMODE_TAG_OFFSET = 0;
+  public static final int EMODE_ENTRY_FLAGS_OFFSET = 2;
+  public static final int EMODE_ENTRY_ASSET_WEIGHT_INIT_OFFSET = 8;
+  public static final int EMODE_ENTRY_ASSET_WEIGHT_MAINT_OFFSET = 24;
+
+  public static final int HEALTH_CACHE_ASSET_VALUE_OFFSET = 0;
+  public static final int HEALTH_CACHE_LIABILITY_VALUE_OFFSET = 16;
+  public static final int HEALTH_CACHE_ASSET_VALUE_MAINT_OFFSET = 32;
+  public static final int HEALTH_CACHE_LIABILITY_VALUE_MAINT_OFFSET = 48;
+  public static final int HEALTH_CACHE_ASSET_VALUE_EQUITY_OFFSET = 64;
+  public static final int HEALTH_CACHE_LIABILITY_VALUE_EQUITY_OFFSET = 80;
+  public static final int HEALTH_CACHE_TIMESTAMP_OFFSET = 96;
+  public static final int HEALTH_CACHE_FLAGS_OFFSET = 104;
+  public static final int HEALTH_CACHE_PRICES_OFFSET = 112;
+
+  public static final int ASSET_TAG_DEFAULT = 0;
+  public static final int ASSET_TAG_SOL = 1;
+  public static final int ASSET_TAG_STAKED = 2;
+
+  public static final long EMODE_ON = 1;
+
+  public static final int NUM_BALANCES = LendingAccount.BALANCES_LEN;
+  public static final int NUM_EMODE_ENTRIES = 10;
+
+  // Bank
+
+  public static I80F48 assetShareValue(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.ASSET_SHARE_VALUE_OFFSET);
+  }
+
+  public static I80F48 liabilityShareValue(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.LIABILITY_SHARE_VALUE_OFFSET);
+  }
+
+  public static I80F48 totalAssetShares(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.TOTAL_ASSET_SHARES_OFFSET);
+  }
+
+  public static I80F48 totalLiabilityShares(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.TOTAL_LIABILITY_SHARES_OFFSET);
+  }
+
+  public static I80F48 assetWeightInit(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.CONFIG_OFFSET + BANK_CONFIG_ASSET_WEIGHT_INIT_OFFSET);
+  }
+
+  public static I80F48 assetWeightMaint(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.CONFIG_OFFSET + BANK_CONFIG_ASSET_WEIGHT_MAINT_OFFSET);
+  }
+
+  public static I80F48 liabilityWeightInit(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.CONFIG_OFFSET + BANK_CONFIG_LIABILITY_WEIGHT_INIT_OFFSET);
+  }
+
+  public static I80F48 liabilityWeightMaint(final byte[] bank, final int offset) {
+    return I80F48.read(bank, offset + Bank.CONFIG_OFFSET + BANK_CONFIG_LIABILITY_WEIGHT_MAINT_OFFSET);
+  }
+
+  public static int riskTier(final byte[] bank, final int offset) {
+    return bank[offset + Bank.CONFIG_OFFSET + BANK_CONFIG_RISK_TIER_OFFSET] & 0xFF;
+  }
+
+  public static int assetTag(final byte[] bank, final int offset) {
+    return bank[offset + Bank.CONFIG_OFFSET + BANK_CONFIG_ASSET_TAG_OFFSET] & 0xFF;
+  }
+
+  public static long totalAssetValueInitLimit(final byte[] bank, final int offset) {
+    return getInt64LE(bank, offset + Bank.CONFIG_OFFSET + BANK_CONFIG_TOTAL_ASSET_VALUE_INIT_LIMIT_OFFSET);
+  }
+
+  public static int emodeTag(final byte[] bank, final int offset) {
+    return getInt16LE(bank, offset + Bank.EMODE_OFFSET + EMODE_SETTINGS_EMODE_TAG_OFFSET) & 0xFFFF;
+  }
+
+  public static int emodeEntryOffset(final int bankOffset, final int index) {
+    Objects.checkIndex(index, NUM_EMODE_ENTRIES);
+    return bankOffset + Bank.EMODE_OFFSET + EMODE_SETTINGS_ENTRIES_OFFSET + (index * EmodeEntry.BYTES);
+  }
+
+  // Balance, index is the position in MarginfiAccount.lendingAccount.balances.
+
+  public static int balanceOffset(final int accountOffset, final int index) {
+    Objects.checkIndex(index, NUM_BALANCES);
+    return accountOffset + MarginfiAccount.LENDING_ACCOUNT_OFFSET + (index * Balance.BYTES);
+  }
+
+  public static boolean balanceActive(final byte[] account, final int accountOffset, final int index) {
+    return account[balanceOffset(accountOffset, index) + BALANCE_ACTIVE_OFFSET] != 0;
+  }
+
+  public static PublicKey balanceBankPk(final byte[] account, final int accountOffset, final int index) {
+    return readPubKey(account, balanceOffset(accountOffset, index) + BALANCE_BANK_PK_OFFSET);
+  }
+
+  public static int balanceBankAssetTag(final byte[] account, final int accountOffset, final int index) {
+    return account[balanceOffset(accountOffset, index) + BALANCE_BANK_ASSET_TAG_OFFSET] & 0xFF;
+  }
+
+  public static I80F48 balanceAssetShares(final byte[] account, final int accountOffset, final int index) {
+    return I80F48.read(account, balanceOffset(accountOffset, index) + BALANCE_ASSET_SHARES_OFFSET);
+  }
+
+  public static I80F48 balanceLiabilityShares(final byte[] account, final int accountOffset, final int index) {
+    return I80F48.read(account, balanceOffset(accountOffset, index) + BALANCE_LIABILITY_SHARES_OFFSET);
+  }
+
+  public static I80F48 balanceEmissionsOutstanding(final byte[] account, final int accountOffset, final int index) {
+    return I80F48.read(account, balanceOffset(accountOffset, index) + BALANCE_EMISSIONS_OUTSTANDING_OFFSET);
+  }
+
+  // HealthCache of a MarginfiAccount.
+
+  public static I80F48 healthAssetValue(final byte[] account, final int accountOffset) {
+    return I80F48.read(account, accountOffset + MarginfiAccount.HEALTH_CACHE_OFFSET + HEALTH_CACHE_ASSET_VALUE_OFFSET);
+  }
+
+  public static I80F48 healthLiabilityValue(final byte[] account, final int accountOffset) {
+    return I80F48.read(account, accountOffset + MarginfiAccount.HEALTH_CACHE_OFFSET + HEALTH_CACHE_LIABILITY_VALUE_OFFSET);
+  }
+
+  public static I80F48 healthAssetValueMaint(final byte[] account, final int accountOffset) {
+    return I80F48.read(account, accountOffset + MarginfiAccount.HEALTH_CACHE_OFFSET + HEALTH_CACHE_ASSET_VALUE_MAINT_OFFSET);
+  }
+
+  public static I80F48 healthLiabilityValueMaint(final byte[] account, final int accountOffset) {
+    return I80F48.read(account, accountOffset + MarginfiAccount.HEALTH_CACHE_OFFSET + HEALTH_CACHE_LIABILITY_VALUE_MAINT_OFFSET);
+  }
+
+  public static I80F48 healthAssetValueEquity(final byte[] account, final int accountOffset) {
+    return I80F48.read(account, accountOffset + MarginfiAccount.HEALTH_CACHE_OFFSET + HEALTH_CACHE_ASSET_VALUE_EQUITY_OFFSET);
+  }
+
+  public static I80F48 healthLiabilityValueEquity(final byte[] account, final int accountOffset) {
+    return I80F48.read(account, accountOffset + MarginfiAccount.HEALTH_CACHE_OFFSET + HEALTH_CACHE_LIABILITY_VALUE_EQUITY_OFFSET);
+  }
+
+  // Price the risk engine used for the balance at index, stored as f64 bits.
+  public static double healthPrice(final byte[] account, final int accountOffset, final int index) {
+    Objects.checkIndex(index, NUM_BALANCES);
+    return Double.longBitsToDouble(getInt64LE(
+        account,
+        accountOffset + MarginfiAccount.HEALTH_CACHE_OFFSET + HEALTH_CACHE_PRICES_OFFSET + (index * Long.BYTES)
+    ));
+  }
+
+  private MarginfiLayout() {
+  }
+}
@@ -0,0 +1,270 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiAccount;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.RiskTier;
+import software.sava.core.accounts.PublicKey;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static software.sava.anchor.programs.marginfi.v2.MarginfiLayout.*;
+import static software.sava.anchor.programs.marginfi.v2.OraclePrice.PriceType.RealTime;
+import static software.sava.anchor.programs.marginfi.v2.OraclePrice.PriceType.TimeWeighted;
+
+// Computes MarginfiAccount health from raw account data, given the latest Banks and a price per bank.
+// Follows the on-chain risk engine: amounts are shares times share value, values are
+// amount * weight * price / 10^decimals, assets use the low price bias and liabilities the high bias.
+// The Initial requirement is valued at the time weighted (EMA) price, Maintenance and Equity at the real time price,
+// see OraclePrice for how confidence intervals are derived.
+// The initial asset weight is discounted once a bank's total deposits exceed totalAssetValueInitLimit, and emode
+// raises the asset weight of collateral whose tag is recognized by every bank the account borrows from.
+// Collateral in Isolated tier banks counts towards Equity only.
+//
+// Banks and prices may be updated concurrently with health computations.
+public final class MarginfiRiskEngine {
+
+  private static final I80F48[] EXP_10 = new I80F48[24];
+
+  static {
+    long pow = 1;
+    for (int i = 0; i < 19; ++i) {
+      EXP_10[i] = I80F48.fromLong(pow);
+      pow *= 10;
+    }
+    final var ten = I80F48.fromLong(10);
+    for (int i = 19; i < EXP_10.length; ++i) {
+      EXP_10[i] = EXP_10[i - 1].mul(ten);
+    }
+  }
+
+  private final Map<PublicKey, BankState> banks;
+  private final Map<PublicKey, OraclePrice> prices;
+
+  private MarginfiRiskEngine(final Map<PublicKey, BankState> banks, final Map<PublicKey, OraclePrice> prices) {
+    this.banks = banks;
+    this.prices = prices;
+  }
+
+  public static MarginfiRiskEngine createEngine(final Collection<BankState> banks,
+                                                final Map<PublicKey, OraclePrice> pricesByBank) {
+    final var bankMap = new ConcurrentHashMap<PublicKey, BankState>(banks.size() << 1);
+    for (final var bank : banks) {
+      bankMap.put(bank.address(), bank);
+    }
+    return new MarginfiRiskEngine(bankMap, new ConcurrentHashMap<>(pricesByBank));
+  }
+
+  public static MarginfiRiskEngine createEngine() {
+    return new MarginfiRiskEngine(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+  }
+
+  public void putBank(final BankState bank) {
+    banks.put(bank.address(), bank);
+  }
+
+  public void putPrice(final PublicKey bank, final OraclePrice price) {
+    prices.put(bank, price);
+  }
+
+  public BankState bank(final PublicKey bank) {
+    return banks.get(bank);
+  }
+
+  public OraclePrice price(final PublicKey bank) {
+    return prices.get(bank);
+  }
+
+  public MarginfiHealth computeHealth(final AccountInfo<byte[]> accountInfo) {
+    return computeHealth(accountInfo.pubKey(), accountInfo.data(), 0);
+  }
+
+  public MarginfiHealth computeHealth(final PublicKey account, final byte[] _data, final int offset) {
+    final var balanceBanks = new BankState[NUM_BALANCES];
+    final var balancePrices = new OraclePrice[NUM_BALANCES];
+    final var liabilityBanks = new BankState[NUM_BALANCES];
+    int numLiabilities = 0;
+    boolean isolatedLiability = false;
+    boolean defaultTag = false;
+    boolean stakedTag = false;
+    int flags = 0;
+
+    for (int i = 0; i < NUM_BALANCES; ++i) {
+      if (!balanceActive(_data, offset, i)) {
+        continue;
+      }
+      final int assetTag = balanceBankAssetTag(_data, offset, i);
+      if (assetTag == ASSET_TAG_DEFAULT) {
+        defaultTag = true;
+      } else if (assetTag == ASSET_TAG_STAKED) {
+        stakedTag = true;
+      }
+      final var bankKey = balanceBankPk(_data, offset, i);
+      final var bank = banks.get(bankKey);
+      if (bank == null) {
+        flags |= MarginfiHealth.MISSING_BANK;
+        continue;
+      }
+      if (!balanceLiabilityShares(_data, offset, i).isZero()) {
+        liabilityBanks[numLiabilities++] = bank;
+        if (bank.riskTier() == RiskTier.Isolated) {
+          isolatedLiability = true;
+        }
+      }
+      final var price = prices.get(bankKey);
+      if (price == null) {
+        flags |= MarginfiHealth.MISSING_PRICE;
+        continue;
+      }
+      balanceBanks[i] = bank;
+      balancePrices[i] = price;
+    }
+    if (defaultTag && stakedTag) {
+      flags |= MarginfiHealth.ASSET_TAG_CONFLICT;
+    }
+    if (isolatedLiability && numLiabilities > 1) {
+      flags |= MarginfiHealth.ISOLATED_CONFLICT;
+    }
+
+    var assetValue = I80F48.ZERO;
+    var liabilityValue = I80F48.ZERO;
+    var assetValueMaint = I80F48.ZERO;
+    var liabilityValueMaint = I80F48.ZERO;
+    var assetValueEquity = I80F48.ZERO;
+    var liabilityValueEquity = I80F48.ZERO;
+    for (int i = 0; i < NUM_BALANCES; ++i) {
+      final var bank = balanceBanks[i];
+      if (bank == null) {
+        continue;
+      }
+      final var price = balancePrices[i];
+      final int decimals = bank.mintDecimals();
+      try {
+        final var assetShares = balanceAssetShares(_data, offset, i);
+        if (!assetShares.isZero()) {
+          final var amount = bank.assetAmount(assetShares);
+          final var lowPrice = price.lowBias(RealTime);
+          assetValueEquity = assetValueEquity.add(calcValue(amount, lowPrice, decimals, null));
+          // calc_weighted_assets values isolated collateral at zero for the Initial and Maintenance requirements
+          if (bank.riskTier() != RiskTier.Isolated) {
+            final var lowPriceInit = price.lowBias(TimeWeighted);
+            var weightInit = bank.assetWeightInit();
+            var weightMaint = bank.assetWeightMaint();
+            if (bank.emodeTag() != 0 && numLiabilities > 0) {
+              final var emodeInit = emodeWeight(bank.emodeTag(), liabilityBanks, numLiabilities, true);
+              if (emodeInit != null) {
+                weightInit = weightInit.max(emodeInit);
+                weightMaint = weightMaint.max(emodeWeight(bank.emodeTag(), liabilityBanks, numLiabilities, false));
+              }
+            }
+            weightInit = initWeightDiscount(bank, lowPriceInit, weightInit);
+
+            final var assetInit = calcValue(amount, lowPriceInit, decimals, weightInit);
+            final var assetMaint = calcValue(amount, lowPrice, decimals, weightMaint);
+            assetValue = assetValue.add(assetInit);
+            assetValueMaint = assetValueMaint.add(assetMaint);
+          }
+        }
+        final var liabilityShares = balanceLiabilityShares(_data, offset, i);
+        if (!liabilityShares.isZero()) {
+          final var amount = bank.liabilityAmount(liabilityShares);
+          final var highPriceInit = price.highBias(TimeWeighted);
+          final var highPrice = price.highBias(RealTime);
+          final var liabilityInit = calcValue(amount, highPriceInit, decimals, bank.liabilityWeightInit());
+          final var liabilityMaint = calcValue(amount, highPrice, decimals, bank.liabilityWeightMaint());
+          final var liabilityEquity = calcValue(amount, highPrice, decimals, null);
+          liabilityValue = liabilityValue.add(liabilityInit);
+          liabilityValueMaint = liabilityValueMaint.add(liabilityMaint);
+          liabilityValueEquity = liabilityValueEquity.add(liabilityEquity);
+        }
+      } catch (final ArithmeticException e) {
+        flags |= MarginfiHealth.OVERFLOW;
+      }
+    }
+
+    return new MarginfiHealth(
+        account,
+        assetValue, liabilityValue,
+        assetValueMaint, liabilityValueMaint,
+        assetValueEquity, liabilityValueEquity,
+        flags
+    );
+  }
+
+  public MarginfiHealth computeHealth(final MarginfiAccount account) {
+    return computeHealth(account._address(), account.write(), 0);
+  }
+
+  // Scores every account in parallel, the result is in the same order as the input.
+  public List<MarginfiHealth> computeHealth(final List<AccountInfo<byte[]>> accounts) {
+    return accounts.parallelStream().map(this::computeHealth).toList();
+  }
+
+  // Re-scores only the given accounts, e.g. those a BankPositionIndex reports for an updated bank or price.
+  // Accounts the lookup no longer knows about are skipped.
+  public List<MarginfiHealth> computeHealth(final Collection<PublicKey> accounts,
+                                            final Function<PublicKey, AccountInfo<byte[]>> accountLookup) {
+    return accounts.parallelStream()
+        .map(accountLookup)
+        .filter(Objects::nonNull)
+        .map(this::computeHealth)
+        .toList();
+  }
+
+  public List<MarginfiHealth> liquidatable(final Collection<AccountInfo<byte[]>> accounts) {
+    return accounts.parallelStream()
+        .filter(accountInfo -> accountInfo.data().length >= MarginfiAccount.BYTES)
+        .map(this::computeHealth)
+        .filter(MarginfiHealth::isLiquidatable)
+        .toList();
+  }
+
+  // The least favorable emode weight offered for the collateral tag across all liability banks,
+  // or null if any of them does not recognize it.
+  private static I80F48 emodeWeight(final int collateralTag,
+                                    final BankState[] liabilityBanks,
+                                    final int numLiabilities,
+                                    final boolean init) {
+    I80F48 weight = null;
+    for (int i = 0; i < numLiabilities; ++i) {
+      final var bank = liabilityBanks[i];
+      final int entry = bank.emodeEntryIndex(collateralTag);
+      if (entry < 0) {
+        return null;
+      }
+      final var entryWeight = init ? bank.emodeAssetWeightsInit()[entry] : bank.emodeAssetWeightsMaint()[entry];
+      weight = weight == null ? entryWeight : weight.min(entryWeight);
+    }
+    return weight;
+  }
+
+  // lowPrice is the time weighted low bias, as for the Initial requirement itself.
+  private static I80F48 initWeightDiscount(final BankState bank, final I80F48 lowPrice, final I80F48 weight) {
+    final long limit = bank.totalAssetValueInitLimit();
+    if (limit == 0) {
+      return weight;
+    }
+    final var totalAssets = bank.assetAmount(bank.totalAssetShares());
+    final var totalValue = calcValue(totalAssets, lowPrice, bank.mintDecimals(), null);
+    final var limitValue = I80F48.fromLong(limit);
+    return totalValue.compareTo(limitValue) > 0
+        ? weight.mul(limitValue.div(totalValue))
+        : weight;
+  }
+
+  static I80F48 exp10(final int exponent) {
+    return EXP_10[exponent];
+  }
+
+  static I80F48 calcValue(final I80F48 amount, final I80F48 price, final int decimals, final I80F48 weight) {
+    if (amount.isZero()) {
+      return I80F48.ZERO;
+    }
+    final var weighted = weight == null ? amount : amount.mul(weight);
+    return weighted.mul(price).div(EXP_10[decimals]);
+  }
+}
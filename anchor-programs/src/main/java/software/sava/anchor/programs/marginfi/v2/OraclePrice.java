@@ -0,0 +1,94 @@
+package software.sava.anchor.programs.marginfi.v2;
+
+// USD prices of one whole token, real time and time weighted (EMA), each with the confidence interval the risk engine
+// biases it by. The Initial requirement is valued at the time weighted price, Maintenance and Equity at the real time
+// price. Assets use the low bias, price - confidence floored at zero, and liabilities the high bias, price + confidence.
+//
+// Confidence intervals are held as final values. fromPyth and fromStdDev derive them the way the on-chain price feeds
+// do, the reported deviation times STD_DEV_MULTIPLE capped at MAX_CONF_INTERVAL of the price. The of factories take
+// intervals which have already been derived.
+public record OraclePrice(I80F48 price,
+                          I80F48 confidence,
+                          I80F48 emaPrice,
+                          I80F48 emaConfidence) {
+
+  public enum PriceType {
+    TimeWeighted,
+    RealTime
+  }
+
+  public static final I80F48 STD_DEV_MULTIPLE = I80F48.fromDouble(1.96);
+  public static final I80F48 MAX_CONF_INTERVAL = I80F48.fromDouble(0.05);
+
+  public static OraclePrice of(final double price,
+                               final double confidence,
+                               final double emaPrice,
+                               final double emaConfidence) {
+    return new OraclePrice(
+        I80F48.fromDouble(price), I80F48.fromDouble(confidence),
+        I80F48.fromDouble(emaPrice), I80F48.fromDouble(emaConfidence)
+    );
+  }
+
+  // Same real time and time weighted price.
+  public static OraclePrice of(final double price, final double confidence) {
+    final var p = I80F48.fromDouble(price);
+    final var c = I80F48.fromDouble(confidence);
+    return new OraclePrice(p, c, p, c);
+  }
+
+  public static OraclePrice of(final double price) {
+    final var p = I80F48.fromDouble(price);
+    return new OraclePrice(p, I80F48.ZERO, p, I80F48.ZERO);
+  }
+
+  public static I80F48 confidenceInterval(final I80F48 price, final I80F48 stdDev) {
+    return stdDev.mul(STD_DEV_MULTIPLE).min(price.mul(MAX_CONF_INTERVAL));
+  }
+
+  // Switchboard style feeds which report a standard deviation.
+  public static OraclePrice fromStdDev(final I80F48 price,
+                                       final I80F48 stdDev,
+                                       final I80F48 emaPrice,
+                                       final I80F48 emaStdDev) {
+    return new OraclePrice(
+        price, confidenceInterval(price, stdDev),
+        emaPrice, confidenceInterval(emaPrice, emaStdDev)
+    );
+  }
+
+  // Pyth price update components, each value being a mantissa scaled by 10^exponent.
+  public static OraclePrice fromPyth(final long price,
+                                     final long conf,
+                                     final long emaPrice,
+                                     final long emaConf,
+                                     final int exponent) {
+    return fromStdDev(
+        scale(price, exponent), scale(conf, exponent),
+        scale(emaPrice, exponent), scale(emaConf, exponent)
+    );
+  }
+
+  private static I80F48 scale(final long mantissa, final int exponent) {
+    final var value = I80F48.fromLong(mantissa);
+    return exponent < 0
+        ? value.div(MarginfiRiskEngine.exp10(-exponent))
+        : value.mul(MarginfiRiskEngine.exp10(exponent));
+  }
+
+  public I80F48 price(final PriceType priceType) {
+    return priceType == PriceType.TimeWeighted ? emaPrice : price;
+  }
+
+  public I80F48 confidence(final PriceType priceType) {
+    return priceType == PriceType.TimeWeighted ? emaConfidence : confidence;
+  }
+
+  public I80F48 lowBias(final PriceType priceType) {
+    return price(priceType).sub(confidence(priceType)).max(I80F48.ZERO);
+  }
+
+  public I80F48 highBias(final PriceType priceType) {
+    return price(priceType).add(confidence(priceType));
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ConfigGroupFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.CONFIG_GROUP_FEE_DISCRIMINATOR.data(), 0);
+
+  private static final int ENABLE_PROGRAM_FEE_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ConfigGroupFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ConfigGroupFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ConfigGroupFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static ConfigGroupFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ConfigGroupFeeIxDataSegmentView(segment, 0);
+  }
+
+  public ConfigGroupFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConfigGroupFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.ConfigGroupFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.ConfigGroupFeeIxData.BYTES, MarginfiProgram.ConfigGroupFeeIxData::read);
+  }
+
+  public boolean enableProgramFee() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ENABLE_PROGRAM_FEE_OFFSET) == 1;
+  }
+}
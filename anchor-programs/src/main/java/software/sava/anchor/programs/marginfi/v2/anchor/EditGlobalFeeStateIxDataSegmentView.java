@@ -0,0 +1,86 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.WrappedI80F48;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class EditGlobalFeeStateIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.EDIT_GLOBAL_FEE_STATE_DISCRIMINATOR.data(), 0);
+
+  private static final int ADMIN_OFFSET = 8;
+  private static final int FEE_WALLET_OFFSET = ADMIN_OFFSET + 32;
+  private static final int BANK_INIT_FLAT_SOL_FEE_OFFSET = FEE_WALLET_OFFSET + 32;
+  private static final int PROGRAM_FEE_FIXED_OFFSET = BANK_INIT_FLAT_SOL_FEE_OFFSET + 4;
+  private static final int PROGRAM_FEE_RATE_OFFSET = PROGRAM_FEE_FIXED_OFFSET + WrappedI80F48.BYTES;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EditGlobalFeeStateIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EditGlobalFeeStateIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EditGlobalFeeStateIxDataSegmentView(segment, offset);
+  }
+
+  public static EditGlobalFeeStateIxDataSegmentView wrap(final MemorySegment segment) {
+    return new EditGlobalFeeStateIxDataSegmentView(segment, 0);
+  }
+
+  public EditGlobalFeeStateIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EditGlobalFeeStateIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.EditGlobalFeeStateIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.EditGlobalFeeStateIxData.BYTES, MarginfiProgram.EditGlobalFeeStateIxData::read);
+  }
+
+  public PublicKey admin() {
+    return readPubKey(segment, offset + ADMIN_OFFSET);
+  }
+
+  public PublicKey feeWallet() {
+    return readPubKey(segment, offset + FEE_WALLET_OFFSET);
+  }
+
+  public int bankInitFlatSolFee() {
+    return getInt32LE(segment, offset + BANK_INIT_FLAT_SOL_FEE_OFFSET);
+  }
+
+  public WrappedI80F48 programFeeFixed() {
+    return MemorySegmentUtil.read(segment, offset + PROGRAM_FEE_FIXED_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public WrappedI80F48 programFeeRate() {
+    return MemorySegmentUtil.read(segment, offset + PROGRAM_FEE_RATE_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.StakedSettingsConfig;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitStakedSettingsIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.INIT_STAKED_SETTINGS_DISCRIMINATOR.data(), 0);
+
+  private static final int SETTINGS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitStakedSettingsIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitStakedSettingsIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitStakedSettingsIxDataSegmentView(segment, offset);
+  }
+
+  public static InitStakedSettingsIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitStakedSettingsIxDataSegmentView(segment, 0);
+  }
+
+  public InitStakedSettingsIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitStakedSettingsIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.InitStakedSettingsIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.InitStakedSettingsIxData.BYTES, MarginfiProgram.InitStakedSettingsIxData::read);
+  }
+
+  public StakedSettingsConfig settings() {
+    return MemorySegmentUtil.read(segment, offset + SETTINGS_OFFSET, StakedSettingsConfig.BYTES, StakedSettingsConfig::read);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingAccountBorrowIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_ACCOUNT_BORROW_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingAccountBorrowIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingAccountBorrowIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingAccountBorrowIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingAccountBorrowIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingAccountBorrowIxDataSegmentView(segment, 0);
+  }
+
+  public LendingAccountBorrowIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingAccountBorrowIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.LendingAccountBorrowIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.LendingAccountBorrowIxData.BYTES, MarginfiProgram.LendingAccountBorrowIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.marginfi.v2.MarginfiInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingAccountPulseHealthIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_ACCOUNT_PULSE_HEALTH_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingAccountPulseHealthIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingAccountPulseHealthIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingAccountPulseHealthIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingAccountPulseHealthIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingAccountPulseHealthIxDataSegmentView(segment, 0);
+  }
+
+  public LendingAccountPulseHealthIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingAccountPulseHealthIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiInstructionDecoder.LendingAccountPulseHealthIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiInstructionDecoder.LendingAccountPulseHealthIxData.BYTES, MarginfiInstructionDecoder.LendingAccountPulseHealthIxData::read);
+  }
+}
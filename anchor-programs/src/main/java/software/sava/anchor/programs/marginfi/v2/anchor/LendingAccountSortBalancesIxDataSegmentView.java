@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.marginfi.v2.MarginfiInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingAccountSortBalancesIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_ACCOUNT_SORT_BALANCES_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingAccountSortBalancesIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingAccountSortBalancesIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingAccountSortBalancesIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingAccountSortBalancesIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingAccountSortBalancesIxDataSegmentView(segment, 0);
+  }
+
+  public LendingAccountSortBalancesIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingAccountSortBalancesIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiInstructionDecoder.LendingAccountSortBalancesIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiInstructionDecoder.LendingAccountSortBalancesIxData.BYTES, MarginfiInstructionDecoder.LendingAccountSortBalancesIxData::read);
+  }
+}
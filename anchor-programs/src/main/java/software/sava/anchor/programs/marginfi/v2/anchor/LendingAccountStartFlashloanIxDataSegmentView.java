@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingAccountStartFlashloanIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_ACCOUNT_START_FLASHLOAN_DISCRIMINATOR.data(), 0);
+
+  private static final int END_INDEX_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingAccountStartFlashloanIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingAccountStartFlashloanIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingAccountStartFlashloanIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingAccountStartFlashloanIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingAccountStartFlashloanIxDataSegmentView(segment, 0);
+  }
+
+  public LendingAccountStartFlashloanIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingAccountStartFlashloanIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.LendingAccountStartFlashloanIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.LendingAccountStartFlashloanIxData.BYTES, MarginfiProgram.LendingAccountStartFlashloanIxData::read);
+  }
+
+  public long endIndex() {
+    return getInt64LE(segment, offset + END_INDEX_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingPoolAddBankPermissionlessIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_POOL_ADD_BANK_PERMISSIONLESS_DISCRIMINATOR.data(), 0);
+
+  private static final int BANK_SEED_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingPoolAddBankPermissionlessIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingPoolAddBankPermissionlessIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingPoolAddBankPermissionlessIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingPoolAddBankPermissionlessIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingPoolAddBankPermissionlessIxDataSegmentView(segment, 0);
+  }
+
+  public LendingPoolAddBankPermissionlessIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingPoolAddBankPermissionlessIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.LendingPoolAddBankPermissionlessIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.LendingPoolAddBankPermissionlessIxData.BYTES, MarginfiProgram.LendingPoolAddBankPermissionlessIxData::read);
+  }
+
+  public long bankSeed() {
+    return getInt64LE(segment, offset + BANK_SEED_OFFSET);
+  }
+}
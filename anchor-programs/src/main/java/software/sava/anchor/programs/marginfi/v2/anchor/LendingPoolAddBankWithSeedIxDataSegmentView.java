@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.BankConfigCompact;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingPoolAddBankWithSeedIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_POOL_ADD_BANK_WITH_SEED_DISCRIMINATOR.data(), 0);
+
+  private static final int BANK_CONFIG_OFFSET = 8;
+  private static final int BANK_SEED_OFFSET = BANK_CONFIG_OFFSET + BankConfigCompact.BYTES;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingPoolAddBankWithSeedIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingPoolAddBankWithSeedIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingPoolAddBankWithSeedIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingPoolAddBankWithSeedIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingPoolAddBankWithSeedIxDataSegmentView(segment, 0);
+  }
+
+  public LendingPoolAddBankWithSeedIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingPoolAddBankWithSeedIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.LendingPoolAddBankWithSeedIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.LendingPoolAddBankWithSeedIxData.BYTES, MarginfiProgram.LendingPoolAddBankWithSeedIxData::read);
+  }
+
+  public BankConfigCompact bankConfig() {
+    return MemorySegmentUtil.read(segment, offset + BANK_CONFIG_OFFSET, BankConfigCompact.BYTES, BankConfigCompact::read);
+  }
+
+  public long bankSeed() {
+    return getInt64LE(segment, offset + BANK_SEED_OFFSET);
+  }
+}
@@ -0,0 +1,70 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingPoolConfigureBankOracleIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_POOL_CONFIGURE_BANK_ORACLE_DISCRIMINATOR.data(), 0);
+
+  private static final int SETUP_OFFSET = 8;
+  private static final int ORACLE_OFFSET = SETUP_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingPoolConfigureBankOracleIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingPoolConfigureBankOracleIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingPoolConfigureBankOracleIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingPoolConfigureBankOracleIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingPoolConfigureBankOracleIxDataSegmentView(segment, 0);
+  }
+
+  public LendingPoolConfigureBankOracleIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingPoolConfigureBankOracleIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.LendingPoolConfigureBankOracleIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.LendingPoolConfigureBankOracleIxData.BYTES, MarginfiProgram.LendingPoolConfigureBankOracleIxData::read);
+  }
+
+  public int setup() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + SETUP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey oracle() {
+    return readPubKey(segment, offset + ORACLE_OFFSET);
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingPoolSetupEmissionsIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_POOL_SETUP_EMISSIONS_DISCRIMINATOR.data(), 0);
+
+  private static final int FLAGS_OFFSET = 8;
+  private static final int RATE_OFFSET = FLAGS_OFFSET + 8;
+  private static final int TOTAL_EMISSIONS_OFFSET = RATE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingPoolSetupEmissionsIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingPoolSetupEmissionsIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingPoolSetupEmissionsIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingPoolSetupEmissionsIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingPoolSetupEmissionsIxDataSegmentView(segment, 0);
+  }
+
+  public LendingPoolSetupEmissionsIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingPoolSetupEmissionsIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.LendingPoolSetupEmissionsIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.LendingPoolSetupEmissionsIxData.BYTES, MarginfiProgram.LendingPoolSetupEmissionsIxData::read);
+  }
+
+  public long flags() {
+    return getInt64LE(segment, offset + FLAGS_OFFSET);
+  }
+
+  public long rate() {
+    return getInt64LE(segment, offset + RATE_OFFSET);
+  }
+
+  public long totalEmissions() {
+    return getInt64LE(segment, offset + TOTAL_EMISSIONS_OFFSET);
+  }
+}
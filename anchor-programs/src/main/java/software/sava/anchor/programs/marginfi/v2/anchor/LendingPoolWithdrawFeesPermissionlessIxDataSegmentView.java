@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class LendingPoolWithdrawFeesPermissionlessIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.LENDING_POOL_WITHDRAW_FEES_PERMISSIONLESS_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LendingPoolWithdrawFeesPermissionlessIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LendingPoolWithdrawFeesPermissionlessIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LendingPoolWithdrawFeesPermissionlessIxDataSegmentView(segment, offset);
+  }
+
+  public static LendingPoolWithdrawFeesPermissionlessIxDataSegmentView wrap(final MemorySegment segment) {
+    return new LendingPoolWithdrawFeesPermissionlessIxDataSegmentView(segment, 0);
+  }
+
+  public LendingPoolWithdrawFeesPermissionlessIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LendingPoolWithdrawFeesPermissionlessIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.LendingPoolWithdrawFeesPermissionlessIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.LendingPoolWithdrawFeesPermissionlessIxData.BYTES, MarginfiProgram.LendingPoolWithdrawFeesPermissionlessIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
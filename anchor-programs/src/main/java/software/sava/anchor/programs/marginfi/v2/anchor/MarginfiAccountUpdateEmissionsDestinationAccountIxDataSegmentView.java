@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.marginfi.v2.MarginfiInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.MARGINFI_ACCOUNT_UPDATE_EMISSIONS_DESTINATION_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView(segment, offset);
+  }
+
+  public static MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView(segment, 0);
+  }
+
+  public MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarginfiAccountUpdateEmissionsDestinationAccountIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiInstructionDecoder.MarginfiAccountUpdateEmissionsDestinationAccountIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiInstructionDecoder.MarginfiAccountUpdateEmissionsDestinationAccountIxData.BYTES, MarginfiInstructionDecoder.MarginfiAccountUpdateEmissionsDestinationAccountIxData::read);
+  }
+}
@@ -0,0 +1,48 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import software.sava.anchor.programs.marginfi.v2.anchor.types.Bank;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.FeeState;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiAccount;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiGroup;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.StakedSettings;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MarginfiAccounts {
+
+  public static final long BANK_DISCRIMINATOR = getInt64LE(Bank.DISCRIMINATOR.data(), 0);
+  public static final long FEE_STATE_DISCRIMINATOR = getInt64LE(FeeState.DISCRIMINATOR.data(), 0);
+  public static final long MARGINFI_ACCOUNT_DISCRIMINATOR = getInt64LE(MarginfiAccount.DISCRIMINATOR.data(), 0);
+  public static final long MARGINFI_GROUP_DISCRIMINATOR = getInt64LE(MarginfiGroup.DISCRIMINATOR.data(), 0);
+  public static final long STAKED_SETTINGS_DISCRIMINATOR = getInt64LE(StakedSettings.DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == BANK_DISCRIMINATOR) {
+      return Bank.read(_address, _data, 0);
+    } else if (discriminator == FEE_STATE_DISCRIMINATOR) {
+      return FeeState.read(_address, _data, 0);
+    } else if (discriminator == MARGINFI_ACCOUNT_DISCRIMINATOR) {
+      return MarginfiAccount.read(_address, _data, 0);
+    } else if (discriminator == MARGINFI_GROUP_DISCRIMINATOR) {
+      return MarginfiGroup.read(_address, _data, 0);
+    } else if (discriminator == STAKED_SETTINGS_DISCRIMINATOR) {
+      return StakedSettings.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private MarginfiAccounts() {
+  }
+}
@@ -0,0 +1,138 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.EditStakedSettingsEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.HealthPulseEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingAccountBorrowEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingAccountDepositEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingAccountLiquidateEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingAccountRepayEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingAccountWithdrawEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingPoolBankAccrueInterestEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingPoolBankCollectFeesEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingPoolBankConfigureEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingPoolBankConfigureFrozenEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingPoolBankConfigureOracleEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingPoolBankCreateEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.LendingPoolBankHandleBankruptcyEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiAccountCreateEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiAccountTransferToNewAccount;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiGroupConfigureEvent;
+import software.sava.anchor.programs.marginfi.v2.anchor.types.MarginfiGroupCreateEvent;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class MarginfiEvents {
+
+  public static final Discriminator EDIT_STAKED_SETTINGS_EVENT_DISCRIMINATOR = toDiscriminator(29, 58, 155, 191, 75, 220, 145, 206);
+  public static final Discriminator HEALTH_PULSE_EVENT_DISCRIMINATOR = toDiscriminator(183, 159, 218, 110, 61, 220, 65, 1);
+  public static final Discriminator LENDING_ACCOUNT_BORROW_EVENT_DISCRIMINATOR = toDiscriminator(223, 96, 81, 10, 156, 99, 26, 59);
+  public static final Discriminator LENDING_ACCOUNT_DEPOSIT_EVENT_DISCRIMINATOR = toDiscriminator(161, 54, 237, 217, 105, 248, 122, 151);
+  public static final Discriminator LENDING_ACCOUNT_LIQUIDATE_EVENT_DISCRIMINATOR = toDiscriminator(166, 160, 249, 154, 183, 39, 23, 242);
+  public static final Discriminator LENDING_ACCOUNT_REPAY_EVENT_DISCRIMINATOR = toDiscriminator(16, 220, 55, 111, 7, 80, 16, 25);
+  public static final Discriminator LENDING_ACCOUNT_WITHDRAW_EVENT_DISCRIMINATOR = toDiscriminator(3, 220, 148, 243, 33, 249, 54, 88);
+  public static final Discriminator LENDING_POOL_BANK_ACCRUE_INTEREST_EVENT_DISCRIMINATOR = toDiscriminator(104, 117, 187, 156, 111, 154, 106, 186);
+  public static final Discriminator LENDING_POOL_BANK_COLLECT_FEES_EVENT_DISCRIMINATOR = toDiscriminator(101, 119, 97, 250, 169, 175, 156, 253);
+  public static final Discriminator LENDING_POOL_BANK_CONFIGURE_EVENT_DISCRIMINATOR = toDiscriminator(246, 35, 233, 110, 93, 152, 235, 40);
+  public static final Discriminator LENDING_POOL_BANK_CONFIGURE_FROZEN_EVENT_DISCRIMINATOR = toDiscriminator(24, 10, 55, 18, 49, 150, 157, 179);
+  public static final Discriminator LENDING_POOL_BANK_CONFIGURE_ORACLE_EVENT_DISCRIMINATOR = toDiscriminator(119, 140, 110, 253, 150, 64, 210, 62);
+  public static final Discriminator LENDING_POOL_BANK_CREATE_EVENT_DISCRIMINATOR = toDiscriminator(236, 220, 201, 63, 239, 126, 136, 249);
+  public static final Discriminator LENDING_POOL_BANK_HANDLE_BANKRUPTCY_EVENT_DISCRIMINATOR = toDiscriminator(166, 77, 41, 140, 36, 94, 10, 57);
+  public static final Discriminator MARGINFI_ACCOUNT_CREATE_EVENT_DISCRIMINATOR = toDiscriminator(183, 5, 117, 104, 122, 199, 68, 51);
+  public static final Discriminator MARGINFI_ACCOUNT_TRANSFER_TO_NEW_ACCOUNT_DISCRIMINATOR = toDiscriminator(59, 105, 171, 110, 223, 136, 80, 89);
+  public static final Discriminator MARGINFI_GROUP_CONFIGURE_EVENT_DISCRIMINATOR = toDiscriminator(241, 104, 172, 167, 41, 195, 199, 170);
+  public static final Discriminator MARGINFI_GROUP_CREATE_EVENT_DISCRIMINATOR = toDiscriminator(233, 125, 61, 14, 98, 240, 136, 253);
+
+  public static final long EDIT_STAKED_SETTINGS_EVENT_DISCRIMINATOR_LONG = getInt64LE(EDIT_STAKED_SETTINGS_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long HEALTH_PULSE_EVENT_DISCRIMINATOR_LONG = getInt64LE(HEALTH_PULSE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_ACCOUNT_BORROW_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_ACCOUNT_BORROW_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_ACCOUNT_DEPOSIT_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_ACCOUNT_DEPOSIT_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_ACCOUNT_LIQUIDATE_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_ACCOUNT_LIQUIDATE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_ACCOUNT_REPAY_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_ACCOUNT_REPAY_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_ACCOUNT_WITHDRAW_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_ACCOUNT_WITHDRAW_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_POOL_BANK_ACCRUE_INTEREST_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_POOL_BANK_ACCRUE_INTEREST_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_POOL_BANK_COLLECT_FEES_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_POOL_BANK_COLLECT_FEES_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_POOL_BANK_CONFIGURE_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_POOL_BANK_CONFIGURE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_POOL_BANK_CONFIGURE_FROZEN_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_POOL_BANK_CONFIGURE_FROZEN_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_POOL_BANK_CONFIGURE_ORACLE_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_POOL_BANK_CONFIGURE_ORACLE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_POOL_BANK_CREATE_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_POOL_BANK_CREATE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LENDING_POOL_BANK_HANDLE_BANKRUPTCY_EVENT_DISCRIMINATOR_LONG = getInt64LE(LENDING_POOL_BANK_HANDLE_BANKRUPTCY_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long MARGINFI_ACCOUNT_CREATE_EVENT_DISCRIMINATOR_LONG = getInt64LE(MARGINFI_ACCOUNT_CREATE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long MARGINFI_ACCOUNT_TRANSFER_TO_NEW_ACCOUNT_DISCRIMINATOR_LONG = getInt64LE(MARGINFI_ACCOUNT_TRANSFER_TO_NEW_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long MARGINFI_GROUP_CONFIGURE_EVENT_DISCRIMINATOR_LONG = getInt64LE(MARGINFI_GROUP_CONFIGURE_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long MARGINFI_GROUP_CREATE_EVENT_DISCRIMINATOR_LONG = getInt64LE(MARGINFI_GROUP_CREATE_EVENT_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      LENDING_ACCOUNT_DEPOSIT_EVENT_DISCRIMINATOR_LONG,
+      MARGINFI_GROUP_CONFIGURE_EVENT_DISCRIMINATOR_LONG,
+      LENDING_POOL_BANK_CONFIGURE_FROZEN_EVENT_DISCRIMINATOR_LONG,
+      LENDING_POOL_BANK_ACCRUE_INTEREST_EVENT_DISCRIMINATOR_LONG,
+      EDIT_STAKED_SETTINGS_EVENT_DISCRIMINATOR_LONG,
+      LENDING_ACCOUNT_LIQUIDATE_EVENT_DISCRIMINATOR_LONG,
+      LENDING_POOL_BANK_CREATE_EVENT_DISCRIMINATOR_LONG,
+      MARGINFI_GROUP_CREATE_EVENT_DISCRIMINATOR_LONG,
+      LENDING_POOL_BANK_COLLECT_FEES_EVENT_DISCRIMINATOR_LONG,
+      HEALTH_PULSE_EVENT_DISCRIMINATOR_LONG,
+      LENDING_ACCOUNT_REPAY_EVENT_DISCRIMINATOR_LONG,
+      LENDING_POOL_BANK_CONFIGURE_EVENT_DISCRIMINATOR_LONG,
+      MARGINFI_ACCOUNT_CREATE_EVENT_DISCRIMINATOR_LONG,
+      LENDING_POOL_BANK_HANDLE_BANKRUPTCY_EVENT_DISCRIMINATOR_LONG,
+      LENDING_ACCOUNT_BORROW_EVENT_DISCRIMINATOR_LONG,
+      LENDING_POOL_BANK_CONFIGURE_ORACLE_EVENT_DISCRIMINATOR_LONG,
+      LENDING_ACCOUNT_WITHDRAW_EVENT_DISCRIMINATOR_LONG,
+      MARGINFI_ACCOUNT_TRANSFER_TO_NEW_ACCOUNT_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> LendingAccountDepositEvent.read(_data, i);
+      case 1 -> MarginfiGroupConfigureEvent.read(_data, i);
+      case 2 -> LendingPoolBankConfigureFrozenEvent.read(_data, i);
+      case 3 -> LendingPoolBankAccrueInterestEvent.read(_data, i);
+      case 4 -> EditStakedSettingsEvent.read(_data, i);
+      case 5 -> LendingAccountLiquidateEvent.read(_data, i);
+      case 6 -> LendingPoolBankCreateEvent.read(_data, i);
+      case 7 -> MarginfiGroupCreateEvent.read(_data, i);
+      case 8 -> LendingPoolBankCollectFeesEvent.read(_data, i);
+      case 9 -> HealthPulseEvent.read(_data, i);
+      case 10 -> LendingAccountRepayEvent.read(_data, i);
+      case 11 -> LendingPoolBankConfigureEvent.read(_data, i);
+      case 12 -> MarginfiAccountCreateEvent.read(_data, i);
+      case 13 -> LendingPoolBankHandleBankruptcyEvent.read(_data, i);
+      case 14 -> LendingAccountBorrowEvent.read(_data, i);
+      case 15 -> LendingPoolBankConfigureOracleEvent.read(_data, i);
+      case 16 -> LendingAccountWithdrawEvent.read(_data, i);
+      case 17 -> MarginfiAccountTransferToNewAccount.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private MarginfiEvents() {
+  }
+}
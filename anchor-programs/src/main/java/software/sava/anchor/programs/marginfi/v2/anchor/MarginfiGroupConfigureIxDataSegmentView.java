@@ -0,0 +1,90 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MarginfiGroupConfigureIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.MARGINFI_GROUP_CONFIGURE_DISCRIMINATOR.data(), 0);
+
+  private static final int NEW_ADMIN_OFFSET = 8;
+  private static final int NEW_EMODE_ADMIN_OFFSET = NEW_ADMIN_OFFSET + 32;
+  private static final int NEW_CURVE_ADMIN_OFFSET = NEW_EMODE_ADMIN_OFFSET + 32;
+  private static final int NEW_LIMIT_ADMIN_OFFSET = NEW_CURVE_ADMIN_OFFSET + 32;
+  private static final int NEW_EMISSIONS_ADMIN_OFFSET = NEW_LIMIT_ADMIN_OFFSET + 32;
+  private static final int IS_ARENA_GROUP_OFFSET = NEW_EMISSIONS_ADMIN_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MarginfiGroupConfigureIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MarginfiGroupConfigureIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MarginfiGroupConfigureIxDataSegmentView(segment, offset);
+  }
+
+  public static MarginfiGroupConfigureIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MarginfiGroupConfigureIxDataSegmentView(segment, 0);
+  }
+
+  public MarginfiGroupConfigureIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarginfiGroupConfigureIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.MarginfiGroupConfigureIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.MarginfiGroupConfigureIxData.BYTES, MarginfiProgram.MarginfiGroupConfigureIxData::read);
+  }
+
+  public PublicKey newAdmin() {
+    return readPubKey(segment, offset + NEW_ADMIN_OFFSET);
+  }
+
+  public PublicKey newEmodeAdmin() {
+    return readPubKey(segment, offset + NEW_EMODE_ADMIN_OFFSET);
+  }
+
+  public PublicKey newCurveAdmin() {
+    return readPubKey(segment, offset + NEW_CURVE_ADMIN_OFFSET);
+  }
+
+  public PublicKey newLimitAdmin() {
+    return readPubKey(segment, offset + NEW_LIMIT_ADMIN_OFFSET);
+  }
+
+  public PublicKey newEmissionsAdmin() {
+    return readPubKey(segment, offset + NEW_EMISSIONS_ADMIN_OFFSET);
+  }
+
+  public boolean isArenaGroup() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + IS_ARENA_GROUP_OFFSET) == 1;
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.marginfi.v2.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MarginfiGroupInitializeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiProgram.MARGINFI_GROUP_INITIALIZE_DISCRIMINATOR.data(), 0);
+
+  private static final int IS_ARENA_GROUP_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MarginfiGroupInitializeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MarginfiGroupInitializeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MarginfiGroupInitializeIxDataSegmentView(segment, offset);
+  }
+
+  public static MarginfiGroupInitializeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MarginfiGroupInitializeIxDataSegmentView(segment, 0);
+  }
+
+  public MarginfiGroupInitializeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarginfiGroupInitializeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiProgram.MarginfiGroupInitializeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, MarginfiProgram.MarginfiGroupInitializeIxData.BYTES, MarginfiProgram.MarginfiGroupInitializeIxData::read);
+  }
+
+  public boolean isArenaGroup() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + IS_ARENA_GROUP_OFFSET) == 1;
+  }
+}
@@ -0,0 +1,208 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class BankSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Bank.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private BankSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static BankSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new BankSegmentView(segment, offset);
+  }
+
+  public static BankSegmentView wrap(final MemorySegment segment) {
+    return new BankSegmentView(segment, 0);
+  }
+
+  public BankSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public BankSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Bank read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Bank.BYTES, Bank::read);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(segment, offset + Bank.MINT_OFFSET);
+  }
+
+  public int mintDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Bank.MINT_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public PublicKey group() {
+    return readPubKey(segment, offset + Bank.GROUP_OFFSET);
+  }
+
+  public WrappedI80F48 assetShareValue() {
+    return MemorySegmentUtil.read(segment, offset + Bank.ASSET_SHARE_VALUE_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public WrappedI80F48 liabilityShareValue() {
+    return MemorySegmentUtil.read(segment, offset + Bank.LIABILITY_SHARE_VALUE_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public PublicKey liquidityVault() {
+    return readPubKey(segment, offset + Bank.LIQUIDITY_VAULT_OFFSET);
+  }
+
+  public int liquidityVaultBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Bank.LIQUIDITY_VAULT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public int liquidityVaultAuthorityBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Bank.LIQUIDITY_VAULT_AUTHORITY_BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey insuranceVault() {
+    return readPubKey(segment, offset + Bank.INSURANCE_VAULT_OFFSET);
+  }
+
+  public int insuranceVaultBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Bank.INSURANCE_VAULT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public int insuranceVaultAuthorityBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Bank.INSURANCE_VAULT_AUTHORITY_BUMP_OFFSET) & 0xFF;
+  }
+
+  // Fees collected and pending withdraw for the `insurance_vault`
+  public WrappedI80F48 collectedInsuranceFeesOutstanding() {
+    return MemorySegmentUtil.read(segment, offset + Bank.COLLECTED_INSURANCE_FEES_OUTSTANDING_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public PublicKey feeVault() {
+    return readPubKey(segment, offset + Bank.FEE_VAULT_OFFSET);
+  }
+
+  public int feeVaultBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Bank.FEE_VAULT_BUMP_OFFSET) & 0xFF;
+  }
+
+  public int feeVaultAuthorityBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Bank.FEE_VAULT_AUTHORITY_BUMP_OFFSET) & 0xFF;
+  }
+
+  // Fees collected and pending withdraw for the `fee_vault`
+  public WrappedI80F48 collectedGroupFeesOutstanding() {
+    return MemorySegmentUtil.read(segment, offset + Bank.COLLECTED_GROUP_FEES_OUTSTANDING_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public WrappedI80F48 totalLiabilityShares() {
+    return MemorySegmentUtil.read(segment, offset + Bank.TOTAL_LIABILITY_SHARES_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public WrappedI80F48 totalAssetShares() {
+    return MemorySegmentUtil.read(segment, offset + Bank.TOTAL_ASSET_SHARES_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public long lastUpdate() {
+    return getInt64LE(segment, offset + Bank.LAST_UPDATE_OFFSET);
+  }
+
+  public BankConfig config() {
+    return MemorySegmentUtil.read(segment, offset + Bank.CONFIG_OFFSET, BankConfig.BYTES, BankConfig::read);
+  }
+
+  // Bank Config Flags
+  //
+  // - EMISSIONS_FLAG_BORROW_ACTIVE: 1
+  // - EMISSIONS_FLAG_LENDING_ACTIVE: 2
+  // - PERMISSIONLESS_BAD_DEBT_SETTLEMENT: 4
+  // - FREEZE_SETTINGS: 8 - banks with this flag enabled can only update deposit/borrow caps
+  // - CLOSE_ENABLED_FLAG - banks with this flag were created after 0.1.4 and can be closed.
+  // Banks without this flag can never be closed.
+  //
+  public long flags() {
+    return getInt64LE(segment, offset + Bank.FLAGS_OFFSET);
+  }
+
+  // Emissions APR. Number of emitted tokens (emissions_mint) per 1e(bank.mint_decimal) tokens
+  // (bank mint) (native amount) per 1 YEAR.
+  public long emissionsRate() {
+    return getInt64LE(segment, offset + Bank.EMISSIONS_RATE_OFFSET);
+  }
+
+  public WrappedI80F48 emissionsRemaining() {
+    return MemorySegmentUtil.read(segment, offset + Bank.EMISSIONS_REMAINING_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public PublicKey emissionsMint() {
+    return readPubKey(segment, offset + Bank.EMISSIONS_MINT_OFFSET);
+  }
+
+  // Fees collected and pending withdraw for the `FeeState.global_fee_wallet`'s canonical ATA for `mint`
+  public WrappedI80F48 collectedProgramFeesOutstanding() {
+    return MemorySegmentUtil.read(segment, offset + Bank.COLLECTED_PROGRAM_FEES_OUTSTANDING_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  // Controls this bank's emode configuration, which enables some banks to treat the assets of
+  // certain other banks more preferentially as collateral.
+  public EmodeSettings emode() {
+    return MemorySegmentUtil.read(segment, offset + Bank.EMODE_OFFSET, EmodeSettings.BYTES, EmodeSettings::read);
+  }
+
+  // Set with `update_fees_destination_account`. This should be an ATA for the bank's mint. If
+  // pubkey default, the bank doesn't support this feature, and the fees must be collected
+  // manually (withdraw_fees).
+  public PublicKey feesDestinationAccount() {
+    return readPubKey(segment, offset + Bank.FEES_DESTINATION_ACCOUNT_OFFSET);
+  }
+
+  public BankCache cache() {
+    return MemorySegmentUtil.read(segment, offset + Bank.CACHE_OFFSET, BankCache.BYTES, BankCache::read);
+  }
+
+  // Number of user lending positions currently open in this bank
+  // * For banks created prior to 0.1.4, this is the number of positions opened/closed after
+  // 0.1.4 goes live, and may be negative.
+  // * For banks created in 0.1.4 or later, this is the number of positions open in total, and
+  // the bank may safely be closed if this is zero. Will never go negative.
+  public int lendingPositionCount() {
+    return getInt32LE(segment, offset + Bank.LENDING_POSITION_COUNT_OFFSET);
+  }
+
+  // Number of user borrowing positions currently open in this bank
+  // * For banks created prior to 0.1.4, this is the number of positions opened/closed after
+  // 0.1.4 goes live, and may be negative.
+  // * For banks created in 0.1.4 or later, this is the number of positions open in total, and
+  // the bank may safely be closed if this is zero. Will never go negative.
+  public int borrowingPositionCount() {
+    return getInt32LE(segment, offset + Bank.BORROWING_POSITION_COUNT_OFFSET);
+  }
+}
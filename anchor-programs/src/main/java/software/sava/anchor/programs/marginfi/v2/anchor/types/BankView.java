@@ -0,0 +1,203 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class BankView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Bank.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private BankView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static BankView wrap(final byte[] _data, final int offset) {
+    return new BankView(_data, offset);
+  }
+
+  public static BankView wrap(final byte[] _data) {
+    return new BankView(_data, 0);
+  }
+
+  public BankView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public BankView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Bank read(final PublicKey _address) {
+    return Bank.read(_address, _data, offset);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(_data, offset + Bank.MINT_OFFSET);
+  }
+
+  public int mintDecimals() {
+    return _data[offset + Bank.MINT_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public PublicKey group() {
+    return readPubKey(_data, offset + Bank.GROUP_OFFSET);
+  }
+
+  public WrappedI80F48 assetShareValue() {
+    return WrappedI80F48.read(_data, offset + Bank.ASSET_SHARE_VALUE_OFFSET);
+  }
+
+  public WrappedI80F48 liabilityShareValue() {
+    return WrappedI80F48.read(_data, offset + Bank.LIABILITY_SHARE_VALUE_OFFSET);
+  }
+
+  public PublicKey liquidityVault() {
+    return readPubKey(_data, offset + Bank.LIQUIDITY_VAULT_OFFSET);
+  }
+
+  public int liquidityVaultBump() {
+    return _data[offset + Bank.LIQUIDITY_VAULT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public int liquidityVaultAuthorityBump() {
+    return _data[offset + Bank.LIQUIDITY_VAULT_AUTHORITY_BUMP_OFFSET] & 0xFF;
+  }
+
+  public PublicKey insuranceVault() {
+    return readPubKey(_data, offset + Bank.INSURANCE_VAULT_OFFSET);
+  }
+
+  public int insuranceVaultBump() {
+    return _data[offset + Bank.INSURANCE_VAULT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public int insuranceVaultAuthorityBump() {
+    return _data[offset + Bank.INSURANCE_VAULT_AUTHORITY_BUMP_OFFSET] & 0xFF;
+  }
+
+  // Fees collected and pending withdraw for the `insurance_vault`
+  public WrappedI80F48 collectedInsuranceFeesOutstanding() {
+    return WrappedI80F48.read(_data, offset + Bank.COLLECTED_INSURANCE_FEES_OUTSTANDING_OFFSET);
+  }
+
+  public PublicKey feeVault() {
+    return readPubKey(_data, offset + Bank.FEE_VAULT_OFFSET);
+  }
+
+  public int feeVaultBump() {
+    return _data[offset + Bank.FEE_VAULT_BUMP_OFFSET] & 0xFF;
+  }
+
+  public int feeVaultAuthorityBump() {
+    return _data[offset + Bank.FEE_VAULT_AUTHORITY_BUMP_OFFSET] & 0xFF;
+  }
+
+  // Fees collected and pending withdraw for the `fee_vault`
+  public WrappedI80F48 collectedGroupFeesOutstanding() {
+    return WrappedI80F48.read(_data, offset + Bank.COLLECTED_GROUP_FEES_OUTSTANDING_OFFSET);
+  }
+
+  public WrappedI80F48 totalLiabilityShares() {
+    return WrappedI80F48.read(_data, offset + Bank.TOTAL_LIABILITY_SHARES_OFFSET);
+  }
+
+  public WrappedI80F48 totalAssetShares() {
+    return WrappedI80F48.read(_data, offset + Bank.TOTAL_ASSET_SHARES_OFFSET);
+  }
+
+  public long lastUpdate() {
+    return getInt64LE(_data, offset + Bank.LAST_UPDATE_OFFSET);
+  }
+
+  public BankConfig config() {
+    return BankConfig.read(_data, offset + Bank.CONFIG_OFFSET);
+  }
+
+  // Bank Config Flags
+  //
+  // - EMISSIONS_FLAG_BORROW_ACTIVE: 1
+  // - EMISSIONS_FLAG_LENDING_ACTIVE: 2
+  // - PERMISSIONLESS_BAD_DEBT_SETTLEMENT: 4
+  // - FREEZE_SETTINGS: 8 - banks with this flag enabled can only update deposit/borrow caps
+  // - CLOSE_ENABLED_FLAG - banks with this flag were created after 0.1.4 and can be closed.
+  // Banks without this flag can never be closed.
+  //
+  public long flags() {
+    return getInt64LE(_data, offset + Bank.FLAGS_OFFSET);
+  }
+
+  // Emissions APR. Number of emitted tokens (emissions_mint) per 1e(bank.mint_decimal) tokens
+  // (bank mint) (native amount) per 1 YEAR.
+  public long emissionsRate() {
+    return getInt64LE(_data, offset + Bank.EMISSIONS_RATE_OFFSET);
+  }
+
+  public WrappedI80F48 emissionsRemaining() {
+    return WrappedI80F48.read(_data, offset + Bank.EMISSIONS_REMAINING_OFFSET);
+  }
+
+  public PublicKey emissionsMint() {
+    return readPubKey(_data, offset + Bank.EMISSIONS_MINT_OFFSET);
+  }
+
+  // Fees collected and pending withdraw for the `FeeState.global_fee_wallet`'s canonical ATA for `mint`
+  public WrappedI80F48 collectedProgramFeesOutstanding() {
+    return WrappedI80F48.read(_data, offset + Bank.COLLECTED_PROGRAM_FEES_OUTSTANDING_OFFSET);
+  }
+
+  // Controls this bank's emode configuration, which enables some banks to treat the assets of
+  // certain other banks more preferentially as collateral.
+  public EmodeSettings emode() {
+    return EmodeSettings.read(_data, offset + Bank.EMODE_OFFSET);
+  }
+
+  // Set with `update_fees_destination_account`. This should be an ATA for the bank's mint. If
+  // pubkey default, the bank doesn't support this feature, and the fees must be collected
+  // manually (withdraw_fees).
+  public PublicKey feesDestinationAccount() {
+    return readPubKey(_data, offset + Bank.FEES_DESTINATION_ACCOUNT_OFFSET);
+  }
+
+  public BankCache cache() {
+    return BankCache.read(_data, offset + Bank.CACHE_OFFSET);
+  }
+
+  // Number of user lending positions currently open in this bank
+  // * For banks created prior to 0.1.4, this is the number of positions opened/closed after
+  // 0.1.4 goes live, and may be negative.
+  // * For banks created in 0.1.4 or later, this is the number of positions open in total, and
+  // the bank may safely be closed if this is zero. Will never go negative.
+  public int lendingPositionCount() {
+    return getInt32LE(_data, offset + Bank.LENDING_POSITION_COUNT_OFFSET);
+  }
+
+  // Number of user borrowing positions currently open in this bank
+  // * For banks created prior to 0.1.4, this is the number of positions opened/closed after
+  // 0.1.4 goes live, and may be negative.
+  // * For banks created in 0.1.4 or later, this is the number of positions open in total, and
+  // the bank may safely be closed if this is zero. Will never go negative.
+  public int borrowingPositionCount() {
+    return getInt32LE(_data, offset + Bank.BORROWING_POSITION_COUNT_OFFSET);
+  }
+}
@@ -0,0 +1,99 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class FeeStateSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(FeeState.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FeeStateSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FeeStateSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FeeStateSegmentView(segment, offset);
+  }
+
+  public static FeeStateSegmentView wrap(final MemorySegment segment) {
+    return new FeeStateSegmentView(segment, 0);
+  }
+
+  public FeeStateSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FeeStateSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public FeeState read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, FeeState.BYTES, FeeState::read);
+  }
+
+  // The fee state's own key. A PDA derived from just `b"feestate"`
+  public PublicKey key() {
+    return readPubKey(segment, offset + FeeState.KEY_OFFSET);
+  }
+
+  // Can modify fees
+  public PublicKey globalFeeAdmin() {
+    return readPubKey(segment, offset + FeeState.GLOBAL_FEE_ADMIN_OFFSET);
+  }
+
+  // The base wallet for all protocol fees. All SOL fees go to this wallet. All non-SOL fees go
+  // to the canonical ATA of this wallet for that asset.
+  public PublicKey globalFeeWallet() {
+    return readPubKey(segment, offset + FeeState.GLOBAL_FEE_WALLET_OFFSET);
+  }
+
+  public long placeholder0() {
+    return getInt64LE(segment, offset + FeeState.PLACEHOLDER_0_OFFSET);
+  }
+
+  // Flat fee assessed when a new bank is initialized, in lamports.
+  // * In SOL, in native decimals.
+  public int bankInitFlatSolFee() {
+    return getInt32LE(segment, offset + FeeState.BANK_INIT_FLAT_SOL_FEE_OFFSET);
+  }
+
+  public int bumpSeed() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + FeeState.BUMP_SEED_OFFSET) & 0xFF;
+  }
+
+  // Fee collected by the program owner from all groups
+  public WrappedI80F48 programFeeFixed() {
+    return MemorySegmentUtil.read(segment, offset + FeeState.PROGRAM_FEE_FIXED_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  // Fee collected by the program owner from all groups
+  public WrappedI80F48 programFeeRate() {
+    return MemorySegmentUtil.read(segment, offset + FeeState.PROGRAM_FEE_RATE_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+}
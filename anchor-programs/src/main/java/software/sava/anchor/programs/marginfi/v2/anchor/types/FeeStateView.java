@@ -0,0 +1,94 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class FeeStateView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(FeeState.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private FeeStateView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static FeeStateView wrap(final byte[] _data, final int offset) {
+    return new FeeStateView(_data, offset);
+  }
+
+  public static FeeStateView wrap(final byte[] _data) {
+    return new FeeStateView(_data, 0);
+  }
+
+  public FeeStateView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public FeeStateView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public FeeState read(final PublicKey _address) {
+    return FeeState.read(_address, _data, offset);
+  }
+
+  // The fee state's own key. A PDA derived from just `b"feestate"`
+  public PublicKey key() {
+    return readPubKey(_data, offset + FeeState.KEY_OFFSET);
+  }
+
+  // Can modify fees
+  public PublicKey globalFeeAdmin() {
+    return readPubKey(_data, offset + FeeState.GLOBAL_FEE_ADMIN_OFFSET);
+  }
+
+  // The base wallet for all protocol fees. All SOL fees go to this wallet. All non-SOL fees go
+  // to the canonical ATA of this wallet for that asset.
+  public PublicKey globalFeeWallet() {
+    return readPubKey(_data, offset + FeeState.GLOBAL_FEE_WALLET_OFFSET);
+  }
+
+  public long placeholder0() {
+    return getInt64LE(_data, offset + FeeState.PLACEHOLDER_0_OFFSET);
+  }
+
+  // Flat fee assessed when a new bank is initialized, in lamports.
+  // * In SOL, in native decimals.
+  public int bankInitFlatSolFee() {
+    return getInt32LE(_data, offset + FeeState.BANK_INIT_FLAT_SOL_FEE_OFFSET);
+  }
+
+  public int bumpSeed() {
+    return _data[offset + FeeState.BUMP_SEED_OFFSET] & 0xFF;
+  }
+
+  // Fee collected by the program owner from all groups
+  public WrappedI80F48 programFeeFixed() {
+    return WrappedI80F48.read(_data, offset + FeeState.PROGRAM_FEE_FIXED_OFFSET);
+  }
+
+  // Fee collected by the program owner from all groups
+  public WrappedI80F48 programFeeRate() {
+    return WrappedI80F48.read(_data, offset + FeeState.PROGRAM_FEE_RATE_OFFSET);
+  }
+}
@@ -0,0 +1,61 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class HealthPulseEventSegmentView {
+
+  private static final int ACCOUNT_OFFSET = 0;
+  private static final int HEALTH_CACHE_OFFSET = ACCOUNT_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private HealthPulseEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static HealthPulseEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new HealthPulseEventSegmentView(segment, offset);
+  }
+
+  public static HealthPulseEventSegmentView wrap(final MemorySegment segment) {
+    return new HealthPulseEventSegmentView(segment, 0);
+  }
+
+  public HealthPulseEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public HealthPulseEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public HealthPulseEvent read() {
+    return MemorySegmentUtil.read(segment, offset, HealthPulseEvent.BYTES, HealthPulseEvent::read);
+  }
+
+  public PublicKey account() {
+    return readPubKey(segment, offset + ACCOUNT_OFFSET);
+  }
+
+  public HealthCache healthCache() {
+    return MemorySegmentUtil.read(segment, offset + HEALTH_CACHE_OFFSET, HealthCache.BYTES, HealthCache::read);
+  }
+}
@@ -0,0 +1,106 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MarginfiAccountSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiAccount.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MarginfiAccountSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MarginfiAccountSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MarginfiAccountSegmentView(segment, offset);
+  }
+
+  public static MarginfiAccountSegmentView wrap(final MemorySegment segment) {
+    return new MarginfiAccountSegmentView(segment, 0);
+  }
+
+  public MarginfiAccountSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarginfiAccountSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiAccount read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, MarginfiAccount.BYTES, MarginfiAccount::read);
+  }
+
+  public PublicKey group() {
+    return readPubKey(segment, offset + MarginfiAccount.GROUP_OFFSET);
+  }
+
+  public PublicKey authority() {
+    return readPubKey(segment, offset + MarginfiAccount.AUTHORITY_OFFSET);
+  }
+
+  public LendingAccount lendingAccount() {
+    return MemorySegmentUtil.read(segment, offset + MarginfiAccount.LENDING_ACCOUNT_OFFSET, LendingAccount.BYTES, LendingAccount::read);
+  }
+
+  // The flags that indicate the state of the account. This is u64 bitfield, where each bit
+  // represents a flag.
+  //
+  // Flags:MarginfiAccount
+  // - 1: `ACCOUNT_DISABLED` - Indicates that the account is disabled and no further actions can
+  // be taken on it.
+  // - 2: `ACCOUNT_IN_FLASHLOAN` - Only set when an account is within a flash loan, e.g. when
+  // start_flashloan is called, then unset when the flashloan ends.
+  // - 4: `ACCOUNT_FLAG_DEPRECATED` - Deprecated, available for future use
+  // - 8: `ACCOUNT_TRANSFER_AUTHORITY_ALLOWED` - the admin has flagged with account to be moved,
+  // original owner can now call `set_account_transfer_authority`
+  public long accountFlags() {
+    return getInt64LE(segment, offset + MarginfiAccount.ACCOUNT_FLAGS_OFFSET);
+  }
+
+  // Set with `update_emissions_destination_account`. Emissions rewards can be withdrawn to the
+  // canonical ATA of this wallet without the user's input (withdraw_emissions_permissionless).
+  // If pubkey default, the user has not opted into this feature, and must claim emissions
+  // manually (withdraw_emissions).
+  public PublicKey emissionsDestinationAccount() {
+    return readPubKey(segment, offset + MarginfiAccount.EMISSIONS_DESTINATION_ACCOUNT_OFFSET);
+  }
+
+  public HealthCache healthCache() {
+    return MemorySegmentUtil.read(segment, offset + MarginfiAccount.HEALTH_CACHE_OFFSET, HealthCache.BYTES, HealthCache::read);
+  }
+
+  // If this account was migrated from another one, store the original account key
+  public PublicKey migratedFrom() {
+    return readPubKey(segment, offset + MarginfiAccount.MIGRATED_FROM_OFFSET);
+  }
+
+  // If this account has been migrated to another one, store the destination account key
+  public PublicKey migratedTo() {
+    return readPubKey(segment, offset + MarginfiAccount.MIGRATED_TO_OFFSET);
+  }
+}
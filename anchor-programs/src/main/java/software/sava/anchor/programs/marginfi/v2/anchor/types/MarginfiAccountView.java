@@ -0,0 +1,102 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MarginfiAccountView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(MarginfiAccount.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private MarginfiAccountView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MarginfiAccountView wrap(final byte[] _data, final int offset) {
+    return new MarginfiAccountView(_data, offset);
+  }
+
+  public static MarginfiAccountView wrap(final byte[] _data) {
+    return new MarginfiAccountView(_data, 0);
+  }
+
+  public MarginfiAccountView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarginfiAccountView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiAccount read(final PublicKey _address) {
+    return MarginfiAccount.read(_address, _data, offset);
+  }
+
+  public PublicKey group() {
+    return readPubKey(_data, offset + MarginfiAccount.GROUP_OFFSET);
+  }
+
+  public PublicKey authority() {
+    return readPubKey(_data, offset + MarginfiAccount.AUTHORITY_OFFSET);
+  }
+
+  public LendingAccount lendingAccount() {
+    return LendingAccount.read(_data, offset + MarginfiAccount.LENDING_ACCOUNT_OFFSET);
+  }
+
+  // The flags that indicate the state of the account. This is u64 bitfield, where each bit
+  // represents a flag.
+  //
+  // Flags:MarginfiAccount
+  // - 1: `ACCOUNT_DISABLED` - Indicates that the account is disabled and no further actions can
+  // be taken on it.
+  // - 2: `ACCOUNT_IN_FLASHLOAN` - Only set when an account is within a flash loan, e.g. when
+  // start_flashloan is called, then unset when the flashloan ends.
+  // - 4: `ACCOUNT_FLAG_DEPRECATED` - Deprecated, available for future use
+  // - 8: `ACCOUNT_TRANSFER_AUTHORITY_ALLOWED` - the admin has flagged with account to be moved,
+  // original owner can now call `set_account_transfer_authority`
+  public long accountFlags() {
+    return getInt64LE(_data, offset + MarginfiAccount.ACCOUNT_FLAGS_OFFSET);
+  }
+
+  // Set with `update_emissions_destination_account`. Emissions rewards can be withdrawn to the
+  // canonical ATA of this wallet without the user's input (withdraw_emissions_permissionless).
+  // If pubkey default, the user has not opted into this feature, and must claim emissions
+  // manually (withdraw_emissions).
+  public PublicKey emissionsDestinationAccount() {
+    return readPubKey(_data, offset + MarginfiAccount.EMISSIONS_DESTINATION_ACCOUNT_OFFSET);
+  }
+
+  public HealthCache healthCache() {
+    return HealthCache.read(_data, offset + MarginfiAccount.HEALTH_CACHE_OFFSET);
+  }
+
+  // If this account was migrated from another one, store the original account key
+  public PublicKey migratedFrom() {
+    return readPubKey(_data, offset + MarginfiAccount.MIGRATED_FROM_OFFSET);
+  }
+
+  // If this account has been migrated to another one, store the destination account key
+  public PublicKey migratedTo() {
+    return readPubKey(_data, offset + MarginfiAccount.MIGRATED_TO_OFFSET);
+  }
+}
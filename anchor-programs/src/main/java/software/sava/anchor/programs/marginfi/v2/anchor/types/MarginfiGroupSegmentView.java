@@ -0,0 +1,105 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MarginfiGroupSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MarginfiGroup.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MarginfiGroupSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MarginfiGroupSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MarginfiGroupSegmentView(segment, offset);
+  }
+
+  public static MarginfiGroupSegmentView wrap(final MemorySegment segment) {
+    return new MarginfiGroupSegmentView(segment, 0);
+  }
+
+  public MarginfiGroupSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarginfiGroupSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiGroup read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, MarginfiGroup.BYTES, MarginfiGroup::read);
+  }
+
+  // Broadly able to modify anything, and can set/remove other admins at will.
+  public PublicKey admin() {
+    return readPubKey(segment, offset + MarginfiGroup.ADMIN_OFFSET);
+  }
+
+  // Bitmask for group settings flags.
+  // * 0: `PROGRAM_FEES_ENABLED` If set, program-level fees are enabled.
+  // * 1: `ARENA_GROUP` If set, this is an arena group, which can only have two banks
+  // * Bits 1-63: Reserved for future use.
+  public long groupFlags() {
+    return getInt64LE(segment, offset + MarginfiGroup.GROUP_FLAGS_OFFSET);
+  }
+
+  // Caches information from the global `FeeState` so the FeeState can be omitted on certain ixes
+  public FeeStateCache feeStateCache() {
+    return MemorySegmentUtil.read(segment, offset + MarginfiGroup.FEE_STATE_CACHE_OFFSET, FeeStateCache.BYTES, FeeStateCache::read);
+  }
+
+  public int banks() {
+    return getInt16LE(segment, offset + MarginfiGroup.BANKS_OFFSET);
+  }
+
+  // This admin can configure collateral ratios above (but not below) the collateral ratio of
+  // certain banks , e.g. allow SOL to count as 90% collateral when borrowing an LST instead of
+  // the default rate.
+  public PublicKey emodeAdmin() {
+    return readPubKey(segment, offset + MarginfiGroup.EMODE_ADMIN_OFFSET);
+  }
+
+  // Can modify the fields in `config.interest_rate_config` but nothing else, for every bank under
+  // this group
+  public PublicKey delegateCurveAdmin() {
+    return readPubKey(segment, offset + MarginfiGroup.DELEGATE_CURVE_ADMIN_OFFSET);
+  }
+
+  // Can modify the `deposit_limit`, `borrow_limit`, `total_asset_value_init_limit` but nothing
+  // else, for every bank under this group
+  public PublicKey delegateLimitAdmin() {
+    return readPubKey(segment, offset + MarginfiGroup.DELEGATE_LIMIT_ADMIN_OFFSET);
+  }
+
+  // Can modify the emissions `flags`, `emissions_rate` and `emissions_mint`, but nothing else,
+  // for every bank under this group
+  public PublicKey delegateEmissionsAdmin() {
+    return readPubKey(segment, offset + MarginfiGroup.DELEGATE_EMISSIONS_ADMIN_OFFSET);
+  }
+}
@@ -0,0 +1,101 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MarginfiGroupView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(MarginfiGroup.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private MarginfiGroupView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MarginfiGroupView wrap(final byte[] _data, final int offset) {
+    return new MarginfiGroupView(_data, offset);
+  }
+
+  public static MarginfiGroupView wrap(final byte[] _data) {
+    return new MarginfiGroupView(_data, 0);
+  }
+
+  public MarginfiGroupView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MarginfiGroupView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MarginfiGroup read(final PublicKey _address) {
+    return MarginfiGroup.read(_address, _data, offset);
+  }
+
+  // Broadly able to modify anything, and can set/remove other admins at will.
+  public PublicKey admin() {
+    return readPubKey(_data, offset + MarginfiGroup.ADMIN_OFFSET);
+  }
+
+  // Bitmask for group settings flags.
+  // * 0: `PROGRAM_FEES_ENABLED` If set, program-level fees are enabled.
+  // * 1: `ARENA_GROUP` If set, this is an arena group, which can only have two banks
+  // * Bits 1-63: Reserved for future use.
+  public long groupFlags() {
+    return getInt64LE(_data, offset + MarginfiGroup.GROUP_FLAGS_OFFSET);
+  }
+
+  // Caches information from the global `FeeState` so the FeeState can be omitted on certain ixes
+  public FeeStateCache feeStateCache() {
+    return FeeStateCache.read(_data, offset + MarginfiGroup.FEE_STATE_CACHE_OFFSET);
+  }
+
+  public int banks() {
+    return getInt16LE(_data, offset + MarginfiGroup.BANKS_OFFSET);
+  }
+
+  // This admin can configure collateral ratios above (but not below) the collateral ratio of
+  // certain banks , e.g. allow SOL to count as 90% collateral when borrowing an LST instead of
+  // the default rate.
+  public PublicKey emodeAdmin() {
+    return readPubKey(_data, offset + MarginfiGroup.EMODE_ADMIN_OFFSET);
+  }
+
+  // Can modify the fields in `config.interest_rate_config` but nothing else, for every bank under
+  // this group
+  public PublicKey delegateCurveAdmin() {
+    return readPubKey(_data, offset + MarginfiGroup.DELEGATE_CURVE_ADMIN_OFFSET);
+  }
+
+  // Can modify the `deposit_limit`, `borrow_limit`, `total_asset_value_init_limit` but nothing
+  // else, for every bank under this group
+  public PublicKey delegateLimitAdmin() {
+    return readPubKey(_data, offset + MarginfiGroup.DELEGATE_LIMIT_ADMIN_OFFSET);
+  }
+
+  // Can modify the emissions `flags`, `emissions_rate` and `emissions_mint`, but nothing else,
+  // for every bank under this group
+  public PublicKey delegateEmissionsAdmin() {
+    return readPubKey(_data, offset + MarginfiGroup.DELEGATE_EMISSIONS_ADMIN_OFFSET);
+  }
+}
@@ -0,0 +1,98 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class StakedSettingsSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(StakedSettings.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private StakedSettingsSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static StakedSettingsSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new StakedSettingsSegmentView(segment, offset);
+  }
+
+  public static StakedSettingsSegmentView wrap(final MemorySegment segment) {
+    return new StakedSettingsSegmentView(segment, 0);
+  }
+
+  public StakedSettingsSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public StakedSettingsSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StakedSettings read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, StakedSettings.BYTES, StakedSettings::read);
+  }
+
+  // This account's own key. A PDA derived from `marginfi_group` and `STAKED_SETTINGS_SEED`
+  public PublicKey key() {
+    return readPubKey(segment, offset + StakedSettings.KEY_OFFSET);
+  }
+
+  // Group for which these settings apply
+  public PublicKey marginfiGroup() {
+    return readPubKey(segment, offset + StakedSettings.MARGINFI_GROUP_OFFSET);
+  }
+
+  // Generally, the Pyth push oracle for SOL
+  public PublicKey oracle() {
+    return readPubKey(segment, offset + StakedSettings.ORACLE_OFFSET);
+  }
+
+  public WrappedI80F48 assetWeightInit() {
+    return MemorySegmentUtil.read(segment, offset + StakedSettings.ASSET_WEIGHT_INIT_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public WrappedI80F48 assetWeightMaint() {
+    return MemorySegmentUtil.read(segment, offset + StakedSettings.ASSET_WEIGHT_MAINT_OFFSET, WrappedI80F48.BYTES, WrappedI80F48::read);
+  }
+
+  public long depositLimit() {
+    return getInt64LE(segment, offset + StakedSettings.DEPOSIT_LIMIT_OFFSET);
+  }
+
+  public long totalAssetValueInitLimit() {
+    return getInt64LE(segment, offset + StakedSettings.TOTAL_ASSET_VALUE_INIT_LIMIT_OFFSET);
+  }
+
+  public int oracleMaxAge() {
+    return getInt16LE(segment, offset + StakedSettings.ORACLE_MAX_AGE_OFFSET);
+  }
+
+  public RiskTier riskTier() {
+    return RiskTier.values()[segment.get(ValueLayout.JAVA_BYTE, offset + StakedSettings.RISK_TIER_OFFSET) & 0xFF];
+  }
+}
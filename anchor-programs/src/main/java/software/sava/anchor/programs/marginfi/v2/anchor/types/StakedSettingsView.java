@@ -0,0 +1,93 @@
+package software.sava.anchor.programs.marginfi.v2.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class StakedSettingsView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(StakedSettings.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private StakedSettingsView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static StakedSettingsView wrap(final byte[] _data, final int offset) {
+    return new StakedSettingsView(_data, offset);
+  }
+
+  public static StakedSettingsView wrap(final byte[] _data) {
+    return new StakedSettingsView(_data, 0);
+  }
+
+  public StakedSettingsView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public StakedSettingsView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public StakedSettings read(final PublicKey _address) {
+    return StakedSettings.read(_address, _data, offset);
+  }
+
+  // This account's own key. A PDA derived from `marginfi_group` and `STAKED_SETTINGS_SEED`
+  public PublicKey key() {
+    return readPubKey(_data, offset + StakedSettings.KEY_OFFSET);
+  }
+
+  // Group for which these settings apply
+  public PublicKey marginfiGroup() {
+    return readPubKey(_data, offset + StakedSettings.MARGINFI_GROUP_OFFSET);
+  }
+
+  // Generally, the Pyth push oracle for SOL
+  public PublicKey oracle() {
+    return readPubKey(_data, offset + StakedSettings.ORACLE_OFFSET);
+  }
+
+  public WrappedI80F48 assetWeightInit() {
+    return WrappedI80F48.read(_data, offset + StakedSettings.ASSET_WEIGHT_INIT_OFFSET);
+  }
+
+  public WrappedI80F48 assetWeightMaint() {
+    return WrappedI80F48.read(_data, offset + StakedSettings.ASSET_WEIGHT_MAINT_OFFSET);
+  }
+
+  public long depositLimit() {
+    return getInt64LE(_data, offset + StakedSettings.DEPOSIT_LIMIT_OFFSET);
+  }
+
+  public long totalAssetValueInitLimit() {
+    return getInt64LE(_data, offset + StakedSettings.TOTAL_ASSET_VALUE_INIT_LIMIT_OFFSET);
+  }
+
+  public int oracleMaxAge() {
+    return getInt16LE(_data, offset + StakedSettings.ORACLE_MAX_AGE_OFFSET);
+  }
+
+  public RiskTier riskTier() {
+    return RiskTier.read(_data, offset + StakedSettings.RISK_TIER_OFFSET);
+  }
+}
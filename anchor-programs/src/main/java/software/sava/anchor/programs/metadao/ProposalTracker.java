@@ -0,0 +1,477 @@
+package software.sava.anchor.programs.metadao;
+
+import software.sava.anchor.programs.metadao.amm.TwapTracker;
+import software.sava.anchor.programs.metadao.amm.anchor.AmmAccounts;
+import software.sava.anchor.programs.metadao.amm.anchor.types.AddLiquidityEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.Amm;
+import software.sava.anchor.programs.metadao.amm.anchor.types.CommonFields;
+import software.sava.anchor.programs.metadao.amm.anchor.types.CrankThatTwapEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.RemoveLiquidityEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.SwapEvent;
+import software.sava.anchor.programs.metadao.autocrat.anchor.AutocratAccounts;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.Dao;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.FinalizeProposalEvent;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.InitializeProposalEvent;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.Proposal;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.ProposalState;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.ConditionalVaultAccounts;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.ConditionalVault;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.MergeTokensEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.Question;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.RedeemTokensEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.SplitTokensEvent;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static software.sava.anchor.programs._commons.U64Math.mulDiv;
+
+// Live view of futarchy proposals, linking Dao -> Proposal -> pass/fail Amm -> base/quote ConditionalVault -> Question.
+//
+// The graph is built incrementally from account updates, e.g. a program subscription or ProgramAccountLoader, and
+// from decoded AMM, conditional vault and autocrat events. A proposal is linked as soon as either its account or its
+// InitializeProposalEvent is seen, missingAccounts lists the linked accounts still to be fetched, which can be done
+// with a single getMultipleAccounts call. Stale updates are dropped, using seqNum where the account has one and the
+// slot of the update otherwise.
+//
+// All methods synchronize on the tracker, so a snapshot is a consistent cut of every update applied before it.
+public final class ProposalTracker {
+
+  public static final int MAX_BPS = 10_000;
+
+  public record MarketState(Amm amm,
+                            long seqNum,
+                            long baseReserves,
+                            long quoteReserves,
+                            long lastUpdatedSlot,
+                            // -1 if the TWAP is not available yet
+                            long twap) {
+  }
+
+  public record VaultState(ConditionalVault vault,
+                           long slot,
+                           long seqNum,
+                           // -1 until a split, merge or redeem event is seen
+                           long underlyingBalance,
+                           // null until a split, merge or redeem event is seen
+                           long[] conditionalTokenSupplies) {
+  }
+
+  public record ProposalSnapshot(long slot,
+                                 PublicKey proposalKey,
+                                 Proposal proposal,
+                                 ProposalState state,
+                                 long endSlot,
+                                 Dao dao,
+                                 MarketState passMarket,
+                                 MarketState failMarket,
+                                 VaultState baseVault,
+                                 VaultState quoteVault,
+                                 Question question) {
+
+    public boolean isComplete() {
+      return proposal != null
+          && dao != null
+          && passMarket != null
+          && failMarket != null
+          && baseVault != null
+          && quoteVault != null
+          && question != null;
+    }
+
+    public boolean isPending() {
+      return state == ProposalState.Pending;
+    }
+
+    public boolean hasEnded() {
+      return slot >= endSlot;
+    }
+
+    // The TWAP the pass market must exceed, as computed by finalize_proposal, or -1 if not yet available.
+    public long passThreshold() {
+      if (dao == null || failMarket == null || failMarket.twap < 0) {
+        return -1;
+      }
+      return mulDiv(failMarket.twap, MAX_BPS + dao.passThresholdBps(), MAX_BPS);
+    }
+
+    // Whether the proposal would pass if finalized at this slot.
+    public boolean isPassing() {
+      final long threshold = passThreshold();
+      return threshold >= 0 && passMarket != null && passMarket.twap > threshold;
+    }
+  }
+
+  private static final class ProposalEntry {
+
+    private final PublicKey key;
+    private Proposal proposal;
+    private long slot = -1;
+    private ProposalState state = ProposalState.Pending;
+    private long endSlot = Long.MAX_VALUE;
+    private PublicKey dao;
+    private PublicKey passAmm;
+    private PublicKey failAmm;
+    private PublicKey baseVault;
+    private PublicKey quoteVault;
+    private PublicKey question;
+
+    private ProposalEntry(final PublicKey key) {
+      this.key = key;
+    }
+
+    private void link(final PublicKey dao,
+                      final PublicKey passAmm,
+                      final PublicKey failAmm,
+                      final PublicKey baseVault,
+                      final PublicKey quoteVault,
+                      final PublicKey question) {
+      this.dao = dao;
+      this.passAmm = passAmm;
+      this.failAmm = failAmm;
+      this.baseVault = baseVault;
+      this.quoteVault = quoteVault;
+      this.question = question;
+    }
+
+    private List<PublicKey> links() {
+      return List.of(dao, passAmm, failAmm, baseVault, quoteVault, question);
+    }
+  }
+
+  private record SlotEntry<T>(T value, long slot) {
+  }
+
+  private final Map<PublicKey, ProposalEntry> proposals;
+  private final Map<PublicKey, Set<PublicKey>> proposalsByLink;
+  private final Map<PublicKey, Dao> daos;
+  private final Map<PublicKey, Amm> amms;
+  private final Map<PublicKey, TwapTracker> twapTrackers;
+  private final Map<PublicKey, VaultState> vaults;
+  private final Map<PublicKey, SlotEntry<Question>> questions;
+
+  private ProposalTracker() {
+    this.proposals = new HashMap<>();
+    this.proposalsByLink = new HashMap<>();
+    this.daos = new HashMap<>();
+    this.amms = new HashMap<>();
+    this.twapTrackers = new HashMap<>();
+    this.vaults = new HashMap<>();
+    this.questions = new HashMap<>();
+  }
+
+  public static ProposalTracker createTracker() {
+    return new ProposalTracker();
+  }
+
+  private Set<PublicKey> linkedProposals(final PublicKey key) {
+    return proposalsByLink.getOrDefault(key, Set.of());
+  }
+
+  private ProposalEntry link(final PublicKey proposalKey,
+                             final PublicKey dao,
+                             final PublicKey passAmm,
+                             final PublicKey failAmm,
+                             final PublicKey baseVault,
+                             final PublicKey quoteVault,
+                             final PublicKey question) {
+    final var entry = proposals.computeIfAbsent(proposalKey, ProposalEntry::new);
+    if (entry.dao != null) {
+      for (final var link : entry.links()) {
+        final var linked = proposalsByLink.get(link);
+        if (linked != null && linked.remove(proposalKey) && linked.isEmpty()) {
+          proposalsByLink.remove(link);
+        }
+      }
+    }
+    entry.link(dao, passAmm, failAmm, baseVault, quoteVault, question);
+    for (final var link : entry.links()) {
+      proposalsByLink.computeIfAbsent(link, _ -> new HashSet<>()).add(proposalKey);
+    }
+    return entry;
+  }
+
+  // Each update returns the proposals it affects, empty if the update was stale or is not linked to any proposal.
+
+  public synchronized Set<PublicKey> update(final long slot, final Proposal proposal) {
+    final var key = proposal._address();
+    final var existing = proposals.get(key);
+    if (existing != null && existing.slot > slot) {
+      return Set.of();
+    }
+    final var entry = link(
+        key,
+        proposal.dao(),
+        proposal.passAmm(), proposal.failAmm(),
+        proposal.baseVault(), proposal.quoteVault(),
+        proposal.question()
+    );
+    entry.proposal = proposal;
+    entry.slot = slot;
+    entry.state = proposal.state();
+    entry.endSlot = proposal.slotEnqueued() + proposal.durationInSlots();
+    return Set.of(key);
+  }
+
+  public synchronized Set<PublicKey> update(final long slot, final Dao dao) {
+    final var previous = daos.get(dao._address());
+    if (previous != null && Long.compareUnsigned(previous.seqNum(), dao.seqNum()) > 0) {
+      return Set.of();
+    }
+    daos.put(dao._address(), dao);
+    return Set.copyOf(linkedProposals(dao._address()));
+  }
+
+  public synchronized Set<PublicKey> update(final long slot, final Amm amm) {
+    final var key = amm._address();
+    final var tracker = twapTrackers.get(key);
+    if (tracker != null && Long.compareUnsigned(tracker.seqNum(), amm.seqNum()) > 0) {
+      return Set.of();
+    }
+    amms.put(key, amm);
+    twapTrackers.put(key, TwapTracker.createTracker(amm));
+    return Set.copyOf(linkedProposals(key));
+  }
+
+  public synchronized Set<PublicKey> update(final long slot, final ConditionalVault vault) {
+    final var key = vault._address();
+    final var previous = vaults.get(key);
+    if (previous != null && Long.compareUnsigned(previous.seqNum, vault.seqNum()) > 0) {
+      return Set.of();
+    }
+    // balances seen in events for this sequence number remain valid
+    vaults.put(key, previous != null && previous.seqNum == vault.seqNum()
+        ? new VaultState(vault, slot, vault.seqNum(), previous.underlyingBalance, previous.conditionalTokenSupplies)
+        : new VaultState(vault, slot, vault.seqNum(), -1, null));
+    return Set.copyOf(linkedProposals(key));
+  }
+
+  public synchronized Set<PublicKey> update(final long slot, final Question question) {
+    final var key = question._address();
+    final var previous = questions.get(key);
+    if (previous != null && previous.slot > slot) {
+      return Set.of();
+    }
+    questions.put(key, new SlotEntry<>(question, slot));
+    return Set.copyOf(linkedProposals(key));
+  }
+
+  // Decodes and applies an autocrat, AMM or conditional vault account.
+  public Set<PublicKey> update(final long slot, final PublicKey key, final byte[] data) {
+    var account = AutocratAccounts.decode(key, data);
+    if (account == null) {
+      account = AmmAccounts.decode(key, data);
+      if (account == null) {
+        account = ConditionalVaultAccounts.decode(key, data);
+      }
+    }
+    return account == null ? Set.of() : update(slot, account);
+  }
+
+  public Set<PublicKey> update(final long slot, final AccountInfo<byte[]> accountInfo) {
+    return update(slot, accountInfo.pubKey(), accountInfo.data());
+  }
+
+  public Set<PublicKey> update(final long slot, final Borsh account) {
+    return switch (account) {
+      case Proposal proposal -> update(slot, proposal);
+      case Dao dao -> update(slot, dao);
+      case Amm amm -> update(slot, amm);
+      case ConditionalVault vault -> update(slot, vault);
+      case Question question -> update(slot, question);
+      default -> Set.of();
+    };
+  }
+
+  // Applies an event decoded by AutocratEvents, AmmEvents or ConditionalVaultEvents, other events are ignored.
+  public Set<PublicKey> accept(final Borsh event) {
+    return switch (event) {
+      case SwapEvent swapEvent -> acceptAmmEvent(swapEvent.common());
+      case CrankThatTwapEvent crankEvent -> acceptAmmEvent(crankEvent.common());
+      case AddLiquidityEvent addEvent -> acceptAmmEvent(addEvent.common());
+      case RemoveLiquidityEvent removeEvent -> acceptAmmEvent(removeEvent.common());
+      case SplitTokensEvent split -> acceptVaultEvent(
+          split.common().slot(), split.vault(), split.seqNum(),
+          split.postVaultUnderlyingBalance(), split.postConditionalTokenSupplies()
+      );
+      case MergeTokensEvent merge -> acceptVaultEvent(
+          merge.common().slot(), merge.vault(), merge.seqNum(),
+          merge.postVaultUnderlyingBalance(), merge.postConditionalTokenSupplies()
+      );
+      case RedeemTokensEvent redeem -> acceptVaultEvent(
+          redeem.common().slot(), redeem.vault(), redeem.seqNum(),
+          redeem.postVaultUnderlyingBalance(), redeem.postConditionalTokenSupplies()
+      );
+      case InitializeProposalEvent initEvent -> acceptInitializeProposal(initEvent);
+      case FinalizeProposalEvent finalizeEvent -> acceptFinalizeProposal(finalizeEvent);
+      case null, default -> Set.of();
+    };
+  }
+
+  private synchronized Set<PublicKey> acceptAmmEvent(final CommonFields common) {
+    final var tracker = twapTrackers.get(common.amm());
+    if (tracker == null) {
+      return Set.of();
+    }
+    return tracker.accept(common) ? Set.copyOf(linkedProposals(common.amm())) : Set.of();
+  }
+
+  private synchronized Set<PublicKey> acceptVaultEvent(final long slot,
+                                                       final PublicKey vaultKey,
+                                                       final long seqNum,
+                                                       final long underlyingBalance,
+                                                       final long[] conditionalTokenSupplies) {
+    final var previous = vaults.get(vaultKey);
+    if (previous == null || Long.compareUnsigned(previous.seqNum, seqNum) >= 0) {
+      return Set.of();
+    }
+    vaults.put(vaultKey, new VaultState(previous.vault, slot, seqNum, underlyingBalance, conditionalTokenSupplies));
+    return Set.copyOf(linkedProposals(vaultKey));
+  }
+
+  private synchronized Set<PublicKey> acceptInitializeProposal(final InitializeProposalEvent event) {
+    final var key = event.proposal();
+    final var existing = proposals.get(key);
+    if (existing != null && existing.proposal != null) {
+      return Set.of();
+    }
+    final var entry = link(
+        key,
+        event.dao(),
+        event.passAmm(), event.failAmm(),
+        event.baseVault(), event.quoteVault(),
+        event.question()
+    );
+    entry.endSlot = event.common().slot() + event.durationInSlots();
+    return Set.of(key);
+  }
+
+  private synchronized Set<PublicKey> acceptFinalizeProposal(final FinalizeProposalEvent event) {
+    final var entry = proposals.get(event.proposal());
+    if (entry == null || entry.slot > event.common().slot()) {
+      return Set.of();
+    }
+    entry.state = event.state();
+    entry.slot = event.common().slot();
+    return Set.of(entry.key);
+  }
+
+  // Drops a proposal, e.g. once finalized. Linked accounts no other proposal refers to are dropped with it.
+  public synchronized void remove(final PublicKey proposalKey) {
+    final var entry = proposals.remove(proposalKey);
+    if (entry == null || entry.dao == null) {
+      return;
+    }
+    for (final var link : entry.links()) {
+      final var linked = proposalsByLink.get(link);
+      if (linked != null && linked.remove(proposalKey) && linked.isEmpty()) {
+        proposalsByLink.remove(link);
+        daos.remove(link);
+        amms.remove(link);
+        twapTrackers.remove(link);
+        vaults.remove(link);
+        questions.remove(link);
+      }
+    }
+  }
+
+  // Proposals linked only through an event, and linked accounts which have not been loaded yet.
+  public synchronized List<PublicKey> missingAccounts() {
+    final var missing = new ArrayList<PublicKey>();
+    for (final var entry : proposals.values()) {
+      if (entry.proposal == null) {
+        missing.add(entry.key);
+      }
+    }
+    for (final var link : proposalsByLink.keySet()) {
+      if (!daos.containsKey(link)
+          && !amms.containsKey(link)
+          && !vaults.containsKey(link)
+          && !questions.containsKey(link)) {
+        missing.add(link);
+      }
+    }
+    return missing;
+  }
+
+  private MarketState marketState(final PublicKey ammKey, final long slot) {
+    final var tracker = twapTrackers.get(ammKey);
+    if (tracker == null) {
+      return null;
+    }
+    long twap;
+    try {
+      twap = tracker.twap(slot);
+    } catch (final ArithmeticException e) {
+      twap = -1;
+    }
+    return new MarketState(
+        amms.get(ammKey),
+        tracker.seqNum(),
+        tracker.baseReserves(),
+        tracker.quoteReserves(),
+        tracker.lastUpdatedSlot(),
+        twap
+    );
+  }
+
+  private ProposalSnapshot snapshot(final ProposalEntry entry, final long slot) {
+    if (entry.dao == null) {
+      return null;
+    }
+    final var question = questions.get(entry.question);
+    return new ProposalSnapshot(
+        slot,
+        entry.key,
+        entry.proposal,
+        entry.state,
+        entry.endSlot,
+        daos.get(entry.dao),
+        marketState(entry.passAmm, slot),
+        marketState(entry.failAmm, slot),
+        vaults.get(entry.baseVault),
+        vaults.get(entry.quoteVault),
+        question == null ? null : question.value
+    );
+  }
+
+  // TWAPs are projected as if both markets were cranked at slot. Null if the proposal is unknown.
+  public synchronized ProposalSnapshot snapshot(final PublicKey proposalKey, final long slot) {
+    final var entry = proposals.get(proposalKey);
+    return entry == null ? null : snapshot(entry, slot);
+  }
+
+  public synchronized List<ProposalSnapshot> snapshots(final long slot) {
+    final var snapshots = new ArrayList<ProposalSnapshot>(proposals.size());
+    for (final var entry : proposals.values()) {
+      final var snapshot = snapshot(entry, slot);
+      if (snapshot != null) {
+        snapshots.add(snapshot);
+      }
+    }
+    return snapshots;
+  }
+
+  public synchronized List<ProposalSnapshot> snapshots(final PublicKey daoKey, final long slot) {
+    final var linked = linkedProposals(daoKey);
+    final var snapshots = new ArrayList<ProposalSnapshot>(linked.size());
+    for (final var proposalKey : linked) {
+      final var entry = proposals.get(proposalKey);
+      if (entry != null && daoKey.equals(entry.dao)) {
+        snapshots.add(snapshot(entry, slot));
+      }
+    }
+    return snapshots;
+  }
+
+  public synchronized int numProposals() {
+    return proposals.size();
+  }
+}
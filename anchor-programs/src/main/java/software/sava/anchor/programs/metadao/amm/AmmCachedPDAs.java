@@ -0,0 +1,51 @@
+package software.sava.anchor.programs.metadao.amm;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// MetaDAO AMM program addresses derived through ProgramAddressCache, with bump overloads for Amm.bump.
+public final class AmmCachedPDAs {
+
+  private static final byte[] AMM_LP_MINT_SEED = "amm_lp_mint".getBytes(US_ASCII);
+  private static final byte[] AMM_SEED = "amm__".getBytes(US_ASCII);
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress ammPDA(final PublicKey program,
+                                             final PublicKey baseMintAccount,
+                                             final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(AMM_SEED, baseMintAccount, quoteMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress ammPDA(final PublicKey program,
+                                             final PublicKey baseMintAccount,
+                                             final PublicKey quoteMintAccount,
+                                             final int bump) {
+    return ProgramAddressCache.createProgramAddress(AMM_SEED, baseMintAccount, quoteMintAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress lpMintPDA(final PublicKey program,
+                                                final PublicKey ammAccount) {
+    return ProgramAddressCache.findProgramAddress(AMM_LP_MINT_SEED, ammAccount, program);
+  }
+
+  public static ProgramDerivedAddress lpMintPDA(final PublicKey program,
+                                                final PublicKey ammAccount,
+                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(AMM_LP_MINT_SEED, ammAccount, bump, program);
+  }
+
+  private AmmCachedPDAs() {
+  }
+}
@@ -0,0 +1,73 @@
+package software.sava.anchor.programs.metadao.amm;
+
+import software.sava.anchor.programs.metadao.amm.anchor.AmmProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// metaDAO AMM instruction data decoded into the AmmProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class AmmInstructionDecoder {
+
+  public record CrankThatTwapIxData(Discriminator discriminator) implements Borsh {
+
+    public static CrankThatTwapIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CrankThatTwapIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CrankThatTwapIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(AmmProgram.CRANK_THAT_TWAP_DISCRIMINATOR.data(), 0),
+      getInt64LE(AmmProgram.SWAP_DISCRIMINATOR.data(), 0),
+      getInt64LE(AmmProgram.CREATE_AMM_DISCRIMINATOR.data(), 0),
+      getInt64LE(AmmProgram.ADD_LIQUIDITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(AmmProgram.REMOVE_LIQUIDITY_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> CrankThatTwapIxData.read(_data, offset);
+      case 1 -> AmmProgram.SwapIxData.read(_data, offset);
+      case 2 -> AmmProgram.CreateAmmIxData.read(_data, offset);
+      case 3 -> AmmProgram.AddLiquidityIxData.read(_data, offset);
+      case 4 -> AmmProgram.RemoveLiquidityIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private AmmInstructionDecoder() {
+  }
+}
@@ -0,0 +1,116 @@
+package software.sava.anchor.programs.metadao.amm;
+
+import software.sava.anchor.programs.metadao.amm.anchor.types.Amm;
+import software.sava.anchor.programs.metadao.amm.anchor.types.SwapType;
+
+import static software.sava.anchor.programs._commons.U64Math.mulDiv;
+import static software.sava.anchor.programs._commons.U64Math.mulDivCeil;
+
+// Constant product quotes matching AmmProgram.swap.
+//
+// The fee is taken from the input and left in the pool:
+//   inputMinusFee = input * (BPS_SCALE - AMM_FEE_BPS) / BPS_SCALE
+//   buy:  baseOut = base - ceil(base * quote / (quote + inputMinusFee))
+//   sell: quoteOut = quote - ceil(base * quote / (base + inputMinusFee))
+// The 128 bit invariant is never materialized, each step is a single U64Math multiply-divide. Inverse quotes return
+// the smallest input whose swap yields at least the requested output. Unfillable swaps, including empty reserves,
+// return -1.
+public final class AmmQuoteEngine {
+
+  public static final long BPS_SCALE = 10_000;
+  public static final long AMM_FEE_BPS = 100;
+  // Prices are quote units per base unit scaled by 1e12, see TwapOracle.
+  public static final long PRICE_SCALE = 1_000_000_000_000L;
+
+  public static long inputMinusFee(final long inputAmount) {
+    return mulDiv(inputAmount, BPS_SCALE - AMM_FEE_BPS, BPS_SCALE);
+  }
+
+  // Base received for quoteIn.
+  public static long buyExactIn(final long baseReserves, final long quoteReserves, final long quoteIn) {
+    if (baseReserves <= 0 || quoteReserves <= 0) {
+      return -1;
+    }
+    final long quoteAfter = Math.addExact(quoteReserves, inputMinusFee(quoteIn));
+    return baseReserves - mulDivCeil(baseReserves, quoteReserves, quoteAfter);
+  }
+
+  // Quote received for baseIn.
+  public static long sellExactIn(final long baseReserves, final long quoteReserves, final long baseIn) {
+    if (baseReserves <= 0 || quoteReserves <= 0) {
+      return -1;
+    }
+    final long baseAfter = Math.addExact(baseReserves, inputMinusFee(baseIn));
+    return quoteReserves - mulDivCeil(baseReserves, quoteReserves, baseAfter);
+  }
+
+  // Smallest quote input which buys at least baseOut.
+  public static long buyExactOut(final long baseReserves, final long quoteReserves, final long baseOut) {
+    if (baseReserves <= 0 || quoteReserves <= 0 || baseOut >= baseReserves) {
+      return -1;
+    }
+    final long netIn = mulDivCeil(baseReserves, quoteReserves, baseReserves - baseOut) - quoteReserves;
+    return grossUp(netIn);
+  }
+
+  // Smallest base input which sells for at least quoteOut.
+  public static long sellExactOut(final long baseReserves, final long quoteReserves, final long quoteOut) {
+    if (baseReserves <= 0 || quoteReserves <= 0 || quoteOut >= quoteReserves) {
+      return -1;
+    }
+    final long netIn = mulDivCeil(baseReserves, quoteReserves, quoteReserves - quoteOut) - baseReserves;
+    return grossUp(netIn);
+  }
+
+  private static long grossUp(final long netIn) {
+    long input = mulDivCeil(netIn, BPS_SCALE, BPS_SCALE - AMM_FEE_BPS);
+    while (input > 0 && inputMinusFee(input - 1) >= netIn) {
+      --input;
+    }
+    return input;
+  }
+
+  public static long swapExactIn(final long baseReserves,
+                                 final long quoteReserves,
+                                 final SwapType swapType,
+                                 final long inputAmount) {
+    return swapType == SwapType.Buy
+        ? buyExactIn(baseReserves, quoteReserves, inputAmount)
+        : sellExactIn(baseReserves, quoteReserves, inputAmount);
+  }
+
+  public static long swapExactIn(final Amm amm, final SwapType swapType, final long inputAmount) {
+    return swapExactIn(amm.baseAmount(), amm.quoteAmount(), swapType, inputAmount);
+  }
+
+  public static long swapExactOut(final long baseReserves,
+                                  final long quoteReserves,
+                                  final SwapType swapType,
+                                  final long outputAmount) {
+    return swapType == SwapType.Buy
+        ? buyExactOut(baseReserves, quoteReserves, outputAmount)
+        : sellExactOut(baseReserves, quoteReserves, outputAmount);
+  }
+
+  public static long swapExactOut(final Amm amm, final SwapType swapType, final long outputAmount) {
+    return swapExactOut(amm.baseAmount(), amm.quoteAmount(), swapType, outputAmount);
+  }
+
+  // SwapArgs.outputAmountMin for a quote and a slippage tolerance in basis points.
+  public static long minimumOutput(final long outputAmount, final int slippageBps) {
+    return mulDiv(outputAmount, BPS_SCALE - slippageBps, BPS_SCALE);
+  }
+
+  // Pool price scaled by PRICE_SCALE, as used by the TWAP oracle. Zero if there is no base liquidity.
+  // Throws an ArithmeticException if the price does not fit in a long, TwapTracker handles the full 128 bit range.
+  public static long price(final long baseReserves, final long quoteReserves) {
+    return baseReserves == 0 ? 0 : mulDiv(quoteReserves, PRICE_SCALE, baseReserves);
+  }
+
+  public static long price(final Amm amm) {
+    return price(amm.baseAmount(), amm.quoteAmount());
+  }
+
+  private AmmQuoteEngine() {
+  }
+}
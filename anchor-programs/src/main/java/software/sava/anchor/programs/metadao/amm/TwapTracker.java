@@ -0,0 +1,323 @@
+package software.sava.anchor.programs.metadao.amm;
+
+import software.sava.anchor.programs.metadao.amm.anchor.types.AddLiquidityEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.Amm;
+import software.sava.anchor.programs.metadao.amm.anchor.types.CommonFields;
+import software.sava.anchor.programs.metadao.amm.anchor.types.CrankThatTwapEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.RemoveLiquidityEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.SwapEvent;
+import software.sava.core.accounts.PublicKey;
+
+import java.math.BigInteger;
+
+import static software.sava.anchor.programs._commons.U64Math.divideUnsigned;
+import static software.sava.anchor.programs.metadao.amm.AmmQuoteEngine.PRICE_SCALE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+// Follows the TWAP oracle of a single AMM from an account snapshot and its swap, crank and liquidity event stream.
+//
+// Every event carries the post event reserves and oracle state, so events only need to be applied in order. The
+// oracle at any later slot is projected the way update_twap would move it if cranked at that slot:
+//   price = quote * PRICE_SCALE / base
+//   observation = price clamped to lastObservation +/- maxObservationChangePerUpdate
+//   aggregator += observation * (slot - max(lastUpdatedSlot, startSlot)), wrapping at 2^128
+//   twap = aggregator / (lastUpdatedSlot - createdAtSlot - startDelaySlots)
+// The oracle updates at most once per slot, and not before createdAtSlot + startDelaySlots. To evaluate an earlier
+// slot, replay the events up to it onto a tracker created from an older snapshot.
+//
+// All u128 values are held as high and low longs, applying an event read from raw bytes and projecting the TWAP
+// do not allocate. Instances are not thread safe.
+public final class TwapTracker {
+
+  private static final long U128_MAX = -1;
+
+  private final PublicKey amm;
+  private final long startSlot;
+  private final long maxChangeHigh;
+  private final long maxChangeLow;
+
+  private long seqNum;
+  private long baseReserves;
+  private long quoteReserves;
+  private long lastUpdatedSlot;
+  private long lastPriceHigh;
+  private long lastPriceLow;
+  private long lastObservationHigh;
+  private long lastObservationLow;
+  private long aggregatorHigh;
+  private long aggregatorLow;
+
+  private TwapTracker projection;
+
+  private TwapTracker(final PublicKey amm,
+                      final long startSlot,
+                      final long maxChangeHigh,
+                      final long maxChangeLow) {
+    this.amm = amm;
+    this.startSlot = startSlot;
+    this.maxChangeHigh = maxChangeHigh;
+    this.maxChangeLow = maxChangeLow;
+  }
+
+  public static TwapTracker createTracker(final Amm amm) {
+    final var oracle = amm.oracle();
+    final var maxChange = oracle.maxObservationChangePerUpdate();
+    final var tracker = new TwapTracker(
+        amm._address(),
+        amm.createdAtSlot() + oracle.startDelaySlots(),
+        high(maxChange), maxChange.longValue()
+    );
+    tracker.seqNum = amm.seqNum();
+    tracker.baseReserves = amm.baseAmount();
+    tracker.quoteReserves = amm.quoteAmount();
+    tracker.lastUpdatedSlot = oracle.lastUpdatedSlot();
+    tracker.lastPriceHigh = high(oracle.lastPrice());
+    tracker.lastPriceLow = oracle.lastPrice().longValue();
+    tracker.lastObservationHigh = high(oracle.lastObservation());
+    tracker.lastObservationLow = oracle.lastObservation().longValue();
+    tracker.aggregatorHigh = high(oracle.aggregator());
+    tracker.aggregatorLow = oracle.aggregator().longValue();
+    return tracker;
+  }
+
+  private static long high(final BigInteger u128) {
+    return u128.shiftRight(Long.SIZE).longValue();
+  }
+
+  private static BigInteger toBigInteger(final long high, final long low) {
+    return new BigInteger(1, new byte[]{
+        (byte) (high >>> 56), (byte) (high >>> 48), (byte) (high >>> 40), (byte) (high >>> 32),
+        (byte) (high >>> 24), (byte) (high >>> 16), (byte) (high >>> 8), (byte) high,
+        (byte) (low >>> 56), (byte) (low >>> 48), (byte) (low >>> 40), (byte) (low >>> 32),
+        (byte) (low >>> 24), (byte) (low >>> 16), (byte) (low >>> 8), (byte) low
+    });
+  }
+
+  private static int compare(final long aHigh, final long aLow, final long bHigh, final long bLow) {
+    final int compare = Long.compareUnsigned(aHigh, bHigh);
+    return compare == 0 ? Long.compareUnsigned(aLow, bLow) : compare;
+  }
+
+  // Applies the post event state, returns false if the event is not newer than the current state.
+  private boolean apply(final long slot,
+                        final long seqNum,
+                        final long postBaseReserves,
+                        final long postQuoteReserves,
+                        final long lastPriceHigh, final long lastPriceLow,
+                        final long lastObservationHigh, final long lastObservationLow,
+                        final long aggregatorHigh, final long aggregatorLow) {
+    if (Long.compareUnsigned(seqNum, this.seqNum) <= 0) {
+      return false;
+    }
+    this.seqNum = seqNum;
+    this.baseReserves = postBaseReserves;
+    this.quoteReserves = postQuoteReserves;
+    if (slot > lastUpdatedSlot) {
+      this.lastUpdatedSlot = slot;
+    }
+    this.lastPriceHigh = lastPriceHigh;
+    this.lastPriceLow = lastPriceLow;
+    this.lastObservationHigh = lastObservationHigh;
+    this.lastObservationLow = lastObservationLow;
+    this.aggregatorHigh = aggregatorHigh;
+    this.aggregatorLow = aggregatorLow;
+    return true;
+  }
+
+  public boolean accept(final CommonFields common) {
+    return apply(
+        common.slot(),
+        common.seqNum(),
+        common.postBaseReserves(),
+        common.postQuoteReserves(),
+        high(common.oracleLastPrice()), common.oracleLastPrice().longValue(),
+        high(common.oracleLastObservation()), common.oracleLastObservation().longValue(),
+        high(common.oracleAggregator()), common.oracleAggregator().longValue()
+    );
+  }
+
+  public boolean accept(final SwapEvent swapEvent) {
+    return accept(swapEvent.common());
+  }
+
+  public boolean accept(final CrankThatTwapEvent crankThatTwapEvent) {
+    return accept(crankThatTwapEvent.common());
+  }
+
+  public boolean accept(final AddLiquidityEvent addLiquidityEvent) {
+    return accept(addLiquidityEvent.common());
+  }
+
+  public boolean accept(final RemoveLiquidityEvent removeLiquidityEvent) {
+    return accept(removeLiquidityEvent.common());
+  }
+
+  // Applies the CommonFields serialized at offset, e.g. directly from event data after its discriminator.
+  public boolean accept(final byte[] data, final int offset) {
+    return apply(
+        getInt64LE(data, offset),
+        getInt64LE(data, offset + 144),
+        getInt64LE(data, offset + 80),
+        getInt64LE(data, offset + 88),
+        getInt64LE(data, offset + 104), getInt64LE(data, offset + 96),
+        getInt64LE(data, offset + 120), getInt64LE(data, offset + 112),
+        getInt64LE(data, offset + 136), getInt64LE(data, offset + 128)
+    );
+  }
+
+  // Runs update_twap at slot against the current reserves, returns false if the oracle would not update.
+  public boolean crank(final long slot) {
+    if (slot <= lastUpdatedSlot || slot < startSlot || baseReserves == 0 || quoteReserves == 0) {
+      return false;
+    }
+    // price = quote * PRICE_SCALE / base
+    final long productHigh = Math.unsignedMultiplyHigh(quoteReserves, PRICE_SCALE);
+    final long productLow = quoteReserves * PRICE_SCALE;
+    final long priceHigh = Long.divideUnsigned(productHigh, baseReserves);
+    final long priceLow = divideUnsigned(Long.remainderUnsigned(productHigh, baseReserves), productLow, baseReserves);
+
+    long observationHigh;
+    long observationLow;
+    if (compare(priceHigh, priceLow, lastObservationHigh, lastObservationLow) > 0) {
+      // min(price, lastObservation.saturating_add(maxChange))
+      observationLow = lastObservationLow + maxChangeLow;
+      observationHigh = lastObservationHigh + maxChangeHigh
+          + (Long.compareUnsigned(observationLow, lastObservationLow) < 0 ? 1 : 0);
+      if (compare(observationHigh, observationLow, lastObservationHigh, lastObservationLow) < 0) {
+        observationHigh = U128_MAX;
+        observationLow = U128_MAX;
+      }
+      if (compare(priceHigh, priceLow, observationHigh, observationLow) < 0) {
+        observationHigh = priceHigh;
+        observationLow = priceLow;
+      }
+    } else {
+      // max(price, lastObservation.saturating_sub(maxChange))
+      if (compare(lastObservationHigh, lastObservationLow, maxChangeHigh, maxChangeLow) < 0) {
+        observationHigh = 0;
+        observationLow = 0;
+      } else {
+        observationLow = lastObservationLow - maxChangeLow;
+        observationHigh = lastObservationHigh - maxChangeHigh
+            - (Long.compareUnsigned(lastObservationLow, maxChangeLow) < 0 ? 1 : 0);
+      }
+      if (compare(priceHigh, priceLow, observationHigh, observationLow) > 0) {
+        observationHigh = priceHigh;
+        observationLow = priceLow;
+      }
+    }
+
+    // aggregator = aggregator.wrapping_add(observation * slotDifference), slots before the start delay are not weighted
+    final long slotDifference = slot - Math.max(lastUpdatedSlot, startSlot);
+    final long weightedLow = observationLow * slotDifference;
+    final long weightedHigh = Math.unsignedMultiplyHigh(observationLow, slotDifference)
+        + observationHigh * slotDifference;
+    final long aggregatorLow = this.aggregatorLow + weightedLow;
+    this.aggregatorHigh += weightedHigh + (Long.compareUnsigned(aggregatorLow, weightedLow) < 0 ? 1 : 0);
+    this.aggregatorLow = aggregatorLow;
+
+    this.lastUpdatedSlot = slot;
+    this.lastPriceHigh = priceHigh;
+    this.lastPriceLow = priceLow;
+    this.lastObservationHigh = observationHigh;
+    this.lastObservationLow = observationLow;
+    return true;
+  }
+
+  // The TWAP as get_twap would return it after a crank at slot, without changing this tracker.
+  // Throws an ArithmeticException if no slots have passed since the start delay, if the aggregator is zero or if the
+  // TWAP does not fit in a long. The aggregator wraps at 2^128, a wrapped aggregator yields a meaningless TWAP.
+  public long twap(final long slot) {
+    var projection = this.projection;
+    if (projection == null) {
+      this.projection = projection = new TwapTracker(amm, startSlot, maxChangeHigh, maxChangeLow);
+    }
+    projection.copyState(this);
+    projection.crank(slot);
+    return projection.twap();
+  }
+
+  // The TWAP as of the last applied event or crank.
+  public long twap() {
+    if (lastUpdatedSlot <= startSlot) {
+      throw new ArithmeticException("No slots passed");
+    }
+    if (aggregatorHigh == 0 && aggregatorLow == 0) {
+      throw new ArithmeticException("Zero aggregator");
+    }
+    final long slotsPassed = lastUpdatedSlot - startSlot;
+    if (Long.compareUnsigned(aggregatorHigh, slotsPassed) >= 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    final long twap = divideUnsigned(aggregatorHigh, aggregatorLow, slotsPassed);
+    if (twap < 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    return twap;
+  }
+
+  private void copyState(final TwapTracker tracker) {
+    this.seqNum = tracker.seqNum;
+    this.baseReserves = tracker.baseReserves;
+    this.quoteReserves = tracker.quoteReserves;
+    this.lastUpdatedSlot = tracker.lastUpdatedSlot;
+    this.lastPriceHigh = tracker.lastPriceHigh;
+    this.lastPriceLow = tracker.lastPriceLow;
+    this.lastObservationHigh = tracker.lastObservationHigh;
+    this.lastObservationLow = tracker.lastObservationLow;
+    this.aggregatorHigh = tracker.aggregatorHigh;
+    this.aggregatorLow = tracker.aggregatorLow;
+  }
+
+  public PublicKey amm() {
+    return amm;
+  }
+
+  public long startSlot() {
+    return startSlot;
+  }
+
+  public long seqNum() {
+    return seqNum;
+  }
+
+  public long baseReserves() {
+    return baseReserves;
+  }
+
+  public long quoteReserves() {
+    return quoteReserves;
+  }
+
+  public long lastUpdatedSlot() {
+    return lastUpdatedSlot;
+  }
+
+  public long lastObservationHigh() {
+    return lastObservationHigh;
+  }
+
+  public long lastObservationLow() {
+    return lastObservationLow;
+  }
+
+  public long aggregatorHigh() {
+    return aggregatorHigh;
+  }
+
+  public long aggregatorLow() {
+    return aggregatorLow;
+  }
+
+  public BigInteger lastPrice() {
+    return toBigInteger(lastPriceHigh, lastPriceLow);
+  }
+
+  public BigInteger lastObservation() {
+    return toBigInteger(lastObservationHigh, lastObservationLow);
+  }
+
+  public BigInteger aggregator() {
+    return toBigInteger(aggregatorHigh, aggregatorLow);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.metadao.amm.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.amm.anchor.types.AddLiquidityArgs;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class AddLiquidityIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AmmProgram.ADD_LIQUIDITY_DISCRIMINATOR.data(), 0);
+
+  private static final int ARGS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AddLiquidityIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AddLiquidityIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AddLiquidityIxDataSegmentView(segment, offset);
+  }
+
+  public static AddLiquidityIxDataSegmentView wrap(final MemorySegment segment) {
+    return new AddLiquidityIxDataSegmentView(segment, 0);
+  }
+
+  public AddLiquidityIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AddLiquidityIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AmmProgram.AddLiquidityIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AmmProgram.AddLiquidityIxData.BYTES, AmmProgram.AddLiquidityIxData::read);
+  }
+
+  public AddLiquidityArgs args() {
+    return MemorySegmentUtil.read(segment, offset + ARGS_OFFSET, AddLiquidityArgs.BYTES, AddLiquidityArgs::read);
+  }
+}
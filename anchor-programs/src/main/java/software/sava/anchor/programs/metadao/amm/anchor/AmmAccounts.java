@@ -0,0 +1,36 @@
+package software.sava.anchor.programs.metadao.amm.anchor;
+
+import software.sava.anchor.programs.metadao.amm.anchor.types.Amm;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class AmmAccounts {
+
+  public static final Discriminator AMM_ACCOUNT_DISCRIMINATOR = toDiscriminator(143, 245, 200, 17, 74, 214, 196, 135);
+
+  public static final long AMM_DISCRIMINATOR = getInt64LE(AMM_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == AMM_DISCRIMINATOR) {
+      return Amm.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private AmmAccounts() {
+  }
+}
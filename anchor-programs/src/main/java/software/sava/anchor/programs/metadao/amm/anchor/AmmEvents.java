@@ -0,0 +1,73 @@
+package software.sava.anchor.programs.metadao.amm.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.metadao.amm.anchor.types.AddLiquidityEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.CrankThatTwapEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.CreateAmmEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.RemoveLiquidityEvent;
+import software.sava.anchor.programs.metadao.amm.anchor.types.SwapEvent;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class AmmEvents {
+
+  public static final Discriminator ADD_LIQUIDITY_EVENT_DISCRIMINATOR = toDiscriminator(27, 178, 153, 186, 47, 196, 140, 45);
+  public static final Discriminator CRANK_THAT_TWAP_EVENT_DISCRIMINATOR = toDiscriminator(151, 40, 1, 219, 150, 58, 199, 212);
+  public static final Discriminator CREATE_AMM_EVENT_DISCRIMINATOR = toDiscriminator(87, 213, 21, 39, 67, 210, 139, 177);
+  public static final Discriminator REMOVE_LIQUIDITY_EVENT_DISCRIMINATOR = toDiscriminator(141, 199, 182, 123, 159, 94, 215, 102);
+  public static final Discriminator SWAP_EVENT_DISCRIMINATOR = toDiscriminator(64, 198, 205, 232, 38, 8, 113, 226);
+
+  public static final long ADD_LIQUIDITY_EVENT_DISCRIMINATOR_LONG = getInt64LE(ADD_LIQUIDITY_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long CRANK_THAT_TWAP_EVENT_DISCRIMINATOR_LONG = getInt64LE(CRANK_THAT_TWAP_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long CREATE_AMM_EVENT_DISCRIMINATOR_LONG = getInt64LE(CREATE_AMM_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long REMOVE_LIQUIDITY_EVENT_DISCRIMINATOR_LONG = getInt64LE(REMOVE_LIQUIDITY_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_EVENT_DISCRIMINATOR_LONG = getInt64LE(SWAP_EVENT_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      CREATE_AMM_EVENT_DISCRIMINATOR_LONG,
+      CRANK_THAT_TWAP_EVENT_DISCRIMINATOR_LONG,
+      SWAP_EVENT_DISCRIMINATOR_LONG,
+      ADD_LIQUIDITY_EVENT_DISCRIMINATOR_LONG,
+      REMOVE_LIQUIDITY_EVENT_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> CreateAmmEvent.read(_data, i);
+      case 1 -> CrankThatTwapEvent.read(_data, i);
+      case 2 -> SwapEvent.read(_data, i);
+      case 3 -> AddLiquidityEvent.read(_data, i);
+      case 4 -> RemoveLiquidityEvent.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private AmmEvents() {
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.metadao.amm.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.amm.AmmInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CrankThatTwapIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AmmProgram.CRANK_THAT_TWAP_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CrankThatTwapIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CrankThatTwapIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CrankThatTwapIxDataSegmentView(segment, offset);
+  }
+
+  public static CrankThatTwapIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CrankThatTwapIxDataSegmentView(segment, 0);
+  }
+
+  public CrankThatTwapIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CrankThatTwapIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AmmInstructionDecoder.CrankThatTwapIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AmmInstructionDecoder.CrankThatTwapIxData.BYTES, AmmInstructionDecoder.CrankThatTwapIxData::read);
+  }
+}
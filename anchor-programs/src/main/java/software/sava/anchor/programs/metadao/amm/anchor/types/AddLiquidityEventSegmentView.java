@@ -0,0 +1,80 @@
+package software.sava.anchor.programs.metadao.amm.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Event fields following the event discriminator.
+public final class AddLiquidityEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int QUOTE_AMOUNT_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int MAX_BASE_AMOUNT_OFFSET = QUOTE_AMOUNT_OFFSET + 8;
+  private static final int MIN_LP_TOKENS_OFFSET = MAX_BASE_AMOUNT_OFFSET + 8;
+  private static final int BASE_AMOUNT_OFFSET = MIN_LP_TOKENS_OFFSET + 8;
+  private static final int LP_TOKENS_MINTED_OFFSET = BASE_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AddLiquidityEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AddLiquidityEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AddLiquidityEventSegmentView(segment, offset);
+  }
+
+  public static AddLiquidityEventSegmentView wrap(final MemorySegment segment) {
+    return new AddLiquidityEventSegmentView(segment, 0);
+  }
+
+  public AddLiquidityEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AddLiquidityEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public AddLiquidityEvent read() {
+    return MemorySegmentUtil.read(segment, offset, AddLiquidityEvent.BYTES, AddLiquidityEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public long quoteAmount() {
+    return getInt64LE(segment, offset + QUOTE_AMOUNT_OFFSET);
+  }
+
+  public long maxBaseAmount() {
+    return getInt64LE(segment, offset + MAX_BASE_AMOUNT_OFFSET);
+  }
+
+  public long minLpTokens() {
+    return getInt64LE(segment, offset + MIN_LP_TOKENS_OFFSET);
+  }
+
+  public long baseAmount() {
+    return getInt64LE(segment, offset + BASE_AMOUNT_OFFSET);
+  }
+
+  public long lpTokensMinted() {
+    return getInt64LE(segment, offset + LP_TOKENS_MINTED_OFFSET);
+  }
+}
@@ -0,0 +1,103 @@
+package software.sava.anchor.programs.metadao.amm.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class AmmSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private AmmSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static AmmSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new AmmSegmentView(segment, offset);
+  }
+
+  public static AmmSegmentView wrap(final MemorySegment segment) {
+    return new AmmSegmentView(segment, 0);
+  }
+
+  public AmmSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public AmmSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public Amm read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Amm.BYTES, Amm::read);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Amm.BUMP_OFFSET) & 0xFF;
+  }
+
+  public long createdAtSlot() {
+    return getInt64LE(segment, offset + Amm.CREATED_AT_SLOT_OFFSET);
+  }
+
+  public PublicKey lpMint() {
+    return readPubKey(segment, offset + Amm.LP_MINT_OFFSET);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + Amm.BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + Amm.QUOTE_MINT_OFFSET);
+  }
+
+  public int baseMintDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Amm.BASE_MINT_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public int quoteMintDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Amm.QUOTE_MINT_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public long baseAmount() {
+    return getInt64LE(segment, offset + Amm.BASE_AMOUNT_OFFSET);
+  }
+
+  public long quoteAmount() {
+    return getInt64LE(segment, offset + Amm.QUOTE_AMOUNT_OFFSET);
+  }
+
+  public TwapOracle oracle() {
+    return MemorySegmentUtil.read(segment, offset + Amm.ORACLE_OFFSET, TwapOracle.BYTES, TwapOracle::read);
+  }
+
+  public long seqNum() {
+    return getInt64LE(segment, offset + Amm.SEQ_NUM_OFFSET);
+  }
+
+  public PublicKey vaultAtaBase() {
+    return readPubKey(segment, offset + Amm.VAULT_ATA_BASE_OFFSET);
+  }
+
+  public PublicKey vaultAtaQuote() {
+    return readPubKey(segment, offset + Amm.VAULT_ATA_QUOTE_OFFSET);
+  }
+}
@@ -0,0 +1,99 @@
+package software.sava.anchor.programs.metadao.amm.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class AmmView {
+
+  private byte[] _data;
+  private int offset;
+
+  private AmmView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static AmmView wrap(final byte[] _data, final int offset) {
+    return new AmmView(_data, offset);
+  }
+
+  public static AmmView wrap(final byte[] _data) {
+    return new AmmView(_data, 0);
+  }
+
+  public AmmView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public AmmView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Amm read(final PublicKey _address) {
+    return Amm.read(_address, _data, offset);
+  }
+
+  public int bump() {
+    return _data[offset + Amm.BUMP_OFFSET] & 0xFF;
+  }
+
+  public long createdAtSlot() {
+    return getInt64LE(_data, offset + Amm.CREATED_AT_SLOT_OFFSET);
+  }
+
+  public PublicKey lpMint() {
+    return readPubKey(_data, offset + Amm.LP_MINT_OFFSET);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(_data, offset + Amm.BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(_data, offset + Amm.QUOTE_MINT_OFFSET);
+  }
+
+  public int baseMintDecimals() {
+    return _data[offset + Amm.BASE_MINT_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public int quoteMintDecimals() {
+    return _data[offset + Amm.QUOTE_MINT_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public long baseAmount() {
+    return getInt64LE(_data, offset + Amm.BASE_AMOUNT_OFFSET);
+  }
+
+  public long quoteAmount() {
+    return getInt64LE(_data, offset + Amm.QUOTE_AMOUNT_OFFSET);
+  }
+
+  public TwapOracle oracle() {
+    return TwapOracle.read(_data, offset + Amm.ORACLE_OFFSET);
+  }
+
+  public long seqNum() {
+    return getInt64LE(_data, offset + Amm.SEQ_NUM_OFFSET);
+  }
+
+  public PublicKey vaultAtaBase() {
+    return readPubKey(_data, offset + Amm.VAULT_ATA_BASE_OFFSET);
+  }
+
+  public PublicKey vaultAtaQuote() {
+    return readPubKey(_data, offset + Amm.VAULT_ATA_QUOTE_OFFSET);
+  }
+}
@@ -0,0 +1,111 @@
+package software.sava.anchor.programs.metadao.amm.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class CreateAmmEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int TWAP_INITIAL_OBSERVATION_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET = TWAP_INITIAL_OBSERVATION_OFFSET + 16;
+  private static final int LP_MINT_OFFSET = TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET + 16;
+  private static final int BASE_MINT_OFFSET = LP_MINT_OFFSET + 32;
+  private static final int QUOTE_MINT_OFFSET = BASE_MINT_OFFSET + 32;
+  private static final int VAULT_ATA_BASE_OFFSET = QUOTE_MINT_OFFSET + 32;
+  private static final int VAULT_ATA_QUOTE_OFFSET = VAULT_ATA_BASE_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateAmmEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateAmmEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateAmmEventSegmentView(segment, offset);
+  }
+
+  public static CreateAmmEventSegmentView wrap(final MemorySegment segment) {
+    return new CreateAmmEventSegmentView(segment, 0);
+  }
+
+  public CreateAmmEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateAmmEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public CreateAmmEvent read() {
+    return MemorySegmentUtil.read(segment, offset, CreateAmmEvent.BYTES, CreateAmmEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public BigInteger twapInitialObservation() {
+    return getInt128LE(segment, offset + TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public long twapInitialObservationHigh() {
+    return getInt128High(segment, offset + TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public long twapInitialObservationLow() {
+    return getInt128Low(segment, offset + TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public BigInteger twapMaxObservationChangePerUpdate() {
+    return getInt128LE(segment, offset + TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public long twapMaxObservationChangePerUpdateHigh() {
+    return getInt128High(segment, offset + TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public long twapMaxObservationChangePerUpdateLow() {
+    return getInt128Low(segment, offset + TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public PublicKey lpMint() {
+    return readPubKey(segment, offset + LP_MINT_OFFSET);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + QUOTE_MINT_OFFSET);
+  }
+
+  public PublicKey vaultAtaBase() {
+    return readPubKey(segment, offset + VAULT_ATA_BASE_OFFSET);
+  }
+
+  public PublicKey vaultAtaQuote() {
+    return readPubKey(segment, offset + VAULT_ATA_QUOTE_OFFSET);
+  }
+}
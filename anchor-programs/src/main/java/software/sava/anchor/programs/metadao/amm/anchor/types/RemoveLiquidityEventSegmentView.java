@@ -0,0 +1,80 @@
+package software.sava.anchor.programs.metadao.amm.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Event fields following the event discriminator.
+public final class RemoveLiquidityEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int LP_TOKENS_BURNED_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int MIN_QUOTE_AMOUNT_OFFSET = LP_TOKENS_BURNED_OFFSET + 8;
+  private static final int MIN_BASE_AMOUNT_OFFSET = MIN_QUOTE_AMOUNT_OFFSET + 8;
+  private static final int BASE_AMOUNT_OFFSET = MIN_BASE_AMOUNT_OFFSET + 8;
+  private static final int QUOTE_AMOUNT_OFFSET = BASE_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RemoveLiquidityEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RemoveLiquidityEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RemoveLiquidityEventSegmentView(segment, offset);
+  }
+
+  public static RemoveLiquidityEventSegmentView wrap(final MemorySegment segment) {
+    return new RemoveLiquidityEventSegmentView(segment, 0);
+  }
+
+  public RemoveLiquidityEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RemoveLiquidityEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public RemoveLiquidityEvent read() {
+    return MemorySegmentUtil.read(segment, offset, RemoveLiquidityEvent.BYTES, RemoveLiquidityEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public long lpTokensBurned() {
+    return getInt64LE(segment, offset + LP_TOKENS_BURNED_OFFSET);
+  }
+
+  public long minQuoteAmount() {
+    return getInt64LE(segment, offset + MIN_QUOTE_AMOUNT_OFFSET);
+  }
+
+  public long minBaseAmount() {
+    return getInt64LE(segment, offset + MIN_BASE_AMOUNT_OFFSET);
+  }
+
+  public long baseAmount() {
+    return getInt64LE(segment, offset + BASE_AMOUNT_OFFSET);
+  }
+
+  public long quoteAmount() {
+    return getInt64LE(segment, offset + QUOTE_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,71 @@
+package software.sava.anchor.programs.metadao.amm.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Event fields following the event discriminator.
+public final class SwapEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int INPUT_AMOUNT_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int OUTPUT_AMOUNT_OFFSET = INPUT_AMOUNT_OFFSET + 8;
+  private static final int SWAP_TYPE_OFFSET = OUTPUT_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SwapEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SwapEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SwapEventSegmentView(segment, offset);
+  }
+
+  public static SwapEventSegmentView wrap(final MemorySegment segment) {
+    return new SwapEventSegmentView(segment, 0);
+  }
+
+  public SwapEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SwapEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public SwapEvent read() {
+    return MemorySegmentUtil.read(segment, offset, SwapEvent.BYTES, SwapEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public long inputAmount() {
+    return getInt64LE(segment, offset + INPUT_AMOUNT_OFFSET);
+  }
+
+  public long outputAmount() {
+    return getInt64LE(segment, offset + OUTPUT_AMOUNT_OFFSET);
+  }
+
+  public SwapType swapType() {
+    return SwapType.values()[segment.get(ValueLayout.JAVA_BYTE, offset + SWAP_TYPE_OFFSET) & 0xFF];
+  }
+}
@@ -0,0 +1,25 @@
+package software.sava.anchor.programs.metadao.autocrat;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// MetaDAO autocrat program addresses derived through ProgramAddressCache.
+public final class AutocratCachedPDAs {
+
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  private AutocratCachedPDAs() {
+  }
+}
@@ -0,0 +1,71 @@
+package software.sava.anchor.programs.metadao.autocrat;
+
+import software.sava.anchor.programs.metadao.autocrat.anchor.AutocratProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// metaDAO autocrat instruction data decoded into the AutocratProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class AutocratInstructionDecoder {
+
+  public record FinalizeProposalIxData(Discriminator discriminator) implements Borsh {
+
+    public static FinalizeProposalIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static FinalizeProposalIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new FinalizeProposalIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(AutocratProgram.INITIALIZE_PROPOSAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(AutocratProgram.FINALIZE_PROPOSAL_DISCRIMINATOR.data(), 0),
+      getInt64LE(AutocratProgram.INITIALIZE_DAO_DISCRIMINATOR.data(), 0),
+      getInt64LE(AutocratProgram.UPDATE_DAO_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> AutocratProgram.InitializeProposalIxData.read(_data, offset);
+      case 1 -> FinalizeProposalIxData.read(_data, offset);
+      case 2 -> AutocratProgram.InitializeDaoIxData.read(_data, offset);
+      case 3 -> AutocratProgram.UpdateDaoIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private AutocratInstructionDecoder() {
+  }
+}
@@ -0,0 +1,41 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor;
+
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.Dao;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.Proposal;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class AutocratAccounts {
+
+  public static final Discriminator DAO_ACCOUNT_DISCRIMINATOR = toDiscriminator(163, 9, 47, 31, 52, 85, 197, 49);
+  public static final Discriminator PROPOSAL_ACCOUNT_DISCRIMINATOR = toDiscriminator(26, 94, 189, 187, 116, 136, 53, 33);
+
+  public static final long DAO_DISCRIMINATOR = getInt64LE(DAO_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long PROPOSAL_DISCRIMINATOR = getInt64LE(PROPOSAL_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == DAO_DISCRIMINATOR) {
+      return Dao.read(_address, _data, 0);
+    } else if (discriminator == PROPOSAL_DISCRIMINATOR) {
+      return Proposal.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private AutocratAccounts() {
+  }
+}
@@ -0,0 +1,73 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.ExecuteProposalEvent;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.FinalizeProposalEvent;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.InitializeDaoEvent;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.InitializeProposalEvent;
+import software.sava.anchor.programs.metadao.autocrat.anchor.types.UpdateDaoEvent;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class AutocratEvents {
+
+  public static final Discriminator EXECUTE_PROPOSAL_EVENT_DISCRIMINATOR = toDiscriminator(153, 12, 41, 73, 206, 114, 248, 233);
+  public static final Discriminator FINALIZE_PROPOSAL_EVENT_DISCRIMINATOR = toDiscriminator(45, 29, 122, 181, 79, 224, 57, 141);
+  public static final Discriminator INITIALIZE_DAO_EVENT_DISCRIMINATOR = toDiscriminator(119, 48, 153, 116, 127, 37, 226, 228);
+  public static final Discriminator INITIALIZE_PROPOSAL_EVENT_DISCRIMINATOR = toDiscriminator(141, 56, 246, 192, 168, 254, 64, 111);
+  public static final Discriminator UPDATE_DAO_EVENT_DISCRIMINATOR = toDiscriminator(12, 58, 244, 224, 171, 25, 33, 56);
+
+  public static final long EXECUTE_PROPOSAL_EVENT_DISCRIMINATOR_LONG = getInt64LE(EXECUTE_PROPOSAL_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long FINALIZE_PROPOSAL_EVENT_DISCRIMINATOR_LONG = getInt64LE(FINALIZE_PROPOSAL_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long INITIALIZE_DAO_EVENT_DISCRIMINATOR_LONG = getInt64LE(INITIALIZE_DAO_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long INITIALIZE_PROPOSAL_EVENT_DISCRIMINATOR_LONG = getInt64LE(INITIALIZE_PROPOSAL_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long UPDATE_DAO_EVENT_DISCRIMINATOR_LONG = getInt64LE(UPDATE_DAO_EVENT_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      FINALIZE_PROPOSAL_EVENT_DISCRIMINATOR_LONG,
+      INITIALIZE_DAO_EVENT_DISCRIMINATOR_LONG,
+      EXECUTE_PROPOSAL_EVENT_DISCRIMINATOR_LONG,
+      UPDATE_DAO_EVENT_DISCRIMINATOR_LONG,
+      INITIALIZE_PROPOSAL_EVENT_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> FinalizeProposalEvent.read(_data, i);
+      case 1 -> InitializeDaoEvent.read(_data, i);
+      case 2 -> ExecuteProposalEvent.read(_data, i);
+      case 3 -> UpdateDaoEvent.read(_data, i);
+      case 4 -> InitializeProposalEvent.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private AutocratEvents() {
+  }
+}
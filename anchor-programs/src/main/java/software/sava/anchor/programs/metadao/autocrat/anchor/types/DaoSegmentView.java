@@ -0,0 +1,154 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class DaoSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DaoSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DaoSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DaoSegmentView(segment, offset);
+  }
+
+  public static DaoSegmentView wrap(final MemorySegment segment) {
+    return new DaoSegmentView(segment, 0);
+  }
+
+  public DaoSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DaoSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  // `nonce` + `dao_creator` are PDA seeds
+  public long nonce() {
+    return getInt64LE(segment, offset + Dao.NONCE_OFFSET);
+  }
+
+  public PublicKey daoCreator() {
+    return readPubKey(segment, offset + Dao.DAO_CREATOR_OFFSET);
+  }
+
+  public int pdaBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Dao.PDA_BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey squadsMultisig() {
+    return readPubKey(segment, offset + Dao.SQUADS_MULTISIG_OFFSET);
+  }
+
+  public PublicKey squadsMultisigVault() {
+    return readPubKey(segment, offset + Dao.SQUADS_MULTISIG_VAULT_OFFSET);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + Dao.BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + Dao.QUOTE_MINT_OFFSET);
+  }
+
+  public int proposalCount() {
+    return getInt32LE(segment, offset + Dao.PROPOSAL_COUNT_OFFSET);
+  }
+
+  public int passThresholdBps() {
+    return getInt16LE(segment, offset + Dao.PASS_THRESHOLD_BPS_OFFSET);
+  }
+
+  public long slotsPerProposal() {
+    return getInt64LE(segment, offset + Dao.SLOTS_PER_PROPOSAL_OFFSET);
+  }
+
+  // For manipulation-resistance the TWAP is a time-weighted average observation,
+  // where observation tries to approximate price but can only move by
+  // `twap_max_observation_change_per_update` per update. Because it can only move
+  // a little bit per update, you need to check that it has a good initial observation.
+  // Otherwise, an attacker could create a very high initial observation in the pass
+  // market and a very low one in the fail market to force the proposal to pass.
+  //
+  // We recommend setting an initial observation around the spot price of the token,
+  // and max observation change per update around 2% the spot price of the token.
+  // For example, if the spot price of META is $400, we'd recommend setting an initial
+  // observation of 400 (converted into the AMM prices) and a max observation change per
+  // update of 8 (also converted into the AMM prices). Observations can be updated once
+  // a minute, so 2% allows the proposal market to reach double the spot price or 0
+  // in 50 minutes.
+  public BigInteger twapInitialObservation() {
+    return getInt128LE(segment, offset + Dao.TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public long twapInitialObservationHigh() {
+    return getInt128High(segment, offset + Dao.TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public long twapInitialObservationLow() {
+    return getInt128Low(segment, offset + Dao.TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public BigInteger twapMaxObservationChangePerUpdate() {
+    return getInt128LE(segment, offset + Dao.TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public long twapMaxObservationChangePerUpdateHigh() {
+    return getInt128High(segment, offset + Dao.TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public long twapMaxObservationChangePerUpdateLow() {
+    return getInt128Low(segment, offset + Dao.TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  // Forces TWAP calculation to start after amm.created_at_slot + twap_start_delay_slots
+  public long twapStartDelaySlots() {
+    return getInt64LE(segment, offset + Dao.TWAP_START_DELAY_SLOTS_OFFSET);
+  }
+
+  // As an anti-spam measure and to help liquidity, you need to lock up some liquidity
+  // in both futarchic markets in order to create a proposal.
+  //
+  // For example, for META, we can use a `min_quote_futarchic_liquidity` of
+  // 5000 * 1_000_000 (5000 USDC) and a `min_base_futarchic_liquidity` of
+  // 10 * 1_000_000_000 (10 META).
+  public long minQuoteFutarchicLiquidity() {
+    return getInt64LE(segment, offset + Dao.MIN_QUOTE_FUTARCHIC_LIQUIDITY_OFFSET);
+  }
+
+  public long minBaseFutarchicLiquidity() {
+    return getInt64LE(segment, offset + Dao.MIN_BASE_FUTARCHIC_LIQUIDITY_OFFSET);
+  }
+
+  public long seqNum() {
+    return getInt64LE(segment, offset + Dao.SEQ_NUM_OFFSET);
+  }
+}
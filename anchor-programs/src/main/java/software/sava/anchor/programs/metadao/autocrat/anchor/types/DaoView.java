@@ -0,0 +1,138 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import java.math.BigInteger;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt128LE;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class DaoView {
+
+  private byte[] _data;
+  private int offset;
+
+  private DaoView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static DaoView wrap(final byte[] _data, final int offset) {
+    return new DaoView(_data, offset);
+  }
+
+  public static DaoView wrap(final byte[] _data) {
+    return new DaoView(_data, 0);
+  }
+
+  public DaoView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public DaoView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Dao read(final PublicKey _address) {
+    return Dao.read(_address, _data, offset);
+  }
+
+  // `nonce` + `dao_creator` are PDA seeds
+  public long nonce() {
+    return getInt64LE(_data, offset + Dao.NONCE_OFFSET);
+  }
+
+  public PublicKey daoCreator() {
+    return readPubKey(_data, offset + Dao.DAO_CREATOR_OFFSET);
+  }
+
+  public int pdaBump() {
+    return _data[offset + Dao.PDA_BUMP_OFFSET] & 0xFF;
+  }
+
+  public PublicKey squadsMultisig() {
+    return readPubKey(_data, offset + Dao.SQUADS_MULTISIG_OFFSET);
+  }
+
+  public PublicKey squadsMultisigVault() {
+    return readPubKey(_data, offset + Dao.SQUADS_MULTISIG_VAULT_OFFSET);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(_data, offset + Dao.BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(_data, offset + Dao.QUOTE_MINT_OFFSET);
+  }
+
+  public int proposalCount() {
+    return getInt32LE(_data, offset + Dao.PROPOSAL_COUNT_OFFSET);
+  }
+
+  public int passThresholdBps() {
+    return getInt16LE(_data, offset + Dao.PASS_THRESHOLD_BPS_OFFSET);
+  }
+
+  public long slotsPerProposal() {
+    return getInt64LE(_data, offset + Dao.SLOTS_PER_PROPOSAL_OFFSET);
+  }
+
+  // For manipulation-resistance the TWAP is a time-weighted average observation,
+  // where observation tries to approximate price but can only move by
+  // `twap_max_observation_change_per_update` per update. Because it can only move
+  // a little bit per update, you need to check that it has a good initial observation.
+  // Otherwise, an attacker could create a very high initial observation in the pass
+  // market and a very low one in the fail market to force the proposal to pass.
+  //
+  // We recommend setting an initial observation around the spot price of the token,
+  // and max observation change per update around 2% the spot price of the token.
+  // For example, if the spot price of META is $400, we'd recommend setting an initial
+  // observation of 400 (converted into the AMM prices) and a max observation change per
+  // update of 8 (also converted into the AMM prices). Observations can be updated once
+  // a minute, so 2% allows the proposal market to reach double the spot price or 0
+  // in 50 minutes.
+  public BigInteger twapInitialObservation() {
+    return getInt128LE(_data, offset + Dao.TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public BigInteger twapMaxObservationChangePerUpdate() {
+    return getInt128LE(_data, offset + Dao.TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  // Forces TWAP calculation to start after amm.created_at_slot + twap_start_delay_slots
+  public long twapStartDelaySlots() {
+    return getInt64LE(_data, offset + Dao.TWAP_START_DELAY_SLOTS_OFFSET);
+  }
+
+  // As an anti-spam measure and to help liquidity, you need to lock up some liquidity
+  // in both futarchic markets in order to create a proposal.
+  //
+  // For example, for META, we can use a `min_quote_futarchic_liquidity` of
+  // 5000 * 1_000_000 (5000 USDC) and a `min_base_futarchic_liquidity` of
+  // 10 * 1_000_000_000 (10 META).
+  public long minQuoteFutarchicLiquidity() {
+    return getInt64LE(_data, offset + Dao.MIN_QUOTE_FUTARCHIC_LIQUIDITY_OFFSET);
+  }
+
+  public long minBaseFutarchicLiquidity() {
+    return getInt64LE(_data, offset + Dao.MIN_BASE_FUTARCHIC_LIQUIDITY_OFFSET);
+  }
+
+  public long seqNum() {
+    return getInt64LE(_data, offset + Dao.SEQ_NUM_OFFSET);
+  }
+}
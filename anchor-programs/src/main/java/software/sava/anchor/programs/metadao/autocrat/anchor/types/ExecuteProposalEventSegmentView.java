@@ -0,0 +1,66 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ExecuteProposalEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int PROPOSAL_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int DAO_OFFSET = PROPOSAL_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ExecuteProposalEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ExecuteProposalEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ExecuteProposalEventSegmentView(segment, offset);
+  }
+
+  public static ExecuteProposalEventSegmentView wrap(final MemorySegment segment) {
+    return new ExecuteProposalEventSegmentView(segment, 0);
+  }
+
+  public ExecuteProposalEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ExecuteProposalEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ExecuteProposalEvent read() {
+    return MemorySegmentUtil.read(segment, offset, ExecuteProposalEvent.BYTES, ExecuteProposalEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey proposal() {
+    return readPubKey(segment, offset + PROPOSAL_OFFSET);
+  }
+
+  public PublicKey dao() {
+    return readPubKey(segment, offset + DAO_OFFSET);
+  }
+}
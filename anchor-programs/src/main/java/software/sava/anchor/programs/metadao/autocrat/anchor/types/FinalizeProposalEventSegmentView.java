@@ -0,0 +1,125 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class FinalizeProposalEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int PROPOSAL_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int DAO_OFFSET = PROPOSAL_OFFSET + 32;
+  private static final int PASS_MARKET_TWAP_OFFSET = DAO_OFFSET + 32;
+  private static final int FAIL_MARKET_TWAP_OFFSET = PASS_MARKET_TWAP_OFFSET + 16;
+  private static final int THRESHOLD_OFFSET = FAIL_MARKET_TWAP_OFFSET + 16;
+  private static final int STATE_OFFSET = THRESHOLD_OFFSET + 16;
+  private static final int SQUADS_PROPOSAL_OFFSET = STATE_OFFSET + 1;
+  private static final int SQUADS_MULTISIG_OFFSET = SQUADS_PROPOSAL_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FinalizeProposalEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FinalizeProposalEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FinalizeProposalEventSegmentView(segment, offset);
+  }
+
+  public static FinalizeProposalEventSegmentView wrap(final MemorySegment segment) {
+    return new FinalizeProposalEventSegmentView(segment, 0);
+  }
+
+  public FinalizeProposalEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FinalizeProposalEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public FinalizeProposalEvent read() {
+    return MemorySegmentUtil.read(segment, offset, FinalizeProposalEvent.BYTES, FinalizeProposalEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey proposal() {
+    return readPubKey(segment, offset + PROPOSAL_OFFSET);
+  }
+
+  public PublicKey dao() {
+    return readPubKey(segment, offset + DAO_OFFSET);
+  }
+
+  public BigInteger passMarketTwap() {
+    return getInt128LE(segment, offset + PASS_MARKET_TWAP_OFFSET);
+  }
+
+  public long passMarketTwapHigh() {
+    return getInt128High(segment, offset + PASS_MARKET_TWAP_OFFSET);
+  }
+
+  public long passMarketTwapLow() {
+    return getInt128Low(segment, offset + PASS_MARKET_TWAP_OFFSET);
+  }
+
+  public BigInteger failMarketTwap() {
+    return getInt128LE(segment, offset + FAIL_MARKET_TWAP_OFFSET);
+  }
+
+  public long failMarketTwapHigh() {
+    return getInt128High(segment, offset + FAIL_MARKET_TWAP_OFFSET);
+  }
+
+  public long failMarketTwapLow() {
+    return getInt128Low(segment, offset + FAIL_MARKET_TWAP_OFFSET);
+  }
+
+  public BigInteger threshold() {
+    return getInt128LE(segment, offset + THRESHOLD_OFFSET);
+  }
+
+  public long thresholdHigh() {
+    return getInt128High(segment, offset + THRESHOLD_OFFSET);
+  }
+
+  public long thresholdLow() {
+    return getInt128Low(segment, offset + THRESHOLD_OFFSET);
+  }
+
+  public ProposalState state() {
+    return ProposalState.values()[segment.get(ValueLayout.JAVA_BYTE, offset + STATE_OFFSET) & 0xFF];
+  }
+
+  public PublicKey squadsProposal() {
+    return readPubKey(segment, offset + SQUADS_PROPOSAL_OFFSET);
+  }
+
+  public PublicKey squadsMultisig() {
+    return readPubKey(segment, offset + SQUADS_MULTISIG_OFFSET);
+  }
+}
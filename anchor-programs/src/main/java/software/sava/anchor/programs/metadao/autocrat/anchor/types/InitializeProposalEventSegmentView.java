@@ -0,0 +1,149 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class InitializeProposalEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int PROPOSAL_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int DAO_OFFSET = PROPOSAL_OFFSET + 32;
+  private static final int QUESTION_OFFSET = DAO_OFFSET + 32;
+  private static final int QUOTE_VAULT_OFFSET = QUESTION_OFFSET + 32;
+  private static final int BASE_VAULT_OFFSET = QUOTE_VAULT_OFFSET + 32;
+  private static final int PASS_AMM_OFFSET = BASE_VAULT_OFFSET + 32;
+  private static final int FAIL_AMM_OFFSET = PASS_AMM_OFFSET + 32;
+  private static final int PASS_LP_MINT_OFFSET = FAIL_AMM_OFFSET + 32;
+  private static final int FAIL_LP_MINT_OFFSET = PASS_LP_MINT_OFFSET + 32;
+  private static final int PROPOSER_OFFSET = FAIL_LP_MINT_OFFSET + 32;
+  private static final int NUMBER_OFFSET = PROPOSER_OFFSET + 32;
+  private static final int PASS_LP_TOKENS_LOCKED_OFFSET = NUMBER_OFFSET + 4;
+  private static final int FAIL_LP_TOKENS_LOCKED_OFFSET = PASS_LP_TOKENS_LOCKED_OFFSET + 8;
+  private static final int PDA_BUMP_OFFSET = FAIL_LP_TOKENS_LOCKED_OFFSET + 8;
+  private static final int DURATION_IN_SLOTS_OFFSET = PDA_BUMP_OFFSET + 1;
+  private static final int SQUADS_PROPOSAL_OFFSET = DURATION_IN_SLOTS_OFFSET + 8;
+  private static final int SQUADS_MULTISIG_OFFSET = SQUADS_PROPOSAL_OFFSET + 32;
+  private static final int SQUADS_MULTISIG_VAULT_OFFSET = SQUADS_MULTISIG_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeProposalEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeProposalEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeProposalEventSegmentView(segment, offset);
+  }
+
+  public static InitializeProposalEventSegmentView wrap(final MemorySegment segment) {
+    return new InitializeProposalEventSegmentView(segment, 0);
+  }
+
+  public InitializeProposalEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeProposalEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public InitializeProposalEvent read() {
+    return MemorySegmentUtil.read(segment, offset, InitializeProposalEvent.BYTES, InitializeProposalEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey proposal() {
+    return readPubKey(segment, offset + PROPOSAL_OFFSET);
+  }
+
+  public PublicKey dao() {
+    return readPubKey(segment, offset + DAO_OFFSET);
+  }
+
+  public PublicKey question() {
+    return readPubKey(segment, offset + QUESTION_OFFSET);
+  }
+
+  public PublicKey quoteVault() {
+    return readPubKey(segment, offset + QUOTE_VAULT_OFFSET);
+  }
+
+  public PublicKey baseVault() {
+    return readPubKey(segment, offset + BASE_VAULT_OFFSET);
+  }
+
+  public PublicKey passAmm() {
+    return readPubKey(segment, offset + PASS_AMM_OFFSET);
+  }
+
+  public PublicKey failAmm() {
+    return readPubKey(segment, offset + FAIL_AMM_OFFSET);
+  }
+
+  public PublicKey passLpMint() {
+    return readPubKey(segment, offset + PASS_LP_MINT_OFFSET);
+  }
+
+  public PublicKey failLpMint() {
+    return readPubKey(segment, offset + FAIL_LP_MINT_OFFSET);
+  }
+
+  public PublicKey proposer() {
+    return readPubKey(segment, offset + PROPOSER_OFFSET);
+  }
+
+  public int number() {
+    return getInt32LE(segment, offset + NUMBER_OFFSET);
+  }
+
+  public long passLpTokensLocked() {
+    return getInt64LE(segment, offset + PASS_LP_TOKENS_LOCKED_OFFSET);
+  }
+
+  public long failLpTokensLocked() {
+    return getInt64LE(segment, offset + FAIL_LP_TOKENS_LOCKED_OFFSET);
+  }
+
+  public int pdaBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PDA_BUMP_OFFSET) & 0xFF;
+  }
+
+  public long durationInSlots() {
+    return getInt64LE(segment, offset + DURATION_IN_SLOTS_OFFSET);
+  }
+
+  public PublicKey squadsProposal() {
+    return readPubKey(segment, offset + SQUADS_PROPOSAL_OFFSET);
+  }
+
+  public PublicKey squadsMultisig() {
+    return readPubKey(segment, offset + SQUADS_MULTISIG_OFFSET);
+  }
+
+  public PublicKey squadsMultisigVault() {
+    return readPubKey(segment, offset + SQUADS_MULTISIG_VAULT_OFFSET);
+  }
+}
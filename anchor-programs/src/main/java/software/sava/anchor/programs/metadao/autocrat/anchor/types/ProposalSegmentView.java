@@ -0,0 +1,53 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ProposalSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ProposalSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ProposalSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ProposalSegmentView(segment, offset);
+  }
+
+  public static ProposalSegmentView wrap(final MemorySegment segment) {
+    return new ProposalSegmentView(segment, 0);
+  }
+
+  public ProposalSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProposalSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public int number() {
+    return getInt32LE(segment, offset + Proposal.NUMBER_OFFSET);
+  }
+
+  public PublicKey proposer() {
+    return readPubKey(segment, offset + Proposal.PROPOSER_OFFSET);
+  }
+}
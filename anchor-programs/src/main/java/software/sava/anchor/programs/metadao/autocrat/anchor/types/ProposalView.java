@@ -0,0 +1,55 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+
+public final class ProposalView {
+
+  private byte[] _data;
+  private int offset;
+
+  private ProposalView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ProposalView wrap(final byte[] _data, final int offset) {
+    return new ProposalView(_data, offset);
+  }
+
+  public static ProposalView wrap(final byte[] _data) {
+    return new ProposalView(_data, 0);
+  }
+
+  public ProposalView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProposalView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Proposal read(final PublicKey _address) {
+    return Proposal.read(_address, _data, offset);
+  }
+
+  public int number() {
+    return getInt32LE(_data, offset + Proposal.NUMBER_OFFSET);
+  }
+
+  public PublicKey proposer() {
+    return readPubKey(_data, offset + Proposal.PROPOSER_OFFSET);
+  }
+}
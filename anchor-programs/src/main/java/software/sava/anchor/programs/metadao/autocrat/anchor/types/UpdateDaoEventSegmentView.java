@@ -0,0 +1,113 @@
+package software.sava.anchor.programs.metadao.autocrat.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.math.BigInteger;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128High;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt128Low;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class UpdateDaoEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int DAO_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int PASS_THRESHOLD_BPS_OFFSET = DAO_OFFSET + 32;
+  private static final int SLOTS_PER_PROPOSAL_OFFSET = PASS_THRESHOLD_BPS_OFFSET + 2;
+  private static final int TWAP_INITIAL_OBSERVATION_OFFSET = SLOTS_PER_PROPOSAL_OFFSET + 8;
+  private static final int TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET = TWAP_INITIAL_OBSERVATION_OFFSET + 16;
+  private static final int MIN_QUOTE_FUTARCHIC_LIQUIDITY_OFFSET = TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET + 16;
+  private static final int MIN_BASE_FUTARCHIC_LIQUIDITY_OFFSET = MIN_QUOTE_FUTARCHIC_LIQUIDITY_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdateDaoEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdateDaoEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdateDaoEventSegmentView(segment, offset);
+  }
+
+  public static UpdateDaoEventSegmentView wrap(final MemorySegment segment) {
+    return new UpdateDaoEventSegmentView(segment, 0);
+  }
+
+  public UpdateDaoEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdateDaoEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public UpdateDaoEvent read() {
+    return MemorySegmentUtil.read(segment, offset, UpdateDaoEvent.BYTES, UpdateDaoEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey dao() {
+    return readPubKey(segment, offset + DAO_OFFSET);
+  }
+
+  public int passThresholdBps() {
+    return getInt16LE(segment, offset + PASS_THRESHOLD_BPS_OFFSET);
+  }
+
+  public long slotsPerProposal() {
+    return getInt64LE(segment, offset + SLOTS_PER_PROPOSAL_OFFSET);
+  }
+
+  public BigInteger twapInitialObservation() {
+    return getInt128LE(segment, offset + TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public long twapInitialObservationHigh() {
+    return getInt128High(segment, offset + TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public long twapInitialObservationLow() {
+    return getInt128Low(segment, offset + TWAP_INITIAL_OBSERVATION_OFFSET);
+  }
+
+  public BigInteger twapMaxObservationChangePerUpdate() {
+    return getInt128LE(segment, offset + TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public long twapMaxObservationChangePerUpdateHigh() {
+    return getInt128High(segment, offset + TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public long twapMaxObservationChangePerUpdateLow() {
+    return getInt128Low(segment, offset + TWAP_MAX_OBSERVATION_CHANGE_PER_UPDATE_OFFSET);
+  }
+
+  public long minQuoteFutarchicLiquidity() {
+    return getInt64LE(segment, offset + MIN_QUOTE_FUTARCHIC_LIQUIDITY_OFFSET);
+  }
+
+  public long minBaseFutarchicLiquidity() {
+    return getInt64LE(segment, offset + MIN_BASE_FUTARCHIC_LIQUIDITY_OFFSET);
+  }
+}
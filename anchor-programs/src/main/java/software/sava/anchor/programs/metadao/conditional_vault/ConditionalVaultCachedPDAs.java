@@ -0,0 +1,80 @@
+package software.sava.anchor.programs.metadao.conditional_vault;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// MetaDAO conditional vault program addresses derived through ProgramAddressCache, with bump overloads for bumps read
+// from the derived accounts. Outcome indexes and counts are single byte seeds.
+public final class ConditionalVaultCachedPDAs {
+
+  private static final byte[] CONDITIONAL_TOKEN_SEED = "conditional_token".getBytes(US_ASCII);
+  private static final byte[] CONDITIONAL_VAULT_SEED = "conditional_vault".getBytes(US_ASCII);
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+  private static final byte[] QUESTION_SEED = "question".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress conditionalTokenMintPDA(final PublicKey program,
+                                                              final PublicKey vaultAccount,
+                                                              final int outcomeIndex) {
+    return ProgramAddressCache.findProgramAddress(CONDITIONAL_TOKEN_SEED, vaultAccount, (byte) outcomeIndex, program);
+  }
+
+  public static ProgramDerivedAddress conditionalTokenMintPDA(final PublicKey program,
+                                                              final PublicKey vaultAccount,
+                                                              final int outcomeIndex,
+                                                              final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        CONDITIONAL_TOKEN_SEED, vaultAccount, (byte) outcomeIndex, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress questionPDA(final PublicKey program,
+                                                  final byte[] questionId,
+                                                  final PublicKey oracleAccount,
+                                                  final int numOutcomes) {
+    return ProgramAddressCache.findProgramAddress(
+        QUESTION_SEED, questionId, oracleAccount, (byte) numOutcomes, program
+    );
+  }
+
+  public static ProgramDerivedAddress questionPDA(final PublicKey program,
+                                                  final byte[] questionId,
+                                                  final PublicKey oracleAccount,
+                                                  final int numOutcomes,
+                                                  final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        QUESTION_SEED, questionId, oracleAccount, (byte) numOutcomes, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress vaultPDA(final PublicKey program,
+                                               final PublicKey questionAccount,
+                                               final PublicKey underlyingTokenMintAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        CONDITIONAL_VAULT_SEED, questionAccount, underlyingTokenMintAccount, program
+    );
+  }
+
+  public static ProgramDerivedAddress vaultPDA(final PublicKey program,
+                                               final PublicKey questionAccount,
+                                               final PublicKey underlyingTokenMintAccount,
+                                               final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        CONDITIONAL_VAULT_SEED, questionAccount, underlyingTokenMintAccount, bump, program
+    );
+  }
+
+  private ConditionalVaultCachedPDAs() {
+  }
+}
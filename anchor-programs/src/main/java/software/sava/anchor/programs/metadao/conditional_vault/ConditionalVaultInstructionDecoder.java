@@ -0,0 +1,103 @@
+package software.sava.anchor.programs.metadao.conditional_vault;
+
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.ConditionalVaultProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// metaDAO conditional vault instruction data decoded into the ConditionalVaultProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class ConditionalVaultInstructionDecoder {
+
+  public record InitializeConditionalVaultIxData(Discriminator discriminator) implements Borsh {
+
+    public static InitializeConditionalVaultIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static InitializeConditionalVaultIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new InitializeConditionalVaultIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record RedeemTokensIxData(Discriminator discriminator) implements Borsh {
+
+    public static RedeemTokensIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static RedeemTokensIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new RedeemTokensIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(ConditionalVaultProgram.INITIALIZE_CONDITIONAL_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(ConditionalVaultProgram.SPLIT_TOKENS_DISCRIMINATOR.data(), 0),
+      getInt64LE(ConditionalVaultProgram.INITIALIZE_QUESTION_DISCRIMINATOR.data(), 0),
+      getInt64LE(ConditionalVaultProgram.RESOLVE_QUESTION_DISCRIMINATOR.data(), 0),
+      getInt64LE(ConditionalVaultProgram.ADD_METADATA_TO_CONDITIONAL_TOKENS_DISCRIMINATOR.data(), 0),
+      getInt64LE(ConditionalVaultProgram.MERGE_TOKENS_DISCRIMINATOR.data(), 0),
+      getInt64LE(ConditionalVaultProgram.REDEEM_TOKENS_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> InitializeConditionalVaultIxData.read(_data, offset);
+      case 1 -> ConditionalVaultProgram.SplitTokensIxData.read(_data, offset);
+      case 2 -> ConditionalVaultProgram.InitializeQuestionIxData.read(_data, offset);
+      case 3 -> ConditionalVaultProgram.ResolveQuestionIxData.read(_data, offset);
+      case 4 -> ConditionalVaultProgram.AddMetadataToConditionalTokensIxData.read(_data, offset);
+      case 5 -> ConditionalVaultProgram.MergeTokensIxData.read(_data, offset);
+      case 6 -> RedeemTokensIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private ConditionalVaultInstructionDecoder() {
+  }
+}
@@ -0,0 +1,41 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor;
+
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.ConditionalVault;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.Question;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class ConditionalVaultAccounts {
+
+  public static final Discriminator CONDITIONAL_VAULT_ACCOUNT_DISCRIMINATOR = toDiscriminator(63, 132, 87, 98, 36, 51, 175, 247);
+  public static final Discriminator QUESTION_ACCOUNT_DISCRIMINATOR = toDiscriminator(111, 22, 150, 220, 181, 122, 118, 127);
+
+  public static final long CONDITIONAL_VAULT_DISCRIMINATOR = getInt64LE(CONDITIONAL_VAULT_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long QUESTION_DISCRIMINATOR = getInt64LE(QUESTION_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == CONDITIONAL_VAULT_DISCRIMINATOR) {
+      return ConditionalVault.read(_address, _data, 0);
+    } else if (discriminator == QUESTION_DISCRIMINATOR) {
+      return Question.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private ConditionalVaultAccounts() {
+  }
+}
@@ -0,0 +1,83 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.AddMetadataToConditionalTokensEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.InitializeConditionalVaultEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.InitializeQuestionEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.MergeTokensEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.RedeemTokensEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.ResolveQuestionEvent;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.SplitTokensEvent;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class ConditionalVaultEvents {
+
+  public static final Discriminator ADD_METADATA_TO_CONDITIONAL_TOKENS_EVENT_DISCRIMINATOR = toDiscriminator(185, 201, 129, 156, 179, 177, 111, 50);
+  public static final Discriminator INITIALIZE_CONDITIONAL_VAULT_EVENT_DISCRIMINATOR = toDiscriminator(62, 212, 201, 253, 217, 193, 232, 182);
+  public static final Discriminator INITIALIZE_QUESTION_EVENT_DISCRIMINATOR = toDiscriminator(89, 199, 242, 209, 55, 67, 183, 201);
+  public static final Discriminator MERGE_TOKENS_EVENT_DISCRIMINATOR = toDiscriminator(34, 107, 222, 189, 126, 194, 10, 90);
+  public static final Discriminator REDEEM_TOKENS_EVENT_DISCRIMINATOR = toDiscriminator(36, 211, 53, 194, 23, 5, 75, 90);
+  public static final Discriminator RESOLVE_QUESTION_EVENT_DISCRIMINATOR = toDiscriminator(0, 175, 131, 95, 5, 84, 50, 29);
+  public static final Discriminator SPLIT_TOKENS_EVENT_DISCRIMINATOR = toDiscriminator(42, 188, 142, 203, 78, 60, 242, 149);
+
+  public static final long ADD_METADATA_TO_CONDITIONAL_TOKENS_EVENT_DISCRIMINATOR_LONG = getInt64LE(ADD_METADATA_TO_CONDITIONAL_TOKENS_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long INITIALIZE_CONDITIONAL_VAULT_EVENT_DISCRIMINATOR_LONG = getInt64LE(INITIALIZE_CONDITIONAL_VAULT_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long INITIALIZE_QUESTION_EVENT_DISCRIMINATOR_LONG = getInt64LE(INITIALIZE_QUESTION_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long MERGE_TOKENS_EVENT_DISCRIMINATOR_LONG = getInt64LE(MERGE_TOKENS_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long REDEEM_TOKENS_EVENT_DISCRIMINATOR_LONG = getInt64LE(REDEEM_TOKENS_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long RESOLVE_QUESTION_EVENT_DISCRIMINATOR_LONG = getInt64LE(RESOLVE_QUESTION_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long SPLIT_TOKENS_EVENT_DISCRIMINATOR_LONG = getInt64LE(SPLIT_TOKENS_EVENT_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      SPLIT_TOKENS_EVENT_DISCRIMINATOR_LONG,
+      INITIALIZE_CONDITIONAL_VAULT_EVENT_DISCRIMINATOR_LONG,
+      INITIALIZE_QUESTION_EVENT_DISCRIMINATOR_LONG,
+      RESOLVE_QUESTION_EVENT_DISCRIMINATOR_LONG,
+      ADD_METADATA_TO_CONDITIONAL_TOKENS_EVENT_DISCRIMINATOR_LONG,
+      MERGE_TOKENS_EVENT_DISCRIMINATOR_LONG,
+      REDEEM_TOKENS_EVENT_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> SplitTokensEvent.read(_data, i);
+      case 1 -> InitializeConditionalVaultEvent.read(_data, i);
+      case 2 -> InitializeQuestionEvent.read(_data, i);
+      case 3 -> ResolveQuestionEvent.read(_data, i);
+      case 4 -> AddMetadataToConditionalTokensEvent.read(_data, i);
+      case 5 -> MergeTokensEvent.read(_data, i);
+      case 6 -> RedeemTokensEvent.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private ConditionalVaultEvents() {
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.conditional_vault.ConditionalVaultInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeConditionalVaultIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ConditionalVaultProgram.INITIALIZE_CONDITIONAL_VAULT_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeConditionalVaultIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeConditionalVaultIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeConditionalVaultIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeConditionalVaultIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeConditionalVaultIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeConditionalVaultIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeConditionalVaultIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ConditionalVaultInstructionDecoder.InitializeConditionalVaultIxData read() {
+    return MemorySegmentUtil.read(segment, offset, ConditionalVaultInstructionDecoder.InitializeConditionalVaultIxData.BYTES, ConditionalVaultInstructionDecoder.InitializeConditionalVaultIxData::read);
+  }
+}
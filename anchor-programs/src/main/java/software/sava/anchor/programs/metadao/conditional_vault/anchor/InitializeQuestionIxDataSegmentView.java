@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.conditional_vault.anchor.types.InitializeQuestionArgs;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeQuestionIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ConditionalVaultProgram.INITIALIZE_QUESTION_DISCRIMINATOR.data(), 0);
+
+  private static final int ARGS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeQuestionIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeQuestionIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeQuestionIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeQuestionIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeQuestionIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeQuestionIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeQuestionIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ConditionalVaultProgram.InitializeQuestionIxData read() {
+    return MemorySegmentUtil.read(segment, offset, ConditionalVaultProgram.InitializeQuestionIxData.BYTES, ConditionalVaultProgram.InitializeQuestionIxData::read);
+  }
+
+  public InitializeQuestionArgs args() {
+    return MemorySegmentUtil.read(segment, offset + ARGS_OFFSET, InitializeQuestionArgs.BYTES, InitializeQuestionArgs::read);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MergeTokensIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ConditionalVaultProgram.MERGE_TOKENS_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MergeTokensIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MergeTokensIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MergeTokensIxDataSegmentView(segment, offset);
+  }
+
+  public static MergeTokensIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MergeTokensIxDataSegmentView(segment, 0);
+  }
+
+  public MergeTokensIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MergeTokensIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ConditionalVaultProgram.MergeTokensIxData read() {
+    return MemorySegmentUtil.read(segment, offset, ConditionalVaultProgram.MergeTokensIxData.BYTES, ConditionalVaultProgram.MergeTokensIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.conditional_vault.ConditionalVaultInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class RedeemTokensIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ConditionalVaultProgram.REDEEM_TOKENS_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RedeemTokensIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RedeemTokensIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RedeemTokensIxDataSegmentView(segment, offset);
+  }
+
+  public static RedeemTokensIxDataSegmentView wrap(final MemorySegment segment) {
+    return new RedeemTokensIxDataSegmentView(segment, 0);
+  }
+
+  public RedeemTokensIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RedeemTokensIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ConditionalVaultInstructionDecoder.RedeemTokensIxData read() {
+    return MemorySegmentUtil.read(segment, offset, ConditionalVaultInstructionDecoder.RedeemTokensIxData.BYTES, ConditionalVaultInstructionDecoder.RedeemTokensIxData::read);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SplitTokensIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ConditionalVaultProgram.SPLIT_TOKENS_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SplitTokensIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SplitTokensIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SplitTokensIxDataSegmentView(segment, offset);
+  }
+
+  public static SplitTokensIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SplitTokensIxDataSegmentView(segment, 0);
+  }
+
+  public SplitTokensIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SplitTokensIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ConditionalVaultProgram.SplitTokensIxData read() {
+    return MemorySegmentUtil.read(segment, offset, ConditionalVaultProgram.SplitTokensIxData.BYTES, ConditionalVaultProgram.SplitTokensIxData::read);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,56 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ConditionalVaultSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ConditionalVaultSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ConditionalVaultSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ConditionalVaultSegmentView(segment, offset);
+  }
+
+  public static ConditionalVaultSegmentView wrap(final MemorySegment segment) {
+    return new ConditionalVaultSegmentView(segment, 0);
+  }
+
+  public ConditionalVaultSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConditionalVaultSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public PublicKey question() {
+    return readPubKey(segment, offset + ConditionalVault.QUESTION_OFFSET);
+  }
+
+  public PublicKey underlyingTokenMint() {
+    return readPubKey(segment, offset + ConditionalVault.UNDERLYING_TOKEN_MINT_OFFSET);
+  }
+
+  public PublicKey underlyingTokenAccount() {
+    return readPubKey(segment, offset + ConditionalVault.UNDERLYING_TOKEN_ACCOUNT_OFFSET);
+  }
+}
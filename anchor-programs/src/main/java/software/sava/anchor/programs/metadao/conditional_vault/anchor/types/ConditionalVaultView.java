@@ -0,0 +1,58 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class ConditionalVaultView {
+
+  private byte[] _data;
+  private int offset;
+
+  private ConditionalVaultView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ConditionalVaultView wrap(final byte[] _data, final int offset) {
+    return new ConditionalVaultView(_data, offset);
+  }
+
+  public static ConditionalVaultView wrap(final byte[] _data) {
+    return new ConditionalVaultView(_data, 0);
+  }
+
+  public ConditionalVaultView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConditionalVaultView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public ConditionalVault read(final PublicKey _address) {
+    return ConditionalVault.read(_address, _data, offset);
+  }
+
+  public PublicKey question() {
+    return readPubKey(_data, offset + ConditionalVault.QUESTION_OFFSET);
+  }
+
+  public PublicKey underlyingTokenMint() {
+    return readPubKey(_data, offset + ConditionalVault.UNDERLYING_TOKEN_MINT_OFFSET);
+  }
+
+  public PublicKey underlyingTokenAccount() {
+    return readPubKey(_data, offset + ConditionalVault.UNDERLYING_TOKEN_ACCOUNT_OFFSET);
+  }
+}
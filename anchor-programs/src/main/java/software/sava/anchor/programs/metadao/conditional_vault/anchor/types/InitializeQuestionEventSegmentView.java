@@ -0,0 +1,78 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class InitializeQuestionEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int QUESTION_ID_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int ORACLE_OFFSET = QUESTION_ID_OFFSET + 32;
+  private static final int NUM_OUTCOMES_OFFSET = ORACLE_OFFSET + 32;
+  private static final int QUESTION_OFFSET = NUM_OUTCOMES_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeQuestionEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeQuestionEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeQuestionEventSegmentView(segment, offset);
+  }
+
+  public static InitializeQuestionEventSegmentView wrap(final MemorySegment segment) {
+    return new InitializeQuestionEventSegmentView(segment, 0);
+  }
+
+  public InitializeQuestionEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeQuestionEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public InitializeQuestionEvent read() {
+    return MemorySegmentUtil.read(segment, offset, InitializeQuestionEvent.BYTES, InitializeQuestionEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public byte[] questionId() {
+    return copy(segment, offset + QUESTION_ID_OFFSET, 32);
+  }
+
+  public PublicKey oracle() {
+    return readPubKey(segment, offset + ORACLE_OFFSET);
+  }
+
+  public int numOutcomes() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + NUM_OUTCOMES_OFFSET) & 0xFF;
+  }
+
+  public PublicKey question() {
+    return readPubKey(segment, offset + QUESTION_OFFSET);
+  }
+}
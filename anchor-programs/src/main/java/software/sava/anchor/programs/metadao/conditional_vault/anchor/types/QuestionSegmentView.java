@@ -0,0 +1,53 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class QuestionSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private QuestionSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static QuestionSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new QuestionSegmentView(segment, offset);
+  }
+
+  public static QuestionSegmentView wrap(final MemorySegment segment) {
+    return new QuestionSegmentView(segment, 0);
+  }
+
+  public QuestionSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public QuestionSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public byte[] questionId() {
+    return copy(segment, offset + Question.QUESTION_ID_OFFSET, 32);
+  }
+
+  public PublicKey oracle() {
+    return readPubKey(segment, offset + Question.ORACLE_OFFSET);
+  }
+}
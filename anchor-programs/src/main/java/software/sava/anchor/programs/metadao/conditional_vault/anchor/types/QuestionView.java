@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.metadao.conditional_vault.anchor.types;
+
+import java.util.Arrays;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+
+public final class QuestionView {
+
+  private byte[] _data;
+  private int offset;
+
+  private QuestionView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static QuestionView wrap(final byte[] _data, final int offset) {
+    return new QuestionView(_data, offset);
+  }
+
+  public static QuestionView wrap(final byte[] _data) {
+    return new QuestionView(_data, 0);
+  }
+
+  public QuestionView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public QuestionView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Question read(final PublicKey _address) {
+    return Question.read(_address, _data, offset);
+  }
+
+  public byte[] questionId() {
+    final int from = offset + Question.QUESTION_ID_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 32);
+  }
+
+  public PublicKey oracle() {
+    return readPubKey(_data, offset + Question.ORACLE_OFFSET);
+  }
+}
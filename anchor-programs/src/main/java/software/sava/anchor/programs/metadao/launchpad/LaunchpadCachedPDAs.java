@@ -0,0 +1,52 @@
+package software.sava.anchor.programs.metadao.launchpad;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// MetaDAO launchpad program addresses derived through ProgramAddressCache, with bump overloads for bumps read from the
+// derived accounts.
+public final class LaunchpadCachedPDAs {
+
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+  private static final byte[] FUNDING_RECORD_SEED = "funding_record".getBytes(US_ASCII);
+  private static final byte[] LAUNCH_SIGNER_SEED = "launch_signer".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress fundingRecordPDA(final PublicKey program,
+                                                       final PublicKey launchAccount,
+                                                       final PublicKey funderAccount) {
+    return ProgramAddressCache.findProgramAddress(FUNDING_RECORD_SEED, launchAccount, funderAccount, program);
+  }
+
+  public static ProgramDerivedAddress fundingRecordPDA(final PublicKey program,
+                                                       final PublicKey launchAccount,
+                                                       final PublicKey funderAccount,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(FUNDING_RECORD_SEED, launchAccount, funderAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress launchSignerPDA(final PublicKey program,
+                                                      final PublicKey launchAccount) {
+    return ProgramAddressCache.findProgramAddress(LAUNCH_SIGNER_SEED, launchAccount, program);
+  }
+
+  public static ProgramDerivedAddress launchSignerPDA(final PublicKey program,
+                                                      final PublicKey launchAccount,
+                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(LAUNCH_SIGNER_SEED, launchAccount, bump, program);
+  }
+
+  private LaunchpadCachedPDAs() {
+  }
+}
@@ -0,0 +1,153 @@
+package software.sava.anchor.programs.metadao.launchpad;
+
+import software.sava.anchor.programs.metadao.launchpad.anchor.LaunchpadProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// metaDAO launchpad instruction data decoded into the LaunchpadProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class LaunchpadInstructionDecoder {
+
+  public record ClaimIxData(Discriminator discriminator) implements Borsh {
+
+    public static ClaimIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ClaimIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ClaimIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CompleteLaunchIxData(Discriminator discriminator) implements Borsh {
+
+    public static CompleteLaunchIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CompleteLaunchIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CompleteLaunchIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record RefundIxData(Discriminator discriminator) implements Borsh {
+
+    public static RefundIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static RefundIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new RefundIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record StartLaunchIxData(Discriminator discriminator) implements Borsh {
+
+    public static StartLaunchIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static StartLaunchIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new StartLaunchIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(LaunchpadProgram.CLAIM_DISCRIMINATOR.data(), 0),
+      getInt64LE(LaunchpadProgram.COMPLETE_LAUNCH_DISCRIMINATOR.data(), 0),
+      getInt64LE(LaunchpadProgram.FUND_DISCRIMINATOR.data(), 0),
+      getInt64LE(LaunchpadProgram.INITIALIZE_LAUNCH_DISCRIMINATOR.data(), 0),
+      getInt64LE(LaunchpadProgram.REFUND_DISCRIMINATOR.data(), 0),
+      getInt64LE(LaunchpadProgram.START_LAUNCH_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> ClaimIxData.read(_data, offset);
+      case 1 -> CompleteLaunchIxData.read(_data, offset);
+      case 2 -> LaunchpadProgram.FundIxData.read(_data, offset);
+      case 3 -> LaunchpadProgram.InitializeLaunchIxData.read(_data, offset);
+      case 4 -> RefundIxData.read(_data, offset);
+      case 5 -> StartLaunchIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private LaunchpadInstructionDecoder() {
+  }
+}
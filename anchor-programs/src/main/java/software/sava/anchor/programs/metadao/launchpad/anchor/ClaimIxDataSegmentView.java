@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.launchpad.LaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ClaimIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LaunchpadProgram.CLAIM_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimIxDataSegmentView(segment, offset);
+  }
+
+  public static ClaimIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ClaimIxDataSegmentView(segment, 0);
+  }
+
+  public ClaimIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LaunchpadInstructionDecoder.ClaimIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LaunchpadInstructionDecoder.ClaimIxData.BYTES, LaunchpadInstructionDecoder.ClaimIxData::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.launchpad.LaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CompleteLaunchIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LaunchpadProgram.COMPLETE_LAUNCH_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CompleteLaunchIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CompleteLaunchIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CompleteLaunchIxDataSegmentView(segment, offset);
+  }
+
+  public static CompleteLaunchIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CompleteLaunchIxDataSegmentView(segment, 0);
+  }
+
+  public CompleteLaunchIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CompleteLaunchIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LaunchpadInstructionDecoder.CompleteLaunchIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LaunchpadInstructionDecoder.CompleteLaunchIxData.BYTES, LaunchpadInstructionDecoder.CompleteLaunchIxData::read);
+  }
+}
@@ -0,0 +1,41 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor;
+
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.FundingRecord;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.Launch;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class LaunchpadAccounts {
+
+  public static final Discriminator FUNDING_RECORD_ACCOUNT_DISCRIMINATOR = toDiscriminator(20, 34, 251, 238, 204, 117, 11, 67);
+  public static final Discriminator LAUNCH_ACCOUNT_DISCRIMINATOR = toDiscriminator(144, 51, 51, 163, 206, 85, 213, 38);
+
+  public static final long FUNDING_RECORD_DISCRIMINATOR = getInt64LE(FUNDING_RECORD_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long LAUNCH_DISCRIMINATOR = getInt64LE(LAUNCH_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == FUNDING_RECORD_DISCRIMINATOR) {
+      return FundingRecord.read(_address, _data, 0);
+    } else if (discriminator == LAUNCH_DISCRIMINATOR) {
+      return Launch.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private LaunchpadAccounts() {
+  }
+}
@@ -0,0 +1,78 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.LaunchClaimEvent;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.LaunchCompletedEvent;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.LaunchFundedEvent;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.LaunchInitializedEvent;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.LaunchRefundedEvent;
+import software.sava.anchor.programs.metadao.launchpad.anchor.types.LaunchStartedEvent;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class LaunchpadEvents {
+
+  public static final Discriminator LAUNCH_CLAIM_EVENT_DISCRIMINATOR = toDiscriminator(185, 124, 167, 74, 161, 160, 106, 96);
+  public static final Discriminator LAUNCH_COMPLETED_EVENT_DISCRIMINATOR = toDiscriminator(11, 31, 43, 56, 39, 157, 147, 101);
+  public static final Discriminator LAUNCH_FUNDED_EVENT_DISCRIMINATOR = toDiscriminator(107, 1, 188, 175, 129, 59, 38, 79);
+  public static final Discriminator LAUNCH_INITIALIZED_EVENT_DISCRIMINATOR = toDiscriminator(227, 109, 144, 20, 65, 239, 101, 176);
+  public static final Discriminator LAUNCH_REFUNDED_EVENT_DISCRIMINATOR = toDiscriminator(59, 128, 76, 161, 92, 17, 206, 130);
+  public static final Discriminator LAUNCH_STARTED_EVENT_DISCRIMINATOR = toDiscriminator(187, 129, 95, 253, 255, 206, 36, 239);
+
+  public static final long LAUNCH_CLAIM_EVENT_DISCRIMINATOR_LONG = getInt64LE(LAUNCH_CLAIM_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LAUNCH_COMPLETED_EVENT_DISCRIMINATOR_LONG = getInt64LE(LAUNCH_COMPLETED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LAUNCH_FUNDED_EVENT_DISCRIMINATOR_LONG = getInt64LE(LAUNCH_FUNDED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LAUNCH_INITIALIZED_EVENT_DISCRIMINATOR_LONG = getInt64LE(LAUNCH_INITIALIZED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LAUNCH_REFUNDED_EVENT_DISCRIMINATOR_LONG = getInt64LE(LAUNCH_REFUNDED_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long LAUNCH_STARTED_EVENT_DISCRIMINATOR_LONG = getInt64LE(LAUNCH_STARTED_EVENT_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      LAUNCH_REFUNDED_EVENT_DISCRIMINATOR_LONG,
+      LAUNCH_INITIALIZED_EVENT_DISCRIMINATOR_LONG,
+      LAUNCH_STARTED_EVENT_DISCRIMINATOR_LONG,
+      LAUNCH_FUNDED_EVENT_DISCRIMINATOR_LONG,
+      LAUNCH_CLAIM_EVENT_DISCRIMINATOR_LONG,
+      LAUNCH_COMPLETED_EVENT_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> LaunchRefundedEvent.read(_data, i);
+      case 1 -> LaunchInitializedEvent.read(_data, i);
+      case 2 -> LaunchStartedEvent.read(_data, i);
+      case 3 -> LaunchFundedEvent.read(_data, i);
+      case 4 -> LaunchClaimEvent.read(_data, i);
+      case 5 -> LaunchCompletedEvent.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private LaunchpadEvents() {
+  }
+}
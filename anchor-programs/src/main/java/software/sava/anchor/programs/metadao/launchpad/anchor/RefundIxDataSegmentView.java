@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.metadao.launchpad.LaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class RefundIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(LaunchpadProgram.REFUND_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RefundIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RefundIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RefundIxDataSegmentView(segment, offset);
+  }
+
+  public static RefundIxDataSegmentView wrap(final MemorySegment segment) {
+    return new RefundIxDataSegmentView(segment, 0);
+  }
+
+  public RefundIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RefundIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public LaunchpadInstructionDecoder.RefundIxData read() {
+    return MemorySegmentUtil.read(segment, offset, LaunchpadInstructionDecoder.RefundIxData.BYTES, LaunchpadInstructionDecoder.RefundIxData::read);
+  }
+}
@@ -0,0 +1,76 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class FundingRecordSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FundingRecordSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FundingRecordSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FundingRecordSegmentView(segment, offset);
+  }
+
+  public static FundingRecordSegmentView wrap(final MemorySegment segment) {
+    return new FundingRecordSegmentView(segment, 0);
+  }
+
+  public FundingRecordSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FundingRecordSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public FundingRecord read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, FundingRecord.BYTES, FundingRecord::read);
+  }
+
+  // The PDA bump.
+  public int pdaBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + FundingRecord.PDA_BUMP_OFFSET) & 0xFF;
+  }
+
+  // The funder.
+  public PublicKey funder() {
+    return readPubKey(segment, offset + FundingRecord.FUNDER_OFFSET);
+  }
+
+  // The launch.
+  public PublicKey launch() {
+    return readPubKey(segment, offset + FundingRecord.LAUNCH_OFFSET);
+  }
+
+  // The amount of USDC that has been committed by the funder.
+  public long committedAmount() {
+    return getInt64LE(segment, offset + FundingRecord.COMMITTED_AMOUNT_OFFSET);
+  }
+
+  // The sequence number of this funding record. Useful for sorting events.
+  public long seqNum() {
+    return getInt64LE(segment, offset + FundingRecord.SEQ_NUM_OFFSET);
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class FundingRecordView {
+
+  private byte[] _data;
+  private int offset;
+
+  private FundingRecordView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static FundingRecordView wrap(final byte[] _data, final int offset) {
+    return new FundingRecordView(_data, offset);
+  }
+
+  public static FundingRecordView wrap(final byte[] _data) {
+    return new FundingRecordView(_data, 0);
+  }
+
+  public FundingRecordView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public FundingRecordView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public FundingRecord read(final PublicKey _address) {
+    return FundingRecord.read(_address, _data, offset);
+  }
+
+  // The PDA bump.
+  public int pdaBump() {
+    return _data[offset + FundingRecord.PDA_BUMP_OFFSET] & 0xFF;
+  }
+
+  // The funder.
+  public PublicKey funder() {
+    return readPubKey(_data, offset + FundingRecord.FUNDER_OFFSET);
+  }
+
+  // The launch.
+  public PublicKey launch() {
+    return readPubKey(_data, offset + FundingRecord.LAUNCH_OFFSET);
+  }
+
+  // The amount of USDC that has been committed by the funder.
+  public long committedAmount() {
+    return getInt64LE(_data, offset + FundingRecord.COMMITTED_AMOUNT_OFFSET);
+  }
+
+  // The sequence number of this funding record. Useful for sorting events.
+  public long seqNum() {
+    return getInt64LE(_data, offset + FundingRecord.SEQ_NUM_OFFSET);
+  }
+}
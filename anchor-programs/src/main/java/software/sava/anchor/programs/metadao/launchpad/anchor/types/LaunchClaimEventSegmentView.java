@@ -0,0 +1,77 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class LaunchClaimEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int LAUNCH_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int FUNDER_OFFSET = LAUNCH_OFFSET + 32;
+  private static final int TOKENS_CLAIMED_OFFSET = FUNDER_OFFSET + 32;
+  private static final int FUNDING_RECORD_OFFSET = TOKENS_CLAIMED_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LaunchClaimEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LaunchClaimEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LaunchClaimEventSegmentView(segment, offset);
+  }
+
+  public static LaunchClaimEventSegmentView wrap(final MemorySegment segment) {
+    return new LaunchClaimEventSegmentView(segment, 0);
+  }
+
+  public LaunchClaimEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LaunchClaimEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public LaunchClaimEvent read() {
+    return MemorySegmentUtil.read(segment, offset, LaunchClaimEvent.BYTES, LaunchClaimEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey launch() {
+    return readPubKey(segment, offset + LAUNCH_OFFSET);
+  }
+
+  public PublicKey funder() {
+    return readPubKey(segment, offset + FUNDER_OFFSET);
+  }
+
+  public long tokensClaimed() {
+    return getInt64LE(segment, offset + TOKENS_CLAIMED_OFFSET);
+  }
+
+  public PublicKey fundingRecord() {
+    return readPubKey(segment, offset + FUNDING_RECORD_OFFSET);
+  }
+}
@@ -0,0 +1,92 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class LaunchFundedEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int FUNDING_RECORD_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int LAUNCH_OFFSET = FUNDING_RECORD_OFFSET + 32;
+  private static final int FUNDER_OFFSET = LAUNCH_OFFSET + 32;
+  private static final int AMOUNT_OFFSET = FUNDER_OFFSET + 32;
+  private static final int TOTAL_COMMITTED_BY_FUNDER_OFFSET = AMOUNT_OFFSET + 8;
+  private static final int TOTAL_COMMITTED_OFFSET = TOTAL_COMMITTED_BY_FUNDER_OFFSET + 8;
+  private static final int FUNDING_RECORD_SEQ_NUM_OFFSET = TOTAL_COMMITTED_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LaunchFundedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LaunchFundedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LaunchFundedEventSegmentView(segment, offset);
+  }
+
+  public static LaunchFundedEventSegmentView wrap(final MemorySegment segment) {
+    return new LaunchFundedEventSegmentView(segment, 0);
+  }
+
+  public LaunchFundedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LaunchFundedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public LaunchFundedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, LaunchFundedEvent.BYTES, LaunchFundedEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey fundingRecord() {
+    return readPubKey(segment, offset + FUNDING_RECORD_OFFSET);
+  }
+
+  public PublicKey launch() {
+    return readPubKey(segment, offset + LAUNCH_OFFSET);
+  }
+
+  public PublicKey funder() {
+    return readPubKey(segment, offset + FUNDER_OFFSET);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+
+  public long totalCommittedByFunder() {
+    return getInt64LE(segment, offset + TOTAL_COMMITTED_BY_FUNDER_OFFSET);
+  }
+
+  public long totalCommitted() {
+    return getInt64LE(segment, offset + TOTAL_COMMITTED_OFFSET);
+  }
+
+  public long fundingRecordSeqNum() {
+    return getInt64LE(segment, offset + FUNDING_RECORD_SEQ_NUM_OFFSET);
+  }
+}
@@ -0,0 +1,114 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class LaunchInitializedEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int LAUNCH_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int MINIMUM_RAISE_AMOUNT_OFFSET = LAUNCH_OFFSET + 32;
+  private static final int LAUNCH_AUTHORITY_OFFSET = MINIMUM_RAISE_AMOUNT_OFFSET + 8;
+  private static final int LAUNCH_SIGNER_OFFSET = LAUNCH_AUTHORITY_OFFSET + 32;
+  private static final int LAUNCH_SIGNER_PDA_BUMP_OFFSET = LAUNCH_SIGNER_OFFSET + 32;
+  private static final int LAUNCH_USDC_VAULT_OFFSET = LAUNCH_SIGNER_PDA_BUMP_OFFSET + 1;
+  private static final int LAUNCH_TOKEN_VAULT_OFFSET = LAUNCH_USDC_VAULT_OFFSET + 32;
+  private static final int BASE_MINT_OFFSET = LAUNCH_TOKEN_VAULT_OFFSET + 32;
+  private static final int QUOTE_MINT_OFFSET = BASE_MINT_OFFSET + 32;
+  private static final int PDA_BUMP_OFFSET = QUOTE_MINT_OFFSET + 32;
+  private static final int SECONDS_FOR_LAUNCH_OFFSET = PDA_BUMP_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LaunchInitializedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LaunchInitializedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LaunchInitializedEventSegmentView(segment, offset);
+  }
+
+  public static LaunchInitializedEventSegmentView wrap(final MemorySegment segment) {
+    return new LaunchInitializedEventSegmentView(segment, 0);
+  }
+
+  public LaunchInitializedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LaunchInitializedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public LaunchInitializedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, LaunchInitializedEvent.BYTES, LaunchInitializedEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey launch() {
+    return readPubKey(segment, offset + LAUNCH_OFFSET);
+  }
+
+  public long minimumRaiseAmount() {
+    return getInt64LE(segment, offset + MINIMUM_RAISE_AMOUNT_OFFSET);
+  }
+
+  public PublicKey launchAuthority() {
+    return readPubKey(segment, offset + LAUNCH_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey launchSigner() {
+    return readPubKey(segment, offset + LAUNCH_SIGNER_OFFSET);
+  }
+
+  public int launchSignerPdaBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + LAUNCH_SIGNER_PDA_BUMP_OFFSET) & 0xFF;
+  }
+
+  public PublicKey launchUsdcVault() {
+    return readPubKey(segment, offset + LAUNCH_USDC_VAULT_OFFSET);
+  }
+
+  public PublicKey launchTokenVault() {
+    return readPubKey(segment, offset + LAUNCH_TOKEN_VAULT_OFFSET);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + QUOTE_MINT_OFFSET);
+  }
+
+  public int pdaBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PDA_BUMP_OFFSET) & 0xFF;
+  }
+
+  public int secondsForLaunch() {
+    return getInt32LE(segment, offset + SECONDS_FOR_LAUNCH_OFFSET);
+  }
+}
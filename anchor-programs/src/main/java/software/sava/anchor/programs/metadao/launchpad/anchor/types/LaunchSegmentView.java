@@ -0,0 +1,60 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+public final class LaunchSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LaunchSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LaunchSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LaunchSegmentView(segment, offset);
+  }
+
+  public static LaunchSegmentView wrap(final MemorySegment segment) {
+    return new LaunchSegmentView(segment, 0);
+  }
+
+  public LaunchSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LaunchSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  // The PDA bump.
+  public int pdaBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Launch.PDA_BUMP_OFFSET) & 0xFF;
+  }
+
+  // The minimum amount of USDC that must be raised, otherwise
+  // everyone can get their USDC back.
+  public long minimumRaiseAmount() {
+    return getInt64LE(segment, offset + Launch.MINIMUM_RAISE_AMOUNT_OFFSET);
+  }
+
+  // The monthly spending limit the DAO allocates to the team. Must be
+  // less than 1/6th of the minimum raise amount (so 6 months of burn).
+  public long monthlySpendingLimitAmount() {
+    return getInt64LE(segment, offset + Launch.MONTHLY_SPENDING_LIMIT_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class LaunchStartedEventSegmentView {
+
+  private static final int COMMON_OFFSET = 0;
+  private static final int LAUNCH_OFFSET = COMMON_OFFSET + CommonFields.BYTES;
+  private static final int LAUNCH_AUTHORITY_OFFSET = LAUNCH_OFFSET + 32;
+  private static final int SLOT_STARTED_OFFSET = LAUNCH_AUTHORITY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private LaunchStartedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static LaunchStartedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new LaunchStartedEventSegmentView(segment, offset);
+  }
+
+  public static LaunchStartedEventSegmentView wrap(final MemorySegment segment) {
+    return new LaunchStartedEventSegmentView(segment, 0);
+  }
+
+  public LaunchStartedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public LaunchStartedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public LaunchStartedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, LaunchStartedEvent.BYTES, LaunchStartedEvent::read);
+  }
+
+  public CommonFields common() {
+    return MemorySegmentUtil.read(segment, offset + COMMON_OFFSET, CommonFields.BYTES, CommonFields::read);
+  }
+
+  public PublicKey launch() {
+    return readPubKey(segment, offset + LAUNCH_OFFSET);
+  }
+
+  public PublicKey launchAuthority() {
+    return readPubKey(segment, offset + LAUNCH_AUTHORITY_OFFSET);
+  }
+
+  public long slotStarted() {
+    return getInt64LE(segment, offset + SLOT_STARTED_OFFSET);
+  }
+}
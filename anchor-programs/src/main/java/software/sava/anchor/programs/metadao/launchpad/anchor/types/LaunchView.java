@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.metadao.launchpad.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class LaunchView {
+
+  private byte[] _data;
+  private int offset;
+
+  private LaunchView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static LaunchView wrap(final byte[] _data, final int offset) {
+    return new LaunchView(_data, offset);
+  }
+
+  public static LaunchView wrap(final byte[] _data) {
+    return new LaunchView(_data, 0);
+  }
+
+  public LaunchView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public LaunchView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public Launch read(final PublicKey _address) {
+    return Launch.read(_address, _data, offset);
+  }
+
+  // The PDA bump.
+  public int pdaBump() {
+    return _data[offset + Launch.PDA_BUMP_OFFSET] & 0xFF;
+  }
+
+  // The minimum amount of USDC that must be raised, otherwise
+  // everyone can get their USDC back.
+  public long minimumRaiseAmount() {
+    return getInt64LE(_data, offset + Launch.MINIMUM_RAISE_AMOUNT_OFFSET);
+  }
+
+  // The monthly spending limit the DAO allocates to the team. Must be
+  // less than 1/6th of the minimum raise amount (so 6 months of burn).
+  public long monthlySpendingLimitAmount() {
+    return getInt64LE(_data, offset + Launch.MONTHLY_SPENDING_LIMIT_AMOUNT_OFFSET);
+  }
+}
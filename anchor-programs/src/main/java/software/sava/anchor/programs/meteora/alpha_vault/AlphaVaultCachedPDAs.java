@@ -0,0 +1,128 @@
+package software.sava.anchor.programs.meteora.alpha_vault;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// AlphaVaultPDAs derived through ProgramAddressCache, with bump overloads for bumps read from the derived accounts.
+public final class AlphaVaultCachedPDAs {
+
+  private static final byte[] CRANK_FEE_WHITELIST_SEED = "crank_fee_whitelist".getBytes(US_ASCII);
+  private static final byte[] ESCROW_SEED = "escrow".getBytes(US_ASCII);
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+  private static final byte[] FCFS_CONFIG_SEED = "fcfs_config".getBytes(US_ASCII);
+  private static final byte[] MERKLE_PROOF_METADATA_SEED = "merkle_proof_metadata".getBytes(US_ASCII);
+  private static final byte[] MERKLE_ROOT_SEED = "merkle_root".getBytes(US_ASCII);
+  private static final byte[] PRORATA_CONFIG_SEED = "prorata_config".getBytes(US_ASCII);
+  private static final byte[] VAULT_SEED = "vault".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress configPDA(final PublicKey program,
+                                                final byte[] configParametersIndex) {
+    return ProgramAddressCache.findProgramAddress(FCFS_CONFIG_SEED, configParametersIndex, program);
+  }
+
+  public static ProgramDerivedAddress configPDA(final PublicKey program,
+                                                final byte[] configParametersIndex,
+                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(FCFS_CONFIG_SEED, configParametersIndex, bump, program);
+  }
+
+  public static ProgramDerivedAddress config1PDA(final PublicKey program,
+                                                 final byte[] configParametersIndex) {
+    return ProgramAddressCache.findProgramAddress(PRORATA_CONFIG_SEED, configParametersIndex, program);
+  }
+
+  public static ProgramDerivedAddress config1PDA(final PublicKey program,
+                                                 final byte[] configParametersIndex,
+                                                 final int bump) {
+    return ProgramAddressCache.createProgramAddress(PRORATA_CONFIG_SEED, configParametersIndex, bump, program);
+  }
+
+  public static ProgramDerivedAddress crankFeeWhitelistPDA(final PublicKey program,
+                                                           final PublicKey crankerAccount) {
+    return ProgramAddressCache.findProgramAddress(CRANK_FEE_WHITELIST_SEED, crankerAccount, program);
+  }
+
+  public static ProgramDerivedAddress crankFeeWhitelistPDA(final PublicKey program,
+                                                           final PublicKey crankerAccount,
+                                                           final int bump) {
+    return ProgramAddressCache.createProgramAddress(CRANK_FEE_WHITELIST_SEED, crankerAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress escrowPDA(final PublicKey program,
+                                                final PublicKey vaultAccount,
+                                                final PublicKey ownerAccount) {
+    return ProgramAddressCache.findProgramAddress(ESCROW_SEED, vaultAccount, ownerAccount, program);
+  }
+
+  public static ProgramDerivedAddress escrowPDA(final PublicKey program,
+                                                final PublicKey vaultAccount,
+                                                final PublicKey ownerAccount,
+                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(ESCROW_SEED, vaultAccount, ownerAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress merkleProofMetadataPDA(final PublicKey program,
+                                                             final PublicKey vaultAccount) {
+    return ProgramAddressCache.findProgramAddress(MERKLE_PROOF_METADATA_SEED, vaultAccount, program);
+  }
+
+  public static ProgramDerivedAddress merkleProofMetadataPDA(final PublicKey program,
+                                                             final PublicKey vaultAccount,
+                                                             final int bump) {
+    return ProgramAddressCache.createProgramAddress(MERKLE_PROOF_METADATA_SEED, vaultAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress merkleRootConfigPDA(final PublicKey program,
+                                                          final PublicKey vaultAccount,
+                                                          final byte[] paramsVersion) {
+    return ProgramAddressCache.findProgramAddress(MERKLE_ROOT_SEED, vaultAccount, paramsVersion, program);
+  }
+
+  public static ProgramDerivedAddress merkleRootConfigPDA(final PublicKey program,
+                                                          final PublicKey vaultAccount,
+                                                          final byte[] paramsVersion,
+                                                          final int bump) {
+    return ProgramAddressCache.createProgramAddress(MERKLE_ROOT_SEED, vaultAccount, paramsVersion, bump, program);
+  }
+
+  public static ProgramDerivedAddress vaultPDA(final PublicKey program,
+                                               final PublicKey baseAccount,
+                                               final PublicKey poolAccount) {
+    return ProgramAddressCache.findProgramAddress(VAULT_SEED, baseAccount, poolAccount, program);
+  }
+
+  public static ProgramDerivedAddress vaultPDA(final PublicKey program,
+                                               final PublicKey baseAccount,
+                                               final PublicKey poolAccount,
+                                               final int bump) {
+    return ProgramAddressCache.createProgramAddress(VAULT_SEED, baseAccount, poolAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress vault1PDA(final PublicKey program,
+                                                final PublicKey configAccount,
+                                                final PublicKey poolAccount) {
+    return ProgramAddressCache.findProgramAddress(VAULT_SEED, configAccount, poolAccount, program);
+  }
+
+  public static ProgramDerivedAddress vault1PDA(final PublicKey program,
+                                                final PublicKey configAccount,
+                                                final PublicKey poolAccount,
+                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(VAULT_SEED, configAccount, poolAccount, bump, program);
+  }
+
+  private AlphaVaultCachedPDAs() {
+  }
+}
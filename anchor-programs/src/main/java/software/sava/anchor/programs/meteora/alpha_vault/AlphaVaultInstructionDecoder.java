@@ -0,0 +1,325 @@
+package software.sava.anchor.programs.meteora.alpha_vault;
+
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.AlphaVaultProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Meteora alpha vault instruction data decoded into the AlphaVaultProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class AlphaVaultInstructionDecoder {
+
+  public record ClaimTokenIxData(Discriminator discriminator) implements Borsh {
+
+    public static ClaimTokenIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ClaimTokenIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ClaimTokenIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseCrankFeeWhitelistIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseCrankFeeWhitelistIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseCrankFeeWhitelistIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseCrankFeeWhitelistIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseEscrowIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseEscrowIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseEscrowIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseEscrowIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseFcfsConfigIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseFcfsConfigIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseFcfsConfigIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseFcfsConfigIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseMerkleProofMetadataIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseMerkleProofMetadataIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseMerkleProofMetadataIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseMerkleProofMetadataIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CloseProrataConfigIxData(Discriminator discriminator) implements Borsh {
+
+    public static CloseProrataConfigIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CloseProrataConfigIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CloseProrataConfigIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CreateCrankFeeWhitelistIxData(Discriminator discriminator) implements Borsh {
+
+    public static CreateCrankFeeWhitelistIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CreateCrankFeeWhitelistIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CreateCrankFeeWhitelistIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CreateNewEscrowIxData(Discriminator discriminator) implements Borsh {
+
+    public static CreateNewEscrowIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CreateNewEscrowIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CreateNewEscrowIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record WithdrawRemainingQuoteIxData(Discriminator discriminator) implements Borsh {
+
+    public static WithdrawRemainingQuoteIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static WithdrawRemainingQuoteIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new WithdrawRemainingQuoteIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(AlphaVaultProgram.CLOSE_MERKLE_PROOF_METADATA_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_MERKLE_ROOT_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CLOSE_CRANK_FEE_WHITELIST_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.UPDATE_FCFS_VAULT_PARAMETERS_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.INITIALIZE_VAULT_WITH_FCFS_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.DEPOSIT_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_PERMISSIONED_ESCROW_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_NEW_ESCROW_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_CRANK_FEE_WHITELIST_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.INITIALIZE_VAULT_WITH_PRORATA_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.FILL_DLMM_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_MERKLE_PROOF_METADATA_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.FILL_DYNAMIC_AMM_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.INITIALIZE_PRORATA_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_FCFS_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.INITIALIZE_FCFS_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.FILL_DAMM_V_2_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CLOSE_PRORATA_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.WITHDRAW_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CLOSE_ESCROW_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_PRORATA_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CLAIM_TOKEN_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.UPDATE_PRORATA_VAULT_PARAMETERS_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CLOSE_FCFS_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.CREATE_PERMISSIONED_ESCROW_WITH_AUTHORITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.TRANSFER_VAULT_AUTHORITY_DISCRIMINATOR.data(), 0),
+      getInt64LE(AlphaVaultProgram.WITHDRAW_REMAINING_QUOTE_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> CloseMerkleProofMetadataIxData.read(_data, offset);
+      case 1 -> AlphaVaultProgram.CreateMerkleRootConfigIxData.read(_data, offset);
+      case 2 -> CloseCrankFeeWhitelistIxData.read(_data, offset);
+      case 3 -> AlphaVaultProgram.UpdateFcfsVaultParametersIxData.read(_data, offset);
+      case 4 -> AlphaVaultProgram.InitializeVaultWithFcfsConfigIxData.read(_data, offset);
+      case 5 -> AlphaVaultProgram.DepositIxData.read(_data, offset);
+      case 6 -> AlphaVaultProgram.CreatePermissionedEscrowIxData.read(_data, offset);
+      case 7 -> CreateNewEscrowIxData.read(_data, offset);
+      case 8 -> CreateCrankFeeWhitelistIxData.read(_data, offset);
+      case 9 -> AlphaVaultProgram.InitializeVaultWithProrataConfigIxData.read(_data, offset);
+      case 10 -> AlphaVaultProgram.FillDlmmIxData.read(_data, offset);
+      case 11 -> AlphaVaultProgram.CreateMerkleProofMetadataIxData.read(_data, offset);
+      case 12 -> AlphaVaultProgram.FillDynamicAmmIxData.read(_data, offset);
+      case 13 -> AlphaVaultProgram.InitializeProrataVaultIxData.read(_data, offset);
+      case 14 -> AlphaVaultProgram.CreateFcfsConfigIxData.read(_data, offset);
+      case 15 -> AlphaVaultProgram.InitializeFcfsVaultIxData.read(_data, offset);
+      case 16 -> AlphaVaultProgram.FillDammV2IxData.read(_data, offset);
+      case 17 -> CloseProrataConfigIxData.read(_data, offset);
+      case 18 -> AlphaVaultProgram.WithdrawIxData.read(_data, offset);
+      case 19 -> CloseEscrowIxData.read(_data, offset);
+      case 20 -> AlphaVaultProgram.CreateProrataConfigIxData.read(_data, offset);
+      case 21 -> ClaimTokenIxData.read(_data, offset);
+      case 22 -> AlphaVaultProgram.UpdateProrataVaultParametersIxData.read(_data, offset);
+      case 23 -> CloseFcfsConfigIxData.read(_data, offset);
+      case 24 -> AlphaVaultProgram.CreatePermissionedEscrowWithAuthorityIxData.read(_data, offset);
+      case 25 -> AlphaVaultProgram.TransferVaultAuthorityIxData.read(_data, offset);
+      case 26 -> WithdrawRemainingQuoteIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private AlphaVaultInstructionDecoder() {
+  }
+}
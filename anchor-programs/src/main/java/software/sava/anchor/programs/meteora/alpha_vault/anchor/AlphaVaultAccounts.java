@@ -0,0 +1,56 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.CrankFeeWhitelist;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.Escrow;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.FcfsVaultConfig;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.MerkleProofMetadata;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.MerkleRootConfig;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.ProrataVaultConfig;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.Vault;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class AlphaVaultAccounts {
+
+  public static final long CRANK_FEE_WHITELIST_DISCRIMINATOR = getInt64LE(CrankFeeWhitelist.DISCRIMINATOR.data(), 0);
+  public static final long ESCROW_DISCRIMINATOR = getInt64LE(Escrow.DISCRIMINATOR.data(), 0);
+  public static final long FCFS_VAULT_CONFIG_DISCRIMINATOR = getInt64LE(FcfsVaultConfig.DISCRIMINATOR.data(), 0);
+  public static final long MERKLE_PROOF_METADATA_DISCRIMINATOR = getInt64LE(MerkleProofMetadata.DISCRIMINATOR.data(), 0);
+  public static final long MERKLE_ROOT_CONFIG_DISCRIMINATOR = getInt64LE(MerkleRootConfig.DISCRIMINATOR.data(), 0);
+  public static final long PRORATA_VAULT_CONFIG_DISCRIMINATOR = getInt64LE(ProrataVaultConfig.DISCRIMINATOR.data(), 0);
+  public static final long VAULT_DISCRIMINATOR = getInt64LE(Vault.DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == CRANK_FEE_WHITELIST_DISCRIMINATOR) {
+      return CrankFeeWhitelist.read(_address, _data, 0);
+    } else if (discriminator == ESCROW_DISCRIMINATOR) {
+      return Escrow.read(_address, _data, 0);
+    } else if (discriminator == FCFS_VAULT_CONFIG_DISCRIMINATOR) {
+      return FcfsVaultConfig.read(_address, _data, 0);
+    } else if (discriminator == MERKLE_PROOF_METADATA_DISCRIMINATOR) {
+      return MerkleProofMetadata.read(_address, _data, 0);
+    } else if (discriminator == MERKLE_ROOT_CONFIG_DISCRIMINATOR) {
+      return MerkleRootConfig.read(_address, _data, 0);
+    } else if (discriminator == PRORATA_VAULT_CONFIG_DISCRIMINATOR) {
+      return ProrataVaultConfig.read(_address, _data, 0);
+    } else if (discriminator == VAULT_DISCRIMINATOR) {
+      return Vault.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private AlphaVaultAccounts() {
+  }
+}
@@ -0,0 +1,123 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.CrankFeeWhitelistClosed;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.CrankFeeWhitelistCreated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.EscrowClaimToken;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.EscrowClosed;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.EscrowCreated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.EscrowDeposit;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.EscrowRemainingWithdraw;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.EscrowWithdraw;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.FcfsVaultCreated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.FcfsVaultParametersUpdated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.MerkleProofMetadataCreated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.MerkleRootConfigCreated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.ProrataVaultCreated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.ProrataVaultParametersUpdated;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.SwapFill;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class AlphaVaultEvents {
+
+  public static final Discriminator CRANK_FEE_WHITELIST_CLOSED_DISCRIMINATOR = toDiscriminator(157, 171, 85, 155, 37, 20, 41, 114);
+  public static final Discriminator CRANK_FEE_WHITELIST_CREATED_DISCRIMINATOR = toDiscriminator(176, 138, 32, 77, 129, 74, 137, 244);
+  public static final Discriminator ESCROW_CLAIM_TOKEN_DISCRIMINATOR = toDiscriminator(179, 72, 71, 30, 59, 19, 170, 3);
+  public static final Discriminator ESCROW_CLOSED_DISCRIMINATOR = toDiscriminator(109, 20, 57, 51, 217, 118, 3, 173);
+  public static final Discriminator ESCROW_CREATED_DISCRIMINATOR = toDiscriminator(70, 127, 105, 102, 92, 97, 7, 173);
+  public static final Discriminator ESCROW_DEPOSIT_DISCRIMINATOR = toDiscriminator(43, 90, 49, 176, 134, 148, 50, 32);
+  public static final Discriminator ESCROW_REMAINING_WITHDRAW_DISCRIMINATOR = toDiscriminator(113, 14, 156, 89, 113, 79, 88, 178);
+  public static final Discriminator ESCROW_WITHDRAW_DISCRIMINATOR = toDiscriminator(171, 17, 164, 116, 122, 66, 183, 34);
+  public static final Discriminator FCFS_VAULT_CREATED_DISCRIMINATOR = toDiscriminator(73, 153, 165, 103, 151, 182, 184, 136);
+  public static final Discriminator FCFS_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR = toDiscriminator(78, 112, 112, 62, 193, 209, 231, 226);
+  public static final Discriminator MERKLE_PROOF_METADATA_CREATED_DISCRIMINATOR = toDiscriminator(186, 42, 131, 176, 244, 128, 196, 68);
+  public static final Discriminator MERKLE_ROOT_CONFIG_CREATED_DISCRIMINATOR = toDiscriminator(121, 112, 42, 76, 144, 131, 142, 90);
+  public static final Discriminator PRORATA_VAULT_CREATED_DISCRIMINATOR = toDiscriminator(181, 255, 162, 226, 203, 199, 193, 6);
+  public static final Discriminator PRORATA_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR = toDiscriminator(24, 147, 160, 237, 132, 87, 15, 206);
+  public static final Discriminator SWAP_FILL_DISCRIMINATOR = toDiscriminator(116, 212, 73, 222, 33, 244, 134, 148);
+
+  public static final long CRANK_FEE_WHITELIST_CLOSED_DISCRIMINATOR_LONG = getInt64LE(CRANK_FEE_WHITELIST_CLOSED_DISCRIMINATOR.data(), 0);
+  public static final long CRANK_FEE_WHITELIST_CREATED_DISCRIMINATOR_LONG = getInt64LE(CRANK_FEE_WHITELIST_CREATED_DISCRIMINATOR.data(), 0);
+  public static final long ESCROW_CLAIM_TOKEN_DISCRIMINATOR_LONG = getInt64LE(ESCROW_CLAIM_TOKEN_DISCRIMINATOR.data(), 0);
+  public static final long ESCROW_CLOSED_DISCRIMINATOR_LONG = getInt64LE(ESCROW_CLOSED_DISCRIMINATOR.data(), 0);
+  public static final long ESCROW_CREATED_DISCRIMINATOR_LONG = getInt64LE(ESCROW_CREATED_DISCRIMINATOR.data(), 0);
+  public static final long ESCROW_DEPOSIT_DISCRIMINATOR_LONG = getInt64LE(ESCROW_DEPOSIT_DISCRIMINATOR.data(), 0);
+  public static final long ESCROW_REMAINING_WITHDRAW_DISCRIMINATOR_LONG = getInt64LE(ESCROW_REMAINING_WITHDRAW_DISCRIMINATOR.data(), 0);
+  public static final long ESCROW_WITHDRAW_DISCRIMINATOR_LONG = getInt64LE(ESCROW_WITHDRAW_DISCRIMINATOR.data(), 0);
+  public static final long FCFS_VAULT_CREATED_DISCRIMINATOR_LONG = getInt64LE(FCFS_VAULT_CREATED_DISCRIMINATOR.data(), 0);
+  public static final long FCFS_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR_LONG = getInt64LE(FCFS_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR.data(), 0);
+  public static final long MERKLE_PROOF_METADATA_CREATED_DISCRIMINATOR_LONG = getInt64LE(MERKLE_PROOF_METADATA_CREATED_DISCRIMINATOR.data(), 0);
+  public static final long MERKLE_ROOT_CONFIG_CREATED_DISCRIMINATOR_LONG = getInt64LE(MERKLE_ROOT_CONFIG_CREATED_DISCRIMINATOR.data(), 0);
+  public static final long PRORATA_VAULT_CREATED_DISCRIMINATOR_LONG = getInt64LE(PRORATA_VAULT_CREATED_DISCRIMINATOR.data(), 0);
+  public static final long PRORATA_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR_LONG = getInt64LE(PRORATA_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR.data(), 0);
+  public static final long SWAP_FILL_DISCRIMINATOR_LONG = getInt64LE(SWAP_FILL_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      FCFS_VAULT_CREATED_DISCRIMINATOR_LONG,
+      SWAP_FILL_DISCRIMINATOR_LONG,
+      ESCROW_CLOSED_DISCRIMINATOR_LONG,
+      ESCROW_CREATED_DISCRIMINATOR_LONG,
+      ESCROW_REMAINING_WITHDRAW_DISCRIMINATOR_LONG,
+      PRORATA_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR_LONG,
+      FCFS_VAULT_PARAMETERS_UPDATED_DISCRIMINATOR_LONG,
+      CRANK_FEE_WHITELIST_CREATED_DISCRIMINATOR_LONG,
+      ESCROW_CLAIM_TOKEN_DISCRIMINATOR_LONG,
+      PRORATA_VAULT_CREATED_DISCRIMINATOR_LONG,
+      ESCROW_DEPOSIT_DISCRIMINATOR_LONG,
+      ESCROW_WITHDRAW_DISCRIMINATOR_LONG,
+      MERKLE_PROOF_METADATA_CREATED_DISCRIMINATOR_LONG,
+      MERKLE_ROOT_CONFIG_CREATED_DISCRIMINATOR_LONG,
+      CRANK_FEE_WHITELIST_CLOSED_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> FcfsVaultCreated.read(_data, i);
+      case 1 -> SwapFill.read(_data, i);
+      case 2 -> EscrowClosed.read(_data, i);
+      case 3 -> EscrowCreated.read(_data, i);
+      case 4 -> EscrowRemainingWithdraw.read(_data, i);
+      case 5 -> ProrataVaultParametersUpdated.read(_data, i);
+      case 6 -> FcfsVaultParametersUpdated.read(_data, i);
+      case 7 -> CrankFeeWhitelistCreated.read(_data, i);
+      case 8 -> EscrowClaimToken.read(_data, i);
+      case 9 -> ProrataVaultCreated.read(_data, i);
+      case 10 -> EscrowDeposit.read(_data, i);
+      case 11 -> EscrowWithdraw.read(_data, i);
+      case 12 -> MerkleProofMetadataCreated.read(_data, i);
+      case 13 -> MerkleRootConfigCreated.read(_data, i);
+      case 14 -> CrankFeeWhitelistClosed.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private AlphaVaultEvents() {
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.AlphaVaultInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ClaimTokenIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.CLAIM_TOKEN_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimTokenIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimTokenIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimTokenIxDataSegmentView(segment, offset);
+  }
+
+  public static ClaimTokenIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ClaimTokenIxDataSegmentView(segment, 0);
+  }
+
+  public ClaimTokenIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimTokenIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultInstructionDecoder.ClaimTokenIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultInstructionDecoder.ClaimTokenIxData.BYTES, AlphaVaultInstructionDecoder.ClaimTokenIxData::read);
+  }
+}
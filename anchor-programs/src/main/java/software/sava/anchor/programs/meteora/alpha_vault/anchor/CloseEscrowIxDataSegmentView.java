@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.AlphaVaultInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseEscrowIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.CLOSE_ESCROW_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseEscrowIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseEscrowIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseEscrowIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseEscrowIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseEscrowIxDataSegmentView(segment, 0);
+  }
+
+  public CloseEscrowIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseEscrowIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultInstructionDecoder.CloseEscrowIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultInstructionDecoder.CloseEscrowIxData.BYTES, AlphaVaultInstructionDecoder.CloseEscrowIxData::read);
+  }
+}
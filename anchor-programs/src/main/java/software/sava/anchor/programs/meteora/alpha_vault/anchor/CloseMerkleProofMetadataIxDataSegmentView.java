@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.AlphaVaultInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CloseMerkleProofMetadataIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.CLOSE_MERKLE_PROOF_METADATA_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CloseMerkleProofMetadataIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CloseMerkleProofMetadataIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CloseMerkleProofMetadataIxDataSegmentView(segment, offset);
+  }
+
+  public static CloseMerkleProofMetadataIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CloseMerkleProofMetadataIxDataSegmentView(segment, 0);
+  }
+
+  public CloseMerkleProofMetadataIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CloseMerkleProofMetadataIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultInstructionDecoder.CloseMerkleProofMetadataIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultInstructionDecoder.CloseMerkleProofMetadataIxData.BYTES, AlphaVaultInstructionDecoder.CloseMerkleProofMetadataIxData::read);
+  }
+}
@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.FcfsConfigParameters;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateFcfsConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.CREATE_FCFS_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int CONFIG_PARAMETERS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateFcfsConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateFcfsConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateFcfsConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateFcfsConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateFcfsConfigIxDataSegmentView(segment, 0);
+  }
+
+  public CreateFcfsConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateFcfsConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.CreateFcfsConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.CreateFcfsConfigIxData.BYTES, AlphaVaultProgram.CreateFcfsConfigIxData::read);
+  }
+
+  public FcfsConfigParameters configParameters() {
+    return MemorySegmentUtil.read(segment, offset + CONFIG_PARAMETERS_OFFSET, FcfsConfigParameters.BYTES, FcfsConfigParameters::read);
+  }
+}
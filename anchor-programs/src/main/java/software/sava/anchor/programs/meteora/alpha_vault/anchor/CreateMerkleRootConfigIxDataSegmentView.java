@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.CreateMerkleRootConfigParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateMerkleRootConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.CREATE_MERKLE_ROOT_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateMerkleRootConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateMerkleRootConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateMerkleRootConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateMerkleRootConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateMerkleRootConfigIxDataSegmentView(segment, 0);
+  }
+
+  public CreateMerkleRootConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateMerkleRootConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.CreateMerkleRootConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.CreateMerkleRootConfigIxData.BYTES, AlphaVaultProgram.CreateMerkleRootConfigIxData::read);
+  }
+
+  public CreateMerkleRootConfigParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, CreateMerkleRootConfigParams.BYTES, CreateMerkleRootConfigParams::read);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreatePermissionedEscrowWithAuthorityIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.CREATE_PERMISSIONED_ESCROW_WITH_AUTHORITY_DISCRIMINATOR.data(), 0);
+
+  private static final int MAX_CAP_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreatePermissionedEscrowWithAuthorityIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreatePermissionedEscrowWithAuthorityIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreatePermissionedEscrowWithAuthorityIxDataSegmentView(segment, offset);
+  }
+
+  public static CreatePermissionedEscrowWithAuthorityIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreatePermissionedEscrowWithAuthorityIxDataSegmentView(segment, 0);
+  }
+
+  public CreatePermissionedEscrowWithAuthorityIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreatePermissionedEscrowWithAuthorityIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.CreatePermissionedEscrowWithAuthorityIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.CreatePermissionedEscrowWithAuthorityIxData.BYTES, AlphaVaultProgram.CreatePermissionedEscrowWithAuthorityIxData::read);
+  }
+
+  public long maxCap() {
+    return getInt64LE(segment, offset + MAX_CAP_OFFSET);
+  }
+}
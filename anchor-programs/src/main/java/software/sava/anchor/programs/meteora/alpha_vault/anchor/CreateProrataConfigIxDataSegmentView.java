@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.ProrataConfigParameters;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateProrataConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.CREATE_PRORATA_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int CONFIG_PARAMETERS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateProrataConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateProrataConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateProrataConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateProrataConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateProrataConfigIxDataSegmentView(segment, 0);
+  }
+
+  public CreateProrataConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateProrataConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.CreateProrataConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.CreateProrataConfigIxData.BYTES, AlphaVaultProgram.CreateProrataConfigIxData::read);
+  }
+
+  public ProrataConfigParameters configParameters() {
+    return MemorySegmentUtil.read(segment, offset + CONFIG_PARAMETERS_OFFSET, ProrataConfigParameters.BYTES, ProrataConfigParameters::read);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class DepositIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.DEPOSIT_DISCRIMINATOR.data(), 0);
+
+  private static final int MAX_AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private DepositIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static DepositIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new DepositIxDataSegmentView(segment, offset);
+  }
+
+  public static DepositIxDataSegmentView wrap(final MemorySegment segment) {
+    return new DepositIxDataSegmentView(segment, 0);
+  }
+
+  public DepositIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public DepositIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.DepositIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.DepositIxData.BYTES, AlphaVaultProgram.DepositIxData::read);
+  }
+
+  public long maxAmount() {
+    return getInt64LE(segment, offset + MAX_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class FillDynamicAmmIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.FILL_DYNAMIC_AMM_DISCRIMINATOR.data(), 0);
+
+  private static final int MAX_AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FillDynamicAmmIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FillDynamicAmmIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FillDynamicAmmIxDataSegmentView(segment, offset);
+  }
+
+  public static FillDynamicAmmIxDataSegmentView wrap(final MemorySegment segment) {
+    return new FillDynamicAmmIxDataSegmentView(segment, 0);
+  }
+
+  public FillDynamicAmmIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FillDynamicAmmIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.FillDynamicAmmIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.FillDynamicAmmIxData.BYTES, AlphaVaultProgram.FillDynamicAmmIxData::read);
+  }
+
+  public long maxAmount() {
+    return getInt64LE(segment, offset + MAX_AMOUNT_OFFSET);
+  }
+}
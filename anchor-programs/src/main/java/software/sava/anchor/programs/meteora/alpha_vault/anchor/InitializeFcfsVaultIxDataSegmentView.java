@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.InitializeFcfsVaultParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeFcfsVaultIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.INITIALIZE_FCFS_VAULT_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeFcfsVaultIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeFcfsVaultIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeFcfsVaultIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeFcfsVaultIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeFcfsVaultIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeFcfsVaultIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeFcfsVaultIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.InitializeFcfsVaultIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.InitializeFcfsVaultIxData.BYTES, AlphaVaultProgram.InitializeFcfsVaultIxData::read);
+  }
+
+  public InitializeFcfsVaultParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, InitializeFcfsVaultParams.BYTES, InitializeFcfsVaultParams::read);
+  }
+}
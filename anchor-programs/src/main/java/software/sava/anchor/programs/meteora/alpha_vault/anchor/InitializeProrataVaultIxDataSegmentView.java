@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.InitializeProrataVaultParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class InitializeProrataVaultIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.INITIALIZE_PRORATA_VAULT_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private InitializeProrataVaultIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static InitializeProrataVaultIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new InitializeProrataVaultIxDataSegmentView(segment, offset);
+  }
+
+  public static InitializeProrataVaultIxDataSegmentView wrap(final MemorySegment segment) {
+    return new InitializeProrataVaultIxDataSegmentView(segment, 0);
+  }
+
+  public InitializeProrataVaultIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public InitializeProrataVaultIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.InitializeProrataVaultIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.InitializeProrataVaultIxData.BYTES, AlphaVaultProgram.InitializeProrataVaultIxData::read);
+  }
+
+  public InitializeProrataVaultParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, InitializeProrataVaultParams.BYTES, InitializeProrataVaultParams::read);
+  }
+}
@@ -0,0 +1,64 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Instruction data, starting with the instruction discriminator.
+public final class TransferVaultAuthorityIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.TRANSFER_VAULT_AUTHORITY_DISCRIMINATOR.data(), 0);
+
+  private static final int NEW_AUTHORITY_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TransferVaultAuthorityIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TransferVaultAuthorityIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TransferVaultAuthorityIxDataSegmentView(segment, offset);
+  }
+
+  public static TransferVaultAuthorityIxDataSegmentView wrap(final MemorySegment segment) {
+    return new TransferVaultAuthorityIxDataSegmentView(segment, 0);
+  }
+
+  public TransferVaultAuthorityIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TransferVaultAuthorityIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.TransferVaultAuthorityIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.TransferVaultAuthorityIxData.BYTES, AlphaVaultProgram.TransferVaultAuthorityIxData::read);
+  }
+
+  public PublicKey newAuthority() {
+    return readPubKey(segment, offset + NEW_AUTHORITY_OFFSET);
+  }
+}
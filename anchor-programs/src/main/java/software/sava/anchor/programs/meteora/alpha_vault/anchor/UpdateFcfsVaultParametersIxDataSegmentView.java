@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.anchor.types.UpdateFcfsVaultParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UpdateFcfsVaultParametersIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.UPDATE_FCFS_VAULT_PARAMETERS_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAMS_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdateFcfsVaultParametersIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdateFcfsVaultParametersIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdateFcfsVaultParametersIxDataSegmentView(segment, offset);
+  }
+
+  public static UpdateFcfsVaultParametersIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UpdateFcfsVaultParametersIxDataSegmentView(segment, 0);
+  }
+
+  public UpdateFcfsVaultParametersIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdateFcfsVaultParametersIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultProgram.UpdateFcfsVaultParametersIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultProgram.UpdateFcfsVaultParametersIxData.BYTES, AlphaVaultProgram.UpdateFcfsVaultParametersIxData::read);
+  }
+
+  public UpdateFcfsVaultParams params() {
+    return MemorySegmentUtil.read(segment, offset + PARAMS_OFFSET, UpdateFcfsVaultParams.BYTES, UpdateFcfsVaultParams::read);
+  }
+}
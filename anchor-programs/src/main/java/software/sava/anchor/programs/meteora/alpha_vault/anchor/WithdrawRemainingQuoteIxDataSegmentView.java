@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.meteora.alpha_vault.AlphaVaultInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class WithdrawRemainingQuoteIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(AlphaVaultProgram.WITHDRAW_REMAINING_QUOTE_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private WithdrawRemainingQuoteIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static WithdrawRemainingQuoteIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new WithdrawRemainingQuoteIxDataSegmentView(segment, offset);
+  }
+
+  public static WithdrawRemainingQuoteIxDataSegmentView wrap(final MemorySegment segment) {
+    return new WithdrawRemainingQuoteIxDataSegmentView(segment, 0);
+  }
+
+  public WithdrawRemainingQuoteIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public WithdrawRemainingQuoteIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public AlphaVaultInstructionDecoder.WithdrawRemainingQuoteIxData read() {
+    return MemorySegmentUtil.read(segment, offset, AlphaVaultInstructionDecoder.WithdrawRemainingQuoteIxData.BYTES, AlphaVaultInstructionDecoder.WithdrawRemainingQuoteIxData::read);
+  }
+}
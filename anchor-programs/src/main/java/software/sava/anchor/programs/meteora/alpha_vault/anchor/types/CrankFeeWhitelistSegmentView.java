@@ -0,0 +1,61 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class CrankFeeWhitelistSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(CrankFeeWhitelist.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CrankFeeWhitelistSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CrankFeeWhitelistSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CrankFeeWhitelistSegmentView(segment, offset);
+  }
+
+  public static CrankFeeWhitelistSegmentView wrap(final MemorySegment segment) {
+    return new CrankFeeWhitelistSegmentView(segment, 0);
+  }
+
+  public CrankFeeWhitelistSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CrankFeeWhitelistSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public CrankFeeWhitelist read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, CrankFeeWhitelist.BYTES, CrankFeeWhitelist::read);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + CrankFeeWhitelist.OWNER_OFFSET);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class CrankFeeWhitelistView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(CrankFeeWhitelist.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private CrankFeeWhitelistView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static CrankFeeWhitelistView wrap(final byte[] _data, final int offset) {
+    return new CrankFeeWhitelistView(_data, offset);
+  }
+
+  public static CrankFeeWhitelistView wrap(final byte[] _data) {
+    return new CrankFeeWhitelistView(_data, 0);
+  }
+
+  public CrankFeeWhitelistView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public CrankFeeWhitelistView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public CrankFeeWhitelist read(final PublicKey _address) {
+    return CrankFeeWhitelist.read(_address, _data, offset);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(_data, offset + CrankFeeWhitelist.OWNER_OFFSET);
+  }
+}
@@ -0,0 +1,77 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class EscrowClaimTokenSegmentView {
+
+  private static final int VAULT_OFFSET = 0;
+  private static final int ESCROW_OFFSET = VAULT_OFFSET + 32;
+  private static final int OWNER_OFFSET = ESCROW_OFFSET + 32;
+  private static final int AMOUNT_OFFSET = OWNER_OFFSET + 32;
+  private static final int VAULT_TOTAL_CLAIMED_TOKEN_OFFSET = AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EscrowClaimTokenSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EscrowClaimTokenSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EscrowClaimTokenSegmentView(segment, offset);
+  }
+
+  public static EscrowClaimTokenSegmentView wrap(final MemorySegment segment) {
+    return new EscrowClaimTokenSegmentView(segment, 0);
+  }
+
+  public EscrowClaimTokenSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EscrowClaimTokenSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public EscrowClaimToken read() {
+    return MemorySegmentUtil.read(segment, offset, EscrowClaimToken.BYTES, EscrowClaimToken::read);
+  }
+
+  public PublicKey vault() {
+    return readPubKey(segment, offset + VAULT_OFFSET);
+  }
+
+  public PublicKey escrow() {
+    return readPubKey(segment, offset + ESCROW_OFFSET);
+  }
+
+  public PublicKey owner() {
+    return readPubKey(segment, offset + OWNER_OFFSET);
+  }
+
+  public long amount() {
+    return getInt64LE(segment, offset + AMOUNT_OFFSET);
+  }
+
+  public long vaultTotalClaimedToken() {
+    return getInt64LE(segment, offset + VAULT_TOTAL_CLAIMED_TOKEN_OFFSET);
+  }
+}
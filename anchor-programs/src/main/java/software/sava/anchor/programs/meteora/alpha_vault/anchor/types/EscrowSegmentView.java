@@ -0,0 +1,98 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class EscrowSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Escrow.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private EscrowSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static EscrowSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new EscrowSegmentView(segment, offset);
+  }
+
+  public static EscrowSegmentView wrap(final MemorySegment segment) {
+    return new EscrowSegmentView(segment, 0);
+  }
+
+  public EscrowSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public EscrowSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Escrow read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Escrow.BYTES, Escrow::read);
+  }
+
+  // vault address
+  public PublicKey vault() {
+    return readPubKey(segment, offset + Escrow.VAULT_OFFSET);
+  }
+
+  // owner
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Escrow.OWNER_OFFSET);
+  }
+
+  // total deposited quote token
+  public long totalDeposit() {
+    return getInt64LE(segment, offset + Escrow.TOTAL_DEPOSIT_OFFSET);
+  }
+
+  // Total token that escrow has claimed
+  public long claimedToken() {
+    return getInt64LE(segment, offset + Escrow.CLAIMED_TOKEN_OFFSET);
+  }
+
+  // Last claimed timestamp
+  public long lastClaimedPoint() {
+    return getInt64LE(segment, offset + Escrow.LAST_CLAIMED_POINT_OFFSET);
+  }
+
+  // Whether owner has claimed for remaining quote token
+  public int refunded() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Escrow.REFUNDED_OFFSET) & 0xFF;
+  }
+
+  // Only has meaning in permissioned vault
+  public long maxCap() {
+    return getInt64LE(segment, offset + Escrow.MAX_CAP_OFFSET);
+  }
+
+  // Only has meaning in pro-rata vault
+  public long withdrawnDepositOverflow() {
+    return getInt64LE(segment, offset + Escrow.WITHDRAWN_DEPOSIT_OVERFLOW_OFFSET);
+  }
+}
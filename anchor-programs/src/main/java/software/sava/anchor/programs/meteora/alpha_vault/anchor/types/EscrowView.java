@@ -0,0 +1,93 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class EscrowView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Escrow.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private EscrowView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static EscrowView wrap(final byte[] _data, final int offset) {
+    return new EscrowView(_data, offset);
+  }
+
+  public static EscrowView wrap(final byte[] _data) {
+    return new EscrowView(_data, 0);
+  }
+
+  public EscrowView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public EscrowView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Escrow read(final PublicKey _address) {
+    return Escrow.read(_address, _data, offset);
+  }
+
+  // vault address
+  public PublicKey vault() {
+    return readPubKey(_data, offset + Escrow.VAULT_OFFSET);
+  }
+
+  // owner
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Escrow.OWNER_OFFSET);
+  }
+
+  // total deposited quote token
+  public long totalDeposit() {
+    return getInt64LE(_data, offset + Escrow.TOTAL_DEPOSIT_OFFSET);
+  }
+
+  // Total token that escrow has claimed
+  public long claimedToken() {
+    return getInt64LE(_data, offset + Escrow.CLAIMED_TOKEN_OFFSET);
+  }
+
+  // Last claimed timestamp
+  public long lastClaimedPoint() {
+    return getInt64LE(_data, offset + Escrow.LAST_CLAIMED_POINT_OFFSET);
+  }
+
+  // Whether owner has claimed for remaining quote token
+  public int refunded() {
+    return _data[offset + Escrow.REFUNDED_OFFSET] & 0xFF;
+  }
+
+  // Only has meaning in permissioned vault
+  public long maxCap() {
+    return getInt64LE(_data, offset + Escrow.MAX_CAP_OFFSET);
+  }
+
+  // Only has meaning in pro-rata vault
+  public long withdrawnDepositOverflow() {
+    return getInt64LE(_data, offset + Escrow.WITHDRAWN_DEPOSIT_OVERFLOW_OFFSET);
+  }
+}
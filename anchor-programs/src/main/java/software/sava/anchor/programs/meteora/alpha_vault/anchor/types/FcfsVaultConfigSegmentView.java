@@ -0,0 +1,85 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+public final class FcfsVaultConfigSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(FcfsVaultConfig.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FcfsVaultConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FcfsVaultConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FcfsVaultConfigSegmentView(segment, offset);
+  }
+
+  public static FcfsVaultConfigSegmentView wrap(final MemorySegment segment) {
+    return new FcfsVaultConfigSegmentView(segment, 0);
+  }
+
+  public FcfsVaultConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FcfsVaultConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public FcfsVaultConfig read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, FcfsVaultConfig.BYTES, FcfsVaultConfig::read);
+  }
+
+  public long maxDepositingCap() {
+    return getInt64LE(segment, offset + FcfsVaultConfig.MAX_DEPOSITING_CAP_OFFSET);
+  }
+
+  public long startVestingDuration() {
+    return getInt64LE(segment, offset + FcfsVaultConfig.START_VESTING_DURATION_OFFSET);
+  }
+
+  public long endVestingDuration() {
+    return getInt64LE(segment, offset + FcfsVaultConfig.END_VESTING_DURATION_OFFSET);
+  }
+
+  public long depositingDurationUntilLastJoinPoint() {
+    return getInt64LE(segment, offset + FcfsVaultConfig.DEPOSITING_DURATION_UNTIL_LAST_JOIN_POINT_OFFSET);
+  }
+
+  public long individualDepositingCap() {
+    return getInt64LE(segment, offset + FcfsVaultConfig.INDIVIDUAL_DEPOSITING_CAP_OFFSET);
+  }
+
+  public long escrowFee() {
+    return getInt64LE(segment, offset + FcfsVaultConfig.ESCROW_FEE_OFFSET);
+  }
+
+  public int activationType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + FcfsVaultConfig.ACTIVATION_TYPE_OFFSET) & 0xFF;
+  }
+}
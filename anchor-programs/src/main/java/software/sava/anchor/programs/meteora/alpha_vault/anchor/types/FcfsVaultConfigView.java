@@ -0,0 +1,80 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class FcfsVaultConfigView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(FcfsVaultConfig.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private FcfsVaultConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static FcfsVaultConfigView wrap(final byte[] _data, final int offset) {
+    return new FcfsVaultConfigView(_data, offset);
+  }
+
+  public static FcfsVaultConfigView wrap(final byte[] _data) {
+    return new FcfsVaultConfigView(_data, 0);
+  }
+
+  public FcfsVaultConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public FcfsVaultConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public FcfsVaultConfig read(final PublicKey _address) {
+    return FcfsVaultConfig.read(_address, _data, offset);
+  }
+
+  public long maxDepositingCap() {
+    return getInt64LE(_data, offset + FcfsVaultConfig.MAX_DEPOSITING_CAP_OFFSET);
+  }
+
+  public long startVestingDuration() {
+    return getInt64LE(_data, offset + FcfsVaultConfig.START_VESTING_DURATION_OFFSET);
+  }
+
+  public long endVestingDuration() {
+    return getInt64LE(_data, offset + FcfsVaultConfig.END_VESTING_DURATION_OFFSET);
+  }
+
+  public long depositingDurationUntilLastJoinPoint() {
+    return getInt64LE(_data, offset + FcfsVaultConfig.DEPOSITING_DURATION_UNTIL_LAST_JOIN_POINT_OFFSET);
+  }
+
+  public long individualDepositingCap() {
+    return getInt64LE(_data, offset + FcfsVaultConfig.INDIVIDUAL_DEPOSITING_CAP_OFFSET);
+  }
+
+  public long escrowFee() {
+    return getInt64LE(_data, offset + FcfsVaultConfig.ESCROW_FEE_OFFSET);
+  }
+
+  public int activationType() {
+    return _data[offset + FcfsVaultConfig.ACTIVATION_TYPE_OFFSET] & 0xFF;
+  }
+}
@@ -0,0 +1,108 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class FcfsVaultCreatedSegmentView {
+
+  private static final int BASE_MINT_OFFSET = 0;
+  private static final int QUOTE_MINT_OFFSET = BASE_MINT_OFFSET + 32;
+  private static final int START_VESTING_POINT_OFFSET = QUOTE_MINT_OFFSET + 32;
+  private static final int END_VESTING_POINT_OFFSET = START_VESTING_POINT_OFFSET + 8;
+  private static final int MAX_DEPOSITING_CAP_OFFSET = END_VESTING_POINT_OFFSET + 8;
+  private static final int POOL_OFFSET = MAX_DEPOSITING_CAP_OFFSET + 8;
+  private static final int POOL_TYPE_OFFSET = POOL_OFFSET + 32;
+  private static final int DEPOSITING_POINT_OFFSET = POOL_TYPE_OFFSET + 1;
+  private static final int INDIVIDUAL_DEPOSITING_CAP_OFFSET = DEPOSITING_POINT_OFFSET + 8;
+  private static final int ESCROW_FEE_OFFSET = INDIVIDUAL_DEPOSITING_CAP_OFFSET + 8;
+  private static final int ACTIVATION_TYPE_OFFSET = ESCROW_FEE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FcfsVaultCreatedSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FcfsVaultCreatedSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FcfsVaultCreatedSegmentView(segment, offset);
+  }
+
+  public static FcfsVaultCreatedSegmentView wrap(final MemorySegment segment) {
+    return new FcfsVaultCreatedSegmentView(segment, 0);
+  }
+
+  public FcfsVaultCreatedSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FcfsVaultCreatedSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public FcfsVaultCreated read() {
+    return MemorySegmentUtil.read(segment, offset, FcfsVaultCreated.BYTES, FcfsVaultCreated::read);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + QUOTE_MINT_OFFSET);
+  }
+
+  public long startVestingPoint() {
+    return getInt64LE(segment, offset + START_VESTING_POINT_OFFSET);
+  }
+
+  public long endVestingPoint() {
+    return getInt64LE(segment, offset + END_VESTING_POINT_OFFSET);
+  }
+
+  public long maxDepositingCap() {
+    return getInt64LE(segment, offset + MAX_DEPOSITING_CAP_OFFSET);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(segment, offset + POOL_OFFSET);
+  }
+
+  public int poolType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + POOL_TYPE_OFFSET) & 0xFF;
+  }
+
+  public long depositingPoint() {
+    return getInt64LE(segment, offset + DEPOSITING_POINT_OFFSET);
+  }
+
+  public long individualDepositingCap() {
+    return getInt64LE(segment, offset + INDIVIDUAL_DEPOSITING_CAP_OFFSET);
+  }
+
+  public long escrowFee() {
+    return getInt64LE(segment, offset + ESCROW_FEE_OFFSET);
+  }
+
+  public int activationType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ACTIVATION_TYPE_OFFSET) & 0xFF;
+  }
+}
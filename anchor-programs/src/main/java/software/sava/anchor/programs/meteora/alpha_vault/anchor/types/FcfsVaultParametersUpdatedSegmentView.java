@@ -0,0 +1,82 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class FcfsVaultParametersUpdatedSegmentView {
+
+  private static final int VAULT_OFFSET = 0;
+  private static final int MAX_DEPOSITING_CAP_OFFSET = VAULT_OFFSET + 32;
+  private static final int START_VESTING_POINT_OFFSET = MAX_DEPOSITING_CAP_OFFSET + 8;
+  private static final int END_VESTING_POINT_OFFSET = START_VESTING_POINT_OFFSET + 8;
+  private static final int DEPOSITING_POINT_OFFSET = END_VESTING_POINT_OFFSET + 8;
+  private static final int INDIVIDUAL_DEPOSITING_CAP_OFFSET = DEPOSITING_POINT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private FcfsVaultParametersUpdatedSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static FcfsVaultParametersUpdatedSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new FcfsVaultParametersUpdatedSegmentView(segment, offset);
+  }
+
+  public static FcfsVaultParametersUpdatedSegmentView wrap(final MemorySegment segment) {
+    return new FcfsVaultParametersUpdatedSegmentView(segment, 0);
+  }
+
+  public FcfsVaultParametersUpdatedSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public FcfsVaultParametersUpdatedSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public FcfsVaultParametersUpdated read() {
+    return MemorySegmentUtil.read(segment, offset, FcfsVaultParametersUpdated.BYTES, FcfsVaultParametersUpdated::read);
+  }
+
+  public PublicKey vault() {
+    return readPubKey(segment, offset + VAULT_OFFSET);
+  }
+
+  public long maxDepositingCap() {
+    return getInt64LE(segment, offset + MAX_DEPOSITING_CAP_OFFSET);
+  }
+
+  public long startVestingPoint() {
+    return getInt64LE(segment, offset + START_VESTING_POINT_OFFSET);
+  }
+
+  public long endVestingPoint() {
+    return getInt64LE(segment, offset + END_VESTING_POINT_OFFSET);
+  }
+
+  public long depositingPoint() {
+    return getInt64LE(segment, offset + DEPOSITING_POINT_OFFSET);
+  }
+
+  public long individualDepositingCap() {
+    return getInt64LE(segment, offset + INDIVIDUAL_DEPOSITING_CAP_OFFSET);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MerkleProofMetadataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MerkleProofMetadata.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MerkleProofMetadataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MerkleProofMetadataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MerkleProofMetadataSegmentView(segment, offset);
+  }
+
+  public static MerkleProofMetadataSegmentView wrap(final MemorySegment segment) {
+    return new MerkleProofMetadataSegmentView(segment, 0);
+  }
+
+  public MerkleProofMetadataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleProofMetadataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  // vault pubkey that config is belong
+  public PublicKey vault() {
+    return readPubKey(segment, offset + MerkleProofMetadata.VAULT_OFFSET);
+  }
+}
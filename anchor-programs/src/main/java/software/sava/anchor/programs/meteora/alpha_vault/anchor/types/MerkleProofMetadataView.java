@@ -0,0 +1,58 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MerkleProofMetadataView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(MerkleProofMetadata.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private MerkleProofMetadataView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MerkleProofMetadataView wrap(final byte[] _data, final int offset) {
+    return new MerkleProofMetadataView(_data, offset);
+  }
+
+  public static MerkleProofMetadataView wrap(final byte[] _data) {
+    return new MerkleProofMetadataView(_data, 0);
+  }
+
+  public MerkleProofMetadataView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleProofMetadataView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MerkleProofMetadata read(final PublicKey _address) {
+    return MerkleProofMetadata.read(_address, _data, offset);
+  }
+
+  // vault pubkey that config is belong
+  public PublicKey vault() {
+    return readPubKey(_data, offset + MerkleProofMetadata.VAULT_OFFSET);
+  }
+}
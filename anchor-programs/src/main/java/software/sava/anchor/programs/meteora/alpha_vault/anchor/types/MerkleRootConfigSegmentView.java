@@ -0,0 +1,73 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class MerkleRootConfigSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(MerkleRootConfig.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MerkleRootConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MerkleRootConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MerkleRootConfigSegmentView(segment, offset);
+  }
+
+  public static MerkleRootConfigSegmentView wrap(final MemorySegment segment) {
+    return new MerkleRootConfigSegmentView(segment, 0);
+  }
+
+  public MerkleRootConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleRootConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MerkleRootConfig read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, MerkleRootConfig.BYTES, MerkleRootConfig::read);
+  }
+
+  // The 256-bit merkle root.
+  public byte[] root() {
+    return copy(segment, offset + MerkleRootConfig.ROOT_OFFSET, 32);
+  }
+
+  // vault pubkey that config is belong
+  public PublicKey vault() {
+    return readPubKey(segment, offset + MerkleRootConfig.VAULT_OFFSET);
+  }
+
+  // version
+  public long version() {
+    return getInt64LE(segment, offset + MerkleRootConfig.VERSION_OFFSET);
+  }
+}
@@ -0,0 +1,71 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.util.Arrays;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class MerkleRootConfigView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(MerkleRootConfig.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private MerkleRootConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static MerkleRootConfigView wrap(final byte[] _data, final int offset) {
+    return new MerkleRootConfigView(_data, offset);
+  }
+
+  public static MerkleRootConfigView wrap(final byte[] _data) {
+    return new MerkleRootConfigView(_data, 0);
+  }
+
+  public MerkleRootConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public MerkleRootConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public MerkleRootConfig read(final PublicKey _address) {
+    return MerkleRootConfig.read(_address, _data, offset);
+  }
+
+  // The 256-bit merkle root.
+  public byte[] root() {
+    final int from = offset + MerkleRootConfig.ROOT_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 32);
+  }
+
+  // vault pubkey that config is belong
+  public PublicKey vault() {
+    return readPubKey(_data, offset + MerkleRootConfig.VAULT_OFFSET);
+  }
+
+  // version
+  public long version() {
+    return getInt64LE(_data, offset + MerkleRootConfig.VERSION_OFFSET);
+  }
+}
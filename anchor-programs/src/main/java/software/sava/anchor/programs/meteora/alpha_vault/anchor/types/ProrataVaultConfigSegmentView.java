@@ -0,0 +1,77 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+public final class ProrataVaultConfigSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(ProrataVaultConfig.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ProrataVaultConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ProrataVaultConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ProrataVaultConfigSegmentView(segment, offset);
+  }
+
+  public static ProrataVaultConfigSegmentView wrap(final MemorySegment segment) {
+    return new ProrataVaultConfigSegmentView(segment, 0);
+  }
+
+  public ProrataVaultConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProrataVaultConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ProrataVaultConfig read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, ProrataVaultConfig.BYTES, ProrataVaultConfig::read);
+  }
+
+  public long maxBuyingCap() {
+    return getInt64LE(segment, offset + ProrataVaultConfig.MAX_BUYING_CAP_OFFSET);
+  }
+
+  public long startVestingDuration() {
+    return getInt64LE(segment, offset + ProrataVaultConfig.START_VESTING_DURATION_OFFSET);
+  }
+
+  public long endVestingDuration() {
+    return getInt64LE(segment, offset + ProrataVaultConfig.END_VESTING_DURATION_OFFSET);
+  }
+
+  public long escrowFee() {
+    return getInt64LE(segment, offset + ProrataVaultConfig.ESCROW_FEE_OFFSET);
+  }
+
+  public int activationType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ProrataVaultConfig.ACTIVATION_TYPE_OFFSET) & 0xFF;
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class ProrataVaultConfigView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(ProrataVaultConfig.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private ProrataVaultConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ProrataVaultConfigView wrap(final byte[] _data, final int offset) {
+    return new ProrataVaultConfigView(_data, offset);
+  }
+
+  public static ProrataVaultConfigView wrap(final byte[] _data) {
+    return new ProrataVaultConfigView(_data, 0);
+  }
+
+  public ProrataVaultConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProrataVaultConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public ProrataVaultConfig read(final PublicKey _address) {
+    return ProrataVaultConfig.read(_address, _data, offset);
+  }
+
+  public long maxBuyingCap() {
+    return getInt64LE(_data, offset + ProrataVaultConfig.MAX_BUYING_CAP_OFFSET);
+  }
+
+  public long startVestingDuration() {
+    return getInt64LE(_data, offset + ProrataVaultConfig.START_VESTING_DURATION_OFFSET);
+  }
+
+  public long endVestingDuration() {
+    return getInt64LE(_data, offset + ProrataVaultConfig.END_VESTING_DURATION_OFFSET);
+  }
+
+  public long escrowFee() {
+    return getInt64LE(_data, offset + ProrataVaultConfig.ESCROW_FEE_OFFSET);
+  }
+
+  public int activationType() {
+    return _data[offset + ProrataVaultConfig.ACTIVATION_TYPE_OFFSET] & 0xFF;
+  }
+}
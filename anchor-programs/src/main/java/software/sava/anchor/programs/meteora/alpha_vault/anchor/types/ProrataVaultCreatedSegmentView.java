@@ -0,0 +1,98 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ProrataVaultCreatedSegmentView {
+
+  private static final int BASE_MINT_OFFSET = 0;
+  private static final int QUOTE_MINT_OFFSET = BASE_MINT_OFFSET + 32;
+  private static final int START_VESTING_POINT_OFFSET = QUOTE_MINT_OFFSET + 32;
+  private static final int END_VESTING_POINT_OFFSET = START_VESTING_POINT_OFFSET + 8;
+  private static final int MAX_BUYING_CAP_OFFSET = END_VESTING_POINT_OFFSET + 8;
+  private static final int POOL_OFFSET = MAX_BUYING_CAP_OFFSET + 8;
+  private static final int POOL_TYPE_OFFSET = POOL_OFFSET + 32;
+  private static final int ESCROW_FEE_OFFSET = POOL_TYPE_OFFSET + 1;
+  private static final int ACTIVATION_TYPE_OFFSET = ESCROW_FEE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ProrataVaultCreatedSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ProrataVaultCreatedSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ProrataVaultCreatedSegmentView(segment, offset);
+  }
+
+  public static ProrataVaultCreatedSegmentView wrap(final MemorySegment segment) {
+    return new ProrataVaultCreatedSegmentView(segment, 0);
+  }
+
+  public ProrataVaultCreatedSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProrataVaultCreatedSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ProrataVaultCreated read() {
+    return MemorySegmentUtil.read(segment, offset, ProrataVaultCreated.BYTES, ProrataVaultCreated::read);
+  }
+
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + BASE_MINT_OFFSET);
+  }
+
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + QUOTE_MINT_OFFSET);
+  }
+
+  public long startVestingPoint() {
+    return getInt64LE(segment, offset + START_VESTING_POINT_OFFSET);
+  }
+
+  public long endVestingPoint() {
+    return getInt64LE(segment, offset + END_VESTING_POINT_OFFSET);
+  }
+
+  public long maxBuyingCap() {
+    return getInt64LE(segment, offset + MAX_BUYING_CAP_OFFSET);
+  }
+
+  public PublicKey pool() {
+    return readPubKey(segment, offset + POOL_OFFSET);
+  }
+
+  public int poolType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + POOL_TYPE_OFFSET) & 0xFF;
+  }
+
+  public long escrowFee() {
+    return getInt64LE(segment, offset + ESCROW_FEE_OFFSET);
+  }
+
+  public int activationType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ACTIVATION_TYPE_OFFSET) & 0xFF;
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ProrataVaultParametersUpdatedSegmentView {
+
+  private static final int VAULT_OFFSET = 0;
+  private static final int MAX_BUYING_CAP_OFFSET = VAULT_OFFSET + 32;
+  private static final int START_VESTING_POINT_OFFSET = MAX_BUYING_CAP_OFFSET + 8;
+  private static final int END_VESTING_POINT_OFFSET = START_VESTING_POINT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ProrataVaultParametersUpdatedSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ProrataVaultParametersUpdatedSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ProrataVaultParametersUpdatedSegmentView(segment, offset);
+  }
+
+  public static ProrataVaultParametersUpdatedSegmentView wrap(final MemorySegment segment) {
+    return new ProrataVaultParametersUpdatedSegmentView(segment, 0);
+  }
+
+  public ProrataVaultParametersUpdatedSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ProrataVaultParametersUpdatedSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ProrataVaultParametersUpdated read() {
+    return MemorySegmentUtil.read(segment, offset, ProrataVaultParametersUpdated.BYTES, ProrataVaultParametersUpdated::read);
+  }
+
+  public PublicKey vault() {
+    return readPubKey(segment, offset + VAULT_OFFSET);
+  }
+
+  public long maxBuyingCap() {
+    return getInt64LE(segment, offset + MAX_BUYING_CAP_OFFSET);
+  }
+
+  public long startVestingPoint() {
+    return getInt64LE(segment, offset + START_VESTING_POINT_OFFSET);
+  }
+
+  public long endVestingPoint() {
+    return getInt64LE(segment, offset + END_VESTING_POINT_OFFSET);
+  }
+}
@@ -0,0 +1,77 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class SwapFillSegmentView {
+
+  private static final int VAULT_OFFSET = 0;
+  private static final int PAIR_OFFSET = VAULT_OFFSET + 32;
+  private static final int FILL_AMOUNT_OFFSET = PAIR_OFFSET + 32;
+  private static final int PURCHASED_AMOUNT_OFFSET = FILL_AMOUNT_OFFSET + 8;
+  private static final int UNFILLED_AMOUNT_OFFSET = PURCHASED_AMOUNT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SwapFillSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SwapFillSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SwapFillSegmentView(segment, offset);
+  }
+
+  public static SwapFillSegmentView wrap(final MemorySegment segment) {
+    return new SwapFillSegmentView(segment, 0);
+  }
+
+  public SwapFillSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SwapFillSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public SwapFill read() {
+    return MemorySegmentUtil.read(segment, offset, SwapFill.BYTES, SwapFill::read);
+  }
+
+  public PublicKey vault() {
+    return readPubKey(segment, offset + VAULT_OFFSET);
+  }
+
+  public PublicKey pair() {
+    return readPubKey(segment, offset + PAIR_OFFSET);
+  }
+
+  public long fillAmount() {
+    return getInt64LE(segment, offset + FILL_AMOUNT_OFFSET);
+  }
+
+  public long purchasedAmount() {
+    return getInt64LE(segment, offset + PURCHASED_AMOUNT_OFFSET);
+  }
+
+  public long unfilledAmount() {
+    return getInt64LE(segment, offset + UNFILLED_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,193 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class VaultSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(Vault.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private VaultSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static VaultSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new VaultSegmentView(segment, offset);
+  }
+
+  public static VaultSegmentView wrap(final MemorySegment segment) {
+    return new VaultSegmentView(segment, 0);
+  }
+
+  public VaultSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Vault read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, Vault.BYTES, Vault::read);
+  }
+
+  // pool
+  public PublicKey pool() {
+    return readPubKey(segment, offset + Vault.POOL_OFFSET);
+  }
+
+  // reserve quote token
+  public PublicKey tokenVault() {
+    return readPubKey(segment, offset + Vault.TOKEN_VAULT_OFFSET);
+  }
+
+  // reserve base token
+  public PublicKey tokenOutVault() {
+    return readPubKey(segment, offset + Vault.TOKEN_OUT_VAULT_OFFSET);
+  }
+
+  // quote token
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + Vault.QUOTE_MINT_OFFSET);
+  }
+
+  // base token
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + Vault.BASE_MINT_OFFSET);
+  }
+
+  // base key
+  public PublicKey base() {
+    return readPubKey(segment, offset + Vault.BASE_OFFSET);
+  }
+
+  // owner key, deprecated field, can re-use in the future
+  public PublicKey owner() {
+    return readPubKey(segment, offset + Vault.OWNER_OFFSET);
+  }
+
+  // max buying cap
+  public long maxBuyingCap() {
+    return getInt64LE(segment, offset + Vault.MAX_BUYING_CAP_OFFSET);
+  }
+
+  // total deposited quote token
+  public long totalDeposit() {
+    return getInt64LE(segment, offset + Vault.TOTAL_DEPOSIT_OFFSET);
+  }
+
+  // total user deposit
+  public long totalEscrow() {
+    return getInt64LE(segment, offset + Vault.TOTAL_ESCROW_OFFSET);
+  }
+
+  // swapped_amount
+  public long swappedAmount() {
+    return getInt64LE(segment, offset + Vault.SWAPPED_AMOUNT_OFFSET);
+  }
+
+  // total bought token
+  public long boughtToken() {
+    return getInt64LE(segment, offset + Vault.BOUGHT_TOKEN_OFFSET);
+  }
+
+  // Total quote refund
+  public long totalRefund() {
+    return getInt64LE(segment, offset + Vault.TOTAL_REFUND_OFFSET);
+  }
+
+  // Total claimed_token
+  public long totalClaimedToken() {
+    return getInt64LE(segment, offset + Vault.TOTAL_CLAIMED_TOKEN_OFFSET);
+  }
+
+  // Start vesting ts
+  public long startVestingPoint() {
+    return getInt64LE(segment, offset + Vault.START_VESTING_POINT_OFFSET);
+  }
+
+  // End vesting ts
+  public long endVestingPoint() {
+    return getInt64LE(segment, offset + Vault.END_VESTING_POINT_OFFSET);
+  }
+
+  // bump
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Vault.BUMP_OFFSET) & 0xFF;
+  }
+
+  // pool type
+  public int poolType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Vault.POOL_TYPE_OFFSET) & 0xFF;
+  }
+
+  // vault mode
+  public int vaultMode() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Vault.VAULT_MODE_OFFSET) & 0xFF;
+  }
+
+  // max depositing cap
+  public long maxDepositingCap() {
+    return getInt64LE(segment, offset + Vault.MAX_DEPOSITING_CAP_OFFSET);
+  }
+
+  // individual depositing cap
+  public long individualDepositingCap() {
+    return getInt64LE(segment, offset + Vault.INDIVIDUAL_DEPOSITING_CAP_OFFSET);
+  }
+
+  // depositing point
+  public long depositingPoint() {
+    return getInt64LE(segment, offset + Vault.DEPOSITING_POINT_OFFSET);
+  }
+
+  // flat fee when user open an escrow
+  public long escrowFee() {
+    return getInt64LE(segment, offset + Vault.ESCROW_FEE_OFFSET);
+  }
+
+  // total escrow fee just for statistic
+  public long totalEscrowFee() {
+    return getInt64LE(segment, offset + Vault.TOTAL_ESCROW_FEE_OFFSET);
+  }
+
+  // deposit whitelist mode
+  public int whitelistMode() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Vault.WHITELIST_MODE_OFFSET) & 0xFF;
+  }
+
+  // activation type
+  public int activationType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + Vault.ACTIVATION_TYPE_OFFSET) & 0xFF;
+  }
+
+  // vault authority normally is vault creator, will be able to create merkle root config
+  public PublicKey vaultAuthority() {
+    return readPubKey(segment, offset + Vault.VAULT_AUTHORITY_OFFSET);
+  }
+}
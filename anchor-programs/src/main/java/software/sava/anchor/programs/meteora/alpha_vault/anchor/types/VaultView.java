@@ -0,0 +1,188 @@
+package software.sava.anchor.programs.meteora.alpha_vault.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class VaultView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(Vault.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private VaultView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static VaultView wrap(final byte[] _data, final int offset) {
+    return new VaultView(_data, offset);
+  }
+
+  public static VaultView wrap(final byte[] _data) {
+    return new VaultView(_data, 0);
+  }
+
+  public VaultView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public VaultView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public Vault read(final PublicKey _address) {
+    return Vault.read(_address, _data, offset);
+  }
+
+  // pool
+  public PublicKey pool() {
+    return readPubKey(_data, offset + Vault.POOL_OFFSET);
+  }
+
+  // reserve quote token
+  public PublicKey tokenVault() {
+    return readPubKey(_data, offset + Vault.TOKEN_VAULT_OFFSET);
+  }
+
+  // reserve base token
+  public PublicKey tokenOutVault() {
+    return readPubKey(_data, offset + Vault.TOKEN_OUT_VAULT_OFFSET);
+  }
+
+  // quote token
+  public PublicKey quoteMint() {
+    return readPubKey(_data, offset + Vault.QUOTE_MINT_OFFSET);
+  }
+
+  // base token
+  public PublicKey baseMint() {
+    return readPubKey(_data, offset + Vault.BASE_MINT_OFFSET);
+  }
+
+  // base key
+  public PublicKey base() {
+    return readPubKey(_data, offset + Vault.BASE_OFFSET);
+  }
+
+  // owner key, deprecated field, can re-use in the future
+  public PublicKey owner() {
+    return readPubKey(_data, offset + Vault.OWNER_OFFSET);
+  }
+
+  // max buying cap
+  public long maxBuyingCap() {
+    return getInt64LE(_data, offset + Vault.MAX_BUYING_CAP_OFFSET);
+  }
+
+  // total deposited quote token
+  public long totalDeposit() {
+    return getInt64LE(_data, offset + Vault.TOTAL_DEPOSIT_OFFSET);
+  }
+
+  // total user deposit
+  public long totalEscrow() {
+    return getInt64LE(_data, offset + Vault.TOTAL_ESCROW_OFFSET);
+  }
+
+  // swapped_amount
+  public long swappedAmount() {
+    return getInt64LE(_data, offset + Vault.SWAPPED_AMOUNT_OFFSET);
+  }
+
+  // total bought token
+  public long boughtToken() {
+    return getInt64LE(_data, offset + Vault.BOUGHT_TOKEN_OFFSET);
+  }
+
+  // Total quote refund
+  public long totalRefund() {
+    return getInt64LE(_data, offset + Vault.TOTAL_REFUND_OFFSET);
+  }
+
+  // Total claimed_token
+  public long totalClaimedToken() {
+    return getInt64LE(_data, offset + Vault.TOTAL_CLAIMED_TOKEN_OFFSET);
+  }
+
+  // Start vesting ts
+  public long startVestingPoint() {
+    return getInt64LE(_data, offset + Vault.START_VESTING_POINT_OFFSET);
+  }
+
+  // End vesting ts
+  public long endVestingPoint() {
+    return getInt64LE(_data, offset + Vault.END_VESTING_POINT_OFFSET);
+  }
+
+  // bump
+  public int bump() {
+    return _data[offset + Vault.BUMP_OFFSET] & 0xFF;
+  }
+
+  // pool type
+  public int poolType() {
+    return _data[offset + Vault.POOL_TYPE_OFFSET] & 0xFF;
+  }
+
+  // vault mode
+  public int vaultMode() {
+    return _data[offset + Vault.VAULT_MODE_OFFSET] & 0xFF;
+  }
+
+  // max depositing cap
+  public long maxDepositingCap() {
+    return getInt64LE(_data, offset + Vault.MAX_DEPOSITING_CAP_OFFSET);
+  }
+
+  // individual depositing cap
+  public long individualDepositingCap() {
+    return getInt64LE(_data, offset + Vault.INDIVIDUAL_DEPOSITING_CAP_OFFSET);
+  }
+
+  // depositing point
+  public long depositingPoint() {
+    return getInt64LE(_data, offset + Vault.DEPOSITING_POINT_OFFSET);
+  }
+
+  // flat fee when user open an escrow
+  public long escrowFee() {
+    return getInt64LE(_data, offset + Vault.ESCROW_FEE_OFFSET);
+  }
+
+  // total escrow fee just for statistic
+  public long totalEscrowFee() {
+    return getInt64LE(_data, offset + Vault.TOTAL_ESCROW_FEE_OFFSET);
+  }
+
+  // deposit whitelist mode
+  public int whitelistMode() {
+    return _data[offset + Vault.WHITELIST_MODE_OFFSET] & 0xFF;
+  }
+
+  // activation type
+  public int activationType() {
+    return _data[offset + Vault.ACTIVATION_TYPE_OFFSET] & 0xFF;
+  }
+
+  // vault authority normally is vault creator, will be able to create merkle root config
+  public PublicKey vaultAuthority() {
+    return readPubKey(_data, offset + Vault.VAULT_AUTHORITY_OFFSET);
+  }
+}
@@ -0,0 +1,363 @@
+package software.sava.anchor.programs.moonshot;
+
+import software.sava.anchor.programs.moonshot.anchor.types.ConfigAccount;
+import software.sava.anchor.programs.moonshot.anchor.types.CurveAccount;
+import software.sava.anchor.programs.moonshot.anchor.types.CurveType;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static software.sava.anchor.programs._commons.U64Math.mulDiv;
+import static software.sava.anchor.programs._commons.U64Math.mulDivCeil;
+
+// Local quotes and inverse quotes for Moonshot curves, in raw token and collateral units.
+//
+// With x the tokens sold so far, totalSupply - curveAmount:
+//   ConstantProductV1: (initialVirtualTokenReserves - x) * virtualCollateralReserves = k,
+//                      k = initialVirtualTokenReserves * initialVirtualCollateralReserves
+//   LinearV1: price(x) = (linearSlope * x / linearSlopeDenominator + coefB) / linearPriceDenominator
+// The platform fee, ConfigAccount.feeBps, is charged in collateral on top of buys and taken out of sells.
+// Rounding always favours the curve. Unfillable trades return -1 rather than throwing.
+//
+// Constant product quotes only use long arithmetic and do not allocate. The quadratic LinearV1 terms overflow 128
+// bits and go through BigInteger. The curve constants are not stored on chain, supply those of the deployed program.
+// A migration is due once the market cap, price(x) * totalSupply, reaches the curve's marketcapThreshold.
+public final class MoonshotQuoteEngine {
+
+  public static final int BPS_DENOMINATOR = 10_000;
+
+  public static final int LINEAR_V1 = CurveType.LinearV1.ordinal();
+  public static final int CONSTANT_PRODUCT_V1 = CurveType.ConstantProductV1.ordinal();
+
+  public record CurveConstants(long initialVirtualTokenReserves,
+                               long initialVirtualCollateralReserves,
+                               long linearSlope,
+                               long linearSlopeDenominator,
+                               long linearPriceDenominator) {
+  }
+
+  private final CurveConstants constants;
+  private final long feeBps;
+  private final BigInteger slope;
+  private final BigInteger slopeDenominator;
+  private final BigInteger priceDenominator;
+
+  private MoonshotQuoteEngine(final CurveConstants constants, final long feeBps) {
+    this.constants = constants;
+    this.feeBps = feeBps;
+    this.slope = BigInteger.valueOf(constants.linearSlope());
+    this.slopeDenominator = BigInteger.valueOf(constants.linearSlopeDenominator());
+    this.priceDenominator = BigInteger.valueOf(constants.linearPriceDenominator());
+  }
+
+  public static MoonshotQuoteEngine createEngine(final CurveConstants constants, final int feeBps) {
+    return new MoonshotQuoteEngine(constants, feeBps);
+  }
+
+  public static MoonshotQuoteEngine createEngine(final CurveConstants constants, final ConfigAccount configAccount) {
+    return new MoonshotQuoteEngine(constants, configAccount.feeBps());
+  }
+
+  public CurveConstants constants() {
+    return constants;
+  }
+
+  // Tokens received for collateralIn, fee included.
+  public long buyExactIn(final int curveType,
+                         final long totalSupply,
+                         final long curveAmount,
+                         final int coefB,
+                         final long collateralIn) {
+    final long collateral = mulDiv(collateralIn, BPS_DENOMINATOR, BPS_DENOMINATOR + feeBps);
+    final long sold = totalSupply - curveAmount;
+    final long tokens;
+    if (curveType == CONSTANT_PRODUCT_V1) {
+      final long tokenReserves = constants.initialVirtualTokenReserves() - sold;
+      if (tokenReserves <= 0) {
+        return -1;
+      }
+      final long collateralReserves = virtualCollateralReserves(tokenReserves);
+      tokens = tokenReserves - mulDivCeil(
+          constants.initialVirtualTokenReserves(), constants.initialVirtualCollateralReserves(),
+          Math.addExact(collateralReserves, collateral)
+      );
+    } else {
+      tokens = linearTokensFor(sold, coefB, BigInteger.valueOf(collateral));
+    }
+    return tokens > curveAmount ? -1 : Math.max(0, tokens);
+  }
+
+  // Collateral paid for tokenOut, fee included.
+  public long buyExactOut(final int curveType,
+                          final long totalSupply,
+                          final long curveAmount,
+                          final int coefB,
+                          final long tokenOut) {
+    if (tokenOut > curveAmount) {
+      return -1;
+    }
+    final long sold = totalSupply - curveAmount;
+    final long collateral;
+    if (curveType == CONSTANT_PRODUCT_V1) {
+      final long tokenReserves = constants.initialVirtualTokenReserves() - sold;
+      if (tokenOut >= tokenReserves) {
+        return -1;
+      }
+      collateral = mulDivCeil(
+          constants.initialVirtualTokenReserves(), constants.initialVirtualCollateralReserves(),
+          tokenReserves - tokenOut
+      ) - virtualCollateralReserves(tokenReserves);
+    } else {
+      collateral = linearCollateral(sold, sold + tokenOut, coefB, true);
+    }
+    return collateral + fee(collateral);
+  }
+
+  // Collateral received for tokenIn, net of the fee.
+  public long sellExactIn(final int curveType,
+                          final long totalSupply,
+                          final long curveAmount,
+                          final int coefB,
+                          final long tokenIn) {
+    final long sold = totalSupply - curveAmount;
+    if (tokenIn > sold) {
+      return -1;
+    }
+    final long collateral;
+    if (curveType == CONSTANT_PRODUCT_V1) {
+      final long tokenReserves = constants.initialVirtualTokenReserves() - sold;
+      if (tokenReserves <= 0) {
+        return -1;
+      }
+      collateral = virtualCollateralReserves(tokenReserves) - mulDivCeil(
+          constants.initialVirtualTokenReserves(), constants.initialVirtualCollateralReserves(),
+          Math.addExact(tokenReserves, tokenIn)
+      );
+    } else {
+      collateral = linearCollateral(sold - tokenIn, sold, coefB, false);
+    }
+    return Math.max(0, collateral - fee(collateral));
+  }
+
+  // Tokens to sell to receive collateralOut, net of the fee.
+  public long sellExactOut(final int curveType,
+                           final long totalSupply,
+                           final long curveAmount,
+                           final int coefB,
+                           final long collateralOut) {
+    if (feeBps >= BPS_DENOMINATOR) {
+      return -1;
+    }
+    long collateral = mulDivCeil(collateralOut, BPS_DENOMINATOR, BPS_DENOMINATOR - feeBps);
+    while (collateral - fee(collateral) < collateralOut) {
+      ++collateral;
+    }
+    final long sold = totalSupply - curveAmount;
+    final long tokens;
+    if (curveType == CONSTANT_PRODUCT_V1) {
+      final long tokenReserves = constants.initialVirtualTokenReserves() - sold;
+      if (tokenReserves <= 0) {
+        return -1;
+      }
+      final long collateralReserves = virtualCollateralReserves(tokenReserves);
+      if (collateral >= collateralReserves) {
+        return -1;
+      }
+      tokens = mulDivCeil(
+          constants.initialVirtualTokenReserves(), constants.initialVirtualCollateralReserves(),
+          collateralReserves - collateral
+      ) - tokenReserves;
+    } else {
+      // the largest x1 for which collateral(x1, sold) still covers the requested amount
+      final var remaining = linearIntegral(BigInteger.valueOf(sold), coefB)
+          .subtract(BigInteger.valueOf(collateral).multiply(linearDenominator()));
+      if (remaining.signum() < 0) {
+        return -1;
+      }
+      tokens = sold - solveLinear(remaining, coefB);
+    }
+    return tokens > sold ? -1 : tokens;
+  }
+
+  // Market cap in collateral units at the current curve position.
+  public long marketcap(final int curveType, final long totalSupply, final long curveAmount, final int coefB) {
+    final long sold = totalSupply - curveAmount;
+    if (curveType == CONSTANT_PRODUCT_V1) {
+      final long tokenReserves = constants.initialVirtualTokenReserves() - sold;
+      return mulDiv(virtualCollateralReserves(tokenReserves), totalSupply, tokenReserves);
+    } else {
+      // (slope * sold + coefB * slopeDenominator) * totalSupply / (slopeDenominator * priceDenominator)
+      return slope.multiply(BigInteger.valueOf(sold))
+          .add(BigInteger.valueOf(coefB).multiply(slopeDenominator))
+          .multiply(BigInteger.valueOf(totalSupply))
+          .divide(slopeDenominator.multiply(priceDenominator))
+          .longValueExact();
+    }
+  }
+
+  public long buyExactIn(final CurveAccount curve, final long collateralIn) {
+    return buyExactIn(curve.curveType().ordinal(), curve.totalSupply(), curve.curveAmount(), curve.coefB(), collateralIn);
+  }
+
+  public long buyExactOut(final CurveAccount curve, final long tokenOut) {
+    return buyExactOut(curve.curveType().ordinal(), curve.totalSupply(), curve.curveAmount(), curve.coefB(), tokenOut);
+  }
+
+  public long sellExactIn(final CurveAccount curve, final long tokenIn) {
+    return sellExactIn(curve.curveType().ordinal(), curve.totalSupply(), curve.curveAmount(), curve.coefB(), tokenIn);
+  }
+
+  public long sellExactOut(final CurveAccount curve, final long collateralOut) {
+    return sellExactOut(curve.curveType().ordinal(), curve.totalSupply(), curve.curveAmount(), curve.coefB(), collateralOut);
+  }
+
+  public long marketcap(final CurveAccount curve) {
+    return marketcap(curve.curveType().ordinal(), curve.totalSupply(), curve.curveAmount(), curve.coefB());
+  }
+
+  public boolean migrationDue(final CurveAccount curve) {
+    return marketcap(curve) >= curve.marketcapThreshold();
+  }
+
+  // Whether buying tokenOut would take the curve to its migration threshold.
+  public boolean migratesAfterBuy(final CurveAccount curve, final long tokenOut) {
+    return tokenOut >= curve.curveAmount() || marketcap(
+        curve.curveType().ordinal(), curve.totalSupply(), curve.curveAmount() - tokenOut, curve.coefB()
+    ) >= curve.marketcapThreshold();
+  }
+
+  // Flat columns of many curves for batch quoting, indexed by the order curves were added.
+  public static final class Curves {
+
+    private int numCurves;
+    private byte[] curveTypes;
+    private long[] totalSupply;
+    private long[] curveAmount;
+    private int[] coefB;
+    private long[] marketcapThreshold;
+
+    private Curves(final int capacity) {
+      final int length = Math.max(1, capacity);
+      this.curveTypes = new byte[length];
+      this.totalSupply = new long[length];
+      this.curveAmount = new long[length];
+      this.coefB = new int[length];
+      this.marketcapThreshold = new long[length];
+    }
+
+    public static Curves createCurves(final int capacity) {
+      return new Curves(capacity);
+    }
+
+    public int add(final CurveAccount curve) {
+      if (numCurves == totalSupply.length) {
+        final int length = numCurves << 1;
+        curveTypes = Arrays.copyOf(curveTypes, length);
+        totalSupply = Arrays.copyOf(totalSupply, length);
+        curveAmount = Arrays.copyOf(curveAmount, length);
+        coefB = Arrays.copyOf(coefB, length);
+        marketcapThreshold = Arrays.copyOf(marketcapThreshold, length);
+      }
+      final int index = numCurves++;
+      set(index, curve);
+      return index;
+    }
+
+    public void set(final int index, final CurveAccount curve) {
+      curveTypes[index] = (byte) curve.curveType().ordinal();
+      totalSupply[index] = curve.totalSupply();
+      curveAmount[index] = curve.curveAmount();
+      coefB[index] = curve.coefB();
+      marketcapThreshold[index] = curve.marketcapThreshold();
+    }
+
+    // Applies a trade to the curve, e.g. from a TradeEvent, without re-reading the account.
+    public void setCurveAmount(final int index, final long curveAmount) {
+      this.curveAmount[index] = curveAmount;
+    }
+
+    public int numCurves() {
+      return numCurves;
+    }
+  }
+
+  private static final int PARALLEL_THRESHOLD = 1 << 10;
+
+  private static IntStream range(final int len) {
+    final var range = IntStream.range(0, len);
+    return len >= PARALLEL_THRESHOLD ? range.parallel() : range;
+  }
+
+  public void buyExactIn(final Curves curves, final long collateralIn, final long[] tokensOut) {
+    range(curves.numCurves).forEach(i -> tokensOut[i] = buyExactIn(
+        curves.curveTypes[i], curves.totalSupply[i], curves.curveAmount[i], curves.coefB[i], collateralIn
+    ));
+  }
+
+  public void buyExactOut(final Curves curves, final long tokenOut, final long[] collateralIn) {
+    range(curves.numCurves).forEach(i -> collateralIn[i] = buyExactOut(
+        curves.curveTypes[i], curves.totalSupply[i], curves.curveAmount[i], curves.coefB[i], tokenOut
+    ));
+  }
+
+  public void sellExactIn(final Curves curves, final long tokenIn, final long[] collateralOut) {
+    range(curves.numCurves).forEach(i -> collateralOut[i] = sellExactIn(
+        curves.curveTypes[i], curves.totalSupply[i], curves.curveAmount[i], curves.coefB[i], tokenIn
+    ));
+  }
+
+  public void marketcaps(final Curves curves, final long[] marketcaps) {
+    range(curves.numCurves).forEach(i -> marketcaps[i] = marketcap(
+        curves.curveTypes[i], curves.totalSupply[i], curves.curveAmount[i], curves.coefB[i]
+    ));
+  }
+
+  // Indexes of the curves which have reached their migration threshold.
+  public int[] migrationsDue(final Curves curves) {
+    return range(curves.numCurves)
+        .filter(i -> marketcap(curves.curveTypes[i], curves.totalSupply[i], curves.curveAmount[i], curves.coefB[i])
+            >= curves.marketcapThreshold[i])
+        .toArray();
+  }
+
+  private long fee(final long collateral) {
+    return feeBps == 0 ? 0 : mulDivCeil(collateral, feeBps, BPS_DENOMINATOR);
+  }
+
+  private long virtualCollateralReserves(final long tokenReserves) {
+    return mulDiv(constants.initialVirtualTokenReserves(), constants.initialVirtualCollateralReserves(), tokenReserves);
+  }
+
+  private BigInteger linearDenominator() {
+    return slopeDenominator.multiply(priceDenominator).shiftLeft(1);
+  }
+
+  // 2 * slopeDenominator * priceDenominator * the collateral paid to take the curve from 0 to x.
+  private BigInteger linearIntegral(final BigInteger x, final int coefB) {
+    return slope.multiply(x).multiply(x)
+        .add(slopeDenominator.multiply(BigInteger.valueOf(coefB)).multiply(x).shiftLeft(1));
+  }
+
+  private long linearCollateral(final long from, final long to, final int coefB, final boolean roundUp) {
+    final var numerator = linearIntegral(BigInteger.valueOf(to), coefB)
+        .subtract(linearIntegral(BigInteger.valueOf(from), coefB));
+    final var divRem = numerator.divideAndRemainder(linearDenominator());
+    final var collateral = roundUp && divRem[1].signum() != 0 ? divRem[0].add(BigInteger.ONE) : divRem[0];
+    return collateral.longValueExact();
+  }
+
+  // Tokens bought for collateral with sold tokens already out.
+  private long linearTokensFor(final long sold, final int coefB, final BigInteger collateral) {
+    final var integral = linearIntegral(BigInteger.valueOf(sold), coefB).add(collateral.multiply(linearDenominator()));
+    return solveLinear(integral, coefB) - sold;
+  }
+
+  // The largest x for which linearIntegral(x) <= integral.
+  private long solveLinear(final BigInteger integral, final int coefB) {
+    // slope * x^2 + 2 * b * x - integral = 0, b = slopeDenominator * coefB
+    final var b = slopeDenominator.multiply(BigInteger.valueOf(coefB));
+    final var root = b.multiply(b).add(slope.multiply(integral)).sqrt();
+    return root.subtract(b).divide(slope).longValueExact();
+  }
+}
@@ -0,0 +1,38 @@
+package software.sava.anchor.programs.moonshot;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// Moonshot token launchpad program addresses derived through ProgramAddressCache, with bump overloads for bumps read
+// from the derived accounts.
+public final class TokenLaunchpadCachedPDAs {
+
+  private static final byte[] CONFIG_ACCOUNT_SEED = "config_account".getBytes(US_ASCII);
+  private static final byte[] TOKEN_SEED = "token".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress configAccountPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(CONFIG_ACCOUNT_SEED, program);
+  }
+
+  public static ProgramDerivedAddress configAccountPDA(final PublicKey program,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(CONFIG_ACCOUNT_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress curveAccountPDA(final PublicKey program,
+                                                      final PublicKey mintAccount) {
+    return ProgramAddressCache.findProgramAddress(TOKEN_SEED, mintAccount, program);
+  }
+
+  public static ProgramDerivedAddress curveAccountPDA(final PublicKey program,
+                                                      final PublicKey mintAccount,
+                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(TOKEN_SEED, mintAccount, bump, program);
+  }
+
+  private TokenLaunchpadCachedPDAs() {
+  }
+}
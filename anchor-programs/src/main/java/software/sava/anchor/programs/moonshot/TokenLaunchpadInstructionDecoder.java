@@ -0,0 +1,75 @@
+package software.sava.anchor.programs.moonshot;
+
+import software.sava.anchor.programs.moonshot.anchor.TokenLaunchpadProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Moonshot token launchpad instruction data decoded into the TokenLaunchpadProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class TokenLaunchpadInstructionDecoder {
+
+  public record MigrateFundsIxData(Discriminator discriminator) implements Borsh {
+
+    public static MigrateFundsIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MigrateFundsIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MigrateFundsIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(TokenLaunchpadProgram.SELL_DISCRIMINATOR.data(), 0),
+      getInt64LE(TokenLaunchpadProgram.MIGRATE_FUNDS_DISCRIMINATOR.data(), 0),
+      getInt64LE(TokenLaunchpadProgram.TOKEN_MINT_DISCRIMINATOR.data(), 0),
+      getInt64LE(TokenLaunchpadProgram.CONFIG_INIT_DISCRIMINATOR.data(), 0),
+      getInt64LE(TokenLaunchpadProgram.BUY_DISCRIMINATOR.data(), 0),
+      getInt64LE(TokenLaunchpadProgram.CONFIG_UPDATE_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> TokenLaunchpadProgram.SellIxData.read(_data, offset);
+      case 1 -> MigrateFundsIxData.read(_data, offset);
+      case 2 -> TokenLaunchpadProgram.TokenMintIxData.read(_data, offset);
+      case 3 -> TokenLaunchpadProgram.ConfigInitIxData.read(_data, offset);
+      case 4 -> TokenLaunchpadProgram.BuyIxData.read(_data, offset);
+      case 5 -> TokenLaunchpadProgram.ConfigUpdateIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private TokenLaunchpadInstructionDecoder() {
+  }
+}
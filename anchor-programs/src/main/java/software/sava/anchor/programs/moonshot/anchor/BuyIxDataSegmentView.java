@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.moonshot.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.moonshot.anchor.types.TradeParams;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class BuyIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(TokenLaunchpadProgram.BUY_DISCRIMINATOR.data(), 0);
+
+  private static final int DATA_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private BuyIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static BuyIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new BuyIxDataSegmentView(segment, offset);
+  }
+
+  public static BuyIxDataSegmentView wrap(final MemorySegment segment) {
+    return new BuyIxDataSegmentView(segment, 0);
+  }
+
+  public BuyIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public BuyIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public TokenLaunchpadProgram.BuyIxData read() {
+    return MemorySegmentUtil.read(segment, offset, TokenLaunchpadProgram.BuyIxData.BYTES, TokenLaunchpadProgram.BuyIxData::read);
+  }
+
+  public TradeParams data() {
+    return MemorySegmentUtil.read(segment, offset + DATA_OFFSET, TradeParams.BYTES, TradeParams::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.moonshot.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.moonshot.TokenLaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MigrateFundsIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(TokenLaunchpadProgram.MIGRATE_FUNDS_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MigrateFundsIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MigrateFundsIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MigrateFundsIxDataSegmentView(segment, offset);
+  }
+
+  public static MigrateFundsIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MigrateFundsIxDataSegmentView(segment, 0);
+  }
+
+  public MigrateFundsIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MigrateFundsIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public TokenLaunchpadInstructionDecoder.MigrateFundsIxData read() {
+    return MemorySegmentUtil.read(segment, offset, TokenLaunchpadInstructionDecoder.MigrateFundsIxData.BYTES, TokenLaunchpadInstructionDecoder.MigrateFundsIxData::read);
+  }
+}
@@ -0,0 +1,41 @@
+package software.sava.anchor.programs.moonshot.anchor;
+
+import software.sava.anchor.programs.moonshot.anchor.types.ConfigAccount;
+import software.sava.anchor.programs.moonshot.anchor.types.CurveAccount;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class TokenLaunchpadAccounts {
+
+  public static final Discriminator CONFIG_ACCOUNT_ACCOUNT_DISCRIMINATOR = toDiscriminator(189, 255, 97, 70, 186, 189, 24, 102);
+  public static final Discriminator CURVE_ACCOUNT_ACCOUNT_DISCRIMINATOR = toDiscriminator(8, 91, 83, 28, 132, 216, 248, 22);
+
+  public static final long CONFIG_ACCOUNT_DISCRIMINATOR = getInt64LE(CONFIG_ACCOUNT_ACCOUNT_DISCRIMINATOR.data(), 0);
+  public static final long CURVE_ACCOUNT_DISCRIMINATOR = getInt64LE(CURVE_ACCOUNT_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == CONFIG_ACCOUNT_DISCRIMINATOR) {
+      return ConfigAccount.read(_address, _data, 0);
+    } else if (discriminator == CURVE_ACCOUNT_DISCRIMINATOR) {
+      return CurveAccount.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private TokenLaunchpadAccounts() {
+  }
+}
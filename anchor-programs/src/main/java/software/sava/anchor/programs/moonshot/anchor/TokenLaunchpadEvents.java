@@ -0,0 +1,58 @@
+package software.sava.anchor.programs.moonshot.anchor;
+
+import software.sava.anchor.programs._commons.AnchorEvents;
+import software.sava.anchor.programs.moonshot.anchor.types.MigrationEvent;
+import software.sava.anchor.programs.moonshot.anchor.types.TradeEvent;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.toDiscriminator;
+
+public final class TokenLaunchpadEvents {
+
+  public static final Discriminator MIGRATION_EVENT_DISCRIMINATOR = toDiscriminator(255, 202, 76, 147, 91, 231, 73, 22);
+  public static final Discriminator TRADE_EVENT_DISCRIMINATOR = toDiscriminator(189, 219, 127, 211, 78, 230, 97, 238);
+
+  public static final long MIGRATION_EVENT_DISCRIMINATOR_LONG = getInt64LE(MIGRATION_EVENT_DISCRIMINATOR.data(), 0);
+  public static final long TRADE_EVENT_DISCRIMINATOR_LONG = getInt64LE(TRADE_EVENT_DISCRIMINATOR.data(), 0);
+
+  // Sorted, the index of a discriminator selects the case in decode.
+  private static final long[] DISCRIMINATORS = {
+      TRADE_EVENT_DISCRIMINATOR_LONG,
+      MIGRATION_EVENT_DISCRIMINATOR_LONG
+  };
+
+  // Event discriminator followed by the event fields, starting at offset.
+  public static Borsh decode(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    final int i = offset + 8;
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> TradeEvent.read(_data, i);
+      case 1 -> MigrationEvent.read(_data, i);
+      default -> null;
+    };
+  }
+
+  public static Borsh decode(final byte[] _data) {
+    return decode(_data, 0);
+  }
+
+  // `Program data: <base64>` log line emitted by this program.
+  public static Borsh decodeLog(final String logLine) {
+    final byte[] data = AnchorEvents.decodeProgramData(logLine);
+    return data == null ? null : decode(data, 0);
+  }
+
+  // Instruction data of an emit_cpi self invocation by this program.
+  public static Borsh decodeCpi(final byte[] ixData) {
+    return AnchorEvents.isEventCpi(ixData) ? decode(ixData, AnchorEvents.EVENT_IX_TAG_LENGTH) : null;
+  }
+
+  private TokenLaunchpadEvents() {
+  }
+}
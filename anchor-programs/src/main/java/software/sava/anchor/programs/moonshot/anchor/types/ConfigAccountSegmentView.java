@@ -0,0 +1,117 @@
+package software.sava.anchor.programs.moonshot.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class ConfigAccountSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ConfigAccountSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ConfigAccountSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ConfigAccountSegmentView(segment, offset);
+  }
+
+  public static ConfigAccountSegmentView wrap(final MemorySegment segment) {
+    return new ConfigAccountSegmentView(segment, 0);
+  }
+
+  public ConfigAccountSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConfigAccountSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ConfigAccount read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, ConfigAccount.BYTES, ConfigAccount::read);
+  }
+
+  public PublicKey migrationAuthority() {
+    return readPubKey(segment, offset + ConfigAccount.MIGRATION_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey backendAuthority() {
+    return readPubKey(segment, offset + ConfigAccount.BACKEND_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey configAuthority() {
+    return readPubKey(segment, offset + ConfigAccount.CONFIG_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey helioFee() {
+    return readPubKey(segment, offset + ConfigAccount.HELIO_FEE_OFFSET);
+  }
+
+  public PublicKey dexFee() {
+    return readPubKey(segment, offset + ConfigAccount.DEX_FEE_OFFSET);
+  }
+
+  public int feeBps() {
+    return getInt16LE(segment, offset + ConfigAccount.FEE_BPS_OFFSET);
+  }
+
+  public int dexFeeShare() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ConfigAccount.DEX_FEE_SHARE_OFFSET) & 0xFF;
+  }
+
+  public long migrationFee() {
+    return getInt64LE(segment, offset + ConfigAccount.MIGRATION_FEE_OFFSET);
+  }
+
+  public long marketcapThreshold() {
+    return getInt64LE(segment, offset + ConfigAccount.MARKETCAP_THRESHOLD_OFFSET);
+  }
+
+  public Currency marketcapCurrency() {
+    return Currency.values()[segment.get(ValueLayout.JAVA_BYTE, offset + ConfigAccount.MARKETCAP_CURRENCY_OFFSET) & 0xFF];
+  }
+
+  public int minSupportedDecimalPlaces() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ConfigAccount.MIN_SUPPORTED_DECIMAL_PLACES_OFFSET) & 0xFF;
+  }
+
+  public int maxSupportedDecimalPlaces() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ConfigAccount.MAX_SUPPORTED_DECIMAL_PLACES_OFFSET) & 0xFF;
+  }
+
+  public long minSupportedTokenSupply() {
+    return getInt64LE(segment, offset + ConfigAccount.MIN_SUPPORTED_TOKEN_SUPPLY_OFFSET);
+  }
+
+  public long maxSupportedTokenSupply() {
+    return getInt64LE(segment, offset + ConfigAccount.MAX_SUPPORTED_TOKEN_SUPPLY_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + ConfigAccount.BUMP_OFFSET) & 0xFF;
+  }
+
+  public int coefB() {
+    return getInt32LE(segment, offset + ConfigAccount.COEF_B_OFFSET);
+  }
+}
@@ -0,0 +1,113 @@
+package software.sava.anchor.programs.moonshot.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class ConfigAccountView {
+
+  private byte[] _data;
+  private int offset;
+
+  private ConfigAccountView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static ConfigAccountView wrap(final byte[] _data, final int offset) {
+    return new ConfigAccountView(_data, offset);
+  }
+
+  public static ConfigAccountView wrap(final byte[] _data) {
+    return new ConfigAccountView(_data, 0);
+  }
+
+  public ConfigAccountView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public ConfigAccountView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public ConfigAccount read(final PublicKey _address) {
+    return ConfigAccount.read(_address, _data, offset);
+  }
+
+  public PublicKey migrationAuthority() {
+    return readPubKey(_data, offset + ConfigAccount.MIGRATION_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey backendAuthority() {
+    return readPubKey(_data, offset + ConfigAccount.BACKEND_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey configAuthority() {
+    return readPubKey(_data, offset + ConfigAccount.CONFIG_AUTHORITY_OFFSET);
+  }
+
+  public PublicKey helioFee() {
+    return readPubKey(_data, offset + ConfigAccount.HELIO_FEE_OFFSET);
+  }
+
+  public PublicKey dexFee() {
+    return readPubKey(_data, offset + ConfigAccount.DEX_FEE_OFFSET);
+  }
+
+  public int feeBps() {
+    return getInt16LE(_data, offset + ConfigAccount.FEE_BPS_OFFSET);
+  }
+
+  public int dexFeeShare() {
+    return _data[offset + ConfigAccount.DEX_FEE_SHARE_OFFSET] & 0xFF;
+  }
+
+  public long migrationFee() {
+    return getInt64LE(_data, offset + ConfigAccount.MIGRATION_FEE_OFFSET);
+  }
+
+  public long marketcapThreshold() {
+    return getInt64LE(_data, offset + ConfigAccount.MARKETCAP_THRESHOLD_OFFSET);
+  }
+
+  public Currency marketcapCurrency() {
+    return Currency.read(_data, offset + ConfigAccount.MARKETCAP_CURRENCY_OFFSET);
+  }
+
+  public int minSupportedDecimalPlaces() {
+    return _data[offset + ConfigAccount.MIN_SUPPORTED_DECIMAL_PLACES_OFFSET] & 0xFF;
+  }
+
+  public int maxSupportedDecimalPlaces() {
+    return _data[offset + ConfigAccount.MAX_SUPPORTED_DECIMAL_PLACES_OFFSET] & 0xFF;
+  }
+
+  public long minSupportedTokenSupply() {
+    return getInt64LE(_data, offset + ConfigAccount.MIN_SUPPORTED_TOKEN_SUPPLY_OFFSET);
+  }
+
+  public long maxSupportedTokenSupply() {
+    return getInt64LE(_data, offset + ConfigAccount.MAX_SUPPORTED_TOKEN_SUPPLY_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + ConfigAccount.BUMP_OFFSET] & 0xFF;
+  }
+
+  public int coefB() {
+    return getInt32LE(_data, offset + ConfigAccount.COEF_B_OFFSET);
+  }
+}
@@ -0,0 +1,100 @@
+package software.sava.anchor.programs.moonshot.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt32LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class CurveAccountSegmentView {
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CurveAccountSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CurveAccountSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CurveAccountSegmentView(segment, offset);
+  }
+
+  public static CurveAccountSegmentView wrap(final MemorySegment segment) {
+    return new CurveAccountSegmentView(segment, 0);
+  }
+
+  public CurveAccountSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CurveAccountSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public CurveAccount read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, CurveAccount.BYTES, CurveAccount::read);
+  }
+
+  public long totalSupply() {
+    return getInt64LE(segment, offset + CurveAccount.TOTAL_SUPPLY_OFFSET);
+  }
+
+  public long curveAmount() {
+    return getInt64LE(segment, offset + CurveAccount.CURVE_AMOUNT_OFFSET);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(segment, offset + CurveAccount.MINT_OFFSET);
+  }
+
+  public int decimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + CurveAccount.DECIMALS_OFFSET) & 0xFF;
+  }
+
+  public Currency collateralCurrency() {
+    return Currency.values()[segment.get(ValueLayout.JAVA_BYTE, offset + CurveAccount.COLLATERAL_CURRENCY_OFFSET) & 0xFF];
+  }
+
+  public CurveType curveType() {
+    return CurveType.values()[segment.get(ValueLayout.JAVA_BYTE, offset + CurveAccount.CURVE_TYPE_OFFSET) & 0xFF];
+  }
+
+  public long marketcapThreshold() {
+    return getInt64LE(segment, offset + CurveAccount.MARKETCAP_THRESHOLD_OFFSET);
+  }
+
+  public Currency marketcapCurrency() {
+    return Currency.values()[segment.get(ValueLayout.JAVA_BYTE, offset + CurveAccount.MARKETCAP_CURRENCY_OFFSET) & 0xFF];
+  }
+
+  public long migrationFee() {
+    return getInt64LE(segment, offset + CurveAccount.MIGRATION_FEE_OFFSET);
+  }
+
+  public int coefB() {
+    return getInt32LE(segment, offset + CurveAccount.COEF_B_OFFSET);
+  }
+
+  public int bump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + CurveAccount.BUMP_OFFSET) & 0xFF;
+  }
+
+  public MigrationTarget migrationTarget() {
+    return MigrationTarget.values()[segment.get(ValueLayout.JAVA_BYTE, offset + CurveAccount.MIGRATION_TARGET_OFFSET) & 0xFF];
+  }
+}
@@ -0,0 +1,96 @@
+package software.sava.anchor.programs.moonshot.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt32LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class CurveAccountView {
+
+  private byte[] _data;
+  private int offset;
+
+  private CurveAccountView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static CurveAccountView wrap(final byte[] _data, final int offset) {
+    return new CurveAccountView(_data, offset);
+  }
+
+  public static CurveAccountView wrap(final byte[] _data) {
+    return new CurveAccountView(_data, 0);
+  }
+
+  public CurveAccountView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public CurveAccountView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public CurveAccount read(final PublicKey _address) {
+    return CurveAccount.read(_address, _data, offset);
+  }
+
+  public long totalSupply() {
+    return getInt64LE(_data, offset + CurveAccount.TOTAL_SUPPLY_OFFSET);
+  }
+
+  public long curveAmount() {
+    return getInt64LE(_data, offset + CurveAccount.CURVE_AMOUNT_OFFSET);
+  }
+
+  public PublicKey mint() {
+    return readPubKey(_data, offset + CurveAccount.MINT_OFFSET);
+  }
+
+  public int decimals() {
+    return _data[offset + CurveAccount.DECIMALS_OFFSET] & 0xFF;
+  }
+
+  public Currency collateralCurrency() {
+    return Currency.read(_data, offset + CurveAccount.COLLATERAL_CURRENCY_OFFSET);
+  }
+
+  public CurveType curveType() {
+    return CurveType.read(_data, offset + CurveAccount.CURVE_TYPE_OFFSET);
+  }
+
+  public long marketcapThreshold() {
+    return getInt64LE(_data, offset + CurveAccount.MARKETCAP_THRESHOLD_OFFSET);
+  }
+
+  public Currency marketcapCurrency() {
+    return Currency.read(_data, offset + CurveAccount.MARKETCAP_CURRENCY_OFFSET);
+  }
+
+  public long migrationFee() {
+    return getInt64LE(_data, offset + CurveAccount.MIGRATION_FEE_OFFSET);
+  }
+
+  public int coefB() {
+    return getInt32LE(_data, offset + CurveAccount.COEF_B_OFFSET);
+  }
+
+  public int bump() {
+    return _data[offset + CurveAccount.BUMP_OFFSET] & 0xFF;
+  }
+
+  public MigrationTarget migrationTarget() {
+    return MigrationTarget.read(_data, offset + CurveAccount.MIGRATION_TARGET_OFFSET);
+  }
+}
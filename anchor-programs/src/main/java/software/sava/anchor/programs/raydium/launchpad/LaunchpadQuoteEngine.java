@@ -0,0 +1,351 @@
+package software.sava.anchor.programs.raydium.launchpad;
+
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.GlobalConfig;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.PlatformConfig;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.PoolState;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.TradeEvent;
+
+import java.math.BigInteger;
+
+import static software.sava.anchor.programs._commons.U64Math.mulDiv;
+import static software.sava.anchor.programs._commons.U64Math.mulDivCeil;
+
+// Exact integer quotes for Raydium launchpad bonding curve pools, so minimum out and maximum in amounts for
+// buyExactIn/buyExactOut/sellExactIn/sellExactOut can be computed without a simulation.
+//
+// Trades are priced in the quote token against the base token sold so far, realBase:
+//   constant product: (virtualBase - realBase) * (virtualQuote + realQuote) = k
+//   fixed price: virtualQuote / virtualBase
+//   linear price: price = a * realBase, with a = virtualBase / 2^64
+// Protocol, platform, creator and share fees are each the ceiling of the quote amount times their rate over
+// 1_000_000, and are charged on the quote side, added to the input of buys and taken from the output of sells.
+// Rounding always favours the pool. Buys are capped at the base left for sale, see CAPPED.
+public final class LaunchpadQuoteEngine {
+
+  public static final long FEE_RATE_DENOMINATOR = 1_000_000;
+  public static final long BPS_DENOMINATOR = 10_000;
+
+  public static final int CURVE_CONSTANT_PRODUCT = 0;
+  public static final int CURVE_FIXED_PRICE = 1;
+  public static final int CURVE_LINEAR_PRICE = 2;
+
+  private static final int LINEAR_SHIFT = 65;
+
+  // The trade was reduced to what the pool can fill.
+  public static final int CAPPED = 1;
+  // The pool is no longer funding, trades would fail.
+  public static final int POOL_CLOSED = 1 << 1;
+  // The pool cannot fill any amount of the trade.
+  public static final int INSUFFICIENT_LIQUIDITY = 1 << 2;
+
+  public record Pool(int status,
+                     int curveType,
+                     long totalBaseSell,
+                     long virtualBase,
+                     long virtualQuote,
+                     long realBase,
+                     long realQuote,
+                     long tradeFeeRate,
+                     long platformFeeRate,
+                     long creatorFeeRate) {
+
+    public static Pool createPool(final PoolState poolState,
+                                  final GlobalConfig globalConfig,
+                                  final PlatformConfig platformConfig) {
+      return new Pool(
+          poolState.status(),
+          globalConfig.curveType(),
+          poolState.totalBaseSell(),
+          poolState.virtualBase(),
+          poolState.virtualQuote(),
+          poolState.realBase(),
+          poolState.realQuote(),
+          globalConfig.tradeFeeRate(),
+          platformConfig.feeRate(),
+          platformConfig.creatorFeeRate()
+      );
+    }
+
+    // The pool as left by the trade, without re-reading the account.
+    public Pool withTrade(final TradeEvent tradeEvent) {
+      return new Pool(
+          tradeEvent.poolStatus().ordinal(),
+          curveType,
+          tradeEvent.totalBaseSell(),
+          tradeEvent.virtualBase(),
+          tradeEvent.virtualQuote(),
+          tradeEvent.realBaseAfter(),
+          tradeEvent.realQuoteAfter(),
+          tradeFeeRate,
+          platformFeeRate,
+          creatorFeeRate
+      );
+    }
+
+    public long remainingBase() {
+      return totalBaseSell - realBase;
+    }
+
+    long feeRate(final long shareFeeRate) {
+      return tradeFeeRate + platformFeeRate + creatorFeeRate + shareFeeRate;
+    }
+  }
+
+  public record Quote(long amountIn,
+                      long amountOut,
+                      long protocolFee,
+                      long platformFee,
+                      long creatorFee,
+                      long shareFee,
+                      int flags) {
+
+    public long totalFee() {
+      return protocolFee + platformFee + creatorFee + shareFee;
+    }
+
+    public boolean isCapped() {
+      return (flags & CAPPED) != 0;
+    }
+
+    public boolean isFillable() {
+      return (flags & (POOL_CLOSED | INSUFFICIENT_LIQUIDITY)) == 0;
+    }
+
+    public long minimumAmountOut(final int slippageBps) {
+      return mulDiv(amountOut, BPS_DENOMINATOR - slippageBps, BPS_DENOMINATOR);
+    }
+
+    public long maximumAmountIn(final int slippageBps) {
+      return mulDivCeil(amountIn, BPS_DENOMINATOR + slippageBps, BPS_DENOMINATOR);
+    }
+  }
+
+  // Quote in, base out.
+  public static Quote buyExactIn(final Pool pool, final long amountIn, final long shareFeeRate) {
+    if (pool.status() != 0) {
+      return unfillable(amountIn, POOL_CLOSED);
+    }
+    final long protocolFee = fee(amountIn, pool.tradeFeeRate());
+    final long platformFee = fee(amountIn, pool.platformFeeRate());
+    final long creatorFee = fee(amountIn, pool.creatorFeeRate());
+    final long shareFee = fee(amountIn, shareFeeRate);
+    final long amountLessFee = amountIn - protocolFee - platformFee - creatorFee - shareFee;
+    if (amountLessFee <= 0) {
+      return unfillable(amountIn, INSUFFICIENT_LIQUIDITY);
+    }
+    long amountOut;
+    try {
+      amountOut = curveBuyExactIn(pool, amountLessFee);
+    } catch (final ArithmeticException e) {
+      // more than a u64 of base, capped below
+      amountOut = Long.MAX_VALUE;
+    }
+    final long remaining = pool.remainingBase();
+    if (amountOut > remaining) {
+      if (remaining <= 0) {
+        return unfillable(amountIn, INSUFFICIENT_LIQUIDITY);
+      }
+      final var capped = buyExactOut(pool, remaining, shareFeeRate);
+      return new Quote(
+          capped.amountIn(), capped.amountOut(),
+          capped.protocolFee(), capped.platformFee(), capped.creatorFee(), capped.shareFee(),
+          capped.flags() | CAPPED
+      );
+    }
+    return new Quote(amountIn, amountOut, protocolFee, platformFee, creatorFee, shareFee, 0);
+  }
+
+  // Base out, quote in.
+  public static Quote buyExactOut(final Pool pool, final long amountOut, final long shareFeeRate) {
+    if (pool.status() != 0) {
+      return unfillable(0, POOL_CLOSED);
+    }
+    final long remaining = pool.remainingBase();
+    if (remaining <= 0) {
+      return unfillable(0, INSUFFICIENT_LIQUIDITY);
+    }
+    final long out;
+    final int flags;
+    if (amountOut > remaining) {
+      out = remaining;
+      flags = CAPPED;
+    } else {
+      out = amountOut;
+      flags = 0;
+    }
+    final long amountInLessFee = curveBuyExactOut(pool, out);
+    final long feeRate = pool.feeRate(shareFeeRate);
+    if (amountInLessFee < 0 || feeRate >= FEE_RATE_DENOMINATOR) {
+      return unfillable(0, INSUFFICIENT_LIQUIDITY);
+    }
+    long amountIn = mulDivCeil(amountInLessFee, FEE_RATE_DENOMINATOR, FEE_RATE_DENOMINATOR - feeRate);
+    for (; ; ++amountIn) {
+      final long protocolFee = fee(amountIn, pool.tradeFeeRate());
+      final long platformFee = fee(amountIn, pool.platformFeeRate());
+      final long creatorFee = fee(amountIn, pool.creatorFeeRate());
+      final long shareFee = fee(amountIn, shareFeeRate);
+      if (amountIn - protocolFee - platformFee - creatorFee - shareFee >= amountInLessFee) {
+        return new Quote(amountIn, out, protocolFee, platformFee, creatorFee, shareFee, flags);
+      }
+    }
+  }
+
+  // Base in, quote out.
+  public static Quote sellExactIn(final Pool pool, final long amountIn, final long shareFeeRate) {
+    if (pool.status() != 0) {
+      return unfillable(amountIn, POOL_CLOSED);
+    }
+    if (amountIn > pool.realBase()) {
+      return unfillable(amountIn, INSUFFICIENT_LIQUIDITY);
+    }
+    final long quoteOut = Math.min(curveSellExactIn(pool, amountIn), pool.realQuote());
+    final long protocolFee = fee(quoteOut, pool.tradeFeeRate());
+    final long platformFee = fee(quoteOut, pool.platformFeeRate());
+    final long creatorFee = fee(quoteOut, pool.creatorFeeRate());
+    final long shareFee = fee(quoteOut, shareFeeRate);
+    final long amountOut = quoteOut - protocolFee - platformFee - creatorFee - shareFee;
+    if (amountOut <= 0) {
+      return unfillable(amountIn, INSUFFICIENT_LIQUIDITY);
+    }
+    return new Quote(amountIn, amountOut, protocolFee, platformFee, creatorFee, shareFee, 0);
+  }
+
+  // Quote out, base in.
+  public static Quote sellExactOut(final Pool pool, final long amountOut, final long shareFeeRate) {
+    if (pool.status() != 0) {
+      return unfillable(0, POOL_CLOSED);
+    }
+    final long feeRate = pool.feeRate(shareFeeRate);
+    if (feeRate >= FEE_RATE_DENOMINATOR) {
+      return unfillable(0, INSUFFICIENT_LIQUIDITY);
+    }
+    long quoteOut = mulDivCeil(amountOut, FEE_RATE_DENOMINATOR, FEE_RATE_DENOMINATOR - feeRate);
+    for (; ; ++quoteOut) {
+      final long protocolFee = fee(quoteOut, pool.tradeFeeRate());
+      final long platformFee = fee(quoteOut, pool.platformFeeRate());
+      final long creatorFee = fee(quoteOut, pool.creatorFeeRate());
+      final long shareFee = fee(quoteOut, shareFeeRate);
+      if (quoteOut - protocolFee - platformFee - creatorFee - shareFee >= amountOut) {
+        if (quoteOut > pool.realQuote()) {
+          return unfillable(0, INSUFFICIENT_LIQUIDITY);
+        }
+        final long amountIn = curveSellExactOut(pool, quoteOut);
+        if (amountIn < 0 || amountIn > pool.realBase()) {
+          return unfillable(0, INSUFFICIENT_LIQUIDITY);
+        }
+        return new Quote(amountIn, amountOut, protocolFee, platformFee, creatorFee, shareFee, 0);
+      }
+    }
+  }
+
+  public static long fee(final long amount, final long feeRate) {
+    return feeRate == 0 ? 0 : mulDivCeil(amount, feeRate, FEE_RATE_DENOMINATOR);
+  }
+
+  static long curveBuyExactIn(final Pool pool, final long quoteIn) {
+    return switch (pool.curveType()) {
+      case CURVE_CONSTANT_PRODUCT -> mulDiv(
+          quoteIn,
+          pool.virtualBase() - pool.realBase(),
+          Math.addExact(pool.virtualQuote() + pool.realQuote(), quoteIn)
+      );
+      case CURVE_FIXED_PRICE -> mulDiv(quoteIn, pool.virtualBase(), pool.virtualQuote());
+      case CURVE_LINEAR_PRICE -> {
+        // x1 = sqrt(x0^2 + 2 * quoteIn / a)
+        final var x0 = BigInteger.valueOf(pool.realBase());
+        final var x1 = x0.multiply(x0)
+            .add(BigInteger.valueOf(quoteIn).shiftLeft(LINEAR_SHIFT).divide(BigInteger.valueOf(pool.virtualBase())))
+            .sqrt();
+        yield x1.subtract(x0).longValueExact();
+      }
+      default -> throw unsupportedCurve(pool);
+    };
+  }
+
+  // Returns a negative amount if the curve cannot pay out baseOut.
+  static long curveBuyExactOut(final Pool pool, final long baseOut) {
+    return switch (pool.curveType()) {
+      case CURVE_CONSTANT_PRODUCT -> {
+        final long baseReserve = pool.virtualBase() - pool.realBase();
+        yield baseOut >= baseReserve
+            ? -1
+            : mulDivCeil(baseOut, pool.virtualQuote() + pool.realQuote(), baseReserve - baseOut);
+      }
+      case CURVE_FIXED_PRICE -> mulDivCeil(baseOut, pool.virtualQuote(), pool.virtualBase());
+      case CURVE_LINEAR_PRICE -> {
+        // a * (x1^2 - x0^2) / 2
+        final var x0 = BigInteger.valueOf(pool.realBase());
+        final var x1 = x0.add(BigInteger.valueOf(baseOut));
+        yield ceilShift(x1.multiply(x1).subtract(x0.multiply(x0)).multiply(BigInteger.valueOf(pool.virtualBase())));
+      }
+      default -> throw unsupportedCurve(pool);
+    };
+  }
+
+  static long curveSellExactIn(final Pool pool, final long baseIn) {
+    return switch (pool.curveType()) {
+      case CURVE_CONSTANT_PRODUCT -> mulDiv(
+          baseIn,
+          pool.virtualQuote() + pool.realQuote(),
+          Math.addExact(pool.virtualBase() - pool.realBase(), baseIn)
+      );
+      case CURVE_FIXED_PRICE -> mulDiv(baseIn, pool.virtualQuote(), pool.virtualBase());
+      case CURVE_LINEAR_PRICE -> {
+        final var x0 = BigInteger.valueOf(pool.realBase());
+        final var x1 = x0.subtract(BigInteger.valueOf(baseIn));
+        yield x0.multiply(x0).subtract(x1.multiply(x1))
+            .multiply(BigInteger.valueOf(pool.virtualBase()))
+            .shiftRight(LINEAR_SHIFT)
+            .longValueExact();
+      }
+      default -> throw unsupportedCurve(pool);
+    };
+  }
+
+  // Returns a negative amount if the curve cannot pay out quoteOut.
+  static long curveSellExactOut(final Pool pool, final long quoteOut) {
+    return switch (pool.curveType()) {
+      case CURVE_CONSTANT_PRODUCT -> {
+        final long quoteReserve = pool.virtualQuote() + pool.realQuote();
+        yield quoteOut >= quoteReserve
+            ? -1
+            : mulDivCeil(quoteOut, pool.virtualBase() - pool.realBase(), quoteReserve - quoteOut);
+      }
+      case CURVE_FIXED_PRICE -> mulDivCeil(quoteOut, pool.virtualBase(), pool.virtualQuote());
+      case CURVE_LINEAR_PRICE -> {
+        // x1 = sqrt(x0^2 - 2 * quoteOut / a), rounded down so at least quoteOut is paid out.
+        final var x0 = BigInteger.valueOf(pool.realBase());
+        final var x1Squared = x0.multiply(x0).subtract(
+            ceilDiv(BigInteger.valueOf(quoteOut).shiftLeft(LINEAR_SHIFT), BigInteger.valueOf(pool.virtualBase()))
+        );
+        if (x1Squared.signum() < 0) {
+          yield -1;
+        }
+        final var x1 = x1Squared.sqrt();
+        yield x0.subtract(x1).longValueExact();
+      }
+      default -> throw unsupportedCurve(pool);
+    };
+  }
+
+  private static long ceilShift(final BigInteger val) {
+    final var shifted = val.shiftRight(LINEAR_SHIFT);
+    return (val.getLowestSetBit() < LINEAR_SHIFT && val.signum() != 0 ? shifted.add(BigInteger.ONE) : shifted).longValueExact();
+  }
+
+  private static BigInteger ceilDiv(final BigInteger numerator, final BigInteger denominator) {
+    final var divRem = numerator.divideAndRemainder(denominator);
+    return divRem[1].signum() == 0 ? divRem[0] : divRem[0].add(BigInteger.ONE);
+  }
+
+  private static Quote unfillable(final long amountIn, final int flags) {
+    return new Quote(amountIn, 0, 0, 0, 0, 0, flags);
+  }
+
+  private static IllegalStateException unsupportedCurve(final Pool pool) {
+    return new IllegalStateException("Unsupported launchpad curve type " + pool.curveType());
+  }
+
+  private LaunchpadQuoteEngine() {
+  }
+}
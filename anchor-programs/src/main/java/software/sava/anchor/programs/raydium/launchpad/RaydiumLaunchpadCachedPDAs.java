@@ -0,0 +1,437 @@
+package software.sava.anchor.programs.raydium.launchpad;
+
+import software.sava.anchor.programs._commons.ProgramAddressCache;
+import software.sava.core.accounts.ProgramDerivedAddress;
+import software.sava.core.accounts.PublicKey;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// RaydiumLaunchpadPDAs derived through ProgramAddressCache, with bump overloads for bumps read from the derived
+// accounts, e.g. PoolState.authBump.
+public final class RaydiumLaunchpadCachedPDAs {
+
+  private static final byte[] AMM_ASSOCIATED_SEED = "amm_associated_seed".getBytes(US_ASCII);
+  private static final byte[] AMM_AUTHORITY_SEED = "amm authority".getBytes(US_ASCII);
+  private static final byte[] AMM_CONFIG_ACCOUNT_SEED = "amm_config_account_seed".getBytes(US_ASCII);
+  private static final byte[] COIN_VAULT_ASSOCIATED_SEED = "coin_vault_associated_seed".getBytes(US_ASCII);
+  private static final byte[] CREATOR_FEE_VAULT_AUTH_SEED = "creator_fee_vault_auth_seed".getBytes(US_ASCII);
+  private static final byte[] EVENT_AUTHORITY_SEED = "__event_authority".getBytes(US_ASCII);
+  private static final byte[] GLOBAL_CONFIG_SEED = "global_config".getBytes(US_ASCII);
+  private static final byte[] LOCK_CP_AUTHORITY_SEED = "lock_cp_authority_seed".getBytes(US_ASCII);
+  private static final byte[] LP_MINT_ASSOCIATED_SEED = "lp_mint_associated_seed".getBytes(US_ASCII);
+  private static final byte[] OBSERVATION_SEED = "observation".getBytes(US_ASCII);
+  private static final byte[] OPEN_ORDER_ASSOCIATED_SEED = "open_order_associated_seed".getBytes(US_ASCII);
+  private static final byte[] PC_VAULT_ASSOCIATED_SEED = "pc_vault_associated_seed".getBytes(US_ASCII);
+  private static final byte[] PLATFORM_CONFIG_SEED = "platform_config".getBytes(US_ASCII);
+  private static final byte[] PLATFORM_FEE_VAULT_AUTH_SEED = "platform_fee_vault_auth_seed".getBytes(US_ASCII);
+  private static final byte[] POOL_LP_MINT_SEED = "pool_lp_mint".getBytes(US_ASCII);
+  private static final byte[] POOL_SEED = "pool".getBytes(US_ASCII);
+  private static final byte[] POOL_VAULT_SEED = "pool_vault".getBytes(US_ASCII);
+  private static final byte[] POOL_VESTING_SEED = "pool_vesting".getBytes(US_ASCII);
+  private static final byte[] TARGET_ASSOCIATED_SEED = "target_associated_seed".getBytes(US_ASCII);
+  private static final byte[] VAULT_AND_LP_MINT_AUTH_SEED = "vault_and_lp_mint_auth_seed".getBytes(US_ASCII);
+  private static final byte[] VAULT_AUTH_SEED = "vault_auth_seed".getBytes(US_ASCII);
+
+  public static ProgramDerivedAddress ammAuthorityPDA(final PublicKey ammProgram) {
+    return ProgramAddressCache.findProgramAddress(AMM_AUTHORITY_SEED, ammProgram);
+  }
+
+  public static ProgramDerivedAddress ammAuthorityPDA(final PublicKey ammProgram,
+                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(AMM_AUTHORITY_SEED, bump, ammProgram);
+  }
+
+  public static ProgramDerivedAddress ammBaseVaultPDA(final PublicKey ammProgram,
+                                                      final PublicKey ammProgramAccount,
+                                                      final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        ammProgramAccount, marketAccount, COIN_VAULT_ASSOCIATED_SEED, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammBaseVaultPDA(final PublicKey ammProgram,
+                                                      final PublicKey ammProgramAccount,
+                                                      final PublicKey marketAccount,
+                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        ammProgramAccount, marketAccount, COIN_VAULT_ASSOCIATED_SEED, bump, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammConfigPDA(final PublicKey ammProgram) {
+    return ProgramAddressCache.findProgramAddress(AMM_CONFIG_ACCOUNT_SEED, ammProgram);
+  }
+
+  public static ProgramDerivedAddress ammConfigPDA(final PublicKey ammProgram,
+                                                   final int bump) {
+    return ProgramAddressCache.createProgramAddress(AMM_CONFIG_ACCOUNT_SEED, bump, ammProgram);
+  }
+
+  public static ProgramDerivedAddress ammLpMintPDA(final PublicKey ammProgram,
+                                                   final PublicKey ammProgramAccount,
+                                                   final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        ammProgramAccount, marketAccount, LP_MINT_ASSOCIATED_SEED, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammLpMintPDA(final PublicKey ammProgram,
+                                                   final PublicKey ammProgramAccount,
+                                                   final PublicKey marketAccount,
+                                                   final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        ammProgramAccount, marketAccount, LP_MINT_ASSOCIATED_SEED, bump, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammOpenOrdersPDA(final PublicKey ammProgram,
+                                                       final PublicKey ammProgramAccount,
+                                                       final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        ammProgramAccount, marketAccount, OPEN_ORDER_ASSOCIATED_SEED, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammOpenOrdersPDA(final PublicKey ammProgram,
+                                                       final PublicKey ammProgramAccount,
+                                                       final PublicKey marketAccount,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        ammProgramAccount, marketAccount, OPEN_ORDER_ASSOCIATED_SEED, bump, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammPoolPDA(final PublicKey ammProgram,
+                                                 final PublicKey ammProgramAccount,
+                                                 final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(ammProgramAccount, marketAccount, AMM_ASSOCIATED_SEED, ammProgram);
+  }
+
+  public static ProgramDerivedAddress ammPoolPDA(final PublicKey ammProgram,
+                                                 final PublicKey ammProgramAccount,
+                                                 final PublicKey marketAccount,
+                                                 final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        ammProgramAccount, marketAccount, AMM_ASSOCIATED_SEED, bump, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammQuoteVaultPDA(final PublicKey ammProgram,
+                                                       final PublicKey ammProgramAccount,
+                                                       final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        ammProgramAccount, marketAccount, PC_VAULT_ASSOCIATED_SEED, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammQuoteVaultPDA(final PublicKey ammProgram,
+                                                       final PublicKey ammProgramAccount,
+                                                       final PublicKey marketAccount,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        ammProgramAccount, marketAccount, PC_VAULT_ASSOCIATED_SEED, bump, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress ammTargetOrdersPDA(final PublicKey ammProgram,
+                                                         final PublicKey ammProgramAccount,
+                                                         final PublicKey marketAccount) {
+    return ProgramAddressCache.findProgramAddress(ammProgramAccount, marketAccount, TARGET_ASSOCIATED_SEED, ammProgram);
+  }
+
+  public static ProgramDerivedAddress ammTargetOrdersPDA(final PublicKey ammProgram,
+                                                         final PublicKey ammProgramAccount,
+                                                         final PublicKey marketAccount,
+                                                         final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        ammProgramAccount, marketAccount, TARGET_ASSOCIATED_SEED, bump, ammProgram
+    );
+  }
+
+  public static ProgramDerivedAddress authorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(VAULT_AUTH_SEED, program);
+  }
+
+  public static ProgramDerivedAddress authorityPDA(final PublicKey program,
+                                                   final int bump) {
+    return ProgramAddressCache.createProgramAddress(VAULT_AUTH_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress baseVaultPDA(final PublicKey program,
+                                                   final PublicKey poolStateAccount,
+                                                   final PublicKey baseMintAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_VAULT_SEED, poolStateAccount, baseMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress baseVaultPDA(final PublicKey program,
+                                                   final PublicKey poolStateAccount,
+                                                   final PublicKey baseMintAccount,
+                                                   final int bump) {
+    return ProgramAddressCache.createProgramAddress(POOL_VAULT_SEED, poolStateAccount, baseMintAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress cpswapAuthorityPDA(final PublicKey cpswapProgram) {
+    return ProgramAddressCache.findProgramAddress(VAULT_AND_LP_MINT_AUTH_SEED, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapAuthorityPDA(final PublicKey cpswapProgram,
+                                                         final int bump) {
+    return ProgramAddressCache.createProgramAddress(VAULT_AND_LP_MINT_AUTH_SEED, bump, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapBaseVaultPDA(final PublicKey cpswapProgram,
+                                                         final PublicKey cpswapPoolAccount,
+                                                         final PublicKey baseMintAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_VAULT_SEED, cpswapPoolAccount, baseMintAccount, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapBaseVaultPDA(final PublicKey cpswapProgram,
+                                                         final PublicKey cpswapPoolAccount,
+                                                         final PublicKey baseMintAccount,
+                                                         final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        POOL_VAULT_SEED, cpswapPoolAccount, baseMintAccount, bump, cpswapProgram
+    );
+  }
+
+  public static ProgramDerivedAddress cpswapLpMintPDA(final PublicKey cpswapProgram,
+                                                      final PublicKey cpswapPoolAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_LP_MINT_SEED, cpswapPoolAccount, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapLpMintPDA(final PublicKey cpswapProgram,
+                                                      final PublicKey cpswapPoolAccount,
+                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(POOL_LP_MINT_SEED, cpswapPoolAccount, bump, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapObservationPDA(final PublicKey cpswapProgram,
+                                                           final PublicKey cpswapPoolAccount) {
+    return ProgramAddressCache.findProgramAddress(OBSERVATION_SEED, cpswapPoolAccount, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapObservationPDA(final PublicKey cpswapProgram,
+                                                           final PublicKey cpswapPoolAccount,
+                                                           final int bump) {
+    return ProgramAddressCache.createProgramAddress(OBSERVATION_SEED, cpswapPoolAccount, bump, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapQuoteVaultPDA(final PublicKey cpswapProgram,
+                                                          final PublicKey cpswapPoolAccount,
+                                                          final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_VAULT_SEED, cpswapPoolAccount, quoteMintAccount, cpswapProgram);
+  }
+
+  public static ProgramDerivedAddress cpswapQuoteVaultPDA(final PublicKey cpswapProgram,
+                                                          final PublicKey cpswapPoolAccount,
+                                                          final PublicKey quoteMintAccount,
+                                                          final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        POOL_VAULT_SEED, cpswapPoolAccount, quoteMintAccount, bump, cpswapProgram
+    );
+  }
+
+  public static ProgramDerivedAddress creatorFeeVaultPDA(final PublicKey program,
+                                                         final PublicKey creatorAccount,
+                                                         final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(creatorAccount, quoteMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress creatorFeeVaultPDA(final PublicKey program,
+                                                         final PublicKey creatorAccount,
+                                                         final PublicKey quoteMintAccount,
+                                                         final int bump) {
+    return ProgramAddressCache.createProgramAddress(creatorAccount, quoteMintAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(EVENT_AUTHORITY_SEED, program);
+  }
+
+  public static ProgramDerivedAddress eventAuthorityPDA(final PublicKey program,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(EVENT_AUTHORITY_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultAuthorityPDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(CREATOR_FEE_VAULT_AUTH_SEED, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultAuthorityPDA(final PublicKey program,
+                                                           final int bump) {
+    return ProgramAddressCache.createProgramAddress(CREATOR_FEE_VAULT_AUTH_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultAuthority1PDA(final PublicKey program) {
+    return ProgramAddressCache.findProgramAddress(PLATFORM_FEE_VAULT_AUTH_SEED, program);
+  }
+
+  public static ProgramDerivedAddress feeVaultAuthority1PDA(final PublicKey program,
+                                                            final int bump) {
+    return ProgramAddressCache.createProgramAddress(PLATFORM_FEE_VAULT_AUTH_SEED, bump, program);
+  }
+
+  public static ProgramDerivedAddress globalConfigPDA(final PublicKey program,
+                                                      final PublicKey quoteTokenMintAccount,
+                                                      final byte[] curveType,
+                                                      final byte[] index) {
+    return ProgramAddressCache.findProgramAddress(GLOBAL_CONFIG_SEED, quoteTokenMintAccount, curveType, index, program);
+  }
+
+  public static ProgramDerivedAddress globalConfigPDA(final PublicKey program,
+                                                      final PublicKey quoteTokenMintAccount,
+                                                      final byte[] curveType,
+                                                      final byte[] index,
+                                                      final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        GLOBAL_CONFIG_SEED, quoteTokenMintAccount, curveType, index, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress lockAuthorityPDA(final PublicKey lockProgram) {
+    return ProgramAddressCache.findProgramAddress(LOCK_CP_AUTHORITY_SEED, lockProgram);
+  }
+
+  public static ProgramDerivedAddress lockAuthorityPDA(final PublicKey lockProgram,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(LOCK_CP_AUTHORITY_SEED, bump, lockProgram);
+  }
+
+  public static ProgramDerivedAddress platformConfigPDA(final PublicKey program,
+                                                        final PublicKey platformAdminAccount) {
+    return ProgramAddressCache.findProgramAddress(PLATFORM_CONFIG_SEED, platformAdminAccount, program);
+  }
+
+  public static ProgramDerivedAddress platformConfigPDA(final PublicKey program,
+                                                        final PublicKey platformAdminAccount,
+                                                        final int bump) {
+    return ProgramAddressCache.createProgramAddress(PLATFORM_CONFIG_SEED, platformAdminAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress platformFeeVaultPDA(final PublicKey program,
+                                                          final PublicKey platformConfigAccount,
+                                                          final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(platformConfigAccount, quoteMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress platformFeeVaultPDA(final PublicKey program,
+                                                          final PublicKey platformConfigAccount,
+                                                          final PublicKey quoteMintAccount,
+                                                          final int bump) {
+    return ProgramAddressCache.createProgramAddress(platformConfigAccount, quoteMintAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress platformVestingRecordPDA(final PublicKey program,
+                                                               final PublicKey poolStateAccount,
+                                                               final PublicKey beneficiaryAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_VESTING_SEED, poolStateAccount, beneficiaryAccount, program);
+  }
+
+  public static ProgramDerivedAddress platformVestingRecordPDA(final PublicKey program,
+                                                               final PublicKey poolStateAccount,
+                                                               final PublicKey beneficiaryAccount,
+                                                               final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        POOL_VESTING_SEED, poolStateAccount, beneficiaryAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress poolStatePDA(final PublicKey program,
+                                                   final PublicKey baseMintAccount,
+                                                   final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_SEED, baseMintAccount, quoteMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress poolStatePDA(final PublicKey program,
+                                                   final PublicKey baseMintAccount,
+                                                   final PublicKey quoteMintAccount,
+                                                   final int bump) {
+    return ProgramAddressCache.createProgramAddress(POOL_SEED, baseMintAccount, quoteMintAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress quoteVaultPDA(final PublicKey program,
+                                                    final PublicKey poolStateAccount,
+                                                    final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_VAULT_SEED, poolStateAccount, quoteMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress quoteVaultPDA(final PublicKey program,
+                                                    final PublicKey poolStateAccount,
+                                                    final PublicKey quoteMintAccount,
+                                                    final int bump) {
+    return ProgramAddressCache.createProgramAddress(POOL_VAULT_SEED, poolStateAccount, quoteMintAccount, bump, program);
+  }
+
+  public static ProgramDerivedAddress recipientTokenAccountPDA(final PublicKey program,
+                                                               final PublicKey creatorAccount,
+                                                               final PublicKey tokenProgramAccount,
+                                                               final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(creatorAccount, tokenProgramAccount, quoteMintAccount, program);
+  }
+
+  public static ProgramDerivedAddress recipientTokenAccountPDA(final PublicKey program,
+                                                               final PublicKey creatorAccount,
+                                                               final PublicKey tokenProgramAccount,
+                                                               final PublicKey quoteMintAccount,
+                                                               final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        creatorAccount, tokenProgramAccount, quoteMintAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress recipientTokenAccount1PDA(final PublicKey program,
+                                                                final PublicKey platformFeeWalletAccount,
+                                                                final PublicKey tokenProgramAccount,
+                                                                final PublicKey quoteMintAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        platformFeeWalletAccount, tokenProgramAccount, quoteMintAccount, program
+    );
+  }
+
+  public static ProgramDerivedAddress recipientTokenAccount1PDA(final PublicKey program,
+                                                                final PublicKey platformFeeWalletAccount,
+                                                                final PublicKey tokenProgramAccount,
+                                                                final PublicKey quoteMintAccount,
+                                                                final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        platformFeeWalletAccount, tokenProgramAccount, quoteMintAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress userBaseTokenPDA(final PublicKey program,
+                                                       final PublicKey beneficiaryAccount,
+                                                       final PublicKey baseTokenProgramAccount,
+                                                       final PublicKey baseTokenMintAccount) {
+    return ProgramAddressCache.findProgramAddress(
+        beneficiaryAccount, baseTokenProgramAccount, baseTokenMintAccount, program
+    );
+  }
+
+  public static ProgramDerivedAddress userBaseTokenPDA(final PublicKey program,
+                                                       final PublicKey beneficiaryAccount,
+                                                       final PublicKey baseTokenProgramAccount,
+                                                       final PublicKey baseTokenMintAccount,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        beneficiaryAccount, baseTokenProgramAccount, baseTokenMintAccount, bump, program
+    );
+  }
+
+  public static ProgramDerivedAddress vestingRecordPDA(final PublicKey program,
+                                                       final PublicKey poolStateAccount,
+                                                       final PublicKey beneficiaryAccount) {
+    return ProgramAddressCache.findProgramAddress(POOL_VESTING_SEED, poolStateAccount, beneficiaryAccount, program);
+  }
+
+  public static ProgramDerivedAddress vestingRecordPDA(final PublicKey program,
+                                                       final PublicKey poolStateAccount,
+                                                       final PublicKey beneficiaryAccount,
+                                                       final int bump) {
+    return ProgramAddressCache.createProgramAddress(
+        POOL_VESTING_SEED, poolStateAccount, beneficiaryAccount, bump, program
+    );
+  }
+
+  private RaydiumLaunchpadCachedPDAs() {
+  }
+}
@@ -0,0 +1,291 @@
+package software.sava.anchor.programs.raydium.launchpad;
+
+import software.sava.anchor.programs.raydium.launchpad.anchor.RaydiumLaunchpadProgram;
+import software.sava.core.borsh.Borsh;
+import software.sava.core.programs.Discriminator;
+import software.sava.core.tx.Instruction;
+
+import java.util.Arrays;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+import static software.sava.core.programs.Discriminator.createAnchorDiscriminator;
+
+// Raydium launchpad instruction data decoded into the RaydiumLaunchpadProgram IxData records.
+// Instructions without arguments have no generated record and decode to the discriminator only records below.
+public final class RaydiumLaunchpadInstructionDecoder {
+
+  public record ClaimCreatorFeeIxData(Discriminator discriminator) implements Borsh {
+
+    public static ClaimCreatorFeeIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ClaimCreatorFeeIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ClaimCreatorFeeIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record ClaimPlatformFeeFromVaultIxData(Discriminator discriminator) implements Borsh {
+
+    public static ClaimPlatformFeeFromVaultIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ClaimPlatformFeeFromVaultIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ClaimPlatformFeeFromVaultIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record ClaimPlatformFeeIxData(Discriminator discriminator) implements Borsh {
+
+    public static ClaimPlatformFeeIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ClaimPlatformFeeIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ClaimPlatformFeeIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record ClaimVestedTokenIxData(Discriminator discriminator) implements Borsh {
+
+    public static ClaimVestedTokenIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static ClaimVestedTokenIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new ClaimVestedTokenIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CollectFeeIxData(Discriminator discriminator) implements Borsh {
+
+    public static CollectFeeIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CollectFeeIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CollectFeeIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CollectMigrateFeeIxData(Discriminator discriminator) implements Borsh {
+
+    public static CollectMigrateFeeIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CollectMigrateFeeIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CollectMigrateFeeIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record CreatePlatformVestingAccountIxData(Discriminator discriminator) implements Borsh {
+
+    public static CreatePlatformVestingAccountIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static CreatePlatformVestingAccountIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new CreatePlatformVestingAccountIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  public record MigrateToCpswapIxData(Discriminator discriminator) implements Borsh {
+
+    public static MigrateToCpswapIxData read(final Instruction instruction) {
+      return read(instruction.data(), instruction.offset());
+    }
+
+    public static final int BYTES = 8;
+
+    public static MigrateToCpswapIxData read(final byte[] _data, final int offset) {
+      if (_data == null || _data.length == 0) {
+        return null;
+      }
+      return new MigrateToCpswapIxData(createAnchorDiscriminator(_data, offset));
+    }
+
+    @Override
+    public int write(final byte[] _data, final int offset) {
+      return discriminator.write(_data, offset);
+    }
+
+    @Override
+    public int l() {
+      return BYTES;
+    }
+  }
+
+  // Sorted, the index of a discriminator selects the case in decodeInstruction.
+  private static final long[] DISCRIMINATORS = {
+      getInt64LE(RaydiumLaunchpadProgram.MIGRATE_TO_CPSWAP_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.UPDATE_PLATFORM_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.REMOVE_PLATFORM_CURVE_PARAM_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.SELL_EXACT_OUT_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.COLLECT_MIGRATE_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CREATE_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CREATE_VESTING_ACCOUNT_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.MIGRATE_TO_AMM_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.BUY_EXACT_IN_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.INITIALIZE_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CLAIM_CREATOR_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.INITIALIZE_WITH_TOKEN_2222_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CREATE_PLATFORM_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.SELL_EXACT_IN_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CLAIM_PLATFORM_FEE_FROM_VAULT_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.INITIALIZE_V_2_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CLAIM_VESTED_TOKEN_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.COLLECT_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.BUY_EXACT_OUT_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.UPDATE_PLATFORM_CURVE_PARAM_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CLAIM_PLATFORM_FEE_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.UPDATE_CONFIG_DISCRIMINATOR.data(), 0),
+      getInt64LE(RaydiumLaunchpadProgram.CREATE_PLATFORM_VESTING_ACCOUNT_DISCRIMINATOR.data(), 0)
+  };
+
+  public static Borsh decodeInstruction(final Instruction instruction) {
+    return decodeInstruction(instruction.data(), instruction.offset());
+  }
+
+  // null if the data is shorter than a discriminator or the discriminator is not recognized.
+  public static Borsh decodeInstruction(final byte[] _data, final int offset) {
+    if (_data == null || _data.length - offset < 8) {
+      return null;
+    }
+    return switch (Arrays.binarySearch(DISCRIMINATORS, getInt64LE(_data, offset))) {
+      case 0 -> MigrateToCpswapIxData.read(_data, offset);
+      case 1 -> RaydiumLaunchpadProgram.UpdatePlatformConfigIxData.read(_data, offset);
+      case 2 -> RaydiumLaunchpadProgram.RemovePlatformCurveParamIxData.read(_data, offset);
+      case 3 -> RaydiumLaunchpadProgram.SellExactOutIxData.read(_data, offset);
+      case 4 -> CollectMigrateFeeIxData.read(_data, offset);
+      case 5 -> RaydiumLaunchpadProgram.CreateConfigIxData.read(_data, offset);
+      case 6 -> RaydiumLaunchpadProgram.CreateVestingAccountIxData.read(_data, offset);
+      case 7 -> RaydiumLaunchpadProgram.MigrateToAmmIxData.read(_data, offset);
+      case 8 -> RaydiumLaunchpadProgram.BuyExactInIxData.read(_data, offset);
+      case 9 -> RaydiumLaunchpadProgram.InitializeIxData.read(_data, offset);
+      case 10 -> ClaimCreatorFeeIxData.read(_data, offset);
+      case 11 -> RaydiumLaunchpadProgram.InitializeWithToken2022IxData.read(_data, offset);
+      case 12 -> RaydiumLaunchpadProgram.CreatePlatformConfigIxData.read(_data, offset);
+      case 13 -> RaydiumLaunchpadProgram.SellExactInIxData.read(_data, offset);
+      case 14 -> ClaimPlatformFeeFromVaultIxData.read(_data, offset);
+      case 15 -> RaydiumLaunchpadProgram.InitializeV2IxData.read(_data, offset);
+      case 16 -> ClaimVestedTokenIxData.read(_data, offset);
+      case 17 -> CollectFeeIxData.read(_data, offset);
+      case 18 -> RaydiumLaunchpadProgram.BuyExactOutIxData.read(_data, offset);
+      case 19 -> RaydiumLaunchpadProgram.UpdatePlatformCurveParamIxData.read(_data, offset);
+      case 20 -> ClaimPlatformFeeIxData.read(_data, offset);
+      case 21 -> RaydiumLaunchpadProgram.UpdateConfigIxData.read(_data, offset);
+      case 22 -> CreatePlatformVestingAccountIxData.read(_data, offset);
+      default -> null;
+    };
+  }
+
+  private RaydiumLaunchpadInstructionDecoder() {
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.raydium.launchpad.RaydiumLaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ClaimCreatorFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.CLAIM_CREATOR_FEE_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimCreatorFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimCreatorFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimCreatorFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static ClaimCreatorFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ClaimCreatorFeeIxDataSegmentView(segment, 0);
+  }
+
+  public ClaimCreatorFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimCreatorFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadInstructionDecoder.ClaimCreatorFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadInstructionDecoder.ClaimCreatorFeeIxData.BYTES, RaydiumLaunchpadInstructionDecoder.ClaimCreatorFeeIxData::read);
+  }
+}
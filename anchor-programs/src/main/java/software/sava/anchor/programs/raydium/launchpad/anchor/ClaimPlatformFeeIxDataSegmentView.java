@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.raydium.launchpad.RaydiumLaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ClaimPlatformFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.CLAIM_PLATFORM_FEE_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimPlatformFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimPlatformFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimPlatformFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static ClaimPlatformFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ClaimPlatformFeeIxDataSegmentView(segment, 0);
+  }
+
+  public ClaimPlatformFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimPlatformFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadInstructionDecoder.ClaimPlatformFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadInstructionDecoder.ClaimPlatformFeeIxData.BYTES, RaydiumLaunchpadInstructionDecoder.ClaimPlatformFeeIxData::read);
+  }
+}
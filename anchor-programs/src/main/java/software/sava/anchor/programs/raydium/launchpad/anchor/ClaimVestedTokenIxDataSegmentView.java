@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.raydium.launchpad.RaydiumLaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class ClaimVestedTokenIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.CLAIM_VESTED_TOKEN_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimVestedTokenIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimVestedTokenIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimVestedTokenIxDataSegmentView(segment, offset);
+  }
+
+  public static ClaimVestedTokenIxDataSegmentView wrap(final MemorySegment segment) {
+    return new ClaimVestedTokenIxDataSegmentView(segment, 0);
+  }
+
+  public ClaimVestedTokenIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimVestedTokenIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadInstructionDecoder.ClaimVestedTokenIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadInstructionDecoder.ClaimVestedTokenIxData.BYTES, RaydiumLaunchpadInstructionDecoder.ClaimVestedTokenIxData::read);
+  }
+}
@@ -0,0 +1,57 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.raydium.launchpad.RaydiumLaunchpadInstructionDecoder;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CollectFeeIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.COLLECT_FEE_DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CollectFeeIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CollectFeeIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CollectFeeIxDataSegmentView(segment, offset);
+  }
+
+  public static CollectFeeIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CollectFeeIxDataSegmentView(segment, 0);
+  }
+
+  public CollectFeeIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CollectFeeIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadInstructionDecoder.CollectFeeIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadInstructionDecoder.CollectFeeIxData.BYTES, RaydiumLaunchpadInstructionDecoder.CollectFeeIxData::read);
+  }
+}
@@ -0,0 +1,79 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.CREATE_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int CURVE_TYPE_OFFSET = 8;
+  private static final int INDEX_OFFSET = CURVE_TYPE_OFFSET + 1;
+  private static final int MIGRATE_FEE_OFFSET = INDEX_OFFSET + 2;
+  private static final int TRADE_FEE_RATE_OFFSET = MIGRATE_FEE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateConfigIxDataSegmentView(segment, 0);
+  }
+
+  public CreateConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.CreateConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.CreateConfigIxData.BYTES, RaydiumLaunchpadProgram.CreateConfigIxData::read);
+  }
+
+  public int curveType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + CURVE_TYPE_OFFSET) & 0xFF;
+  }
+
+  public int index() {
+    return getInt16LE(segment, offset + INDEX_OFFSET);
+  }
+
+  public long migrateFee() {
+    return getInt64LE(segment, offset + MIGRATE_FEE_OFFSET);
+  }
+
+  public long tradeFeeRate() {
+    return getInt64LE(segment, offset + TRADE_FEE_RATE_OFFSET);
+  }
+}
@@ -0,0 +1,62 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class CreateVestingAccountIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.CREATE_VESTING_ACCOUNT_DISCRIMINATOR.data(), 0);
+
+  private static final int SHARE_AMOUNT_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateVestingAccountIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateVestingAccountIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateVestingAccountIxDataSegmentView(segment, offset);
+  }
+
+  public static CreateVestingAccountIxDataSegmentView wrap(final MemorySegment segment) {
+    return new CreateVestingAccountIxDataSegmentView(segment, 0);
+  }
+
+  public CreateVestingAccountIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateVestingAccountIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.CreateVestingAccountIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.CreateVestingAccountIxData.BYTES, RaydiumLaunchpadProgram.CreateVestingAccountIxData::read);
+  }
+
+  public long shareAmount() {
+    return getInt64LE(segment, offset + SHARE_AMOUNT_OFFSET);
+  }
+}
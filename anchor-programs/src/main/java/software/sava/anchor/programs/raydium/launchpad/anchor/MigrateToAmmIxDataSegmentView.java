@@ -0,0 +1,73 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class MigrateToAmmIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.MIGRATE_TO_AMM_DISCRIMINATOR.data(), 0);
+
+  private static final int BASE_LOT_SIZE_OFFSET = 8;
+  private static final int QUOTE_LOT_SIZE_OFFSET = BASE_LOT_SIZE_OFFSET + 8;
+  private static final int MARKET_VAULT_SIGNER_NONCE_OFFSET = QUOTE_LOT_SIZE_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private MigrateToAmmIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static MigrateToAmmIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new MigrateToAmmIxDataSegmentView(segment, offset);
+  }
+
+  public static MigrateToAmmIxDataSegmentView wrap(final MemorySegment segment) {
+    return new MigrateToAmmIxDataSegmentView(segment, 0);
+  }
+
+  public MigrateToAmmIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public MigrateToAmmIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.MigrateToAmmIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.MigrateToAmmIxData.BYTES, RaydiumLaunchpadProgram.MigrateToAmmIxData::read);
+  }
+
+  public long baseLotSize() {
+    return getInt64LE(segment, offset + BASE_LOT_SIZE_OFFSET);
+  }
+
+  public long quoteLotSize() {
+    return getInt64LE(segment, offset + QUOTE_LOT_SIZE_OFFSET);
+  }
+
+  public int marketVaultSignerNonce() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + MARKET_VAULT_SIGNER_NONCE_OFFSET) & 0xFF;
+  }
+}
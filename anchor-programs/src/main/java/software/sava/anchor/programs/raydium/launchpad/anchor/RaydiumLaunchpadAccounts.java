@@ -0,0 +1,44 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.GlobalConfig;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.PlatformConfig;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.PoolState;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.VestingRecord;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.borsh.Borsh;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class RaydiumLaunchpadAccounts {
+
+  public static final long GLOBAL_CONFIG_DISCRIMINATOR = getInt64LE(GlobalConfig.DISCRIMINATOR.data(), 0);
+  public static final long PLATFORM_CONFIG_DISCRIMINATOR = getInt64LE(PlatformConfig.DISCRIMINATOR.data(), 0);
+  public static final long POOL_STATE_DISCRIMINATOR = getInt64LE(PoolState.DISCRIMINATOR.data(), 0);
+  public static final long VESTING_RECORD_DISCRIMINATOR = getInt64LE(VestingRecord.DISCRIMINATOR.data(), 0);
+
+  public static Borsh decode(final PublicKey _address, final byte[] _data) {
+    if (_data == null || _data.length < 8) {
+      return null;
+    }
+    final long discriminator = getInt64LE(_data, 0);
+    if (discriminator == GLOBAL_CONFIG_DISCRIMINATOR) {
+      return GlobalConfig.read(_address, _data, 0);
+    } else if (discriminator == PLATFORM_CONFIG_DISCRIMINATOR) {
+      return PlatformConfig.read(_address, _data, 0);
+    } else if (discriminator == POOL_STATE_DISCRIMINATOR) {
+      return PoolState.read(_address, _data, 0);
+    } else if (discriminator == VESTING_RECORD_DISCRIMINATOR) {
+      return VestingRecord.read(_address, _data, 0);
+    } else {
+      return null;
+    }
+  }
+
+  public static Borsh decode(final AccountInfo<byte[]> accountInfo) {
+    return decode(accountInfo.pubKey(), accountInfo.data());
+  }
+
+  private RaydiumLaunchpadAccounts() {
+  }
+}
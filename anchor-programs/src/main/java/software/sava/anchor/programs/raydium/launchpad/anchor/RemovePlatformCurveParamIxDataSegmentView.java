@@ -0,0 +1,63 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class RemovePlatformCurveParamIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.REMOVE_PLATFORM_CURVE_PARAM_DISCRIMINATOR.data(), 0);
+
+  private static final int INDEX_OFFSET = 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private RemovePlatformCurveParamIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static RemovePlatformCurveParamIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new RemovePlatformCurveParamIxDataSegmentView(segment, offset);
+  }
+
+  public static RemovePlatformCurveParamIxDataSegmentView wrap(final MemorySegment segment) {
+    return new RemovePlatformCurveParamIxDataSegmentView(segment, 0);
+  }
+
+  public RemovePlatformCurveParamIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public RemovePlatformCurveParamIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.RemovePlatformCurveParamIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.RemovePlatformCurveParamIxData.BYTES, RaydiumLaunchpadProgram.RemovePlatformCurveParamIxData::read);
+  }
+
+  public int index() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + INDEX_OFFSET) & 0xFF;
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SellExactInIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.SELL_EXACT_IN_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_IN_OFFSET = 8;
+  private static final int MINIMUM_AMOUNT_OUT_OFFSET = AMOUNT_IN_OFFSET + 8;
+  private static final int SHARE_FEE_RATE_OFFSET = MINIMUM_AMOUNT_OUT_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SellExactInIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SellExactInIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SellExactInIxDataSegmentView(segment, offset);
+  }
+
+  public static SellExactInIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SellExactInIxDataSegmentView(segment, 0);
+  }
+
+  public SellExactInIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SellExactInIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.SellExactInIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.SellExactInIxData.BYTES, RaydiumLaunchpadProgram.SellExactInIxData::read);
+  }
+
+  public long amountIn() {
+    return getInt64LE(segment, offset + AMOUNT_IN_OFFSET);
+  }
+
+  public long minimumAmountOut() {
+    return getInt64LE(segment, offset + MINIMUM_AMOUNT_OUT_OFFSET);
+  }
+
+  public long shareFeeRate() {
+    return getInt64LE(segment, offset + SHARE_FEE_RATE_OFFSET);
+  }
+}
@@ -0,0 +1,72 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class SellExactOutIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.SELL_EXACT_OUT_DISCRIMINATOR.data(), 0);
+
+  private static final int AMOUNT_OUT_OFFSET = 8;
+  private static final int MAXIMUM_AMOUNT_IN_OFFSET = AMOUNT_OUT_OFFSET + 8;
+  private static final int SHARE_FEE_RATE_OFFSET = MAXIMUM_AMOUNT_IN_OFFSET + 8;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private SellExactOutIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static SellExactOutIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new SellExactOutIxDataSegmentView(segment, offset);
+  }
+
+  public static SellExactOutIxDataSegmentView wrap(final MemorySegment segment) {
+    return new SellExactOutIxDataSegmentView(segment, 0);
+  }
+
+  public SellExactOutIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public SellExactOutIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.SellExactOutIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.SellExactOutIxData.BYTES, RaydiumLaunchpadProgram.SellExactOutIxData::read);
+  }
+
+  public long amountOut() {
+    return getInt64LE(segment, offset + AMOUNT_OUT_OFFSET);
+  }
+
+  public long maximumAmountIn() {
+    return getInt64LE(segment, offset + MAXIMUM_AMOUNT_IN_OFFSET);
+  }
+
+  public long shareFeeRate() {
+    return getInt64LE(segment, offset + SHARE_FEE_RATE_OFFSET);
+  }
+}
@@ -0,0 +1,68 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UpdateConfigIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.UPDATE_CONFIG_DISCRIMINATOR.data(), 0);
+
+  private static final int PARAM_OFFSET = 8;
+  private static final int VALUE_OFFSET = PARAM_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdateConfigIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdateConfigIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdateConfigIxDataSegmentView(segment, offset);
+  }
+
+  public static UpdateConfigIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UpdateConfigIxDataSegmentView(segment, 0);
+  }
+
+  public UpdateConfigIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdateConfigIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.UpdateConfigIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.UpdateConfigIxData.BYTES, RaydiumLaunchpadProgram.UpdateConfigIxData::read);
+  }
+
+  public int param() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PARAM_OFFSET) & 0xFF;
+  }
+
+  public long value() {
+    return getInt64LE(segment, offset + VALUE_OFFSET);
+  }
+}
@@ -0,0 +1,69 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.anchor.programs.raydium.launchpad.anchor.types.BondingCurveParam;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+
+// Instruction data, starting with the instruction discriminator.
+public final class UpdatePlatformCurveParamIxDataSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(RaydiumLaunchpadProgram.UPDATE_PLATFORM_CURVE_PARAM_DISCRIMINATOR.data(), 0);
+
+  private static final int INDEX_OFFSET = 8;
+  private static final int BONDING_CURVE_PARAM_OFFSET = INDEX_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private UpdatePlatformCurveParamIxDataSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static UpdatePlatformCurveParamIxDataSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new UpdatePlatformCurveParamIxDataSegmentView(segment, offset);
+  }
+
+  public static UpdatePlatformCurveParamIxDataSegmentView wrap(final MemorySegment segment) {
+    return new UpdatePlatformCurveParamIxDataSegmentView(segment, 0);
+  }
+
+  public UpdatePlatformCurveParamIxDataSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public UpdatePlatformCurveParamIxDataSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public RaydiumLaunchpadProgram.UpdatePlatformCurveParamIxData read() {
+    return MemorySegmentUtil.read(segment, offset, RaydiumLaunchpadProgram.UpdatePlatformCurveParamIxData.BYTES, RaydiumLaunchpadProgram.UpdatePlatformCurveParamIxData::read);
+  }
+
+  public int index() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + INDEX_OFFSET) & 0xFF;
+  }
+
+  public BondingCurveParam bondingCurveParam() {
+    return MemorySegmentUtil.read(segment, offset + BONDING_CURVE_PARAM_OFFSET, BondingCurveParam.BYTES, BondingCurveParam::read);
+  }
+}
@@ -0,0 +1,67 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class ClaimVestedEventSegmentView {
+
+  private static final int POOL_STATE_OFFSET = 0;
+  private static final int BENEFICIARY_OFFSET = POOL_STATE_OFFSET + 32;
+  private static final int CLAIM_AMOUNT_OFFSET = BENEFICIARY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private ClaimVestedEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static ClaimVestedEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new ClaimVestedEventSegmentView(segment, offset);
+  }
+
+  public static ClaimVestedEventSegmentView wrap(final MemorySegment segment) {
+    return new ClaimVestedEventSegmentView(segment, 0);
+  }
+
+  public ClaimVestedEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public ClaimVestedEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public ClaimVestedEvent read() {
+    return MemorySegmentUtil.read(segment, offset, ClaimVestedEvent.BYTES, ClaimVestedEvent::read);
+  }
+
+  public PublicKey poolState() {
+    return readPubKey(segment, offset + POOL_STATE_OFFSET);
+  }
+
+  public PublicKey beneficiary() {
+    return readPubKey(segment, offset + BENEFICIARY_OFFSET);
+  }
+
+  public long claimAmount() {
+    return getInt64LE(segment, offset + CLAIM_AMOUNT_OFFSET);
+  }
+}
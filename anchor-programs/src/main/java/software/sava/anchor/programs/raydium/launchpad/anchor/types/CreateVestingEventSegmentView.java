@@ -0,0 +1,67 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class CreateVestingEventSegmentView {
+
+  private static final int POOL_STATE_OFFSET = 0;
+  private static final int BENEFICIARY_OFFSET = POOL_STATE_OFFSET + 32;
+  private static final int SHARE_AMOUNT_OFFSET = BENEFICIARY_OFFSET + 32;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private CreateVestingEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static CreateVestingEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new CreateVestingEventSegmentView(segment, offset);
+  }
+
+  public static CreateVestingEventSegmentView wrap(final MemorySegment segment) {
+    return new CreateVestingEventSegmentView(segment, 0);
+  }
+
+  public CreateVestingEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public CreateVestingEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public CreateVestingEvent read() {
+    return MemorySegmentUtil.read(segment, offset, CreateVestingEvent.BYTES, CreateVestingEvent::read);
+  }
+
+  public PublicKey poolState() {
+    return readPubKey(segment, offset + POOL_STATE_OFFSET);
+  }
+
+  public PublicKey beneficiary() {
+    return readPubKey(segment, offset + BENEFICIARY_OFFSET);
+  }
+
+  public long shareAmount() {
+    return getInt64LE(segment, offset + SHARE_AMOUNT_OFFSET);
+  }
+}
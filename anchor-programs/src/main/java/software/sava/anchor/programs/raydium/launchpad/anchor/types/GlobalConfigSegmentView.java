@@ -0,0 +1,141 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt16LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class GlobalConfigSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(GlobalConfig.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private GlobalConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static GlobalConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new GlobalConfigSegmentView(segment, offset);
+  }
+
+  public static GlobalConfigSegmentView wrap(final MemorySegment segment) {
+    return new GlobalConfigSegmentView(segment, 0);
+  }
+
+  public GlobalConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public GlobalConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public GlobalConfig read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, GlobalConfig.BYTES, GlobalConfig::read);
+  }
+
+  // Account update epoch
+  public long epoch() {
+    return getInt64LE(segment, offset + GlobalConfig.EPOCH_OFFSET);
+  }
+
+  // 0: Constant Product Curve
+  // 1: Fixed Price Curve
+  // 2: Linear Price Curve
+  public int curveType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + GlobalConfig.CURVE_TYPE_OFFSET) & 0xFF;
+  }
+
+  // Config index
+  public int index() {
+    return getInt16LE(segment, offset + GlobalConfig.INDEX_OFFSET);
+  }
+
+  // The fee of migrate to amm
+  public long migrateFee() {
+    return getInt64LE(segment, offset + GlobalConfig.MIGRATE_FEE_OFFSET);
+  }
+
+  // The trade fee rate, denominated in hundredths of a bip (10^-6)
+  public long tradeFeeRate() {
+    return getInt64LE(segment, offset + GlobalConfig.TRADE_FEE_RATE_OFFSET);
+  }
+
+  // The maximum share fee rate, denominated in hundredths of a bip (10^-6)
+  public long maxShareFeeRate() {
+    return getInt64LE(segment, offset + GlobalConfig.MAX_SHARE_FEE_RATE_OFFSET);
+  }
+
+  // The minimum base supply, the value without decimals
+  public long minBaseSupply() {
+    return getInt64LE(segment, offset + GlobalConfig.MIN_BASE_SUPPLY_OFFSET);
+  }
+
+  // The maximum lock rate, denominated in hundredths of a bip (10^-6)
+  public long maxLockRate() {
+    return getInt64LE(segment, offset + GlobalConfig.MAX_LOCK_RATE_OFFSET);
+  }
+
+  // The minimum base sell rate, denominated in hundredths of a bip (10^-6)
+  public long minBaseSellRate() {
+    return getInt64LE(segment, offset + GlobalConfig.MIN_BASE_SELL_RATE_OFFSET);
+  }
+
+  // The minimum base migrate rate, denominated in hundredths of a bip (10^-6)
+  public long minBaseMigrateRate() {
+    return getInt64LE(segment, offset + GlobalConfig.MIN_BASE_MIGRATE_RATE_OFFSET);
+  }
+
+  // The minimum quote fund raising, the value with decimals
+  public long minQuoteFundRaising() {
+    return getInt64LE(segment, offset + GlobalConfig.MIN_QUOTE_FUND_RAISING_OFFSET);
+  }
+
+  // Mint information for quote token
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + GlobalConfig.QUOTE_MINT_OFFSET);
+  }
+
+  // Protocol Fee owner
+  public PublicKey protocolFeeOwner() {
+    return readPubKey(segment, offset + GlobalConfig.PROTOCOL_FEE_OWNER_OFFSET);
+  }
+
+  // Migrate Fee owner
+  public PublicKey migrateFeeOwner() {
+    return readPubKey(segment, offset + GlobalConfig.MIGRATE_FEE_OWNER_OFFSET);
+  }
+
+  // Migrate to amm control wallet
+  public PublicKey migrateToAmmWallet() {
+    return readPubKey(segment, offset + GlobalConfig.MIGRATE_TO_AMM_WALLET_OFFSET);
+  }
+
+  // Migrate to cpswap wallet
+  public PublicKey migrateToCpswapWallet() {
+    return readPubKey(segment, offset + GlobalConfig.MIGRATE_TO_CPSWAP_WALLET_OFFSET);
+  }
+}
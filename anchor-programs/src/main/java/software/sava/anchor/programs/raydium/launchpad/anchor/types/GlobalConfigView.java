@@ -0,0 +1,136 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt16LE;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class GlobalConfigView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(GlobalConfig.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private GlobalConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static GlobalConfigView wrap(final byte[] _data, final int offset) {
+    return new GlobalConfigView(_data, offset);
+  }
+
+  public static GlobalConfigView wrap(final byte[] _data) {
+    return new GlobalConfigView(_data, 0);
+  }
+
+  public GlobalConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public GlobalConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public GlobalConfig read(final PublicKey _address) {
+    return GlobalConfig.read(_address, _data, offset);
+  }
+
+  // Account update epoch
+  public long epoch() {
+    return getInt64LE(_data, offset + GlobalConfig.EPOCH_OFFSET);
+  }
+
+  // 0: Constant Product Curve
+  // 1: Fixed Price Curve
+  // 2: Linear Price Curve
+  public int curveType() {
+    return _data[offset + GlobalConfig.CURVE_TYPE_OFFSET] & 0xFF;
+  }
+
+  // Config index
+  public int index() {
+    return getInt16LE(_data, offset + GlobalConfig.INDEX_OFFSET);
+  }
+
+  // The fee of migrate to amm
+  public long migrateFee() {
+    return getInt64LE(_data, offset + GlobalConfig.MIGRATE_FEE_OFFSET);
+  }
+
+  // The trade fee rate, denominated in hundredths of a bip (10^-6)
+  public long tradeFeeRate() {
+    return getInt64LE(_data, offset + GlobalConfig.TRADE_FEE_RATE_OFFSET);
+  }
+
+  // The maximum share fee rate, denominated in hundredths of a bip (10^-6)
+  public long maxShareFeeRate() {
+    return getInt64LE(_data, offset + GlobalConfig.MAX_SHARE_FEE_RATE_OFFSET);
+  }
+
+  // The minimum base supply, the value without decimals
+  public long minBaseSupply() {
+    return getInt64LE(_data, offset + GlobalConfig.MIN_BASE_SUPPLY_OFFSET);
+  }
+
+  // The maximum lock rate, denominated in hundredths of a bip (10^-6)
+  public long maxLockRate() {
+    return getInt64LE(_data, offset + GlobalConfig.MAX_LOCK_RATE_OFFSET);
+  }
+
+  // The minimum base sell rate, denominated in hundredths of a bip (10^-6)
+  public long minBaseSellRate() {
+    return getInt64LE(_data, offset + GlobalConfig.MIN_BASE_SELL_RATE_OFFSET);
+  }
+
+  // The minimum base migrate rate, denominated in hundredths of a bip (10^-6)
+  public long minBaseMigrateRate() {
+    return getInt64LE(_data, offset + GlobalConfig.MIN_BASE_MIGRATE_RATE_OFFSET);
+  }
+
+  // The minimum quote fund raising, the value with decimals
+  public long minQuoteFundRaising() {
+    return getInt64LE(_data, offset + GlobalConfig.MIN_QUOTE_FUND_RAISING_OFFSET);
+  }
+
+  // Mint information for quote token
+  public PublicKey quoteMint() {
+    return readPubKey(_data, offset + GlobalConfig.QUOTE_MINT_OFFSET);
+  }
+
+  // Protocol Fee owner
+  public PublicKey protocolFeeOwner() {
+    return readPubKey(_data, offset + GlobalConfig.PROTOCOL_FEE_OWNER_OFFSET);
+  }
+
+  // Migrate Fee owner
+  public PublicKey migrateFeeOwner() {
+    return readPubKey(_data, offset + GlobalConfig.MIGRATE_FEE_OWNER_OFFSET);
+  }
+
+  // Migrate to amm control wallet
+  public PublicKey migrateToAmmWallet() {
+    return readPubKey(_data, offset + GlobalConfig.MIGRATE_TO_AMM_WALLET_OFFSET);
+  }
+
+  // Migrate to cpswap wallet
+  public PublicKey migrateToCpswapWallet() {
+    return readPubKey(_data, offset + GlobalConfig.MIGRATE_TO_CPSWAP_WALLET_OFFSET);
+  }
+}
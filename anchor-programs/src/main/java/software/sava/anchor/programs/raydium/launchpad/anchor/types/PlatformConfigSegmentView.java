@@ -0,0 +1,134 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.copy;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class PlatformConfigSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PlatformConfig.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PlatformConfigSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PlatformConfigSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PlatformConfigSegmentView(segment, offset);
+  }
+
+  public static PlatformConfigSegmentView wrap(final MemorySegment segment) {
+    return new PlatformConfigSegmentView(segment, 0);
+  }
+
+  public PlatformConfigSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PlatformConfigSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  // The epoch for update interval
+  public long epoch() {
+    return getInt64LE(segment, offset + PlatformConfig.EPOCH_OFFSET);
+  }
+
+  // The platform fee wallet
+  public PublicKey platformFeeWallet() {
+    return readPubKey(segment, offset + PlatformConfig.PLATFORM_FEE_WALLET_OFFSET);
+  }
+
+  // The platform nft wallet to receive the platform NFT after migration if platform_scale is not 0(Only support MigrateType::CPSWAP)
+  public PublicKey platformNftWallet() {
+    return readPubKey(segment, offset + PlatformConfig.PLATFORM_NFT_WALLET_OFFSET);
+  }
+
+  // Scale of the platform liquidity quantity rights will be converted into NFT(Only support MigrateType::CPSWAP)
+  public long platformScale() {
+    return getInt64LE(segment, offset + PlatformConfig.PLATFORM_SCALE_OFFSET);
+  }
+
+  // Scale of the token creator liquidity quantity rights will be converted into NFT(Only support MigrateType::CPSWAP)
+  public long creatorScale() {
+    return getInt64LE(segment, offset + PlatformConfig.CREATOR_SCALE_OFFSET);
+  }
+
+  // Scale of liquidity directly to burn
+  public long burnScale() {
+    return getInt64LE(segment, offset + PlatformConfig.BURN_SCALE_OFFSET);
+  }
+
+  // The platform fee rate
+  public long feeRate() {
+    return getInt64LE(segment, offset + PlatformConfig.FEE_RATE_OFFSET);
+  }
+
+  // The platform name
+  public byte[] name() {
+    return copy(segment, offset + PlatformConfig.NAME_OFFSET, 64);
+  }
+
+  // The platform website
+  public byte[] web() {
+    return copy(segment, offset + PlatformConfig.WEB_OFFSET, 256);
+  }
+
+  // The platform img link
+  public byte[] img() {
+    return copy(segment, offset + PlatformConfig.IMG_OFFSET, 256);
+  }
+
+  // The platform specifies the trade fee rate after migration to cp swap
+  public PublicKey cpswapConfig() {
+    return readPubKey(segment, offset + PlatformConfig.CPSWAP_CONFIG_OFFSET);
+  }
+
+  // Creator fee rate
+  public long creatorFeeRate() {
+    return getInt64LE(segment, offset + PlatformConfig.CREATOR_FEE_RATE_OFFSET);
+  }
+
+  // If the base token belongs to token2022, then you can choose to support the transferfeeConfig extension, which includes permissions such as `transfer_fee_config_authority`` and `withdraw_withheld_authority`.
+  // When initializing mint, `withdraw_withheld_authority` and `transfer_fee_config_authority` both belongs to the contract.
+  // Once the token is migrated to AMM, the authorities will be reset to this value
+  public PublicKey transferFeeExtensionAuth() {
+    return readPubKey(segment, offset + PlatformConfig.TRANSFER_FEE_EXTENSION_AUTH_OFFSET);
+  }
+
+  public PublicKey platformVestingWallet() {
+    return readPubKey(segment, offset + PlatformConfig.PLATFORM_VESTING_WALLET_OFFSET);
+  }
+
+  public long platformVestingScale() {
+    return getInt64LE(segment, offset + PlatformConfig.PLATFORM_VESTING_SCALE_OFFSET);
+  }
+
+  // If a valid platform_cp_creator is configured for the platform,
+  // it will be used as the creator for the AMM pool during migration to cpswap pool.
+  public PublicKey platformCpCreator() {
+    return readPubKey(segment, offset + PlatformConfig.PLATFORM_CP_CREATOR_OFFSET);
+  }
+}
@@ -0,0 +1,139 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.util.Arrays;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class PlatformConfigView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(PlatformConfig.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private PlatformConfigView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static PlatformConfigView wrap(final byte[] _data, final int offset) {
+    return new PlatformConfigView(_data, offset);
+  }
+
+  public static PlatformConfigView wrap(final byte[] _data) {
+    return new PlatformConfigView(_data, 0);
+  }
+
+  public PlatformConfigView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public PlatformConfigView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PlatformConfig read(final PublicKey _address) {
+    return PlatformConfig.read(_address, _data, offset);
+  }
+
+  // The epoch for update interval
+  public long epoch() {
+    return getInt64LE(_data, offset + PlatformConfig.EPOCH_OFFSET);
+  }
+
+  // The platform fee wallet
+  public PublicKey platformFeeWallet() {
+    return readPubKey(_data, offset + PlatformConfig.PLATFORM_FEE_WALLET_OFFSET);
+  }
+
+  // The platform nft wallet to receive the platform NFT after migration if platform_scale is not 0(Only support MigrateType::CPSWAP)
+  public PublicKey platformNftWallet() {
+    return readPubKey(_data, offset + PlatformConfig.PLATFORM_NFT_WALLET_OFFSET);
+  }
+
+  // Scale of the platform liquidity quantity rights will be converted into NFT(Only support MigrateType::CPSWAP)
+  public long platformScale() {
+    return getInt64LE(_data, offset + PlatformConfig.PLATFORM_SCALE_OFFSET);
+  }
+
+  // Scale of the token creator liquidity quantity rights will be converted into NFT(Only support MigrateType::CPSWAP)
+  public long creatorScale() {
+    return getInt64LE(_data, offset + PlatformConfig.CREATOR_SCALE_OFFSET);
+  }
+
+  // Scale of liquidity directly to burn
+  public long burnScale() {
+    return getInt64LE(_data, offset + PlatformConfig.BURN_SCALE_OFFSET);
+  }
+
+  // The platform fee rate
+  public long feeRate() {
+    return getInt64LE(_data, offset + PlatformConfig.FEE_RATE_OFFSET);
+  }
+
+  // The platform name
+  public byte[] name() {
+    final int from = offset + PlatformConfig.NAME_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 64);
+  }
+
+  // The platform website
+  public byte[] web() {
+    final int from = offset + PlatformConfig.WEB_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 256);
+  }
+
+  // The platform img link
+  public byte[] img() {
+    final int from = offset + PlatformConfig.IMG_OFFSET;
+    return Arrays.copyOfRange(_data, from, from + 256);
+  }
+
+  // The platform specifies the trade fee rate after migration to cp swap
+  public PublicKey cpswapConfig() {
+    return readPubKey(_data, offset + PlatformConfig.CPSWAP_CONFIG_OFFSET);
+  }
+
+  // Creator fee rate
+  public long creatorFeeRate() {
+    return getInt64LE(_data, offset + PlatformConfig.CREATOR_FEE_RATE_OFFSET);
+  }
+
+  // If the base token belongs to token2022, then you can choose to support the transferfeeConfig extension, which includes permissions such as `transfer_fee_config_authority`` and `withdraw_withheld_authority`.
+  // When initializing mint, `withdraw_withheld_authority` and `transfer_fee_config_authority` both belongs to the contract.
+  // Once the token is migrated to AMM, the authorities will be reset to this value
+  public PublicKey transferFeeExtensionAuth() {
+    return readPubKey(_data, offset + PlatformConfig.TRANSFER_FEE_EXTENSION_AUTH_OFFSET);
+  }
+
+  public PublicKey platformVestingWallet() {
+    return readPubKey(_data, offset + PlatformConfig.PLATFORM_VESTING_WALLET_OFFSET);
+  }
+
+  public long platformVestingScale() {
+    return getInt64LE(_data, offset + PlatformConfig.PLATFORM_VESTING_SCALE_OFFSET);
+  }
+
+  // If a valid platform_cp_creator is configured for the platform,
+  // it will be used as the creator for the AMM pool during migration to cpswap pool.
+  public PublicKey platformCpCreator() {
+    return readPubKey(_data, offset + PlatformConfig.PLATFORM_CP_CREATOR_OFFSET);
+  }
+}
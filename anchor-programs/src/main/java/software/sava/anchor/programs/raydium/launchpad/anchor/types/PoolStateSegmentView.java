@@ -0,0 +1,213 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class PoolStateSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(PoolState.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private PoolStateSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static PoolStateSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new PoolStateSegmentView(segment, offset);
+  }
+
+  public static PoolStateSegmentView wrap(final MemorySegment segment) {
+    return new PoolStateSegmentView(segment, 0);
+  }
+
+  public PoolStateSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public PoolStateSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PoolState read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, PoolState.BYTES, PoolState::read);
+  }
+
+  // Account update epoch
+  public long epoch() {
+    return getInt64LE(segment, offset + PoolState.EPOCH_OFFSET);
+  }
+
+  // Bump seed used for PDA address derivation
+  public int authBump() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.AUTH_BUMP_OFFSET) & 0xFF;
+  }
+
+  // Current status of the pool
+  // * 0: Pool is funding
+  // * 1: Pool funding is end, waiting for migration
+  // * 2: Pool migration is done
+  public int status() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.STATUS_OFFSET) & 0xFF;
+  }
+
+  // Decimals of the pool base token
+  public int baseDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.BASE_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  // Decimals of the pool quote token
+  public int quoteDecimals() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.QUOTE_DECIMALS_OFFSET) & 0xFF;
+  }
+
+  // Migrate to AMM or CpSwap, 0: amm��� 1: cpswap
+  public int migrateType() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.MIGRATE_TYPE_OFFSET) & 0xFF;
+  }
+
+  // Supply of the pool base token
+  public long supply() {
+    return getInt64LE(segment, offset + PoolState.SUPPLY_OFFSET);
+  }
+
+  // Total sell amount of the base token
+  public long totalBaseSell() {
+    return getInt64LE(segment, offset + PoolState.TOTAL_BASE_SELL_OFFSET);
+  }
+
+  // For different curves, virtual_base and virtual_quote have different meanings
+  // For constant product curve, virtual_base and virtual_quote are virtual liquidity, virtual_quote/virtual_base is the initial price
+  // For linear price curve, virtual_base is the price slope parameter a, virtual_quote has no effect
+  // For fixed price curve, virtual_quote/virtual_base is the initial price
+  public long virtualBase() {
+    return getInt64LE(segment, offset + PoolState.VIRTUAL_BASE_OFFSET);
+  }
+
+  public long virtualQuote() {
+    return getInt64LE(segment, offset + PoolState.VIRTUAL_QUOTE_OFFSET);
+  }
+
+  // Actual base token amount in the pool
+  // Represents the real tokens available for trading
+  public long realBase() {
+    return getInt64LE(segment, offset + PoolState.REAL_BASE_OFFSET);
+  }
+
+  // Actual quote token amount in the pool
+  // Represents the real tokens available for trading
+  public long realQuote() {
+    return getInt64LE(segment, offset + PoolState.REAL_QUOTE_OFFSET);
+  }
+
+  // The total quote fund raising of the pool
+  public long totalQuoteFundRaising() {
+    return getInt64LE(segment, offset + PoolState.TOTAL_QUOTE_FUND_RAISING_OFFSET);
+  }
+
+  // Accumulated trading fees in quote tokens
+  // Can be collected by the protocol fee owner
+  public long quoteProtocolFee() {
+    return getInt64LE(segment, offset + PoolState.QUOTE_PROTOCOL_FEE_OFFSET);
+  }
+
+  // Accumulated platform fees in quote tokens
+  // Can be collected by the platform wallet stored in platform config
+  public long platformFee() {
+    return getInt64LE(segment, offset + PoolState.PLATFORM_FEE_OFFSET);
+  }
+
+  // The fee of migrate to amm
+  public long migrateFee() {
+    return getInt64LE(segment, offset + PoolState.MIGRATE_FEE_OFFSET);
+  }
+
+  // Vesting schedule for the base token
+  public VestingSchedule vestingSchedule() {
+    return MemorySegmentUtil.read(segment, offset + PoolState.VESTING_SCHEDULE_OFFSET, VestingSchedule.BYTES, VestingSchedule::read);
+  }
+
+  // Public key of the global configuration account
+  // Contains protocol-wide settings this pool adheres to
+  public PublicKey globalConfig() {
+    return readPubKey(segment, offset + PoolState.GLOBAL_CONFIG_OFFSET);
+  }
+
+  // Public key of the platform configuration account
+  // Contains platform-wide settings this pool adheres to
+  public PublicKey platformConfig() {
+    return readPubKey(segment, offset + PoolState.PLATFORM_CONFIG_OFFSET);
+  }
+
+  // Public key of the base mint address
+  public PublicKey baseMint() {
+    return readPubKey(segment, offset + PoolState.BASE_MINT_OFFSET);
+  }
+
+  // Public key of the quote mint address
+  public PublicKey quoteMint() {
+    return readPubKey(segment, offset + PoolState.QUOTE_MINT_OFFSET);
+  }
+
+  // Public key of the base token vault
+  // Holds the actual base tokens owned by the pool
+  public PublicKey baseVault() {
+    return readPubKey(segment, offset + PoolState.BASE_VAULT_OFFSET);
+  }
+
+  // Public key of the quote token vault
+  // Holds the actual quote tokens owned by the pool
+  public PublicKey quoteVault() {
+    return readPubKey(segment, offset + PoolState.QUOTE_VAULT_OFFSET);
+  }
+
+  // The creator of base token
+  public PublicKey creator() {
+    return readPubKey(segment, offset + PoolState.CREATOR_OFFSET);
+  }
+
+  // token program bits
+  // bit0: base token program flag
+  // 0: spl_token_program
+  // 1: token_program_2022
+  //
+  // bit1: quote token program flag
+  // 0: spl_token_program
+  // 1: token_program_2022
+  public int tokenProgramFlag() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.TOKEN_PROGRAM_FLAG_OFFSET) & 0xFF;
+  }
+
+  // migrate to cpmm, creator fee on quote token or both token
+  public AmmCreatorFeeOn ammCreatorFeeOn() {
+    return AmmCreatorFeeOn.values()[segment.get(ValueLayout.JAVA_BYTE, offset + PoolState.AMM_CREATOR_FEE_ON_OFFSET) & 0xFF];
+  }
+
+  // platform vesting token amount
+  public long platformVestingShare() {
+    return getInt64LE(segment, offset + PoolState.PLATFORM_VESTING_SHARE_OFFSET);
+  }
+}
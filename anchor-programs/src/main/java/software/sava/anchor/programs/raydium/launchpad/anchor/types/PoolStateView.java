@@ -0,0 +1,208 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class PoolStateView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(PoolState.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private PoolStateView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static PoolStateView wrap(final byte[] _data, final int offset) {
+    return new PoolStateView(_data, offset);
+  }
+
+  public static PoolStateView wrap(final byte[] _data) {
+    return new PoolStateView(_data, 0);
+  }
+
+  public PoolStateView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public PoolStateView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public PoolState read(final PublicKey _address) {
+    return PoolState.read(_address, _data, offset);
+  }
+
+  // Account update epoch
+  public long epoch() {
+    return getInt64LE(_data, offset + PoolState.EPOCH_OFFSET);
+  }
+
+  // Bump seed used for PDA address derivation
+  public int authBump() {
+    return _data[offset + PoolState.AUTH_BUMP_OFFSET] & 0xFF;
+  }
+
+  // Current status of the pool
+  // * 0: Pool is funding
+  // * 1: Pool funding is end, waiting for migration
+  // * 2: Pool migration is done
+  public int status() {
+    return _data[offset + PoolState.STATUS_OFFSET] & 0xFF;
+  }
+
+  // Decimals of the pool base token
+  public int baseDecimals() {
+    return _data[offset + PoolState.BASE_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  // Decimals of the pool quote token
+  public int quoteDecimals() {
+    return _data[offset + PoolState.QUOTE_DECIMALS_OFFSET] & 0xFF;
+  }
+
+  // Migrate to AMM or CpSwap, 0: amm��� 1: cpswap
+  public int migrateType() {
+    return _data[offset + PoolState.MIGRATE_TYPE_OFFSET] & 0xFF;
+  }
+
+  // Supply of the pool base token
+  public long supply() {
+    return getInt64LE(_data, offset + PoolState.SUPPLY_OFFSET);
+  }
+
+  // Total sell amount of the base token
+  public long totalBaseSell() {
+    return getInt64LE(_data, offset + PoolState.TOTAL_BASE_SELL_OFFSET);
+  }
+
+  // For different curves, virtual_base and virtual_quote have different meanings
+  // For constant product curve, virtual_base and virtual_quote are virtual liquidity, virtual_quote/virtual_base is the initial price
+  // For linear price curve, virtual_base is the price slope parameter a, virtual_quote has no effect
+  // For fixed price curve, virtual_quote/virtual_base is the initial price
+  public long virtualBase() {
+    return getInt64LE(_data, offset + PoolState.VIRTUAL_BASE_OFFSET);
+  }
+
+  public long virtualQuote() {
+    return getInt64LE(_data, offset + PoolState.VIRTUAL_QUOTE_OFFSET);
+  }
+
+  // Actual base token amount in the pool
+  // Represents the real tokens available for trading
+  public long realBase() {
+    return getInt64LE(_data, offset + PoolState.REAL_BASE_OFFSET);
+  }
+
+  // Actual quote token amount in the pool
+  // Represents the real tokens available for trading
+  public long realQuote() {
+    return getInt64LE(_data, offset + PoolState.REAL_QUOTE_OFFSET);
+  }
+
+  // The total quote fund raising of the pool
+  public long totalQuoteFundRaising() {
+    return getInt64LE(_data, offset + PoolState.TOTAL_QUOTE_FUND_RAISING_OFFSET);
+  }
+
+  // Accumulated trading fees in quote tokens
+  // Can be collected by the protocol fee owner
+  public long quoteProtocolFee() {
+    return getInt64LE(_data, offset + PoolState.QUOTE_PROTOCOL_FEE_OFFSET);
+  }
+
+  // Accumulated platform fees in quote tokens
+  // Can be collected by the platform wallet stored in platform config
+  public long platformFee() {
+    return getInt64LE(_data, offset + PoolState.PLATFORM_FEE_OFFSET);
+  }
+
+  // The fee of migrate to amm
+  public long migrateFee() {
+    return getInt64LE(_data, offset + PoolState.MIGRATE_FEE_OFFSET);
+  }
+
+  // Vesting schedule for the base token
+  public VestingSchedule vestingSchedule() {
+    return VestingSchedule.read(_data, offset + PoolState.VESTING_SCHEDULE_OFFSET);
+  }
+
+  // Public key of the global configuration account
+  // Contains protocol-wide settings this pool adheres to
+  public PublicKey globalConfig() {
+    return readPubKey(_data, offset + PoolState.GLOBAL_CONFIG_OFFSET);
+  }
+
+  // Public key of the platform configuration account
+  // Contains platform-wide settings this pool adheres to
+  public PublicKey platformConfig() {
+    return readPubKey(_data, offset + PoolState.PLATFORM_CONFIG_OFFSET);
+  }
+
+  // Public key of the base mint address
+  public PublicKey baseMint() {
+    return readPubKey(_data, offset + PoolState.BASE_MINT_OFFSET);
+  }
+
+  // Public key of the quote mint address
+  public PublicKey quoteMint() {
+    return readPubKey(_data, offset + PoolState.QUOTE_MINT_OFFSET);
+  }
+
+  // Public key of the base token vault
+  // Holds the actual base tokens owned by the pool
+  public PublicKey baseVault() {
+    return readPubKey(_data, offset + PoolState.BASE_VAULT_OFFSET);
+  }
+
+  // Public key of the quote token vault
+  // Holds the actual quote tokens owned by the pool
+  public PublicKey quoteVault() {
+    return readPubKey(_data, offset + PoolState.QUOTE_VAULT_OFFSET);
+  }
+
+  // The creator of base token
+  public PublicKey creator() {
+    return readPubKey(_data, offset + PoolState.CREATOR_OFFSET);
+  }
+
+  // token program bits
+  // bit0: base token program flag
+  // 0: spl_token_program
+  // 1: token_program_2022
+  //
+  // bit1: quote token program flag
+  // 0: spl_token_program
+  // 1: token_program_2022
+  public int tokenProgramFlag() {
+    return _data[offset + PoolState.TOKEN_PROGRAM_FLAG_OFFSET] & 0xFF;
+  }
+
+  // migrate to cpmm, creator fee on quote token or both token
+  public AmmCreatorFeeOn ammCreatorFeeOn() {
+    return AmmCreatorFeeOn.read(_data, offset + PoolState.AMM_CREATOR_FEE_ON_OFFSET);
+  }
+
+  // platform vesting token amount
+  public long platformVestingShare() {
+    return getInt64LE(_data, offset + PoolState.PLATFORM_VESTING_SHARE_OFFSET);
+  }
+}
@@ -0,0 +1,138 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+// Event fields following the event discriminator.
+public final class TradeEventSegmentView {
+
+  private static final int POOL_STATE_OFFSET = 0;
+  private static final int TOTAL_BASE_SELL_OFFSET = POOL_STATE_OFFSET + 32;
+  private static final int VIRTUAL_BASE_OFFSET = TOTAL_BASE_SELL_OFFSET + 8;
+  private static final int VIRTUAL_QUOTE_OFFSET = VIRTUAL_BASE_OFFSET + 8;
+  private static final int REAL_BASE_BEFORE_OFFSET = VIRTUAL_QUOTE_OFFSET + 8;
+  private static final int REAL_QUOTE_BEFORE_OFFSET = REAL_BASE_BEFORE_OFFSET + 8;
+  private static final int REAL_BASE_AFTER_OFFSET = REAL_QUOTE_BEFORE_OFFSET + 8;
+  private static final int REAL_QUOTE_AFTER_OFFSET = REAL_BASE_AFTER_OFFSET + 8;
+  private static final int AMOUNT_IN_OFFSET = REAL_QUOTE_AFTER_OFFSET + 8;
+  private static final int AMOUNT_OUT_OFFSET = AMOUNT_IN_OFFSET + 8;
+  private static final int PROTOCOL_FEE_OFFSET = AMOUNT_OUT_OFFSET + 8;
+  private static final int PLATFORM_FEE_OFFSET = PROTOCOL_FEE_OFFSET + 8;
+  private static final int CREATOR_FEE_OFFSET = PLATFORM_FEE_OFFSET + 8;
+  private static final int SHARE_FEE_OFFSET = CREATOR_FEE_OFFSET + 8;
+  private static final int TRADE_DIRECTION_OFFSET = SHARE_FEE_OFFSET + 8;
+  private static final int POOL_STATUS_OFFSET = TRADE_DIRECTION_OFFSET + 1;
+  private static final int EXACT_IN_OFFSET = POOL_STATUS_OFFSET + 1;
+
+  private MemorySegment segment;
+  private long offset;
+
+  private TradeEventSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static TradeEventSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new TradeEventSegmentView(segment, offset);
+  }
+
+  public static TradeEventSegmentView wrap(final MemorySegment segment) {
+    return new TradeEventSegmentView(segment, 0);
+  }
+
+  public TradeEventSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public TradeEventSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public TradeEvent read() {
+    return MemorySegmentUtil.read(segment, offset, TradeEvent.BYTES, TradeEvent::read);
+  }
+
+  public PublicKey poolState() {
+    return readPubKey(segment, offset + POOL_STATE_OFFSET);
+  }
+
+  public long totalBaseSell() {
+    return getInt64LE(segment, offset + TOTAL_BASE_SELL_OFFSET);
+  }
+
+  public long virtualBase() {
+    return getInt64LE(segment, offset + VIRTUAL_BASE_OFFSET);
+  }
+
+  public long virtualQuote() {
+    return getInt64LE(segment, offset + VIRTUAL_QUOTE_OFFSET);
+  }
+
+  public long realBaseBefore() {
+    return getInt64LE(segment, offset + REAL_BASE_BEFORE_OFFSET);
+  }
+
+  public long realQuoteBefore() {
+    return getInt64LE(segment, offset + REAL_QUOTE_BEFORE_OFFSET);
+  }
+
+  public long realBaseAfter() {
+    return getInt64LE(segment, offset + REAL_BASE_AFTER_OFFSET);
+  }
+
+  public long realQuoteAfter() {
+    return getInt64LE(segment, offset + REAL_QUOTE_AFTER_OFFSET);
+  }
+
+  public long amountIn() {
+    return getInt64LE(segment, offset + AMOUNT_IN_OFFSET);
+  }
+
+  public long amountOut() {
+    return getInt64LE(segment, offset + AMOUNT_OUT_OFFSET);
+  }
+
+  public long protocolFee() {
+    return getInt64LE(segment, offset + PROTOCOL_FEE_OFFSET);
+  }
+
+  public long platformFee() {
+    return getInt64LE(segment, offset + PLATFORM_FEE_OFFSET);
+  }
+
+  public long creatorFee() {
+    return getInt64LE(segment, offset + CREATOR_FEE_OFFSET);
+  }
+
+  public long shareFee() {
+    return getInt64LE(segment, offset + SHARE_FEE_OFFSET);
+  }
+
+  public TradeDirection tradeDirection() {
+    return TradeDirection.values()[segment.get(ValueLayout.JAVA_BYTE, offset + TRADE_DIRECTION_OFFSET) & 0xFF];
+  }
+
+  public PoolStatus poolStatus() {
+    return PoolStatus.values()[segment.get(ValueLayout.JAVA_BYTE, offset + POOL_STATUS_OFFSET) & 0xFF];
+  }
+
+  public boolean exactIn() {
+    return segment.get(ValueLayout.JAVA_BYTE, offset + EXACT_IN_OFFSET) == 1;
+  }
+}
@@ -0,0 +1,82 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import java.lang.foreign.MemorySegment;
+
+import software.sava.anchor.programs._commons.MemorySegmentUtil;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.encoding.ByteUtil;
+
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.getInt64LE;
+import static software.sava.anchor.programs._commons.MemorySegmentUtil.readPubKey;
+
+public final class VestingRecordSegmentView {
+
+  public static final long DISCRIMINATOR_LONG = ByteUtil.getInt64LE(VestingRecord.DISCRIMINATOR.data(), 0);
+
+  private MemorySegment segment;
+  private long offset;
+
+  private VestingRecordSegmentView(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  public static VestingRecordSegmentView wrap(final MemorySegment segment, final long offset) {
+    return new VestingRecordSegmentView(segment, offset);
+  }
+
+  public static VestingRecordSegmentView wrap(final MemorySegment segment) {
+    return new VestingRecordSegmentView(segment, 0);
+  }
+
+  public VestingRecordSegmentView rewrap(final MemorySegment segment, final long offset) {
+    this.segment = segment;
+    this.offset = offset;
+    return this;
+  }
+
+  public VestingRecordSegmentView rewrap(final MemorySegment segment) {
+    return rewrap(segment, 0);
+  }
+
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  public long offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(segment, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public VestingRecord read(final PublicKey _address) {
+    return MemorySegmentUtil.read(_address, segment, offset, VestingRecord.BYTES, VestingRecord::read);
+  }
+
+  // Account update epoch
+  public long epoch() {
+    return getInt64LE(segment, offset + VestingRecord.EPOCH_OFFSET);
+  }
+
+  // The pool state account
+  public PublicKey pool() {
+    return readPubKey(segment, offset + VestingRecord.POOL_OFFSET);
+  }
+
+  // The beneficiary of the vesting account
+  public PublicKey beneficiary() {
+    return readPubKey(segment, offset + VestingRecord.BENEFICIARY_OFFSET);
+  }
+
+  // The amount of tokens claimed
+  public long claimedAmount() {
+    return getInt64LE(segment, offset + VestingRecord.CLAIMED_AMOUNT_OFFSET);
+  }
+
+  // The share amount of the token to be vested
+  public long tokenShareAmount() {
+    return getInt64LE(segment, offset + VestingRecord.TOKEN_SHARE_AMOUNT_OFFSET);
+  }
+}
@@ -0,0 +1,78 @@
+package software.sava.anchor.programs.raydium.launchpad.anchor.types;
+
+import software.sava.core.accounts.PublicKey;
+
+import static software.sava.core.accounts.PublicKey.readPubKey;
+import static software.sava.core.encoding.ByteUtil.getInt64LE;
+
+public final class VestingRecordView {
+
+  public static final long DISCRIMINATOR_LONG = getInt64LE(VestingRecord.DISCRIMINATOR.data(), 0);
+
+  private byte[] _data;
+  private int offset;
+
+  private VestingRecordView(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+  }
+
+  public static VestingRecordView wrap(final byte[] _data, final int offset) {
+    return new VestingRecordView(_data, offset);
+  }
+
+  public static VestingRecordView wrap(final byte[] _data) {
+    return new VestingRecordView(_data, 0);
+  }
+
+  public VestingRecordView rewrap(final byte[] _data, final int offset) {
+    this._data = _data;
+    this.offset = offset;
+    return this;
+  }
+
+  public VestingRecordView rewrap(final byte[] _data) {
+    return rewrap(_data, 0);
+  }
+
+  public byte[] data() {
+    return _data;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public boolean isDiscriminatorValid() {
+    return getInt64LE(_data, offset) == DISCRIMINATOR_LONG;
+  }
+
+  public VestingRecord read(final PublicKey _address) {
+    return VestingRecord.read(_address, _data, offset);
+  }
+
+  // Account update epoch
+  public long epoch() {
+    return getInt64LE(_data, offset + VestingRecord.EPOCH_OFFSET);
+  }
+
+  // The pool state account
+  public PublicKey pool() {
+    return readPubKey(_data, offset + VestingRecord.POOL_OFFSET);
+  }
+
+  // The beneficiary of the vesting account
+  public PublicKey beneficiary() {
+    return readPubKey(_data, offset + VestingRecord.BENEFICIARY_OFFSET);
+  }
+
+  // The amount of tokens claimed
+  public long claimedAmount() {
+    return getInt64LE(_data, offset + VestingRecord.CLAIMED_AMOUNT_OFFSET);
+  }
+
+  // The share amount of the token to be vested
+  public long tokenShareAmount() {
+    return getInt64LE(_data, offset + VestingRecord.TOKEN_SHARE_AMOUNT_OFFSET);
+  }
+}
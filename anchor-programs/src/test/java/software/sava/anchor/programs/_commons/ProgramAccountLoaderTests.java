@@ -0,0 +1,182 @@
+package software.sava.anchor.programs._commons;
+
+import org.junit.jupiter.api.Test;
+import software.sava.anchor.programs._commons.ProgramAccountLoader.AccountType;
+import software.sava.core.accounts.PublicKey;
+import software.sava.core.rpc.Filter;
+import software.sava.rpc.json.http.client.SolanaRpcClient;
+import software.sava.rpc.json.http.response.AccountInfo;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ProgramAccountLoaderTests {
+
+  private static final PublicKey PROGRAM = PublicKey.fromBase58Encoded("FLASH6Lo6h3iasJKWDs2F8TkW2UKf3s15C8PMGuVfgBn");
+  private static final Filter SIZE_FILTER = Filter.createDataSizeFilter(Integer.BYTES + 1);
+
+  // Answers getProgramAccounts for PROGRAM with getProgramAccounts, any other call fails the test.
+  @SuppressWarnings("unchecked")
+  private static SolanaRpcClient rpcClient(final Function<List<Filter>, List<AccountInfo<byte[]>>> getProgramAccounts) {
+    return (SolanaRpcClient) Proxy.newProxyInstance(
+        SolanaRpcClient.class.getClassLoader(),
+        new Class<?>[]{SolanaRpcClient.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("getProgramAccounts") && args != null && args.length == 2) {
+            assertEquals(PROGRAM, args[0]);
+            final var filters = (List<Filter>) args[1];
+            return CompletableFuture.supplyAsync(() -> getProgramAccounts.apply(filters));
+          }
+          throw new UnsupportedOperationException(method.toString());
+        }
+    );
+  }
+
+  private static AccountInfo<byte[]> accountInfo(final byte[] data) {
+    final byte[] key = new byte[PublicKey.PUBLIC_KEY_LENGTH];
+    System.arraycopy(data, 0, key, 0, data.length);
+    return new AccountInfo<>(PublicKey.createPubKey(key), null, false, 0, PROGRAM, BigInteger.ZERO, data.length, data);
+  }
+
+  // numAccounts accounts per call holding the call number and their index, those with index zero decode to null.
+  private static List<AccountInfo<byte[]>> accounts(final int call, final int numAccounts) {
+    final var accounts = new ArrayList<AccountInfo<byte[]>>(numAccounts);
+    for (int i = 0; i < numAccounts; ++i) {
+      final byte[] data = new byte[Integer.BYTES + 1];
+      data[0] = (byte) (call >> 24);
+      data[1] = (byte) (call >> 16);
+      data[2] = (byte) (call >> 8);
+      data[3] = (byte) call;
+      data[4] = (byte) i;
+      accounts.add(accountInfo(data));
+    }
+    return accounts;
+  }
+
+  private static Integer decode(final PublicKey key, final byte[] data) {
+    if (data[4] == 0) {
+      return null;
+    }
+    final int call = (data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8 | data[3] & 0xFF;
+    return call * 256 + (data[4] & 0xFF);
+  }
+
+  private static PublicKey key(final int i) {
+    final byte[] key = new byte[PublicKey.PUBLIC_KEY_LENGTH];
+    key[0] = (byte) i;
+    key[31] = 1;
+    return PublicKey.createPubKey(key);
+  }
+
+  @Test
+  void plan() {
+    final var type = AccountType.createType(List.of(SIZE_FILTER), ProgramAccountLoaderTests::decode);
+    assertEquals(List.of(List.of(SIZE_FILTER)), type.plan());
+
+    final var byFirstByte = type.partitionByFirstByte(8).plan();
+    assertEquals(256, byFirstByte.size());
+    final var keys = List.of(key(1), key(2), key(3));
+    final var byKeys = type.partitionByKeys(40, keys).plan();
+    assertEquals(keys.size(), byKeys.size());
+    for (final var filters : byKeys) {
+      assertEquals(2, filters.size());
+      assertSame(SIZE_FILTER, filters.getFirst());
+    }
+
+    final var types = List.<AccountType<? extends Integer>>of(type, type.partitionByKeys(40, keys));
+    assertEquals(1 + keys.size(), ProgramAccountLoader.plan(types).size());
+  }
+
+  @Test
+  void loadsEveryPartition() {
+    final var calls = new AtomicInteger();
+    final var rpcClient = rpcClient(filters -> {
+      assertEquals(2, filters.size());
+      assertSame(SIZE_FILTER, filters.getFirst());
+      return accounts(calls.getAndIncrement(), 10);
+    });
+    final var type = AccountType.createType(List.of(SIZE_FILTER), ProgramAccountLoaderTests::decode)
+        .partitionByFirstByte(8);
+
+    final var loaded = ProgramAccountLoader.load(rpcClient, PROGRAM, type, 16);
+
+    assertEquals(256, calls.get());
+    // index zero accounts are dropped
+    assertEquals(256 * 9, loaded.size());
+    assertEquals(loaded.size(), new HashSet<>(loaded).size());
+  }
+
+  @Test
+  void loadsEveryType() {
+    final var calls = new AtomicInteger();
+    final var rpcClient = rpcClient(filters -> accounts(calls.getAndIncrement(), 3));
+    final var keys = List.of(key(1), key(2), key(3), key(4));
+    final var integers = AccountType.createType(List.of(SIZE_FILTER), ProgramAccountLoaderTests::decode)
+        .partitionByKeys(8, keys);
+    final var strings = AccountType.createType(List.of(SIZE_FILTER), (key, data) -> "account " + data[4]);
+
+    final var loaded = ProgramAccountLoader.load(
+        rpcClient, PROGRAM,
+        List.<AccountType<? extends Object>>of(integers, strings),
+        2
+    );
+
+    assertEquals(keys.size() + 1, calls.get());
+    assertEquals(keys.size() * 2, loaded.stream().filter(Integer.class::isInstance).count());
+    assertEquals(3, loaded.stream().filter(String.class::isInstance).count());
+  }
+
+  @Test
+  void boundsConcurrentRequests() {
+    final var inFlight = new AtomicInteger();
+    final var maxInFlight = new AtomicInteger();
+    final var rpcClient = rpcClient(filters -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(5);
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+      return List.of();
+    });
+    final var keys = new ArrayList<PublicKey>();
+    for (int i = 0; i < 32; ++i) {
+      keys.add(key(i));
+    }
+    final var type = AccountType.createType(List.of(SIZE_FILTER), ProgramAccountLoaderTests::decode)
+        .partitionByKeys(8, keys);
+
+    assertTrue(ProgramAccountLoader.load(rpcClient, PROGRAM, type, 4).isEmpty());
+    assertTrue(maxInFlight.get() <= 4, () -> maxInFlight.get() + " concurrent requests");
+  }
+
+  @Test
+  void failedCall() {
+    final var failure = new IllegalStateException("429 Too Many Requests");
+    final var calls = new AtomicInteger();
+    final var rpcClient = rpcClient(filters -> {
+      if (calls.getAndIncrement() == 100) {
+        throw failure;
+      }
+      return List.of();
+    });
+    final var type = AccountType.createType(List.of(SIZE_FILTER), ProgramAccountLoaderTests::decode)
+        .partitionByFirstByte(8);
+
+    final var thrown = assertThrows(
+        IllegalStateException.class,
+        () -> ProgramAccountLoader.load(rpcClient, PROGRAM, type, 8)
+    );
+    assertSame(failure, thrown.getCause());
+  }
+}
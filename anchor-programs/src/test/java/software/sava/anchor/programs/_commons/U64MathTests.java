@@ -0,0 +1,134 @@
+package software.sava.anchor.programs._commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.sava.anchor.programs._commons.U64Math.*;
+
+// Every result is checked against BigInteger.
+final class U64MathTests {
+
+  private static final BigInteger U64 = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+  private static BigInteger unsigned(final long value) {
+    final var big = BigInteger.valueOf(value);
+    return value < 0 ? big.add(U64) : big;
+  }
+
+  private static long expectedDivide(final long hi, final long lo, final long denominator) {
+    return unsigned(hi).shiftLeft(Long.SIZE).or(unsigned(lo)).divide(unsigned(denominator)).longValue();
+  }
+
+  private static void assertMulDiv(final long a, final long b, final long denominator) {
+    final var product = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b));
+    final var quotientAndRemainder = product.divideAndRemainder(BigInteger.valueOf(denominator));
+    final var floor = quotientAndRemainder[0];
+    final var ceil = quotientAndRemainder[1].signum() == 0 ? floor : floor.add(BigInteger.ONE);
+    if (floor.bitLength() < Long.SIZE) {
+      assertEquals(floor.longValue(), mulDiv(a, b, denominator), () -> a + " * " + b + " / " + denominator);
+    } else {
+      assertThrows(ArithmeticException.class, () -> mulDiv(a, b, denominator));
+    }
+    if (ceil.bitLength() < Long.SIZE) {
+      assertEquals(ceil.longValue(), mulDivCeil(a, b, denominator), () -> a + " * " + b + " / " + denominator);
+    } else {
+      assertThrows(ArithmeticException.class, () -> mulDivCeil(a, b, denominator));
+    }
+  }
+
+  @Test
+  void mulDivRandom() {
+    final var random = new Random(1);
+    for (int i = 0; i < 200_000; ++i) {
+      final long a = random.nextLong() >>> (1 + random.nextInt(63));
+      final long b = random.nextLong() >>> (1 + random.nextInt(63));
+      final long denominator = Math.max(1, random.nextLong() >>> (1 + random.nextInt(63)));
+      assertMulDiv(a, b, denominator);
+    }
+  }
+
+  @Test
+  void mulDivBoundaries() {
+    final long[] values = {0, 1, 2, 3, 0xFFFF_FFFFL, 1L << 32, (1L << 32) + 1, 1L << 62, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+    for (final long a : values) {
+      for (final long b : values) {
+        for (final long denominator : values) {
+          if (denominator != 0) {
+            assertMulDiv(a, b, denominator);
+          }
+        }
+      }
+    }
+    assertEquals(Long.MAX_VALUE, mulDiv(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE));
+    assertThrows(ArithmeticException.class, () -> mulDiv(1, 1, 0));
+    assertThrows(ArithmeticException.class, () -> mulDiv(Long.MAX_VALUE, 4, -1));
+  }
+
+  // Products that fit in a long take the fast path, which must reject the same denominators.
+  @Test
+  void mulDivNonPositiveDenominator() {
+    for (final long denominator : new long[]{0, -1, -3, Long.MIN_VALUE}) {
+      assertThrows(ArithmeticException.class, () -> mulDiv(10, 10, denominator));
+      assertThrows(ArithmeticException.class, () -> mulDivCeil(10, 10, denominator));
+      assertThrows(ArithmeticException.class, () -> mulDiv(0, 10, denominator));
+      assertThrows(ArithmeticException.class, () -> mulDivCeil(Long.MAX_VALUE, 4, denominator));
+    }
+  }
+
+  // Denominators with their top bit set are not shifted, s == 0 in divideUnsigned.
+  @Test
+  void divideUnnormalizedDenominator() {
+    final var random = new Random(2);
+    final long[] denominators = {Long.MIN_VALUE, Long.MIN_VALUE + 1, 0x8000_0000_FFFF_FFFFL, -1};
+    for (final long denominator : denominators) {
+      for (int i = 0; i < 10_000; ++i) {
+        final long hi = Long.remainderUnsigned(random.nextLong(), denominator);
+        final long lo = random.nextLong();
+        assertEquals(expectedDivide(hi, lo, denominator), divideUnsigned(hi, lo, denominator));
+      }
+      assertEquals(expectedDivide(denominator - 1, -1, denominator), divideUnsigned(denominator - 1, -1, denominator));
+      assertEquals(expectedDivide(0, -1, denominator), divideUnsigned(0, -1, denominator));
+    }
+  }
+
+  // A high word just below the denominator gives the largest quotients, and with a small vn1 and large vn0 the
+  // first quotient digit estimates overshoot, so both correction loops run.
+  @Test
+  void divideHighWordNearDenominator() {
+    final long[] denominators = {
+        1, 3, 0xFFFF_FFFFL, 1L << 32, (1L << 32) + 1, 0x1_FFFF_FFFFL,
+        0x8000_0000_FFFF_FFFFL, 0x8000_0001_FFFF_FFFFL, 0x4000_0000_FFFF_FFFFL, 0x0000_8000_FFFF_FFFFL,
+        Long.MAX_VALUE, -1
+    };
+    final long[] lows = {0, 1, 0xFFFF_FFFFL, 1L << 32, Long.MAX_VALUE, Long.MIN_VALUE, -1};
+    for (final long denominator : denominators) {
+      for (final long hiOffset : new long[]{1, 2, 0xFFFF_FFFFL}) {
+        if (Long.compareUnsigned(hiOffset, denominator) > 0) {
+          continue;
+        }
+        final long hi = denominator - hiOffset;
+        for (final long lo : lows) {
+          assertEquals(
+              expectedDivide(hi, lo, denominator), divideUnsigned(hi, lo, denominator),
+              () -> Long.toUnsignedString(hi) + ':' + Long.toUnsignedString(lo) + " / " + Long.toUnsignedString(denominator)
+          );
+        }
+      }
+    }
+  }
+
+  @Test
+  void divideRandom() {
+    final var random = new Random(3);
+    for (int i = 0; i < 200_000; ++i) {
+      final long denominator = random.nextLong() >>> random.nextInt(64) | 1;
+      final long hi = Long.remainderUnsigned(random.nextLong(), denominator);
+      final long lo = random.nextLong();
+      assertEquals(expectedDivide(hi, lo, denominator), divideUnsigned(hi, lo, denominator));
+    }
+  }
+}
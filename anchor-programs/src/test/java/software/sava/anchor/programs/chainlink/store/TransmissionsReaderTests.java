@@ -0,0 +1,201 @@
+package software.sava.anchor.programs.chainlink.store;
+
+import org.junit.jupiter.api.Test;
+import software.sava.anchor.programs.chainlink.store.anchor.types.Transmissions;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static software.sava.anchor.programs.chainlink.store.TransmissionsReader.RINGS_OFFSET;
+import static software.sava.core.encoding.ByteUtil.putInt32LE;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+final class TransmissionsReaderTests {
+
+  private static final int GRANULARITY = 3;
+  private static final int LIVE_LENGTH = 4;
+  private static final int HISTORICAL_LENGTH = 5;
+
+  private static long slot(final int roundId) {
+    return 1_000 + 10L * roundId;
+  }
+
+  private static int timestamp(final int roundId) {
+    return 1_700_000_000 + 60 * roundId;
+  }
+
+  private static long answer(final int roundId) {
+    return (roundId & 1) == 0 ? 1_000L * roundId : -1_000L * roundId;
+  }
+
+  // Mirrors the store program's insert and fetch over a Transmissions account.
+  private static final class Store {
+
+    private final byte[] data = new byte[RINGS_OFFSET + (LIVE_LENGTH + HISTORICAL_LENGTH) * Transmission.BYTES];
+    private int latestRoundId;
+    private int liveCursor;
+    private int historicalCursor;
+
+    private Store() {
+      data[Transmissions.GRANULARITY_OFFSET] = GRANULARITY;
+      putInt32LE(data, Transmissions.LIVE_LENGTH_OFFSET, LIVE_LENGTH);
+    }
+
+    private void write(final int index, final int roundId) {
+      final int offset = RINGS_OFFSET + index * Transmission.BYTES;
+      putInt64LE(data, offset + Transmission.SLOT_OFFSET, slot(roundId));
+      putInt32LE(data, offset + Transmission.TIMESTAMP_OFFSET, timestamp(roundId));
+      putInt64LE(data, offset + Transmission.ANSWER_OFFSET, answer(roundId));
+      putInt64LE(data, offset + Transmission.ANSWER_OFFSET + Long.BYTES, answer(roundId) >> 63);
+    }
+
+    private void insert() {
+      ++latestRoundId;
+      write(liveCursor, latestRoundId);
+      liveCursor = (liveCursor + 1) % LIVE_LENGTH;
+      if (latestRoundId % GRANULARITY == 0) {
+        write(LIVE_LENGTH + historicalCursor, latestRoundId);
+        historicalCursor = (historicalCursor + 1) % HISTORICAL_LENGTH;
+      }
+      putInt32LE(data, Transmissions.LATEST_ROUND_ID_OFFSET, latestRoundId);
+      putInt32LE(data, Transmissions.LIVE_CURSOR_OFFSET, liveCursor);
+      putInt32LE(data, Transmissions.HISTORICAL_CURSOR_OFFSET, historicalCursor);
+    }
+
+    // Byte offset of the entry fetch returns for roundId, -1 for none.
+    // Unlike fetch, round 0 and historical rounds the ring has not written yet or has overwritten are excluded.
+    private int fetch(final int roundId) {
+      if (roundId == 0 || roundId > latestRoundId) {
+        return -1;
+      }
+      final int liveStart = Math.max(1, latestRoundId - (LIVE_LENGTH - 1));
+      if (roundId >= liveStart) {
+        final int offset = latestRoundId - roundId + 1;
+        final int index = liveCursor >= offset ? liveCursor - offset : LIVE_LENGTH - (offset - liveCursor);
+        return RINGS_OFFSET + index * Transmission.BYTES;
+      }
+      final int historicalEnd = latestRoundId - latestRoundId % GRANULARITY;
+      final int historicalStart = Math.max(GRANULARITY, historicalEnd - GRANULARITY * (HISTORICAL_LENGTH - 1));
+      if (roundId >= historicalStart && roundId <= historicalEnd) {
+        final int offset = (historicalEnd - (roundId - roundId % GRANULARITY)) / GRANULARITY + 1;
+        final int index = historicalCursor >= offset
+            ? historicalCursor - offset
+            : HISTORICAL_LENGTH - (offset - historicalCursor);
+        return RINGS_OFFSET + (LIVE_LENGTH + index) * Transmission.BYTES;
+      }
+      return -1;
+    }
+  }
+
+  private static Store store(final int numRounds) {
+    final var store = new Store();
+    for (int i = 0; i < numRounds; ++i) {
+      store.insert();
+    }
+    return store;
+  }
+
+  @Test
+  void offsetMatchesFetch() {
+    final var store = new Store();
+    final var reader = TransmissionsReader.wrap(store.data);
+    for (int numRounds = 0; numRounds <= 24; ++numRounds) {
+      reader.rewrap(store.data);
+      assertEquals(numRounds, reader.latestRoundId());
+      for (int roundId = 0; roundId <= numRounds + 1; ++roundId) {
+        final int offset = reader.offset(roundId);
+        assertEquals(store.fetch(roundId), offset, "round " + roundId + " of " + numRounds);
+        if (offset >= 0) {
+          // rounds before the live window resolve to the closest historical round at or before them
+          final int resolved = roundId > numRounds - LIVE_LENGTH ? roundId : roundId - roundId % GRANULARITY;
+          assertEquals(slot(resolved), reader.slot(offset));
+          assertEquals(timestamp(resolved), reader.timestamp(offset));
+          assertEquals(answer(resolved), reader.answer(offset));
+        }
+      }
+      store.insert();
+    }
+  }
+
+  // 10 rounds: the live ring holds 7 to 10 with its cursor wrapped to 2, the historical ring holds 3, 6 and 9 and
+  // its last two entries are still zeroed.
+  @Test
+  void wrappedLiveAndPartialHistorical() {
+    final var store = store(10);
+    final var reader = TransmissionsReader.wrap(store.data);
+    assertEquals(7, reader.liveStartRoundId());
+    assertEquals(HISTORICAL_LENGTH, reader.historicalLength());
+
+    // round 10 was written to live index (10 - 1) % 4
+    assertEquals(RINGS_OFFSET + Transmission.BYTES, reader.latestOffset());
+    assertEquals(slot(10), reader.latestTransmission().slot());
+    assertEquals(-1, reader.offset(2));
+    assertEquals(reader.offset(3), reader.offset(5));
+    assertEquals(RINGS_OFFSET + (LIVE_LENGTH + 1) * Transmission.BYTES, reader.offset(6));
+
+    final var latest = reader.latest(6);
+    assertEquals(4, latest.length);
+    for (int i = 0; i < latest.length; ++i) {
+      assertEquals(slot(7 + i), latest[i].slot());
+      assertEquals(BigInteger.valueOf(answer(7 + i)), latest[i].answer());
+    }
+    final var latestTwo = reader.latest(2);
+    assertEquals(slot(9), latestTwo[0].slot());
+    assertEquals(slot(10), latestTwo[1].slot());
+
+    // bounded by out
+    final int[] out = new int[2];
+    assertEquals(2, reader.latestOffsets(4, out));
+    assertEquals(reader.offset(9), out[0]);
+    assertEquals(reader.offset(10), out[1]);
+    assertEquals(0, reader.latestOffsets(4, new int[0]));
+  }
+
+  @Test
+  void roundAtSlotAndTimestamp() {
+    final var reader = TransmissionsReader.wrap(store(10).data);
+
+    // live window
+    assertEquals(10, reader.roundAtSlot(Long.MAX_VALUE));
+    assertEquals(10, reader.roundAtSlot(slot(10)));
+    assertEquals(8, reader.roundAtSlot(slot(9) - 1));
+    assertEquals(7, reader.roundAtSlot(slot(7)));
+    // before the live window only 3 and 6 remain, the zeroed historical entries are skipped
+    assertEquals(6, reader.roundAtSlot(slot(7) - 1));
+    assertEquals(6, reader.roundAtSlot(slot(6)));
+    assertEquals(3, reader.roundAtSlot(slot(6) - 1));
+    assertEquals(3, reader.roundAtSlot(slot(3)));
+    assertEquals(0, reader.roundAtSlot(slot(3) - 1));
+
+    assertEquals(10, reader.roundAtTimestamp(timestamp(10) + 1));
+    assertEquals(7, reader.roundAtTimestamp(timestamp(8) - 1));
+    assertEquals(6, reader.roundAtTimestamp(timestamp(7) - 1));
+    assertEquals(3, reader.roundAtTimestamp(timestamp(5)));
+    assertEquals(0, reader.roundAtTimestamp(timestamp(1)));
+
+    // 20 rounds: live holds 17 to 20, the wrapped historical ring holds 6 to 18 and only up to 15 is searched
+    final var wrapped = TransmissionsReader.wrap(store(20).data);
+    assertEquals(15, wrapped.roundAtSlot(slot(17) - 1));
+    assertEquals(15, wrapped.roundAtSlot(slot(16)));
+    assertEquals(6, wrapped.roundAtSlot(slot(8)));
+    assertEquals(0, wrapped.roundAtSlot(slot(5)));
+  }
+
+  @Test
+  void emptyAndMissingRounds() {
+    final var reader = TransmissionsReader.wrap(new Store().data);
+    assertEquals(-1, reader.latestOffset());
+    assertNull(reader.latestTransmission());
+    assertEquals(0, reader.latest(4).length);
+    assertEquals(0, reader.roundAtSlot(Long.MAX_VALUE));
+
+    final int missing = reader.rewrap(store(10).data).offset(11);
+    assertEquals(-1, missing);
+    assertNull(reader.transmission(missing));
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.slot(missing));
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.timestamp(missing));
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.answerLow(missing));
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.answerHigh(missing));
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.answer(missing));
+  }
+}
@@ -0,0 +1,388 @@
+package software.sava.anchor.programs.flash.perpetuals;
+
+import org.junit.jupiter.api.Test;
+import software.sava.anchor.programs.flash.perpetuals.anchor.types.*;
+import software.sava.core.accounts.PublicKey;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static software.sava.anchor.programs.flash.perpetuals.PerpetualsPricing.*;
+
+// Expected values are worked by hand from the program's fixed point formulas, see the comment on each case.
+final class PerpetualsPricingTests {
+
+  private static final PublicKey POOL = PublicKey.fromBase58Encoded("5BUwFW4nRbftYTDMbgxykoFWqWHPzahFSNAaaaJtVKsq");
+  private static final PublicKey SOL_CUSTODY = PublicKey.fromBase58Encoded("7xS2gz2bTp3fwCC7knJvUWTEU9Tycczu6VhJYKgi1wdz");
+  private static final PublicKey USDC_CUSTODY = PublicKey.fromBase58Encoded("G18jKKXQwBbrHeiK3C9MRXhkHsLHf7XgCSisykV46EZa");
+  private static final PublicKey MARKET = PublicKey.fromBase58Encoded("3vHoXbUvGhEHFsLUmxyC6VWsbYDreb1zMn9TAp5ijN5K");
+
+  // $150 with 6 decimals.
+  private static final OraclePrice SOL_PRICE = new OraclePrice(150_000_000, -6);
+
+  private static PricingParams pricing(final long tradeSpreadMin,
+                                       final long tradeSpreadMax,
+                                       final long swapSpread,
+                                       final int maxLeverage,
+                                       final long maxPositionSizeUsd) {
+    return pricing(tradeSpreadMin, tradeSpreadMax, swapSpread, maxLeverage, 0, maxPositionSizeUsd);
+  }
+
+  private static PricingParams pricing(final long tradeSpreadMin,
+                                       final long tradeSpreadMax,
+                                       final long swapSpread,
+                                       final int maxLeverage,
+                                       final int maxDegenLeverage,
+                                       final long maxPositionSizeUsd) {
+    return new PricingParams(
+        tradeSpreadMin, tradeSpreadMax, swapSpread,
+        0, 0, 0, 0,
+        maxLeverage, maxDegenLeverage,
+        0, 0,
+        0,
+        0, 0, 0,
+        maxPositionSizeUsd, 0
+    );
+  }
+
+  private static Fees fees(final FeesMode mode, final RatioFees ratioFees, final long openPosition, final long closePosition) {
+    return new Fees(
+        mode,
+        ratioFees, ratioFees, ratioFees, ratioFees, ratioFees, ratioFees,
+        openPosition, closePosition, 0
+    );
+  }
+
+  private static Custody custody(final PublicKey address,
+                                 final int decimals,
+                                 final boolean isStable,
+                                 final PricingParams pricing,
+                                 final Fees fees,
+                                 final long owned) {
+    return custody(address, decimals, isStable, pricing, fees, owned, new BorrowRateState(0, BigInteger.ZERO, 0));
+  }
+
+  private static Custody custody(final PublicKey address,
+                                 final int decimals,
+                                 final boolean isStable,
+                                 final PricingParams pricing,
+                                 final Fees fees,
+                                 final long owned,
+                                 final BorrowRateState borrowRateState) {
+    return new Custody(
+        address, null,
+        POOL, null, null,
+        decimals, isStable, false, false, false,
+        null, pricing, null, fees, null,
+        0,
+        new Assets(0, owned, 0),
+        null,
+        borrowRateState,
+        0, 0, false, 0, 0, 0, 0,
+        new byte[Custody.PADDING_LEN]
+    );
+  }
+
+  private static Custody solCustody(final FeesMode mode) {
+    return custody(
+        SOL_CUSTODY, 9, false,
+        // 0.1% to 0.5% trade spread reached at a $200 position, 100x max and 500x max degen leverage
+        pricing(10, 50, 0, 1_000_000, 5_000_000, 200_000_000),
+        // 0.1% open and 0.2% close fee
+        fees(mode, new RatioFees(1_000_000, 2_000_000, 4_000_000), 1_000_000, 2_000_000),
+        3_000_000_000_000L
+    );
+  }
+
+  private static Market market(final Side side, final long maxPayoffBps) {
+    return new Market(
+        MARKET, null,
+        POOL, SOL_CUSTODY, SOL_CUSTODY,
+        side, false, maxPayoffBps,
+        null, 0, null,
+        0, new byte[Market.PADDING_LEN], 0, new byte[Market.PADDING_2_LEN], 0
+    );
+  }
+
+  private static Position position(final OraclePrice entryPrice, final long sizeUsd, final long collateralUsd) {
+    return position(entryPrice, sizeUsd, collateralUsd, 0, 0, 0);
+  }
+
+  private static Position position(final OraclePrice entryPrice,
+                                   final long sizeUsd,
+                                   final long collateralUsd,
+                                   final long priceImpactUsd,
+                                   final long unsettledValueUsd,
+                                   final long degenSizeUsd) {
+    return lockedPosition(
+        entryPrice, sizeUsd, collateralUsd, priceImpactUsd, unsettledValueUsd, degenSizeUsd,
+        0, 0, BigInteger.ZERO
+    );
+  }
+
+  private static Position lockedPosition(final OraclePrice entryPrice,
+                                         final long sizeUsd,
+                                         final long collateralUsd,
+                                         final long priceImpactUsd,
+                                         final long unsettledValueUsd,
+                                         final long degenSizeUsd,
+                                         final long lockedUsd,
+                                         final long unsettledFeesUsd,
+                                         final BigInteger cumulativeLockFeeSnapshot) {
+    return new Position(
+        null, null,
+        null, MARKET, null,
+        0, 0,
+        entryPrice,
+        0, sizeUsd, 0, lockedUsd, priceImpactUsd, collateralUsd, unsettledValueUsd, unsettledFeesUsd,
+        cumulativeLockFeeSnapshot,
+        degenSizeUsd,
+        entryPrice,
+        new byte[Position.BUFFER_LEN],
+        false, 0, 0, 0, 0,
+        new byte[Position.PADDING_LEN]
+    );
+  }
+
+  private static Pool pool(final long rawAumUsd, final long lpPrice) {
+    return new Pool(
+        POOL, null,
+        "Crypto.1", null,
+        null, 0, null, null, null, null,
+        new PublicKey[]{USDC_CUSTODY, SOL_CUSTODY},
+        new TokenRatios[]{new TokenRatios(5_000, 4_000, 6_000), new TokenRatios(5_000, 4_000, 6_000)},
+        new PublicKey[]{MARKET},
+        0, 0, rawAumUsd, 0,
+        null, 0,
+        0, 0, 0, 0, 0,
+        new byte[Pool.PADDING_LEN],
+        new long[Pool.STAKING_FEE_BOOST_BPS_LEN],
+        null, null, null,
+        0, 0,
+        0, 0, lpPrice, 0, 0, 0, 0, 0
+    );
+  }
+
+  @Test
+  void getEntryPriceAndFee() {
+    final var custody = solCustody(FeesMode.Fixed);
+    // 1 SOL = $150, slope = 40 * 1e7 / 200e6 = 2, spread = 10 + 2 * 150e6 / 1e7 = 40 bps
+    // long: 150e6 * 10040 / 10000, fee: 150e6 * 1e6 / 1e9
+    var result = entryPriceAndFee(custody, SOL_PRICE, 1_000_000_000, Side.Long);
+    assertEquals(new OraclePrice(150_600_000, -6), result.entryPrice());
+    assertEquals(150_000, result.feeUsd());
+
+    // short: 150e6 * 9960 / 10000
+    result = entryPriceAndFee(custody, SOL_PRICE, 1_000_000_000, Side.Short);
+    assertEquals(new OraclePrice(149_400_000, -6), result.entryPrice());
+    assertEquals(150_000, result.feeUsd());
+
+    // $1,500 is past the $200 max position size, the spread is capped at 50 bps
+    result = entryPriceAndFee(custody, SOL_PRICE, 10_000_000_000L, Side.Long);
+    assertEquals(new OraclePrice(150_750_000, -6), result.entryPrice());
+    assertEquals(1_500_000, result.feeUsd());
+  }
+
+  @Test
+  void getExitPriceAndFee() {
+    final var custody = solCustody(FeesMode.Fixed);
+    final var position = position(new OraclePrice(150_600_000, -6), 150_000_000, 30_000_000);
+    // $160 with 8 decimals is rescaled to the entry exponent, spread 40 bps
+    final var targetPrice = new OraclePrice(16_000_000_000L, -8);
+
+    // long exits below: 160e6 * 9960 / 10000, fee: 150e6 * 2e6 / 1e9
+    var result = exitPriceAndFee(position, Side.Long, custody, targetPrice);
+    assertEquals(new OraclePrice(159_360_000, -6), result.price());
+    assertEquals(300_000, result.feeUsd());
+
+    // short exits above: 160e6 * 10040 / 10000
+    result = exitPriceAndFee(position, Side.Short, custody, targetPrice);
+    assertEquals(new OraclePrice(160_640_000, -6), result.price());
+    assertEquals(300_000, result.feeUsd());
+  }
+
+  @Test
+  void getPnl() {
+    final var position = position(new OraclePrice(150_600_000, -6), 150_000_000, 30_000_000);
+    final var exitPrice = new OraclePrice(159_360_000, -6);
+    // delta = 150e6 * (159.36e6 - 150.6e6) / 150.6e6 = 8_725_099.6, truncated
+    var result = PerpetualsPricing.pnl(position, market(Side.Long, 0), exitPrice, 300_000);
+    assertEquals(new ProfitAndLoss(8_725_099 - 300_000, 0), result);
+
+    // a 5% max payoff caps the profit at 150e6 * 500 / 10000
+    result = PerpetualsPricing.pnl(position, market(Side.Long, 500), exitPrice, 300_000);
+    assertEquals(new ProfitAndLoss(7_500_000 - 300_000, 0), result);
+
+    // the same move is a loss for a short, fees add to it
+    result = PerpetualsPricing.pnl(position, market(Side.Short, 0), exitPrice, 300_000);
+    assertEquals(new ProfitAndLoss(0, 8_725_099 + 300_000), result);
+
+    // profit smaller than the fees nets to a loss
+    result = PerpetualsPricing.pnl(position, market(Side.Long, 0), new OraclePrice(150_700_000, -6), 300_000);
+    // delta = 150e6 * 100_000 / 150.6e6 = 99_601.5
+    assertEquals(new ProfitAndLoss(0, 300_000 - 99_601), result);
+  }
+
+  @Test
+  void getLiquidationPrice() {
+    final var custody = solCustody(FeesMode.Fixed);
+    final var entryPrice = new OraclePrice(150_600_000, -6);
+    final var position = position(entryPrice, 150_000_000, 30_000_000);
+    // min margin = 150e6 * 1e4 / 1e6 = 1.5e6, max loss = 30e6 - 0.3e6 - 1.5e6 = 28.2e6
+    // price delta = 28.2e6 * 150.6e6 / 150e6 = 28_312_800
+    var result = liquidationPrice(position, market(Side.Long, 0), custody, 300_000);
+    assertEquals(new OraclePrice(150_600_000 - 28_312_800, -6), result);
+
+    result = liquidationPrice(position, market(Side.Short, 0), custody, 300_000);
+    assertEquals(new OraclePrice(150_600_000 + 28_312_800, -6), result);
+
+    // fees beyond the collateral put the liquidation price on the other side of entry
+    // max loss = 1e6 - 3e6 - 1.5e6 = -3.5e6, price delta = 3.5e6 * 150.6e6 / 150e6 = 3_514_000
+    final var thin = position(entryPrice, 150_000_000, 1_000_000);
+    result = liquidationPrice(thin, market(Side.Long, 0), custody, 3_000_000);
+    assertEquals(new OraclePrice(150_600_000 + 3_514_000, -6), result);
+
+    assertEquals(new OraclePrice(0, -6), liquidationPrice(position(entryPrice, 0, 0), market(Side.Long, 0), custody, 0));
+  }
+
+  // A 250x degen long: $15,060 size on $60.24 collateral, a $30.12 entry price impact and $2 of unsettled value.
+  @Test
+  void getDegenLiquidationPrice() {
+    final var custody = solCustody(FeesMode.Fixed);
+    final var entryPrice = new OraclePrice(150_600_000, -6);
+    final var market = market(Side.Long, 0);
+    final var position = position(entryPrice, 15_060_000_000L, 60_240_000, 30_120_000, 2_000_000, 15_060_000_000L);
+    assertEquals(5_000_000, PerpetualsPricing.maxLeverage(position, custody.pricing()));
+    // min margin = 15_060e6 * 1e4 / 5e6 = 30.12e6, fees = 15_060e6 * 2e6 / 1e9 = 30.12e6
+    // max loss = 60.24e6 + 2e6 - 30.12e6 - 30.12e6 - 30.12e6 = -28.12e6
+    // price delta = 28.12e6 * 150.6e6 / 15_060e6 = 281_200
+    var result = liquidationPrice(position, market, custody, 30_120_000);
+    assertEquals(new OraclePrice(150_600_000 + 281_200, -6), result);
+
+    // without fees: max loss = 60.24e6 + 2e6 - 30.12e6 - 30.12e6 = 2e6, price delta = 2e6 * 150.6e6 / 15_060e6
+    result = liquidationPrice(position, market, custody, 0);
+    assertEquals(new OraclePrice(150_600_000 - 20_000, -6), result);
+
+    // margin = 60.24e6 + 2e6 - 30.12e6 = 32.12e6, leverage = 15_060e6 * 1e4 / 32.12e6 = 4_688_667 bps
+    final var flat = new ProfitAndLoss(0, 0);
+    assertEquals(32_120_000, marginUsd(position, flat));
+    assertEquals(4_688_667, leverage(position, flat));
+    // past 100x but within the 500x degen limit
+    assertFalse(isLiquidatable(position, market, custody, flat));
+    // margin = 32.12e6 - 2.12e6 = 30e6, leverage = 5_020_000 bps
+    assertTrue(isLiquidatable(position, market, custody, new ProfitAndLoss(0, 2_120_000)));
+
+    // the same position without degen size is held to 100x
+    final var regular = position(entryPrice, 15_060_000_000L, 60_240_000, 30_120_000, 2_000_000, 0);
+    assertEquals(1_000_000, PerpetualsPricing.maxLeverage(regular, custody.pricing()));
+    assertTrue(isLiquidatable(regular, market, custody, flat));
+  }
+
+  @Test
+  void lockFeeUsd() {
+    final var fees = fees(FeesMode.Fixed, new RatioFees(0, 0, 0), 0, 0);
+    final var pricing = pricing(0, 0, 0, 0, 0);
+    // cumulative fee wider than 64 bits, 0.01% per hour last updated at t = 1_000
+    final var cumulative = BigInteger.ONE.shiftLeft(64).add(BigInteger.valueOf(5_000_000));
+    final var custody = custody(SOL_CUSTODY, 9, false, pricing, fees, 0,
+        new BorrowRateState(100_000, cumulative, 1_000));
+    // 100_000 * 1_800 / 3_600 = 50_000 accrued by t = 2_800
+    assertEquals(50_000, pendingLockFee(custody, 2_800));
+    assertEquals(0, pendingLockFee(custody, 1_000));
+
+    // the snapshot borrows from the high word: delta = 5e6 + 50_000 + 1e9 = 1_005_050_000
+    final var snapshot = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.valueOf(1_000_000_000));
+    final var position = lockedPosition(SOL_PRICE, 0, 0, 0, 0, 0, 2_000_000_000, 7, snapshot);
+    // 1_005_050_000 * 2_000e6 / 1e9 + 7
+    assertEquals(2_010_100_000L + 7, PerpetualsPricing.lockFeeUsd(position, custody, 2_800));
+
+    // a snapshot ahead of the custody only charges the unsettled fees
+    final var ahead = lockedPosition(SOL_PRICE, 0, 0, 0, 0, 0, 2_000_000_000, 7, cumulative.shiftLeft(1));
+    assertEquals(7, PerpetualsPricing.lockFeeUsd(ahead, custody, 2_800));
+
+    // a delta wider than 64 bits: (2^64 + 5_050_000) * 1_000 / 1e9
+    final var small = lockedPosition(SOL_PRICE, 0, 0, 0, 0, 0, 1_000, 0, BigInteger.ZERO);
+    assertEquals(18_446_744_073_714L, PerpetualsPricing.lockFeeUsd(small, custody, 2_800));
+    // (2^64 + 5_050_000) * 2_000e6 / 1e9 is past 2^63
+    final var large = lockedPosition(SOL_PRICE, 0, 0, 0, 0, 0, 2_000_000_000, 0, BigInteger.ZERO);
+    assertThrows(ArithmeticException.class, () -> PerpetualsPricing.lockFeeUsd(large, custody, 2_800));
+  }
+
+  @Test
+  void ratioFeeRate() {
+    final var fees = new RatioFees(1_000_000, 2_000_000, 4_000_000);
+    final var ratios = new TokenRatios(5_000, 4_000, 6_000);
+    assertEquals(2_000_000, PerpetualsPricing.ratioFeeRate(FeesMode.Fixed, fees, ratios, 5_900));
+    assertEquals(1_000_000, PerpetualsPricing.ratioFeeRate(FeesMode.Linear, fees, ratios, 3_000));
+    assertEquals(1_000_000, PerpetualsPricing.ratioFeeRate(FeesMode.Linear, fees, ratios, 4_000));
+    // 1e6 + 1e6 * 500 / 1000
+    assertEquals(1_500_000, PerpetualsPricing.ratioFeeRate(FeesMode.Linear, fees, ratios, 4_500));
+    assertEquals(2_000_000, PerpetualsPricing.ratioFeeRate(FeesMode.Linear, fees, ratios, 5_000));
+    // 2e6 + 2e6 * 250 / 1000
+    assertEquals(2_500_000, PerpetualsPricing.ratioFeeRate(FeesMode.Linear, fees, ratios, 5_250));
+    assertEquals(4_000_000, PerpetualsPricing.ratioFeeRate(FeesMode.Linear, fees, ratios, 7_000));
+    // decreasing fee curves are interpolated the same way
+    final var removeFees = new RatioFees(4_000_000, 2_000_000, 1_000_000);
+    assertEquals(3_000_000, PerpetualsPricing.ratioFeeRate(FeesMode.Linear, removeFees, ratios, 4_500));
+  }
+
+  @Test
+  void getAddLiquidityAmountAndFee() {
+    // $1M pool, 3,000 SOL owned = $450k = 4500 bps, lp price $1.25
+    final var pool = pool(1_000_000_000_000L, 1_250_000);
+    final long amountIn = 1_000_000_000_000L;
+
+    // adding 1,000 SOL = $150k: new ratio = 600k / 1.15M = 5217 bps
+    // rate = 2e6 + 2e6 * 217 / 1000 = 2_434_000, fee = 1000e9 * 2_434_000 / 1e9
+    var custody = solCustody(FeesMode.Linear);
+    assertEquals(5_217, newRatio(pool, custody, SOL_PRICE, amountIn, 0));
+    var result = addLiquidityAmountAndFee(pool, custody, SOL_PRICE, amountIn);
+    assertEquals(2_434_000_000L, result.fee());
+    // (1000e9 - 2.434e9) * 150e6 / 1e9 = 149_634_900_000 usd, lp = usd * 1e6 / 1.25e6
+    assertEquals(119_707_920_000L, result.amount());
+
+    // fixed mode charges the target fee whatever the ratio
+    custody = solCustody(FeesMode.Fixed);
+    result = addLiquidityAmountAndFee(pool, custody, SOL_PRICE, amountIn);
+    assertEquals(2_000_000_000L, result.fee());
+    // (1000e9 - 2e9) * 150e6 / 1e9 * 1e6 / 1.25e6
+    assertEquals(119_760_000_000L, result.amount());
+  }
+
+  @Test
+  void getRemoveLiquidityAmountAndFee() {
+    final var pool = pool(1_000_000_000_000L, 1_250_000);
+    final var custody = solCustody(FeesMode.Linear);
+    // 120,000 LP = $150,000 = 1,000 SOL, new ratio = 300k / 850k = 3529 bps, below min so minFee 1e6
+    final var result = removeLiquidityAmountAndFee(pool, custody, SOL_PRICE, 120_000_000_000L);
+    assertEquals(1_000_000_000L, result.fee());
+    assertEquals(999_000_000_000L, result.amount());
+  }
+
+  @Test
+  void getSwapAmountAndFees() {
+    final var pool = pool(1_000_000_000_000L, 1_250_000);
+    final var sol = solCustody(FeesMode.Fixed);
+    final var usdc = custody(
+        USDC_CUSTODY, 6, true,
+        pricing(0, 0, 0, 0, 0),
+        fees(FeesMode.Fixed, new RatioFees(500_000, 1_000_000, 3_000_000), 0, 0),
+        500_000_000_000L
+    );
+    // 10 SOL in, fee in = 10e9 * 2e6 / 1e9 = 0.02 SOL, $1,497 out at $1, fee out = 1_497e6 * 1e6 / 1e9
+    final var result = swapAmountAndFees(pool, sol, SOL_PRICE, usdc, new OraclePrice(1_000_000, -6), 10_000_000_000L);
+    assertEquals(20_000_000, result.feeIn());
+    assertEquals(1_497_000, result.feeOut());
+    assertEquals(1_497_000_000 - 1_497_000, result.amountOut());
+  }
+
+  @Test
+  void custodyIndex() {
+    final var pool = pool(0, 0);
+    assertEquals(1, PerpetualsPricing.custodyIndex(pool, SOL_CUSTODY));
+    assertEquals(-1, PerpetualsPricing.custodyIndex(pool, MARKET));
+    final var foreign = custody(MARKET, 9, false, pricing(0, 0, 0, 0, 0),
+        fees(FeesMode.Linear, new RatioFees(0, 0, 0), 0, 0), 0);
+    assertThrows(IllegalArgumentException.class, () -> addLiquidityAmountAndFee(pool, foreign, SOL_PRICE, 1));
+  }
+}
@@ -0,0 +1,143 @@
+package software.sava.anchor.programs.jito.tip_distribution;
+
+import org.junit.jupiter.api.Test;
+import software.sava.core.accounts.PublicKey;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static software.sava.anchor.programs.jito.tip_distribution.TipDistributionMerkleTree.*;
+
+final class TipDistributionMerkleTreeTests {
+
+  private static PublicKey key(final Random random) {
+    final byte[] key = new byte[PublicKey.PUBLIC_KEY_LENGTH];
+    random.nextBytes(key);
+    return PublicKey.createPubKey(key);
+  }
+
+  private static byte[] sha256(final byte[]... parts) throws NoSuchAlgorithmException {
+    final var digest = MessageDigest.getInstance("SHA-256");
+    for (final var part : parts) {
+      digest.update(part);
+    }
+    return digest.digest();
+  }
+
+  @Test
+  void hashes() throws NoSuchAlgorithmException {
+    final var random = new Random(1);
+    final var a = key(random);
+    final var b = key(random);
+
+    // 1_000 little endian
+    final byte[] amount = {(byte) 0xE8, 0x03, 0, 0, 0, 0, 0, 0};
+    final var innerA = sha256(a.toByteArray(), amount);
+    final var leafA = sha256(new byte[]{LEAF_PREFIX}, innerA);
+    assertArrayEquals(leafA, leafHash(a, 1_000));
+
+    final var single = builder(1).add(a, 1_000).build();
+    assertArrayEquals(leafA, single.root());
+    assertEquals(0, single.proof(0).length);
+
+    final var leafB = leafHash(b, 2_000);
+    final boolean aFirst = Arrays.compareUnsigned(leafA, leafB) <= 0;
+    final var expectedRoot = sha256(
+        new byte[]{INTERMEDIATE_PREFIX},
+        aFirst ? leafA : leafB,
+        aFirst ? leafB : leafA
+    );
+    final var pair = builder(2).add(a, 1_000).add(b, 2_000).build();
+    assertArrayEquals(expectedRoot, pair.root());
+    assertEquals(3_000, pair.totalClaim());
+    assertEquals(2, pair.numNodes());
+  }
+
+  @Test
+  void proofs() {
+    // odd levels and the parallel hashing threshold
+    for (final int n : new int[]{1, 2, 3, 5, 7, 100, 5_000}) {
+      final var random = new Random(n);
+      final var builder = builder(16);
+      final var keys = new PublicKey[n];
+      final var amounts = new long[n];
+      for (int i = 0; i < n; ++i) {
+        keys[i] = key(random);
+        amounts[i] = random.nextInt(1_000_000);
+        builder.add(keys[i], amounts[i]);
+      }
+      final var tree = builder.build();
+      final var root = tree.root();
+      for (int i = 0; i < n; i += Math.max(1, n / 64)) {
+        assertEquals(i, tree.leafIndex(keys[i]));
+        final var proof = tree.proof(keys[i]);
+        assertTrue(verify(proof, root, leafHash(keys[i], amounts[i])));
+        assertFalse(verify(proof, root, leafHash(keys[i], amounts[i] + 1)));
+      }
+      final var missing = key(random);
+      assertEquals(-1, tree.leafIndex(missing));
+      assertNull(tree.proof(missing));
+      // a single leaf tree has an empty proof, so the index must be checked rather than fail on a level lookup
+      assertThrows(IndexOutOfBoundsException.class, () -> tree.proof(-1));
+      assertThrows(IndexOutOfBoundsException.class, () -> tree.proof(n));
+    }
+  }
+
+  @Test
+  void duplicateClaimantsAreMerged() {
+    final var random = new Random(2);
+    final var a = key(random);
+    final var b = key(random);
+
+    final var merged = builder(1)
+        .add(a, 5)
+        .add(b, 7)
+        .add(a.toByteArray(), 0, 10)
+        .build();
+    final var expected = builder(2).add(a, 15).add(b, 7).build();
+
+    assertEquals(2, merged.numNodes());
+    assertEquals(22, merged.totalClaim());
+    assertEquals(15, merged.amount(merged.leafIndex(a)));
+    assertArrayEquals(expected.root(), merged.root());
+    assertTrue(verify(merged.proof(a), merged.root(), leafHash(a, 15)));
+  }
+
+  @Test
+  void duplicatesAcrossGrowth() {
+    final var random = new Random(3);
+    final var keys = new PublicKey[1_000];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = key(random);
+    }
+    // starts with capacity 1 so the index is rebuilt on every doubling
+    final var builder = builder(1);
+    for (int round = 0; round < 3; ++round) {
+      for (final var key : keys) {
+        builder.add(key, 1);
+      }
+    }
+    assertEquals(keys.length, builder.numLeaves());
+    final var tree = builder.build();
+    assertEquals(3L * keys.length, tree.totalClaim());
+    for (int i = 0; i < keys.length; ++i) {
+      assertEquals(i, tree.leafIndex(keys[i]));
+      assertEquals(3, tree.amount(i));
+    }
+  }
+
+  @Test
+  void mergeOverflow() {
+    final var a = key(new Random(4));
+    final var builder = builder(2).add(a, Long.MAX_VALUE);
+    assertThrows(ArithmeticException.class, () -> builder.add(a, 1));
+  }
+
+  @Test
+  void emptyTree() {
+    assertThrows(IllegalStateException.class, () -> builder(0).build());
+  }
+}
@@ -0,0 +1,106 @@
+package software.sava.anchor.programs.metadao.amm;
+
+import org.junit.jupiter.api.Test;
+import software.sava.anchor.programs.metadao.amm.anchor.types.Amm;
+import software.sava.anchor.programs.metadao.amm.anchor.types.TwapOracle;
+import software.sava.core.accounts.PublicKey;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static software.sava.anchor.programs.metadao.amm.AmmQuoteEngine.PRICE_SCALE;
+import static software.sava.core.encoding.ByteUtil.putInt64LE;
+
+final class TwapTrackerTests {
+
+  private static final PublicKey AMM = PublicKey.fromBase58Encoded("AMMyu265tkBpRW21iGQxKGLaves3gKm2JcMUqfXNSpqD");
+
+  private static final long CREATED_AT_SLOT = 100;
+  private static final long START_DELAY_SLOTS = 50;
+  private static final long START_SLOT = CREATED_AT_SLOT + START_DELAY_SLOTS;
+
+  // 2_000 quote per 1_000 base, a price of 2.
+  private static final long BASE_RESERVES = 1_000;
+  private static final long QUOTE_RESERVES = 2_000;
+  private static final BigInteger PRICE = BigInteger.valueOf(2 * PRICE_SCALE);
+
+  // A freshly created AMM, last updated at creation with the price as its initial observation.
+  private static TwapTracker createTracker() {
+    final var oracle = new TwapOracle(
+        CREATED_AT_SLOT,
+        BigInteger.ZERO,
+        PRICE,
+        BigInteger.ZERO,
+        BigInteger.valueOf(PRICE_SCALE),
+        PRICE,
+        START_DELAY_SLOTS
+    );
+    final var amm = new Amm(
+        AMM, null, 255, CREATED_AT_SLOT,
+        null, null, null, 9, 6,
+        BASE_RESERVES, QUOTE_RESERVES,
+        oracle, 1,
+        null, null
+    );
+    return TwapTracker.createTracker(amm);
+  }
+
+  @Test
+  void noCrankBeforeStartSlot() {
+    final var tracker = createTracker();
+    assertEquals(START_SLOT, tracker.startSlot());
+    assertFalse(tracker.crank(START_SLOT - 1));
+    assertEquals(CREATED_AT_SLOT, tracker.lastUpdatedSlot());
+    assertEquals(BigInteger.ZERO, tracker.aggregator());
+    assertThrows(ArithmeticException.class, () -> tracker.twap(START_SLOT - 1));
+
+    // updates at the start slot, but no slots are weighted yet
+    assertTrue(tracker.crank(START_SLOT));
+    assertEquals(START_SLOT, tracker.lastUpdatedSlot());
+    assertEquals(PRICE, tracker.lastPrice());
+    assertEquals(BigInteger.ZERO, tracker.aggregator());
+    assertThrows(ArithmeticException.class, tracker::twap);
+  }
+
+  // Only the 10 slots after the start slot are weighted, not the 60 since the last update.
+  @Test
+  void crankSpanningStartSlot() {
+    final var tracker = createTracker();
+    final long slot = START_SLOT + 10;
+    assertEquals(2 * PRICE_SCALE, tracker.twap(slot));
+    assertEquals(CREATED_AT_SLOT, tracker.lastUpdatedSlot());
+
+    assertTrue(tracker.crank(slot));
+    assertEquals(PRICE.multiply(BigInteger.TEN), tracker.aggregator());
+    assertEquals(2 * PRICE_SCALE, tracker.twap());
+
+    assertTrue(tracker.crank(slot + 10));
+    assertEquals(PRICE.multiply(BigInteger.valueOf(20)), tracker.aggregator());
+    assertEquals(2 * PRICE_SCALE, tracker.twap());
+  }
+
+  // The observation may only move by maxObservationChangePerUpdate, 1 per crank, towards a price of 4.
+  @Test
+  void observationIsClamped() {
+    final var tracker = createTracker();
+    // a swap cranked at 10 slots past the start, doubling the quote reserves
+    final var common = new byte[152];
+    putInt64LE(common, 0, START_SLOT + 10);
+    putInt64LE(common, 80, BASE_RESERVES);
+    putInt64LE(common, 88, 2 * QUOTE_RESERVES);
+    putInt64LE(common, 96, PRICE.longValue());
+    putInt64LE(common, 112, PRICE.longValue());
+    putInt64LE(common, 128, 10 * PRICE.longValue());
+    putInt64LE(common, 144, 2);
+    assertTrue(tracker.accept(common, 0));
+    assertEquals(2 * QUOTE_RESERVES, tracker.quoteReserves());
+    assertEquals(START_SLOT + 10, tracker.lastUpdatedSlot());
+
+    assertTrue(tracker.crank(START_SLOT + 20));
+    assertEquals(BigInteger.valueOf(4 * PRICE_SCALE), tracker.lastPrice());
+    assertEquals(BigInteger.valueOf(3 * PRICE_SCALE), tracker.lastObservation());
+    // 10 slots observed at 2 then 10 at 3
+    assertEquals(BigInteger.valueOf(50 * PRICE_SCALE), tracker.aggregator());
+    assertEquals(5 * PRICE_SCALE / 2, tracker.twap());
+  }
+}
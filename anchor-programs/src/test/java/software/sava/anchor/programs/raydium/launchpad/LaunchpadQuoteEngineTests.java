@@ -0,0 +1,164 @@
+package software.sava.anchor.programs.raydium.launchpad;
+
+import org.junit.jupiter.api.Test;
+import software.sava.anchor.programs.raydium.launchpad.LaunchpadQuoteEngine.Pool;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static software.sava.anchor.programs.raydium.launchpad.LaunchpadQuoteEngine.*;
+
+final class LaunchpadQuoteEngineTests {
+
+  private static final long TOTAL_BASE_SELL = 793_100_000_000_000L;
+
+  // 0.25% protocol and 0.1% platform fee.
+  private static Pool pool(final int curveType,
+                           final long totalBaseSell,
+                           final long virtualBase,
+                           final long virtualQuote,
+                           final long realBase,
+                           final long realQuote) {
+    return new Pool(0, curveType, totalBaseSell, virtualBase, virtualQuote, realBase, realQuote, 2_500, 1_000, 0);
+  }
+
+  private static Pool withoutFees(final Pool pool) {
+    return new Pool(
+        pool.status(), pool.curveType(),
+        pool.totalBaseSell(), pool.virtualBase(), pool.virtualQuote(), pool.realBase(), pool.realQuote(),
+        0, 0, 0
+    );
+  }
+
+  // A linear curve with realQuote as its integral up to realBase.
+  private static Pool linearPool(final long virtualBase, final long realBase) {
+    final var x = BigInteger.valueOf(realBase);
+    final long realQuote = x.multiply(x).multiply(BigInteger.valueOf(virtualBase)).shiftRight(65).longValueExact();
+    return pool(CURVE_LINEAR_PRICE, TOTAL_BASE_SELL, virtualBase, 0, realBase, realQuote);
+  }
+
+  @Test
+  void constantProduct() {
+    final var pool = pool(CURVE_CONSTANT_PRODUCT, 800_000, 1_000_000, 1_000, 0, 0);
+
+    // fees: ceil(100 * 2_500 / 1e6) = 1 and ceil(100 * 1_000 / 1e6) = 1
+    // out: 98 * 1_000_000 / (1_000 + 98) = 89_253.18
+    final var buy = buyExactIn(pool, 100, 0);
+    assertEquals(100, buy.amountIn());
+    assertEquals(89_253, buy.amountOut());
+    assertEquals(1, buy.protocolFee());
+    assertEquals(1, buy.platformFee());
+    assertEquals(2, buy.totalFee());
+    assertEquals(0, buy.flags());
+
+    // in: ceil(89_253 * 1_000 / (1_000_000 - 89_253)) = 98, plus fees
+    final var buyBack = buyExactOut(pool, buy.amountOut(), 0);
+    assertEquals(100, buyBack.amountIn());
+
+    // 2% share fee: ceil(100 * 20_000 / 1e6) = 2, 96 * 1_000_000 / 1_096 = 87_591.24
+    assertEquals(87_591, buyExactIn(pool, 100, 20_000).amountOut());
+
+    final var sold = pool(CURVE_CONSTANT_PRODUCT, 800_000, 1_000_000, 1_000, 100_000, 111);
+    // 10_000 * 1_111 / (900_000 + 10_000) = 12.2, less fees of 1 and 1
+    final var sell = sellExactIn(sold, 10_000, 0);
+    assertEquals(10, sell.amountOut());
+    assertTrue(sell.isFillable());
+  }
+
+  @Test
+  void fixedPrice() {
+    final var pool = withoutFees(pool(CURVE_FIXED_PRICE, 1_000_000, 1_000, 10, 0, 0));
+    assertEquals(10_000, buyExactIn(pool, 100, 0).amountOut());
+    assertEquals(100, buyExactOut(pool, 10_000, 0).amountIn());
+    // ceil(10_001 * 10 / 1_000)
+    assertEquals(101, buyExactOut(pool, 10_001, 0).amountIn());
+  }
+
+  @Test
+  void linearPrice() {
+    // a = 2^62 / 2^64, buying 1_000 from zero costs a * 1_000^2 / 2 = 125_000
+    final var pool = withoutFees(linearPool(1L << 62, 0));
+    assertEquals(1_000, buyExactIn(pool, 125_000, 0).amountOut());
+    assertEquals(125_000, buyExactOut(pool, 1_000, 0).amountIn());
+    assertEquals(999, buyExactIn(pool, 124_999, 0).amountOut());
+
+    final var sold = withoutFees(linearPool(1L << 62, 1_000));
+    assertEquals(125_000, sold.realQuote());
+    assertEquals(125_000, sellExactIn(sold, 1_000, 0).amountOut());
+    assertEquals(1_000, sellExactOut(sold, 125_000, 0).amountIn());
+  }
+
+  // Quoting the output of an exact in trade as exact out never needs more than the original input.
+  @Test
+  void roundTrips() {
+    final var random = new Random(7);
+    final var pools = new Pool[]{
+        new Pool(0, CURVE_CONSTANT_PRODUCT, TOTAL_BASE_SELL, 1_073_025_605_596_382L, 30_000_852_951L,
+            200_000_000_000_000L, 9_000_000_000L, 2_500, 1_000, 500),
+        new Pool(0, CURVE_FIXED_PRICE, TOTAL_BASE_SELL, 793_100_000_000_000L, 85_000_000_000L,
+            100_000_000_000_000L, 10_717_000_000L, 2_500, 1_000, 0),
+        linearPool(4_000, 300_000_000_000_000L)
+    };
+    for (final var pool : pools) {
+      for (int i = 0; i < 2_000; ++i) {
+        final long quoteIn = 1 + (long) (random.nextDouble() * 5_000_000_000L);
+        final var buy = buyExactIn(pool, quoteIn, 100);
+        assertFalse(buy.isCapped());
+        assertTrue(buyExactOut(pool, buy.amountOut(), 100).amountIn() <= quoteIn);
+
+        final long baseIn = 1 + (long) (random.nextDouble() * 1_000_000_000_000L);
+        final var sell = sellExactIn(pool, baseIn, 100);
+        assertTrue(sell.isFillable());
+        final var sellBack = sellExactOut(pool, sell.amountOut(), 100);
+        assertTrue(sellBack.isFillable());
+        assertTrue(sellBack.amountIn() <= baseIn);
+      }
+    }
+  }
+
+  @Test
+  void cappedBuy() {
+    final var pool = pool(CURVE_CONSTANT_PRODUCT, 800_000, 1_000_000, 1_000, 0, 0);
+    for (final long quoteIn : new long[]{1_000_000, Long.MAX_VALUE / 4}) {
+      final var buy = buyExactIn(pool, quoteIn, 0);
+      assertTrue(buy.isCapped());
+      assertTrue(buy.isFillable());
+      assertEquals(pool.remainingBase(), buy.amountOut());
+      assertTrue(buy.amountIn() < quoteIn);
+      assertEquals(buyExactOut(pool, pool.remainingBase(), 0).amountIn(), buy.amountIn());
+    }
+    assertTrue(buyExactOut(pool, 900_000, 0).isCapped());
+  }
+
+  @Test
+  void unfillable() {
+    final var closed = new Pool(1, CURVE_CONSTANT_PRODUCT, 800_000, 1_000_000, 1_000, 0, 0, 0, 0, 0);
+    final var closedBuy = buyExactIn(closed, 100, 0);
+    assertFalse(closedBuy.isFillable());
+    assertEquals(POOL_CLOSED, closedBuy.flags());
+
+    final var pool = pool(CURVE_CONSTANT_PRODUCT, 800_000, 1_000_000, 1_000, 100, 0);
+    assertEquals(INSUFFICIENT_LIQUIDITY, sellExactIn(pool, 101, 0).flags());
+    // fees consume the whole input
+    assertEquals(INSUFFICIENT_LIQUIDITY, buyExactIn(pool, 1, 0).flags());
+    assertEquals(INSUFFICIENT_LIQUIDITY, sellExactOut(pool, 1, 0).flags());
+
+    final var soldOut = pool(CURVE_CONSTANT_PRODUCT, 800_000, 1_000_000, 1_000, 800_000, 4_000);
+    assertEquals(INSUFFICIENT_LIQUIDITY, buyExactIn(soldOut, 100, 0).flags());
+  }
+
+  @Test
+  void feesAndSlippage() {
+    assertEquals(0, fee(1_000, 0));
+    assertEquals(1, fee(1, 1));
+    assertEquals(2_500, fee(1_000_000, 2_500));
+    assertEquals(2_501, fee(1_000_001, 2_500));
+
+    final var quote = new Quote(1_001, 10_001, 0, 0, 0, 0, 0);
+    // 10_001 * 9_950 / 10_000 = 9_950.99
+    assertEquals(9_950, quote.minimumAmountOut(50));
+    // 1_001 * 10_050 / 10_000 = 1_006.005
+    assertEquals(1_007, quote.maximumAmountIn(50));
+  }
+}